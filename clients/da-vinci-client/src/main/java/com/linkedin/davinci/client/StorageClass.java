@@ -2,4 +2,9 @@ package com.linkedin.davinci.client;
 
 public enum StorageClass {
   DISK, MEMORY_BACKED_BY_DISK,
+  /**
+   * Serialized values are stored on disk and the hot ones are cached in an off-heap cache, whose memory budget is
+   * specified via {@code rocksdb.off.heap.value.cache.size.in.bytes}.
+   */
+  OFF_HEAP_CACHE_BACKED_BY_DISK,
 }
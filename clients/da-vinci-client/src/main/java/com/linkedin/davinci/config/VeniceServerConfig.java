@@ -64,6 +64,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_INITIAL_WINDOW_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_CONCURRENT_STREAMS;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_FRAME_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_HEADER_LIST_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_INDEX_BASED_COLLECTION_MERGE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_APPLICATION_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SERVICE_PORT;
@@ -74,6 +75,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MAX_POLL_RECORDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_POLL_RETRY_BACKOFF_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_POLL_RETRY_TIMES;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_PRODUCER_POOL_SIZE_PER_KAFKA_CLUSTER;
+import static com.linkedin.venice.ConfigKeys.SERVER_LEADER_UPDATE_COALESCING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEAN_UP_INTERVAL_IN_MINUTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_LOCAL_CONSUMER_CONFIG_PREFIX;
@@ -88,12 +90,15 @@ import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_FOR_BACKUP
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_SERVICE_SCHEDULE_INTERNAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_PARTITION_GRACEFUL_DROP_DELAY_IN_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_PREBUILT_PARTITION_FILE_INGESTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_EPOLL_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_STORAGE_THREAD_NUM;
+import static com.linkedin.venice.ConfigKeys.SERVER_RESPONSE_COMPRESSION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_RESPONSE_COMPRESSION_MIN_SIZE_BYTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROCKSDB_STORAGE_CONFIG_CHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROUTER_CONNECTION_WARMING_DELAY_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SCHEMA_FAST_CLASS_WARMUP_TIMEOUT;
@@ -109,11 +114,17 @@ import static com.linkedin.venice.ConfigKeys.SERVER_STOP_CONSUMPTION_TIMEOUT_IN_
 import static com.linkedin.venice.ConfigKeys.SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
+import static com.linkedin.venice.ConfigKeys.SERVER_WRITE_PATH_TRACE_SAMPLING_INTERVAL;
+import static com.linkedin.venice.ConfigKeys.SERVER_WRITE_PATH_TRACE_SLOWEST_RECORD_COUNT;
+import static com.linkedin.venice.ConfigKeys.SERVER_WRITE_PATH_TRACE_SLOWEST_RECORD_WINDOW_MS;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_NOTIFY_DELTA;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_DRAINER_ASSIGNMENT_STRATEGY;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_DRAINER_LOAD_IMBALANCE_RATIO;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_DRAINER_MIGRATION_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_NUMBER;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_INITIALIZATION_AT_START_TIME_ENABLED;
@@ -123,6 +134,7 @@ import static com.linkedin.venice.ConfigKeys.UNSORTED_INPUT_DRAINER_SIZE;
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModelFactory;
 import com.linkedin.davinci.kafka.consumer.KafkaConsumerService;
 import com.linkedin.davinci.kafka.consumer.RemoteIngestionRepairService;
+import com.linkedin.davinci.kafka.consumer.StoreBufferService;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.davinci.validation.KafkaDataIntegrityValidator;
 import com.linkedin.venice.exceptions.ConfigurationException;
@@ -239,6 +251,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final long storeWriterBufferNotifyDelta;
 
+  private final StoreBufferService.DrainerAssignmentStrategy storeWriterDrainerAssignmentStrategy;
+  private final long storeWriterDrainerMigrationIntervalMs;
+  private final double storeWriterDrainerLoadImbalanceRatio;
+
+  private final int writePathTraceSamplingInterval;
+  private final int writePathTraceSlowestRecordCount;
+  private final long writePathTraceSlowestRecordWindowMs;
+
+  private final boolean leaderUpdateCoalescingEnabled;
+
+  private final boolean indexBasedCollectionMergeEnabled;
+
   /**
    * The number of threads being used to serve get requests.
    */
@@ -333,6 +357,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int parallelBatchGetChunkSize;
 
+  private final boolean responseCompressionEnabled;
+
+  private final int responseCompressionMinSizeBytes;
+
+  private final boolean prebuiltPartitionFileIngestionEnabled;
+
   private final boolean keyValueProfilingEnabled;
 
   private final boolean enableDatabaseMemoryStats;
@@ -480,6 +510,26 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
     storeWriterBufferNotifyDelta = serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_NOTIFY_DELTA, 1 * 1024 * 1024);
+    String storeWriterDrainerAssignmentStrategyStr = serverProperties.getString(
+        STORE_WRITER_DRAINER_ASSIGNMENT_STRATEGY,
+        StoreBufferService.DrainerAssignmentStrategy.TOPIC_PARTITION_HASH_ASSIGNMENT_STRATEGY.name());
+    try {
+      storeWriterDrainerAssignmentStrategy =
+          StoreBufferService.DrainerAssignmentStrategy.valueOf(storeWriterDrainerAssignmentStrategyStr);
+    } catch (IllegalArgumentException e) {
+      throw new VeniceException(
+          "Invalid drainer assignment strategy: " + storeWriterDrainerAssignmentStrategyStr + ", valid options: "
+              + Arrays.toString(StoreBufferService.DrainerAssignmentStrategy.values()));
+    }
+    storeWriterDrainerMigrationIntervalMs =
+        serverProperties.getLong(STORE_WRITER_DRAINER_MIGRATION_INTERVAL_MS, TimeUnit.SECONDS.toMillis(10));
+    storeWriterDrainerLoadImbalanceRatio = serverProperties.getDouble(STORE_WRITER_DRAINER_LOAD_IMBALANCE_RATIO, 2.0);
+    writePathTraceSamplingInterval = serverProperties.getInt(SERVER_WRITE_PATH_TRACE_SAMPLING_INTERVAL, 0);
+    writePathTraceSlowestRecordCount = serverProperties.getInt(SERVER_WRITE_PATH_TRACE_SLOWEST_RECORD_COUNT, 100);
+    writePathTraceSlowestRecordWindowMs =
+        serverProperties.getLong(SERVER_WRITE_PATH_TRACE_SLOWEST_RECORD_WINDOW_MS, TimeUnit.MINUTES.toMillis(1));
+    leaderUpdateCoalescingEnabled = serverProperties.getBoolean(SERVER_LEADER_UPDATE_COALESCING_ENABLED, false);
+    indexBasedCollectionMergeEnabled = serverProperties.getBoolean(SERVER_INDEX_BASED_COLLECTION_MERGE_ENABLED, false);
     restServiceStorageThreadNum = serverProperties.getInt(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, 16);
     serverComputeThreadNum = serverProperties.getInt(SERVER_COMPUTE_THREAD_NUM, 16);
     nettyIdleTimeInSeconds = serverProperties.getInt(SERVER_NETTY_IDLE_TIME_SECONDS, (int) TimeUnit.HOURS.toSeconds(3));
@@ -529,6 +579,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    responseCompressionEnabled = serverProperties.getBoolean(SERVER_RESPONSE_COMPRESSION_ENABLED, false);
+    responseCompressionMinSizeBytes = serverProperties.getInt(SERVER_RESPONSE_COMPRESSION_MIN_SIZE_BYTES, 4 * 1024);
+    prebuiltPartitionFileIngestionEnabled =
+        serverProperties.getBoolean(SERVER_PREBUILT_PARTITION_FILE_INGESTION_ENABLED, false);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -857,6 +911,38 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferNotifyDelta;
   }
 
+  public StoreBufferService.DrainerAssignmentStrategy getStoreWriterDrainerAssignmentStrategy() {
+    return this.storeWriterDrainerAssignmentStrategy;
+  }
+
+  public long getStoreWriterDrainerMigrationIntervalMs() {
+    return this.storeWriterDrainerMigrationIntervalMs;
+  }
+
+  public double getStoreWriterDrainerLoadImbalanceRatio() {
+    return this.storeWriterDrainerLoadImbalanceRatio;
+  }
+
+  public int getWritePathTraceSamplingInterval() {
+    return this.writePathTraceSamplingInterval;
+  }
+
+  public int getWritePathTraceSlowestRecordCount() {
+    return this.writePathTraceSlowestRecordCount;
+  }
+
+  public long getWritePathTraceSlowestRecordWindowMs() {
+    return this.writePathTraceSlowestRecordWindowMs;
+  }
+
+  public boolean isLeaderUpdateCoalescingEnabled() {
+    return this.leaderUpdateCoalescingEnabled;
+  }
+
+  public boolean isIndexBasedCollectionMergeEnabled() {
+    return this.indexBasedCollectionMergeEnabled;
+  }
+
   public int getRestServiceStorageThreadNum() {
     return restServiceStorageThreadNum;
   }
@@ -981,6 +1067,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isResponseCompressionEnabled() {
+    return responseCompressionEnabled;
+  }
+
+  public int getResponseCompressionMinSizeBytes() {
+    return responseCompressionMinSizeBytes;
+  }
+
+  public boolean isPrebuiltPartitionFileIngestionEnabled() {
+    return prebuiltPartitionFileIngestionEnabled;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
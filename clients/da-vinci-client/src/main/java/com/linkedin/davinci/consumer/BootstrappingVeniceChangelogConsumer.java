@@ -0,0 +1,56 @@
+package com.linkedin.davinci.consumer;
+
+import com.linkedin.venice.annotation.Experimental;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Venice change capture consumer which provides the full current state of a store, followed by its changes.
+ *
+ * The consumer keeps a local copy of the partitions it follows, along with the position it has applied to each of
+ * them. After a restart, it only consumes the events it missed, instead of the whole version topic, and then serves
+ * the full state from the local copy.
+ *
+ * @param <K> The Type for key
+ * @param <V> The Type for value
+ */
+@Experimental
+public interface BootstrappingVeniceChangelogConsumer<K, V> {
+  /**
+   * Start the consumer on a set of partitions. The local copy of each partition is brought up to date with the events
+   * which happened since its last checkpoint, or built from the beginning of the current version when there is no
+   * local copy yet.
+   *
+   * @param partitions the set of partitions to consume
+   * @return a future which completes when the local copies of all the partitions are up to date, after which
+   *         {@link #poll(long)} returns the full state of the partitions followed by their changes
+   * @throws VeniceException if the consumer is already started
+   */
+  CompletableFuture<Void> start(Set<Integer> partitions);
+
+  /**
+   * Start the consumer on all the partitions of the store. See {@link #start(Set)} for more information.
+   */
+  CompletableFuture<Void> start();
+
+  /**
+   * Checkpoint the position of all the partitions, and release the internal resources. The local copies are kept, so
+   * that the next start only has to catch up with the events which happen until then.
+   */
+  void stop() throws Exception;
+
+  /**
+   * Polling function to get the current state of the started partitions, as one event per key without previous value,
+   * and then the changes which happen to them.
+   *
+   * @param timeoutInMs The maximum time to block/wait in between two polling requests (must not be greater than
+   *        {@link Long#MAX_VALUE} milliseconds)
+   * @return a collection of messages since the last fetch for the started partitions
+   * @throws VeniceException if polling operation fails
+   */
+  Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> poll(long timeoutInMs);
+}
@@ -17,6 +17,11 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
 
   private String controllerD2ServiceName;
   private int controllerRequestRetryCount;
+  private int parallelProcessingThreadCount = 0;
+  private int parallelProcessingQueueCapacity = 10000;
+  private String bootstrapFileSystemPath;
+  private long databaseSyncBytesInterval = 32 * 1024 * 1024L;
+  private long bootstrapCatchUpTimeoutInMs = 30 * 60 * 1000L;
 
   public ChangelogClientConfig(String storeName) {
     this.innerClientConfig = new ClientConfig<>(storeName);
@@ -116,6 +121,74 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
     return this.controllerRequestRetryCount;
   }
 
+  /**
+   * When set to a positive number, the records are fetched by a dedicated thread, and they are decompressed,
+   * reassembled and deserialized by this many worker threads. The records of a partition are always processed by the
+   * same worker, so their order is preserved. When set to 0 (the default), the records are processed by the thread
+   * calling {@link VeniceChangelogConsumer#poll}.
+   */
+  public ChangelogClientConfig<T> setParallelProcessingThreadCount(int parallelProcessingThreadCount) {
+    this.parallelProcessingThreadCount = parallelProcessingThreadCount;
+    return this;
+  }
+
+  public int getParallelProcessingThreadCount() {
+    return this.parallelProcessingThreadCount;
+  }
+
+  /**
+   * The max number of processed records waiting to be returned by {@link VeniceChangelogConsumer#poll}, when the
+   * parallel processing is enabled. The fetching stops when this queue is full.
+   */
+  public ChangelogClientConfig<T> setParallelProcessingQueueCapacity(int parallelProcessingQueueCapacity) {
+    this.parallelProcessingQueueCapacity = parallelProcessingQueueCapacity;
+    return this;
+  }
+
+  public int getParallelProcessingQueueCapacity() {
+    return this.parallelProcessingQueueCapacity;
+  }
+
+  /**
+   * The local directory where a {@link BootstrappingVeniceChangelogConsumer} keeps the copy of the partitions it
+   * consumes.
+   */
+  public ChangelogClientConfig<T> setBootstrapFileSystemPath(String bootstrapFileSystemPath) {
+    this.bootstrapFileSystemPath = bootstrapFileSystemPath;
+    return this;
+  }
+
+  public String getBootstrapFileSystemPath() {
+    return this.bootstrapFileSystemPath;
+  }
+
+  /**
+   * The number of bytes a {@link BootstrappingVeniceChangelogConsumer} applies to the local copy of a partition before
+   * it syncs the partition and checkpoints its position. A larger interval means fewer syncs, but more events to
+   * replay after a restart.
+   */
+  public ChangelogClientConfig<T> setDatabaseSyncBytesInterval(long databaseSyncBytesInterval) {
+    this.databaseSyncBytesInterval = databaseSyncBytesInterval;
+    return this;
+  }
+
+  public long getDatabaseSyncBytesInterval() {
+    return this.databaseSyncBytesInterval;
+  }
+
+  /**
+   * The max time a {@link BootstrappingVeniceChangelogConsumer} spends bringing the local copies up to the end of the
+   * topics when it starts, after which the start fails instead of waiting for a partition which doesn't make progress.
+   */
+  public ChangelogClientConfig<T> setBootstrapCatchUpTimeoutInMs(long bootstrapCatchUpTimeoutInMs) {
+    this.bootstrapCatchUpTimeoutInMs = bootstrapCatchUpTimeoutInMs;
+    return this;
+  }
+
+  public long getBootstrapCatchUpTimeoutInMs() {
+    return this.bootstrapCatchUpTimeoutInMs;
+  }
+
   public ClientConfig<T> getInnerClientConfig() {
     return this.innerClientConfig;
   }
@@ -130,7 +203,12 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
         .setD2ControllerClient(config.getD2ControllerClient())
         .setControllerD2ServiceName(config.controllerD2ServiceName)
         .setD2Client(config.getD2Client())
-        .setControllerRequestRetryCount(config.getControllerRequestRetryCount());
+        .setControllerRequestRetryCount(config.getControllerRequestRetryCount())
+        .setParallelProcessingThreadCount(config.getParallelProcessingThreadCount())
+        .setParallelProcessingQueueCapacity(config.getParallelProcessingQueueCapacity())
+        .setBootstrapFileSystemPath(config.getBootstrapFileSystemPath())
+        .setDatabaseSyncBytesInterval(config.getDatabaseSyncBytesInterval())
+        .setBootstrapCatchUpTimeoutInMs(config.getBootstrapCatchUpTimeoutInMs());
     return newConfig;
   }
 }
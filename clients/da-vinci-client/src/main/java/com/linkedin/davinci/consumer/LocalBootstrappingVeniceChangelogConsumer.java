@@ -0,0 +1,588 @@
+package com.linkedin.davinci.consumer;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.ControlMessage;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.VersionSwap;
+import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.adapter.kafka.ApacheKafkaOffsetPosition;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.views.ChangeCaptureView;
+import io.tehuti.metrics.MetricsRepository;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * {@link BootstrappingVeniceChangelogConsumer} which keeps the local copy of the partitions in a RocksDB storage engine
+ * under {@link ChangelogClientConfig#getBootstrapFileSystemPath()}.
+ *
+ * The values are stored decompressed, along with their writer schema id, so that the full state of a partition can be
+ * returned without going through the topics again. The next position to consume from is stored in the offset record of
+ * each local partition, every {@link ChangelogClientConfig#getDatabaseSyncBytesInterval()} bytes consumed from it and
+ * when the consumer stops, right after the partition has been synced.
+ *
+ * A partition moves from the version topic to the change capture topic of the same version on the End of Push, and
+ * its position in the change capture topic is checkpointed right away. On a Version Swap to another version, the local
+ * copy of the partition is dropped and rebuilt from the version topic of the new serving version, since the new version
+ * may come from a full push which doesn't carry over the records of the previous one. The records of the new version
+ * are returned by {@link #poll} as they get applied, while the records which only existed in the previous version are
+ * dropped from the local copy without any event.
+ */
+public class LocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfterImageConsumerImpl<K, V>
+    implements BootstrappingVeniceChangelogConsumer<K, V> {
+  private static final Logger LOGGER = LogManager.getLogger(LocalBootstrappingVeniceChangelogConsumer.class);
+  static final String CHANGE_CAPTURE_COORDINATE = "ChangeCaptureCoordinatePosition";
+  private static final String LOCAL_STATE_STORE_SUFFIX = "_Bootstrap";
+  private static final long CATCH_UP_POLL_TIMEOUT_MS = 1000;
+  private static final int SCANNED_MESSAGE_QUEUE_CAPACITY = 1000;
+
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+  private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer =
+      AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+  private final Map<Integer, BootstrapState> bootstrapStates = new VeniceConcurrentHashMap<>();
+  private final BlockingQueue<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> scannedMessages =
+      new ArrayBlockingQueue<>(SCANNED_MESSAGE_QUEUE_CAPACITY);
+  private final AtomicReference<Throwable> scanError = new AtomicReference<>();
+  private final long databaseSyncBytesInterval;
+  private final long catchUpTimeoutInMs;
+  private final VeniceConfigLoader configLoader;
+  private final VeniceStoreVersionConfig localStoreConfig;
+
+  private StorageService storageService;
+  private volatile AbstractStorageEngine storageEngine;
+  private volatile CompletableFuture<Void> startFuture;
+  private volatile boolean isScanCompleted = false;
+  private volatile Thread scanThread;
+
+  public LocalBootstrappingVeniceChangelogConsumer(
+      ChangelogClientConfig changelogClientConfig,
+      PubSubConsumerAdapter pubSubConsumer) {
+    super(changelogClientConfig, pubSubConsumer);
+    if (changelogClientConfig.getBootstrapFileSystemPath() == null) {
+      throw new VeniceException("Bootstrap file system path is not set for the changelog consumer of: " + storeName);
+    }
+    this.databaseSyncBytesInterval = changelogClientConfig.getDatabaseSyncBytesInterval();
+    this.catchUpTimeoutInMs = changelogClientConfig.getBootstrapCatchUpTimeoutInMs();
+    this.configLoader = buildVeniceConfig(changelogClientConfig);
+    this.localStoreConfig = configLoader.getStoreConfig(
+        Version.composeKafkaTopic(storeName + LOCAL_STATE_STORE_SUFFIX, 1),
+        PersistenceType.ROCKS_DB);
+  }
+
+  private static VeniceConfigLoader buildVeniceConfig(ChangelogClientConfig changelogClientConfig) {
+    Properties consumerProperties = changelogClientConfig.getConsumerProperties();
+    PropertyBuilder builder = new PropertyBuilder().put(consumerProperties)
+        .put(DATA_BASE_PATH, changelogClientConfig.getBootstrapFileSystemPath())
+        .put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString())
+        // Block based tables, as the local partitions are scanned from the beginning to return their full state
+        .put(ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED, false)
+        .put(INGESTION_USE_DA_VINCI_CLIENT, true)
+        // Required by the config loader, even though nothing connects to them
+        .putIfAbsent(CLUSTER_NAME, changelogClientConfig.getStoreName())
+        .putIfAbsent(ZOOKEEPER_ADDRESS, String.valueOf(changelogClientConfig.getLocalD2ZkHosts()));
+    String bootstrapServers = consumerProperties.getProperty(CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG);
+    if (bootstrapServers != null) {
+      builder.putIfAbsent(KAFKA_BOOTSTRAP_SERVERS, bootstrapServers);
+    }
+    VeniceProperties properties = builder.build();
+    return new VeniceConfigLoader(properties, properties);
+  }
+
+  /**
+   * The local copy is written by the thread which polls the records, so they are not processed in parallel.
+   */
+  @Override
+  protected boolean isParallelProcessingEnabled() {
+    return false;
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> start(Set<Integer> partitions) {
+    if (startFuture != null) {
+      throw new VeniceException("Bootstrapping changelog consumer of store: " + storeName + " is already started");
+    }
+    startFuture = CompletableFuture.supplyAsync(() -> {
+      openLocalPartitions(partitions);
+      Set<Integer> partitionsToSubscribe = new HashSet<>();
+      Set<VeniceChangeCoordinate> checkpoints = new HashSet<>();
+      for (int partition: partitions) {
+        VeniceChangeCoordinate checkpoint = readCheckpoint(partition);
+        if (checkpoint == null) {
+          partitionsToSubscribe.add(partition);
+        } else {
+          checkpoints.add(checkpoint);
+        }
+      }
+      if (!partitionsToSubscribe.isEmpty()) {
+        subscribe(partitionsToSubscribe).join();
+      }
+      if (!checkpoints.isEmpty()) {
+        seekToCheckpoint(checkpoints).join();
+      }
+      catchUp(partitions);
+      scanThread = new DaemonThreadFactory("BootstrappingChangelogConsumerScanner-" + storeName)
+          .newThread(() -> scanLocalPartitions(partitions));
+      scanThread.start();
+      return null;
+    });
+    return startFuture;
+  }
+
+  @Override
+  public CompletableFuture<Void> start() {
+    Set<Integer> allPartitions = new HashSet<>();
+    for (int partition = 0; partition < partitionGenerations.length(); partition++) {
+      allPartitions.add(partition);
+    }
+    return start(allPartitions);
+  }
+
+  @Override
+  public synchronized void stop() throws Exception {
+    if (scanThread != null) {
+      scanThread.interrupt();
+      scanThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    if (storageEngine != null) {
+      for (Map.Entry<Integer, BootstrapState> entry: bootstrapStates.entrySet()) {
+        checkpoint(entry.getKey(), entry.getValue());
+      }
+    }
+    close();
+    if (storageService != null) {
+      storageService.stop();
+    }
+  }
+
+  /**
+   * Returns nothing until the local copies are up to date, then the records of the local copies, and then the records
+   * consumed from the topics.
+   */
+  @Override
+  public Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> poll(long timeoutInMs) {
+    if (startFuture == null) {
+      throw new VeniceException("Bootstrapping changelog consumer of store: " + storeName + " is not started");
+    }
+    try {
+      startFuture.get(timeoutInMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      return Collections.emptyList();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Collections.emptyList();
+    } catch (ExecutionException e) {
+      throw new VeniceException("Failed to bootstrap the local copy of store: " + storeName, e.getCause());
+    }
+    Throwable error = scanError.get();
+    if (error != null) {
+      throw new VeniceException("Failed to scan the local copy of store: " + storeName, error);
+    }
+    if (!isScanCompleted || !scannedMessages.isEmpty()) {
+      List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessages = new ArrayList<>();
+      try {
+        PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> pubSubMessage =
+            scannedMessages.poll(timeoutInMs, TimeUnit.MILLISECONDS);
+        if (pubSubMessage != null) {
+          pubSubMessages.add(pubSubMessage);
+          scannedMessages.drainTo(pubSubMessages);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return pubSubMessages;
+    }
+    return internalPoll(timeoutInMs, "");
+  }
+
+  private synchronized void openLocalPartitions(Set<Integer> partitions) {
+    MetricsRepository metricsRepository = changelogClientConfig.getInnerClientConfig().getMetricsRepository();
+    storageService = new StorageService(
+        configLoader,
+        new AggVersionedStorageEngineStats(
+            metricsRepository == null ? new MetricsRepository() : metricsRepository,
+            storeRepository,
+            true),
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        partitionStateSerializer,
+        storeRepository,
+        true,
+        true);
+    storageEngine = storageService.openStore(localStoreConfig, () -> null);
+    for (int partition: partitions) {
+      if (storageEngine.containsPartition(partition) && readCheckpoint(partition) != null) {
+        bootstrapStates.put(partition, new BootstrapState());
+      } else {
+        // The local copy has never been checkpointed, so it is rebuilt from the beginning of the current version
+        resetLocalPartition(partition);
+      }
+    }
+  }
+
+  /**
+   * Drops the local copy of the partition along with its checkpoint, and starts it over empty.
+   */
+  private void resetLocalPartition(int partition) {
+    if (storageEngine.containsPartition(partition)) {
+      storageService.dropStorePartition(localStoreConfig, partition, false);
+    }
+    storageEngine.addStoragePartition(partition);
+    bootstrapStates.put(partition, new BootstrapState());
+  }
+
+  private VeniceChangeCoordinate readCheckpoint(int partition) {
+    String encodedCoordinate = storageEngine.getPartitionOffset(partition)
+        .map(offsetRecord -> offsetRecord.getDatabaseInfo().get(CHANGE_CAPTURE_COORDINATE))
+        .orElse(null);
+    if (encodedCoordinate == null) {
+      return null;
+    }
+    try {
+      VeniceChangeCoordinate coordinate =
+          VeniceChangeCoordinate.decodeStringAndConvertToVeniceChangeCoordinate(encodedCoordinate);
+      BootstrapState state = bootstrapStates.get(partition);
+      if (state != null) {
+        // The checkpoint holds the next offset to consume
+        state.topicPartition =
+            new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(coordinate.getTopic()), partition);
+        state.lastConsumedOffset = ((ApacheKafkaOffsetPosition) coordinate.getPosition()).getOffset() - 1;
+        state.checkpointTopicPartition = state.topicPartition;
+        state.checkpointOffset = state.lastConsumedOffset + 1;
+      }
+      return coordinate;
+    } catch (IOException | ClassNotFoundException e) {
+      throw new VeniceException("Failed to decode the checkpoint of partition: " + partition + " of: " + storeName, e);
+    }
+  }
+
+  private void checkpoint(int partition, BootstrapState state) {
+    if (state.checkpointTopicPartition == null) {
+      return;
+    }
+    VeniceChangeCoordinate coordinate = new VeniceChangeCoordinate(
+        state.checkpointTopicPartition.getPubSubTopic().getName(),
+        new ApacheKafkaOffsetPosition(state.checkpointOffset),
+        partition);
+    // The records need to be durable before the position which covers them
+    storageEngine.sync(partition);
+    OffsetRecord offsetRecord =
+        storageEngine.getPartitionOffset(partition).orElseGet(() -> new OffsetRecord(partitionStateSerializer));
+    Map<String, String> databaseInfo = new HashMap<>(offsetRecord.getDatabaseInfo());
+    try {
+      databaseInfo.put(
+          CHANGE_CAPTURE_COORDINATE,
+          VeniceChangeCoordinate.convertVeniceChangeCoordinateToStringAndEncode(coordinate));
+    } catch (IOException e) {
+      throw new VeniceException("Failed to encode the checkpoint of partition: " + partition + " of: " + storeName, e);
+    }
+    offsetRecord.setDatabaseInfo(databaseInfo);
+    storageEngine.putPartitionOffset(partition, offsetRecord);
+    state.bytesSinceLastSync = 0;
+  }
+
+  /**
+   * Applies the records of the partitions to their local copies until the end of the topics they are subscribed to,
+   * without returning them.
+   */
+  private void catchUp(Set<Integer> partitions) {
+    Set<Integer> laggingPartitions = new HashSet<>(partitions);
+    long startTimeInMs = System.currentTimeMillis();
+    while (!laggingPartitions.isEmpty()) {
+      laggingPartitions.removeIf(this::isCaughtUp);
+      if (!laggingPartitions.isEmpty()) {
+        if (System.currentTimeMillis() - startTimeInMs >= catchUpTimeoutInMs) {
+          throw new VeniceException(
+              "Local copy of partitions: " + laggingPartitions + " of store: " + storeName
+                  + " did not catch up with the end of the topics within " + catchUpTimeoutInMs + " ms");
+        }
+        applyPolledMessages();
+      }
+    }
+    LOGGER.info(
+        "Local copy of partitions: {} of store: {} caught up in {} ms",
+        partitions,
+        storeName,
+        System.currentTimeMillis() - startTimeInMs);
+  }
+
+  /**
+   * Same as {@link #internalPoll}, except that the position of the control messages which do not switch the partition
+   * to another topic is recorded as well, since the topics may end with one of them.
+   */
+  private void applyPolledMessages() {
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messagesMap;
+    synchronized (pubSubConsumer) {
+      messagesMap = pubSubConsumer.poll(CATCH_UP_POLL_TIMEOUT_MS);
+    }
+    for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: messagesMap
+        .entrySet()) {
+      PubSubTopicPartition pubSubTopicPartition = entry.getKey();
+      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message: entry.getValue()) {
+        if (message.getKey().isControlMessage()) {
+          ControlMessage controlMessage = (ControlMessage) message.getValue().getPayloadUnion();
+          if (handleControlMessage(controlMessage, pubSubTopicPartition, "")) {
+            break;
+          }
+          recordConsumedPosition(pubSubTopicPartition, message.getOffset(), message.getPayloadSize());
+        } else {
+          convertPubSubMessageToPubSubChangeEventMessage(message, pubSubTopicPartition);
+        }
+      }
+    }
+  }
+
+  /**
+   * Checkpoints the partition at the beginning of the topic it switches to on an End of Push or a Version Swap, so a
+   * restart resumes from the new topic, and rebuilds the local copy of the partition from the version topic of the new
+   * serving version on a Version Swap.
+   */
+  @Override
+  protected boolean handleControlMessage(
+      ControlMessage controlMessage,
+      PubSubTopicPartition pubSubTopicPartition,
+      String topicSuffix) {
+    int partition = pubSubTopicPartition.getPartitionNumber();
+    if (!bootstrapStates.containsKey(partition)) {
+      return super.handleControlMessage(controlMessage, pubSubTopicPartition, topicSuffix);
+    }
+    ControlMessageType controlMessageType = ControlMessageType.valueOf(controlMessage);
+    PubSubTopic newTopic;
+    if (controlMessageType.equals(ControlMessageType.END_OF_PUSH)) {
+      if (!super.handleControlMessage(controlMessage, pubSubTopicPartition, topicSuffix)) {
+        return false;
+      }
+      newTopic = pubSubTopicRepository
+          .getTopic(pubSubTopicPartition.getPubSubTopic().getName() + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+    } else if (controlMessageType.equals(ControlMessageType.VERSION_SWAP)) {
+      String newServingVersionTopic =
+          ((VersionSwap) controlMessage.controlMessageUnion).newServingVersionTopic.toString();
+      String currentTopic = pubSubTopicPartition.getPubSubTopic().getName();
+      if (currentTopic.equals(newServingVersionTopic)
+          || currentTopic.equals(newServingVersionTopic + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX)) {
+        // The partition already follows the new serving version
+        return false;
+      }
+      newTopic = pubSubTopicRepository.getTopic(newServingVersionTopic);
+      LOGGER.info(
+          "Rebuilding the local copy of partition: {} of store: {} from: {} after version swap",
+          partition,
+          storeName,
+          newTopic);
+      Set<Integer> partitions = Collections.singleton(partition);
+      unsubscribe(partitions);
+      resetLocalPartition(partition);
+      currentVersionHighWatermarks.remove(partition);
+      if (inMemoryStorageEngine.containsPartition(partition)) {
+        inMemoryStorageEngine.dropPartition(partition);
+      }
+      internalSubscribe(partitions, newTopic).join();
+    } else {
+      return false;
+    }
+    BootstrapState state = bootstrapStates.get(partition);
+    state.topicPartition = new PubSubTopicPartitionImpl(newTopic, partition);
+    state.lastConsumedOffset = OffsetRecord.LOWEST_OFFSET;
+    state.checkpointTopicPartition = state.topicPartition;
+    state.checkpointOffset = 0;
+    checkpoint(partition, state);
+    return true;
+  }
+
+  private boolean isCaughtUp(int partition) {
+    PubSubTopicPartition subscribedTopicPartition = null;
+    Long endOffset = null;
+    synchronized (pubSubConsumer) {
+      for (PubSubTopicPartition topicPartition: pubSubConsumer.getAssignment()) {
+        if (topicPartition.getPartitionNumber() == partition) {
+          subscribedTopicPartition = topicPartition;
+          endOffset = pubSubConsumer.endOffset(topicPartition);
+          break;
+        }
+      }
+    }
+    if (subscribedTopicPartition == null) {
+      return false;
+    }
+    if (endOffset == null || endOffset <= 0) {
+      return true;
+    }
+    BootstrapState state = bootstrapStates.get(partition);
+    return subscribedTopicPartition.equals(state.topicPartition) && state.lastConsumedOffset >= endOffset - 1;
+  }
+
+  private void scanLocalPartitions(Set<Integer> partitions) {
+    try {
+      for (int partition: partitions) {
+        BootstrapState state = bootstrapStates.get(partition);
+        storageEngine.getByKeyPrefix(partition, null, new BytesStreamingCallback() {
+          @Override
+          public void onRecordReceived(byte[] key, byte[] value) {
+            try {
+              scannedMessages.put(convertLocalRecordToPubSubMessage(key, value, state));
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              throw new VeniceException("Interrupted while scanning partition: " + partition + " of: " + storeName);
+            }
+          }
+
+          @Override
+          public void onCompletion() {
+          }
+        });
+      }
+      LOGGER.info("Finished scanning the local copy of partitions: {} of store: {}", partitions, storeName);
+    } catch (Exception e) {
+      if (!Thread.currentThread().isInterrupted()) {
+        LOGGER.error("Failed to scan the local copy of store: {}", storeName, e);
+        scanError.compareAndSet(null, e);
+      }
+    } finally {
+      isScanCompleted = true;
+    }
+  }
+
+  private PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> convertLocalRecordToPubSubMessage(
+      byte[] keyBytes,
+      byte[] valueBytes,
+      BootstrapState state) {
+    ValueRecord valueRecord = ValueRecord.parseAndCreate(valueBytes);
+    int schemaId = valueRecord.getSchemaId();
+    V value = deserializeValueFromBytes(ByteBuffer.wrap(valueRecord.getDataInBytes()), schemaId);
+    return new ImmutableChangeCapturePubSubMessage<>(
+        keyDeserializer.deserialize(keyBytes),
+        new ChangeEvent<>(null, value),
+        state.topicPartition,
+        state.lastConsumedOffset,
+        0,
+        valueBytes.length);
+  }
+
+  @Override
+  protected <T> void onRecordAssembled(
+      PubSubTopicPartition pubSubTopicPartition,
+      byte[] keyBytes,
+      ByteBuffer decompressedValue,
+      int writerSchemaId,
+      T assembledRecord) {
+    int partition = pubSubTopicPartition.getPartitionNumber();
+    if (!bootstrapStates.containsKey(partition)) {
+      return;
+    }
+    if (assembledRecord instanceof RecordChangeEvent) {
+      RecordChangeEvent recordChangeEvent = (RecordChangeEvent) assembledRecord;
+      if (recordChangeEvent.currentValue == null || recordChangeEvent.currentValue.getSchemaId() <= 0) {
+        storageEngine.delete(partition, keyBytes);
+      } else {
+        storageEngine.put(
+            partition,
+            keyBytes,
+            ValueRecord
+                .create(
+                    recordChangeEvent.currentValue.getSchemaId(),
+                    ByteUtils.extractByteArray(recordChangeEvent.currentValue.getValue()))
+                .serialize());
+      }
+    } else {
+      storageEngine.put(
+          partition,
+          keyBytes,
+          ValueRecord.create(writerSchemaId, ByteUtils.extractByteArray(decompressedValue)).serialize());
+    }
+  }
+
+  @Override
+  protected Optional<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> convertPubSubMessageToPubSubChangeEventMessage(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message,
+      PubSubTopicPartition pubSubTopicPartition) {
+    int partition = pubSubTopicPartition.getPartitionNumber();
+    if (bootstrapStates.containsKey(partition) && MessageType.valueOf(message.getValue()) == MessageType.DELETE) {
+      storageEngine.delete(partition, message.getKey().getKey());
+    }
+    Optional<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessage =
+        super.convertPubSubMessageToPubSubChangeEventMessage(message, pubSubTopicPartition);
+    recordConsumedPosition(pubSubTopicPartition, message.getOffset(), message.getPayloadSize());
+    return pubSubMessage;
+  }
+
+  private void recordConsumedPosition(PubSubTopicPartition pubSubTopicPartition, long offset, int payloadSize) {
+    int partition = pubSubTopicPartition.getPartitionNumber();
+    BootstrapState state = bootstrapStates.get(partition);
+    if (state == null) {
+      return;
+    }
+    state.topicPartition = pubSubTopicPartition;
+    state.lastConsumedOffset = offset;
+    state.bytesSinceLastSync += payloadSize;
+    // A position in the middle of the chunks of a large value cannot be resumed from
+    if (!inMemoryStorageEngine.containsPartition(partition)) {
+      state.checkpointTopicPartition = pubSubTopicPartition;
+      state.checkpointOffset = offset + 1;
+      if (state.bytesSinceLastSync >= databaseSyncBytesInterval) {
+        checkpoint(partition, state);
+      }
+    }
+  }
+
+  private static class BootstrapState {
+    private volatile PubSubTopicPartition topicPartition;
+    private volatile long lastConsumedOffset = OffsetRecord.LOWEST_OFFSET;
+    private volatile PubSubTopicPartition checkpointTopicPartition;
+    private volatile long checkpointOffset;
+    private long bytesSinceLastSync;
+  }
+}
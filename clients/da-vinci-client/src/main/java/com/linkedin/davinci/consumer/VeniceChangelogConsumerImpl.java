@@ -3,9 +3,9 @@ package com.linkedin.davinci.consumer;
 import static com.linkedin.venice.schema.rmd.RmdConstants.*;
 
 import com.linkedin.davinci.repository.ThinClientMetaStoreBasedRepository;
-import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
-import com.linkedin.davinci.storage.chunking.GenericChunkingAdapter;
-import com.linkedin.davinci.storage.chunking.SpecificRecordChunkingAdapter;
+import com.linkedin.davinci.stats.ChangelogConsumerStats;
+import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
+import com.linkedin.davinci.storage.chunking.RawBytesChunkingAdapter;
 import com.linkedin.davinci.store.memory.InMemoryStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
@@ -39,14 +39,19 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.schema.rmd.RmdUtils;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
+import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.DictionaryUtils;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.views.ChangeCaptureView;
+import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -57,8 +62,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -70,23 +86,20 @@ import org.apache.logging.log4j.Logger;
 
 public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsumer<K, V> {
   private static final Logger LOGGER = LogManager.getLogger(VeniceChangelogConsumerImpl.class);
+  private static final long FETCH_TIMEOUT_MS = 100;
+  private static final int MAX_IN_FLIGHT_BATCHES_PER_THREAD = 4;
   private final int partitionCount;
 
   protected static final VeniceCompressor NO_OP_COMPRESSOR = new NoopCompressor();
 
   protected final CompressorFactory compressorFactory = new CompressorFactory();
 
-  protected final HashMap<Integer, VeniceCompressor> compressorMap = new HashMap<>();
-  private final AvroStoreDeserializerCache<V> storeDeserializerCache;
+  protected final Map<Integer, VeniceCompressor> compressorMap = new VeniceConcurrentHashMap<>();
+  protected final AvroStoreDeserializerCache<V> storeDeserializerCache;
   private final AvroStoreDeserializerCache<RecordChangeEvent> recordChangeEventDeserializerCache;
 
   protected ThinClientMetaStoreBasedRepository storeRepository;
 
-  protected final AbstractAvroChunkingAdapter<RecordChangeEvent> recordChangeEventChunkingAdapter =
-      new SpecificRecordChunkingAdapter<>();
-
-  protected final AbstractAvroChunkingAdapter<V> userEventChunkingAdapter;
-
   protected final SchemaReader schemaReader;
   private final String viewClassName;
   private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
@@ -111,11 +124,36 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   // to control and guarantee the behavior we're expecting.
   protected final InMemoryStorageEngine inMemoryStorageEngine;
   protected final PubSubConsumerAdapter pubSubConsumer;
-  protected final Map<Integer, List<Long>> currentVersionHighWatermarks = new HashMap<>();
+  protected final Map<Integer, List<Long>> currentVersionHighWatermarks = new VeniceConcurrentHashMap<>();
   protected final int[] currentValuePayloadSize;
 
   protected final ChangelogClientConfig changelogClientConfig;
 
+  /**
+   * The generation of each partition is incremented whenever its subscription changes, i.e. on seek, unsubscription
+   * and version swap, so that the records which were fetched before the change, but not processed yet, are dropped.
+   */
+  protected final AtomicIntegerArray partitionGenerations;
+
+  /**
+   * The members below are only used when the parallel processing is enabled. The records are then fetched by a
+   * dedicated thread and handed over, one batch per partition, to the worker which owns the partition. The workers put
+   * the processed records into a bounded queue, which is drained by {@link #poll}. The fetcher thread owns the
+   * consumer, and all the other threads go through {@link #callOnPubSubConsumer}.
+   */
+  private final int parallelProcessingThreadCount;
+  private final ExecutorService[] processingExecutors;
+  private final Semaphore inFlightBatches;
+  private final BlockingQueue<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> processedMessages;
+  // Operations on the consumer which are applied by the fetcher thread between two polls
+  private final BlockingQueue<Runnable> pendingConsumerActions = new LinkedBlockingQueue<>();
+  private volatile String fetcherTopicSuffix;
+  private final AtomicBoolean isFetcherStarted = new AtomicBoolean(false);
+  private final AtomicReference<Throwable> processingError = new AtomicReference<>();
+  private volatile boolean isRunning = true;
+  private volatile Thread fetcherThread;
+  private final ChangelogConsumerStats changelogConsumerStats;
+
   public VeniceChangelogConsumerImpl(
       ChangelogClientConfig changelogClientConfig,
       PubSubConsumerAdapter pubSubConsumer) {
@@ -131,6 +169,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     this.changelogClientConfig = ChangelogClientConfig.cloneConfig(changelogClientConfig);
     this.partitionCount = store.getPartitionCount();
     this.currentValuePayloadSize = new int[partitionCount];
+    this.partitionGenerations = new AtomicIntegerArray(partitionCount);
     this.viewClassName = changelogClientConfig.getViewName();
     this.replicationMetadataSchemaRepository = new ReplicationMetadataSchemaRepository(d2ControllerClient);
     this.schemaReader = changelogClientConfig.getSchemaReader();
@@ -150,14 +189,33 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
         storeName,
         true);
     if (changelogClientConfig.getInnerClientConfig().isSpecificClient()) {
-      // If a value class is supplied, we'll use a Specific record adapter
+      // If a value class is supplied, we'll use a Specific record deserializer
       Class valueClass = changelogClientConfig.getInnerClientConfig().getSpecificValueClass();
-      this.userEventChunkingAdapter = new SpecificRecordChunkingAdapter();
       this.storeDeserializerCache = new AvroStoreDeserializerCache<>(storeRepository, storeName, valueClass);
     } else {
-      this.userEventChunkingAdapter = GenericChunkingAdapter.INSTANCE;
       this.storeDeserializerCache = new AvroStoreDeserializerCache<>(storeRepository, storeName, true);
     }
+    this.parallelProcessingThreadCount = changelogClientConfig.getParallelProcessingThreadCount();
+    if (isParallelProcessingEnabled()) {
+      this.processingExecutors = new ExecutorService[parallelProcessingThreadCount];
+      for (int i = 0; i < parallelProcessingThreadCount; i++) {
+        processingExecutors[i] = Executors
+            .newSingleThreadExecutor(new DaemonThreadFactory("ChangelogConsumerWorker-" + storeName + "-" + i));
+      }
+      this.inFlightBatches = new Semaphore(MAX_IN_FLIGHT_BATCHES_PER_THREAD * parallelProcessingThreadCount);
+      this.processedMessages = new ArrayBlockingQueue<>(changelogClientConfig.getParallelProcessingQueueCapacity());
+      MetricsRepository metricsRepository = changelogClientConfig.getInnerClientConfig().getMetricsRepository();
+      this.changelogConsumerStats = new ChangelogConsumerStats(
+          metricsRepository == null ? new MetricsRepository() : metricsRepository,
+          storeName,
+          processedMessages::size,
+          () -> MAX_IN_FLIGHT_BATCHES_PER_THREAD * parallelProcessingThreadCount - inFlightBatches.availablePermits());
+    } else {
+      this.processingExecutors = null;
+      this.inFlightBatches = null;
+      this.processedMessages = null;
+      this.changelogConsumerStats = null;
+    }
     LOGGER.info(
         "Start a change log consumer client for store: {}, with partition count: {} and view class: {} ",
         storeName,
@@ -187,13 +245,14 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
         topicToSubscribe = topic;
       }
 
-      synchronized (pubSubConsumer) {
+      runOnPubSubConsumer(() -> {
         Set<PubSubTopicPartition> topicPartitionSet = new HashSet<>(pubSubConsumer.getAssignment());
         for (PubSubTopicPartition topicPartition: pubSubConsumer.getAssignment()) {
           if (partitions.contains(topicPartition.getPartitionNumber())) {
             pubSubConsumer.unSubscribe(topicPartition);
           }
         }
+        incrementPartitionGenerations(partitions);
 
         List<PubSubTopicPartition> topicPartitionList =
             getPartitionListToSubscribe(partitions, topicPartitionSet, topicToSubscribe);
@@ -208,8 +267,8 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
         for (PubSubTopicPartition topicPartition: topicPartitionListToSeek) {
           pubSubConsumer.subscribe(topicPartition, OffsetRecord.LOWEST_OFFSET);
         }
-        return null;
-      }
+      }).join();
+      return null;
     });
   }
 
@@ -243,8 +302,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   @Override
   public CompletableFuture<Void> seekToBeginningOfPush() {
     return seekToBeginningOfPush(
-        pubSubConsumer.getAssignment()
-            .stream()
+        getPubSubConsumerAssignment().stream()
             .map(topicPartition -> topicPartition.getPartitionNumber())
             .collect(Collectors.toSet()));
   }
@@ -263,50 +321,89 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   @Override
   public void pause() {
     this.pause(
-        pubSubConsumer.getAssignment()
-            .stream()
+        getPubSubConsumerAssignment().stream()
             .map(PubSubTopicPartition::getPartitionNumber)
             .collect(Collectors.toSet()));
   }
 
   @Override
   public void resume(Set<Integer> partitions) {
-    synchronized (pubSubConsumer) {
+    runOnPubSubConsumer(() -> {
       Set<PubSubTopicPartition> currentSubscriptions = pubSubConsumer.getAssignment();
       for (PubSubTopicPartition partition: currentSubscriptions) {
         if (partitions.contains(partition.getPartitionNumber())) {
           pubSubConsumer.resume(partition);
         }
       }
-    }
+    });
   }
 
   @Override
   public void resume() {
     this.resume(
-        pubSubConsumer.getAssignment()
-            .stream()
+        getPubSubConsumerAssignment().stream()
             .map(PubSubTopicPartition::getPartitionNumber)
             .collect(Collectors.toSet()));
   }
 
   @Override
   public void pause(Set<Integer> partitions) {
-    synchronized (pubSubConsumer) {
+    runOnPubSubConsumer(() -> {
       Set<PubSubTopicPartition> currentSubscriptions = pubSubConsumer.getAssignment();
       for (PubSubTopicPartition partition: currentSubscriptions) {
         if (partitions.contains(partition.getPartitionNumber())) {
           pubSubConsumer.pause(partition);
         }
       }
+    });
+  }
+
+  /**
+   * Runs an operation on the consumer, which is not thread-safe.
+   *
+   * When the parallel processing is enabled, the fetcher thread owns the consumer. The operation is queued and applied
+   * by the fetcher between two polls, so neither the caller nor the fetcher ever blocks on a lock, and the returned
+   * future is completed once the operation is applied.
+   *
+   * Otherwise, the consumer is polled by whichever thread calls {@link #poll}, so there is no owner to hand the
+   * operation over to, and the operation runs inline under the consumer monitor. The monitor has to stay in this mode,
+   * as it is the only thing keeping an operation from another thread from hitting the consumer in the middle of a
+   * poll, which the consumer doesn't support.
+   */
+  private <T> CompletableFuture<T> callOnPubSubConsumer(Supplier<T> action) {
+    if (isParallelProcessingEnabled() && isRunning) {
+      CompletableFuture<T> future = new CompletableFuture<>();
+      pendingConsumerActions.add(() -> {
+        try {
+          future.complete(action.get());
+        } catch (Exception e) {
+          LOGGER.error("Failed to apply the operation on the consumer of store: {}", storeName, e);
+          future.completeExceptionally(e);
+        }
+      });
+      startFetcherIfNeeded();
+      return future;
+    }
+    synchronized (pubSubConsumer) {
+      return CompletableFuture.completedFuture(action.get());
     }
   }
 
+  private CompletableFuture<Void> runOnPubSubConsumer(Runnable action) {
+    return callOnPubSubConsumer(() -> {
+      action.run();
+      return null;
+    });
+  }
+
+  private Set<PubSubTopicPartition> getPubSubConsumerAssignment() {
+    return callOnPubSubConsumer(() -> new HashSet<>(pubSubConsumer.getAssignment())).join();
+  }
+
   @Override
   public CompletableFuture<Void> seekToEndOfPush() {
     return seekToEndOfPush(
-        pubSubConsumer.getAssignment()
-            .stream()
+        getPubSubConsumerAssignment().stream()
             .map(topicPartition -> topicPartition.getPartitionNumber())
             .collect(Collectors.toSet()));
   }
@@ -332,8 +429,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   @Override
   public CompletableFuture<Void> seekToTail() {
     return seekToTail(
-        pubSubConsumer.getAssignment()
-            .stream()
+        getPubSubConsumerAssignment().stream()
             .map(topicPartition -> topicPartition.getPartitionNumber())
             .collect(Collectors.toSet()));
   }
@@ -397,7 +493,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
 
   @Override
   public CompletableFuture<Void> seekToTimestamp(Long timestamp) {
-    Set<PubSubTopicPartition> topicPartitionSet = new HashSet<>(pubSubConsumer.getAssignment());
+    Set<PubSubTopicPartition> topicPartitionSet = getPubSubConsumerAssignment();
     Map<Integer, Long> partitionsToSeek = new HashMap<>();
     for (PubSubTopicPartition partition: topicPartitionSet) {
       partitionsToSeek.put(partition.getPartitionNumber(), timestamp);
@@ -410,7 +506,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
       PubSubTopic targetTopic,
       SeekFunction seekAction) {
     return CompletableFuture.supplyAsync(() -> {
-      synchronized (pubSubConsumer) {
+      runOnPubSubConsumer(() -> {
         // Prune out current subscriptions
         for (PubSubTopicPartition topicPartition: pubSubConsumer.getAssignment()) {
           currentVersionHighWatermarks.remove(topicPartition.getPartitionNumber());
@@ -418,6 +514,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
             pubSubConsumer.unSubscribe(topicPartition);
           }
         }
+        incrementPartitionGenerations(partitions);
 
         List<PubSubTopicPartition> topicPartitionListToSeek =
             getPartitionListToSubscribe(partitions, Collections.EMPTY_SET, targetTopic);
@@ -427,8 +524,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
           }
           seekAction.apply(topicPartition);
         }
-
-      }
+      }).join();
       return null;
     });
   }
@@ -455,7 +551,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
 
   @Override
   public void unsubscribe(Set<Integer> partitions) {
-    synchronized (pubSubConsumer) {
+    runOnPubSubConsumer(() -> {
       Set<PubSubTopicPartition> topicPartitionSet = new HashSet<>(pubSubConsumer.getAssignment());
       Set<PubSubTopicPartition> topicPartitionsToUnsub = new HashSet<>();
       for (PubSubTopicPartition topicPartition: topicPartitionSet) {
@@ -464,6 +560,13 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
         }
       }
       pubSubConsumer.batchUnsubscribe(topicPartitionsToUnsub);
+      incrementPartitionGenerations(partitions);
+    }).join();
+  }
+
+  private void incrementPartitionGenerations(Set<Integer> partitions) {
+    for (int partition: partitions) {
+      partitionGenerations.incrementAndGet(partition);
     }
   }
 
@@ -484,6 +587,9 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   protected Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> internalPoll(
       long timeoutInMs,
       String topicSuffix) {
+    if (isParallelProcessingEnabled()) {
+      return pollProcessedMessages(timeoutInMs, topicSuffix);
+    }
     List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessages = new ArrayList<>();
     Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messagesMap;
     synchronized (pubSubConsumer) {
@@ -509,6 +615,141 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     return pubSubMessages;
   }
 
+  protected boolean isParallelProcessingEnabled() {
+    return parallelProcessingThreadCount > 0;
+  }
+
+  private Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pollProcessedMessages(
+      long timeoutInMs,
+      String topicSuffix) {
+    fetcherTopicSuffix = topicSuffix;
+    startFetcherIfNeeded();
+    Throwable error = processingError.getAndSet(null);
+    if (error != null) {
+      throw new VeniceException("Failed to consume the change events of store: " + storeName, error);
+    }
+    List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessages = new ArrayList<>();
+    try {
+      PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> pubSubMessage =
+          processedMessages.poll(timeoutInMs, TimeUnit.MILLISECONDS);
+      if (pubSubMessage != null) {
+        pubSubMessages.add(pubSubMessage);
+        processedMessages.drainTo(pubSubMessages);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return pubSubMessages;
+  }
+
+  private void startFetcherIfNeeded() {
+    if (isFetcherStarted.compareAndSet(false, true)) {
+      fetcherThread = new DaemonThreadFactory("ChangelogConsumerFetcher-" + storeName).newThread(this::runFetcher);
+      fetcherThread.start();
+    }
+  }
+
+  private void runFetcher() {
+    while (isRunning) {
+      try {
+        applyPendingConsumerActions();
+        String topicSuffix = fetcherTopicSuffix;
+        if (topicSuffix == null || pubSubConsumer.getAssignment().isEmpty()) {
+          // Nothing to fetch yet, so only wait for the next operation
+          Runnable action = pendingConsumerActions.poll(FETCH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+          if (action != null) {
+            action.run();
+          }
+          continue;
+        }
+        Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messagesMap =
+            pubSubConsumer.poll(FETCH_TIMEOUT_MS);
+        // The subscriptions only change on this thread, so these are the generations the records were fetched for
+        Map<PubSubTopicPartition, Integer> generations = new HashMap<>();
+        for (PubSubTopicPartition pubSubTopicPartition: messagesMap.keySet()) {
+          generations.put(pubSubTopicPartition, partitionGenerations.get(pubSubTopicPartition.getPartitionNumber()));
+        }
+        for (PubSubTopicPartition pubSubTopicPartition: messagesMap.keySet()) {
+          List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messageList = messagesMap.get(pubSubTopicPartition);
+          changelogConsumerStats.recordFetchedRecords(messageList.size());
+          // Wait for the workers to catch up, without blocking the operations on the consumer
+          while (!inFlightBatches.tryAcquire(FETCH_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            applyPendingConsumerActions();
+          }
+          int generation = generations.get(pubSubTopicPartition);
+          processingExecutors[pubSubTopicPartition.getPartitionNumber() % parallelProcessingThreadCount]
+              .execute(() -> processMessages(pubSubTopicPartition, messageList, generation, topicSuffix));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Exception e) {
+        if (!isRunning) {
+          break;
+        }
+        LOGGER.error("Failed to fetch the change events of store: {}", storeName, e);
+        changelogConsumerStats.recordFetchError();
+        processingError.compareAndSet(null, e);
+        try {
+          Thread.sleep(FETCH_TIMEOUT_MS);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+  }
+
+  private void applyPendingConsumerActions() {
+    Runnable action;
+    while ((action = pendingConsumerActions.poll()) != null) {
+      action.run();
+    }
+  }
+
+  /**
+   * Processes a batch of records of a partition on the worker which owns the partition. The processing stops as soon
+   * as the subscription of the partition changes, since the remaining records belong to the previous position.
+   */
+  private void processMessages(
+      PubSubTopicPartition pubSubTopicPartition,
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messageList,
+      int generation,
+      String topicSuffix) {
+    long startTimeInNs = System.nanoTime();
+    int processedCount = 0;
+    try {
+      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message: messageList) {
+        if (partitionGenerations.get(pubSubTopicPartition.getPartitionNumber()) != generation) {
+          break;
+        }
+        processedCount++;
+        if (message.getKey().isControlMessage()) {
+          ControlMessage controlMessage = (ControlMessage) message.getValue().getPayloadUnion();
+          if (handleControlMessage(controlMessage, pubSubTopicPartition, topicSuffix)) {
+            break;
+          }
+        } else {
+          Optional<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessage =
+              convertPubSubMessageToPubSubChangeEventMessage(message, pubSubTopicPartition);
+          if (pubSubMessage.isPresent()) {
+            processedMessages.put(pubSubMessage.get());
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      LOGGER.error("Failed to process the change events of: {}", pubSubTopicPartition, e);
+      processingError.compareAndSet(null, e);
+    } finally {
+      changelogConsumerStats.recordProcessedRecords(processedCount);
+      changelogConsumerStats.recordDroppedRecords(messageList.size() - processedCount);
+      changelogConsumerStats.recordBatchProcessingLatency(LatencyUtils.getLatencyInMS(startTimeInNs));
+      inFlightBatches.release();
+    }
+  }
+
   /**
    * Handle control message from the given topic. Returns true if a topic switch should occur and records should be returned
    *
@@ -557,7 +798,6 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
       byte[] keyBytes,
       ByteBuffer valueBytes,
       long recordOffset,
-      AbstractAvroChunkingAdapter<T> chunkingAdapter,
       Lazy<RecordDeserializer<T>> recordDeserializer,
       AvroStoreDeserializerCache<T> deserializerCache,
       int readerSchemaId) {
@@ -588,7 +828,10 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
           keyBytes,
           ValueRecord.create(schemaId, valueBytes.array()).serialize());
       try {
-        assembledRecord = chunkingAdapter.get(
+        // The chunks are assembled into the decompressed value first, so that it can be handed to
+        // onRecordAssembled before being deserialized.
+        ChunkedValueManifestContainer manifestContainer = new ChunkedValueManifestContainer();
+        ByteBuffer assembledValue = RawBytesChunkingAdapter.INSTANCE.get(
             inMemoryStorageEngine,
             pubSubTopicPartition.getPartitionNumber(),
             ByteBuffer.wrap(keyBytes),
@@ -597,9 +840,12 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
             null,
             null,
             readerSchemaId,
-            deserializerCache,
+            RawBytesStoreDeserializerCache.getInstance(),
             compressor,
-            null);
+            manifestContainer);
+        int writerSchemaId = manifestContainer.getManifest().getSchemaId();
+        assembledRecord = deserializerCache.getDeserializer(writerSchemaId, readerSchemaId).deserialize(assembledValue);
+        onRecordAssembled(pubSubTopicPartition, keyBytes, assembledValue, writerSchemaId, assembledRecord);
       } catch (Exception ex) {
         // We might get an exception if we haven't persisted all the chunks for a given key. This
         // can actually happen if the client seeks to the middle of a chunked record either by
@@ -613,7 +859,9 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     } else {
       // this is a fully specified record, no need to buffer and assemble it, just decompress and deserialize it
       try {
-        assembledRecord = recordDeserializer.get().deserialize(compressor.decompress(valueBytes));
+        ByteBuffer decompressedValue = compressor.decompress(valueBytes);
+        assembledRecord = recordDeserializer.get().deserialize(decompressedValue);
+        onRecordAssembled(pubSubTopicPartition, keyBytes, decompressedValue, schemaId, assembledRecord);
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
@@ -626,6 +874,19 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     return assembledRecord;
   }
 
+  /**
+   * Invoked with the decompressed value of every record which has been assembled from the topic, along with the
+   * deserialized record, which is either a value of the store or a {@link RecordChangeEvent}. The value buffer must
+   * not be modified.
+   */
+  protected <T> void onRecordAssembled(
+      PubSubTopicPartition pubSubTopicPartition,
+      byte[] keyBytes,
+      ByteBuffer decompressedValue,
+      int writerSchemaId,
+      T assembledRecord) {
+  }
+
   protected Optional<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> convertPubSubMessageToPubSubChangeEventMessage(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message,
       PubSubTopicPartition pubSubTopicPartition) {
@@ -639,7 +900,6 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
       // Select appropriate deserializers
       Lazy deserializerProvider;
       Object assembledObject = null;
-      AbstractAvroChunkingAdapter chunkingAdapter;
       int readerSchemaId;
       ReadOnlySchemaRepository schemaRepo;
       AvroStoreDeserializerCache deserializerCache;
@@ -647,12 +907,10 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
         Schema valueSchema = schemaReader.getValueSchema(put.schemaId);
         deserializerProvider =
             Lazy.of(() -> FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(valueSchema, valueSchema));
-        chunkingAdapter = userEventChunkingAdapter;
         readerSchemaId = AvroProtocolDefinition.RECORD_CHANGE_EVENT.getCurrentProtocolVersion();
         deserializerCache = this.storeDeserializerCache;
       } else {
         deserializerProvider = Lazy.of(() -> recordChangeDeserializer);
-        chunkingAdapter = recordChangeEventChunkingAdapter;
         readerSchemaId = this.schemaReader.getLatestValueSchemaId();
         deserializerCache = recordChangeEventDeserializerCache;
       }
@@ -662,7 +920,6 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
           keyBytes,
           put.getPutValue(),
           message.getOffset(),
-          chunkingAdapter,
           deserializerProvider,
           deserializerCache,
           readerSchemaId);
@@ -757,7 +1014,10 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
             .put(pubSubTopicPartition.getPartitionNumber(), versionSwap.getLocalHighWatermarks());
       }
       switchToNewTopic(newServingVersionTopic, topicSuffix, pubSubTopicPartition.getPartitionNumber());
-      inMemoryStorageEngine.drop();
+      // Only drop the buffered chunks of this partition, as the other partitions may be processed concurrently
+      if (inMemoryStorageEngine.containsPartition(pubSubTopicPartition.getPartitionNumber())) {
+        inMemoryStorageEngine.dropPartition(pubSubTopicPartition.getPartitionNumber());
+      }
       return true;
     }
     return false;
@@ -794,7 +1054,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
         payloadSize);
   }
 
-  private V deserializeValueFromBytes(ByteBuffer byteBuffer, int valueSchemaId) {
+  protected V deserializeValueFromBytes(ByteBuffer byteBuffer, int valueSchemaId) {
     Schema currentValueSchema = schemaReader.getValueSchema(valueSchemaId);
     RecordDeserializer<V> valueDeserializer =
         FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(currentValueSchema, currentValueSchema);
@@ -837,6 +1097,24 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
 
   @Override
   public void close() {
+    if (isParallelProcessingEnabled()) {
+      isRunning = false;
+      if (fetcherThread != null) {
+        fetcherThread.interrupt();
+        try {
+          fetcherThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      for (ExecutorService processingExecutor: processingExecutors) {
+        processingExecutor.shutdownNow();
+      }
+      // The fetcher is gone, so complete the operations it didn't get to
+      synchronized (pubSubConsumer) {
+        applyPendingConsumerActions();
+      }
+    }
     this.unsubscribeAll();
     pubSubConsumer.close();
   }
@@ -30,6 +30,22 @@ public abstract class AbstractStoreBufferService extends AbstractVeniceService {
 
   public abstract long getDrainerQueueMemoryUsage(int index);
 
+  /**
+   * @return the number of topic partitions assigned to the drainer, which is only tracked with
+   *         {@link StoreBufferService.DrainerAssignmentStrategy#ADAPTIVE_LOAD_ASSIGNMENT_STRATEGY}.
+   */
+  public abstract int getDrainerAssignedPartitionCount(int index);
+
+  /**
+   * @return the moving average of the time spent by the drainer to process a byte of the buffered records.
+   */
+  public abstract double getDrainerProcessingTimeNsPerByte(int index);
+
+  /**
+   * @return the number of times a topic partition was moved to a less loaded drainer.
+   */
+  public abstract long getPartitionMigrationCount();
+
   public abstract long getTotalMemoryUsage();
 
   public abstract long getTotalRemainingMemory();
@@ -13,7 +13,12 @@ import com.linkedin.davinci.replication.merge.MergeConflictResolverFactory;
 import com.linkedin.davinci.replication.merge.MergeConflictResult;
 import com.linkedin.davinci.replication.merge.RmdSerDe;
 import com.linkedin.davinci.replication.merge.StringAnnotatedStoreSchemaCache;
+import com.linkedin.davinci.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.davinci.schema.merge.CollectionFieldOperationHandler;
+import com.linkedin.davinci.schema.merge.IndexBasedCollectionFieldOpHandler;
+import com.linkedin.davinci.schema.merge.SortBasedCollectionFieldOpHandler;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
+import com.linkedin.davinci.stats.WritePathTrace;
 import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
 import com.linkedin.davinci.storage.chunking.RawBytesChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
@@ -136,12 +141,16 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
         new StringAnnotatedStoreSchemaCache(storeName, schemaRepository);
 
     this.rmdSerDe = new RmdSerDe(annotatedReadOnlySchemaRepository, rmdProtocolVersionId);
+    CollectionFieldOperationHandler collectionFieldOperationHandler = serverConfig.isIndexBasedCollectionMergeEnabled()
+        ? new IndexBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE)
+        : new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
     this.mergeConflictResolver = MergeConflictResolverFactory.getInstance()
         .createMergeConflictResolver(
             annotatedReadOnlySchemaRepository,
             rmdSerDe,
             getStoreName(),
-            isWriteComputationEnabled);
+            isWriteComputationEnabled,
+            collectionFieldOperationHandler);
     this.remoteIngestionRepairService = builder.getRemoteIngestionRepairService();
   }
 
@@ -470,6 +479,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
         throw new VeniceMessageException(
             consumerTaskId + " : Invalid/Unrecognized operation type submitted: " + kafkaValue.messageType);
     }
+    stampWritePathTrace(WritePathTrace.Stage.DCR);
 
     aggVersionedIngestionStats.recordConsumedRecordEndToEndProcessingLatency(
         storeName,
@@ -515,7 +525,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
               oldValueProvider.get(),
               keyBytes,
               versionNumber,
-              incomingValueSchemaId,
+              mergeConflictResult.getValueSchemaId(),
               valueSchemaId,
               mergeConflictResult.getRmdRecord());
         }
@@ -693,6 +703,11 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       long beforeProcessingRecordTimestampNs,
       ChunkedValueManifest oldValueManifest,
       ChunkedValueManifest oldRmdManifest) {
+    // The view writers need every change, so the UPDATEs don't get coalesced when there are any
+    final boolean updateCoalescingEnabled = leaderUpdateCoalescer != null && viewWriters.isEmpty();
+    if (updateCoalescingEnabled && leaderUpdateCoalescer.supersede(key) != null) {
+      hostLevelIngestionStats.recordWriteComputeCoalescedUpdateCount();
+    }
 
     final ByteBuffer updatedValueBytes = maybeCompressData(
         consumerRecord.getTopicPartition().getPartitionNumber(),
@@ -762,7 +777,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
           oldRmdManifest,
           valueSchemaId,
           mergeConflictResult.doesResultReuseInput());
-      produceToLocalKafka(
+      Runnable produceFunction = () -> produceToLocalKafka(
           consumerRecord,
           partitionConsumptionState,
           LeaderProducedRecordContext.newPutRecord(kafkaClusterId, consumerRecord.getOffset(), key, updatedPut),
@@ -771,6 +786,56 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
           kafkaUrl,
           kafkaClusterId,
           beforeProcessingRecordTimestampNs);
+      if (updateCoalescingEnabled && leaderUpdateCoalescer.canDefer()) {
+        /**
+         * The next record is an UPDATE of the same key, which gets resolved against the value and RMD of this one from
+         * the transient record, so the per-field timestamps of this UPDATE are carried over to the record produced.
+         * The chunks replaced by this UPDATE must be cleaned up by the record which gets produced in the end.
+         */
+        PartitionConsumptionState.TransientRecord transientRecord = partitionConsumptionState.getTransientRecord(key);
+        transientRecord.setValueManifest(oldValueManifest);
+        transientRecord.setRmdManifest(oldRmdManifest);
+        leaderUpdateCoalescer.defer(
+            key,
+            null,
+            valueSchemaId,
+            oldValueManifest,
+            0,
+            () -> produceDeferredUpdate(
+                key,
+                consumerRecord,
+                kafkaClusterId,
+                partitionConsumptionState,
+                produceFunction));
+      } else {
+        produceFunction.run();
+      }
+    }
+  }
+
+  /**
+   * Produces an UPDATE which got deferred by the {@link LeaderUpdateCoalescer}, unless a record of the same key
+   * consumed from another region got resolved on top of it in the meantime. In that case, that record already carries
+   * this UPDATE, and it must not be overwritten by an older value in the version topic.
+   */
+  private void produceDeferredUpdate(
+      byte[] key,
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      int kafkaClusterId,
+      PartitionConsumptionState partitionConsumptionState,
+      Runnable produceFunction) {
+    final ByteArrayKey byteArrayKey = ByteArrayKey.wrap(key);
+    ReentrantLock keyLevelLock = this.keyLevelLocksManager.get().acquireLockByKey(byteArrayKey);
+    keyLevelLock.lock();
+    try {
+      PartitionConsumptionState.TransientRecord transientRecord = partitionConsumptionState.getTransientRecord(key);
+      if (transientRecord != null && transientRecord.getKafkaClusterId() == kafkaClusterId
+          && transientRecord.getKafkaConsumedOffset() == consumerRecord.getOffset()) {
+        produceFunction.run();
+      }
+    } finally {
+      keyLevelLock.unlock();
+      this.keyLevelLocksManager.get().releaseLock(byteArrayKey);
     }
   }
 
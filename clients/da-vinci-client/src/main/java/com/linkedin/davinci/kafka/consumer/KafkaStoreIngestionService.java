@@ -13,6 +13,7 @@ import static com.linkedin.venice.ConfigKeys.KAFKA_FETCH_MIN_BYTES_CONFIG;
 import static com.linkedin.venice.ConfigKeys.KAFKA_GROUP_ID_CONFIG;
 import static com.linkedin.venice.ConfigKeys.KAFKA_MAX_PARTITION_FETCH_BYTES_CONFIG;
 import static com.linkedin.venice.ConfigKeys.KAFKA_MAX_POLL_RECORDS_CONFIG;
+import static com.linkedin.venice.ConfigKeys.SERVER_WRITE_PATH_TRACE_SAMPLING_INTERVAL;
 import static com.linkedin.venice.kafka.TopicManager.DEFAULT_KAFKA_MIN_LOG_COMPACTION_LAG_MS;
 import static com.linkedin.venice.kafka.TopicManager.DEFAULT_KAFKA_OPERATION_TIMEOUT_MS;
 import static java.lang.Thread.currentThread;
@@ -35,6 +36,8 @@ import com.linkedin.davinci.stats.AggVersionedDIVStats;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
 import com.linkedin.davinci.stats.ParticipantStoreConsumptionStats;
 import com.linkedin.davinci.stats.StoreBufferServiceStats;
+import com.linkedin.davinci.stats.WritePathTrace;
+import com.linkedin.davinci.stats.WritePathTracer;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
@@ -165,6 +168,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
 
   private final AggLagStats aggLagStats;
 
+  private final WritePathTracer writePathTracer;
+
   /**
    * Store buffer service to persist data into local bdb for all the stores.
    */
@@ -375,6 +380,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         metadataRepo,
         serverConfig.isUnregisterMetricForDeletedStoreEnabled());
     this.versionedIngestionStats = new AggVersionedIngestionStats(metricsRepository, metadataRepo, serverConfig);
+    this.writePathTracer = new WritePathTracer(metricsRepository, metadataRepo, serverConfig, SystemTime.INSTANCE);
     if (serverConfig.isDedicatedDrainerQueueEnabled()) {
       this.storeBufferService = new SeparatedStoreBufferService(serverConfig);
     } else {
@@ -382,7 +388,10 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
           serverConfig.getStoreWriterNumber(),
           serverConfig.getStoreWriterBufferMemoryCapacity(),
           serverConfig.getStoreWriterBufferNotifyDelta(),
-          serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled());
+          serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+          serverConfig.getStoreWriterDrainerAssignmentStrategy(),
+          serverConfig.getStoreWriterDrainerMigrationIntervalMs(),
+          serverConfig.getStoreWriterDrainerLoadImbalanceRatio());
     }
     this.kafkaMessageEnvelopeSchemaReader = kafkaMessageEnvelopeSchemaReader;
     /**
@@ -485,7 +494,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         veniceConfigLoader.getVeniceServerConfig().getDataBasePath(),
         veniceConfigLoader.getVeniceServerConfig().getDiskFullThreshold());
 
-    VeniceViewWriterFactory viewWriterFactory = new VeniceViewWriterFactory(veniceConfigLoader);
+    VeniceViewWriterFactory viewWriterFactory = new VeniceViewWriterFactory(veniceConfigLoader, schemaRepo);
 
     ingestionTaskFactory = StoreIngestionTaskFactory.builder()
         .setVeniceWriterFactory(veniceWriterFactory)
@@ -512,6 +521,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         .setPubSubTopicRepository(pubSubTopicRepository)
         .setRunnableForKillIngestionTasksForNonCurrentVersions(
             serverConfig.getIngestionMemoryLimit() > 0 ? () -> killConsumptionTaskForNonCurrentVersions() : null)
+        .setWritePathTracer(writePathTracer)
         .build();
   }
 
@@ -728,6 +738,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
       if (topicNameToIngestionTaskMap.containsKey(topicName)) {
         StoreIngestionTask storeIngestionTask = topicNameToIngestionTaskMap.remove(topicName);
         storeIngestionTask.shutdown(10000);
+        writePathTracer.removeTopic(topicName);
         LOGGER.info("Successfully shut down ingestion task for {}", topicName);
       } else {
         LOGGER.info("Ignoring close request for not-existing consumption task {}", topicName);
@@ -1028,6 +1039,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
       // cleanup the map regardless if the task was running or not to prevent mem leak when failed tasks lingers
       // in the map since isRunning is set to false already.
       topicNameToIngestionTaskMap.remove(topicName);
+      writePathTracer.removeTopic(topicName);
       if (aggKafkaConsumerService != null) {
         aggKafkaConsumerService.unsubscribeAll(consumerTask.getVersionTopic());
       }
@@ -1220,6 +1232,19 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     return response;
   }
 
+  @Override
+  public AdminResponse getSlowWritePathTraces(String topicName, ComplementSet<Integer> partitions) {
+    AdminResponse response = new AdminResponse();
+    if (!writePathTracer.isEnabled()) {
+      response.setMessage("Write path tracing is disabled, please check " + SERVER_WRITE_PATH_TRACE_SAMPLING_INTERVAL);
+      return response;
+    }
+    for (WritePathTrace trace: writePathTracer.getSlowestTraces(topicName, partitions)) {
+      response.addWritePathTrace(trace);
+    }
+    return response;
+  }
+
   /**
    * Return the metadata information for the given store. The data is retrieved from its respective repositories which
    * originate from the VeniceServer.
@@ -16,6 +16,7 @@ import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModel;
 import com.linkedin.davinci.schema.merge.CollectionTimestampMergeRecordHelper;
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
+import com.linkedin.davinci.stats.WritePathTrace;
 import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
 import com.linkedin.davinci.storage.chunking.ChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
@@ -1515,6 +1516,7 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     long sourceTopicOffset = consumerRecord.getOffset();
     LeaderMetadataWrapper leaderMetadataWrapper = new LeaderMetadataWrapper(sourceTopicOffset, kafkaClusterId);
     partitionConsumptionState.setLastLeaderPersistFuture(leaderProducedRecordContext.getPersistedToDBFuture());
+    leaderProducedRecordContext.setWritePathTrace(detachWritePathTrace(WritePathTrace.Stage.CONSUMER_PROCESSING));
     produceFunction.accept(callback, leaderMetadataWrapper);
   }
 
@@ -2804,7 +2806,6 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
       PartitionConsumptionState partitionConsumptionState,
       long beforeProcessingRecordTimestampNs) {
 
-    final int subPartition = partitionConsumptionState.getPartition();
     final int readerValueSchemaId;
     final int readerUpdateProtocolVersion;
     if (isIngestingSystemStore()) {
@@ -2818,37 +2819,56 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
       readerValueSchemaId = supersetSchemaEntry.getId();
       readerUpdateProtocolVersion = update.updateSchemaId;
     }
-    ChunkedValueManifestContainer valueManifestContainer = new ChunkedValueManifestContainer();
-    final GenericRecord currValue = readStoredValueRecord(
-        partitionConsumptionState,
-        keyBytes,
-        readerValueSchemaId,
-        consumerRecord.getTopicPartition(),
-        valueManifestContainer);
-
-    final byte[] updatedValueBytes;
-    final ChunkedValueManifest oldValueManifest = valueManifestContainer.getManifest();
+    /**
+     * If the previous record was an UPDATE of the same key which got deferred, it gets superseded by this one, which is
+     * applied on top of its value.
+     */
+    LeaderUpdateCoalescer.DeferredUpdate supersededUpdate =
+        leaderUpdateCoalescer == null ? null : leaderUpdateCoalescer.supersede(keyBytes);
+    if (supersededUpdate != null
+        && (supersededUpdate.getValueRecord() == null || supersededUpdate.getValueSchemaId() != readerValueSchemaId)) {
+      // E.g. the superset schema changed in between, so the value gets read again after producing the deferred UPDATE
+      supersededUpdate.produce();
+      supersededUpdate = null;
+    }
+    final GenericRecord currValue;
+    final ChunkedValueManifest oldValueManifest;
+    if (supersededUpdate != null) {
+      // The superseded UPDATE never gets serialized, so its latency only accounts for applying it
+      hostLevelIngestionStats.recordWriteComputeCoalescedUpdateCount();
+      hostLevelIngestionStats.recordWriteComputeUpdateLatency(
+          LatencyUtils.convertLatencyFromNSToMS(supersededUpdate.getComputeLatencyInNS()));
+      currValue = supersededUpdate.getValueRecord();
+      oldValueManifest = supersededUpdate.getOldValueManifest();
+    } else {
+      ChunkedValueManifestContainer valueManifestContainer = new ChunkedValueManifestContainer();
+      currValue = readStoredValueRecord(
+          partitionConsumptionState,
+          keyBytes,
+          readerValueSchemaId,
+          consumerRecord.getTopicPartition(),
+          valueManifestContainer);
+      oldValueManifest = valueManifestContainer.getManifest();
+    }
 
+    final GenericRecord updatedValue;
+    final long writeComputeStartTimeInNS = System.nanoTime();
     try {
-      long writeComputeStartTimeInNS = System.nanoTime();
-      // Leader nodes are the only ones which process UPDATES, so it's valid to always compress and not call
-      // 'maybeCompress'.
-      updatedValueBytes = compressor.get()
-          .compress(
-              storeWriteComputeHandler.applyWriteCompute(
-                  currValue,
-                  update.schemaId,
-                  readerValueSchemaId,
-                  update.updateValue,
-                  update.updateSchemaId,
-                  readerUpdateProtocolVersion));
-      hostLevelIngestionStats.recordWriteComputeUpdateLatency(LatencyUtils.getLatencyInMS(writeComputeStartTimeInNS));
+      updatedValue = storeWriteComputeHandler.applyWriteComputeToRecord(
+          currValue,
+          update.schemaId,
+          readerValueSchemaId,
+          update.updateValue,
+          update.updateSchemaId,
+          readerUpdateProtocolVersion);
     } catch (Exception e) {
       writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
       throw new RuntimeException(e);
     }
+    // Measured before the result possibly gets deferred, so the latency doesn't include processing the next records
+    final long computeLatencyInNS = System.nanoTime() - writeComputeStartTimeInNS;
 
-    if (updatedValueBytes == null) {
+    if (updatedValue == null) {
       if (currValue != null) {
         throw new IllegalStateException(
             "Detect a situation where the current value exists and the Write Compute request"
@@ -2858,50 +2878,107 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
         // No-op. The fact that currValue does not exist on the leader means currValue does not exist on the follower
         // either. So, there is no need to tell the follower replica to do anything.
       }
-    } else {
-      partitionConsumptionState.setTransientRecord(
-          kafkaClusterId,
-          consumerRecord.getOffset(),
+    } else if (leaderUpdateCoalescer != null && leaderUpdateCoalescer.canDefer()) {
+      // The next record is an UPDATE of the same key, which will be applied on top of this value before producing it
+      leaderUpdateCoalescer.defer(
           keyBytes,
-          updatedValueBytes,
-          0,
-          updatedValueBytes.length,
+          updatedValue,
           readerValueSchemaId,
-          null);
-
-      ByteBuffer updateValueWithSchemaId =
-          ByteUtils.prependIntHeaderToByteBuffer(ByteBuffer.wrap(updatedValueBytes), readerValueSchemaId, false);
-
-      Put updatedPut = new Put();
-      updatedPut.putValue = updateValueWithSchemaId;
-      updatedPut.schemaId = readerValueSchemaId;
-
-      LeaderProducedRecordContext leaderProducedRecordContext =
-          LeaderProducedRecordContext.newPutRecord(kafkaClusterId, consumerRecord.getOffset(), keyBytes, updatedPut);
-
-      BiConsumer<ChunkAwareCallback, LeaderMetadataWrapper> produceFunction =
-          (callback, leaderMetadataWrapper) -> veniceWriter.get()
-              .put(
-                  keyBytes,
-                  updatedValueBytes,
-                  readerValueSchemaId,
-                  callback,
-                  leaderMetadataWrapper,
-                  APP_DEFAULT_LOGICAL_TS,
-                  null,
-                  oldValueManifest,
-                  null);
-
-      produceToLocalKafka(
+          oldValueManifest,
+          computeLatencyInNS,
+          () -> produceUpdatedValue(
+              updatedValue,
+              readerValueSchemaId,
+              oldValueManifest,
+              keyBytes,
+              consumerRecord,
+              kafkaUrl,
+              kafkaClusterId,
+              partitionConsumptionState,
+              beforeProcessingRecordTimestampNs,
+              computeLatencyInNS));
+    } else {
+      produceUpdatedValue(
+          updatedValue,
+          readerValueSchemaId,
+          oldValueManifest,
+          keyBytes,
           consumerRecord,
-          partitionConsumptionState,
-          leaderProducedRecordContext,
-          produceFunction,
-          subPartition,
           kafkaUrl,
           kafkaClusterId,
-          beforeProcessingRecordTimestampNs);
+          partitionConsumptionState,
+          beforeProcessingRecordTimestampNs,
+          computeLatencyInNS);
+    }
+  }
+
+  private void produceUpdatedValue(
+      GenericRecord updatedValue,
+      int readerValueSchemaId,
+      ChunkedValueManifest oldValueManifest,
+      byte[] keyBytes,
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      String kafkaUrl,
+      int kafkaClusterId,
+      PartitionConsumptionState partitionConsumptionState,
+      long beforeProcessingRecordTimestampNs,
+      long computeLatencyInNS) {
+    final byte[] updatedValueBytes;
+    final long serializationStartTimeInNS = System.nanoTime();
+    try {
+      // Leader nodes are the only ones which process UPDATES, so it's valid to always compress and not call
+      // 'maybeCompress'.
+      updatedValueBytes =
+          compressor.get().compress(storeWriteComputeHandler.serializeValue(updatedValue, readerValueSchemaId));
+      hostLevelIngestionStats.recordWriteComputeUpdateLatency(
+          LatencyUtils.convertLatencyFromNSToMS(computeLatencyInNS + System.nanoTime() - serializationStartTimeInNS));
+    } catch (Exception e) {
+      writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
+      throw new RuntimeException(e);
     }
+
+    partitionConsumptionState.setTransientRecord(
+        kafkaClusterId,
+        consumerRecord.getOffset(),
+        keyBytes,
+        updatedValueBytes,
+        0,
+        updatedValueBytes.length,
+        readerValueSchemaId,
+        null);
+
+    ByteBuffer updateValueWithSchemaId =
+        ByteUtils.prependIntHeaderToByteBuffer(ByteBuffer.wrap(updatedValueBytes), readerValueSchemaId, false);
+
+    Put updatedPut = new Put();
+    updatedPut.putValue = updateValueWithSchemaId;
+    updatedPut.schemaId = readerValueSchemaId;
+
+    LeaderProducedRecordContext leaderProducedRecordContext =
+        LeaderProducedRecordContext.newPutRecord(kafkaClusterId, consumerRecord.getOffset(), keyBytes, updatedPut);
+
+    BiConsumer<ChunkAwareCallback, LeaderMetadataWrapper> produceFunction =
+        (callback, leaderMetadataWrapper) -> veniceWriter.get()
+            .put(
+                keyBytes,
+                updatedValueBytes,
+                readerValueSchemaId,
+                callback,
+                leaderMetadataWrapper,
+                APP_DEFAULT_LOGICAL_TS,
+                null,
+                oldValueManifest,
+                null);
+
+    produceToLocalKafka(
+        consumerRecord,
+        partitionConsumptionState,
+        leaderProducedRecordContext,
+        produceFunction,
+        partitionConsumptionState.getPartition(),
+        kafkaUrl,
+        kafkaClusterId,
+        beforeProcessingRecordTimestampNs);
   }
 
   /**
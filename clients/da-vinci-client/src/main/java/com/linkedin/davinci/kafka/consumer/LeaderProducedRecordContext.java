@@ -4,6 +4,7 @@ import static com.linkedin.venice.kafka.protocol.enums.MessageType.CONTROL_MESSA
 import static com.linkedin.venice.kafka.protocol.enums.MessageType.DELETE;
 import static com.linkedin.venice.kafka.protocol.enums.MessageType.PUT;
 
+import com.linkedin.davinci.stats.WritePathTrace;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
 import com.linkedin.venice.kafka.protocol.Delete;
 import com.linkedin.venice.kafka.protocol.Put;
@@ -72,6 +73,12 @@ public class LeaderProducedRecordContext {
    */
   private final CompletableFuture<Void> persistedToDBFuture;
 
+  /**
+   * Only set for the records sampled by {@link com.linkedin.davinci.stats.WritePathTracer}, and carried to the drainer
+   * thread the same way as this context.
+   */
+  private WritePathTrace writePathTrace;
+
   public static LeaderProducedRecordContext newControlMessageRecord(
       int consumedKafkaClusterId,
       long consumedOffset,
@@ -196,6 +203,14 @@ public class LeaderProducedRecordContext {
     return producedTimestampMs;
   }
 
+  public void setWritePathTrace(WritePathTrace writePathTrace) {
+    this.writePathTrace = writePathTrace;
+  }
+
+  public WritePathTrace getWritePathTrace() {
+    return writePathTrace;
+  }
+
   public CompletableFuture<Void> getPersistedToDBFuture() {
     return persistedToDBFuture;
   }
@@ -2,6 +2,7 @@ package com.linkedin.davinci.kafka.consumer;
 
 import static com.linkedin.davinci.kafka.consumer.LeaderFollowerStateType.LEADER;
 
+import com.linkedin.davinci.stats.WritePathTrace;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.Delete;
@@ -120,6 +121,10 @@ public class LeaderProducerCallback implements ChunkAwareCallback {
       long currentTimeForMetricsMs = System.currentTimeMillis();
       // record the timestamp when the writer has finished writing to the version topic
       leaderProducedRecordContext.setProducedTimestampMs(currentTimeForMetricsMs);
+      WritePathTrace writePathTrace = leaderProducedRecordContext.getWritePathTrace();
+      if (writePathTrace != null) {
+        writePathTrace.stamp(WritePathTrace.Stage.PRODUCE);
+      }
 
       // record just the time it took for this callback to be invoked before we do further processing here such as
       // queuing to drainer.
@@ -194,6 +199,8 @@ public class LeaderProducerCallback implements ChunkAwareCallback {
               manifestPut,
               leaderProducedRecordContext.getPersistedToDBFuture());
           producedRecordForManifest.setProducedOffset(produceResult.getOffset());
+          // The record is persisted once the manifest is, so it carries the trace
+          producedRecordForManifest.setWritePathTrace(writePathTrace);
           ingestionTask.produceToStoreBufferService(
               sourceConsumerRecord,
               producedRecordForManifest,
@@ -0,0 +1,195 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import java.util.Arrays;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * This class lets a leader coalesce the consecutive UPDATE messages of the same key within a poll batch. When the next
+ * record of the batch is an UPDATE of the same key, the result of the current UPDATE doesn't get produced to the
+ * version topic right away: it is deferred, and superseded by the result of the next UPDATE, which is computed on top
+ * of it. So a burst of UPDATEs of a key is applied on a single read of the current value, and produced as a single
+ * record carrying the upstream offset of the last UPDATE.
+ *
+ * Only the UPDATEs which are adjacent in the batch get coalesced. If the leader fails before producing the coalesced
+ * record, it resumes from an upstream offset which precedes all of them, since no other record got produced in between.
+ *
+ * The state is kept per thread, since the batches of a partition may be processed by several consumer threads, e.g.
+ * one per region for active/active stores, and each batch is processed by a single thread.
+ */
+class LeaderUpdateCoalescer {
+  private final ThreadLocal<State> threadLocalState = ThreadLocal.withInitial(State::new);
+
+  /**
+   * Called by the consumer thread before processing each record of a batch. Produces the deferred UPDATE, unless the
+   * record is the UPDATE which supersedes it.
+   *
+   * @param nextRecord the next record of the batch, or null if this is the last one.
+   */
+  void onRecord(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record,
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> nextRecord) {
+    State state = threadLocalState.get();
+    if (state.deferredUpdate != null && state.deferredUpdate.supersedingRecord != record) {
+      flush(state);
+    }
+    state.nextRecord = nextRecord != null && isUpdateOfSameKey(record, nextRecord) ? nextRecord : null;
+  }
+
+  /**
+   * @return whether the result of the UPDATE being processed by the current thread can be deferred, i.e. whether the
+   *         next record of the batch is an UPDATE of the same key.
+   */
+  boolean canDefer() {
+    return threadLocalState.get().nextRecord != null;
+  }
+
+  /**
+   * Defers the production of the result of the UPDATE being processed by the current thread, which must only be
+   * called if {@link #canDefer()}.
+   *
+   * @param computeLatencyInNS the time spent applying the UPDATE, to be accounted for if it gets superseded.
+   * @param produceFunction produces the result, if it doesn't get superseded.
+   */
+  void defer(
+      byte[] key,
+      GenericRecord valueRecord,
+      int valueSchemaId,
+      ChunkedValueManifest oldValueManifest,
+      long computeLatencyInNS,
+      Runnable produceFunction) {
+    State state = threadLocalState.get();
+    state.deferredUpdate = new DeferredUpdate(
+        key,
+        valueRecord,
+        valueSchemaId,
+        oldValueManifest,
+        computeLatencyInNS,
+        produceFunction,
+        state.nextRecord);
+  }
+
+  /**
+   * Removes the deferred UPDATE of the given key, which is about to be superseded by the record being processed by the
+   * current thread.
+   *
+   * @return the deferred UPDATE, or null if there is none for this key.
+   */
+  DeferredUpdate supersede(byte[] key) {
+    State state = threadLocalState.get();
+    DeferredUpdate deferredUpdate = state.deferredUpdate;
+    if (deferredUpdate == null || !Arrays.equals(deferredUpdate.key, key)) {
+      return null;
+    }
+    state.deferredUpdate = null;
+    return deferredUpdate;
+  }
+
+  /**
+   * Produces the deferred UPDATE of the current thread, if any. Called at the end of each batch.
+   */
+  void flush() {
+    flush(threadLocalState.get());
+  }
+
+  /**
+   * Drops the deferred UPDATE of the current thread, if any, after a failure. It gets consumed and applied again, since
+   * it wasn't produced.
+   */
+  void discard() {
+    State state = threadLocalState.get();
+    state.deferredUpdate = null;
+    state.nextRecord = null;
+  }
+
+  private static void flush(State state) {
+    DeferredUpdate deferredUpdate = state.deferredUpdate;
+    state.nextRecord = null;
+    if (deferredUpdate != null) {
+      state.deferredUpdate = null;
+      deferredUpdate.produce();
+    }
+  }
+
+  private static boolean isUpdateOfSameKey(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record,
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> nextRecord) {
+    return !record.getKey().isControlMessage() && !nextRecord.getKey().isControlMessage()
+        && record.getValue().messageType == MessageType.UPDATE.getValue()
+        && nextRecord.getValue().messageType == MessageType.UPDATE.getValue()
+        && Arrays.equals(record.getKey().getKey(), nextRecord.getKey().getKey());
+  }
+
+  /**
+   * The result of an UPDATE which hasn't been produced yet.
+   */
+  static class DeferredUpdate {
+    private final byte[] key;
+    private final GenericRecord valueRecord;
+    private final int valueSchemaId;
+    private final ChunkedValueManifest oldValueManifest;
+    private final long computeLatencyInNS;
+    private final Runnable produceFunction;
+    private final PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> supersedingRecord;
+
+    private DeferredUpdate(
+        byte[] key,
+        GenericRecord valueRecord,
+        int valueSchemaId,
+        ChunkedValueManifest oldValueManifest,
+        long computeLatencyInNS,
+        Runnable produceFunction,
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> supersedingRecord) {
+      this.key = key;
+      this.valueRecord = valueRecord;
+      this.valueSchemaId = valueSchemaId;
+      this.oldValueManifest = oldValueManifest;
+      this.computeLatencyInNS = computeLatencyInNS;
+      this.produceFunction = produceFunction;
+      this.supersedingRecord = supersedingRecord;
+    }
+
+    /**
+     * @return the updated value, or null if the caller keeps track of it elsewhere, e.g. in the transient record.
+     */
+    GenericRecord getValueRecord() {
+      return valueRecord;
+    }
+
+    int getValueSchemaId() {
+      return valueSchemaId;
+    }
+
+    /**
+     * @return the manifest of the value which was stored before the coalesced UPDATEs, whose chunks must be cleaned up
+     *         by the record which gets produced.
+     */
+    ChunkedValueManifest getOldValueManifest() {
+      return oldValueManifest;
+    }
+
+    /**
+     * @return the time spent applying the UPDATE, which doesn't include serializing its result since it's deferred.
+     */
+    long getComputeLatencyInNS() {
+      return computeLatencyInNS;
+    }
+
+    void produce() {
+      produceFunction.run();
+    }
+  }
+
+  private static class State {
+    /**
+     * The next record of the batch, if it's an UPDATE of the same key as the record being processed.
+     */
+    private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> nextRecord;
+    private DeferredUpdate deferredUpdate;
+  }
+}
@@ -633,6 +633,14 @@ public class PartitionConsumptionState {
     public int getValueSchemaId() {
       return valueSchemaId;
     }
+
+    public int getKafkaClusterId() {
+      return kafkaClusterId;
+    }
+
+    public long getKafkaConsumedOffset() {
+      return kafkaConsumedOffset;
+    }
   }
 
   public void updateLeaderConsumedUpstreamRTOffset(String kafkaUrl, long offset) {
@@ -35,12 +35,18 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.getDrainerPoolSizeSortedInput(),
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
-            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled()),
+            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+            serverConfig.getStoreWriterDrainerAssignmentStrategy(),
+            serverConfig.getStoreWriterDrainerMigrationIntervalMs(),
+            serverConfig.getStoreWriterDrainerLoadImbalanceRatio()),
         new StoreBufferService(
             serverConfig.getDrainerPoolSizeUnsortedInput(),
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
-            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled()));
+            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+            serverConfig.getStoreWriterDrainerAssignmentStrategy(),
+            serverConfig.getStoreWriterDrainerMigrationIntervalMs(),
+            serverConfig.getStoreWriterDrainerLoadImbalanceRatio()));
     LOGGER.info(
         "Created separated store buffer service with {} sorted drainers and {} unsorted drainers queues with capacity of {}",
         sortedPoolSize,
@@ -144,6 +150,24 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
     return unsortedServiceDelegate.getDrainerQueueMemoryUsage(index - sortedPoolSize);
   }
 
+  public int getDrainerAssignedPartitionCount(int index) {
+    if (index < sortedPoolSize) {
+      return sortedServiceDelegate.getDrainerAssignedPartitionCount(index);
+    }
+    return unsortedServiceDelegate.getDrainerAssignedPartitionCount(index - sortedPoolSize);
+  }
+
+  public double getDrainerProcessingTimeNsPerByte(int index) {
+    if (index < sortedPoolSize) {
+      return sortedServiceDelegate.getDrainerProcessingTimeNsPerByte(index);
+    }
+    return unsortedServiceDelegate.getDrainerProcessingTimeNsPerByte(index - sortedPoolSize);
+  }
+
+  public long getPartitionMigrationCount() {
+    return sortedServiceDelegate.getPartitionMigrationCount() + unsortedServiceDelegate.getPartitionMigrationCount();
+  }
+
   public long getTotalMemoryUsage() {
     return unsortedServiceDelegate.getTotalMemoryUsage() + sortedServiceDelegate.getTotalMemoryUsage();
   }
@@ -4,6 +4,8 @@ import static java.util.Collections.reverseOrder;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
 
+import com.linkedin.davinci.stats.WritePathTrace;
+import com.linkedin.davinci.stats.WritePathTracer;
 import com.linkedin.venice.common.Measurable;
 import com.linkedin.venice.exceptions.VeniceChecksumException;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -12,10 +14,12 @@ import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.protocol.Update;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PartitionUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +32,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -41,7 +47,7 @@ import org.apache.logging.log4j.Logger;
  * 1. {@link StoreBufferService} will be maintaining a fixed number (configurable) of {@link StoreBufferDrainer} pool;
  * 2. For each {@link StoreBufferDrainer}, there is a corresponding {@link BlockingQueue}, which will buffer {@link QueueNode};
  * 3. All the records belonging to the same topic+partition will be allocated to the same drainer thread, otherwise DIV will fail;
- * 4. The logic to assign topic+partition to drainer, please check {@link #getDrainerIndexForConsumerRecord(PubSubMessage, int)};
+ * 4. The logic to assign topic+partition to drainer, please check {@link DrainerAssignmentStrategy};
  * 5. There is still a thread executing {@link StoreIngestionTask} for each topic, which will handle admin actions, such
  * as subscribe, unsubscribe, kill and so on, and also poll consumer records from Kafka and put them into {@link #blockingQueueArr}
  * maintained by {@link StoreBufferService};
@@ -51,6 +57,26 @@ import org.apache.logging.log4j.Logger;
  * thread pool to speed up polling from local Kafka brokers.
  */
 public class StoreBufferService extends AbstractStoreBufferService {
+  /**
+   * How topic partitions are assigned to the drainers.
+   */
+  public enum DrainerAssignmentStrategy {
+    /**
+     * Each topic partition is statically assigned to a drainer by hashing the topic and the partition, please check
+     * {@link #getDrainerIndexForConsumerRecord(PubSubMessage, int)}.
+     */
+    TOPIC_PARTITION_HASH_ASSIGNMENT_STRATEGY,
+    /**
+     * Each topic partition is assigned to the least loaded drainer when it gets queued for the first time, and it gets
+     * moved to the least loaded drainer when its current drainer is much more loaded. The load of a drainer is the
+     * estimated time to process its backlog: the buffered bytes times the recent processing time per byte.
+     *
+     * A topic partition is only moved when none of its records is buffered or being processed, so the records of a
+     * topic partition are still processed in order, one at a time.
+     */
+    ADAPTIVE_LOAD_ASSIGNMENT_STRATEGY
+  }
+
   /**
    * Queue node type in {@link BlockingQueue} of each drainer thread.
    */
@@ -63,6 +89,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final StoreIngestionTask ingestionTask;
     private final String kafkaUrl;
     private final long beforeProcessingRecordTimestampNs;
+    /**
+     * Only set with {@link DrainerAssignmentStrategy#ADAPTIVE_LOAD_ASSIGNMENT_STRATEGY}.
+     */
+    private PartitionAssignment partitionAssignment;
+    /**
+     * Only set for the records sampled by {@link WritePathTracer}.
+     */
+    private WritePathTrace writePathTrace;
 
     public QueueNode(
         PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -99,6 +133,22 @@ public class StoreBufferService extends AbstractStoreBufferService {
       return this.beforeProcessingRecordTimestampNs;
     }
 
+    public PartitionAssignment getPartitionAssignment() {
+      return this.partitionAssignment;
+    }
+
+    public void setPartitionAssignment(PartitionAssignment partitionAssignment) {
+      this.partitionAssignment = partitionAssignment;
+    }
+
+    public WritePathTrace getWritePathTrace() {
+      return this.writePathTrace;
+    }
+
+    public void setWritePathTrace(WritePathTrace writePathTrace) {
+      this.writePathTrace = writePathTrace;
+    }
+
     /**
      * This function is being used by {@link BlockingQueue#contains(Object)}.
      * The goal is to find out whether the buffered queue still has any records belonging to the specified topic+partition.
@@ -218,6 +268,60 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
   }
 
+  /**
+   * The drainer of a topic partition with {@link DrainerAssignmentStrategy#ADAPTIVE_LOAD_ASSIGNMENT_STRATEGY}, along
+   * with the number of its records which are buffered or being processed. The drainer can only be changed while holding
+   * the lock of this object and when there is no such record, which stays true while holding the lock, since records
+   * only become pending while holding it too.
+   */
+  private static class PartitionAssignment {
+    private final AtomicInteger pendingRecordCount = new AtomicInteger();
+    private int drainerIndex;
+    private long lastEvaluationTimeMs;
+    /**
+     * Set when the assignment gets removed from {@link #partitionAssignments}, so that the producers which looked it up
+     * concurrently get the next assignment instead.
+     */
+    private boolean released = false;
+
+    PartitionAssignment(int drainerIndex, long creationTimeMs) {
+      this.drainerIndex = drainerIndex;
+      this.lastEvaluationTimeMs = creationTimeMs;
+    }
+
+    synchronized int getDrainerIndex() {
+      return drainerIndex;
+    }
+
+    void onRecordProcessed() {
+      pendingRecordCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Load of a drainer, the processing time is only updated by the drainer thread.
+   */
+  private static class DrainerLoad {
+    /**
+     * Weight of the latest record in the moving average of the processing time per byte.
+     */
+    private static final double PROCESSING_TIME_SMOOTHING_FACTOR = 0.01;
+    /**
+     * Processing time per byte assumed before any record is processed, in the same order of magnitude as the one of
+     * typical writes to the storage engine.
+     */
+    private static final double INITIAL_PROCESSING_TIME_NS_PER_BYTE = 1.0;
+
+    private final AtomicInteger assignedPartitionCount = new AtomicInteger();
+    private volatile double processingTimeNsPerByte = INITIAL_PROCESSING_TIME_NS_PER_BYTE;
+
+    void recordProcessing(int sizeInBytes, long processingTimeNs) {
+      double recordProcessingTimeNsPerByte = (double) processingTimeNs / Math.max(sizeInBytes, 1);
+      processingTimeNsPerByte = processingTimeNsPerByte * (1 - PROCESSING_TIME_SMOOTHING_FACTOR)
+          + recordProcessingTimeNsPerByte * PROCESSING_TIME_SMOOTHING_FACTOR;
+    }
+  }
+
   /**
    * Worker thread, which will invoke {@link StoreIngestionTask#processConsumerRecord}
    * to process each {@link PubSubMessage} buffered in {@link BlockingQueue}.
@@ -227,11 +331,13 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final BlockingQueue<QueueNode> blockingQueue;
     private final AtomicBoolean isRunning = new AtomicBoolean(true);
     private final int drainerIndex;
+    private final DrainerLoad drainerLoad;
     private final ConcurrentMap<PubSubTopicPartition, Long> topicToTimeSpent = new ConcurrentHashMap<>();
 
-    public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex) {
+    public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex, DrainerLoad drainerLoad) {
       this.blockingQueue = blockingQueue;
       this.drainerIndex = drainerIndex;
+      this.drainerLoad = drainerLoad;
     }
 
     public void stop() {
@@ -256,6 +362,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
           recordPersistedFuture = node.getQueuedRecordPersistedFuture();
 
           long startTime = System.currentTimeMillis();
+          long startTimeNs = System.nanoTime();
 
           int subPartition = PartitionUtils
               .getSubPartition(consumerRecord.getTopicPartition(), ingestionTask.getAmplificationFactor());
@@ -266,7 +373,8 @@ public class StoreBufferService extends AbstractStoreBufferService {
               leaderProducedRecordContext,
               subPartition,
               node.getKafkaUrl(),
-              node.getBeforeProcessingRecordTimestampNs());
+              node.getBeforeProcessingRecordTimestampNs(),
+              node.getWritePathTrace());
 
           /**
            * Complete {@link QueueNode#queuedRecordPersistedFuture} since the processing for the current record is done.
@@ -275,6 +383,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
             recordPersistedFuture.complete(null);
           }
 
+          drainerLoad.recordProcessing(node.getSize(), System.nanoTime() - startTimeNs);
           topicToTimeSpent.compute(
               consumerRecord.getTopicPartition(),
               (K, V) -> (V == null ? 0 : V) + System.currentTimeMillis() - startTime);
@@ -326,6 +435,13 @@ public class StoreBufferService extends AbstractStoreBufferService {
           } else {
             break;
           }
+        } finally {
+          if (node != null) {
+            if (node.getPartitionAssignment() != null) {
+              node.getPartitionAssignment().onRecordProcessed();
+            }
+            node = null;
+          }
         }
       }
       LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
@@ -338,21 +454,53 @@ public class StoreBufferService extends AbstractStoreBufferService {
   private ExecutorService executorService;
   private final List<StoreBufferDrainer> drainerList = new ArrayList<>();
   private final long bufferCapacityPerDrainer;
+  private final long bufferNotifyDelta;
 
   private final RecordHandler leaderRecordHandler;
 
+  private final DrainerAssignmentStrategy drainerAssignmentStrategy;
+  private final long drainerMigrationIntervalMs;
+  private final double drainerLoadImbalanceRatio;
+  private final List<DrainerLoad> drainerLoads = new ArrayList<>();
+  private final Map<PubSubTopicPartition, PartitionAssignment> partitionAssignments =
+      new VeniceConcurrentHashMap<>();
+  private final AtomicLong partitionMigrationCount = new AtomicLong();
+
   public StoreBufferService(
       int drainerNum,
       long bufferCapacityPerDrainer,
       long bufferNotifyDelta,
       boolean queueLeaderWrites) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        DrainerAssignmentStrategy.TOPIC_PARTITION_HASH_ASSIGNMENT_STRATEGY,
+        0,
+        0);
+  }
+
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      DrainerAssignmentStrategy drainerAssignmentStrategy,
+      long drainerMigrationIntervalMs,
+      double drainerLoadImbalanceRatio) {
     this.drainerNum = drainerNum;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
+    this.bufferNotifyDelta = bufferNotifyDelta;
     for (int cur = 0; cur < drainerNum; ++cur) {
       this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
+      this.drainerLoads.add(new DrainerLoad());
     }
-    this.leaderRecordHandler = queueLeaderWrites ? this::queueLeaderRecord : StoreBufferService::processRecord;
+    this.leaderRecordHandler = queueLeaderWrites ? this::queueLeaderRecord : StoreBufferService::processLeaderRecord;
+    this.drainerAssignmentStrategy = drainerAssignmentStrategy;
+    this.drainerMigrationIntervalMs = drainerMigrationIntervalMs;
+    this.drainerLoadImbalanceRatio = drainerLoadImbalanceRatio;
   }
 
   protected MemoryBoundBlockingQueue<QueueNode> getDrainerForConsumerRecord(
@@ -374,6 +522,120 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return Math.abs((topicHash + subPartition) % this.drainerNum);
   }
 
+  private void queueNode(QueueNode node, int subPartition) throws InterruptedException {
+    if (drainerAssignmentStrategy != DrainerAssignmentStrategy.ADAPTIVE_LOAD_ASSIGNMENT_STRATEGY) {
+      getDrainerForConsumerRecord(node.getConsumerRecord(), subPartition).put(node);
+      return;
+    }
+    PubSubTopicPartition topicPartition = node.getConsumerRecord().getTopicPartition();
+    if (topicPartition.getPartitionNumber() != subPartition) {
+      topicPartition = new PubSubTopicPartitionImpl(topicPartition.getPubSubTopic(), subPartition);
+    }
+    PartitionAssignment partitionAssignment = acquirePartitionAssignment(topicPartition);
+    node.setPartitionAssignment(partitionAssignment);
+    try {
+      blockingQueueArr.get(partitionAssignment.getDrainerIndex()).put(node);
+    } catch (InterruptedException e) {
+      partitionAssignment.onRecordProcessed();
+      throw e;
+    }
+  }
+
+  /**
+   * @return the assignment of the topic partition, with one more pending record. This is the safe point to move the
+   *         topic partition to another drainer, since none of its records is pending otherwise.
+   */
+  private PartitionAssignment acquirePartitionAssignment(PubSubTopicPartition topicPartition) {
+    while (true) {
+      PartitionAssignment partitionAssignment = partitionAssignments.computeIfAbsent(topicPartition, k -> {
+        int drainerIndex = getLeastLoadedDrainerIndex();
+        drainerLoads.get(drainerIndex).assignedPartitionCount.incrementAndGet();
+        return new PartitionAssignment(drainerIndex, System.currentTimeMillis());
+      });
+      synchronized (partitionAssignment) {
+        if (partitionAssignment.released) {
+          continue;
+        }
+        if (partitionAssignment.pendingRecordCount.get() == 0) {
+          maybeMigratePartition(topicPartition, partitionAssignment);
+        }
+        partitionAssignment.pendingRecordCount.incrementAndGet();
+        return partitionAssignment;
+      }
+    }
+  }
+
+  /**
+   * Moves the topic partition to the least loaded drainer when its drainer has a significant backlog, which is
+   * {@link #drainerLoadImbalanceRatio} times bigger than the one of the least loaded drainer.
+   * Must be called while holding the lock of the assignment, when it doesn't have any pending record.
+   */
+  private void maybeMigratePartition(PubSubTopicPartition topicPartition, PartitionAssignment partitionAssignment) {
+    long currentTimeMs = System.currentTimeMillis();
+    if (currentTimeMs - partitionAssignment.lastEvaluationTimeMs < drainerMigrationIntervalMs) {
+      return;
+    }
+    partitionAssignment.lastEvaluationTimeMs = currentTimeMs;
+    int currentDrainerIndex = partitionAssignment.drainerIndex;
+    if (blockingQueueArr.get(currentDrainerIndex).getMemoryUsage() < bufferNotifyDelta) {
+      return;
+    }
+    int targetDrainerIndex = getLeastLoadedDrainerIndex();
+    if (targetDrainerIndex == currentDrainerIndex
+        || getDrainerLoad(currentDrainerIndex) <= drainerLoadImbalanceRatio * getDrainerLoad(targetDrainerIndex)) {
+      return;
+    }
+    drainerLoads.get(currentDrainerIndex).assignedPartitionCount.decrementAndGet();
+    drainerLoads.get(targetDrainerIndex).assignedPartitionCount.incrementAndGet();
+    partitionAssignment.drainerIndex = targetDrainerIndex;
+    partitionMigrationCount.incrementAndGet();
+    LOGGER.debug(
+        "Moved {} from drainer {} to less loaded drainer {}",
+        topicPartition,
+        currentDrainerIndex,
+        targetDrainerIndex);
+  }
+
+  /**
+   * Removes the assignment once the topic partition doesn't have any pending record, so that the next record gets
+   * assigned to the least loaded drainer, and the assignments of unsubscribed topic partitions don't accumulate.
+   */
+  private void releasePartitionAssignment(
+      PubSubTopicPartition topicPartition,
+      PartitionAssignment partitionAssignment) {
+    synchronized (partitionAssignment) {
+      if (partitionAssignment.released || partitionAssignment.pendingRecordCount.get() > 0) {
+        return;
+      }
+      partitionAssignment.released = true;
+      partitionAssignments.remove(topicPartition, partitionAssignment);
+      drainerLoads.get(partitionAssignment.drainerIndex).assignedPartitionCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * @return the estimated time in nanoseconds to process the records buffered for the drainer.
+   */
+  private double getDrainerLoad(int drainerIndex) {
+    return blockingQueueArr.get(drainerIndex).getMemoryUsage() * drainerLoads.get(drainerIndex).processingTimeNsPerByte;
+  }
+
+  private int getLeastLoadedDrainerIndex() {
+    int leastLoadedDrainerIndex = 0;
+    double leastLoad = Double.MAX_VALUE;
+    int leastAssignedPartitionCount = Integer.MAX_VALUE;
+    for (int index = 0; index < drainerNum; index++) {
+      double load = getDrainerLoad(index);
+      int assignedPartitionCount = drainerLoads.get(index).assignedPartitionCount.get();
+      if (load < leastLoad || (load == leastLoad && assignedPartitionCount < leastAssignedPartitionCount)) {
+        leastLoadedDrainerIndex = index;
+        leastLoad = load;
+        leastAssignedPartitionCount = assignedPartitionCount;
+      }
+    }
+    return leastLoadedDrainerIndex;
+  }
+
   @Override
   public void putConsumerRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -389,13 +651,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
        * end-to-end completeness when producing to local Kafka is needed.
        */
       CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      getDrainerForConsumerRecord(consumerRecord, subPartition).put(
-          new FollowerQueueNode(
-              consumerRecord,
-              ingestionTask,
-              kafkaUrl,
-              beforeProcessingRecordTimestampNs,
-              recordFuture));
+      QueueNode node = new FollowerQueueNode(
+          consumerRecord,
+          ingestionTask,
+          kafkaUrl,
+          beforeProcessingRecordTimestampNs,
+          recordFuture);
+      node.setWritePathTrace(ingestionTask.detachWritePathTrace(WritePathTrace.Stage.CONSUMER_PROCESSING));
+      queueNode(node, subPartition);
 
       // Setup the last queued record's future
       PartitionConsumptionState partitionConsumptionState =
@@ -431,28 +694,61 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int subPartition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    getDrainerForConsumerRecord(consumerRecord, subPartition).put(
-        new LeaderQueueNode(
-            consumerRecord,
-            ingestionTask,
-            kafkaUrl,
-            beforeProcessingRecordTimestamp,
-            leaderProducedRecordContext));
+    QueueNode node = new LeaderQueueNode(
+        consumerRecord,
+        ingestionTask,
+        kafkaUrl,
+        beforeProcessingRecordTimestamp,
+        leaderProducedRecordContext);
+    node.setWritePathTrace(leaderProducedRecordContext.getWritePathTrace());
+    queueNode(node, subPartition);
   }
 
-  private static void processRecord(
+  private static void processLeaderRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
       StoreIngestionTask ingestionTask,
       LeaderProducedRecordContext leaderProducedRecordContext,
       int subPartition,
       String kafkaUrl,
-      long beforeProcessingRecordTimestampNs) throws InterruptedException {
-    ingestionTask.processConsumerRecord(
+      long beforeProcessingRecordTimestamp) throws InterruptedException {
+    processRecord(
         consumerRecord,
+        ingestionTask,
         leaderProducedRecordContext,
         subPartition,
         kafkaUrl,
-        beforeProcessingRecordTimestampNs);
+        beforeProcessingRecordTimestamp,
+        leaderProducedRecordContext.getWritePathTrace());
+  }
+
+  private static void processRecord(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      StoreIngestionTask ingestionTask,
+      LeaderProducedRecordContext leaderProducedRecordContext,
+      int subPartition,
+      String kafkaUrl,
+      long beforeProcessingRecordTimestampNs,
+      WritePathTrace writePathTrace) throws InterruptedException {
+    if (writePathTrace != null) {
+      writePathTrace.stamp(WritePathTrace.Stage.QUEUE);
+      // Picked up by the write to the storage engine
+      WritePathTracer.setCurrentTrace(writePathTrace);
+    }
+    try {
+      ingestionTask.processConsumerRecord(
+          consumerRecord,
+          leaderProducedRecordContext,
+          subPartition,
+          kafkaUrl,
+          beforeProcessingRecordTimestampNs);
+    } finally {
+      if (writePathTrace != null) {
+        WritePathTracer.clearCurrentTrace();
+      }
+    }
+    if (writePathTrace != null) {
+      writePathTrace.finish();
+    }
 
     // complete the leaderProducedRecordContext future as processing for this leaderProducedRecordContext is done here.
     if (leaderProducedRecordContext != null) {
@@ -477,6 +773,10 @@ public class StoreBufferService extends AbstractStoreBufferService {
       PubSubTopicPartition topicPartition,
       int retryNum,
       int sleepIntervalInMS) throws InterruptedException {
+    if (drainerAssignmentStrategy == DrainerAssignmentStrategy.ADAPTIVE_LOAD_ASSIGNMENT_STRATEGY) {
+      drainPendingRecordsFromTopicPartition(topicPartition, retryNum, sleepIntervalInMS);
+      return;
+    }
     PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> fakeRecord = new FakePubSubMessage(topicPartition);
     int workerIndex = getDrainerIndexForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber());
     BlockingQueue<QueueNode> blockingQueue = blockingQueueArr.get(workerIndex);
@@ -506,13 +806,53 @@ public class StoreBufferService extends AbstractStoreBufferService {
     throw new VeniceException(errorMessage);
   }
 
+  /**
+   * Waits until the records of the topic partition are processed with
+   * {@link DrainerAssignmentStrategy#ADAPTIVE_LOAD_ASSIGNMENT_STRATEGY}, where the assignment tracks how many of them
+   * are pending, including the one being processed.
+   */
+  private void drainPendingRecordsFromTopicPartition(
+      PubSubTopicPartition topicPartition,
+      int retryNum,
+      int sleepIntervalInMS) throws InterruptedException {
+    PartitionAssignment partitionAssignment = partitionAssignments.get(topicPartition);
+    if (partitionAssignment == null) {
+      LOGGER.info("The store buffer service doesn't contain any record for: {}", topicPartition);
+      return;
+    }
+    int workerIndex = partitionAssignment.getDrainerIndex();
+    if (!drainerList.get(workerIndex).isRunning.get()) {
+      throw new VeniceException(
+          "Drainer thread " + workerIndex + " has stopped running, cannot drain the topic "
+              + topicPartition.getPubSubTopic().getName());
+    }
+
+    int cur = 0;
+    while (cur++ < retryNum) {
+      if (partitionAssignment.pendingRecordCount.get() == 0) {
+        LOGGER.info(
+            "The store writer thread: {} doesn't have any pending record for: {}",
+            partitionAssignment.getDrainerIndex(),
+            topicPartition);
+        releasePartitionAssignment(topicPartition, partitionAssignment);
+        return;
+      }
+      Thread.sleep(sleepIntervalInMS);
+    }
+    String errorMessage = "There are still some pending records in store writer thread: "
+        + partitionAssignment.getDrainerIndex() + " for topic: " + topicPartition.getPubSubTopic().getName()
+        + " partition after retry for " + retryNum + " times";
+    LOGGER.error(errorMessage);
+    throw new VeniceException(errorMessage);
+  }
+
   @Override
   public boolean startInner() {
     this.executorService = Executors.newFixedThreadPool(drainerNum, new DaemonThreadFactory("Store-writer"));
 
     // Submit all the buffer drainers
     for (int cur = 0; cur < drainerNum; ++cur) {
-      StoreBufferDrainer drainer = new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur);
+      StoreBufferDrainer drainer = new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur, drainerLoads.get(cur));
       this.executorService.submit(drainer);
       drainerList.add(drainer);
     }
@@ -540,6 +880,21 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return blockingQueueArr.get(index).getMemoryUsage();
   }
 
+  @Override
+  public int getDrainerAssignedPartitionCount(int index) {
+    return drainerLoads.get(index).assignedPartitionCount.get();
+  }
+
+  @Override
+  public double getDrainerProcessingTimeNsPerByte(int index) {
+    return drainerLoads.get(index).processingTimeNsPerByte;
+  }
+
+  @Override
+  public long getPartitionMigrationCount() {
+    return partitionMigrationCount.get();
+  }
+
   @Override
   public long getTotalMemoryUsage() {
     long totalUsage = 0;
@@ -18,6 +18,8 @@ import com.linkedin.davinci.notifier.VeniceNotifier;
 import com.linkedin.davinci.stats.AggVersionedDIVStats;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
 import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import com.linkedin.davinci.stats.WritePathTrace;
+import com.linkedin.davinci.stats.WritePathTracer;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
@@ -79,6 +81,7 @@ import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.serializer.AvroGenericDeserializer;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.stats.StatsErrorCode;
+import com.linkedin.venice.store.rocksdb.PartitionFileStagingArea;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.ComplementSet;
@@ -103,6 +106,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -201,6 +205,14 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
   protected final HostLevelIngestionStats hostLevelIngestionStats;
   protected final AggVersionedDIVStats versionedDIVStats;
   protected final AggVersionedIngestionStats versionedIngestionStats;
+  /**
+   * Null when the write path tracing is disabled.
+   */
+  private final WritePathTracer writePathTracer;
+  /**
+   * Null when the leader update coalescing is disabled, or the store doesn't accept UPDATEs.
+   */
+  protected final LeaderUpdateCoalescer leaderUpdateCoalescer;
   protected final BooleanSupplier isCurrentVersion;
   protected final Optional<HybridStoreConfig> hybridStoreConfig;
   protected final Consumer<DataValidationException> divErrorMetricCallback;
@@ -354,6 +366,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     this.hostLevelIngestionStats = builder.getIngestionStats().getStoreStats(storeName);
     this.versionedDIVStats = builder.getVersionedDIVStats();
     this.versionedIngestionStats = builder.getVersionedStorageIngestionStats();
+    WritePathTracer writePathTracer = builder.getWritePathTracer();
+    this.writePathTracer = writePathTracer != null && writePathTracer.isEnabled() ? writePathTracer : null;
     this.isRunning = new AtomicBoolean(true);
     this.emitMetrics = new AtomicBoolean(true);
     this.readOnlyForBatchOnlyStoreEnabled = storeConfig.isReadOnlyForBatchOnlyStoreEnabled();
@@ -379,6 +393,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     this.startReportingReadyToServeTimestamp = builder.getStartReportingReadyToServeTimestamp();
 
     this.isWriteComputationEnabled = store.isWriteComputationEnabled();
+    this.leaderUpdateCoalescer = isWriteComputationEnabled && serverConfig.isLeaderUpdateCoalescingEnabled()
+        ? new LeaderUpdateCoalescer()
+        : null;
 
     this.partitionStateSerializer = builder.getPartitionStateSerializer();
 
@@ -983,6 +1000,36 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Stamps the end of the given stage in the trace of the record being processed by the current thread, if the record
+   * is sampled by the {@link WritePathTracer}.
+   */
+  protected void stampWritePathTrace(WritePathTrace.Stage stage) {
+    if (writePathTracer != null) {
+      WritePathTrace trace = WritePathTracer.getCurrentTrace();
+      if (trace != null) {
+        trace.stamp(stage);
+      }
+    }
+  }
+
+  /**
+   * Stamps the end of the given stage in the trace of the record being processed by the current thread, and detaches it
+   * from the thread, since the record is being handed over to another one.
+   *
+   * @return the trace of the record, or null if it isn't sampled by the {@link WritePathTracer}.
+   */
+  WritePathTrace detachWritePathTrace(WritePathTrace.Stage stage) {
+    if (writePathTracer == null) {
+      return null;
+    }
+    WritePathTrace trace = WritePathTracer.detachCurrentTrace();
+    if (trace != null) {
+      trace.stamp(stage);
+    }
+    return trace;
+  }
+
   /**
    * This function is in charge of producing the consumer records to the writer buffers maintained by {@link StoreBufferService}.
    *
@@ -1002,7 +1049,20 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     int subPartition = PartitionUtils.getSubPartition(topicPartition, amplificationFactor);
     boolean metricsEnabled = emitMetrics.get();
     long currentTimeForMetricsMs = System.currentTimeMillis();
-    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+    if (leaderUpdateCoalescer != null) {
+      // A deferred UPDATE can only be left over by a batch which failed, in which case it will be consumed again
+      leaderUpdateCoalescer.discard();
+    }
+    Iterator<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> recordIterator = records.iterator();
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> nextRecord =
+        recordIterator.hasNext() ? recordIterator.next() : null;
+    while (nextRecord != null) {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record = nextRecord;
+      nextRecord = recordIterator.hasNext() ? recordIterator.next() : null;
+      if (leaderUpdateCoalescer != null) {
+        // Needs to go first, so that a deferred UPDATE gets produced before any record which doesn't supersede it
+        leaderUpdateCoalescer.onRecord(record, nextRecord);
+      }
       long beforeProcessingRecordTimestampNs = System.nanoTime();
       if (!shouldProcessRecord(record, subPartition)) {
         PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(subPartition);
@@ -1011,6 +1071,22 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         }
         continue;
       }
+      if (writePathTracer != null) {
+        /**
+         * The trace is picked up by the stages below, until the record is handed over to another thread. It is set
+         * for every record, even when it is null, so that a trace left over by a failure doesn't get picked up.
+         */
+        WritePathTracer.setCurrentTrace(
+            record.getKey().isControlMessage()
+                ? null
+                : writePathTracer.maybeStartTrace(
+                    kafkaVersionTopic,
+                    storeName,
+                    subPartition,
+                    record.getOffset(),
+                    record.getPubSubMessageTime(),
+                    beforeProcessingRecordTimestampNs));
+      }
 
       if (record.getKey().isControlMessage()) {
         ControlMessage controlMessage = (ControlMessage) record.getValue().payloadUnion;
@@ -1069,6 +1145,12 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         partitionConsumptionState.setLatestMessageConsumptionTimestampInMs(currentTimeForMetricsMs);
       }
     }
+    if (leaderUpdateCoalescer != null) {
+      leaderUpdateCoalescer.flush();
+    }
+    if (writePathTracer != null) {
+      WritePathTracer.clearCurrentTrace();
+    }
 
     /**
      * Even if the records list is empty, we still need to check quota to potentially resume partition
@@ -2405,6 +2487,15 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
      */
     partitionConsumptionState.setDeferredWrite(storagePartitionConfig.isDeferredWrite());
 
+    /**
+     * The records of the pushes with pre-built partition files don't go through the version topic, so they are
+     * ingested from the staging area before the batch write ends.
+     */
+    Optional<PartitionFileStagingArea> stagingArea = getPrebuiltPartitionFileStagingArea(controlMessage);
+    if (stagingArea.isPresent()) {
+      storageEngine.ingestPrebuiltPartitionFiles(partition, stagingArea.get());
+    }
+
     /**
      * Indicate the batch push is done, and the internal storage engine needs to do some cleanup.
      */
@@ -2438,10 +2529,34 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * @return the staging area of the pre-built partition files, if the given End of Push points to one.
+   */
+  private Optional<PartitionFileStagingArea> getPrebuiltPartitionFileStagingArea(ControlMessage endOfPush) {
+    if (endOfPush.debugInfo == null) {
+      return Optional.empty();
+    }
+    for (Map.Entry<CharSequence, CharSequence> entry: endOfPush.debugInfo.entrySet()) {
+      if (PartitionFileStagingArea.STAGING_AREA_URI_KEY.equals(entry.getKey().toString())) {
+        if (!serverConfig.isPrebuiltPartitionFileIngestionEnabled()) {
+          throw new VeniceException(
+              "Received End of Push with pre-built partition files for store version: " + kafkaVersionTopic
+                  + ", but the pre-built partition file ingestion is disabled");
+        }
+        return Optional.of(PartitionFileStagingArea.fromUri(entry.getValue().toString()));
+      }
+    }
+    return Optional.empty();
+  }
+
   protected void processStartOfIncrementalPush(
       ControlMessage startOfIncrementalPush,
       PartitionConsumptionState partitionConsumptionState) {
     CharSequence startVersion = ((StartOfIncrementalPush) startOfIncrementalPush.controlMessageUnion).version;
+    int partition = partitionConsumptionState.getPartition();
+    executeStorageEngineRunnable(
+        partition,
+        () -> storageEngine.beginIncrementalPushSstIngestion(partition, startVersion.toString()));
     statusReportAdapter.reportStartOfIncrementalPushReceived(partitionConsumptionState, startVersion.toString());
   }
 
@@ -2450,6 +2565,10 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       PartitionConsumptionState partitionConsumptionState) {
     // TODO: it is possible that we could turn incremental store to be read-only when incremental push is done
     CharSequence endVersion = ((EndOfIncrementalPush) endOfIncrementalPush.controlMessageUnion).version;
+    int partition = partitionConsumptionState.getPartition();
+    executeStorageEngineRunnable(
+        partition,
+        () -> storageEngine.endIncrementalPushSstIngestion(partition, endVersion.toString()));
     // Reset incremental push version
     statusReportAdapter.reportEndOfIncrementalPushReceived(partitionConsumptionState, endVersion.toString());
   }
@@ -2826,7 +2945,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     boolean metricsEnabled = emitMetrics.get();
     boolean traceEnabled = LOGGER.isTraceEnabled();
     long putStartTimeNs = (metricsEnabled || traceEnabled) ? System.nanoTime() : 0;
+    stampWritePathTrace(WritePathTrace.Stage.DRAINER);
     putInStorageEngine(partition, keyBytes, put);
+    stampWritePathTrace(WritePathTrace.Stage.STORAGE_WRITE);
     if (cacheBackend.isPresent()) {
       if (cacheBackend.get().getStorageEngine(kafkaVersionTopic) != null) {
         cacheBackend.get().getStorageEngine(kafkaVersionTopic).put(partition, keyBytes, put.putValue);
@@ -3009,7 +3130,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         }
         keyLen = keyBytes.length;
 
+        stampWritePathTrace(WritePathTrace.Stage.DRAINER);
         removeFromStorageEngine(producedPartition, keyBytes, delete);
+        stampWritePathTrace(WritePathTrace.Stage.STORAGE_WRITE);
         if (cacheBackend.isPresent()) {
           if (cacheBackend.get().getStorageEngine(kafkaVersionTopic) != null) {
             cacheBackend.get().getStorageEngine(kafkaVersionTopic).delete(producedPartition, keyBytes);
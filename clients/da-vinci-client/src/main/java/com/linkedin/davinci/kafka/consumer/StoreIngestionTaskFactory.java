@@ -7,6 +7,7 @@ import com.linkedin.davinci.notifier.VeniceNotifier;
 import com.linkedin.davinci.stats.AggHostLevelIngestionStats;
 import com.linkedin.davinci.stats.AggVersionedDIVStats;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
+import com.linkedin.davinci.stats.WritePathTracer;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
@@ -110,6 +111,7 @@ public class StoreIngestionTaskFactory {
     private StorageEngineBackedCompressorFactory compressorFactory;
     private PubSubTopicRepository pubSubTopicRepository;
     private Runnable runnableForKillIngestionTasksForNonCurrentVersions;
+    private WritePathTracer writePathTracer;
 
     private interface Setter {
       void apply();
@@ -312,5 +314,13 @@ public class StoreIngestionTaskFactory {
     public Builder setRunnableForKillIngestionTasksForNonCurrentVersions(Runnable runnable) {
       return set(() -> this.runnableForKillIngestionTasksForNonCurrentVersions = runnable);
     }
+
+    public WritePathTracer getWritePathTracer() {
+      return writePathTracer;
+    }
+
+    public Builder setWritePathTracer(WritePathTracer writePathTracer) {
+      return set(() -> this.writePathTracer = writePathTracer);
+    }
   }
 }
@@ -100,20 +100,45 @@ public class StoreWriteComputeProcessor {
       ByteBuffer writeComputeBytes,
       int writerUpdateProtocolVersion,
       int readerUpdateProtocolVersion) {
+    GenericRecord updatedValue = applyWriteComputeToRecord(
+        currValue,
+        writerValueSchemaId,
+        readerValueSchemaId,
+        writeComputeBytes,
+        writerUpdateProtocolVersion,
+        readerUpdateProtocolVersion);
+
+    // If write compute is enabled and the record is deleted, the updatedValue will be null.
+    if (updatedValue == null) {
+      return null;
+    }
+    return serializeValue(updatedValue, readerValueSchemaId);
+  }
+
+  /**
+   * Same as {@link #applyWriteCompute}, but returns the updated value record without serializing it, so that several
+   * Update operations can be applied before a single serialization. The current value record may be modified.
+   *
+   * @return partially updated original value record.
+   */
+  public GenericRecord applyWriteComputeToRecord(
+      GenericRecord currValue,
+      int writerValueSchemaId,
+      int readerValueSchemaId,
+      ByteBuffer writeComputeBytes,
+      int writerUpdateProtocolVersion,
+      int readerUpdateProtocolVersion) {
     int writerSchemaUniqueId = getSchemaAndUniqueId(writerValueSchemaId, writerUpdateProtocolVersion).getUniqueId();
     SchemaAndUniqueId readerSchemaContainer = getSchemaAndUniqueId(readerValueSchemaId, readerUpdateProtocolVersion);
     RecordDeserializer<GenericRecord> deserializer =
         this.writeComputeDeserializerCache.get(writerSchemaUniqueId, readerSchemaContainer.getUniqueId());
     GenericRecord writeComputeRecord = deserializer.deserialize(writeComputeBytes);
 
-    GenericRecord updatedValue =
-        writeComputeProcessor.updateRecord(readerSchemaContainer.getValueSchema(), currValue, writeComputeRecord);
+    return writeComputeProcessor.updateRecord(readerSchemaContainer.getValueSchema(), currValue, writeComputeRecord);
+  }
 
-    // If write compute is enabled and the record is deleted, the updatedValue will be null.
-    if (updatedValue == null) {
-      return null;
-    }
-    return getValueSerializer(readerValueSchemaId).serialize(updatedValue);
+  public byte[] serializeValue(GenericRecord value, int valueSchemaId) {
+    return getValueSerializer(valueSchemaId).serialize(value);
   }
 
   private SchemaAndUniqueId getSchemaAndUniqueId(int valueSchemaId, int writeComputeSchemaId) {
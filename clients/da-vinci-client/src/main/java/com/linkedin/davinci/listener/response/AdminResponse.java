@@ -1,9 +1,11 @@
 package com.linkedin.davinci.listener.response;
 
 import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
+import com.linkedin.davinci.stats.WritePathTrace;
 import com.linkedin.venice.admin.protocol.response.AdminResponseRecord;
 import com.linkedin.venice.admin.protocol.response.ConsumptionStateSnapshot;
 import com.linkedin.venice.admin.protocol.response.ServerConfigSnapshot;
+import com.linkedin.venice.admin.protocol.response.WritePathTraceSnapshot;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
@@ -36,6 +38,8 @@ public class AdminResponse {
   public AdminResponse() {
     this.isError = false;
     this.responseRecord = new AdminResponseRecord();
+    // The field isn't nullable, so it must be set even for the responses which don't carry any trace
+    this.responseRecord.writePathTraces = new ArrayList<>();
   }
 
   /**
@@ -61,6 +65,23 @@ public class AdminResponse {
     responseRecord.partitionConsumptionStates.add(snapshot);
   }
 
+  /**
+   * Add the stage timings of a record sampled by the write path tracing to the admin response record
+   */
+  public void addWritePathTrace(WritePathTrace trace) {
+    WritePathTraceSnapshot snapshot = new WritePathTraceSnapshot();
+    snapshot.partitionId = trace.getPartition();
+    snapshot.offset = trace.getOffset();
+    snapshot.completionTimestampInMs = trace.getCompletionTimestampMs();
+    snapshot.totalLatencyInNs = trace.getTotalLatencyNs();
+    Map<CharSequence, Long> stageLatencies = new HashMap<>();
+    for (WritePathTrace.Stage stage: WritePathTrace.Stage.values()) {
+      stageLatencies.put(stage.getMetricName(), trace.getStageLatencyNs(stage));
+    }
+    snapshot.stageLatenciesInNs = stageLatencies;
+    responseRecord.writePathTraces.add(snapshot);
+  }
+
   static StoreVersionState suppressCompressionDict(StoreVersionState storeVersionState) {
     StoreVersionState updatedState = storeVersionState;
     if (storeVersionState.compressionDictionary != null && storeVersionState.compressionDictionary.hasRemaining()) {
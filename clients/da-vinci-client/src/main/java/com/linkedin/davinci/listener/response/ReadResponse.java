@@ -10,6 +10,7 @@ import it.unimi.dsi.fastutil.ints.IntList;
  */
 public abstract class ReadResponse {
   private double databaseLookupLatency = -1;
+  private double storageIoWaitTime = 0;
   private double readComputeLatency = -1;
   private double readComputeDeserializationLatency = -1;
   private double readComputeSerializationLatency = -1;
@@ -18,6 +19,7 @@ public abstract class ReadResponse {
   private int multiChunkLargeValueCount = 0;
   private CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
   private boolean isStreamingResponse = false;
+  private boolean isResponseCompressionSupported = false;
   private IntList keySizeList;
   private IntList valueSizeList;
   private int valueSize = 0;
@@ -40,6 +42,18 @@ public abstract class ReadResponse {
     return this.isStreamingResponse;
   }
 
+  public void setResponseCompressionSupported() {
+    this.isResponseCompressionSupported = true;
+  }
+
+  /**
+   * @return whether the client supports the response compression, check
+   *         {@link com.linkedin.venice.compression.ResponseCompressionUtils} for more details.
+   */
+  public boolean isResponseCompressionSupported() {
+    return this.isResponseCompressionSupported;
+  }
+
   public CompressionStrategy getCompressionStrategy() {
     return compressionStrategy;
   }
@@ -56,6 +70,18 @@ public abstract class ReadResponse {
     return this.databaseLookupLatency;
   }
 
+  /**
+   * The time spent waiting on the storage engine for the lookups of this request, which, as opposed to
+   * {@link #getDatabaseLookupLatency()}, excludes the re-assembly of the values.
+   */
+  public void addStorageIoWaitTime(double latency) {
+    this.storageIoWaitTime += latency;
+  }
+
+  public double getStorageIoWaitTime() {
+    return this.storageIoWaitTime;
+  }
+
   public void setReadComputeLatency(double latency) {
     this.readComputeLatency = latency;
   }
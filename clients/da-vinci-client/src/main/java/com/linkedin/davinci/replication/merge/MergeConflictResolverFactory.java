@@ -1,7 +1,10 @@
 package com.linkedin.davinci.replication.merge;
 
+import com.linkedin.davinci.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.davinci.schema.merge.CollectionFieldOperationHandler;
 import com.linkedin.davinci.schema.merge.CollectionTimestampMergeRecordHelper;
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
+import com.linkedin.davinci.schema.merge.SortBasedCollectionFieldOpHandler;
 import com.linkedin.davinci.schema.writecompute.WriteComputeProcessor;
 import org.apache.avro.generic.GenericData;
 
@@ -22,12 +25,28 @@ public class MergeConflictResolverFactory {
       RmdSerDe rmdSerDe,
       String storeName,
       boolean rmdUseFieldLevelTs) {
-    MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
+    return createMergeConflictResolver(
+        annotatedReadOnlySchemaRepository,
+        rmdSerDe,
+        storeName,
+        rmdUseFieldLevelTs,
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE));
+  }
+
+  public MergeConflictResolver createMergeConflictResolver(
+      StringAnnotatedStoreSchemaCache annotatedReadOnlySchemaRepository,
+      RmdSerDe rmdSerDe,
+      String storeName,
+      boolean rmdUseFieldLevelTs,
+      CollectionFieldOperationHandler collectionFieldOperationHandler) {
+    MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper(collectionFieldOperationHandler);
     return new MergeConflictResolver(
         annotatedReadOnlySchemaRepository,
         storeName,
         valueSchemaID -> new GenericData.Record(rmdSerDe.getRmdSchema(valueSchemaID)),
-        new MergeGenericRecord(new WriteComputeProcessor(mergeRecordHelper), mergeRecordHelper),
+        new MergeGenericRecord(
+            new WriteComputeProcessor(mergeRecordHelper, collectionFieldOperationHandler),
+            mergeRecordHelper),
         new MergeByteBuffer(),
         new MergeResultValueSchemaResolverImpl(annotatedReadOnlySchemaRepository, storeName),
         rmdSerDe,
@@ -0,0 +1,220 @@
+package com.linkedin.davinci.repository;
+
+import com.linkedin.venice.common.VeniceSystemStoreType;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.systemstore.schemas.StoreMetaKey;
+import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class consumes the changes of the meta system stores of the subscribed stores, starting from the tail, with a
+ * single {@link PubSubConsumerAdapter} shared by all of them, and hands every changed {@link StoreMetaKey} and its new
+ * {@link StoreMetaValue} over to a {@link ChangeHandler} from a single polling thread.
+ *
+ * The changes are consumed from the real time topics of the meta system stores, which have a single partition and are
+ * written by the controllers, so the subscriptions don't need to follow the version swaps of the meta system stores.
+ * Only the PUTs and DELETEs are handed over, since the partial updates are only used for the replica statuses.
+ */
+public class MetaStoreChangeSubscriber implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(MetaStoreChangeSubscriber.class);
+  private static final int META_STORE_PARTITION = 0;
+  private static final long POLL_TIMEOUT_MS = 100;
+  private static final long IDLE_SLEEP_MS = 100;
+
+  private final PubSubConsumerAdapter consumer;
+  private final ChangeHandler changeHandler;
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+  private final RecordDeserializer<StoreMetaKey> keyDeserializer =
+      SerializerDeserializerFactory.getAvroSpecificDeserializer(StoreMetaKey.class);
+  // A map of the protocol versions of the meta system store values to their deserializer.
+  private final Map<Integer, RecordDeserializer<StoreMetaValue>> valueDeserializerMap = new VeniceConcurrentHashMap<>();
+  // A map of subscribed user store name to the real time topic partition of its meta system store.
+  private final Map<String, PubSubTopicPartition> subscriptionMap = new VeniceConcurrentHashMap<>();
+  private final ExecutorService pollingExecutor =
+      Executors.newSingleThreadExecutor(new DaemonThreadFactory("MetaStoreChangeSubscriber"));
+
+  private volatile boolean isRunning = false;
+
+  /**
+   * @param consumer the consumer of the meta system store changes, which gets closed along with this subscriber.
+   */
+  public MetaStoreChangeSubscriber(PubSubConsumerAdapter consumer, ChangeHandler changeHandler) {
+    this.consumer = consumer;
+    this.changeHandler = changeHandler;
+    Utils.getAllSchemasFromResources(AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE)
+        .forEach(
+            (protocolVersion, writerSchema) -> valueDeserializerMap.put(
+                protocolVersion,
+                SerializerDeserializerFactory.getAvroSpecificDeserializer(writerSchema, StoreMetaValue.class)));
+  }
+
+  public synchronized void start() {
+    if (!isRunning) {
+      isRunning = true;
+      pollingExecutor.submit(this::pollChanges);
+    }
+  }
+
+  /**
+   * Subscribes to the changes of the meta system store of the given store, which are made after this call returns.
+   */
+  public void subscribe(String storeName) {
+    subscriptionMap.computeIfAbsent(storeName, k -> {
+      String metaStoreName = VeniceSystemStoreType.META_STORE.getSystemStoreName(storeName);
+      PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(
+          pubSubTopicRepository.getTopic(Version.composeRealTimeTopic(metaStoreName)),
+          META_STORE_PARTITION);
+      synchronized (consumer) {
+        Long endOffset = consumer.endOffset(topicPartition);
+        if (endOffset == null) {
+          throw new VeniceException("Failed to get the end offset of: " + topicPartition);
+        }
+        // The consumption starts right after the given offset, i.e. at the end offset.
+        consumer.subscribe(topicPartition, endOffset - 1);
+      }
+      LOGGER.info("Subscribed to the meta system store changes of store: {}", storeName);
+      return topicPartition;
+    });
+  }
+
+  public void unsubscribe(String storeName) {
+    PubSubTopicPartition topicPartition = subscriptionMap.remove(storeName);
+    if (topicPartition != null) {
+      synchronized (consumer) {
+        consumer.unSubscribe(topicPartition);
+      }
+      LOGGER.info("Unsubscribed from the meta system store changes of store: {}", storeName);
+    }
+  }
+
+  public boolean isSubscribed(String storeName) {
+    return subscriptionMap.containsKey(storeName);
+  }
+
+  @Override
+  public void close() {
+    isRunning = false;
+    pollingExecutor.shutdown();
+    try {
+      if (!pollingExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+        pollingExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    subscriptionMap.clear();
+    synchronized (consumer) {
+      consumer.close();
+    }
+  }
+
+  private void pollChanges() {
+    while (isRunning) {
+      boolean hasChanges = false;
+      try {
+        hasChanges = pollAndApplyChanges();
+      } catch (Exception e) {
+        // Catch all exceptions here so the polling doesn't stop, the periodic refresh reconciles the missed changes.
+        LOGGER.warn("Caught an exception when polling the meta system store changes", e);
+      }
+      if (!hasChanges) {
+        try {
+          Thread.sleep(IDLE_SLEEP_MS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private boolean pollAndApplyChanges() {
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messagesMap;
+    synchronized (consumer) {
+      if (!consumer.hasAnySubscription()) {
+        return false;
+      }
+      messagesMap = consumer.poll(POLL_TIMEOUT_MS);
+    }
+    boolean hasChanges = false;
+    for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: messagesMap
+        .entrySet()) {
+      String storeName =
+          VeniceSystemStoreType.META_STORE.extractRegularStoreName(entry.getKey().getPubSubTopic().getStoreName());
+      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message: entry.getValue()) {
+        hasChanges = true;
+        try {
+          applyChange(storeName, message);
+        } catch (Exception e) {
+          LOGGER.warn(
+              "Failed to apply the meta system store change at offset: {} of store: {}",
+              message.getOffset(),
+              storeName,
+              e);
+        }
+      }
+    }
+    return hasChanges;
+  }
+
+  private void applyChange(String storeName, PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message) {
+    if (message.getKey().isControlMessage()) {
+      return;
+    }
+    KafkaMessageEnvelope kafkaMessageEnvelope = message.getValue();
+    final StoreMetaValue value;
+    switch (MessageType.valueOf(kafkaMessageEnvelope)) {
+      case PUT:
+        Put put = (Put) kafkaMessageEnvelope.payloadUnion;
+        RecordDeserializer<StoreMetaValue> valueDeserializer = valueDeserializerMap.get(put.schemaId);
+        if (valueDeserializer == null) {
+          // Written with a newer protocol than this client knows about, so it's left to the periodic refresh.
+          LOGGER.warn(
+              "Skipping the meta system store change of store: {} with unknown protocol version: {}",
+              storeName,
+              put.schemaId);
+          return;
+        }
+        value = valueDeserializer.deserialize(put.putValue);
+        break;
+      case DELETE:
+        value = null;
+        break;
+      default:
+        return;
+    }
+    changeHandler.apply(storeName, keyDeserializer.deserialize(message.getKey().getKey()), value);
+  }
+
+  @FunctionalInterface
+  public interface ChangeHandler {
+    /**
+     * @param value the new value of the key, or null if the key got deleted.
+     */
+    void apply(String storeName, StoreMetaKey key, StoreMetaValue value);
+  }
+}
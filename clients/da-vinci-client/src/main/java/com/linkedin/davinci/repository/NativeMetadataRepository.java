@@ -1,7 +1,10 @@
 package com.linkedin.davinci.repository;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_META_STORE_CHANGE_SUBSCRIPTION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CLIENT_META_STORE_RECONCILIATION_INTERVAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.CLIENT_SYSTEM_STORE_REPOSITORY_REFRESH_INTERVAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.CLIENT_USE_DA_VINCI_BASED_SYSTEM_STORE_REPOSITORY;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.system.store.MetaStoreWriter.KEY_STRING_SCHEMA_ID;
 import static com.linkedin.venice.system.store.MetaStoreWriter.KEY_STRING_STORE_NAME;
 import static java.lang.Thread.currentThread;
@@ -14,6 +17,7 @@ import com.linkedin.venice.common.VeniceSystemStoreType;
 import com.linkedin.venice.exceptions.MissingKeyInStoreMetadataException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.meta.ClusterInfoProvider;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStore;
@@ -21,12 +25,17 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreConfig;
 import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.meta.SubscriptionBasedReadOnlyStoreRepository;
+import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.pubsub.adapter.kafka.consumer.ApacheKafkaConsumerAdapterFactory;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
 import com.linkedin.venice.schema.GeneratedSchemaID;
 import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
 import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
 import com.linkedin.venice.service.ICProvider;
 import com.linkedin.venice.stats.TehutiUtils;
 import com.linkedin.venice.system.store.MetaStoreDataType;
@@ -35,6 +44,7 @@ import com.linkedin.venice.systemstore.schemas.StoreMetaKey;
 import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.utils.pools.LandFillObjectPool;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -60,6 +70,11 @@ import org.apache.logging.log4j.Logger;
  * DaVinci client (destination). This abstract class includes the implementation of an in-memory cache for all subscribed
  * stores' metadata. Callers are served by the cache and the cache is refreshed periodically by updating it with methods
  * provided by the implementers.
+ *
+ * When {@link com.linkedin.venice.ConfigKeys#CLIENT_META_STORE_CHANGE_SUBSCRIPTION_ENABLED} is true, the changes of the
+ * meta system stores of the subscribed stores are also applied to the cache as they arrive through a
+ * {@link MetaStoreChangeSubscriber}, so the listeners are notified right away, and the periodic refresh only reconciles
+ * the cache in case some changes were missed.
  */
 public abstract class NativeMetadataRepository
     implements SubscriptionBasedReadOnlyStoreRepository, ReadOnlySchemaRepository, ClusterInfoProvider {
@@ -67,9 +82,11 @@ public abstract class NativeMetadataRepository
   protected static final long THIN_CLIENT_RETRY_BACKOFF_MS = 10000;
 
   private static final long DEFAULT_REFRESH_INTERVAL_IN_SECONDS = 60;
+  private static final long DEFAULT_RECONCILIATION_INTERVAL_IN_SECONDS = 600;
   private static final Logger LOGGER = LogManager.getLogger(NativeMetadataRepository.class);
 
   protected final ClientConfig clientConfig;
+  private final VeniceProperties backendConfig;
 
   // A map of subscribed user store name to their corresponding Store object.
   protected final Map<String, Store> subscribedStoreMap = new VeniceConcurrentHashMap<>();
@@ -83,14 +100,33 @@ public abstract class NativeMetadataRepository
   private final AtomicLong totalStoreReadQuota = new AtomicLong();
 
   private final long refreshIntervalInSeconds;
+  private final boolean metaStoreChangeSubscriptionEnabled;
 
   private AtomicBoolean started = new AtomicBoolean(false);
+  private PubSubConsumerAdapter metaStoreChangeConsumer;
+  private MetaStoreChangeSubscriber metaStoreChangeSubscriber;
 
   protected NativeMetadataRepository(ClientConfig clientConfig, VeniceProperties backendConfig) {
-    refreshIntervalInSeconds = backendConfig.getLong(
-        CLIENT_SYSTEM_STORE_REPOSITORY_REFRESH_INTERVAL_SECONDS,
-        NativeMetadataRepository.DEFAULT_REFRESH_INTERVAL_IN_SECONDS);
+    metaStoreChangeSubscriptionEnabled = backendConfig.getBoolean(CLIENT_META_STORE_CHANGE_SUBSCRIPTION_ENABLED, false);
+    if (metaStoreChangeSubscriptionEnabled) {
+      refreshIntervalInSeconds = backendConfig.getLong(
+          CLIENT_META_STORE_RECONCILIATION_INTERVAL_SECONDS,
+          NativeMetadataRepository.DEFAULT_RECONCILIATION_INTERVAL_IN_SECONDS);
+    } else {
+      refreshIntervalInSeconds = backendConfig.getLong(
+          CLIENT_SYSTEM_STORE_REPOSITORY_REFRESH_INTERVAL_SECONDS,
+          NativeMetadataRepository.DEFAULT_REFRESH_INTERVAL_IN_SECONDS);
+    }
     this.clientConfig = clientConfig;
+    this.backendConfig = backendConfig;
+  }
+
+  /**
+   * Overrides the consumer used to subscribe to the meta system store changes, which is otherwise built from the
+   * backend config. Must be called before {@link #start()}, and the consumer gets closed by {@link #clear()}.
+   */
+  public void setMetaStoreChangeConsumer(PubSubConsumerAdapter consumer) {
+    this.metaStoreChangeConsumer = consumer;
   }
 
   public synchronized void start() {
@@ -101,11 +137,32 @@ public abstract class NativeMetadataRepository
           "Calling start() failed! NativeMetadataRepository has already been cleared and shutdown!");
     }
     if (!started.get()) {
+      if (metaStoreChangeSubscriptionEnabled) {
+        if (metaStoreChangeConsumer == null) {
+          metaStoreChangeConsumer = createMetaStoreChangeConsumer();
+        }
+        metaStoreChangeSubscriber = new MetaStoreChangeSubscriber(metaStoreChangeConsumer, this::applyMetaStoreChange);
+        metaStoreChangeSubscriber.start();
+      }
       this.scheduler.scheduleAtFixedRate(this::refresh, 0, refreshIntervalInSeconds, TimeUnit.SECONDS);
       started.set(true);
     }
   }
 
+  private PubSubConsumerAdapter createMetaStoreChangeConsumer() {
+    if (!backendConfig.containsKey(KAFKA_BOOTSTRAP_SERVERS)) {
+      throw new VeniceException(
+          "Config: " + KAFKA_BOOTSTRAP_SERVERS + " is required to consume the meta system store changes when "
+              + CLIENT_META_STORE_CHANGE_SUBSCRIPTION_ENABLED + " is enabled");
+    }
+    PubSubMessageDeserializer pubSubMessageDeserializer = new PubSubMessageDeserializer(
+        new OptimizedKafkaValueSerializer(),
+        new LandFillObjectPool<>(KafkaMessageEnvelope::new),
+        new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+    return new ApacheKafkaConsumerAdapterFactory()
+        .create(backendConfig, false, pubSubMessageDeserializer, "meta-store-change-subscriber");
+  }
+
   private void throwIfNotStartedOrCleared() {
     if (!started.get()) {
       throw new VeniceException("NativeMetadataRepository isn't started yet! Call start() before use.");
@@ -153,12 +210,26 @@ public abstract class NativeMetadataRepository
   public void subscribe(String storeName) throws InterruptedException {
     throwIfNotStartedOrCleared();
     if (!subscribedStoreMap.containsKey(storeName)) {
+      if (metaStoreChangeSubscriber != null && VeniceSystemStoreType.getSystemStoreType(storeName) == null) {
+        // Subscribe to the changes before the initial refresh, so that no change made in between is missed.
+        try {
+          metaStoreChangeSubscriber.subscribe(storeName);
+        } catch (Exception e) {
+          LOGGER.warn(
+              "Failed to subscribe to the meta system store changes of store: {}, will rely on the periodic refresh",
+              storeName,
+              e);
+        }
+      }
       refreshOneStore(storeName);
     }
   }
 
   @Override
   public void unsubscribe(String storeName) {
+    if (metaStoreChangeSubscriber != null) {
+      metaStoreChangeSubscriber.unsubscribe(storeName);
+    }
     removeStore(storeName);
   }
 
@@ -390,6 +461,9 @@ public abstract class NativeMetadataRepository
    */
   @Override
   public void clear() {
+    if (metaStoreChangeSubscriber != null) {
+      metaStoreChangeSubscriber.close();
+    }
     scheduler.shutdown();
     try {
       if (!scheduler.awaitTermination(60, TimeUnit.SECONDS)) {
@@ -405,6 +479,50 @@ public abstract class NativeMetadataRepository
     totalStoreReadQuota.set(0);
   }
 
+  /**
+   * Applies a change of the meta system store of the given store to the local cache. Only the changes of the metadata
+   * cached by this repository are applied, and only while the store is subscribed.
+   *
+   * @param value the new value of the key, or null if the key got deleted.
+   */
+  protected void applyMetaStoreChange(String storeName, StoreMetaKey key, StoreMetaValue value) {
+    if (!subscribedStoreMap.containsKey(storeName)) {
+      return;
+    }
+    switch (MetaStoreDataType.valueOf(key.metadataType)) {
+      case STORE_PROPERTIES:
+        // The store properties of the store in other clusters are left over by store migrations.
+        String clusterName = key.keyStrings.get(1).toString();
+        if (value != null && value.storeProperties != null && clusterName.equals(getVeniceCluster(storeName))) {
+          putStore(new ZKStore(value.storeProperties));
+        }
+        break;
+      case STORE_CLUSTER_CONFIG:
+        if (value != null && value.storeClusterConfig != null) {
+          StoreConfig storeConfig = new StoreConfig(value.storeClusterConfig);
+          if (storeConfig.isDeleting()) {
+            removeStore(storeName);
+          } else if (!storeConfig.getCluster().equals(getVeniceCluster(storeName))) {
+            // The store got migrated, so its properties need to be read from the new cluster.
+            storeConfigMap.put(storeName, storeConfig);
+            putStore(getStoreFromSystemStore(storeName, storeConfig.getCluster()));
+          } else {
+            storeConfigMap.put(storeName, storeConfig);
+          }
+        }
+        break;
+      case STORE_KEY_SCHEMAS:
+      case STORE_VALUE_SCHEMAS:
+      case STORE_VALUE_SCHEMA:
+        // The schemas are spread over multiple keys, so they're read through again on the next access.
+        removeStoreSchema(storeName);
+        break;
+      default:
+        // The other metadata isn't cached by this repository.
+        break;
+    }
+  }
+
   /**
    * Get the store cluster config from system store and update the local cache with it. Different implementation will
    * get the data differently but should all populate the store cluster config map.
@@ -8,6 +8,7 @@ import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
 import java.util.List;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.lang3.Validate;
 
 
 /**
@@ -21,9 +22,11 @@ public class CollectionTimestampMergeRecordHelper extends PerFieldTimestampMerge
   private final CollectionFieldOperationHandler collectionFieldOperationHandler;
 
   public CollectionTimestampMergeRecordHelper() {
-    // TODO: get this variable as a argument passed to this constructor.
-    this.collectionFieldOperationHandler =
-        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+    this(new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE));
+  }
+
+  public CollectionTimestampMergeRecordHelper(CollectionFieldOperationHandler collectionFieldOperationHandler) {
+    this.collectionFieldOperationHandler = Validate.notNull(collectionFieldOperationHandler);
   }
 
   @Override
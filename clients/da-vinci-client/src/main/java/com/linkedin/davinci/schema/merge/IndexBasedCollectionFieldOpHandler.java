@@ -0,0 +1,440 @@
+package com.linkedin.davinci.schema.merge;
+
+import com.linkedin.avro.api.PrimitiveLongList;
+import com.linkedin.avro.fastserde.primitive.PrimitiveLongArrayList;
+import com.linkedin.davinci.utils.IndexedHashMap;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * This class applies collection merges on list and map fields in the collection-merge state without sorting the whole
+ * collection, and produces the same collection and replication metadata as {@link SortBasedCollectionFieldOpHandler}.
+ *
+ * The sort-based handler rebuilds the active and the deleted elements of the collection from element-to-timestamp
+ * maps and sorts them on each modification. However, every operation leaves the collection-merge part of the
+ * collection and the deleted elements sorted by timestamp and then by element, and all the elements touched by a
+ * modification get the modify timestamp. So this handler builds a hash index of the element positions, looks up the
+ * modified elements in it, sorts only them, and merges them into the remaining elements, which only compares them with
+ * the elements already carrying the modify timestamp.
+ *
+ * Building the index and copying the elements still take linear time in the size of the collection, as the index is
+ * not kept across merges, so this is a constant-factor speedup over the sort-based handler: the n log n sort of the
+ * collection is replaced by linear passes, plus a sort of the modified elements only.
+ *
+ * Puts and deletes of whole collections, as well as modifications of collections in the put-only state, don't sort the
+ * existing elements and are handled by the sort-based handler. So are the collections with duplicated elements, which
+ * can't be indexed.
+ */
+@ThreadSafe
+public class IndexBasedCollectionFieldOpHandler extends SortBasedCollectionFieldOpHandler {
+  private static final Comparator<Map.Entry<String, Object>> MAP_ENTRY_COMPARATOR = Map.Entry.comparingByKey();
+
+  public IndexBasedCollectionFieldOpHandler(AvroCollectionElementComparator elementComparator) {
+    super(elementComparator);
+  }
+
+  @Override
+  protected UpdateResultStatus handleModifyCollectionMergeList(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<Object> collectionFieldRmd,
+      GenericRecord currValueRecord,
+      Schema.Field currValueRecordField,
+      Set<Object> toAddElementSet,
+      Set<Object> toRemoveElementSet) {
+    if (collectionFieldRmd.isInPutOnlyState()) {
+      throw new IllegalStateException("Expect list to be in the collection-merge state.");
+    }
+    if (toAddElementSet.isEmpty() && toRemoveElementSet.isEmpty()) {
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+
+    final Object currFieldValue = currValueRecord.get(currValueRecordField.pos());
+    final List<Object> currElements =
+        currFieldValue == null ? Collections.emptyList() : toRandomAccessList((List<Object>) currFieldValue);
+    final List<Long> activeTimestamps = toRandomAccessList(collectionFieldRmd.getActiveElementTimestamps());
+    final List<Object> deletedElements = toRandomAccessList(collectionFieldRmd.getDeletedElements());
+    final List<Long> deletedTimestamps = toRandomAccessList(collectionFieldRmd.getDeletedElementTimestamps());
+
+    final Object2IntMap<Object> activeElementToIndex = createElementToIndexMap(currElements, element -> false);
+    final Object2IntMap<Object> deletedElementToIndex = activeElementToIndex == null
+        ? null
+        : createElementToIndexMap(deletedElements, activeElementToIndex::containsKey);
+    if (deletedElementToIndex == null) {
+      return super.handleModifyCollectionMergeList(
+          modifyTimestamp,
+          collectionFieldRmd,
+          currValueRecord,
+          currValueRecordField,
+          toAddElementSet,
+          toRemoveElementSet);
+    }
+
+    final int putOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
+    final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+    // Existing elements which are removed, or moved to the position of the modify timestamp.
+    final BitSet movedActiveIndices = new BitSet(currElements.size());
+    final BitSet movedDeletedIndices = new BitSet(deletedElements.size());
+    // Elements which get the modify timestamp.
+    final List<Object> modifiedActiveElements = new ArrayList<>();
+    final List<Object> modifiedDeletedElements = new ArrayList<>();
+    int newPutOnlyPartLength = putOnlyPartLength;
+
+    // Step 1: Add elements (SET_UNION).
+    for (Object toAddElement: toAddElementSet) {
+      final int deletedIndex = deletedElementToIndex.getInt(toAddElement);
+      if (deletedIndex >= 0) {
+        if (deletedTimestamps.get(deletedIndex) < modifyTimestamp) {
+          // Element will be added back.
+          movedDeletedIndices.set(deletedIndex);
+          modifiedActiveElements.add(toAddElement);
+        } // Else: Element remains "deleted".
+        continue;
+      }
+
+      final int activeIndex = activeElementToIndex.getInt(toAddElement);
+      if (activeIndex < 0) {
+        modifiedActiveElements.add(toAddElement);
+      } else if (activeIndex < putOnlyPartLength) {
+        // This element exists and it is in the put-only part.
+        movedActiveIndices.set(activeIndex);
+        modifiedActiveElements.add(toAddElement);
+        newPutOnlyPartLength--;
+      } else if (activeTimestamps.get(activeIndex - putOnlyPartLength) != modifyTimestamp) {
+        movedActiveIndices.set(activeIndex);
+        modifiedActiveElements.add(currElements.get(activeIndex));
+      }
+    }
+
+    // Step 2: Remove elements (SET_DIFF).
+    for (Object toRemoveElement: toRemoveElementSet) {
+      final int deletedIndex = deletedElementToIndex.getInt(toRemoveElement);
+      if (deletedIndex >= 0) {
+        if (deletedTimestamps.get(deletedIndex) < modifyTimestamp) {
+          movedDeletedIndices.set(deletedIndex);
+          modifiedDeletedElements.add(deletedElements.get(deletedIndex));
+        }
+        continue;
+      }
+      final int activeIndex = activeElementToIndex.getInt(toRemoveElement);
+      if (activeIndex >= 0) {
+        final long activeTimestamp = activeIndex < putOnlyPartLength
+            ? topLevelTimestamp
+            : activeTimestamps.get(activeIndex - putOnlyPartLength);
+        if (activeTimestamp <= modifyTimestamp) {
+          // Delete the existing element.
+          movedActiveIndices.set(activeIndex);
+          modifiedDeletedElements.add(toRemoveElement);
+          if (activeIndex < putOnlyPartLength) {
+            newPutOnlyPartLength--;
+          }
+        } // Else: existing element does not get deleted.
+        continue;
+      }
+
+      // Element neither existed nor deleted because both it has no deleted timestamp and no active timestamp.
+      modifiedDeletedElements.add(toRemoveElement);
+    }
+
+    if (modifiedActiveElements.isEmpty() && modifiedDeletedElements.isEmpty()) {
+      if (currFieldValue == null) {
+        // The sort-based handler always sets a list, even when nothing gets updated.
+        currValueRecord.put(currValueRecordField.pos(), new ArrayList<>(0));
+      }
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+
+    // Step 3: Set new active elements and their active timestamps.
+    final Comparator<Object> listElementComparator = getListElementComparator(currValueRecordField.schema());
+    modifiedActiveElements.sort(listElementComparator);
+    final int newActiveElementCount =
+        currElements.size() - movedActiveIndices.cardinality() + modifiedActiveElements.size();
+    final List<Object> newActiveElements = new ArrayList<>(newActiveElementCount);
+    final PrimitiveLongList newActiveTimestamps =
+        new PrimitiveLongArrayList(newActiveElementCount - newPutOnlyPartLength);
+    for (int i = 0; i < putOnlyPartLength; i++) {
+      if (!movedActiveIndices.get(i)) {
+        newActiveElements.add(currElements.get(i));
+      }
+    }
+    mergeModifiedElements(
+        currElements::get,
+        putOnlyPartLength,
+        currElements.size(),
+        activeTimestamps,
+        movedActiveIndices,
+        modifiedActiveElements,
+        modifyTimestamp,
+        listElementComparator,
+        (element, timestamp) -> {
+          newActiveElements.add(element);
+          newActiveTimestamps.addPrimitive(timestamp);
+        });
+    currValueRecord.put(currValueRecordField.pos(), newActiveElements);
+    collectionFieldRmd.setActiveElementTimestamps(newActiveTimestamps);
+    collectionFieldRmd.setPutOnlyPartLength(newPutOnlyPartLength);
+
+    // Step 4: Set new deleted elements and their deleted timestamps.
+    modifiedDeletedElements.sort(listElementComparator);
+    final int newDeletedElementCount =
+        deletedElements.size() - movedDeletedIndices.cardinality() + modifiedDeletedElements.size();
+    final List<Object> newDeletedElements = new ArrayList<>(newDeletedElementCount);
+    final PrimitiveLongList newDeletedTimestamps = new PrimitiveLongArrayList(newDeletedElementCount);
+    mergeModifiedElements(
+        deletedElements::get,
+        0,
+        deletedElements.size(),
+        deletedTimestamps,
+        movedDeletedIndices,
+        modifiedDeletedElements,
+        modifyTimestamp,
+        listElementComparator,
+        (element, timestamp) -> {
+          newDeletedElements.add(element);
+          newDeletedTimestamps.addPrimitive(timestamp);
+        });
+    collectionFieldRmd.setDeletedElementsAndTimestamps(newDeletedElements, newDeletedTimestamps);
+    return UpdateResultStatus.PARTIALLY_UPDATED;
+  }
+
+  @Override
+  protected UpdateResultStatus handleModifyCollectionMergeMap(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<String> collectionFieldRmd,
+      GenericRecord currValueRecord,
+      Schema.Field currValueRecordField,
+      Map<String, Object> newEntries,
+      List<String> toRemoveKeys) {
+    if (collectionFieldRmd.isInPutOnlyState()) {
+      throw new IllegalStateException(
+          "Expect map to be in the collection-merge state. Field name: " + currValueRecordField.name());
+    }
+    if (newEntries.isEmpty() && toRemoveKeys.isEmpty()) {
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+    // The map itself is an index of its keys' positions.
+    final IndexedHashMap<String, Object> currMap =
+        (IndexedHashMap<String, Object>) currValueRecord.get(currValueRecordField.pos());
+    final List<String> deletedKeys = toRandomAccessList(collectionFieldRmd.getDeletedElements());
+    final Object2IntMap<Object> deletedKeyToIndex =
+        currMap == null ? null : createElementToIndexMap(deletedKeys, currMap::containsKey);
+    if (deletedKeyToIndex == null) {
+      return super.handleModifyCollectionMergeMap(
+          modifyTimestamp,
+          collectionFieldRmd,
+          currValueRecord,
+          currValueRecordField,
+          newEntries,
+          toRemoveKeys);
+    }
+
+    final List<Long> activeTimestamps = toRandomAccessList(collectionFieldRmd.getActiveElementTimestamps());
+    final List<Long> deletedTimestamps = toRandomAccessList(collectionFieldRmd.getDeletedElementTimestamps());
+    final int putOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
+    final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+    // Existing entries and deleted keys which are removed, or moved to the position of the modify timestamp.
+    final BitSet movedActiveIndices = new BitSet(currMap.size());
+    final BitSet movedDeletedIndices = new BitSet(deletedKeys.size());
+    // Entries and deleted keys which get the modify timestamp.
+    final List<Map.Entry<String, Object>> modifiedActiveEntries = new ArrayList<>();
+    final List<String> modifiedDeletedKeys = new ArrayList<>();
+    int newPutOnlyPartLength = putOnlyPartLength;
+
+    // Step 1: Add elements (MAP_UNION).
+    for (Map.Entry<String, Object> newEntry: newEntries.entrySet()) {
+      final String newKey = newEntry.getKey();
+      final int deletedIndex = deletedKeyToIndex.getInt(newKey);
+      if (deletedIndex >= 0) {
+        // Key was deleted before.
+        if (deletedTimestamps.get(deletedIndex) < modifyTimestamp) {
+          // k-v entry will be added back.
+          movedDeletedIndices.set(deletedIndex);
+          modifiedActiveEntries.add(new AbstractMap.SimpleImmutableEntry<>(newKey, newEntry.getValue()));
+        } // Else: Key remains "deleted".
+        continue;
+      }
+
+      final int activeIndex = currMap.indexOf(newKey);
+      if (activeIndex < 0) {
+        // The key does not exist before.
+        modifiedActiveEntries.add(new AbstractMap.SimpleImmutableEntry<>(newKey, newEntry.getValue()));
+        continue;
+      }
+      final long activeTimestamp = activeIndex < putOnlyPartLength
+          ? topLevelTimestamp
+          : activeTimestamps.get(activeIndex - putOnlyPartLength);
+      // Note that if the current active timestamp is equal to the modify timestamp, we compare value.
+      if (activeTimestamp < modifyTimestamp || (activeTimestamp == modifyTimestamp
+          && shouldUpdateMapFieldItemValueWithSameTs(
+              currMap.getByIndex(activeIndex).getValue(),
+              newEntry.getValue(),
+              currValueRecordField.schema()))) {
+        movedActiveIndices.set(activeIndex);
+        modifiedActiveEntries.add(new AbstractMap.SimpleImmutableEntry<>(newKey, newEntry.getValue()));
+        if (activeIndex < putOnlyPartLength) {
+          newPutOnlyPartLength--;
+        }
+      }
+    }
+
+    // Step 2: Remove elements (MAP_DIFF).
+    final Set<String> handledToRemoveKeys = new HashSet<>(toRemoveKeys.size());
+    for (String toRemoveKey: toRemoveKeys) {
+      if (!handledToRemoveKeys.add(toRemoveKey)) {
+        continue;
+      }
+      final int deletedIndex = deletedKeyToIndex.getInt(toRemoveKey);
+      if (deletedIndex >= 0) {
+        // This key was deleted before.
+        if (deletedTimestamps.get(deletedIndex) < modifyTimestamp) {
+          // Update the deleted timestamp of this key.
+          movedDeletedIndices.set(deletedIndex);
+          modifiedDeletedKeys.add(deletedKeys.get(deletedIndex));
+        }
+        continue;
+      }
+      final int activeIndex = currMap.indexOf(toRemoveKey);
+      if (activeIndex >= 0) {
+        final long activeTimestamp = activeIndex < putOnlyPartLength
+            ? topLevelTimestamp
+            : activeTimestamps.get(activeIndex - putOnlyPartLength);
+        if (activeTimestamp <= modifyTimestamp) {
+          // Delete an existing k-v entry.
+          movedActiveIndices.set(activeIndex);
+          modifiedDeletedKeys.add(toRemoveKey);
+          if (activeIndex < putOnlyPartLength) {
+            // Delete a k-v pair from the put-only part.
+            newPutOnlyPartLength--;
+          }
+        } // Else: existing k-v entry does not get deleted.
+      } else {
+        // Key never existed and it should be marked as deleted now.
+        modifiedDeletedKeys.add(toRemoveKey);
+      }
+    }
+
+    if (modifiedActiveEntries.isEmpty() && modifiedDeletedKeys.isEmpty()) {
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+
+    // Step 3: Set new active map entries and their active timestamps.
+    modifiedActiveEntries.sort(MAP_ENTRY_COMPARATOR);
+    final int newActiveEntryCount = currMap.size() - movedActiveIndices.cardinality() + modifiedActiveEntries.size();
+    final Map<String, Object> newMap = new IndexedHashMap<>(newActiveEntryCount);
+    final PrimitiveLongList newActiveTimestamps =
+        new PrimitiveLongArrayList(newActiveEntryCount - newPutOnlyPartLength);
+    for (int i = 0; i < putOnlyPartLength; i++) {
+      if (!movedActiveIndices.get(i)) {
+        Map.Entry<String, Object> putOnlyEntry = currMap.getByIndex(i);
+        newMap.put(putOnlyEntry.getKey(), putOnlyEntry.getValue());
+      }
+    }
+    mergeModifiedElements(
+        currMap::getByIndex,
+        putOnlyPartLength,
+        currMap.size(),
+        activeTimestamps,
+        movedActiveIndices,
+        modifiedActiveEntries,
+        modifyTimestamp,
+        MAP_ENTRY_COMPARATOR,
+        (entry, timestamp) -> {
+          newMap.put(entry.getKey(), entry.getValue());
+          newActiveTimestamps.addPrimitive(timestamp);
+        });
+    currValueRecord.put(currValueRecordField.pos(), newMap);
+    collectionFieldRmd.setActiveElementTimestamps(newActiveTimestamps);
+    collectionFieldRmd.setPutOnlyPartLength(newPutOnlyPartLength);
+
+    // Step 4: Set new deleted keys and their deleted timestamps.
+    modifiedDeletedKeys.sort(String::compareTo);
+    final int newDeletedKeyCount = deletedKeys.size() - movedDeletedIndices.cardinality() + modifiedDeletedKeys.size();
+    final List<String> newDeletedKeys = new ArrayList<>(newDeletedKeyCount);
+    final PrimitiveLongList newDeletedTimestamps = new PrimitiveLongArrayList(newDeletedKeyCount);
+    mergeModifiedElements(
+        deletedKeys::get,
+        0,
+        deletedKeys.size(),
+        deletedTimestamps,
+        movedDeletedIndices,
+        modifiedDeletedKeys,
+        modifyTimestamp,
+        String::compareTo,
+        (key, timestamp) -> {
+          newDeletedKeys.add(key);
+          newDeletedTimestamps.addPrimitive(timestamp);
+        });
+    collectionFieldRmd.setDeletedElementsAndTimestamps(newDeletedKeys, newDeletedTimestamps);
+    return UpdateResultStatus.PARTIALLY_UPDATED;
+  }
+
+  /**
+   * Merges the modified elements, which are sorted and get the modify timestamp, into the existing elements within the
+   * given index range, which are sorted by timestamp and then by element, skipping the existing elements which moved.
+   *
+   * @param existingTimestamps the timestamps of the existing elements, starting at {@code fromIndex}.
+   */
+  private static <T> void mergeModifiedElements(
+      IntFunction<T> existingElements,
+      final int fromIndex,
+      final int toIndex,
+      List<Long> existingTimestamps,
+      BitSet movedIndices,
+      List<T> modifiedElements,
+      final long modifyTimestamp,
+      Comparator<? super T> elementComparator,
+      ObjLongConsumer<T> resultConsumer) {
+    int modifiedIndex = 0;
+    for (int i = movedIndices.nextClearBit(fromIndex); i < toIndex; i = movedIndices.nextClearBit(i + 1)) {
+      final T existingElement = existingElements.apply(i);
+      final long existingTimestamp = existingTimestamps.get(i - fromIndex);
+      // Only the elements with the same timestamp need to be compared.
+      while (modifiedIndex < modifiedElements.size() && (existingTimestamp > modifyTimestamp
+          || (existingTimestamp == modifyTimestamp
+              && elementComparator.compare(modifiedElements.get(modifiedIndex), existingElement) < 0))) {
+        resultConsumer.accept(modifiedElements.get(modifiedIndex++), modifyTimestamp);
+      }
+      resultConsumer.accept(existingElement, existingTimestamp);
+    }
+    while (modifiedIndex < modifiedElements.size()) {
+      resultConsumer.accept(modifiedElements.get(modifiedIndex++), modifyTimestamp);
+    }
+  }
+
+  /**
+   * @return a map from each element to its index, or null if an element is duplicated or excluded, in which case the
+   *         collection is left to the sort-based handler.
+   */
+  private static Object2IntMap<Object> createElementToIndexMap(List<?> elements, Predicate<Object> excluded) {
+    Object2IntMap<Object> elementToIndex = new Object2IntOpenHashMap<>(elements.size());
+    elementToIndex.defaultReturnValue(-1);
+    for (int i = 0; i < elements.size(); i++) {
+      final Object element = elements.get(i);
+      if (excluded.test(element) || elementToIndex.put(element, i) != -1) {
+        return null;
+      }
+    }
+    return elementToIndex;
+  }
+
+  private static <T> List<T> toRandomAccessList(List<T> list) {
+    return list instanceof RandomAccess ? list : new ArrayList<>(list);
+  }
+}
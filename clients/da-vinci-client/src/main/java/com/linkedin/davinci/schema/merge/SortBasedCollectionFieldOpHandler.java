@@ -530,7 +530,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     return UpdateResultStatus.PARTIALLY_UPDATED;
   }
 
-  private Comparator<Object> getListElementComparator(Schema arrayFieldSchema) {
+  protected Comparator<Object> getListElementComparator(Schema arrayFieldSchema) {
     Supplier<Schema> elementSchemaSupplier = () -> getArraySchema(arrayFieldSchema).getElementType();
     // TODO: handle the situation where two elements have different schemas (e.g. element schema evolution). Assume
     // element schemas are always the same for now.
@@ -539,7 +539,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
 
   // Current list must be in the collection-merge state where the current list has 2 parts with the first part being
   // the put-only part and the second part being the collection-merge part.
-  private UpdateResultStatus handleModifyCollectionMergeList(
+  protected UpdateResultStatus handleModifyCollectionMergeList(
       final long modifyTimestamp,
       CollectionRmdTimestamp<Object> collectionFieldRmd,
       GenericRecord currValueRecord,
@@ -856,7 +856,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     collectionFieldRmd.setDeletedElementsAndTimestamps(deletedKeys, newDeletedTimestamps);
   }
 
-  private UpdateResultStatus handleModifyCollectionMergeMap(
+  protected UpdateResultStatus handleModifyCollectionMergeMap(
       final long modifyTimestamp,
       CollectionRmdTimestamp<String> collectionFieldRmd,
       GenericRecord currValueRecord,
@@ -1080,7 +1080,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     return false;
   }
 
-  private boolean shouldUpdateMapFieldItemValueWithSameTs(Object currentValue, Object newValue, Schema fieldSchema) {
+  protected boolean shouldUpdateMapFieldItemValueWithSameTs(Object currentValue, Object newValue, Schema fieldSchema) {
     /**
      * For complex map item value type, for example union type [null, item value type], it is possible that the item
      * value can be null. This is the safeguard to not compare with the null value and always let the not-null value win
@@ -33,11 +33,16 @@ public class WriteComputeHandlerV2 extends WriteComputeHandlerV1 {
   private final CollectionFieldOperationHandler collectionFieldOperationHandler;
 
   WriteComputeHandlerV2(MergeRecordHelper mergeRecordHelper) {
+    this(mergeRecordHelper, new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE));
+  }
+
+  WriteComputeHandlerV2(
+      MergeRecordHelper mergeRecordHelper,
+      CollectionFieldOperationHandler collectionFieldOperationHandler) {
     Validate.notNull(mergeRecordHelper);
+    Validate.notNull(collectionFieldOperationHandler);
     this.mergeRecordHelper = mergeRecordHelper;
-    // TODO: get this variable as a argument passed to this constructor.
-    this.collectionFieldOperationHandler =
-        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+    this.collectionFieldOperationHandler = collectionFieldOperationHandler;
   }
 
   /**
@@ -1,5 +1,6 @@
 package com.linkedin.davinci.schema.writecompute;
 
+import com.linkedin.davinci.schema.merge.CollectionFieldOperationHandler;
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
 import com.linkedin.davinci.schema.merge.ValueAndRmd;
 import io.tehuti.utils.Utils;
@@ -44,6 +45,12 @@ public class WriteComputeProcessor {
     this.writeComputeHandlerV2 = new WriteComputeHandlerV2(mergeRecordHelper);
   }
 
+  public WriteComputeProcessor(
+      MergeRecordHelper mergeRecordHelper,
+      CollectionFieldOperationHandler collectionFieldOperationHandler) {
+    this.writeComputeHandlerV2 = new WriteComputeHandlerV2(mergeRecordHelper, collectionFieldOperationHandler);
+  }
+
   /**
    * Apply write-compute operations on the given record.
    *
@@ -0,0 +1,39 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.stats.AbstractVeniceAggStoreStats;
+import com.linkedin.venice.stats.StatsSupplier;
+import io.tehuti.metrics.MetricsRepository;
+
+
+/**
+ * This class provides aggregate initialization support for the write path trace stats class {@link WritePathTraceStats}
+ */
+public class AggWritePathTraceStats extends AbstractVeniceAggStoreStats<WritePathTraceStats> {
+  public AggWritePathTraceStats(
+      MetricsRepository metricsRepository,
+      ReadOnlyStoreRepository metadataRepository,
+      boolean unregisterMetricForDeletedStoreEnabled) {
+    super(
+        metricsRepository,
+        new WritePathTraceStatsSupplier(),
+        metadataRepository,
+        unregisterMetricForDeletedStoreEnabled);
+  }
+
+  static class WritePathTraceStatsSupplier implements StatsSupplier<WritePathTraceStats> {
+    @Override
+    public WritePathTraceStats get(MetricsRepository metricsRepository, String storeName) {
+      throw new VeniceException("Should not be called.");
+    }
+
+    @Override
+    public WritePathTraceStats get(
+        MetricsRepository metricsRepository,
+        String storeName,
+        WritePathTraceStats totalStats) {
+      return new WritePathTraceStats(metricsRepository, storeName, totalStats);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import io.tehuti.metrics.stats.Rate;
+import io.tehuti.metrics.stats.Total;
+import java.util.function.IntSupplier;
+
+
+/**
+ * Metrics of a changelog consumer which processes the polled records with a pool of workers, see
+ * {@link com.linkedin.davinci.consumer.ChangelogClientConfig#setParallelProcessingThreadCount}.
+ */
+public class ChangelogConsumerStats extends AbstractVeniceStats {
+  private final Sensor fetchedRecordSensor;
+  private final Sensor processedRecordSensor;
+  private final Sensor droppedRecordSensor;
+  private final Sensor batchProcessingLatencySensor;
+  private final Sensor fetchErrorSensor;
+
+  public ChangelogConsumerStats(
+      MetricsRepository metricsRepository,
+      String storeName,
+      IntSupplier outputQueueSizeSupplier,
+      IntSupplier inFlightBatchCountSupplier) {
+    super(metricsRepository, storeName);
+    fetchedRecordSensor = registerSensor("changelog_consumer_fetched_records", new Rate(), new Total());
+    processedRecordSensor = registerSensor("changelog_consumer_processed_records", new Rate(), new Total());
+    // Records fetched before a seek, an unsubscription or a version swap of their partition, which are not returned
+    droppedRecordSensor = registerSensor("changelog_consumer_dropped_records", new Total());
+    batchProcessingLatencySensor = registerSensor("changelog_consumer_batch_processing_latency", new Avg(), new Max());
+    fetchErrorSensor = registerSensor("changelog_consumer_fetch_error", new OccurrenceRate());
+    registerSensor("changelog_consumer_output_queue_size", new Gauge(() -> outputQueueSizeSupplier.getAsInt()));
+    registerSensor("changelog_consumer_in_flight_batch_count", new Gauge(() -> inFlightBatchCountSupplier.getAsInt()));
+  }
+
+  public void recordFetchedRecords(int count) {
+    fetchedRecordSensor.record(count);
+  }
+
+  public void recordProcessedRecords(int count) {
+    processedRecordSensor.record(count);
+  }
+
+  public void recordDroppedRecords(int count) {
+    droppedRecordSensor.record(count);
+  }
+
+  public void recordBatchProcessingLatency(double latencyInMs) {
+    batchProcessingLatencySensor.record(latencyInMs);
+  }
+
+  public void recordFetchError() {
+    fetchErrorSensor.record();
+  }
+}
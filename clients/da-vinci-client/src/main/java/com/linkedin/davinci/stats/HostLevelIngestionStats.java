@@ -90,6 +90,11 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
    * message processing.
    */
   private final Sensor writeComputeCacheHitCount;
+  /**
+   * Measure the number of UPDATEs coalesced by a leader with the next UPDATE of the same key, which saved a read of the
+   * current value and a record produced to the version topic.
+   */
+  private final Sensor writeComputeCoalescedUpdateCount;
 
   private final LongAdderRateGauge totalLeaderBytesConsumedRate;
   private final LongAdderRateGauge totalLeaderRecordsConsumedRate;
@@ -379,6 +384,12 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         () -> totalStats.writeComputeCacheHitCount,
         new OccurrenceRate());
 
+    this.writeComputeCoalescedUpdateCount = registerPerStoreAndTotalSensor(
+        "write_compute_coalesced_update_count",
+        totalStats,
+        () -> totalStats.writeComputeCoalescedUpdateCount,
+        new OccurrenceRate());
+
     this.checksumVerificationFailureSensor = registerPerStoreAndTotalSensor(
         "checksum_verification_failure",
         totalStats,
@@ -514,6 +525,10 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
     writeComputeCacheHitCount.record();
   }
 
+  public void recordWriteComputeCoalescedUpdateCount() {
+    writeComputeCoalescedUpdateCount.record();
+  }
+
   public void recordIngestionReplicationMetadataCacheHitCount(long currentTimeMs) {
     leaderIngestionReplicationMetadataCacheHitCount.record(1, currentTimeMs);
   }
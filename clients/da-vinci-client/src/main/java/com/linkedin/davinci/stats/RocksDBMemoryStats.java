@@ -1,5 +1,6 @@
 package com.linkedin.davinci.stats;
 
+import com.linkedin.davinci.store.cache.offheap.OffHeapValueCache;
 import com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.stats.AbstractVeniceStats;
@@ -12,9 +13,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.rocksdb.Cache;
 import org.rocksdb.SstFileManager;
 
 
@@ -57,6 +60,13 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
       "rocksdb.block-cache-pinned-usage",
       "rocksdb.block-cache-usage");
 
+  // Blob file metrics of integrated BlobDB, which are reported per column family, so they are summed across all of them
+  static final List<String> BLOB_METRIC_DOMAINS = Arrays.asList(
+      "rocksdb.num-blob-files",
+      "rocksdb.total-blob-file-size",
+      "rocksdb.live-blob-file-size",
+      "rocksdb.live-blob-file-garbage-size");
+
   // metrics emitted on a per instance basis need only be collected once, not aggregated
   private static final Set<String> INSTANCE_METRIC_DOMAINS = Collections.unmodifiableSet(
       new HashSet<>(
@@ -66,6 +76,8 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
               "rocksdb.block-cache-usage")));
   private volatile long memoryLimit = -1;
   private volatile SstFileManager sstFileManager;
+  private volatile OffHeapValueCache offHeapValueCache;
+  private volatile Cache rowCache;
 
   // metrics related to block cache, which should not be collected when plain table format is enabled.
   private static final Set<String> BLOCK_CACHE_METRICS =
@@ -100,6 +112,24 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
         return total;
       }));
     }
+    if (!plainTableEnabled) {
+      // Blob files are not used along with PlainTable format
+      for (String metric: BLOB_METRIC_DOMAINS) {
+        registerSensor(metric, new Gauge(() -> {
+          long total = 0;
+          synchronized (hostedRocksDBPartitions) {
+            for (RocksDBStoragePartition dbPartition: hostedRocksDBPartitions.values()) {
+              try {
+                total += dbPartition.getRocksDBStatValueOfAllColumnFamilies(metric);
+              } catch (VeniceException e) {
+                LOGGER.warn("Could not get rocksDB metric {} with error:", metric, e);
+              }
+            }
+          }
+          return total;
+        }));
+      }
+    }
     registerSensor("memory_limit", new Gauge(() -> memoryLimit));
     registerSensor("memory_usage", new Gauge(() -> {
       if (memoryLimit > 0 && sstFileManager != null) {
@@ -107,6 +137,32 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
       }
       return -1;
     }));
+    registerOffHeapValueCacheSensor("off_heap_value_cache_capacity", OffHeapValueCache::getCapacityInBytes);
+    registerOffHeapValueCacheSensor("off_heap_value_cache_allocated_bytes", OffHeapValueCache::getAllocatedBytes);
+    registerOffHeapValueCacheSensor("off_heap_value_cache_used_bytes", OffHeapValueCache::getUsedBytes);
+    registerOffHeapValueCacheSensor("off_heap_value_cache_entry_count", OffHeapValueCache::getEntryCount);
+    registerOffHeapValueCacheSensor("off_heap_value_cache_hit", OffHeapValueCache::getHitCount);
+    registerOffHeapValueCacheSensor("off_heap_value_cache_miss", OffHeapValueCache::getMissCount);
+    registerOffHeapValueCacheSensor("off_heap_value_cache_eviction", OffHeapValueCache::getEvictionCount);
+    registerOffHeapValueCacheSensor(
+        "off_heap_value_cache_admission_rejection",
+        OffHeapValueCache::getAdmissionRejectionCount);
+    registerRowCacheSensor("rocksdb.row-cache-usage", Cache::getUsage);
+    registerRowCacheSensor("rocksdb.row-cache-pinned-usage", Cache::getPinnedUsage);
+  }
+
+  private void registerRowCacheSensor(String sensorName, ToLongFunction<Cache> statFunction) {
+    registerSensor(sensorName, new Gauge(() -> {
+      Cache cache = rowCache;
+      return cache == null ? -1 : statFunction.applyAsLong(cache);
+    }));
+  }
+
+  private void registerOffHeapValueCacheSensor(String sensorName, ToLongFunction<OffHeapValueCache> statFunction) {
+    registerSensor(sensorName, new Gauge(() -> {
+      OffHeapValueCache cache = offHeapValueCache;
+      return cache == null ? -1 : statFunction.applyAsLong(cache);
+    }));
   }
 
   public void setMemoryLimit(long memoryLimit) {
@@ -117,6 +173,14 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
     this.sstFileManager = sstFileManager;
   }
 
+  public void setOffHeapValueCache(OffHeapValueCache offHeapValueCache) {
+    this.offHeapValueCache = offHeapValueCache;
+  }
+
+  public void setRowCache(Cache rowCache) {
+    this.rowCache = rowCache;
+  }
+
   public void registerPartition(String partitionName, RocksDBStoragePartition rocksDBPartition) {
     hostedRocksDBPartitions.put(partitionName, rocksDBPartition);
   }
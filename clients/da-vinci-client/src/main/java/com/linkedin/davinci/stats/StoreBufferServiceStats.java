@@ -31,12 +31,19 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
     minMemoryUsagePerWriterSensor = registerSensor(
         "min_memory_usage_per_writer",
         new Gauge(() -> this.workerService.getMinMemoryUsagePerDrainer()));
+    registerSensor("partition_migration_count", new Gauge(() -> this.workerService.getPartitionMigrationCount()));
 
     for (int i = 0; i < this.workerService.getDrainerCount(); i++) {
       int finalIndex = i;
       registerSensor(
           "memory_usage_for_writer_num_" + i,
           new Gauge(() -> this.workerService.getDrainerQueueMemoryUsage(finalIndex)));
+      registerSensor(
+          "assigned_partition_count_for_writer_num_" + i,
+          new Gauge(() -> this.workerService.getDrainerAssignedPartitionCount(finalIndex)));
+      registerSensor(
+          "processing_time_ns_per_byte_for_writer_num_" + i,
+          new Gauge(() -> this.workerService.getDrainerProcessingTimeNsPerByte(finalIndex)));
     }
   }
 }
@@ -0,0 +1,158 @@
+package com.linkedin.davinci.stats;
+
+/**
+ * The stage timings of a record sampled by {@link WritePathTracer}, from the time it was written to the broker to the
+ * time it was persisted in the storage engine.
+ *
+ * A trace is stamped at the end of each {@link Stage} by the thread which is handling the record at that point: the
+ * consumer thread, the producer callback thread and then the drainer thread. The record is handed over between those
+ * threads through a queue or a callback, which makes the previous stamps visible to the next thread.
+ */
+public class WritePathTrace {
+  /**
+   * The stages of the write path, in the order in which a record goes through them. Stages which don't apply to a
+   * record, e.g. {@link #DCR} for a non active/active store, are never stamped and take no time.
+   */
+  public enum Stage {
+    /**
+     * From the broker timestamp of the record to the start of its processing by the consumer thread.
+     */
+    POLL("poll"),
+    /**
+     * Deterministic conflict resolution and merge of the record with the current value, in active/active stores.
+     */
+    DCR("dcr"),
+    /**
+     * The rest of the processing by the consumer thread, until the record is queued or produced to the version topic.
+     */
+    CONSUMER_PROCESSING("consumer_processing"),
+    /**
+     * From the send to the version topic to the producer callback, for the records produced by a leader.
+     */
+    PRODUCE("produce"),
+    /**
+     * The time spent in the {@link com.linkedin.davinci.kafka.consumer.StoreBufferService} queue.
+     */
+    QUEUE("queue"),
+    /**
+     * The processing by the drainer thread until the write to the storage engine.
+     */
+    DRAINER("drainer"),
+    /**
+     * The write to the storage engine.
+     */
+    STORAGE_WRITE("storage_write");
+
+    private final String metricName;
+
+    Stage(String metricName) {
+      this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+      return metricName;
+    }
+  }
+
+  private static final Stage[] STAGES = Stage.values();
+
+  private final WritePathTracer tracer;
+  private final String topicName;
+  private final String storeName;
+  private final int partition;
+  private final long offset;
+  private final long pollLatencyNs;
+  private final long startTimeNs;
+  /**
+   * The end time of each stage, or 0 when the stage hasn't been stamped.
+   */
+  private final long[] stageEndTimesNs = new long[STAGES.length];
+  private long totalLatencyNs;
+  private long completionTimestampMs;
+
+  WritePathTrace(
+      WritePathTracer tracer,
+      String topicName,
+      String storeName,
+      int partition,
+      long offset,
+      long pollLatencyNs,
+      long startTimeNs) {
+    this.tracer = tracer;
+    this.topicName = topicName;
+    this.storeName = storeName;
+    this.partition = partition;
+    this.offset = offset;
+    this.pollLatencyNs = pollLatencyNs;
+    this.startTimeNs = startTimeNs;
+  }
+
+  /**
+   * Marks the end of the given stage, and the start of the next one.
+   */
+  public void stamp(Stage stage) {
+    stageEndTimesNs[stage.ordinal()] = System.nanoTime();
+  }
+
+  /**
+   * Marks the end of the last stage, and reports the trace to the {@link WritePathTracer}.
+   */
+  public void finish() {
+    long endTimeNs = System.nanoTime();
+    if (stageEndTimesNs[Stage.STORAGE_WRITE.ordinal()] == 0) {
+      // The record didn't get written to the storage engine, e.g. a control message, so the rest is drainer time
+      stageEndTimesNs[Stage.DRAINER.ordinal()] = endTimeNs;
+    }
+    totalLatencyNs = pollLatencyNs + endTimeNs - startTimeNs;
+    tracer.onTraceFinished(this);
+  }
+
+  /**
+   * @return the time spent in the given stage, which is 0 if the record didn't go through it.
+   */
+  public long getStageLatencyNs(Stage stage) {
+    if (stage == Stage.POLL) {
+      return pollLatencyNs;
+    }
+    long stageEndTimeNs = stageEndTimesNs[stage.ordinal()];
+    if (stageEndTimeNs == 0) {
+      return 0;
+    }
+    long stageStartTimeNs = startTimeNs;
+    for (int i = stage.ordinal() - 1; i > Stage.POLL.ordinal(); i--) {
+      if (stageEndTimesNs[i] != 0) {
+        stageStartTimeNs = stageEndTimesNs[i];
+        break;
+      }
+    }
+    return Math.max(0, stageEndTimeNs - stageStartTimeNs);
+  }
+
+  public String getTopicName() {
+    return topicName;
+  }
+
+  public String getStoreName() {
+    return storeName;
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  public long getOffset() {
+    return offset;
+  }
+
+  public long getTotalLatencyNs() {
+    return totalLatencyNs;
+  }
+
+  void setCompletionTimestampMs(long completionTimestampMs) {
+    this.completionTimestampMs = completionTimestampMs;
+  }
+
+  public long getCompletionTimestampMs() {
+    return completionTimestampMs;
+  }
+}
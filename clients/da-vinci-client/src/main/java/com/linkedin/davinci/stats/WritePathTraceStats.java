@@ -0,0 +1,53 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.TehutiUtils;
+import com.linkedin.venice.utils.LatencyUtils;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+
+
+/**
+ * Latency distribution of each {@link WritePathTrace.Stage} of the records sampled by {@link WritePathTracer}, in
+ * milliseconds. The per-store sensors report to the sensors of the total stats as well.
+ */
+public class WritePathTraceStats extends AbstractVeniceStats {
+  private static final WritePathTrace.Stage[] STAGES = WritePathTrace.Stage.values();
+
+  private final Sensor[] stageLatencySensors = new Sensor[STAGES.length];
+  private final Sensor totalLatencySensor;
+
+  /**
+   * @param totalStats the total stats singleton instance, or null if we are constructing the total stats
+   */
+  public WritePathTraceStats(MetricsRepository metricsRepository, String storeName, WritePathTraceStats totalStats) {
+    super(metricsRepository, storeName);
+    for (WritePathTrace.Stage stage: STAGES) {
+      stageLatencySensors[stage.ordinal()] = registerLatencySensor(
+          "write_path_trace_" + stage.getMetricName() + "_latency",
+          totalStats == null ? null : totalStats.stageLatencySensors[stage.ordinal()]);
+    }
+    this.totalLatencySensor = registerLatencySensor(
+        "write_path_trace_total_latency",
+        totalStats == null ? null : totalStats.totalLatencySensor);
+  }
+
+  private Sensor registerLatencySensor(String sensorName, Sensor totalSensor) {
+    return registerSensor(
+        sensorName,
+        totalSensor == null ? null : new Sensor[] { totalSensor },
+        new Avg(),
+        new Max(),
+        TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + sensorName));
+  }
+
+  public void recordTrace(WritePathTrace trace, long currentTimeMs) {
+    for (WritePathTrace.Stage stage: STAGES) {
+      stageLatencySensors[stage.ordinal()]
+          .record(LatencyUtils.convertLatencyFromNSToMS(trace.getStageLatencyNs(stage)), currentTimeMs);
+    }
+    totalLatencySensor.record(LatencyUtils.convertLatencyFromNSToMS(trace.getTotalLatencyNs()), currentTimeMs);
+  }
+}
@@ -0,0 +1,176 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.utils.ComplementSet;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * This class samples ingested records to trace the time they spend in each {@link WritePathTrace.Stage} of the write
+ * path. The stage latencies of the sampled records are recorded in {@link WritePathTraceStats}, and the slowest recent
+ * records of each version topic are kept so that they can be dumped through the server admin endpoint.
+ *
+ * The trace of the record being processed by a thread is kept in a thread local, so that the stages which don't have
+ * access to the record, e.g. the write to the storage engine, can stamp it. It gets detached from the thread when the
+ * record is handed over to another one. Since only sampled records set the thread local, the tracing is nearly free for
+ * the other records.
+ */
+public class WritePathTracer {
+  private static final ThreadLocal<WritePathTrace> CURRENT_TRACE = new ThreadLocal<>();
+  private static final Comparator<WritePathTrace> LATENCY_COMPARATOR =
+      Comparator.comparingLong(WritePathTrace::getTotalLatencyNs);
+
+  private final int samplingInterval;
+  private final int slowestTraceCount;
+  private final long slowestTraceWindowMs;
+  private final Time time;
+  private final AggWritePathTraceStats stats;
+  private final Map<String, SlowestTraces> topicToSlowestTraces = new VeniceConcurrentHashMap<>();
+
+  public WritePathTracer(
+      MetricsRepository metricsRepository,
+      ReadOnlyStoreRepository metadataRepository,
+      VeniceServerConfig serverConfig,
+      Time time) {
+    this.samplingInterval = serverConfig.getWritePathTraceSamplingInterval();
+    this.slowestTraceCount = serverConfig.getWritePathTraceSlowestRecordCount();
+    this.slowestTraceWindowMs = serverConfig.getWritePathTraceSlowestRecordWindowMs();
+    this.time = time;
+    this.stats = isEnabled()
+        ? new AggWritePathTraceStats(
+            metricsRepository,
+            metadataRepository,
+            serverConfig.isUnregisterMetricForDeletedStoreEnabled())
+        : null;
+  }
+
+  public boolean isEnabled() {
+    return samplingInterval > 0;
+  }
+
+  /**
+   * @return a new trace if the record is sampled, null otherwise.
+   */
+  public WritePathTrace maybeStartTrace(
+      String topicName,
+      String storeName,
+      int partition,
+      long offset,
+      long brokerTimestampMs,
+      long startTimeNs) {
+    if (!isEnabled() || ThreadLocalRandom.current().nextInt(samplingInterval) != 0) {
+      return null;
+    }
+    long pollLatencyNs = TimeUnit.MILLISECONDS.toNanos(Math.max(0, time.getMilliseconds() - brokerTimestampMs));
+    return new WritePathTrace(this, topicName, storeName, partition, offset, pollLatencyNs, startTimeNs);
+  }
+
+  void onTraceFinished(WritePathTrace trace) {
+    long currentTimeMs = time.getMilliseconds();
+    trace.setCompletionTimestampMs(currentTimeMs);
+    stats.getStoreStats(trace.getStoreName()).recordTrace(trace, currentTimeMs);
+    if (slowestTraceCount > 0) {
+      topicToSlowestTraces.computeIfAbsent(trace.getTopicName(), k -> new SlowestTraces()).add(trace, currentTimeMs);
+    }
+  }
+
+  /**
+   * @return the slowest traces of the given partitions of the version topic which completed within the last one or two
+   *         windows, from the slowest to the fastest.
+   */
+  public List<WritePathTrace> getSlowestTraces(String topicName, ComplementSet<Integer> partitions) {
+    SlowestTraces slowestTraces = topicToSlowestTraces.get(topicName);
+    if (slowestTraces == null) {
+      return new ArrayList<>();
+    }
+    List<WritePathTrace> traces = slowestTraces.get(time.getMilliseconds());
+    traces.removeIf(trace -> !partitions.contains(trace.getPartition()));
+    traces.sort(LATENCY_COMPARATOR.reversed());
+    return traces.size() > slowestTraceCount ? traces.subList(0, slowestTraceCount) : traces;
+  }
+
+  public void removeTopic(String topicName) {
+    topicToSlowestTraces.remove(topicName);
+  }
+
+  public static void setCurrentTrace(WritePathTrace trace) {
+    CURRENT_TRACE.set(trace);
+  }
+
+  /**
+   * @return the trace of the record being processed by the current thread, or null if it isn't sampled.
+   */
+  public static WritePathTrace getCurrentTrace() {
+    return CURRENT_TRACE.get();
+  }
+
+  /**
+   * Removes the trace of the record being processed by the current thread, which is handing it over to another thread.
+   *
+   * @return the trace of the record, or null if it isn't sampled.
+   */
+  public static WritePathTrace detachCurrentTrace() {
+    WritePathTrace trace = CURRENT_TRACE.get();
+    if (trace != null) {
+      CURRENT_TRACE.remove();
+    }
+    return trace;
+  }
+
+  public static void clearCurrentTrace() {
+    CURRENT_TRACE.remove();
+  }
+
+  /**
+   * The slowest traces of a version topic, in two consecutive time windows. The traces of the current window are moved
+   * to the previous one when it ends, so that the slowest traces are always available for at least one window.
+   */
+  private class SlowestTraces {
+    private PriorityQueue<WritePathTrace> currentWindowTraces = new PriorityQueue<>(LATENCY_COMPARATOR);
+    private PriorityQueue<WritePathTrace> previousWindowTraces = new PriorityQueue<>(LATENCY_COMPARATOR);
+    private long currentWindowStartTimeMs = time.getMilliseconds();
+
+    synchronized void add(WritePathTrace trace, long currentTimeMs) {
+      maybeRotateWindows(currentTimeMs);
+      if (currentWindowTraces.size() < slowestTraceCount) {
+        currentWindowTraces.add(trace);
+      } else if (currentWindowTraces.peek().getTotalLatencyNs() < trace.getTotalLatencyNs()) {
+        currentWindowTraces.poll();
+        currentWindowTraces.add(trace);
+      }
+    }
+
+    synchronized List<WritePathTrace> get(long currentTimeMs) {
+      maybeRotateWindows(currentTimeMs);
+      List<WritePathTrace> traces = new ArrayList<>(currentWindowTraces.size() + previousWindowTraces.size());
+      traces.addAll(currentWindowTraces);
+      traces.addAll(previousWindowTraces);
+      return traces;
+    }
+
+    private void maybeRotateWindows(long currentTimeMs) {
+      long elapsedTimeMs = currentTimeMs - currentWindowStartTimeMs;
+      if (elapsedTimeMs < slowestTraceWindowMs) {
+        return;
+      }
+      if (elapsedTimeMs < 2 * slowestTraceWindowMs) {
+        previousWindowTraces = currentWindowTraces;
+        currentWindowStartTimeMs += slowestTraceWindowMs;
+      } else {
+        previousWindowTraces = new PriorityQueue<>(LATENCY_COMPARATOR);
+        currentWindowStartTimeMs = currentTimeMs;
+      }
+      currentWindowTraces = new PriorityQueue<>(LATENCY_COMPARATOR);
+    }
+  }
+}
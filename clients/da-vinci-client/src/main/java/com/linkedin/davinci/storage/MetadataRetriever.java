@@ -11,5 +11,7 @@ public interface MetadataRetriever {
 
   AdminResponse getConsumptionSnapshots(String topicName, ComplementSet<Integer> partitions);
 
+  AdminResponse getSlowWritePathTraces(String topicName, ComplementSet<Integer> partitions);
+
   MetadataResponse getMetadata(String storeName);
 }
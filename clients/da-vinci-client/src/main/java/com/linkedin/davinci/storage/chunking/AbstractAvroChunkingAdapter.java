@@ -18,6 +18,7 @@ import com.linkedin.venice.utils.LatencyUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -190,6 +191,44 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         compressor);
   }
 
+  /**
+   * Looks up the top-level values of a batch of keys belonging to the same partition with a single storage engine
+   * call. Each returned value needs to be passed to {@link #getFromPrefetchedValue} to be deserialized.
+   *
+   * @return the top-level values in the same order as the keys, with null for the keys which do not exist.
+   */
+  public List<byte[]> multiGetRawValues(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      ReadResponse response) {
+    return ChunkingUtils.multiGetFromStorage(store, partition, keys, isChunked, response);
+  }
+
+  public T getFromPrefetchedValue(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] rawValue,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      ReadResponse response,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    return ChunkingUtils.getFromPrefetchedValue(
+        this,
+        store,
+        partition,
+        rawValue,
+        response,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor);
+  }
+
   public void getByPartialKey(
       AbstractStorageEngine store,
       int userPartition,
@@ -5,13 +5,19 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 
 /**
  * Batch get chunking adapter
+ *
+ * The chunks of large values are not stitched together, but kept in a {@link CompositeByteBuf} carried by a
+ * {@link ChunkedMultiGetResponseRecord}, so that they can be written to the response without being copied.
  */
-public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, MultiGetResponseRecordV1> {
+public class BatchGetChunkingAdapter implements ChunkingAdapter<CompositeByteBuf, MultiGetResponseRecordV1> {
   private static final BatchGetChunkingAdapter BATCH_GET_CHUNKING_ADAPTER = new BatchGetChunkingAdapter();
 
   /** Singleton */
@@ -19,33 +25,18 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
   }
 
   @Override
-  public void addChunkIntoContainer(ByteBuffer byteBuffer, int chunkIndex, byte[] valueChunk) {
-    byteBuffer.put(valueChunk, ValueRecord.SCHEMA_HEADER_LENGTH, valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH);
+  public void addChunkIntoContainer(CompositeByteBuf byteBufs, int chunkIndex, byte[] valueChunk) {
+    byteBufs.addComponent(true, chunkIndex, ValueRecord.parseDataAsByteBuf(valueChunk));
   }
 
   @Override
-  public ByteBuffer constructChunksContainer(ChunkedValueManifest chunkedValueManifest) {
-    return ByteBuffer.allocate(chunkedValueManifest.size);
+  public CompositeByteBuf constructChunksContainer(ChunkedValueManifest chunkedValueManifest) {
+    return Unpooled.compositeBuffer(chunkedValueManifest.keysWithChunkIdSuffix.size());
   }
 
   @Override
-  public MultiGetResponseRecordV1 constructValue(int schemaId, ByteBuffer byteBuffer) {
-    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
-    /**
-     * For re-assembled large values, it is necessary to reposition the {@link ByteBuffer} back to the
-     * beginning of its content, otherwise the Avro encoder will skip this content.
-     *
-     * Note that this only occurs for a ByteBuffer we've been writing into gradually (i.e.: during chunk
-     * re-assembly) but does not occur for a ByteBuffer that has been created by wrapping a single byte
-     * array (i.e.: as is the case for small values, in {@link fullBytesToMultiGetResponseRecordV1}).
-     * Doing this re-positioning for small values would cause another type of problem, because for these
-     * (wrapping) ByteBuffer instances, the position needs to remain set to the starting offset (within
-     * the backing array) which was originally specified at construction time...
-     */
-    byteBuffer.position(0);
-    record.value = byteBuffer;
-    record.schemaId = schemaId;
-    return record;
+  public MultiGetResponseRecordV1 constructValue(int schemaId, CompositeByteBuf byteBufs) {
+    return new ChunkedMultiGetResponseRecord(schemaId, byteBufs);
   }
 
   @Override
@@ -68,4 +59,19 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
     }
     return ChunkingUtils.getFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, key, response);
   }
+
+  /**
+   * Looks up a batch of keys belonging to the same partition with a single storage engine call, and the chunks of all
+   * the large values among them with another one.
+   *
+   * @return the records in the same order as the keys, with null for the keys which do not exist.
+   */
+  public static List<MultiGetResponseRecordV1> multiGet(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      ReadResponse response) {
+    return ChunkingUtils.multiGetFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, keys, isChunked, response);
+  }
 }
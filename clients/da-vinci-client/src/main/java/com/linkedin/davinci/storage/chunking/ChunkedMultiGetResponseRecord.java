@@ -0,0 +1,37 @@
+package com.linkedin.davinci.storage.chunking;
+
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+
+
+/**
+ * A {@link MultiGetResponseRecordV1} of a large value, which is kept as a {@link CompositeByteBuf} of its chunks rather
+ * than being copied into a contiguous {@link java.nio.ByteBuffer}, so that the chunks can be written to the response
+ * as they are.
+ *
+ * The {@link #value} field is left null, so this record must be serialized by writing {@link #getCompositeValue()} in
+ * place of the value, instead of with a regular Avro serializer.
+ */
+public class ChunkedMultiGetResponseRecord extends MultiGetResponseRecordV1 {
+  private final CompositeByteBuf compositeValue;
+
+  public ChunkedMultiGetResponseRecord(int schemaId, CompositeByteBuf compositeValue) {
+    this.schemaId = schemaId;
+    this.compositeValue = compositeValue;
+  }
+
+  public ByteBuf getCompositeValue() {
+    return compositeValue;
+  }
+
+  /**
+   * @return the size of the value of the given record, whether or not it is a {@link ChunkedMultiGetResponseRecord}.
+   */
+  public static int getValueSize(MultiGetResponseRecordV1 record) {
+    if (record instanceof ChunkedMultiGetResponseRecord) {
+      return ((ChunkedMultiGetResponseRecord) record).compositeValue.readableBytes();
+    }
+    return record.value.remaining();
+  }
+}
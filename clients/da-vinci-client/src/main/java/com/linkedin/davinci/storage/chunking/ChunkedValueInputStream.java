@@ -41,6 +41,17 @@ public class ChunkedValueInputStream extends InputStream {
     chunks[chunkIndex] = chunkContent;
   }
 
+  /**
+   * @return the total size of the payload of all the chunks, which excludes the schema ID header of each chunk.
+   */
+  public int getPayloadSize() {
+    int payloadSize = 0;
+    for (byte[] chunk: chunks) {
+      payloadSize += chunk.length - STARTING_OFFSET_IN_EACH_CHUNK;
+    }
+    return payloadSize;
+  }
+
   /**
    * Required part of the {@link InputStream} contract, although we hope that it will generally not
    * be called, as the alternative {@link #read(byte[], int, int)} function is more efficient. Still,
@@ -18,6 +18,8 @@ import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -53,7 +55,7 @@ import org.apache.avro.io.BinaryDecoder;
  *    a) If it is positive, then it's a full value, and is returned immediately.
  *    b) If it is negative, then it's a {@link ChunkedValueManifest}, and we continue to the next steps.
  * 3. The {@link ChunkedValueManifest} is deserialized, and its chunk keys are extracted.
- * 4. Each chunk key is queried.
+ * 4. All the chunk keys are queried with a single batch lookup.
  * 5. The chunks are stitched back together using the various adpater interfaces of this package,
  *    depending on whether it is the single get or batch get/compute path that needs to re-assembe
  *    a chunked value.
@@ -112,6 +114,9 @@ public class ChunkingUtils {
       VeniceCompressor compressor) {
     long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
     reusedRawValue = store.get(partition, keyBuffer, reusedRawValue);
+    if (response != null) {
+      response.addStorageIoWaitTime(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+    }
     if (reusedRawValue == null) {
       return null;
     }
@@ -224,6 +229,9 @@ public class ChunkingUtils {
     long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
     byte[] value =
         isRmdValue ? store.getReplicationMetadata(partition, keyBuffer.array()) : store.get(partition, keyBuffer);
+    if (response != null) {
+      response.addStorageIoWaitTime(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+    }
 
     return getFromStorage(
         value,
@@ -242,6 +250,161 @@ public class ChunkingUtils {
         manifestContainer);
   }
 
+  /**
+   * Looks up the top-level values of a batch of keys with a single {@link AbstractStorageEngine#multiGet} call, so
+   * that the storage engine can issue the underlying I/O requests together. The returned values need to be passed to
+   * {@link #getFromPrefetchedValue} to be re-assembled.
+   *
+   * @return the top-level values in the same order as the keys, with null for the keys which do not exist.
+   */
+  static List<byte[]> multiGetFromStorage(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      ReadResponse response) {
+    if (isChunked) {
+      List<byte[]> keysWithChunkingSuffix = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        keysWithChunkingSuffix.add(KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+      }
+      keys = keysWithChunkingSuffix;
+    }
+    long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+    List<byte[]> values = store.multiGet(partition, keys);
+    if (response != null) {
+      double latency = LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS);
+      response.addStorageIoWaitTime(latency);
+      response.addDatabaseLookupLatency(latency);
+    }
+    return values;
+  }
+
+  /**
+   * Re-assembles a top-level value fetched by {@link #multiGetFromStorage}, which only involves the storage engine
+   * if it is a chunked value.
+   */
+  static <VALUE, CHUNKS_CONTAINER> VALUE getFromPrefetchedValue(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] value,
+      ReadResponse response,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    // The lookup of the top-level value has been accounted for by the batch already
+    long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+    return getFromStorage(
+        value,
+        (value == null ? 0 : value.length),
+        databaseLookupStartTimeInNS,
+        adapter,
+        store,
+        partition,
+        response,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        false,
+        null);
+  }
+
+  /**
+   * Looks up and re-assembles the values of a batch of keys belonging to the same partition. The top-level values are
+   * fetched with a single {@link AbstractStorageEngine#multiGet} call, and then the chunks of all the chunked values
+   * among them are fetched together with another one, rather than with a lookup per chunk.
+   *
+   * @return the values in the same order as the keys, with null for the keys which do not exist.
+   */
+  static <VALUE, CHUNKS_CONTAINER> List<VALUE> multiGetFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      ReadResponse response) {
+    List<byte[]> values = multiGetFromStorage(store, partition, keys, isChunked, response);
+    ChunkedValueManifest[] chunkedValueManifests = null;
+    List<byte[]> chunkKeys = null;
+    if (isChunked) {
+      for (int i = 0; i < values.size(); i++) {
+        byte[] value = values.get(i);
+        if (value == null) {
+          continue;
+        }
+        int writerSchemaId = ValueRecord.parseSchemaId(value);
+        if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+          continue;
+        }
+        if (chunkedValueManifests == null) {
+          chunkedValueManifests = new ChunkedValueManifest[values.size()];
+          chunkKeys = new ArrayList<>();
+        }
+        chunkedValueManifests[i] = CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
+        addChunkKeys(chunkedValueManifests[i], chunkKeys);
+      }
+    }
+
+    List<byte[]> chunks = null;
+    if (chunkKeys != null) {
+      long chunksLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+      chunks = store.multiGet(partition, chunkKeys);
+      if (response != null) {
+        response.addStorageIoWaitTime(LatencyUtils.getLatencyInMS(chunksLookupStartTimeInNS));
+      }
+    }
+
+    List<VALUE> results = new ArrayList<>(values.size());
+    int chunksOffset = 0;
+    for (int i = 0; i < values.size(); i++) {
+      // The lookups have been accounted for by the batches already
+      long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+      ChunkedValueManifest chunkedValueManifest = chunkedValueManifests == null ? null : chunkedValueManifests[i];
+      if (chunkedValueManifest == null) {
+        byte[] value = values.get(i);
+        results.add(
+            getFromStorage(
+                value,
+                (value == null ? 0 : value.length),
+                databaseLookupStartTimeInNS,
+                adapter,
+                store,
+                partition,
+                response,
+                null,
+                null,
+                -1,
+                null,
+                null,
+                false,
+                null));
+      } else {
+        results.add(
+            constructChunkedValue(
+                adapter,
+                store,
+                partition,
+                chunkedValueManifest,
+                chunks,
+                chunksOffset,
+                databaseLookupStartTimeInNS,
+                response,
+                null,
+                null,
+                -1,
+                null,
+                null));
+        chunksOffset += chunkedValueManifest.keysWithChunkIdSuffix.size();
+      }
+    }
+    return results;
+  }
+
   public static ChunkedValueManifest getChunkValueManifestFromStorage(
       byte[] key,
       int partition,
@@ -318,18 +481,81 @@ public class ChunkingUtils {
     if (manifestContainer != null) {
       manifestContainer.setManifest(chunkedValueManifest);
     }
+    List<byte[]> chunks = getChunksFromStorage(store, partition, chunkedValueManifest, isRmdValue, response);
+    return constructChunkedValue(
+        adapter,
+        store,
+        partition,
+        chunkedValueManifest,
+        chunks,
+        0,
+        databaseLookupStartTimeInNS,
+        response,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor);
+  }
+
+  /**
+   * Fetches all the chunks of a chunked value with a single {@link AbstractStorageEngine#multiGet} call, instead of
+   * looking them up one at a time. The chunks of replication metadata are still fetched sequentially, as there is no
+   * batch lookup for replication metadata.
+   */
+  private static List<byte[]> getChunksFromStorage(
+      AbstractStorageEngine store,
+      int partition,
+      ChunkedValueManifest chunkedValueManifest,
+      boolean isRmdValue,
+      ReadResponse response) {
+    List<byte[]> chunkKeys = new ArrayList<>(chunkedValueManifest.keysWithChunkIdSuffix.size());
+    addChunkKeys(chunkedValueManifest, chunkKeys);
+    long chunksLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+    List<byte[]> chunks;
+    if (isRmdValue) {
+      chunks = new ArrayList<>(chunkKeys.size());
+      for (byte[] chunkKey: chunkKeys) {
+        chunks.add(store.getReplicationMetadata(partition, chunkKey));
+      }
+    } else {
+      chunks = store.multiGet(partition, chunkKeys);
+    }
+    if (response != null) {
+      response.addStorageIoWaitTime(LatencyUtils.getLatencyInMS(chunksLookupStartTimeInNS));
+    }
+    return chunks;
+  }
+
+  private static void addChunkKeys(ChunkedValueManifest chunkedValueManifest, List<byte[]> chunkKeys) {
+    for (ByteBuffer chunkKey: chunkedValueManifest.keysWithChunkIdSuffix) {
+      chunkKeys.add(chunkKey.array());
+    }
+  }
+
+  /**
+   * Re-assembles a chunked value out of its chunks, which are read from {@param chunks} starting at
+   * {@param chunksOffset}, in the order of the keys in {@param chunkedValueManifest}.
+   */
+  private static <VALUE, CHUNKS_CONTAINER> VALUE constructChunkedValue(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      ChunkedValueManifest chunkedValueManifest,
+      List<byte[]> chunks,
+      int chunksOffset,
+      long databaseLookupStartTimeInNS,
+      ReadResponse response,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor) {
     CHUNKS_CONTAINER assembledValueContainer = adapter.constructChunksContainer(chunkedValueManifest);
     int actualSize = 0;
 
     for (int chunkIndex = 0; chunkIndex < chunkedValueManifest.keysWithChunkIdSuffix.size(); chunkIndex++) {
-      // N.B.: This is done sequentially. Originally, each chunk was fetched concurrently in the same executor
-      // as the main queries, but this might cause deadlocks, so we are now doing it sequentially. If we want to
-      // optimize large value retrieval in the future, it's unclear whether the concurrent retrieval approach
-      // is optimal (as opposed to streaming the response out incrementally, for example). Since this is a
-      // premature optimization, we are not addressing it right now.
-      byte[] chunkKey = chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex).array();
-      byte[] valueChunk =
-          isRmdValue ? store.getReplicationMetadata(partition, chunkKey) : store.get(partition, chunkKey);
+      byte[] valueChunk = chunks.get(chunksOffset + chunkIndex);
 
       if (valueChunk == null) {
         throw new VeniceException("Chunk not found in " + getExceptionMessageDetails(store, partition, chunkIndex));
@@ -1,6 +1,13 @@
 package com.linkedin.davinci.storage.chunking;
 
+import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serialization.StoreDeserializerCache;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import org.apache.avro.io.BinaryDecoder;
 
 
 /**
@@ -16,4 +23,41 @@ public class RawBytesChunkingAdapter extends AbstractAvroChunkingAdapter<ByteBuf
   protected RawBytesChunkingAdapter() {
     super();
   }
+
+  /**
+   * The raw bytes of an uncompressed large value are the concatenation of its chunks, so they are copied once into a
+   * buffer of the exact size, rather than being streamed into a growing buffer by the deserializer.
+   */
+  @Override
+  public ByteBuffer constructValue(
+      ChunkedValueInputStream chunkedValueInputStream,
+      ByteBuffer reusedValue,
+      BinaryDecoder reusedDecoder,
+      ReadResponse response,
+      int writerSchemaId,
+      int readerSchemaId,
+      StoreDeserializerCache<ByteBuffer> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    if (compressor.getCompressionStrategy() != CompressionStrategy.NO_OP) {
+      return super.constructValue(
+          chunkedValueInputStream,
+          reusedValue,
+          reusedDecoder,
+          response,
+          writerSchemaId,
+          readerSchemaId,
+          storeDeserializerCache,
+          compressor);
+    }
+    byte[] value = new byte[chunkedValueInputStream.getPayloadSize()];
+    try {
+      int bytesRead = chunkedValueInputStream.read(value, 0, value.length);
+      if (bytesRead != value.length && value.length > 0) {
+        throw new VeniceException("Expected to read " + value.length + " bytes from the chunks, but got: " + bytesRead);
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to read the chunks of a large value", e);
+    }
+    return ByteBuffer.wrap(value);
+  }
 }
@@ -3,7 +3,10 @@ package com.linkedin.davinci.store;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.store.rocksdb.PartitionFileStagingArea;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -60,6 +63,19 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key);
 
+  /**
+   * Get the values of a batch of keys from the partition database.
+   * @return the values in the same order as the keys, with null for the keys which do not exist.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    // Naive default impl... only storage engines that support batched lookups override it.
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -117,6 +133,24 @@ public abstract class AbstractStoragePartition {
   public void endBatchWrite() {
   }
 
+  /**
+   * Lets the storage partition ingest the sorted runs of the writes of the given incremental push in a more efficient
+   * way until {@link #endIncrementalPushSstIngestion} of every incremental push in flight. All the writes are still
+   * readable right away, and persisted on {@link #sync()}.
+   */
+  public void beginIncrementalPushSstIngestion(String incrementalPushVersion) {
+  }
+
+  public void endIncrementalPushSstIngestion(String incrementalPushVersion) {
+  }
+
+  /**
+   * Fetches the pre-built files of this partition from the given staging area, and ingests them into this partition.
+   */
+  public void ingestPrebuiltPartitionFiles(PartitionFileStagingArea stagingArea) {
+    throw new VeniceUnsupportedOperationException("ingestPrebuiltPartitionFiles");
+  }
+
   /**
    * Get the partition database size in bytes
    * @return partition database size
@@ -0,0 +1,95 @@
+package com.linkedin.davinci.store.cache.offheap;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+
+/**
+ * A probabilistic frequency estimator backing the TinyLFU admission policy of {@link OffHeapValueCache}.
+ *
+ * This is a count-min sketch with 4-bit counters, 16 of them packed into each long, and each key is tracked by 4
+ * counters. To keep the history fresh, all the counters are halved once the number of increments reaches the sample
+ * size, which is 10 times the expected number of entries.
+ *
+ * See "TinyLFU: A Highly Efficient Cache Admission Policy" (Einziger, Friedman, Manes) for details.
+ */
+@NotThreadSafe
+class FrequencySketch {
+  private static final long[] SEEDS =
+      { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final int MAX_COUNTER_VALUE = 15;
+
+  private final long[] table;
+  private final int tableMask;
+  private final int sampleSize;
+  private int size;
+
+  FrequencySketch(long expectedEntries) {
+    int maximum = (int) Math.min(Math.max(expectedEntries, 16), 1 << 30);
+    // Each long holds 16 counters, and each key takes 4 of them
+    this.table = new long[ceilingPowerOfTwo(Math.max(maximum / 4, 16))];
+    this.tableMask = table.length - 1;
+    this.sampleSize = 10 * maximum;
+  }
+
+  /**
+   * @return the estimated number of occurrences of the given key hash, up to 15
+   */
+  int frequency(long hash) {
+    int frequency = MAX_COUNTER_VALUE;
+    for (int i = 0; i < SEEDS.length; i++) {
+      long h = rehash(hash, i);
+      int index = indexOf(h);
+      int shift = shiftOf(h);
+      frequency = Math.min(frequency, (int) ((table[index] >>> shift) & MAX_COUNTER_VALUE));
+    }
+    return frequency;
+  }
+
+  void increment(long hash) {
+    boolean added = false;
+    for (int i = 0; i < SEEDS.length; i++) {
+      long h = rehash(hash, i);
+      added |= incrementAt(indexOf(h), shiftOf(h));
+    }
+    if (added && ++size >= sampleSize) {
+      reset();
+    }
+  }
+
+  private boolean incrementAt(int index, int shift) {
+    long mask = (long) MAX_COUNTER_VALUE << shift;
+    if ((table[index] & mask) != mask) {
+      table[index] += 1L << shift;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Halves all the counters, so that the keys which were popular a while ago can be evicted.
+   */
+  private void reset() {
+    for (int i = 0; i < table.length; i++) {
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    size >>>= 1;
+  }
+
+  private int indexOf(long h) {
+    return (int) (h >>> 32) & tableMask;
+  }
+
+  private static int shiftOf(long h) {
+    return ((int) h & 15) << 2;
+  }
+
+  private static long rehash(long hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    return h ^ (h >>> 31);
+  }
+
+  private static int ceilingPowerOfTwo(int x) {
+    return 1 << -Integer.numberOfLeadingZeros(x - 1);
+  }
+}
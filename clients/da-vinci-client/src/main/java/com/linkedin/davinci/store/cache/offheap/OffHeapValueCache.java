@@ -0,0 +1,612 @@
+package com.linkedin.davinci.store.cache.offheap;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A cache of serialized values, which are kept in off-heap slabs so that caching tens of GB per host does not put any
+ * pressure on the GC. The cached value is the raw bytes persisted in the storage engine, so it is still serialized and
+ * compressed (if the store is compressed), and it is keyed by the raw key bytes.
+ *
+ * Memory management follows the slab allocator design: the memory budget is carved into fixed size slabs, which are
+ * allocated lazily, and each slab is split into chunks of a power-of-two size class. An entry is stored in the
+ * smallest chunk it fits in, and entries bigger than one slab are never cached. When a size class runs out of chunks
+ * after the budget is exhausted, the victim is picked by the CLOCK algorithm within the size class, and the new entry
+ * is only admitted if it is estimated to be accessed more frequently than the victim (TinyLFU, see
+ * {@link FrequencySketch}). This prevents one-off scans from flushing the hot entries out of the cache.
+ *
+ * The cache is shared by all the storage partitions of a host, and every storage partition gets its own namespace via
+ * {@link #newNamespace()}, so that the entries of different partitions never collide. Dropping all the entries of a
+ * partition doesn't touch any entry: {@link #invalidateNamespace} retires the namespace and hands out a new one, and
+ * the entries of the retired namespaces, which can never be looked up again, are reclaimed lazily as the first victims
+ * of the eviction, without going through the admission policy.
+ *
+ * To guarantee that a stale value read from the storage engine never overrides a newer write, the write path needs to
+ * call {@link #update} or {@link #invalidate} after persisting a record, and the read path needs to grab a stamp via
+ * {@link #getStamp} before reading the storage engine and pass it to {@link #putIfAdmitted}, which skips the insertion
+ * if there was any write to the same stamp stripe in between. Every segment keeps {@link #STAMP_STRIPE_COUNT} stamps
+ * selected by the key hash, so a fill only races with the writes to a small fraction of the keys.
+ *
+ * The cache is split into segments, each of which is guarded by its own lock. The entry index and the admission
+ * sketch are kept on heap, and they take a small fraction of the memory taken by the values.
+ */
+public class OffHeapValueCache {
+  private static final Logger LOGGER = LogManager.getLogger(OffHeapValueCache.class);
+
+  private static final int MIN_CHUNK_SIZE_SHIFT = 6;
+  static final int MIN_CHUNK_SIZE = 1 << MIN_CHUNK_SIZE_SHIFT;
+  private static final int MAX_SEGMENT_COUNT = 64;
+  static final int STAMP_STRIPE_COUNT = 256;
+  /**
+   * Only used to size the admission sketch.
+   */
+  private static final int ESTIMATED_ENTRY_SIZE = 1024;
+  private static final long NO_ADDRESS = -1;
+
+  /**
+   * Chunk layout: flags (1 byte), namespace (8 bytes), key hash (8 bytes), key length (4 bytes), value length
+   * (4 bytes), key bytes and value bytes.
+   */
+  private static final int FLAGS_OFFSET = 0;
+  private static final int NAMESPACE_OFFSET = 1;
+  private static final int HASH_OFFSET = 9;
+  private static final int KEY_LENGTH_OFFSET = 17;
+  private static final int VALUE_LENGTH_OFFSET = 21;
+  static final int HEADER_SIZE = 25;
+
+  private static final byte FLAG_IN_USE = 1;
+  private static final byte FLAG_REFERENCED = 2;
+
+  private final long capacityInBytes;
+  private final int slabSizeInBytes;
+  private final Segment[] segments;
+  private final int segmentMask;
+  private final AtomicLong namespaceGenerator = new AtomicLong();
+  /**
+   * Only consulted by the eviction, to tell the entries of the retired namespaces apart.
+   */
+  private final Set<Long> liveNamespaces = ConcurrentHashMap.newKeySet();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+  private final LongAdder admissionRejectionCount = new LongAdder();
+
+  /**
+   * @param capacityInBytes the memory budget of the values, including the chunk headers
+   * @param slabSizeInBytes the slab size, which needs to be a power of two and bounds the size of a cached entry
+   */
+  public OffHeapValueCache(long capacityInBytes, int slabSizeInBytes) {
+    if (slabSizeInBytes < MIN_CHUNK_SIZE || Integer.bitCount(slabSizeInBytes) != 1) {
+      throw new IllegalArgumentException(
+          "Slab size should be a power of two and no smaller than " + MIN_CHUNK_SIZE + ", but got: "
+              + slabSizeInBytes);
+    }
+    long slabCount = capacityInBytes / slabSizeInBytes;
+    if (slabCount <= 0) {
+      throw new IllegalArgumentException(
+          "Capacity: " + capacityInBytes + " should be no smaller than the slab size: " + slabSizeInBytes);
+    }
+    this.capacityInBytes = capacityInBytes;
+    this.slabSizeInBytes = slabSizeInBytes;
+    int segmentCount = (int) Math.min(MAX_SEGMENT_COUNT, Long.highestOneBit(slabCount));
+    this.segments = new Segment[segmentCount];
+    this.segmentMask = segmentCount - 1;
+    int slabsPerSegment = (int) Math.min(Integer.MAX_VALUE, slabCount / segmentCount);
+    long expectedEntriesPerSegment = (long) slabsPerSegment * slabSizeInBytes / ESTIMATED_ENTRY_SIZE;
+    for (int i = 0; i < segmentCount; i++) {
+      segments[i] = new Segment(slabsPerSegment, expectedEntriesPerSegment);
+    }
+    LOGGER.info(
+        "Created off-heap value cache with capacity: {} bytes, slab size: {} bytes and {} segments",
+        capacityInBytes,
+        slabSizeInBytes,
+        segmentCount);
+  }
+
+  /**
+   * @return a namespace which has never been handed out before, to isolate the entries of one storage partition
+   */
+  public long newNamespace() {
+    long namespace = namespaceGenerator.incrementAndGet();
+    liveNamespaces.add(namespace);
+    return namespace;
+  }
+
+  /**
+   * Drops all the entries of the given namespace in constant time, by retiring it.
+   *
+   * @return the new namespace to use from now on in place of the retired one
+   */
+  public long invalidateNamespace(long namespace) {
+    removeNamespace(namespace);
+    return newNamespace();
+  }
+
+  /**
+   * Retires the given namespace for good, which should be invoked when the storage partition goes away.
+   */
+  public void removeNamespace(long namespace) {
+    liveNamespaces.remove(namespace);
+  }
+
+  /**
+   * @return a copy of the cached value, or null if the key is not cached
+   */
+  public byte[] get(long namespace, byte[] key, int keyOffset, int keyLength) {
+    long hash = hash(namespace, key, keyOffset, keyLength);
+    Segment segment = segmentFor(hash);
+    byte[] value;
+    synchronized (segment) {
+      value = segment.get(hash, namespace, key, keyOffset, keyLength);
+    }
+    if (value == null) {
+      missCount.increment();
+    } else {
+      hitCount.increment();
+    }
+    return value;
+  }
+
+  /**
+   * @return the stamp to pass to {@link #putIfAdmitted}, which needs to be grabbed before reading the value from the
+   *         storage engine
+   */
+  public long getStamp(long namespace, byte[] key, int keyOffset, int keyLength) {
+    long hash = hash(namespace, key, keyOffset, keyLength);
+    Segment segment = segmentFor(hash);
+    synchronized (segment) {
+      return segment.writeStamps[stampStripeOf(hash)];
+    }
+  }
+
+  /**
+   * Inserts the value read from the storage engine, if there was no write to the stamp stripe of the key since
+   * {@code stamp} was grabbed and the admission policy accepts it.
+   */
+  public void putIfAdmitted(
+      long namespace,
+      byte[] key,
+      int keyOffset,
+      int keyLength,
+      byte[] value,
+      int valueOffset,
+      int valueLength,
+      long stamp) {
+    long hash = hash(namespace, key, keyOffset, keyLength);
+    Segment segment = segmentFor(hash);
+    synchronized (segment) {
+      if (segment.writeStamps[stampStripeOf(hash)] != stamp) {
+        return;
+      }
+      segment.put(hash, namespace, key, keyOffset, keyLength, value, valueOffset, valueLength, true);
+    }
+  }
+
+  /**
+   * Replaces the cached value in place if the key is cached, and does nothing otherwise.
+   */
+  public void update(
+      long namespace,
+      byte[] key,
+      int keyOffset,
+      int keyLength,
+      byte[] value,
+      int valueOffset,
+      int valueLength) {
+    long hash = hash(namespace, key, keyOffset, keyLength);
+    Segment segment = segmentFor(hash);
+    synchronized (segment) {
+      segment.writeStamps[stampStripeOf(hash)]++;
+      long address = segment.index.get(hash);
+      if (address != NO_ADDRESS && segment.matches(address, namespace, key, keyOffset, keyLength)) {
+        segment.put(hash, namespace, key, keyOffset, keyLength, value, valueOffset, valueLength, false);
+      }
+    }
+  }
+
+  public void invalidate(long namespace, byte[] key, int keyOffset, int keyLength) {
+    long hash = hash(namespace, key, keyOffset, keyLength);
+    Segment segment = segmentFor(hash);
+    synchronized (segment) {
+      segment.writeStamps[stampStripeOf(hash)]++;
+      long address = segment.index.get(hash);
+      if (address != NO_ADDRESS && segment.matches(address, namespace, key, keyOffset, keyLength)) {
+        segment.remove(hash, address);
+      }
+    }
+  }
+
+  public void clear() {
+    for (Segment segment: segments) {
+      synchronized (segment) {
+        for (int i = 0; i < STAMP_STRIPE_COUNT; i++) {
+          segment.writeStamps[i]++;
+        }
+        segment.clear();
+      }
+    }
+  }
+
+  public long getCapacityInBytes() {
+    return capacityInBytes;
+  }
+
+  /**
+   * @return the off-heap memory allocated so far, which never exceeds the capacity
+   */
+  public long getAllocatedBytes() {
+    long allocatedBytes = 0;
+    for (Segment segment: segments) {
+      synchronized (segment) {
+        allocatedBytes += (long) segment.allocatedSlabCount * slabSizeInBytes;
+      }
+    }
+    return allocatedBytes;
+  }
+
+  /**
+   * @return the bytes taken by the cached entries, excluding the unused part of their chunks
+   */
+  public long getUsedBytes() {
+    long usedBytes = 0;
+    for (Segment segment: segments) {
+      synchronized (segment) {
+        usedBytes += segment.usedBytes;
+      }
+    }
+    return usedBytes;
+  }
+
+  /**
+   * @return the number of cached entries, including the entries of the retired namespaces which are not reclaimed yet
+   */
+  public long getEntryCount() {
+    long entryCount = 0;
+    for (Segment segment: segments) {
+      synchronized (segment) {
+        entryCount += segment.index.size();
+      }
+    }
+    return entryCount;
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  public long getAdmissionRejectionCount() {
+    return admissionRejectionCount.sum();
+  }
+
+  private Segment segmentFor(long hash) {
+    return segments[(int) (hash >>> 40) & segmentMask];
+  }
+
+  private static int stampStripeOf(long hash) {
+    return (int) hash & (STAMP_STRIPE_COUNT - 1);
+  }
+
+  static long hash(long namespace, byte[] key, int keyOffset, int keyLength) {
+    long h = namespace * 0x9e3779b97f4a7c15L ^ keyLength;
+    for (int i = keyOffset; i < keyOffset + keyLength; i++) {
+      h = (h ^ (key[i] & 0xff)) * 0x100000001b3L;
+    }
+    // MurmurHash3 finalizer
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  private static int slabIndexOf(long address) {
+    return (int) (address >>> 32);
+  }
+
+  private static int offsetOf(long address) {
+    return (int) address;
+  }
+
+  private static long addressOf(int slabIndex, int offset) {
+    return ((long) slabIndex << 32) | offset;
+  }
+
+  private static final class SlabClass {
+    private final int index;
+    private final int chunkSize;
+    /**
+     * All the chunks of this size class, which are scanned by the CLOCK hand.
+     */
+    private final LongArrayList chunks = new LongArrayList();
+    private final LongArrayList freeChunks = new LongArrayList();
+    private int clockHand = 0;
+    private int slabCount = 0;
+
+    private SlabClass(int index, int chunkSize) {
+      this.index = index;
+      this.chunkSize = chunkSize;
+    }
+  }
+
+  /**
+   * All the methods need to be invoked while holding the segment lock.
+   */
+  private final class Segment {
+    private final ByteBuffer[] slabs;
+    private final int[] slabClassIndexOfSlab;
+    private final SlabClass[] slabClasses;
+    private final Long2LongOpenHashMap index = new Long2LongOpenHashMap();
+    private final FrequencySketch sketch;
+    private int allocatedSlabCount = 0;
+    private long usedBytes = 0;
+    private final long[] writeStamps = new long[STAMP_STRIPE_COUNT];
+
+    private Segment(int slabCount, long expectedEntries) {
+      this.slabs = new ByteBuffer[slabCount];
+      this.slabClassIndexOfSlab = new int[slabCount];
+      int slabClassCount = Integer.numberOfTrailingZeros(slabSizeInBytes) - MIN_CHUNK_SIZE_SHIFT + 1;
+      this.slabClasses = new SlabClass[slabClassCount];
+      for (int i = 0; i < slabClassCount; i++) {
+        slabClasses[i] = new SlabClass(i, MIN_CHUNK_SIZE << i);
+      }
+      this.sketch = new FrequencySketch(expectedEntries);
+      this.index.defaultReturnValue(NO_ADDRESS);
+    }
+
+    private byte[] get(long hash, long namespace, byte[] key, int keyOffset, int keyLength) {
+      sketch.increment(hash);
+      long address = index.get(hash);
+      if (address == NO_ADDRESS || !matches(address, namespace, key, keyOffset, keyLength)) {
+        return null;
+      }
+      ByteBuffer slab = slabs[slabIndexOf(address)];
+      int offset = offsetOf(address);
+      slab.put(offset + FLAGS_OFFSET, (byte) (FLAG_IN_USE | FLAG_REFERENCED));
+      byte[] value = new byte[slab.getInt(offset + VALUE_LENGTH_OFFSET)];
+      slab.position(offset + HEADER_SIZE + keyLength);
+      slab.get(value);
+      return value;
+    }
+
+    private void put(
+        long hash,
+        long namespace,
+        byte[] key,
+        int keyOffset,
+        int keyLength,
+        byte[] value,
+        int valueOffset,
+        int valueLength,
+        boolean checkAdmission) {
+      int entrySize = HEADER_SIZE + keyLength + valueLength;
+      long address = index.get(hash);
+      if (address != NO_ADDRESS) {
+        if (entrySize <= slabClasses[slabClassIndexOfSlab[slabIndexOf(address)]].chunkSize
+            && matches(address, namespace, key, keyOffset, keyLength)) {
+          // Update in place
+          usedBytes -= entrySizeAt(address);
+          write(address, hash, namespace, key, keyOffset, keyLength, value, valueOffset, valueLength);
+          return;
+        }
+        // Either the new value doesn't fit in the current chunk or there is a hash collision
+        remove(hash, address);
+        checkAdmission = false;
+      }
+      if (entrySize > slabSizeInBytes) {
+        return;
+      }
+      SlabClass slabClass = slabClasses[slabClassIndexOf(entrySize)];
+      address = allocate(slabClass, hash, checkAdmission);
+      if (address == NO_ADDRESS) {
+        return;
+      }
+      write(address, hash, namespace, key, keyOffset, keyLength, value, valueOffset, valueLength);
+      index.put(hash, address);
+    }
+
+    private long allocate(SlabClass slabClass, long hash, boolean checkAdmission) {
+      if (slabClass.freeChunks.isEmpty()) {
+        if (allocatedSlabCount < slabs.length) {
+          assignSlab(allocatedSlabCount++, slabClass);
+        } else if (slabClass.chunks.isEmpty()) {
+          // The budget was exhausted before any slab was assigned to this size class
+          if (!reassignSlab(slabClass)) {
+            return NO_ADDRESS;
+          }
+        } else {
+          long victim = findVictim(slabClass);
+          ByteBuffer slab = slabs[slabIndexOf(victim)];
+          long victimHash = slab.getLong(offsetOf(victim) + HASH_OFFSET);
+          if (isRetired(victim)) {
+            // Reclaim the entry which can never be looked up again
+            remove(victimHash, victim);
+            return slabClass.freeChunks.popLong();
+          }
+          if (checkAdmission && sketch.frequency(hash) <= sketch.frequency(victimHash)) {
+            admissionRejectionCount.increment();
+            return NO_ADDRESS;
+          }
+          evictionCount.increment();
+          remove(victimHash, victim);
+        }
+      }
+      return slabClass.freeChunks.popLong();
+    }
+
+    /**
+     * CLOCK: skip and clear the referenced chunks until hitting one which was not referenced since the last visit, or
+     * one of a retired namespace. This is only invoked when all the chunks of the size class are in use, so it
+     * finishes within two rounds.
+     */
+    private long findVictim(SlabClass slabClass) {
+      while (true) {
+        if (slabClass.clockHand >= slabClass.chunks.size()) {
+          slabClass.clockHand = 0;
+        }
+        long address = slabClass.chunks.getLong(slabClass.clockHand++);
+        ByteBuffer slab = slabs[slabIndexOf(address)];
+        int flagsIndex = offsetOf(address) + FLAGS_OFFSET;
+        byte flags = slab.get(flagsIndex);
+        if ((flags & FLAG_IN_USE) == 0) {
+          continue;
+        }
+        if ((flags & FLAG_REFERENCED) != 0 && !isRetired(address)) {
+          slab.put(flagsIndex, FLAG_IN_USE);
+          continue;
+        }
+        return address;
+      }
+    }
+
+    private void assignSlab(int slabIndex, SlabClass slabClass) {
+      if (slabs[slabIndex] == null) {
+        slabs[slabIndex] = ByteBuffer.allocateDirect(slabSizeInBytes);
+      }
+      ByteBuffer slab = slabs[slabIndex];
+      slabClassIndexOfSlab[slabIndex] = slabClass.index;
+      for (int offset = 0; offset + slabClass.chunkSize <= slabSizeInBytes; offset += slabClass.chunkSize) {
+        slab.put(offset + FLAGS_OFFSET, (byte) 0);
+        long address = addressOf(slabIndex, offset);
+        slabClass.chunks.add(address);
+        slabClass.freeChunks.add(address);
+      }
+      slabClass.slabCount++;
+    }
+
+    /**
+     * Moves one slab from the size class holding the most slabs to the given size class, and evicts all the entries
+     * in it.
+     */
+    private boolean reassignSlab(SlabClass slabClass) {
+      SlabClass donor = null;
+      for (SlabClass candidate: slabClasses) {
+        if (candidate != slabClass && (donor == null || candidate.slabCount > donor.slabCount)) {
+          donor = candidate;
+        }
+      }
+      if (donor == null || donor.slabCount == 0) {
+        return false;
+      }
+      int slabIndex = slabIndexOf(donor.chunks.getLong(donor.chunks.size() - 1));
+      LongArrayList remainingChunks = new LongArrayList(donor.chunks.size());
+      for (int i = 0; i < donor.chunks.size(); i++) {
+        long address = donor.chunks.getLong(i);
+        if (slabIndexOf(address) != slabIndex) {
+          remainingChunks.add(address);
+        } else if ((slabs[slabIndex].get(offsetOf(address) + FLAGS_OFFSET) & FLAG_IN_USE) != 0) {
+          evictionCount.increment();
+          remove(slabs[slabIndex].getLong(offsetOf(address) + HASH_OFFSET), address);
+        }
+      }
+      donor.chunks.clear();
+      donor.chunks.addAll(remainingChunks);
+      LongArrayList remainingFreeChunks = new LongArrayList(donor.freeChunks.size());
+      for (int i = 0; i < donor.freeChunks.size(); i++) {
+        long address = donor.freeChunks.getLong(i);
+        if (slabIndexOf(address) != slabIndex) {
+          remainingFreeChunks.add(address);
+        }
+      }
+      donor.freeChunks.clear();
+      donor.freeChunks.addAll(remainingFreeChunks);
+      donor.clockHand = 0;
+      donor.slabCount--;
+      assignSlab(slabIndex, slabClass);
+      return true;
+    }
+
+    private void write(
+        long address,
+        long hash,
+        long namespace,
+        byte[] key,
+        int keyOffset,
+        int keyLength,
+        byte[] value,
+        int valueOffset,
+        int valueLength) {
+      ByteBuffer slab = slabs[slabIndexOf(address)];
+      int offset = offsetOf(address);
+      slab.put(offset + FLAGS_OFFSET, FLAG_IN_USE);
+      slab.putLong(offset + NAMESPACE_OFFSET, namespace);
+      slab.putLong(offset + HASH_OFFSET, hash);
+      slab.putInt(offset + KEY_LENGTH_OFFSET, keyLength);
+      slab.putInt(offset + VALUE_LENGTH_OFFSET, valueLength);
+      slab.position(offset + HEADER_SIZE);
+      slab.put(key, keyOffset, keyLength);
+      slab.put(value, valueOffset, valueLength);
+      usedBytes += HEADER_SIZE + keyLength + valueLength;
+    }
+
+    private void remove(long hash, long address) {
+      index.remove(hash);
+      usedBytes -= entrySizeAt(address);
+      slabs[slabIndexOf(address)].put(offsetOf(address) + FLAGS_OFFSET, (byte) 0);
+      slabClasses[slabClassIndexOfSlab[slabIndexOf(address)]].freeChunks.add(address);
+    }
+
+    private boolean isRetired(long address) {
+      return !liveNamespaces.contains(slabs[slabIndexOf(address)].getLong(offsetOf(address) + NAMESPACE_OFFSET));
+    }
+
+    private void clear() {
+      index.clear();
+      for (SlabClass slabClass: slabClasses) {
+        slabClass.chunks.clear();
+        slabClass.freeChunks.clear();
+        slabClass.clockHand = 0;
+        slabClass.slabCount = 0;
+      }
+      // Release the slabs, and the direct memory will be reclaimed once they are garbage collected
+      for (int i = 0; i < slabs.length; i++) {
+        slabs[i] = null;
+      }
+      allocatedSlabCount = 0;
+      usedBytes = 0;
+    }
+
+    private boolean matches(long address, long namespace, byte[] key, int keyOffset, int keyLength) {
+      ByteBuffer slab = slabs[slabIndexOf(address)];
+      int offset = offsetOf(address);
+      if (slab.getLong(offset + NAMESPACE_OFFSET) != namespace
+          || slab.getInt(offset + KEY_LENGTH_OFFSET) != keyLength) {
+        return false;
+      }
+      int keyStart = offset + HEADER_SIZE;
+      for (int i = 0; i < keyLength; i++) {
+        if (slab.get(keyStart + i) != key[keyOffset + i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private int entrySizeAt(long address) {
+      ByteBuffer slab = slabs[slabIndexOf(address)];
+      int offset = offsetOf(address);
+      return HEADER_SIZE + slab.getInt(offset + KEY_LENGTH_OFFSET) + slab.getInt(offset + VALUE_LENGTH_OFFSET);
+    }
+  }
+
+  static int slabClassIndexOf(int entrySize) {
+    return Math.max(0, 32 - Integer.numberOfLeadingZeros(entrySize - 1) - MIN_CHUNK_SIZE_SHIFT);
+  }
+}
@@ -81,6 +81,7 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
           writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
           rocksDB.write(writeOptions, writeBatch);
         }
+        updateValueCache(key, value, 0, value.length);
       }
     } catch (RocksDBException e) {
       throw new VeniceException(
@@ -168,6 +169,7 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
               .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
           rocksDB.write(writeOptions, writeBatch);
         }
+        invalidateValueCache(key);
       }
     } catch (RocksDBException e) {
       String msg = deferredWrite
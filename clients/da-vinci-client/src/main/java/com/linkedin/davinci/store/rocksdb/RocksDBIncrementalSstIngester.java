@@ -0,0 +1,213 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+
+
+/**
+ * This class buffers the run of strictly increasing keys written into a {@link RocksDBStoragePartition} during an
+ * incremental push, and writes the run as an SST file, which is ingested into the database directly, to keep the
+ * large sorted incremental pushes away from the memtable and the write stalls caused by its flushes.
+ *
+ * The writes of an incremental push can't be told apart from the other writes on the storage layer, so the
+ * {@link RocksDBStoragePartition} flushes the current run whenever a key out of order is written, or a key within
+ * the range of the run is deleted, and starts a new run from there. The ingested SST files get a sequence number newer
+ * than any previous write, so the order of the writes is kept. The runs smaller than the min file size, which are
+ * mostly the result of interleaved writes, are written as a regular {@link WriteBatch} instead, to avoid creating a
+ * lot of tiny SST files.
+ *
+ * The buffered records are flushed once the buffer is full or on {@link RocksDBStoragePartition#sync()}, so the
+ * checkpointed offsets never cover any buffered record. Until then, the reads of {@link RocksDBStoragePartition} look
+ * them up through {@link #get} and {@link #getRecords}, which are the only functions safe to be invoked concurrently
+ * with the writes, since the records are only dropped from the buffer after they are written into RocksDB.
+ */
+@NotThreadSafe
+class RocksDBIncrementalSstIngester {
+  private static final Logger LOGGER = LogManager.getLogger(RocksDBIncrementalSstIngester.class);
+  /**
+   * Different from the prefix of the SST files generated during batch push, so the two never clash.
+   */
+  static final String INCREMENTAL_PUSH_SST_FILE_NAME = "incremental_push.sst";
+
+  private final String storeName;
+  private final int partitionId;
+  private final String fullPathForTempSSTFileDir;
+  private final EnvOptions envOptions;
+  private final Options options;
+  private final long bufferSizeInBytes;
+  private final long minFileSizeInBytes;
+
+  private final ConcurrentSkipListMap<byte[], byte[]> buffer = new ConcurrentSkipListMap<>(ByteUtils::compare);
+  private long bufferedBytes = 0;
+
+  RocksDBIncrementalSstIngester(
+      String storeName,
+      int partitionId,
+      String fullPathForTempSSTFileDir,
+      EnvOptions envOptions,
+      Options options,
+      long bufferSizeInBytes,
+      long minFileSizeInBytes) {
+    this.storeName = storeName;
+    this.partitionId = partitionId;
+    this.fullPathForTempSSTFileDir = fullPathForTempSSTFileDir;
+    this.envOptions = envOptions;
+    this.options = options;
+    this.bufferSizeInBytes = bufferSizeInBytes;
+    this.minFileSizeInBytes = minFileSizeInBytes;
+  }
+
+  boolean isEmpty() {
+    return buffer.isEmpty();
+  }
+
+  boolean isFull() {
+    return bufferedBytes >= bufferSizeInBytes;
+  }
+
+  /**
+   * @return whether the given key is greater than all the buffered keys, so it could be appended to the current run.
+   */
+  boolean canAppend(byte[] key) {
+    return buffer.isEmpty() || ByteUtils.compare(key, buffer.lastKey()) > 0;
+  }
+
+  /**
+   * @return whether the given key is within the range of the buffered keys.
+   */
+  boolean overlaps(byte[] key) {
+    return !buffer.isEmpty() && ByteUtils.compare(key, buffer.firstKey()) >= 0
+        && ByteUtils.compare(key, buffer.lastKey()) <= 0;
+  }
+
+  /**
+   * @return the buffered value of the given key, or null if the key isn't buffered.
+   */
+  byte[] get(byte[] key) {
+    return buffer.get(key);
+  }
+
+  /**
+   * @return the buffered records in the ascending order of their keys, which start with the given prefix if any.
+   */
+  List<Map.Entry<byte[], byte[]>> getRecords(byte[] keyPrefix) {
+    List<Map.Entry<byte[], byte[]>> records = new ArrayList<>();
+    for (Map.Entry<byte[], byte[]> record: (keyPrefix == null ? buffer : buffer.tailMap(keyPrefix)).entrySet()) {
+      if (keyPrefix != null && !startsWith(record.getKey(), keyPrefix)) {
+        break;
+      }
+      records.add(record);
+    }
+    return records;
+  }
+
+  /**
+   * The value is copied, since the buffer passed in could be reused by the caller.
+   */
+  void append(byte[] key, ByteBuffer valueBuffer) {
+    byte[] value = Arrays.copyOfRange(valueBuffer.array(), valueBuffer.position(), valueBuffer.limit());
+    buffer.put(key, value);
+    bufferedBytes += key.length + value.length;
+  }
+
+  /**
+   * Writes all the buffered records into the given column family, and hands every flushed key over to the given
+   * consumer afterwards, which is expected to invalidate the stale cached values. The records stay readable from
+   * the buffer until they are written.
+   */
+  void flush(
+      RocksDB rocksDB,
+      ColumnFamilyHandle columnFamilyHandle,
+      WriteOptions writeOptions,
+      Consumer<byte[]> flushedKeyConsumer) throws RocksDBException {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    if (bufferedBytes >= minFileSizeInBytes) {
+      ingestSstFile(rocksDB, columnFamilyHandle);
+    } else {
+      try (WriteBatch writeBatch = new WriteBatch()) {
+        for (Map.Entry<byte[], byte[]> record: buffer.entrySet()) {
+          writeBatch.put(columnFamilyHandle, record.getKey(), record.getValue());
+        }
+        rocksDB.write(writeOptions, writeBatch);
+      }
+    }
+    buffer.keySet().forEach(flushedKeyConsumer);
+    clear();
+  }
+
+  /**
+   * Drops all the buffered records.
+   */
+  void clear() {
+    buffer.clear();
+    bufferedBytes = 0;
+  }
+
+  private static boolean startsWith(byte[] key, byte[] keyPrefix) {
+    if (key.length < keyPrefix.length) {
+      return false;
+    }
+    for (int i = 0; i < keyPrefix.length; i++) {
+      if (key[i] != keyPrefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void ingestSstFile(RocksDB rocksDB, ColumnFamilyHandle columnFamilyHandle) throws RocksDBException {
+    File tempSSTFileDir = new File(fullPathForTempSSTFileDir);
+    if (!tempSSTFileDir.exists()) {
+      tempSSTFileDir.mkdirs();
+    }
+    File sstFile = new File(tempSSTFileDir, INCREMENTAL_PUSH_SST_FILE_NAME);
+    try {
+      try (SstFileWriter sstFileWriter = new SstFileWriter(envOptions, options)) {
+        sstFileWriter.open(sstFile.getAbsolutePath());
+        for (Map.Entry<byte[], byte[]> record: buffer.entrySet()) {
+          sstFileWriter.put(record.getKey(), record.getValue());
+        }
+        sstFileWriter.finish();
+      }
+      try (IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions()) {
+        ingestOptions.setMoveFiles(true);
+        rocksDB.ingestExternalFile(
+            columnFamilyHandle,
+            Collections.singletonList(sstFile.getAbsolutePath()),
+            ingestOptions);
+      }
+      LOGGER.debug(
+          "Ingested an SST file with {} records and {} bytes into store: {}, partition id: {}",
+          buffer.size(),
+          bufferedBytes,
+          storeName,
+          partitionId);
+    } finally {
+      if (sstFile.exists() && !sstFile.delete()) {
+        LOGGER.warn("Failed to remove the incremental push SST file: {}", sstFile);
+      }
+    }
+  }
+}
@@ -3,6 +3,9 @@ package com.linkedin.davinci.store.rocksdb;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 
@@ -82,6 +85,47 @@ public class RocksDBServerConfig {
    */
   public static final String ROCKSDB_SET_CACHE_INDEX_AND_FILTER_BLOCKS = "rocksdb.set.cache.index.and.filter.blocks";
 
+  /**
+   * If set to true, index/filter blocks are inserted into the high priority pool of the block cache, so that they are
+   * less likely to be evicted by data blocks. Check {@link #ROCKSDB_BLOCK_CACHE_HIGH_PRIORITY_POOL_RATIO}.
+   */
+  public static final String ROCKSDB_CACHE_INDEX_AND_FILTER_BLOCKS_WITH_HIGH_PRIORITY =
+      "rocksdb.cache.index.and.filter.blocks.with.high.priority";
+
+  /**
+   * Fraction of the LRU block cache reserved for the high priority entries, such as index/filter blocks. It is
+   * ignored by the clock cache.
+   */
+  public static final String ROCKSDB_BLOCK_CACHE_HIGH_PRIORITY_POOL_RATIO =
+      "rocksdb.block.cache.high.priority.pool.ratio";
+
+  /**
+   * If set to true, the index and the bloom filter of each SST file are partitioned, and only the small top-level
+   * index is needed to locate the partitions, which are cached as regular blocks. This avoids loading the whole
+   * index/filter of big SST files into the block cache, which is helpful for large partitions. The filter is built
+   * with {@link #ROCKSDB_BLOOM_BITS_PER_KEY}. Only applicable to the block-based table format.
+   */
+  public static final String ROCKSDB_PARTITIONED_INDEX_AND_FILTERS_ENABLED =
+      "rocksdb.partitioned.index.and.filters.enabled";
+
+  /**
+   * Block size of the index/filter partitions when {@link #ROCKSDB_PARTITIONED_INDEX_AND_FILTERS_ENABLED} is true.
+   */
+  public static final String ROCKSDB_METADATA_BLOCK_SIZE_IN_BYTES = "rocksdb.metadata.block.size.in.bytes";
+
+  /**
+   * If set to true, the top-level index of the partitioned index/filters is pinned in the block cache. Only
+   * applicable when index/filter blocks are put into the block cache.
+   */
+  public static final String ROCKSDB_PIN_TOP_LEVEL_INDEX_AND_FILTER = "rocksdb.pin.top.level.index.and.filter";
+
+  /**
+   * If set to true, the index/filter blocks of the L0 files are pinned in the block cache. Only applicable when
+   * index/filter blocks are put into the block cache.
+   */
+  public static final String ROCKSDB_PIN_L0_FILTER_AND_INDEX_BLOCKS_IN_CACHE =
+      "rocksdb.pin.l0.filter.and.index.blocks.in.cache";
+
   /**
    * File block size, and this config has impact to the index size and read performance.
    */
@@ -209,6 +253,78 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_MAX_LOG_FILE_NUM = "rocksdb.max.log.file.num";
   public static final String ROCKSDB_MAX_LOG_FILE_SIZE = "rocksdb.max.log.file.size";
 
+  /**
+   * Whether to cache the serialized values in an off-heap cache shared by all the databases, which sits in front of
+   * RocksDB and is kept up-to-date by the ingestion path.
+   * Check {@link com.linkedin.davinci.store.cache.offheap.OffHeapValueCache} for more details.
+   */
+  public static final String ROCKSDB_OFF_HEAP_VALUE_CACHE_ENABLED = "rocksdb.off.heap.value.cache.enabled";
+  public static final String ROCKSDB_OFF_HEAP_VALUE_CACHE_SIZE_IN_BYTES = "rocksdb.off.heap.value.cache.size.in.bytes";
+  /**
+   * Off-heap memory is allocated in slabs of this size, and entries bigger than one slab won't be cached.
+   */
+  public static final String ROCKSDB_OFF_HEAP_VALUE_CACHE_SLAB_SIZE_IN_BYTES =
+      "rocksdb.off.heap.value.cache.slab.size.in.bytes";
+
+  /**
+   * Whether the storage node should look up the keys of batch get and compute requests with RocksDB MultiGet, which
+   * groups the block reads of a batch of keys into fewer and parallel I/O requests, instead of one Get per key.
+   */
+  public static final String ROCKSDB_MULTI_GET_BATCH_READ_ENABLED = "rocksdb.multi.get.batch.read.enabled";
+  /**
+   * Max number of keys looked up by a single RocksDB MultiGet call.
+   */
+  public static final String ROCKSDB_MULTI_GET_BATCH_SIZE = "rocksdb.multi.get.batch.size";
+
+  /**
+   * Stores with integrated BlobDB (key-value separation) enabled, which keeps the values bigger than
+   * {@link #ROCKSDB_MIN_BLOB_SIZE_IN_BYTES} in separate blob files, so that they won't be rewritten by every
+   * compaction. This is only meaningful for stores with large values, and it applies to both the value and the
+   * replication metadata column families. It is ignored when the plain table format is enabled.
+   *
+   * Note that the SST files ingested by batch pushes keep their values inline until they get compacted.
+   */
+  public static final String ROCKSDB_BLOB_FILES_ENABLED_STORE_LIST = "rocksdb.blob.files.enabled.store.list";
+  public static final String ROCKSDB_MIN_BLOB_SIZE_IN_BYTES = "rocksdb.min.blob.size.in.bytes";
+  public static final String ROCKSDB_BLOB_FILE_SIZE_IN_BYTES = "rocksdb.blob.file.size.in.bytes";
+  /**
+   * Check {@link CompressionType}. Values are often compressed by Venice already, so blob files are not compressed by
+   * default.
+   */
+  public static final String ROCKSDB_BLOB_FILE_COMPRESSION_TYPE = "rocksdb.blob.file.compression.type";
+  public static final String ROCKSDB_BLOB_GARBAGE_COLLECTION_ENABLED = "rocksdb.blob.garbage.collection.enabled";
+  /**
+   * The valid blobs in the oldest blob files, which account for this fraction of all the blob files, are relocated by
+   * compactions, so that the old blob files can be removed.
+   */
+  public static final String ROCKSDB_BLOB_GARBAGE_COLLECTION_AGE_CUTOFF = "rocksdb.blob.garbage.collection.age.cutoff";
+  /**
+   * Compactions are forced for the SST files referencing the oldest blob files, once the ratio of garbage in those
+   * blob files exceeds this threshold. 1.0 means never.
+   */
+  public static final String ROCKSDB_BLOB_GARBAGE_COLLECTION_FORCE_THRESHOLD =
+      "rocksdb.blob.garbage.collection.force.threshold";
+
+  /**
+   * Stores with the RocksDB row cache enabled, which caches the hot key/value pairs of point lookups. The row cache is
+   * shared by all the enabled stores, and its size is decided by {@link #ROCKSDB_ROW_CACHE_SIZE_IN_BYTES}.
+   */
+  public static final String ROCKSDB_ROW_CACHE_ENABLED_STORE_LIST = "rocksdb.row.cache.enabled.store.list";
+  public static final String ROCKSDB_ROW_CACHE_SIZE_IN_BYTES = "rocksdb.row.cache.size.in.bytes";
+
+  /**
+   * Whether the sorted runs of keys written during incremental pushes are buffered and ingested into RocksDB as SST
+   * files, instead of going through the memtable. The runs are flushed once they reach
+   * {@link #ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_BUFFER_SIZE_IN_BYTES} or on every sync, and the runs smaller than
+   * {@link #ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_MIN_FILE_SIZE_IN_BYTES} are written as a regular write batch.
+   */
+  public static final String ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_ENABLED =
+      "rocksdb.incremental.push.sst.ingestion.enabled";
+  public static final String ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_BUFFER_SIZE_IN_BYTES =
+      "rocksdb.incremental.push.sst.ingestion.buffer.size.in.bytes";
+  public static final String ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_MIN_FILE_SIZE_IN_BYTES =
+      "rocksdb.incremental.push.sst.ingestion.min.file.size.in.bytes";
+
   private final boolean rocksDBUseDirectReads;
 
   private final int rocksDBEnvFlushPoolSize;
@@ -222,6 +338,12 @@ public class RocksDBServerConfig {
   private final long rocksDBBlockCacheCompressedSizeInBytes;
   private final boolean rocksDBBlockCacheStrictCapacityLimit;
   private final boolean rocksDBSetCacheIndexAndFilterBlocks;
+  private final boolean rocksDBCacheIndexAndFilterBlocksWithHighPriority;
+  private final double rocksDBBlockCacheHighPriorityPoolRatio;
+  private final boolean partitionedIndexAndFiltersEnabled;
+  private final long metadataBlockSizeInBytes;
+  private final boolean pinTopLevelIndexAndFilter;
+  private final boolean pinL0FilterAndIndexBlocksInCache;
   private final int rocksDBBlockCacheShardBits;
   private final RocksDBBlockCacheImplementations rocksDBBlockCacheImplementation;
 
@@ -269,6 +391,23 @@ public class RocksDBServerConfig {
   private int blockBaseFormatVersion;
   private final int maxLogFileNum;
   private final long maxLogFileSize;
+  private final boolean offHeapValueCacheEnabled;
+  private final long offHeapValueCacheSizeInBytes;
+  private final int offHeapValueCacheSlabSizeInBytes;
+  private final boolean multiGetBatchReadEnabled;
+  private final int multiGetBatchSize;
+  private final Set<String> blobFilesEnabledStores;
+  private final long minBlobSizeInBytes;
+  private final long blobFileSizeInBytes;
+  private final CompressionType blobFileCompressionType;
+  private final boolean blobGarbageCollectionEnabled;
+  private final double blobGarbageCollectionAgeCutoff;
+  private final double blobGarbageCollectionForceThreshold;
+  private final Set<String> rowCacheEnabledStores;
+  private final long rowCacheSizeInBytes;
+  private final boolean incrementalPushSstIngestionEnabled;
+  private final long incrementalPushSstIngestionBufferSizeInBytes;
+  private final long incrementalPushSstIngestionMinFileSizeInBytes;
 
   public RocksDBServerConfig(VeniceProperties props) {
     // Do not use Direct IO for reads by default
@@ -307,6 +446,18 @@ public class RocksDBServerConfig {
     // to LRU cache being full.` exception
     this.rocksDBBlockCacheStrictCapacityLimit = props.getBoolean(ROCKSDB_BLOCK_CACHE_STRICT_CAPACITY_LIMIT, false);
     this.rocksDBSetCacheIndexAndFilterBlocks = props.getBoolean(ROCKSDB_SET_CACHE_INDEX_AND_FILTER_BLOCKS, true);
+    this.rocksDBCacheIndexAndFilterBlocksWithHighPriority =
+        props.getBoolean(ROCKSDB_CACHE_INDEX_AND_FILTER_BLOCKS_WITH_HIGH_PRIORITY, true);
+    this.rocksDBBlockCacheHighPriorityPoolRatio = props.getDouble(ROCKSDB_BLOCK_CACHE_HIGH_PRIORITY_POOL_RATIO, 0.0);
+    if (rocksDBBlockCacheHighPriorityPoolRatio < 0 || rocksDBBlockCacheHighPriorityPoolRatio > 1) {
+      throw new VeniceException(
+          ROCKSDB_BLOCK_CACHE_HIGH_PRIORITY_POOL_RATIO + " should be within [0, 1], but got: "
+              + rocksDBBlockCacheHighPriorityPoolRatio);
+    }
+    this.partitionedIndexAndFiltersEnabled = props.getBoolean(ROCKSDB_PARTITIONED_INDEX_AND_FILTERS_ENABLED, false);
+    this.metadataBlockSizeInBytes = props.getSizeInBytes(ROCKSDB_METADATA_BLOCK_SIZE_IN_BYTES, 4 * 1024); // 4KB
+    this.pinTopLevelIndexAndFilter = props.getBoolean(ROCKSDB_PIN_TOP_LEVEL_INDEX_AND_FILTER, true);
+    this.pinL0FilterAndIndexBlocksInCache = props.getBoolean(ROCKSDB_PIN_L0_FILTER_AND_INDEX_BLOCKS_IN_CACHE, false);
     this.rocksDBBlockCacheShardBits = props.getInt(ROCKSDB_BLOCK_CACHE_SHARD_BITS, 4); // 16 shards
     // TODO : add and tune high_pri_pool_ratio to make sure most indexes stay in memory.
     // This only works properly if "cache_index_and_filter_blocks_with_high_priority" is implemented in table configs
@@ -383,6 +534,45 @@ public class RocksDBServerConfig {
      */
     this.maxLogFileNum = props.getInt(ROCKSDB_MAX_LOG_FILE_NUM, 3);
     this.maxLogFileSize = props.getSizeInBytes(ROCKSDB_MAX_LOG_FILE_SIZE, 10 * 1024 * 1024); // 10MB;
+
+    this.offHeapValueCacheEnabled = props.getBoolean(ROCKSDB_OFF_HEAP_VALUE_CACHE_ENABLED, false);
+    this.offHeapValueCacheSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_OFF_HEAP_VALUE_CACHE_SIZE_IN_BYTES, 1024 * 1024 * 1024L); // 1GB
+    this.offHeapValueCacheSlabSizeInBytes =
+        (int) props.getSizeInBytes(ROCKSDB_OFF_HEAP_VALUE_CACHE_SLAB_SIZE_IN_BYTES, 1024 * 1024); // 1MB
+
+    this.multiGetBatchReadEnabled = props.getBoolean(ROCKSDB_MULTI_GET_BATCH_READ_ENABLED, false);
+    this.multiGetBatchSize = props.getInt(ROCKSDB_MULTI_GET_BATCH_SIZE, 32);
+    if (multiGetBatchSize <= 0) {
+      throw new VeniceException(ROCKSDB_MULTI_GET_BATCH_SIZE + " should be positive, but got: " + multiGetBatchSize);
+    }
+
+    this.blobFilesEnabledStores =
+        new HashSet<>(props.getList(ROCKSDB_BLOB_FILES_ENABLED_STORE_LIST, Collections.emptyList()));
+    this.minBlobSizeInBytes = props.getSizeInBytes(ROCKSDB_MIN_BLOB_SIZE_IN_BYTES, 4 * 1024); // 4KB
+    this.blobFileSizeInBytes = props.getSizeInBytes(ROCKSDB_BLOB_FILE_SIZE_IN_BYTES, 256 * 1024 * 1024); // 256MB
+    String blobFileCompressionType =
+        props.getString(ROCKSDB_BLOB_FILE_COMPRESSION_TYPE, CompressionType.NO_COMPRESSION.name());
+    try {
+      this.blobFileCompressionType = CompressionType.valueOf(blobFileCompressionType);
+    } catch (IllegalArgumentException e) {
+      throw new VeniceException(
+          "Invalid blob file compression type: " + blobFileCompressionType + ", available types: "
+              + Arrays.toString(CompressionType.values()));
+    }
+    this.blobGarbageCollectionEnabled = props.getBoolean(ROCKSDB_BLOB_GARBAGE_COLLECTION_ENABLED, true);
+    this.blobGarbageCollectionAgeCutoff = props.getDouble(ROCKSDB_BLOB_GARBAGE_COLLECTION_AGE_CUTOFF, 0.25);
+    this.blobGarbageCollectionForceThreshold = props.getDouble(ROCKSDB_BLOB_GARBAGE_COLLECTION_FORCE_THRESHOLD, 1.0);
+
+    this.rowCacheEnabledStores =
+        new HashSet<>(props.getList(ROCKSDB_ROW_CACHE_ENABLED_STORE_LIST, Collections.emptyList()));
+    this.rowCacheSizeInBytes = props.getSizeInBytes(ROCKSDB_ROW_CACHE_SIZE_IN_BYTES, 1024 * 1024 * 1024L); // 1GB
+
+    this.incrementalPushSstIngestionEnabled = props.getBoolean(ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_ENABLED, false);
+    this.incrementalPushSstIngestionBufferSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_BUFFER_SIZE_IN_BYTES, 64 * 1024 * 1024); // 64MB
+    this.incrementalPushSstIngestionMinFileSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_MIN_FILE_SIZE_IN_BYTES, 4 * 1024 * 1024); // 4MB
   }
 
   public int getLevel0FileNumCompactionTriggerWriteOnlyVersion() {
@@ -575,4 +765,103 @@ public class RocksDBServerConfig {
   public long getMaxLogFileSize() {
     return maxLogFileSize;
   }
+
+  public boolean isOffHeapValueCacheEnabled() {
+    return offHeapValueCacheEnabled;
+  }
+
+  public long getOffHeapValueCacheSizeInBytes() {
+    return offHeapValueCacheSizeInBytes;
+  }
+
+  public int getOffHeapValueCacheSlabSizeInBytes() {
+    return offHeapValueCacheSlabSizeInBytes;
+  }
+
+  public boolean isMultiGetBatchReadEnabled() {
+    return multiGetBatchReadEnabled;
+  }
+
+  public int getMultiGetBatchSize() {
+    return multiGetBatchSize;
+  }
+
+  public boolean isBlobFilesEnabled(String storeName) {
+    return blobFilesEnabledStores.contains(storeName);
+  }
+
+  public long getMinBlobSizeInBytes() {
+    return minBlobSizeInBytes;
+  }
+
+  public long getBlobFileSizeInBytes() {
+    return blobFileSizeInBytes;
+  }
+
+  public CompressionType getBlobFileCompressionType() {
+    return blobFileCompressionType;
+  }
+
+  public boolean isBlobGarbageCollectionEnabled() {
+    return blobGarbageCollectionEnabled;
+  }
+
+  public double getBlobGarbageCollectionAgeCutoff() {
+    return blobGarbageCollectionAgeCutoff;
+  }
+
+  public double getBlobGarbageCollectionForceThreshold() {
+    return blobGarbageCollectionForceThreshold;
+  }
+
+  public boolean isRocksDBCacheIndexAndFilterBlocksWithHighPriority() {
+    return rocksDBCacheIndexAndFilterBlocksWithHighPriority;
+  }
+
+  public double getRocksDBBlockCacheHighPriorityPoolRatio() {
+    return rocksDBBlockCacheHighPriorityPoolRatio;
+  }
+
+  public boolean isPartitionedIndexAndFiltersEnabled() {
+    return partitionedIndexAndFiltersEnabled;
+  }
+
+  public long getMetadataBlockSizeInBytes() {
+    return metadataBlockSizeInBytes;
+  }
+
+  public boolean isPinTopLevelIndexAndFilter() {
+    return pinTopLevelIndexAndFilter;
+  }
+
+  public boolean isPinL0FilterAndIndexBlocksInCache() {
+    return pinL0FilterAndIndexBlocksInCache;
+  }
+
+  public boolean isRowCacheEnabled(String storeName) {
+    return rowCacheEnabledStores.contains(storeName);
+  }
+
+  /**
+   * Whether any store has the row cache enabled, so that the shared row cache needs to be allocated.
+   */
+  public boolean isRowCacheEnabledForAnyStore() {
+    return !rowCacheEnabledStores.isEmpty();
+  }
+
+  public long getRowCacheSizeInBytes() {
+    return rowCacheSizeInBytes;
+  }
+
+  public boolean isIncrementalPushSstIngestionEnabled() {
+    return incrementalPushSstIngestionEnabled;
+  }
+
+  public long getIncrementalPushSstIngestionBufferSizeInBytes() {
+    return incrementalPushSstIngestionBufferSizeInBytes;
+  }
+
+  public long getIncrementalPushSstIngestionMinFileSizeInBytes() {
+    return incrementalPushSstIngestionMinFileSizeInBytes;
+  }
 }
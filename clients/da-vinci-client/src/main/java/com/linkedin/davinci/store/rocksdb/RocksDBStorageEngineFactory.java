@@ -9,6 +9,7 @@ import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.davinci.store.cache.offheap.OffHeapValueCache;
 import com.linkedin.venice.exceptions.StorageInitializationException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
@@ -64,6 +65,11 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   private final String rocksDBPath;
   private final Cache sharedCache;
   private Cache sharedRMDCache;
+  /**
+   * Row cache shared by the RocksDB databases of the stores in
+   * {@link RocksDBServerConfig#ROCKSDB_ROW_CACHE_ENABLED_STORE_LIST}, if any.
+   */
+  private final Optional<Cache> rowCache;
   private final Map<String, RocksDBStorageEngine> storageEngineMap = new HashMap<>();
   private final Optional<Statistics> aggStatistics;
 
@@ -108,6 +114,11 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
 
   private final VeniceServerConfig serverConfig;
 
+  /**
+   * Off-heap value cache shared by all the RocksDB databases, if enabled.
+   */
+  private final Optional<OffHeapValueCache> offHeapValueCache;
+
   public RocksDBStorageEngineFactory(VeniceServerConfig serverConfig) {
     this(
         serverConfig,
@@ -157,13 +168,29 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       this.sharedCache = new LRUCache(
           rocksDBServerConfig.getRocksDBBlockCacheSizeInBytes(),
           rocksDBServerConfig.getRocksDBBlockCacheShardBits(),
-          rocksDBServerConfig.getRocksDBBlockCacheStrictCapacityLimit());
+          rocksDBServerConfig.getRocksDBBlockCacheStrictCapacityLimit(),
+          rocksDBServerConfig.getRocksDBBlockCacheHighPriorityPoolRatio());
       if (rocksDBServerConfig.isUseSeparateRMDCacheEnabled()) {
         this.sharedRMDCache = new LRUCache(
             rocksDBServerConfig.getRocksDBRMDBlockCacheSizeInBytes(),
             rocksDBServerConfig.getRocksDBBlockCacheShardBits(),
-            rocksDBServerConfig.getRocksDBBlockCacheStrictCapacityLimit());
+            rocksDBServerConfig.getRocksDBBlockCacheStrictCapacityLimit(),
+            rocksDBServerConfig.getRocksDBBlockCacheHighPriorityPoolRatio());
+      }
+    }
+
+    // Shared row cache across all the RocksDB databases of the stores with row cache enabled
+    if (rocksDBServerConfig.isRowCacheEnabledForAnyStore()) {
+      this.rowCache = Optional.of(
+          new LRUCache(
+              rocksDBServerConfig.getRowCacheSizeInBytes(),
+              rocksDBServerConfig.getRocksDBBlockCacheShardBits(),
+              rocksDBServerConfig.getRocksDBBlockCacheStrictCapacityLimit()));
+      if (rocksDBMemoryStats != null) {
+        rocksDBMemoryStats.setRowCache(this.rowCache.get());
       }
+    } else {
+      this.rowCache = Optional.empty();
     }
 
     if (rocksDBServerConfig.isRocksDBStatisticsEnabled()) {
@@ -200,6 +227,17 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
         DEFAULT_FAIRNESS,
         DEFAULT_MODE,
         rocksDBServerConfig.isAutoTunedRateLimiterEnabled());
+    if (rocksDBServerConfig.isOffHeapValueCacheEnabled()) {
+      this.offHeapValueCache = Optional.of(
+          new OffHeapValueCache(
+              rocksDBServerConfig.getOffHeapValueCacheSizeInBytes(),
+              rocksDBServerConfig.getOffHeapValueCacheSlabSizeInBytes()));
+      if (rocksDBMemoryStats != null) {
+        rocksDBMemoryStats.setOffHeapValueCache(this.offHeapValueCache.get());
+      }
+    } else {
+      this.offHeapValueCache = Optional.empty();
+    }
   }
 
   public long getMemoryLimit() {
@@ -241,10 +279,18 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return env;
   }
 
+  public Optional<OffHeapValueCache> getOffHeapValueCache() {
+    return offHeapValueCache;
+  }
+
   public Cache getSharedCache(boolean isRMD) {
     return rocksDBServerConfig.isUseSeparateRMDCacheEnabled() && isRMD ? sharedRMDCache : sharedCache;
   }
 
+  public Optional<Cache> getRowCache() {
+    return rowCache;
+  }
+
   @Override
   public synchronized AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
       throws StorageInitializationException {
@@ -297,10 +343,12 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       storageEngine.close();
     });
     storageEngineMap.clear();
+    offHeapValueCache.ifPresent(OffHeapValueCache::clear);
     sharedCache.close();
     if (sharedRMDCache != null) {
       sharedRMDCache.close();
     }
+    rowCache.ifPresent(Cache::close);
     writeBufferManager.close();
     rateLimiter.close();
     this.env.close();
@@ -6,16 +6,25 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.cache.offheap.OffHeapValueCache;
 import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.store.rocksdb.PartitionFileManifest;
+import com.linkedin.venice.store.rocksdb.PartitionFileStagingArea;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -29,6 +38,7 @@ import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ByteBufferGetStatus;
 import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -36,6 +46,8 @@ import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.EnvOptions;
 import org.rocksdb.FlushOptions;
+import org.rocksdb.IndexType;
+import org.rocksdb.IngestExternalFileOptions;
 import org.rocksdb.MemoryUsageType;
 import org.rocksdb.MemoryUtil;
 import org.rocksdb.Options;
@@ -46,6 +58,7 @@ import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
 import org.rocksdb.SstFileManager;
+import org.rocksdb.SstFileReader;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
 import org.rocksdb.Status;
@@ -142,6 +155,24 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
   private RocksDBSstFileWriter rocksDBSstFileWriter = null;
 
+  /**
+   * Buffers the sorted runs of the writes during incremental pushes, which is null when not in any such push. It's
+   * volatile since the reads look up the buffered records without synchronization.
+   */
+  private volatile RocksDBIncrementalSstIngester incrementalSstIngester = null;
+  /**
+   * The versions of the in-flight incremental pushes, and the buffering stops once all of them are over.
+   */
+  private final Set<String> incrementalPushVersions = new HashSet<>();
+
+  /**
+   * Off-heap value cache shared by all the databases, which is null if disabled. The entries of this partition are
+   * isolated via {@link #valueCacheNamespace}, and they are kept up-to-date by the write path. The namespace is
+   * replaced whenever the records are ingested without going through the write path.
+   */
+  private final OffHeapValueCache valueCache;
+  private volatile long valueCacheNamespace;
+
   protected RocksDBStoragePartition(
       StoragePartitionConfig storagePartitionConfig,
       RocksDBStorageEngineFactory factory,
@@ -158,6 +189,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     this.storeNameWithoutVersionSuffix = Version.parseStoreFromVersionTopic(storeName);
     this.partitionId = storagePartitionConfig.getPartitionId();
     this.aggStatistics = factory.getAggStatistics();
+    this.valueCache =
+        this.partitionId == METADATA_PARTITION_ID ? null : factory.getOffHeapValueCache().orElse(null);
+    this.valueCacheNamespace = this.valueCache == null ? 0 : this.valueCache.newNamespace();
 
     // If writing to offset metadata partition METADATA_PARTITION_ID enable WAL write to sync up offset on server
     // restart,
@@ -361,6 +395,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     options.setMaxLogFileSize(rocksDBServerConfig.getMaxLogFileSize());
 
     aggStatistics.ifPresent(options::setStatistics);
+    if (rocksDBServerConfig.isRowCacheEnabled(storeNameWithoutVersionSuffix)) {
+      factory.getRowCache().ifPresent(options::setRowCache);
+    }
 
     if (rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
       PlainTableConfig tableConfig = new PlainTableConfig();
@@ -377,15 +414,33 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       tableConfig.setBlockSize(rocksDBServerConfig.getRocksDBSSTFileBlockSizeInBytes());
       tableConfig.setBlockCache(factory.getSharedCache(isRMD));
       tableConfig.setCacheIndexAndFilterBlocks(rocksDBServerConfig.isRocksDBSetCacheIndexAndFilterBlocks());
-
-      // TODO Consider Adding "cache_index_and_filter_blocks_with_high_priority" to allow for preservation of indexes in
-      // memory.
       // https://github.com/facebook/rocksdb/wiki/Block-Cache#caching-index-and-filter-blocks
       // https://github.com/facebook/rocksdb/wiki/Block-Cache#lru-cache
+      tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(
+          rocksDBServerConfig.isRocksDBCacheIndexAndFilterBlocksWithHighPriority());
+      tableConfig.setPinL0FilterAndIndexBlocksInCache(rocksDBServerConfig.isPinL0FilterAndIndexBlocksInCache());
+      if (rocksDBServerConfig.isPartitionedIndexAndFiltersEnabled()) {
+        // https://github.com/facebook/rocksdb/wiki/Partitioned-Index-Filters
+        tableConfig.setIndexType(IndexType.kTwoLevelIndexSearch);
+        tableConfig.setPartitionFilters(true);
+        tableConfig.setFilterPolicy(new BloomFilter(rocksDBServerConfig.getRocksDBBloomBitsPerKey(), false));
+        tableConfig.setMetadataBlockSize(rocksDBServerConfig.getMetadataBlockSizeInBytes());
+        tableConfig.setPinTopLevelIndexAndFilter(rocksDBServerConfig.isPinTopLevelIndexAndFilter());
+      }
 
       tableConfig.setBlockCacheCompressedSize(rocksDBServerConfig.getRocksDBBlockCacheCompressedSizeInBytes());
       tableConfig.setFormatVersion(rocksDBServerConfig.getBlockBaseFormatVersion());
       options.setTableFormatConfig(tableConfig);
+
+      if (rocksDBServerConfig.isBlobFilesEnabled(storeNameWithoutVersionSuffix)) {
+        options.setEnableBlobFiles(true);
+        options.setMinBlobSize(rocksDBServerConfig.getMinBlobSizeInBytes());
+        options.setBlobFileSize(rocksDBServerConfig.getBlobFileSizeInBytes());
+        options.setBlobCompressionType(rocksDBServerConfig.getBlobFileCompressionType());
+        options.setEnableBlobGarbageCollection(rocksDBServerConfig.isBlobGarbageCollectionEnabled());
+        options.setBlobGarbageCollectionAgeCutoff(rocksDBServerConfig.getBlobGarbageCollectionAgeCutoff());
+        options.setBlobGarbageCollectionForceThreshold(rocksDBServerConfig.getBlobGarbageCollectionForceThreshold());
+      }
     }
 
     if (storagePartitionConfig.isWriteOnlyConfig()) {
@@ -458,6 +513,290 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
      * the last SST file written is finished.
      */
     rocksDBSstFileWriter.ingestSSTFiles(rocksDB, columnFamilyHandleList);
+    if (valueCache != null) {
+      // The ingested SST files bypass the write path, so drop whatever was cached before
+      valueCacheNamespace = valueCache.invalidateNamespace(valueCacheNamespace);
+    }
+  }
+
+  @Override
+  public synchronized void beginIncrementalPushSstIngestion(String incrementalPushVersion) {
+    makeSureRocksDBIsStillOpen();
+    if (!rocksDBServerConfig.isIncrementalPushSstIngestionEnabled()) {
+      return;
+    }
+    if (deferredWrite || readOnly || partitionId == METADATA_PARTITION_ID || columnFamilyHandleList.size() > 1) {
+      LOGGER.info(
+          "'beginIncrementalPushSstIngestion' will do nothing for store: {}, partition id: {} since it isn't supported",
+          storeName,
+          partitionId);
+      return;
+    }
+    incrementalPushVersions.add(incrementalPushVersion);
+    if (incrementalSstIngester != null) {
+      return;
+    }
+    this.incrementalSstIngester = new RocksDBIncrementalSstIngester(
+        storeName,
+        partitionId,
+        fullPathForTempSSTFileDir,
+        envOptions,
+        options,
+        rocksDBServerConfig.getIncrementalPushSstIngestionBufferSizeInBytes(),
+        rocksDBServerConfig.getIncrementalPushSstIngestionMinFileSizeInBytes());
+    LOGGER.info("Began incremental push SST ingestion for store: {}, partition id: {}", storeName, partitionId);
+  }
+
+  @Override
+  public synchronized void endIncrementalPushSstIngestion(String incrementalPushVersion) {
+    // The other incremental pushes still in flight keep buffering their writes
+    if (!incrementalPushVersions.remove(incrementalPushVersion) || !incrementalPushVersions.isEmpty()) {
+      return;
+    }
+    makeSureRocksDBIsStillOpen();
+    flushIncrementalSstIngester();
+    this.incrementalSstIngester = null;
+    LOGGER.info("Ended incremental push SST ingestion for store: {}, partition id: {}", storeName, partitionId);
+  }
+
+  /**
+   * The pre-built files are copied into the temp SST file dir under their own prefix first, and then moved into the
+   * database, so they are newer than any record ingested before. The checksum and the number of records of every
+   * copied file are checked against the manifest before the ingestion, and the files are ingested all at once, so
+   * either all or none of them make it into the database.
+   */
+  @Override
+  public synchronized void ingestPrebuiltPartitionFiles(PartitionFileStagingArea stagingArea) {
+    makeSureRocksDBIsStillOpen();
+    if (readOnly) {
+      throw new VeniceException(
+          "Cannot ingest pre-built files while partition is opened in read-only mode, partition=" + storeName + "_"
+              + partitionId);
+    }
+    if (options.tableFormatConfig() instanceof PlainTableConfig) {
+      throw new VeniceException(
+          "Cannot ingest pre-built files in block based table format into plain table format, partition=" + storeName
+              + "_" + partitionId);
+    }
+    if (deferredWrite) {
+      /**
+       * Ingesting the SST files of the records consumed in 'deferredWrite' mode drops all the files ingested
+       * before, see {@link RocksDBSstFileWriter#ingestSSTFiles}, so those need to be ingested ahead of the pre-built
+       * files.
+       */
+      sync();
+      rocksDBSstFileWriter.ingestSSTFiles(rocksDB, columnFamilyHandleList);
+    }
+    PartitionFileManifest manifest = stagingArea.readManifest(partitionId);
+    File tempSSTFileDir = new File(fullPathForTempSSTFileDir);
+    if (!tempSSTFileDir.exists()) {
+      tempSSTFileDir.mkdirs();
+    }
+    List<String> sstFilePaths = new ArrayList<>(manifest.getFiles().size());
+    try {
+      for (PartitionFileManifest.PartitionFile partitionFile: manifest.getFiles()) {
+        File sstFile = new File(tempSSTFileDir, RocksDBUtils.composePrebuiltSSTFileName(sstFilePaths.size()));
+        sstFilePaths.add(sstFile.getAbsolutePath());
+        stagingArea.fetchFile(partitionId, partitionFile.getFileName(), sstFile);
+        verifyPrebuiltFile(sstFile, partitionFile);
+      }
+      if (sstFilePaths.isEmpty()) {
+        LOGGER.info("No pre-built file to ingest for store: {}, partition id: {}", storeName, partitionId);
+        return;
+      }
+      try (IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions()) {
+        ingestOptions.setMoveFiles(true);
+        rocksDB.ingestExternalFile(columnFamilyHandleList.get(0), sstFilePaths, ingestOptions);
+      }
+    } catch (RocksDBException e) {
+      checkAndThrowMemoryLimitException(e);
+      throw new VeniceException(
+          "Failed to ingest pre-built files into store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } finally {
+      for (String sstFilePath: sstFilePaths) {
+        File sstFile = new File(sstFilePath);
+        if (sstFile.exists() && !sstFile.delete()) {
+          LOGGER.warn("Failed to remove the pre-built file: {}", sstFilePath);
+        }
+      }
+    }
+    if (valueCache != null) {
+      // The ingested files bypass the write path, so drop whatever was cached before
+      valueCacheNamespace = valueCache.invalidateNamespace(valueCacheNamespace);
+    }
+    LOGGER.info(
+        "Ingested {} pre-built files into store: {}, partition id: {}",
+        sstFilePaths.size(),
+        storeName,
+        partitionId);
+  }
+
+  private void verifyPrebuiltFile(File sstFile, PartitionFileManifest.PartitionFile partitionFile)
+      throws RocksDBException {
+    String expectedChecksum = partitionFile.getChecksum();
+    if (expectedChecksum == null) {
+      throw new VeniceException("Pre-built file: " + partitionFile.getFileName() + " has no checksum in the manifest");
+    }
+    String actualChecksum = PartitionFileManifest.computeChecksum(sstFile);
+    if (!expectedChecksum.equals(actualChecksum)) {
+      throw new VeniceException(
+          "Checksum of pre-built file: " + partitionFile.getFileName() + " doesn't match the manifest, expected: "
+              + expectedChecksum + ", actual: " + actualChecksum);
+    }
+    long expectedRecordCount = partitionFile.getRecordCount();
+    try (SstFileReader sstFileReader = new SstFileReader(options)) {
+      sstFileReader.open(sstFile.getAbsolutePath());
+      long actualRecordCount = sstFileReader.getTableProperties().getNumEntries();
+      if (actualRecordCount != expectedRecordCount) {
+        throw new VeniceException(
+            "Record count of pre-built file: " + sstFile + " doesn't match the manifest, expected: "
+                + expectedRecordCount + ", actual: " + actualRecordCount);
+      }
+    }
+  }
+
+  synchronized boolean isIncrementalPushSstIngestionInProgress() {
+    return incrementalSstIngester != null;
+  }
+
+  /**
+   * Writes all the records buffered by {@link #incrementalSstIngester} into RocksDB, which needs to happen before any
+   * write conflicting with the buffered records, and before the memtable gets flushed in {@link #sync()}. The buffered
+   * records are readable all along, see {@link #getBufferedValue}.
+   */
+  private void flushIncrementalSstIngester() {
+    if (incrementalSstIngester == null || incrementalSstIngester.isEmpty()) {
+      return;
+    }
+    try {
+      incrementalSstIngester.flush(rocksDB, columnFamilyHandleList.get(0), writeOptions, this::invalidateValueCache);
+    } catch (RocksDBException e) {
+      checkAndThrowMemoryLimitException(e);
+      throw new VeniceException(
+          "Failed to flush the incremental push records to store: " + storeName + ", partition id: " + partitionId,
+          e);
+    }
+  }
+
+  /**
+   * @return a copy of the value of the given key buffered by {@link #incrementalSstIngester}, or null if the key isn't
+   * buffered. The buffer needs to be looked up before RocksDB, since the records are only dropped from the buffer
+   * after they are written into RocksDB.
+   */
+  private byte[] getBufferedValue(byte[] key, int keyOffset, int keyLength) {
+    RocksDBIncrementalSstIngester ingester = incrementalSstIngester;
+    if (ingester == null || ingester.isEmpty()) {
+      return null;
+    }
+    if (keyOffset != 0 || keyLength != key.length) {
+      key = Arrays.copyOfRange(key, keyOffset, keyOffset + keyLength);
+    }
+    byte[] value = ingester.get(key);
+    return value == null ? null : value.clone();
+  }
+
+  /**
+   * Batched version of {@link #getBufferedValue}, which returns null if none of the keys is buffered.
+   */
+  private List<byte[]> getBufferedValues(List<byte[]> keys) {
+    RocksDBIncrementalSstIngester ingester = incrementalSstIngester;
+    if (ingester == null || ingester.isEmpty()) {
+      return null;
+    }
+    List<byte[]> values = null;
+    for (int i = 0; i < keys.size(); i++) {
+      byte[] value = ingester.get(keys.get(i));
+      if (value != null) {
+        if (values == null) {
+          values = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        }
+        values.set(i, value.clone());
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Looks up the value cache first, and fills the cache with the value read from RocksDB on a cache miss.
+   * This function needs to be invoked while holding the read lock of {@link #readCloseRWLock}, so that the cache
+   * won't be filled after this partition is closed.
+   *
+   * The namespace is read only once, so a value read from RocksDB before the namespace is replaced never ends up in
+   * the new namespace.
+   */
+  private byte[] getThroughValueCache(byte[] key, int keyOffset, int keyLength) throws RocksDBException {
+    long namespace = valueCacheNamespace;
+    byte[] value = valueCache.get(namespace, key, keyOffset, keyLength);
+    if (value != null) {
+      return value;
+    }
+    // The stamp needs to be grabbed before reading RocksDB to detect any concurrent write
+    long stamp = valueCache.getStamp(namespace, key, keyOffset, keyLength);
+    value = rocksDB.get(key, keyOffset, keyLength);
+    if (value != null) {
+      valueCache.putIfAdmitted(namespace, key, keyOffset, keyLength, value, 0, value.length, stamp);
+    }
+    return value;
+  }
+
+  /**
+   * Batched version of {@link #getThroughValueCache}, and only the keys missing from the value cache are looked up
+   * in RocksDB.
+   */
+  private List<byte[]> multiGetThroughValueCache(List<byte[]> keys) throws RocksDBException {
+    long namespace = valueCacheNamespace;
+    int keyCount = keys.size();
+    List<byte[]> values = new ArrayList<>(keyCount);
+    List<byte[]> missingKeys = null;
+    IntList missingKeyIndexes = null;
+    LongList stamps = null;
+    for (int i = 0; i < keyCount; i++) {
+      byte[] key = keys.get(i);
+      byte[] value = valueCache.get(namespace, key, 0, key.length);
+      values.add(value);
+      if (value == null) {
+        if (missingKeys == null) {
+          missingKeys = new ArrayList<>(keyCount - i);
+          missingKeyIndexes = new IntArrayList(keyCount - i);
+          stamps = new LongArrayList(keyCount - i);
+        }
+        missingKeys.add(key);
+        missingKeyIndexes.add(i);
+        stamps.add(valueCache.getStamp(namespace, key, 0, key.length));
+      }
+    }
+    if (missingKeys == null) {
+      return values;
+    }
+    List<byte[]> missingValues = rocksDB.multiGetAsList(missingKeys);
+    for (int i = 0; i < missingKeys.size(); i++) {
+      byte[] value = missingValues.get(i);
+      if (value != null) {
+        byte[] key = missingKeys.get(i);
+        valueCache.putIfAdmitted(namespace, key, 0, key.length, value, 0, value.length, stamps.getLong(i));
+        values.set(missingKeyIndexes.getInt(i), value);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Needs to be invoked after the value is persisted in RocksDB.
+   */
+  protected void updateValueCache(byte[] key, byte[] value, int valueOffset, int valueLength) {
+    if (valueCache != null) {
+      valueCache.update(valueCacheNamespace, key, 0, key.length, value, valueOffset, valueLength);
+    }
+  }
+
+  /**
+   * Needs to be invoked after the key is deleted from RocksDB.
+   */
+  protected void invalidateValueCache(byte[] key) {
+    if (valueCache != null) {
+      valueCache.invalidate(valueCacheNamespace, key, 0, key.length);
+    }
   }
 
   private void checkAndThrowMemoryLimitException(RocksDBException e) {
@@ -485,6 +824,15 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     try {
       if (deferredWrite) {
         rocksDBSstFileWriter.put(key, valueBuffer);
+      } else if (incrementalSstIngester != null) {
+        if (!incrementalSstIngester.canAppend(key)) {
+          // The current run ends here, and a new one starts from this key
+          flushIncrementalSstIngester();
+        }
+        incrementalSstIngester.append(key, valueBuffer);
+        if (incrementalSstIngester.isFull()) {
+          flushIncrementalSstIngester();
+        }
       } else {
         rocksDB.put(
             writeOptions,
@@ -494,6 +842,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
             valueBuffer.array(),
             valueBuffer.position(),
             valueBuffer.remaining());
+        updateValueCache(key, valueBuffer.array(), valueBuffer.position(), valueBuffer.remaining());
       }
     } catch (RocksDBException e) {
       checkAndThrowMemoryLimitException(e);
@@ -513,7 +862,14 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.get(key);
+      byte[] bufferedValue = getBufferedValue(key, 0, key.length);
+      if (bufferedValue != null) {
+        return bufferedValue;
+      }
+      if (valueCache == null) {
+        return rocksDB.get(key);
+      }
+      return getThroughValueCache(key, 0, key.length);
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from store: " + storeName + ", partition id: " + partitionId, e);
     } finally {
@@ -526,6 +882,22 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      byte[] value = getBufferedValue(key, 0, key.length);
+      if (value == null && valueCache != null) {
+        value = getThroughValueCache(key, 0, key.length);
+        if (value == null) {
+          return null;
+        }
+      }
+      if (value != null) {
+        if (value.length > valueToBePopulated.capacity()) {
+          valueToBePopulated = ByteBuffer.allocate(value.length);
+        }
+        System.arraycopy(value, 0, valueToBePopulated.array(), 0, value.length);
+        valueToBePopulated.position(0);
+        valueToBePopulated.limit(value.length);
+        return valueToBePopulated;
+      }
       int size = rocksDB.get(key, valueToBePopulated.array());
       if (size == RocksDB.NOT_FOUND) {
         return null;
@@ -557,7 +929,14 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.get(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining());
+      byte[] bufferedValue = getBufferedValue(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining());
+      if (bufferedValue != null) {
+        return bufferedValue;
+      }
+      if (valueCache == null) {
+        return rocksDB.get(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining());
+      }
+      return getThroughValueCache(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining());
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from store: " + storeName + ", partition id: " + partitionId, e);
     } finally {
@@ -565,11 +944,23 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  @Override
   public List<byte[]> multiGet(List<byte[]> keys) {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.multiGetAsList(keys);
+      List<byte[]> bufferedValues = getBufferedValues(keys);
+      List<byte[]> values = valueCache == null ? rocksDB.multiGetAsList(keys) : multiGetThroughValueCache(keys);
+      if (bufferedValues == null) {
+        return values;
+      }
+      List<byte[]> result = new ArrayList<>(values);
+      for (int i = 0; i < bufferedValues.size(); i++) {
+        if (bufferedValues.get(i) != null) {
+          result.set(i, bufferedValues.get(i));
+        }
+      }
+      return result;
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from store: " + storeName + ", partition id: " + partitionId, e);
     } finally {
@@ -582,6 +973,15 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
     try {
       makeSureRocksDBIsStillOpen();
+      List<byte[]> bufferedValues = null;
+      RocksDBIncrementalSstIngester ingester = incrementalSstIngester;
+      if (ingester != null && !ingester.isEmpty()) {
+        List<byte[]> keyBytesList = new ArrayList<>(keys.size());
+        for (ByteBuffer key: keys) {
+          keyBytesList.add(ByteUtils.copyByteArray(key));
+        }
+        bufferedValues = getBufferedValues(keyBytesList);
+      }
       List<ByteBufferGetStatus> statusList = rocksDB.multiGetByteBuffers(keys, values);
       int keyCnt = keys.size();
       int statusCnt = statusList.size();
@@ -637,6 +1037,18 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
                   + partitionId);
         }
       }
+      if (bufferedValues != null) {
+        // The buffered records of the incremental pushes are newer than the ones in RocksDB
+        for (int i = 0; i < bufferedValues.size(); i++) {
+          byte[] bufferedValue = bufferedValues.get(i);
+          if (bufferedValue != null) {
+            ByteBuffer bufferedValueBuffer = ByteBuffer.allocateDirect(bufferedValue.length);
+            bufferedValueBuffer.put(bufferedValue);
+            bufferedValueBuffer.flip();
+            resultList.set(i, bufferedValueBuffer);
+          }
+        }
+      }
 
       return resultList;
     } catch (RocksDBException e) {
@@ -655,6 +1067,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      // The buffered records of the incremental pushes are newer than the ones in RocksDB, so they are merged in
+      RocksDBIncrementalSstIngester ingester = incrementalSstIngester;
+      List<Map.Entry<byte[], byte[]>> bufferedRecords =
+          ingester == null || ingester.isEmpty() ? Collections.emptyList() : ingester.getRecords(keyPrefix);
+      int bufferedRecordIndex = 0;
 
       try (ReadOptions readOptions = getReadOptionsForIteration(keyPrefix);
           RocksIterator iterator = rocksDB.newIterator(readOptions)) {
@@ -664,9 +1081,27 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
           iterator.seek(keyPrefix);
         }
         while (iterator.isValid()) {
-          callback.onRecordReceived(iterator.key(), iterator.value());
+          byte[] key = iterator.key();
+          boolean isOverwritten = false;
+          while (bufferedRecordIndex < bufferedRecords.size()) {
+            Map.Entry<byte[], byte[]> bufferedRecord = bufferedRecords.get(bufferedRecordIndex);
+            int comparison = ByteUtils.compare(bufferedRecord.getKey(), key);
+            if (comparison > 0) {
+              break;
+            }
+            callback.onRecordReceived(bufferedRecord.getKey(), bufferedRecord.getValue().clone());
+            isOverwritten = comparison == 0;
+            bufferedRecordIndex++;
+          }
+          if (!isOverwritten) {
+            callback.onRecordReceived(key, iterator.value());
+          }
           iterator.next();
         }
+        for (; bufferedRecordIndex < bufferedRecords.size(); bufferedRecordIndex++) {
+          Map.Entry<byte[], byte[]> bufferedRecord = bufferedRecords.get(bufferedRecordIndex);
+          callback.onRecordReceived(bufferedRecord.getKey(), bufferedRecord.getValue().clone());
+        }
       }
     } finally {
       readCloseRWLock.readLock().unlock();
@@ -719,7 +1154,12 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       if (deferredWrite) {
         throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
       } else {
+        if (incrementalSstIngester != null && incrementalSstIngester.overlaps(key)) {
+          // The buffered records need to land first, otherwise they would overwrite this deletion
+          flushIncrementalSstIngester();
+        }
         rocksDB.delete(key);
+        invalidateValueCache(key);
       }
     } catch (RocksDBException e) {
       checkAndThrowMemoryLimitException(e);
@@ -746,6 +1186,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
          */
         LOGGER.debug("Unexpected sync in RocksDB read-only mode");
       } else {
+        flushIncrementalSstIngester();
         try {
           // Since Venice RocksDB database disables WAL, flush will be triggered for every 'sync' to avoid data loss
           // during
@@ -813,6 +1254,20 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       return;
     }
     long startTimeInMs = System.currentTimeMillis();
+    if (incrementalSstIngester != null) {
+      try {
+        flushIncrementalSstIngester();
+      } catch (Exception e) {
+        // The buffered records were never covered by any checkpointed offset, so they will be consumed again
+        LOGGER.warn(
+            "Failed to flush the incremental push records of store: {}, partition: {}",
+            storeName,
+            partitionId,
+            e);
+      }
+      incrementalSstIngester = null;
+    }
+    incrementalPushVersions.clear();
     /**
      * The following operations are used to free up memory.
      */
@@ -824,6 +1279,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       isClosed = true;
       readCloseRWLock.writeLock().unlock();
     }
+    if (valueCache != null) {
+      valueCache.removeNamespace(valueCacheNamespace);
+    }
     if (envOptions != null) {
       envOptions.close();
     }
@@ -898,11 +1356,46 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * @return the sum of the given property across all the column families, which is used for the properties that
+   *         RocksDB only reports per column family, such as the blob file ones.
+   */
+  public long getRocksDBStatValueOfAllColumnFamilies(String statName) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      long total = 0;
+      for (ColumnFamilyHandle columnFamilyHandle: columnFamilyHandleList) {
+        total += rocksDB.getLongProperty(columnFamilyHandle, statName);
+      }
+      return total;
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to get property value from store: " + storeName + ", partition id: " + partitionId + " for property: "
+              + statName,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * The memory usage of the index/filter blocks is accounted for in {@link MemoryUsageType#kCacheTotal} when they are
+   * put into the block cache, including the pinned ones, and in {@link MemoryUsageType#kTableReadersTotal} otherwise.
+   * The row cache of this database, if enabled, is accounted for in {@link MemoryUsageType#kCacheTotal} besides the
+   * passed caches.
+   */
   public Map<MemoryUsageType, Long> getApproximateMemoryUsageByType(final Set<Cache> caches) {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return MemoryUtil.getApproximateMemoryUsageByType(Arrays.asList(rocksDB), caches);
+      Set<Cache> cachesToAccount = caches;
+      Cache rowCache = options.rowCache();
+      if (rowCache != null) {
+        cachesToAccount = new HashSet<>(caches == null ? Collections.emptySet() : caches);
+        cachesToAccount.add(rowCache);
+      }
+      return MemoryUtil.getApproximateMemoryUsageByType(Arrays.asList(rocksDB), cachesToAccount);
     } finally {
       readCloseRWLock.readLock().unlock();
     }
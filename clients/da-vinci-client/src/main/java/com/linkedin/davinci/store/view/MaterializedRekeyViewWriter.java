@@ -0,0 +1,293 @@
+package com.linkedin.davinci.store.view;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.pubsub.PubSubProducerAdapterFactory;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.rmd.RmdConstants;
+import com.linkedin.venice.schema.rmd.RmdTimestampType;
+import com.linkedin.venice.schema.rmd.RmdUtils;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.PartitionUtils;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.views.MaterializedRekeyView;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterFactory;
+import com.linkedin.venice.writer.VeniceWriterOptions;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Writer of the {@link MaterializedRekeyView}. For each record applied by the leader, it looks up the configured field
+ * in the new and the old value, and writes the new value to the view topic under the (new field value, key) pair,
+ * after deleting the entry of the (old field value, key) pair if the field changed. The values are written as they
+ * are, along with their value schema id, so the view can be read with the value schemas of the store. Every view
+ * record carries the timestamp of the write in its logical timestamp, refer {@link MaterializedRekeyView} for the
+ * layout of the view keys and how to apply the view records.
+ */
+public class MaterializedRekeyViewWriter extends VeniceViewWriter {
+  private final MaterializedRekeyView internalView;
+  private final PubSubProducerAdapterFactory pubSubProducerAdapterFactory;
+  private final Map<Integer, RekeyFieldExtractor> fieldExtractors = new VeniceConcurrentHashMap<>();
+  private ReadOnlySchemaRepository schemaRepository;
+  private VeniceWriter<byte[], byte[], byte[]> veniceWriter;
+
+  public MaterializedRekeyViewWriter(
+      VeniceConfigLoader props,
+      Store store,
+      Schema keySchema,
+      Map<String, String> extraViewParameters) {
+    super(props, store, keySchema, extraViewParameters);
+    internalView =
+        new MaterializedRekeyView(props.getCombinedProperties().toProperties(), store, extraViewParameters);
+    pubSubProducerAdapterFactory = props.getVeniceServerConfig().getPubSubClientsFactory().getProducerAdapterFactory();
+  }
+
+  @Override
+  public void setSchemaRepository(ReadOnlySchemaRepository schemaRepository) {
+    this.schemaRepository = schemaRepository;
+  }
+
+  @Override
+  public CompletableFuture<PubSubProduceResult> processRecord(
+      ByteBuffer newValue,
+      ByteBuffer oldValue,
+      byte[] key,
+      int version,
+      int newValueSchemaId,
+      int oldValueSchemaId,
+      GenericRecord replicationMetadataRecord) {
+    byte[] newRekeyField = newValue == null ? null : extractRekeyField(newValue, newValueSchemaId);
+    byte[] oldRekeyField = oldValue == null ? null : extractRekeyField(oldValue, oldValueSchemaId);
+    if (newRekeyField == null && oldRekeyField == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    if (veniceWriter == null) {
+      initializeVeniceWriter(version);
+    }
+    long timestamp = getWriteTimestamp(replicationMetadataRecord);
+    CompletableFuture<PubSubProduceResult> deleteFuture = null;
+    if (oldRekeyField != null && !Arrays.equals(oldRekeyField, newRekeyField)) {
+      CompletableFuture<PubSubProduceResult> future = new CompletableFuture<>();
+      veniceWriter.delete(composeViewKey(oldRekeyField, key), timestamp, (produceResult, exception) -> {
+        if (exception == null) {
+          future.complete(produceResult);
+        } else {
+          future.completeExceptionally(exception);
+        }
+      });
+      deleteFuture = future;
+    }
+    if (newRekeyField == null) {
+      return deleteFuture;
+    }
+    CompletableFuture<PubSubProduceResult> putFuture = veniceWriter.put(
+        composeViewKey(newRekeyField, key),
+        ByteUtils.extractByteArray(newValue),
+        newValueSchemaId,
+        null,
+        VeniceWriter.DEFAULT_LEADER_METADATA_WRAPPER,
+        timestamp,
+        null);
+    if (deleteFuture == null) {
+      return putFuture;
+    }
+    return CompletableFuture.allOf(deleteFuture, putFuture).thenCompose(ignored -> putFuture);
+  }
+
+  @Override
+  public Map<String, VeniceProperties> getTopicNamesAndConfigsForVersion(int version) {
+    return internalView.getTopicNamesAndConfigsForVersion(version);
+  }
+
+  @Override
+  public String getWriterClassName() {
+    return internalView.getWriterClassName();
+  }
+
+  @Override
+  public void close() {
+    internalView.close();
+    if (veniceWriter != null) {
+      veniceWriter.close();
+    }
+  }
+
+  // package private, for testing only
+  void setVeniceWriter(VeniceWriter<byte[], byte[], byte[]> veniceWriter) {
+    this.veniceWriter = veniceWriter;
+  }
+
+  /**
+   * @return the Avro binary encoding of the rekey field of the given value, or null if the field is null
+   */
+  byte[] extractRekeyField(ByteBuffer value, int valueSchemaId) {
+    RekeyFieldExtractor extractor = fieldExtractors.computeIfAbsent(valueSchemaId, this::buildFieldExtractor);
+    GenericRecord record = extractor.deserializer.deserialize(value.duplicate());
+    Object fieldValue = record.get(extractor.fieldPosition);
+    return fieldValue == null ? null : extractor.serializer.serialize(fieldValue);
+  }
+
+  VeniceWriterOptions buildWriterOptions(int version) {
+    String viewTopicName = getTopicNamesAndConfigsForVersion(version).keySet().stream().findAny().get();
+    VeniceWriterOptions.Builder configBuilder = new VeniceWriterOptions.Builder(viewTopicName);
+
+    // The view has its own partitioning, which doesn't depend on the amplification factor of the store version.
+    Properties partitionerParams = new Properties();
+    partitionerParams.putAll(viewParameters);
+    configBuilder.setPartitioner(
+        new RekeyFieldPartitioner(
+            PartitionUtils.getVenicePartitioner(
+                internalView.getRekeyPartitionerClass(),
+                1,
+                new VeniceProperties(partitionerParams))));
+    configBuilder.setPartitionCount(internalView.getRekeyPartitionCount());
+
+    Version storeVersionConfig = store.getVersion(version).get();
+    configBuilder.setChunkingEnabled(storeVersionConfig.isChunkingEnabled());
+    return configBuilder.build();
+  }
+
+  synchronized private void initializeVeniceWriter(int version) {
+    if (veniceWriter != null) {
+      return;
+    }
+    veniceWriter = new VeniceWriterFactory(props, pubSubProducerAdapterFactory, null)
+        .createVeniceWriter(buildWriterOptions(version));
+  }
+
+  private RekeyFieldExtractor buildFieldExtractor(int valueSchemaId) {
+    if (schemaRepository == null) {
+      throw new VeniceException("Materialized rekey view of store: " + store.getName() + " has no schema repository");
+    }
+    SchemaEntry valueSchemaEntry = schemaRepository.getValueSchema(store.getName(), valueSchemaId);
+    if (valueSchemaEntry == null) {
+      throw new VeniceException("Unknown value schema id: " + valueSchemaId + " for store: " + store.getName());
+    }
+    Schema valueSchema = valueSchemaEntry.getSchema();
+    String fieldName = internalView.getRekeyFieldName();
+    Schema.Field field = valueSchema.getType() == Schema.Type.RECORD ? valueSchema.getField(fieldName) : null;
+    if (field == null) {
+      throw new VeniceException(
+          "Value schema id: " + valueSchemaId + " of store: " + store.getName() + " has no field: " + fieldName);
+    }
+    return new RekeyFieldExtractor(
+        FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(valueSchema, valueSchema),
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(getViewKeySchema(field.schema())),
+        field.pos());
+  }
+
+  /**
+   * @return the view key of the given rekey field and key: the length of the field as a 4 bytes int, followed by the
+   *         field and the key
+   */
+  static byte[] composeViewKey(byte[] rekeyField, byte[] key) {
+    return ByteBuffer.allocate(ByteUtils.SIZE_OF_INT + rekeyField.length + key.length)
+        .putInt(rekeyField.length)
+        .put(rekeyField)
+        .put(key)
+        .array();
+  }
+
+  /**
+   * @return the latest timestamp of the given replication metadata, which is the one of the write that produced it
+   *         since the conflict resolution only applies writes newer than the ones already applied, or 0 if there is
+   *         no replication metadata
+   */
+  static long getWriteTimestamp(GenericRecord replicationMetadataRecord) {
+    if (replicationMetadataRecord == null) {
+      return 0;
+    }
+    Object timestampObject = replicationMetadataRecord.get(RmdConstants.TIMESTAMP_FIELD_POS);
+    if (RmdUtils.getRmdTimestampType(timestampObject) == RmdTimestampType.VALUE_LEVEL_TIMESTAMP) {
+      return (long) timestampObject;
+    }
+    GenericRecord perFieldTimestamps = (GenericRecord) timestampObject;
+    long timestamp = 0;
+    for (Schema.Field field: perFieldTimestamps.getSchema().getFields()) {
+      Object fieldTimestamp = perFieldTimestamps.get(field.pos());
+      if (fieldTimestamp instanceof GenericRecord) {
+        // Collection field, whose timestamp is the one of its last full update
+        fieldTimestamp = ((GenericRecord) fieldTimestamp).get(CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_POS);
+      }
+      timestamp = Math.max(timestamp, (long) fieldTimestamp);
+    }
+    return timestamp;
+  }
+
+  static Schema getViewKeySchema(Schema fieldSchema) {
+    if (fieldSchema.getType() != Schema.Type.UNION) {
+      return fieldSchema;
+    }
+    List<Schema> types = fieldSchema.getTypes();
+    if (types.size() == 2) {
+      if (types.get(0).getType() == Schema.Type.NULL) {
+        return types.get(1);
+      }
+      if (types.get(1).getType() == Schema.Type.NULL) {
+        return types.get(0);
+      }
+    }
+    return fieldSchema;
+  }
+
+  /**
+   * Partitions the view keys by their rekey field only, so that all the records sharing a field value land in the
+   * same partition of the view topic.
+   */
+  static class RekeyFieldPartitioner extends VenicePartitioner {
+    private final VenicePartitioner fieldPartitioner;
+
+    RekeyFieldPartitioner(VenicePartitioner fieldPartitioner) {
+      this.fieldPartitioner = fieldPartitioner;
+    }
+
+    @Override
+    public int getPartitionId(byte[] keyBytes, int numPartitions) {
+      return fieldPartitioner
+          .getPartitionId(keyBytes, ByteUtils.SIZE_OF_INT, ByteUtils.readInt(keyBytes, 0), numPartitions);
+    }
+
+    @Override
+    public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
+      return getPartitionId(ByteUtils.extractByteArray(keyByteBuffer), numPartitions);
+    }
+
+    VenicePartitioner getFieldPartitioner() {
+      return fieldPartitioner;
+    }
+  }
+
+  private static class RekeyFieldExtractor {
+    private final RecordDeserializer<GenericRecord> deserializer;
+    private final RecordSerializer<Object> serializer;
+    private final int fieldPosition;
+
+    private RekeyFieldExtractor(
+        RecordDeserializer<GenericRecord> deserializer,
+        RecordSerializer<Object> serializer,
+        int fieldPosition) {
+      this.deserializer = deserializer;
+      this.serializer = serializer;
+      this.fieldPosition = fieldPosition;
+    }
+  }
+}
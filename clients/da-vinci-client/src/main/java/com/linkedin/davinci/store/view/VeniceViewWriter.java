@@ -3,6 +3,7 @@ package com.linkedin.davinci.store.view;
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.pubsub.api.PubSubProduceResult;
 import com.linkedin.venice.views.VeniceView;
@@ -33,6 +34,14 @@ public abstract class VeniceViewWriter extends VeniceView {
     super(props.getCombinedProperties().toProperties(), store, extraViewParameters);
   }
 
+  /**
+   * Gives the writer access to the schemas of the store, for views which need to look into the values they are given.
+   * Invoked by {@link VeniceViewWriterFactory} right after the writer is built, when a repository is available.
+   */
+  public void setSchemaRepository(ReadOnlySchemaRepository schemaRepository) {
+    // Views which only pass the serialized values along don't need the schemas
+  }
+
   /**
    * To be called as a given ingestion task consumes each record. This is called prior to writing to a
    * VT or to persistent storage.
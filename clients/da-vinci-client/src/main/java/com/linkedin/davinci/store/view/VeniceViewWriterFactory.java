@@ -1,6 +1,7 @@
 package com.linkedin.davinci.store.view;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.ViewConfig;
@@ -11,9 +12,15 @@ import org.apache.avro.Schema;
 
 public class VeniceViewWriterFactory {
   private final VeniceConfigLoader properties;
+  private final ReadOnlySchemaRepository schemaRepository;
 
   public VeniceViewWriterFactory(VeniceConfigLoader properties) {
+    this(properties, null);
+  }
+
+  public VeniceViewWriterFactory(VeniceConfigLoader properties, ReadOnlySchemaRepository schemaRepository) {
     this.properties = properties;
+    this.schemaRepository = schemaRepository;
   }
 
   public Map<String, VeniceViewWriter> buildStoreViewWriters(Store store, int version, Schema keySchema) {
@@ -25,6 +32,9 @@ public class VeniceViewWriterFactory {
       Map<String, String> extraParams = viewConfig.getValue().getViewParameters();
       VeniceViewWriter viewWriter =
           ViewWriterUtils.getVeniceViewWriter(className, properties, store, keySchema, extraParams);
+      if (schemaRepository != null) {
+        viewWriter.setSchemaRepository(schemaRepository);
+      }
       storeViewWriters.put(viewConfig.getKey(), viewWriter);
     }
     return storeViewWriters;
@@ -287,7 +287,17 @@ public class PartitionTracker {
       ControlMessage controlMessage = (ControlMessage) consumerRecord.getValue().getPayloadUnion();
       if (ControlMessageType.valueOf(controlMessage) == ControlMessageType.START_OF_SEGMENT) {
         StartOfSegment startOfSegment = (StartOfSegment) controlMessage.getControlMessageUnion();
-        checkSumType = CheckSumType.valueOf(startOfSegment.getChecksumType());
+        checkSumType = CheckSumType.valueOfOrNull(startOfSegment.getChecksumType());
+        if (checkSumType == null) {
+          /**
+           * The segment can't be verified, e.g. when the producer is newer than this consumer, which is treated as
+           * corrupt data rather than silently skipping the checksum.
+           */
+          throw DataFaultType.CORRUPT.getNewException(
+              null,
+              consumerRecord,
+              "unsupported checksum type: " + startOfSegment.getChecksumType());
+        }
         debugInfo = CollectionUtils.substituteEmptyMap(controlMessage.getDebugInfo());
         if (startOfSegment.getUpcomingAggregates() != null && !startOfSegment.getUpcomingAggregates().isEmpty()) {
           aggregates = new HashMap<>(startOfSegment.getUpcomingAggregates().size());
@@ -662,7 +672,8 @@ public class PartitionTracker {
 
     /**
      * A given producer sent a {@link ControlMessageType#END_OF_SEGMENT} which included a checksum that
-     * did not match to the data received by the same producer.
+     * did not match to the data received by the same producer, or started a segment with a checksum type
+     * which is not supported by this consumer.
      */
     CORRUPT(msg -> new CorruptDataException(msg)),
 
@@ -0,0 +1,360 @@
+package com.linkedin.davinci.consumer;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.repository.ThinClientMetaStoreBasedRepository;
+import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
+import com.linkedin.venice.client.change.capture.protocol.ValueBytes;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.controllerapi.D2ControllerClient;
+import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.ControlMessage;
+import com.linkedin.venice.kafka.protocol.EndOfPush;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.VersionSwap;
+import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreInfo;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.views.ChangeCaptureView;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.util.Utf8;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class LocalBootstrappingVeniceChangelogConsumerTest {
+  private static final int PARTITION = 0;
+
+  private String storeName;
+  private String bootstrapPath;
+  private RecordSerializer<String> keySerializer;
+  private RecordSerializer<String> valueSerializer;
+  private SchemaReader schemaReader;
+  private D2ControllerClient d2ControllerClient;
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+  private Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> topics;
+  private PubSubTopic versionTopic1;
+  private PubSubTopic changeCaptureTopic1;
+  private PubSubTopic versionTopic2;
+  private PubSubTopic changeCaptureTopic2;
+
+  @BeforeMethod
+  public void setUp() {
+    storeName = Utils.getUniqueString();
+    bootstrapPath = Utils.getTempDataDirectory().getAbsolutePath();
+    schemaReader = mock(SchemaReader.class);
+    Schema keySchema = AvroCompatibilityHelper.parse("\"string\"");
+    doReturn(keySchema).when(schemaReader).getKeySchema();
+    Schema valueSchema = AvroCompatibilityHelper.parse("\"string\"");
+    doReturn(valueSchema).when(schemaReader).getValueSchema(1);
+    keySerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(keySchema);
+    valueSerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(valueSchema);
+
+    d2ControllerClient = mock(D2ControllerClient.class);
+    StoreResponse storeResponse = mock(StoreResponse.class);
+    StoreInfo storeInfo = mock(StoreInfo.class);
+    doReturn(1).when(storeInfo).getCurrentVersion();
+    doReturn(1).when(storeInfo).getPartitionCount();
+    doReturn(storeInfo).when(storeResponse).getStore();
+    doReturn(storeResponse).when(d2ControllerClient).getStore(storeName);
+
+    topics = new HashMap<>();
+    versionTopic1 = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    changeCaptureTopic1 =
+        pubSubTopicRepository.getTopic(versionTopic1.getName() + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+    versionTopic2 = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 2));
+    changeCaptureTopic2 =
+        pubSubTopicRepository.getTopic(versionTopic2.getName() + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+  }
+
+  @Test
+  public void testBootstrap() throws Exception {
+    appendPut(versionTopic1, "key0", "value0");
+    appendPut(versionTopic1, "key1", "value1");
+    appendEndOfPush(versionTopic1);
+    appendChangeEvent(changeCaptureTopic1, "key1", "value1", "newValue1");
+    appendChangeEvent(changeCaptureTopic1, "key2", null, "value2");
+
+    PubSubConsumerAdapter pubSubConsumer = mockPubSubConsumer(0);
+    LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> consumer = createConsumer(pubSubConsumer, 60000);
+    consumer.start(Collections.singleton(PARTITION)).get(30, TimeUnit.SECONDS);
+
+    Map<String, String> expected = new HashMap<>();
+    expected.put("key0", "value0");
+    expected.put("key1", "newValue1");
+    expected.put("key2", "value2");
+    Assert.assertEquals(pollLocalState(consumer, expected.size()), expected);
+    verify(pubSubConsumer)
+        .subscribe(new PubSubTopicPartitionImpl(versionTopic1, PARTITION), OffsetRecord.LOWEST_OFFSET);
+    verify(pubSubConsumer)
+        .subscribe(new PubSubTopicPartitionImpl(changeCaptureTopic1, PARTITION), OffsetRecord.LOWEST_OFFSET);
+    consumer.stop();
+  }
+
+  @Test
+  public void testRestartFromCheckpoint() throws Exception {
+    appendPut(versionTopic1, "key0", "value0");
+    appendPut(versionTopic1, "key1", "value1");
+    appendEndOfPush(versionTopic1);
+    appendChangeEvent(changeCaptureTopic1, "key1", "value1", "newValue1");
+    appendChangeEvent(changeCaptureTopic1, "key2", null, "value2");
+
+    LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> consumer = createConsumer(mockPubSubConsumer(0), 60000);
+    consumer.start(Collections.singleton(PARTITION)).get(30, TimeUnit.SECONDS);
+    Assert.assertEquals(pollLocalState(consumer, 3).size(), 3);
+    consumer.stop();
+
+    // The restarted consumer resumes right after the last record of the change capture topic
+    appendChangeEvent(changeCaptureTopic1, "key0", "value0", "newValue0");
+    PubSubConsumerAdapter pubSubConsumer = mockPubSubConsumer(0);
+    consumer = createConsumer(pubSubConsumer, 60000);
+    consumer.start(Collections.singleton(PARTITION)).get(30, TimeUnit.SECONDS);
+
+    Map<String, String> expected = new HashMap<>();
+    expected.put("key0", "newValue0");
+    expected.put("key1", "newValue1");
+    expected.put("key2", "value2");
+    Assert.assertEquals(pollLocalState(consumer, expected.size()), expected);
+    verify(pubSubConsumer).subscribe(new PubSubTopicPartitionImpl(changeCaptureTopic1, PARTITION), 1L);
+    verify(pubSubConsumer, never()).subscribe(new PubSubTopicPartitionImpl(versionTopic1, PARTITION), anyLong());
+    consumer.stop();
+  }
+
+  @Test
+  public void testRebootstrapOnVersionSwap() throws Exception {
+    appendPut(versionTopic1, "key0", "value0");
+    appendPut(versionTopic1, "key1", "value1");
+    appendEndOfPush(versionTopic1);
+    appendVersionSwap(changeCaptureTopic1, versionTopic1, versionTopic2);
+    // The new version doesn't have key0 anymore
+    appendPut(versionTopic2, "key1", "newValue1");
+    appendPut(versionTopic2, "key2", "value2");
+    appendEndOfPush(versionTopic2);
+
+    PubSubConsumerAdapter pubSubConsumer = mockPubSubConsumer(0);
+    LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> consumer = createConsumer(pubSubConsumer, 60000);
+    consumer.start(Collections.singleton(PARTITION)).get(30, TimeUnit.SECONDS);
+
+    Map<String, String> expected = new HashMap<>();
+    expected.put("key1", "newValue1");
+    expected.put("key2", "value2");
+    Assert.assertEquals(pollLocalState(consumer, expected.size()), expected);
+    verify(pubSubConsumer)
+        .subscribe(new PubSubTopicPartitionImpl(versionTopic2, PARTITION), OffsetRecord.LOWEST_OFFSET);
+    verify(pubSubConsumer)
+        .subscribe(new PubSubTopicPartitionImpl(changeCaptureTopic2, PARTITION), OffsetRecord.LOWEST_OFFSET);
+    consumer.stop();
+
+    // The checkpoint taken at the switch points to the new version
+    pubSubConsumer = mockPubSubConsumer(0);
+    consumer = createConsumer(pubSubConsumer, 60000);
+    consumer.start(Collections.singleton(PARTITION)).get(30, TimeUnit.SECONDS);
+    Assert.assertEquals(pollLocalState(consumer, expected.size()), expected);
+    verify(pubSubConsumer).subscribe(new PubSubTopicPartitionImpl(changeCaptureTopic2, PARTITION), -1L);
+    verify(pubSubConsumer, never()).subscribe(new PubSubTopicPartitionImpl(versionTopic1, PARTITION), anyLong());
+    consumer.stop();
+  }
+
+  @Test
+  public void testCatchUpTimeout() throws Exception {
+    appendPut(versionTopic1, "key0", "value0");
+    // The end offset never gets reached, as the topic reports one more record than it holds
+    LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> consumer = createConsumer(mockPubSubConsumer(1), 100);
+    try {
+      consumer.start(Collections.singleton(PARTITION)).get(30, TimeUnit.SECONDS);
+      Assert.fail("The start should fail once the catch up times out");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof VeniceException);
+      Assert.assertTrue(e.getCause().getMessage().contains("did not catch up"), e.getCause().getMessage());
+    }
+    Assert.assertThrows(VeniceException.class, () -> consumer.poll(100));
+    consumer.stop();
+  }
+
+  private LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> createConsumer(
+      PubSubConsumerAdapter pubSubConsumer,
+      long catchUpTimeoutInMs) {
+    Properties consumerProperties = new Properties();
+    consumerProperties.put("bootstrap.servers", "localhost:1234");
+    ChangelogClientConfig changelogClientConfig =
+        new ChangelogClientConfig<>().setD2ControllerClient(d2ControllerClient)
+            .setSchemaReader(schemaReader)
+            .setStoreName(storeName)
+            .setViewName("")
+            .setConsumerProperties(consumerProperties)
+            .setBootstrapFileSystemPath(bootstrapPath)
+            .setBootstrapCatchUpTimeoutInMs(catchUpTimeoutInMs);
+    LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> consumer =
+        new LocalBootstrappingVeniceChangelogConsumer<>(changelogClientConfig, pubSubConsumer);
+    ThinClientMetaStoreBasedRepository mockRepository = mock(ThinClientMetaStoreBasedRepository.class);
+    Store store = mock(Store.class);
+    Version mockVersion = new VersionImpl(storeName, 1, "foo");
+    Mockito.when(store.getCurrentVersion()).thenReturn(1);
+    Mockito.when(store.getCompressionStrategy()).thenReturn(CompressionStrategy.NO_OP);
+    Mockito.when(mockRepository.getStore(anyString())).thenReturn(store);
+    Mockito.when(store.getVersion(Mockito.anyInt())).thenReturn(Optional.of(mockVersion));
+    consumer.setStoreRepository(mockRepository);
+    return consumer;
+  }
+
+  /**
+   * Polls until the given number of records of the local copy are returned, and returns them by key.
+   */
+  private Map<String, String> pollLocalState(
+      LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> consumer,
+      int expectedRecordCount) {
+    Map<String, String> state = new HashMap<>();
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+    while (state.size() < expectedRecordCount && System.currentTimeMillis() < deadline) {
+      for (PubSubMessage<Utf8, ChangeEvent<Utf8>, VeniceChangeCoordinate> message: consumer.poll(100)) {
+        state.put(message.getKey().toString(), message.getValue().getCurrentValue().toString());
+      }
+    }
+    return state;
+  }
+
+  /**
+   * A consumer over {@link #topics}, which returns all the records from the position of each subscribed partition
+   * on every poll, and reports the end offset of a partition as its record count plus the given lag.
+   */
+  private PubSubConsumerAdapter mockPubSubConsumer(long endOffsetLag) {
+    PubSubConsumerAdapter pubSubConsumer = mock(PubSubConsumerAdapter.class);
+    Map<PubSubTopicPartition, Long> positions = new HashMap<>();
+    doAnswer(invocation -> {
+      positions.put(invocation.getArgument(0), (Long) invocation.getArgument(1) + 1);
+      return null;
+    }).when(pubSubConsumer).subscribe(any(), anyLong());
+    doAnswer(invocation -> positions.remove(invocation.getArgument(0))).when(pubSubConsumer).unSubscribe(any());
+    doAnswer(invocation -> {
+      positions.keySet().removeAll(invocation.getArgument(0));
+      return null;
+    }).when(pubSubConsumer).batchUnsubscribe(any());
+    doAnswer(invocation -> new HashSet<>(positions.keySet())).when(pubSubConsumer).getAssignment();
+    doAnswer(invocation -> {
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messages =
+          topics.getOrDefault(invocation.getArgument(0), Collections.emptyList());
+      return messages.size() + endOffsetLag;
+    }).when(pubSubConsumer).endOffset(any());
+    doAnswer(invocation -> {
+      Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> polled = new HashMap<>();
+      for (Map.Entry<PubSubTopicPartition, Long> entry: positions.entrySet()) {
+        List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messages =
+            topics.getOrDefault(entry.getKey(), Collections.emptyList());
+        int position = (int) Math.max(entry.getValue(), 0);
+        if (position < messages.size()) {
+          polled.put(entry.getKey(), new ArrayList<>(messages.subList(position, messages.size())));
+          entry.setValue((long) messages.size());
+        }
+      }
+      return polled;
+    }).when(pubSubConsumer).poll(anyLong());
+    return pubSubConsumer;
+  }
+
+  private void appendPut(PubSubTopic versionTopic, String key, String value) {
+    KafkaMessageEnvelope kafkaMessageEnvelope = new KafkaMessageEnvelope(
+        MessageType.PUT.getValue(),
+        new ProducerMetadata(),
+        new Put(ByteBuffer.wrap(valueSerializer.serialize(value)), 1, 0, ByteBuffer.allocate(0)),
+        null);
+    append(versionTopic, new KafkaKey(MessageType.PUT, keySerializer.serialize(key)), kafkaMessageEnvelope);
+  }
+
+  private void appendChangeEvent(PubSubTopic changeCaptureTopic, String key, String oldValue, String newValue) {
+    RecordChangeEvent recordChangeEvent = new RecordChangeEvent();
+    recordChangeEvent.currentValue = toValueBytes(newValue);
+    recordChangeEvent.previousValue = toValueBytes(oldValue);
+    recordChangeEvent.key = ByteBuffer.wrap(key.getBytes());
+    recordChangeEvent.replicationCheckpointVector = Collections.emptyList();
+    RecordSerializer<RecordChangeEvent> recordChangeSerializer = FastSerializerDeserializerFactory
+        .getFastAvroGenericSerializer(AvroProtocolDefinition.RECORD_CHANGE_EVENT.getCurrentProtocolVersionSchema());
+    KafkaMessageEnvelope kafkaMessageEnvelope = new KafkaMessageEnvelope(
+        MessageType.PUT.getValue(),
+        new ProducerMetadata(),
+        new Put(ByteBuffer.wrap(recordChangeSerializer.serialize(recordChangeEvent)), 0, 0, ByteBuffer.allocate(0)),
+        null);
+    append(changeCaptureTopic, new KafkaKey(MessageType.PUT, keySerializer.serialize(key)), kafkaMessageEnvelope);
+  }
+
+  private ValueBytes toValueBytes(String value) {
+    ValueBytes valueBytes = new ValueBytes();
+    if (value == null) {
+      valueBytes.schemaId = -1;
+      valueBytes.value = ByteBuffer.allocate(0);
+    } else {
+      valueBytes.schemaId = 1;
+      valueBytes.value = ByteBuffer.wrap(valueSerializer.serialize(value));
+    }
+    return valueBytes;
+  }
+
+  private void appendEndOfPush(PubSubTopic versionTopic) {
+    appendControlMessage(versionTopic, ControlMessageType.END_OF_PUSH, new EndOfPush());
+  }
+
+  private void appendVersionSwap(PubSubTopic topic, PubSubTopic oldVersionTopic, PubSubTopic newVersionTopic) {
+    VersionSwap versionSwap = new VersionSwap();
+    versionSwap.oldServingVersionTopic = oldVersionTopic.getName();
+    versionSwap.newServingVersionTopic = newVersionTopic.getName();
+    versionSwap.localHighWatermarks = Collections.emptyList();
+    appendControlMessage(topic, ControlMessageType.VERSION_SWAP, versionSwap);
+  }
+
+  private void appendControlMessage(PubSubTopic topic, ControlMessageType controlMessageType, Object payload) {
+    ControlMessage controlMessage = new ControlMessage();
+    controlMessage.controlMessageType = controlMessageType.getValue();
+    controlMessage.controlMessageUnion = payload;
+    KafkaMessageEnvelope kafkaMessageEnvelope = new KafkaMessageEnvelope();
+    kafkaMessageEnvelope.messageType = MessageType.CONTROL_MESSAGE.getValue();
+    kafkaMessageEnvelope.payloadUnion = controlMessage;
+    append(topic, new KafkaKey(MessageType.CONTROL_MESSAGE, null), kafkaMessageEnvelope);
+  }
+
+  private void append(PubSubTopic topic, KafkaKey kafkaKey, KafkaMessageEnvelope kafkaMessageEnvelope) {
+    PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(topic, PARTITION);
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messages =
+        topics.computeIfAbsent(topicPartition, k -> new ArrayList<>());
+    messages.add(new ImmutablePubSubMessage<>(kafkaKey, kafkaMessageEnvelope, topicPartition, messages.size(), 0, 10));
+  }
+}
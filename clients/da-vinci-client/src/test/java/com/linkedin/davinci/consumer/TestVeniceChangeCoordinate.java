@@ -42,4 +42,20 @@ public class TestVeniceChangeCoordinate {
     Assert.assertEquals(restoredCoordinate.getPosition(), position);
 
   }
+
+  @Test
+  public void testEncodeAndDecode() throws IOException, ClassNotFoundException {
+    PubSubPosition position = new ApacheKafkaOffsetPosition(TEST_OFFSET);
+    VeniceChangeCoordinate veniceChangeCoordinate =
+        new VeniceChangeCoordinate(TEST_STORE_TOPIC, position, TEST_PARTITION);
+
+    String encodedCoordinate =
+        VeniceChangeCoordinate.convertVeniceChangeCoordinateToStringAndEncode(veniceChangeCoordinate);
+    VeniceChangeCoordinate restoredCoordinate =
+        VeniceChangeCoordinate.decodeStringAndConvertToVeniceChangeCoordinate(encodedCoordinate);
+
+    Assert.assertEquals(restoredCoordinate.getTopic(), TEST_STORE_TOPIC);
+    Assert.assertEquals(restoredCoordinate.getPartition(), TEST_PARTITION);
+    Assert.assertEquals(restoredCoordinate.getPosition(), position);
+  }
 }
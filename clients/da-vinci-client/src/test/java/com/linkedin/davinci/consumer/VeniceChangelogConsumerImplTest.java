@@ -1,9 +1,11 @@
 package com.linkedin.davinci.consumer;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -43,6 +45,7 @@ import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.views.ChangeCaptureView;
 import java.nio.ByteBuffer;
@@ -55,6 +58,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -230,6 +236,93 @@ public class VeniceChangelogConsumerImplTest {
     verify(mockPubSubConsumer).close();
   }
 
+  @Test
+  public void testConsumeAfterImageWithParallelProcessing()
+      throws ExecutionException, InterruptedException, TimeoutException {
+    D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
+    StoreResponse storeResponse = mock(StoreResponse.class);
+    StoreInfo storeInfo = mock(StoreInfo.class);
+    doReturn(1).when(storeInfo).getCurrentVersion();
+    doReturn(2).when(storeInfo).getPartitionCount();
+    doReturn(storeInfo).when(storeResponse).getStore();
+    doReturn(storeResponse).when(d2ControllerClient).getStore(storeName);
+    MultiSchemaResponse multiRMDSchemaResponse = mock(MultiSchemaResponse.class);
+    MultiSchemaResponse.Schema rmdSchemaFromMultiSchemaResponse = mock(MultiSchemaResponse.Schema.class);
+    doReturn(rmdSchema.toString()).when(rmdSchemaFromMultiSchemaResponse).getSchemaStr();
+    doReturn(new MultiSchemaResponse.Schema[] { rmdSchemaFromMultiSchemaResponse }).when(multiRMDSchemaResponse)
+        .getSchemas();
+    doReturn(multiRMDSchemaResponse).when(d2ControllerClient).getAllReplicationMetadataSchemas(storeName);
+
+    PubSubConsumerAdapter mockPubSubConsumer = mock(PubSubConsumerAdapter.class);
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> consumerRecordsMap =
+        new HashMap<>();
+    for (int partition = 0; partition < 2; partition++) {
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumerRecordList = new ArrayList<>();
+      for (long i = 0; i < 10; i++) {
+        String value = partition + "_newValue" + i;
+        consumerRecordList.add(constructConsumerRecord(versionTopic, partition, value, "key" + i, Arrays.asList(i, i)));
+      }
+      consumerRecordsMap.put(new PubSubTopicPartitionImpl(versionTopic, partition), consumerRecordList);
+    }
+    doReturn(consumerRecordsMap).doReturn(Collections.emptyMap()).when(mockPubSubConsumer).poll(anyLong());
+    doReturn(consumerRecordsMap.keySet()).when(mockPubSubConsumer).getAssignment();
+
+    // The output queue is smaller than the number of records, so that the workers have to wait for the caller
+    ChangelogClientConfig changelogClientConfig =
+        new ChangelogClientConfig<>().setD2ControllerClient(d2ControllerClient)
+            .setSchemaReader(schemaReader)
+            .setStoreName(storeName)
+            .setViewName("")
+            .setParallelProcessingThreadCount(2)
+            .setParallelProcessingQueueCapacity(4);
+    VeniceChangelogConsumerImpl<String, Utf8> veniceChangelogConsumer =
+        new VeniceAfterImageConsumerImpl<>(changelogClientConfig, mockPubSubConsumer);
+    ThinClientMetaStoreBasedRepository mockRepository = mock(ThinClientMetaStoreBasedRepository.class);
+    Store store = mock(Store.class);
+    Version mockVersion = new VersionImpl(storeName, 1, "foo");
+    Mockito.when(store.getCurrentVersion()).thenReturn(1);
+    Mockito.when(store.getCompressionStrategy()).thenReturn(CompressionStrategy.NO_OP);
+    Mockito.when(mockRepository.getStore(anyString())).thenReturn(store);
+    Mockito.when(store.getVersion(Mockito.anyInt())).thenReturn(Optional.of(mockVersion));
+    veniceChangelogConsumer.setStoreRepository(mockRepository);
+    veniceChangelogConsumer.subscribe(new HashSet<>(Arrays.asList(0, 1))).get();
+
+    List<PubSubMessage<String, ChangeEvent<Utf8>, VeniceChangeCoordinate>> pubSubMessages = new ArrayList<>();
+    TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+      pubSubMessages.addAll(veniceChangelogConsumer.poll(100));
+      Assert.assertEquals(pubSubMessages.size(), 20);
+    });
+    // The records of each partition are returned in order
+    for (int partition = 0; partition < 2; partition++) {
+      int finalPartition = partition;
+      List<String> values = pubSubMessages.stream()
+          .filter(message -> message.getPartition() == finalPartition)
+          .map(message -> message.getValue().getCurrentValue().toString())
+          .collect(Collectors.toList());
+      Assert.assertEquals(values.size(), 10);
+      for (int i = 0; i < 10; i++) {
+        Assert.assertEquals(values.get(i), partition + "_newValue" + i);
+      }
+    }
+
+    // Pause and resume are applied by the fetcher thread
+    veniceChangelogConsumer.pause(Collections.singleton(0));
+    verify(mockPubSubConsumer, timeout(5000)).pause(new PubSubTopicPartitionImpl(versionTopic, 0));
+    veniceChangelogConsumer.resume(Collections.singleton(0));
+    verify(mockPubSubConsumer, timeout(5000)).resume(new PubSubTopicPartitionImpl(versionTopic, 0));
+
+    // Seeks are applied by the fetcher thread as well, so they never wait for the consumer monitor
+    PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(versionTopic, 1);
+    synchronized (mockPubSubConsumer) {
+      veniceChangelogConsumer.seekToBeginningOfPush(Collections.singleton(1)).get(5, TimeUnit.SECONDS);
+    }
+    verify(mockPubSubConsumer, times(2)).subscribe(topicPartition, OffsetRecord.LOWEST_OFFSET);
+
+    veniceChangelogConsumer.close();
+    verify(mockPubSubConsumer).close();
+  }
+
   private void prepareChangeCaptureRecordsToBePolled(
       long startIdx,
       long endIdx,
@@ -0,0 +1,90 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class LeaderUpdateCoalescerTest {
+  private final PubSubTopicPartition topicPartition =
+      new PubSubTopicPartitionImpl(new PubSubTopicRepository().getTopic("test_store_rt"), 0);
+
+  @Test
+  public void testConsecutiveUpdatesOfSameKeyAreCoalesced() {
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> batch = Arrays.asList(
+        createRecord(MessageType.UPDATE, "a", 0),
+        createRecord(MessageType.UPDATE, "a", 1),
+        createRecord(MessageType.UPDATE, "a", 2),
+        createRecord(MessageType.UPDATE, "b", 3),
+        createRecord(MessageType.PUT, "b", 4),
+        createRecord(MessageType.UPDATE, "b", 5));
+    List<Long> producedOffsets = new ArrayList<>();
+    LeaderUpdateCoalescer coalescer = new LeaderUpdateCoalescer();
+
+    for (int i = 0; i < batch.size(); i++) {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record = batch.get(i);
+      coalescer.onRecord(record, i + 1 < batch.size() ? batch.get(i + 1) : null);
+      byte[] key = record.getKey().getKey();
+      LeaderUpdateCoalescer.DeferredUpdate supersededUpdate = coalescer.supersede(key);
+      // Only the UPDATEs following an UPDATE of the same key supersede a deferred one
+      Assert.assertEquals(supersededUpdate != null, i == 1 || i == 2);
+      if (coalescer.canDefer()) {
+        coalescer.defer(key, null, 1, null, 0, () -> producedOffsets.add(record.getOffset()));
+      } else {
+        producedOffsets.add(record.getOffset());
+      }
+    }
+    coalescer.flush();
+
+    Assert.assertEquals(producedOffsets, Arrays.asList(2L, 3L, 4L, 5L));
+  }
+
+  @Test
+  public void testDeferredUpdateIsProducedBeforeNextRecord() {
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> update = createRecord(MessageType.UPDATE, "a", 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> nextUpdate = createRecord(MessageType.UPDATE, "a", 1);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> put = createRecord(MessageType.PUT, "b", 2);
+    List<Long> producedOffsets = new ArrayList<>();
+    LeaderUpdateCoalescer coalescer = new LeaderUpdateCoalescer();
+
+    coalescer.onRecord(update, nextUpdate);
+    Assert.assertTrue(coalescer.canDefer());
+    coalescer.defer(update.getKey().getKey(), null, 1, null, 0, () -> producedOffsets.add(update.getOffset()));
+    // The next UPDATE got skipped, e.g. as a duplicate, so the deferred one has to be produced before anything else
+    coalescer.onRecord(put, null);
+    Assert.assertEquals(producedOffsets, Arrays.asList(0L));
+    Assert.assertFalse(coalescer.canDefer());
+
+    // A deferred UPDATE left over by a failure doesn't get produced
+    coalescer.onRecord(update, nextUpdate);
+    coalescer.defer(update.getKey().getKey(), null, 1, null, 0, () -> producedOffsets.add(update.getOffset()));
+    coalescer.discard();
+    coalescer.flush();
+    Assert.assertEquals(producedOffsets, Arrays.asList(0L));
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> createRecord(
+      MessageType messageType,
+      String key,
+      long offset) {
+    KafkaMessageEnvelope kafkaMessageEnvelope = new KafkaMessageEnvelope();
+    kafkaMessageEnvelope.messageType = messageType.getValue();
+    return new ImmutablePubSubMessage<>(
+        new KafkaKey(messageType, key.getBytes()),
+        kafkaMessageEnvelope,
+        topicPartition,
+        offset,
+        0,
+        0);
+  }
+}
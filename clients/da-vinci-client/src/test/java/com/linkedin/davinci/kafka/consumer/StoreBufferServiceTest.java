@@ -1,11 +1,14 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,6 +29,7 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -164,6 +168,8 @@ public class StoreBufferServiceTest {
     doReturn(1000l).when(serverConfig).getStoreWriterBufferNotifyDelta();
     doReturn(10000l).when(serverConfig).getStoreWriterBufferMemoryCapacity();
     doReturn(queueLeaderWrites).when(serverConfig).isStoreWriterBufferAfterLeaderLogicEnabled();
+    doReturn(StoreBufferService.DrainerAssignmentStrategy.TOPIC_PARTITION_HASH_ASSIGNMENT_STRATEGY).when(serverConfig)
+        .getStoreWriterDrainerAssignmentStrategy();
     SeparatedStoreBufferService bufferService = new SeparatedStoreBufferService(serverConfig);
     for (int partition = 0; partition < partitionCount; ++partition) {
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr =
@@ -211,6 +217,111 @@ public class StoreBufferServiceTest {
     }
   }
 
+  @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
+  public void testAdaptiveAssignmentSpreadsPartitions(boolean queueLeaderWrites) throws InterruptedException {
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    int drainerNum = 8;
+    StoreBufferService bufferService = new StoreBufferService(
+        drainerNum,
+        100000,
+        1000,
+        queueLeaderWrites,
+        StoreBufferService.DrainerAssignmentStrategy.ADAPTIVE_LOAD_ASSIGNMENT_STRATEGY,
+        0,
+        2.0);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    // The drainers are not started, so each drainer has a backlog once a partition gets assigned to it
+    for (int partition = 0; partition < drainerNum; ++partition) {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr =
+          new ImmutablePubSubMessage<>(key, value, new PubSubTopicPartitionImpl(pubSubTopic, partition), 100, 0, 0);
+      bufferService.putConsumerRecord(cr, mockTask, null, partition, "blah", 0L);
+    }
+    for (int i = 0; i < drainerNum; ++i) {
+      Assert.assertEquals(bufferService.getDrainerAssignedPartitionCount(i), 1);
+      Assert.assertTrue(bufferService.getDrainerQueueMemoryUsage(i) > 0);
+    }
+    Assert.assertEquals(bufferService.getPartitionMigrationCount(), 0);
+  }
+
+  @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
+  public void testAdaptiveAssignmentMigratesPartitionFromBusyDrainer(boolean queueLeaderWrites) throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(
+        2,
+        100000,
+        1000,
+        queueLeaderWrites,
+        StoreBufferService.DrainerAssignmentStrategy.ADAPTIVE_LOAD_ASSIGNMENT_STRATEGY,
+        0,
+        2.0);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    PubSubTopicPartition heavyPartition = new PubSubTopicPartitionImpl(pubSubTopic, 1);
+    PubSubTopicPartition lightPartition = new PubSubTopicPartitionImpl(pubSubTopic, 2);
+    PubSubTopicPartition otherPartition = new PubSubTopicPartitionImpl(pubSubTopic, 3);
+    String kafkaUrl = "blah";
+    bufferService.start();
+
+    // The light partition goes to drainer 0, and the other partition to drainer 1
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> lightRecord1 =
+        new ImmutablePubSubMessage<>(key, value, lightPartition, 0, 0, 0);
+    bufferService.putConsumerRecord(lightRecord1, mockTask, null, 2, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(lightRecord1, null, 2, kafkaUrl, 0L);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> otherRecord =
+        new ImmutablePubSubMessage<>(key, value, otherPartition, 0, 0, 0);
+    bufferService.putConsumerRecord(otherRecord, mockTask, null, 3, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(otherRecord, null, 3, kafkaUrl, 0L);
+    Assert.assertEquals(bufferService.getDrainerAssignedPartitionCount(0), 1);
+    Assert.assertEquals(bufferService.getDrainerAssignedPartitionCount(1), 1);
+
+    // The heavy partition goes to drainer 0 as well, and builds up a backlog there
+    CountDownLatch processingLatch = new CountDownLatch(1);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> blockingRecord =
+        new ImmutablePubSubMessage<>(key, value, heavyPartition, 0, 0, 0);
+    doAnswer(invocation -> {
+      processingLatch.await();
+      return null;
+    }).when(mockTask).processConsumerRecord(blockingRecord, null, 1, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(blockingRecord, mockTask, null, 1, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(blockingRecord, null, 1, kafkaUrl, 0L);
+    for (int offset = 1; offset <= 5; offset++) {
+      bufferService.putConsumerRecord(
+          new ImmutablePubSubMessage<>(key, value, heavyPartition, offset, 0, 0),
+          mockTask,
+          null,
+          1,
+          kafkaUrl,
+          0L);
+    }
+    Assert.assertEquals(bufferService.getDrainerAssignedPartitionCount(0), 2);
+    Assert.assertTrue(bufferService.getDrainerQueueMemoryUsage(0) > 1000);
+
+    // The light partition doesn't have any pending record, so it moves to drainer 1 and doesn't wait for the backlog
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> lightRecord2 =
+        new ImmutablePubSubMessage<>(key, value, lightPartition, 1, 0, 0);
+    bufferService.putConsumerRecord(lightRecord2, mockTask, null, 2, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(lightRecord2, null, 2, kafkaUrl, 0L);
+    Assert.assertEquals(bufferService.getPartitionMigrationCount(), 1);
+    Assert.assertEquals(bufferService.getDrainerAssignedPartitionCount(0), 1);
+    Assert.assertEquals(bufferService.getDrainerAssignedPartitionCount(1), 2);
+
+    // The heavy partition has pending records, so it can't move
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> bufferService.internalDrainBufferedRecordsFromTopicPartition(heavyPartition, 3, 10));
+    processingLatch.countDown();
+    bufferService.drainBufferedRecordsFromTopicPartition(heavyPartition);
+    verify(mockTask, times(6)).processConsumerRecord(any(), any(), eq(1), eq(kafkaUrl), eq(0L));
+    Assert.assertEquals(bufferService.getPartitionMigrationCount(), 1);
+
+    // Draining releases the assignments
+    bufferService.drainBufferedRecordsFromTopicPartition(lightPartition);
+    bufferService.drainBufferedRecordsFromTopicPartition(otherPartition);
+    Assert.assertEquals(bufferService.getDrainerAssignedPartitionCount(0), 0);
+    Assert.assertEquals(bufferService.getDrainerAssignedPartitionCount(1), 0);
+    Assert.assertTrue(bufferService.getDrainerProcessingTimeNsPerByte(0) > 0);
+    bufferService.stop();
+  }
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testRunWhenThrowVeniceCheckSumFailException(boolean queueLeaderWrites) throws Exception {
     StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, queueLeaderWrites);
@@ -11,6 +11,7 @@ import static com.linkedin.venice.ConfigKeys.KAFKA_CLUSTER_MAP_KEY_NAME;
 import static com.linkedin.venice.ConfigKeys.KAFKA_CLUSTER_MAP_KEY_URL;
 import static com.linkedin.venice.ConfigKeys.SERVER_DATABASE_CHECKSUM_VERIFICATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_LIVE_CONFIG_BASED_KAFKA_THROTTLING;
+import static com.linkedin.venice.ConfigKeys.SERVER_LEADER_UPDATE_COALESCING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_LOCAL_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP;
 import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
@@ -132,6 +133,8 @@ import com.linkedin.venice.pubsub.api.exceptions.PubSubUnsubscribedTopicPartitio
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
 import com.linkedin.venice.serialization.DefaultSerializer;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
@@ -174,6 +177,7 @@ import com.linkedin.venice.utils.pools.LandFillObjectPool;
 import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import com.linkedin.venice.writer.VeniceWriterOptions;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
@@ -343,6 +347,7 @@ public abstract class StoreIngestionTaskTest {
       createReplicationMetadataWithValueSchemaId(DELETE_KEY_FOO_TIMESTAMP, DELETE_KEY_FOO_OFFSET, EXISTING_SCHEMA_ID);
 
   private boolean databaseChecksumVerificationEnabled = false;
+  private boolean writeComputationEnabled = false;
   private KafkaConsumerServiceStats kafkaConsumerServiceStats = mock(KafkaConsumerServiceStats.class);
   private PubSubConsumerAdapterFactory mockFactory = mock(PubSubConsumerAdapterFactory.class);
 
@@ -467,6 +472,7 @@ public abstract class StoreIngestionTaskTest {
     hybridStoreConfig = Optional.empty();
 
     databaseChecksumVerificationEnabled = false;
+    writeComputationEnabled = false;
     rocksDBServerConfig = mock(RocksDBServerConfig.class);
 
     doReturn(true).when(mockSchemaRepo).hasValueSchema(storeNameWithoutVersionInfo, EXISTING_SCHEMA_ID);
@@ -780,7 +786,7 @@ public abstract class StoreIngestionTaskTest {
     version.setPushStreamSourceAddress("");
     doReturn("").when(mockStore).getPushStreamSourceAddress();
 
-    doReturn(false).when(mockStore).isWriteComputationEnabled();
+    doReturn(writeComputationEnabled).when(mockStore).isWriteComputationEnabled();
 
     doReturn(1).when(mockStore).getPartitionCount();
 
@@ -1216,6 +1222,94 @@ public abstract class StoreIngestionTaskTest {
         Collections.singletonMap(SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS, 3L));
   }
 
+  @Test
+  public void testLeaderCoalescesConsecutiveUpdatesOfSameKey() throws Exception {
+    writeComputationEnabled = true;
+    String realTimeTopic = Version.composeRealTimeTopic(storeNameWithoutVersionInfo);
+    inMemoryLocalKafkaBroker.createTopic(realTimeTopic, PARTITION_COUNT);
+
+    Schema valueSchema = Schema.parse(
+        "{\"type\":\"record\",\"name\":\"TestRecord\",\"fields\":["
+            + "{\"name\":\"count\",\"type\":\"int\",\"default\":0},"
+            + "{\"name\":\"name\",\"type\":\"string\",\"default\":\"\"}]}");
+    Schema updateSchema = WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(valueSchema);
+    int updateProtocolVersion = 1;
+    SchemaEntry valueSchemaEntry = new SchemaEntry(EXISTING_SCHEMA_ID, valueSchema);
+    doReturn(valueSchemaEntry).when(mockSchemaRepo).getSupersetSchema(storeNameWithoutVersionInfo);
+    doReturn(valueSchemaEntry).when(mockSchemaRepo).getSupersetOrLatestValueSchema(storeNameWithoutVersionInfo);
+    doReturn(valueSchemaEntry).when(mockSchemaRepo).getValueSchema(storeNameWithoutVersionInfo, EXISTING_SCHEMA_ID);
+    doReturn(new DerivedSchemaEntry(EXISTING_SCHEMA_ID, updateProtocolVersion, updateSchema)).when(mockSchemaRepo)
+        .getDerivedSchema(storeNameWithoutVersionInfo, EXISTING_SCHEMA_ID, updateProtocolVersion);
+
+    // Each UPDATE is applied on top of the previous ones, so the value produced in the end carries all of them
+    RecordSerializer<GenericRecord> updateSerializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(updateSchema);
+    List<byte[]> updates = Arrays.asList(
+        updateSerializer.serialize(new UpdateBuilderImpl(updateSchema).setNewFieldValue("count", 1).build()),
+        updateSerializer.serialize(new UpdateBuilderImpl(updateSchema).setNewFieldValue("name", "foo").build()),
+        updateSerializer.serialize(new UpdateBuilderImpl(updateSchema).setNewFieldValue("count", 3).build()));
+    GenericRecord expectedValue = new GenericData.Record(valueSchema);
+    expectedValue.put("count", 3);
+    expectedValue.put("name", "foo");
+    byte[] expectedValueBytes =
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(valueSchema).serialize(expectedValue);
+
+    VeniceWriter vtWriter = getVeniceWriter(topic, new MockInMemoryProducerAdapter(inMemoryLocalKafkaBroker), 1);
+    VeniceWriter rtWriter =
+        getVeniceWriter(realTimeTopic, new MockInMemoryProducerAdapter(inMemoryLocalKafkaBroker), 1);
+    HybridStoreConfig hybridStoreConfig = new HybridStoreConfigImpl(
+        100,
+        100,
+        HybridStoreConfigImpl.DEFAULT_HYBRID_TIME_LAG_THRESHOLD,
+        DataReplicationPolicy.NON_AGGREGATE,
+        BufferReplayPolicy.REWIND_FROM_EOP);
+    Map<String, Object> extraServerProperties = new HashMap<>();
+    extraServerProperties.put(SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS, 3L);
+    extraServerProperties.put(SERVER_LEADER_UPDATE_COALESCING_ENABLED, true);
+
+    // Polls large enough batches for the UPDATEs to be consumed by the leader all at once
+    runTest(new RandomPollStrategy(100), Utils.setOf(PARTITION_FOO), () -> {}, () -> {
+      vtWriter.broadcastStartOfPush(new HashMap<>());
+      vtWriter.broadcastEndOfPush(new HashMap<>());
+      doReturn(vtWriter).when(mockWriterFactory).createVeniceWriter(any(VeniceWriterOptions.class));
+      vtWriter.broadcastTopicSwitch(
+          Collections.singletonList(inMemoryLocalKafkaBroker.getKafkaBootstrapServer()),
+          realTimeTopic,
+          System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(10),
+          new HashMap<>());
+      try {
+        for (byte[] update: updates) {
+          rtWriter.update(putKeyFoo, update, EXISTING_SCHEMA_ID, updateProtocolVersion, null).get();
+        }
+      } catch (Exception e) {
+        throw new VeniceException(e);
+      }
+      storeIngestionTaskUnderTest.promoteToLeader(
+          fooTopicPartition,
+          new LeaderFollowerPartitionStateModel.LeaderSessionIdChecker(1, new AtomicLong(1)));
+
+      // Only the result of the last UPDATE gets produced and persisted
+      verify(mockAbstractStorageEngine, timeout(TEST_TIMEOUT_MS)).put(
+          PARTITION_FOO,
+          putKeyFoo,
+          ByteBuffer.wrap(ValueRecord.create(EXISTING_SCHEMA_ID, expectedValueBytes).serialize()));
+      verify(mockAbstractStorageEngine, after(1000).times(1))
+          .put(eq(PARTITION_FOO), eq(putKeyFoo), any(ByteBuffer.class));
+
+      // The current value is only looked up by the first UPDATE, and every UPDATE gets a single latency sample
+      verify(mockStoreIngestionStats, times(2)).recordWriteComputeCoalescedUpdateCount();
+      verify(mockStoreIngestionStats, times(1)).recordWriteComputeLookUpLatency(anyDouble());
+      verify(mockStoreIngestionStats, times(updates.size())).recordWriteComputeUpdateLatency(
+          ArgumentMatchers.doubleThat(latency -> latency >= 0 && latency < TEST_TIMEOUT_MS));
+    },
+        Optional.of(hybridStoreConfig),
+        false,
+        Optional.empty(),
+        false,
+        1,
+        extraServerProperties);
+  }
+
   @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
   public void testMissingMessagesForTopicWithLogCompactionEnabled(boolean isActiveActiveReplicationEnabled)
       throws Exception {
@@ -1,21 +1,57 @@
 package com.linkedin.davinci.repository;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_META_STORE_CHANGE_SUBSCRIPTION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CLIENT_META_STORE_RECONCILIATION_INTERVAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.CLIENT_SYSTEM_STORE_REPOSITORY_REFRESH_INTERVAL_SECONDS;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.system.store.MetaStoreWriter.KEY_STRING_CLUSTER_NAME;
+import static com.linkedin.venice.system.store.MetaStoreWriter.KEY_STRING_STORE_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.common.VeniceSystemStoreType;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreConfig;
+import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.system.store.MetaStoreDataType;
 import com.linkedin.venice.systemstore.schemas.StoreMetaKey;
 import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
+import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -26,6 +62,7 @@ public class NativeMetadataRepositoryTest {
   private VeniceProperties backendConfig;
 
   private static final String STORE_NAME = "hardware_store";
+  private static final String CLUSTER_NAME = "hardware_cluster";
 
   @BeforeClass
   public void setUpMocks() {
@@ -56,6 +93,128 @@ public class NativeMetadataRepositoryTest {
     Assert.assertNotNull(nmr.getKeySchema(STORE_NAME));
   }
 
+  @Test
+  public void testApplyMetaStoreChange() throws InterruptedException {
+    VeniceProperties slowRefreshBackendConfig = mock(VeniceProperties.class);
+    doReturn(1000L).when(slowRefreshBackendConfig)
+        .getLong(eq(CLIENT_SYSTEM_STORE_REPOSITORY_REFRESH_INTERVAL_SECONDS), anyLong());
+    TestNMR nmr = new TestNMR(clientConfig, slowRefreshBackendConfig);
+    nmr.start();
+    nmr.subscribe(STORE_NAME);
+    StoreDataChangedListener listener = mock(StoreDataChangedListener.class);
+    nmr.registerStoreDataChangedListener(listener);
+
+    Store store = TestUtils.createTestStore(STORE_NAME, "owner", 0);
+    store.setReadQuotaInCU(100);
+    StoreMetaValue storePropertiesValue = new StoreMetaValue();
+    storePropertiesValue.storeProperties = new ZKStore(store).dataModel();
+    // The store properties in another cluster are ignored
+    nmr.applyMetaStoreChange(STORE_NAME, getStorePropertiesKey("another_cluster"), storePropertiesValue);
+    verify(listener, never()).handleStoreChanged(any());
+    nmr.applyMetaStoreChange(STORE_NAME, getStorePropertiesKey(CLUSTER_NAME), storePropertiesValue);
+    verify(listener).handleStoreChanged(any());
+    Assert.assertEquals(nmr.getStore(STORE_NAME).getReadQuotaInCU(), 100);
+    Assert.assertEquals(nmr.getTotalStoreReadQuota(), 100);
+
+    StoreConfig storeConfig = new StoreConfig(STORE_NAME);
+    storeConfig.setCluster(CLUSTER_NAME);
+    storeConfig.setDeleting(true);
+    StoreMetaValue storeClusterConfigValue = new StoreMetaValue();
+    storeClusterConfigValue.storeClusterConfig = storeConfig.dataModel();
+    nmr.applyMetaStoreChange(
+        STORE_NAME,
+        MetaStoreDataType.STORE_CLUSTER_CONFIG
+            .getStoreMetaKey(Collections.singletonMap(KEY_STRING_STORE_NAME, STORE_NAME)),
+        storeClusterConfigValue);
+    verify(listener).handleStoreDeleted(any());
+    Assert.assertFalse(nmr.hasStore(STORE_NAME));
+    nmr.clear();
+  }
+
+  @Test
+  public void testSubscribeToMetaStoreChanges() throws InterruptedException {
+    VeniceProperties pushBackendConfig = mock(VeniceProperties.class);
+    doReturn(true).when(pushBackendConfig).getBoolean(eq(CLIENT_META_STORE_CHANGE_SUBSCRIPTION_ENABLED), anyBoolean());
+    doReturn(1000L).when(pushBackendConfig).getLong(eq(CLIENT_META_STORE_RECONCILIATION_INTERVAL_SECONDS), anyLong());
+    PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(
+        new PubSubTopicRepository()
+            .getTopic(Version.composeRealTimeTopic(VeniceSystemStoreType.META_STORE.getSystemStoreName(STORE_NAME))),
+        0);
+    PubSubConsumerAdapter consumer = mock(PubSubConsumerAdapter.class);
+    doReturn(5L).when(consumer).endOffset(topicPartition);
+    doReturn(true).when(consumer).hasAnySubscription();
+    Queue<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> pendingMessages = new ConcurrentLinkedQueue<>();
+    doAnswer(invocation -> {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message = pendingMessages.poll();
+      return message == null
+          ? Collections.emptyMap()
+          : Collections.singletonMap(topicPartition, Collections.singletonList(message));
+    }).when(consumer).poll(anyLong());
+
+    TestNMR nmr = new TestNMR(clientConfig, pushBackendConfig);
+    nmr.setMetaStoreChangeConsumer(consumer);
+    nmr.start();
+    nmr.subscribe(STORE_NAME);
+    // The consumption starts at the end offset, i.e. right after the offset before it
+    verify(consumer).subscribe(topicPartition, 4L);
+    StoreDataChangedListener listener = mock(StoreDataChangedListener.class);
+    nmr.registerStoreDataChangedListener(listener);
+
+    Store store = TestUtils.createTestStore(STORE_NAME, "owner", 0);
+    store.setReadQuotaInCU(100);
+    StoreMetaValue value = new StoreMetaValue();
+    value.storeProperties = new ZKStore(store).dataModel();
+    pendingMessages.add(toPutMessage(topicPartition, getStorePropertiesKey(CLUSTER_NAME), value));
+    TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+      verify(listener).handleStoreChanged(any());
+      Assert.assertEquals(nmr.getStore(STORE_NAME).getReadQuotaInCU(), 100);
+    });
+
+    nmr.unsubscribe(STORE_NAME);
+    verify(consumer).unSubscribe(topicPartition);
+    nmr.clear();
+    verify(consumer).close();
+  }
+
+  @Test
+  public void testMetaStoreChangeSubscriptionRequiresBootstrapServers() {
+    VeniceProperties pushBackendConfig = mock(VeniceProperties.class);
+    doReturn(true).when(pushBackendConfig).getBoolean(eq(CLIENT_META_STORE_CHANGE_SUBSCRIPTION_ENABLED), anyBoolean());
+    doReturn(1000L).when(pushBackendConfig).getLong(eq(CLIENT_META_STORE_RECONCILIATION_INTERVAL_SECONDS), anyLong());
+    doReturn(false).when(pushBackendConfig).containsKey(KAFKA_BOOTSTRAP_SERVERS);
+    TestNMR nmr = new TestNMR(clientConfig, pushBackendConfig);
+    VeniceException e = Assert.expectThrows(VeniceException.class, nmr::start);
+    Assert.assertTrue(e.getMessage().contains(KAFKA_BOOTSTRAP_SERVERS), e.getMessage());
+  }
+
+  private static StoreMetaKey getStorePropertiesKey(String clusterName) {
+    Map<String, String> keyMap = new HashMap<>();
+    keyMap.put(KEY_STRING_STORE_NAME, STORE_NAME);
+    keyMap.put(KEY_STRING_CLUSTER_NAME, clusterName);
+    return MetaStoreDataType.STORE_PROPERTIES.getStoreMetaKey(keyMap);
+  }
+
+  private static PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> toPutMessage(
+      PubSubTopicPartition topicPartition,
+      StoreMetaKey key,
+      StoreMetaValue value) {
+    Put put = new Put();
+    put.schemaId = AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersion();
+    put.putValue = ByteBuffer
+        .wrap(SerializerDeserializerFactory.getAvroGenericSerializer(StoreMetaValue.SCHEMA$).serialize(value));
+    KafkaMessageEnvelope kafkaMessageEnvelope = new KafkaMessageEnvelope();
+    kafkaMessageEnvelope.messageType = MessageType.PUT.getValue();
+    kafkaMessageEnvelope.payloadUnion = put;
+    byte[] keyBytes = SerializerDeserializerFactory.getAvroGenericSerializer(StoreMetaKey.SCHEMA$).serialize(key);
+    return new ImmutablePubSubMessage<>(
+        new KafkaKey(MessageType.PUT, keyBytes),
+        kafkaMessageEnvelope,
+        topicPartition,
+        0,
+        0,
+        0);
+  }
+
   static class TestNMR extends NativeMetadataRepository {
     protected TestNMR(ClientConfig clientConfig, VeniceProperties backendConfig) {
       super(clientConfig, backendConfig);
@@ -65,6 +224,7 @@ public class NativeMetadataRepositoryTest {
     protected StoreConfig getStoreConfigFromSystemStore(String storeName) {
       StoreConfig storeConfig = mock(StoreConfig.class);
       when(storeConfig.isDeleting()).thenReturn(false);
+      when(storeConfig.getCluster()).thenReturn(CLUSTER_NAME);
       return storeConfig;
     }
 
@@ -0,0 +1,268 @@
+package com.linkedin.davinci.schema.merge;
+
+import static com.linkedin.venice.schema.Utils.loadSchemaFileAsString;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.ACTIVE_ELEM_TS_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_TS_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.PUT_ONLY_PART_LENGTH_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_COLO_ID_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_NAME;
+
+import com.linkedin.davinci.schema.SchemaUtils;
+import com.linkedin.davinci.serializer.avro.MapOrderingPreservingSerDeFactory;
+import com.linkedin.davinci.utils.IndexedHashMap;
+import com.linkedin.venice.schema.AvroSchemaParseUtils;
+import com.linkedin.venice.schema.rmd.RmdConstants;
+import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+/**
+ * Differential tests which apply the same random sequences of operations on collection fields with both the sort-based
+ * and the index-based handlers, and expect the same results.
+ */
+public class IndexBasedCollectionFieldOpHandlerTest {
+  private static final Schema VALUE_SCHEMA =
+      AvroSchemaParseUtils.parseSchemaFromJSONStrictValidation(loadSchemaFileAsString("testMergeSchema.avsc"));
+  private static final Schema RMD_SCHEMA =
+      SchemaUtils.annotateRmdSchema(RmdSchemaGenerator.generateMetadataSchema(VALUE_SCHEMA));
+  private static final int OPERATION_COUNT = 5000;
+  private static final int DISTINCT_ELEMENT_COUNT = 64;
+  private static final int COLO_COUNT = 3;
+
+  private final CollectionFieldOperationHandler sortBasedHandler =
+      new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+  private final CollectionFieldOperationHandler indexBasedHandler =
+      new IndexBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+
+  @DataProvider(name = "collectionFields")
+  public static Object[][] collectionFields() {
+    return new Object[][] { { "StringListField" }, { "NullableStringListField" }, { "IntMapField" },
+        { "NullableIntMapField" } };
+  }
+
+  @Test(dataProvider = "collectionFields")
+  public void testSameResultsAsSortBasedHandler(String fieldName) {
+    Schema.Field field = VALUE_SCHEMA.getField(fieldName);
+    boolean isListField = SchemaUtils.isArrayField(field.schema());
+    boolean isNullableField = field.schema().getType() == Schema.Type.UNION;
+    Random random = new Random(fieldName.hashCode());
+
+    GenericRecord sortBasedValueRecord = createValueRecord();
+    GenericRecord sortBasedRmdRecord = createRmdRecord();
+    GenericRecord indexBasedValueRecord = createValueRecord();
+    GenericRecord indexBasedRmdRecord = createRmdRecord();
+
+    for (int i = 0; i < OPERATION_COUNT; i++) {
+      // Timestamps mostly increase, with ties and out-of-order operations.
+      long timestamp = 1 + i / 4 + random.nextInt(16);
+      int coloId = random.nextInt(COLO_COUNT);
+      CollectionOperation operation = isListField
+          ? createListOperation(random, field, isNullableField, timestamp, coloId)
+          : createMapOperation(random, field, isNullableField, timestamp, coloId);
+
+      UpdateResultStatus expectedStatus =
+          operation.apply(sortBasedHandler, sortBasedValueRecord, getCollectionRmd(sortBasedRmdRecord, fieldName));
+      UpdateResultStatus status =
+          operation.apply(indexBasedHandler, indexBasedValueRecord, getCollectionRmd(indexBasedRmdRecord, fieldName));
+
+      String message = "Different results after operation " + i + ": " + operation;
+      Assert.assertEquals(status, expectedStatus, message);
+      Assert.assertEquals(
+          serialize(VALUE_SCHEMA, indexBasedValueRecord),
+          serialize(VALUE_SCHEMA, sortBasedValueRecord),
+          message);
+      Assert.assertEquals(
+          serialize(RMD_SCHEMA, indexBasedRmdRecord),
+          serialize(RMD_SCHEMA, sortBasedRmdRecord),
+          message);
+    }
+  }
+
+  private CollectionOperation createListOperation(
+      Random random,
+      Schema.Field field,
+      boolean isNullableField,
+      long timestamp,
+      int coloId) {
+    int operationType = random.nextInt(20);
+    if (operationType == 0) {
+      List<Object> newList = isNullableField && random.nextBoolean() ? null : randomElements(random, 32);
+      return new CollectionOperation("PUT " + newList + " at " + timestamp + " from " + coloId) {
+        @Override
+        UpdateResultStatus apply(
+            CollectionFieldOperationHandler handler,
+            GenericRecord valueRecord,
+            CollectionRmdTimestamp collectionRmd) {
+          List<Object> newListCopy = newList == null ? null : new ArrayList<>(newList);
+          return handler.handlePutList(timestamp, coloId, newListCopy, collectionRmd, valueRecord, field);
+        }
+      };
+    }
+    if (operationType == 1) {
+      return new CollectionOperation("DELETE at " + timestamp + " from " + coloId) {
+        @Override
+        UpdateResultStatus apply(
+            CollectionFieldOperationHandler handler,
+            GenericRecord valueRecord,
+            CollectionRmdTimestamp collectionRmd) {
+          return handler.handleDeleteList(timestamp, coloId, collectionRmd, valueRecord, field);
+        }
+      };
+    }
+    List<Object> toAddElements = randomElements(random, 4);
+    List<Object> toRemoveElements = randomElements(random, 4);
+    return new CollectionOperation("ADD " + toAddElements + " REMOVE " + toRemoveElements + " at " + timestamp) {
+      @Override
+      UpdateResultStatus apply(
+          CollectionFieldOperationHandler handler,
+          GenericRecord valueRecord,
+          CollectionRmdTimestamp collectionRmd) {
+        return handler.handleModifyList(
+            timestamp,
+            collectionRmd,
+            valueRecord,
+            field,
+            new ArrayList<>(toAddElements),
+            new ArrayList<>(toRemoveElements));
+      }
+    };
+  }
+
+  private CollectionOperation createMapOperation(
+      Random random,
+      Schema.Field field,
+      boolean isNullableField,
+      long timestamp,
+      int coloId) {
+    int operationType = random.nextInt(20);
+    if (operationType == 0) {
+      IndexedHashMap<String, Object> newMap =
+          isNullableField && random.nextBoolean() ? null : randomEntries(random, 32);
+      return new CollectionOperation("PUT " + newMap + " at " + timestamp + " from " + coloId) {
+        @Override
+        UpdateResultStatus apply(
+            CollectionFieldOperationHandler handler,
+            GenericRecord valueRecord,
+            CollectionRmdTimestamp collectionRmd) {
+          IndexedHashMap<String, Object> newMapCopy = newMap == null ? null : new IndexedHashMap<>(newMap);
+          return handler.handlePutMap(timestamp, coloId, newMapCopy, collectionRmd, valueRecord, field);
+        }
+      };
+    }
+    if (operationType == 1) {
+      return new CollectionOperation("DELETE at " + timestamp + " from " + coloId) {
+        @Override
+        UpdateResultStatus apply(
+            CollectionFieldOperationHandler handler,
+            GenericRecord valueRecord,
+            CollectionRmdTimestamp collectionRmd) {
+          return handler.handleDeleteMap(timestamp, coloId, collectionRmd, valueRecord, field);
+        }
+      };
+    }
+    IndexedHashMap<String, Object> newEntries = randomEntries(random, 4);
+    List<String> toRemoveKeys = new ArrayList<>();
+    for (Object key: randomElements(random, 4)) {
+      toRemoveKeys.add((String) key);
+    }
+    return new CollectionOperation("ADD " + newEntries + " REMOVE " + toRemoveKeys + " at " + timestamp) {
+      @Override
+      UpdateResultStatus apply(
+          CollectionFieldOperationHandler handler,
+          GenericRecord valueRecord,
+          CollectionRmdTimestamp collectionRmd) {
+        return handler.handleModifyMap(
+            timestamp,
+            collectionRmd,
+            valueRecord,
+            field,
+            new IndexedHashMap<>(newEntries),
+            new ArrayList<>(toRemoveKeys));
+      }
+    };
+  }
+
+  /**
+   * @return up to the given number of random elements, which may be duplicated.
+   */
+  private static List<Object> randomElements(Random random, int maxCount) {
+    int count = random.nextInt(maxCount + 1);
+    List<Object> elements = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      elements.add("element_" + random.nextInt(DISTINCT_ELEMENT_COUNT));
+    }
+    return elements;
+  }
+
+  private static IndexedHashMap<String, Object> randomEntries(Random random, int maxCount) {
+    IndexedHashMap<String, Object> entries = new IndexedHashMap<>();
+    for (Object key: randomElements(random, maxCount)) {
+      // Few distinct values, so that entries updated with the same timestamp get their values compared.
+      entries.put((String) key, random.nextInt(4));
+    }
+    return entries;
+  }
+
+  private static GenericRecord createValueRecord() {
+    GenericRecord valueRecord = new GenericData.Record(VALUE_SCHEMA);
+    valueRecord.put("StringListField", new ArrayList<>());
+    valueRecord.put("IntMapField", new IndexedHashMap<>());
+    return valueRecord;
+  }
+
+  private static GenericRecord createRmdRecord() {
+    GenericRecord rmdRecord = new GenericData.Record(RMD_SCHEMA);
+    Schema timestampSchema = RMD_SCHEMA.getField(RmdConstants.TIMESTAMP_FIELD_NAME).schema().getTypes().get(1);
+    GenericRecord timestampRecord = new GenericData.Record(timestampSchema);
+    for (Schema.Field field: timestampSchema.getFields()) {
+      GenericRecord collectionRmdRecord = new GenericData.Record(field.schema());
+      collectionRmdRecord.put(TOP_LEVEL_TS_FIELD_NAME, 0L);
+      collectionRmdRecord.put(TOP_LEVEL_COLO_ID_FIELD_NAME, 0);
+      collectionRmdRecord.put(PUT_ONLY_PART_LENGTH_FIELD_NAME, 0);
+      collectionRmdRecord.put(ACTIVE_ELEM_TS_FIELD_NAME, new ArrayList<>());
+      collectionRmdRecord.put(DELETED_ELEM_FIELD_NAME, new ArrayList<>());
+      collectionRmdRecord.put(DELETED_ELEM_TS_FIELD_NAME, new ArrayList<>());
+      timestampRecord.put(field.name(), collectionRmdRecord);
+    }
+    rmdRecord.put(RmdConstants.TIMESTAMP_FIELD_NAME, timestampRecord);
+    rmdRecord.put(RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, new ArrayList<>());
+    return rmdRecord;
+  }
+
+  private static <T> CollectionRmdTimestamp<T> getCollectionRmd(GenericRecord rmdRecord, String fieldName) {
+    GenericRecord timestampRecord = (GenericRecord) rmdRecord.get(RmdConstants.TIMESTAMP_FIELD_NAME);
+    return new CollectionRmdTimestamp<>((GenericRecord) timestampRecord.get(fieldName));
+  }
+
+  private static byte[] serialize(Schema schema, GenericRecord record) {
+    return MapOrderingPreservingSerDeFactory.<GenericRecord>getSerializer(schema).serialize(record);
+  }
+
+  private abstract static class CollectionOperation {
+    private final String description;
+
+    CollectionOperation(String description) {
+      this.description = description;
+    }
+
+    abstract UpdateResultStatus apply(
+        CollectionFieldOperationHandler handler,
+        GenericRecord valueRecord,
+        CollectionRmdTimestamp collectionRmd);
+
+    @Override
+    public String toString() {
+      return description;
+    }
+  }
+}
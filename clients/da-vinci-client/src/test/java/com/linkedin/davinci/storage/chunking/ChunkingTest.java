@@ -1,8 +1,11 @@
 package com.linkedin.davinci.storage.chunking;
 
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -10,6 +13,7 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
@@ -19,8 +23,10 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBufUtil;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
@@ -209,8 +215,8 @@ public class ChunkingTest {
 
     doReturn(serializedCVMwithHeader).when(storageEngine)
         .get(eq(partition), eq(ByteBuffer.wrap(serializeNonChunkedKey)));
-    doReturn(chunk1Bytes).when(storageEngine).get(eq(partition), eq(firstKey));
-    doReturn(chunk2Bytes).when(storageEngine).get(eq(partition), eq(secondKey));
+    doReturn(Arrays.asList(chunk1Bytes, chunk2Bytes)).when(storageEngine)
+        .multiGet(eq(partition), eq(Arrays.asList(firstKey, secondKey)));
 
     StoreDeserializerCache storeDeserializerCache = rawBytesStoreDeserializerCache
         ? RawBytesStoreDeserializerCache.getInstance()
@@ -255,4 +261,60 @@ public class ChunkingTest {
       return null;
     });
   }
+
+  @Test
+  public void testBatchGetChunkingAdapterMultiGet() {
+    int partition = 9;
+    byte[] chunkedKey = "chunked_key".getBytes();
+    byte[] smallKey = "small_key".getBytes();
+    byte[] missingKey = "missing_key".getBytes();
+    byte[] payload = "0123456789".getBytes();
+    byte[] firstChunkKey = "chunk_0".getBytes();
+    byte[] secondChunkKey = "chunk_1".getBytes();
+
+    byte[] chunk1Bytes = new byte[4 + ValueRecord.SCHEMA_HEADER_LENGTH];
+    byte[] chunk2Bytes = new byte[payload.length - 4 + ValueRecord.SCHEMA_HEADER_LENGTH];
+    ByteUtils.writeInt(chunk1Bytes, AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), 0);
+    ByteUtils.writeInt(chunk2Bytes, AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), 0);
+    System.arraycopy(payload, 0, chunk1Bytes, ValueRecord.SCHEMA_HEADER_LENGTH, 4);
+    System.arraycopy(payload, 4, chunk2Bytes, ValueRecord.SCHEMA_HEADER_LENGTH, payload.length - 4);
+
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix =
+        Arrays.asList(ByteBuffer.wrap(firstChunkKey), ByteBuffer.wrap(secondChunkKey));
+    chunkedValueManifest.schemaId = 1;
+    chunkedValueManifest.size = payload.length;
+    byte[] serializedCVM = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    byte[] serializedCVMwithHeader = new byte[serializedCVM.length + ValueRecord.SCHEMA_HEADER_LENGTH];
+    ByteUtils.writeInt(
+        serializedCVMwithHeader,
+        AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get(),
+        0);
+    System.arraycopy(serializedCVM, 0, serializedCVMwithHeader, ValueRecord.SCHEMA_HEADER_LENGTH, serializedCVM.length);
+    byte[] smallValue = ValueRecord.create(2, "small_value".getBytes()).serialize();
+
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    // The top-level values are fetched with the first call, and the chunks of all the chunked values with the second
+    doReturn(Arrays.asList(serializedCVMwithHeader, smallValue, null))
+        .doReturn(Arrays.asList(chunk1Bytes, chunk2Bytes))
+        .when(storageEngine)
+        .multiGet(eq(partition), any());
+
+    List<MultiGetResponseRecordV1> records = BatchGetChunkingAdapter
+        .multiGet(storageEngine, partition, Arrays.asList(chunkedKey, smallKey, missingKey), true, null);
+    verify(storageEngine, times(2)).multiGet(eq(partition), any());
+    Assert.assertEquals(records.size(), 3);
+
+    Assert.assertTrue(records.get(0) instanceof ChunkedMultiGetResponseRecord);
+    ChunkedMultiGetResponseRecord chunkedRecord = (ChunkedMultiGetResponseRecord) records.get(0);
+    Assert.assertEquals(chunkedRecord.schemaId, 1);
+    Assert.assertEquals(ByteBufUtil.getBytes(chunkedRecord.getCompositeValue()), payload);
+    Assert.assertEquals(ChunkedMultiGetResponseRecord.getValueSize(chunkedRecord), payload.length);
+
+    Assert.assertFalse(records.get(1) instanceof ChunkedMultiGetResponseRecord);
+    Assert.assertEquals(records.get(1).schemaId, 2);
+    Assert.assertEquals(ByteUtils.extractByteArray(records.get(1).value), "small_value".getBytes());
+    Assert.assertNull(records.get(2));
+  }
 }
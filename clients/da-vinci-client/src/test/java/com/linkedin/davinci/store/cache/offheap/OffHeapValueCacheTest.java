@@ -0,0 +1,227 @@
+package com.linkedin.davinci.store.cache.offheap;
+
+import java.nio.charset.StandardCharsets;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class OffHeapValueCacheTest {
+  private static final int SLAB_SIZE = 4096;
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] get(OffHeapValueCache cache, long namespace, byte[] key) {
+    return cache.get(namespace, key, 0, key.length);
+  }
+
+  private static void fill(OffHeapValueCache cache, long namespace, byte[] key, byte[] value) {
+    long stamp = cache.getStamp(namespace, key, 0, key.length);
+    cache.putIfAdmitted(namespace, key, 0, key.length, value, 0, value.length, stamp);
+  }
+
+  @Test
+  public void testGetAndFill() {
+    OffHeapValueCache cache = new OffHeapValueCache(16 * SLAB_SIZE, SLAB_SIZE);
+    long namespace = cache.newNamespace();
+    byte[] key = bytes("key");
+    Assert.assertNull(get(cache, namespace, key));
+    fill(cache, namespace, key, bytes("value"));
+    Assert.assertEquals(get(cache, namespace, key), bytes("value"));
+    Assert.assertEquals(cache.getHitCount(), 1);
+    Assert.assertEquals(cache.getMissCount(), 1);
+    Assert.assertEquals(cache.getEntryCount(), 1);
+    Assert.assertEquals(cache.getUsedBytes(), OffHeapValueCache.HEADER_SIZE + 3 + 5);
+    Assert.assertEquals(cache.getAllocatedBytes(), SLAB_SIZE);
+
+    // Namespaces are isolated
+    long otherNamespace = cache.newNamespace();
+    Assert.assertNull(get(cache, otherNamespace, key));
+
+    // Key with offset
+    byte[] paddedKey = bytes("__key__");
+    Assert.assertEquals(cache.get(namespace, paddedKey, 2, 3), bytes("value"));
+
+    // Values bigger than one slab are not cached
+    byte[] bigKey = bytes("big");
+    fill(cache, namespace, bigKey, new byte[SLAB_SIZE]);
+    Assert.assertNull(get(cache, namespace, bigKey));
+  }
+
+  @Test
+  public void testUpdateAndInvalidate() {
+    OffHeapValueCache cache = new OffHeapValueCache(16 * SLAB_SIZE, SLAB_SIZE);
+    long namespace = cache.newNamespace();
+    byte[] key = bytes("key");
+
+    // Updates don't insert absent keys
+    cache.update(namespace, key, 0, key.length, bytes("v1"), 0, 2);
+    Assert.assertNull(get(cache, namespace, key));
+
+    fill(cache, namespace, key, bytes("v1"));
+    // Update in place
+    cache.update(namespace, key, 0, key.length, bytes("v2"), 0, 2);
+    Assert.assertEquals(get(cache, namespace, key), bytes("v2"));
+    // Update with a value which needs a bigger chunk
+    byte[] largeValue = new byte[1000];
+    largeValue[999] = 1;
+    cache.update(namespace, key, 0, key.length, largeValue, 0, largeValue.length);
+    Assert.assertEquals(get(cache, namespace, key), largeValue);
+    Assert.assertEquals(cache.getEntryCount(), 1);
+
+    cache.invalidate(namespace, key, 0, key.length);
+    Assert.assertNull(get(cache, namespace, key));
+    Assert.assertEquals(cache.getEntryCount(), 0);
+    Assert.assertEquals(cache.getUsedBytes(), 0);
+  }
+
+  @Test
+  public void testStaleFillIsSkipped() {
+    OffHeapValueCache cache = new OffHeapValueCache(16 * SLAB_SIZE, SLAB_SIZE);
+    long namespace = cache.newNamespace();
+    byte[] key = bytes("key");
+    long stamp = cache.getStamp(namespace, key, 0, key.length);
+    // A concurrent write lands between reading the storage engine and filling the cache
+    cache.invalidate(namespace, key, 0, key.length);
+    cache.putIfAdmitted(namespace, key, 0, key.length, bytes("stale"), 0, 5, stamp);
+    Assert.assertNull(get(cache, namespace, key));
+  }
+
+  @Test
+  public void testWriteToOtherStampStripeDoesNotSkipFill() {
+    OffHeapValueCache cache = new OffHeapValueCache(SLAB_SIZE, SLAB_SIZE);
+    long namespace = cache.newNamespace();
+    byte[] key = bytes("key");
+    int stripe = stampStripeOf(namespace, key);
+    byte[] otherKey = null;
+    for (int i = 0; otherKey == null; i++) {
+      byte[] candidate = bytes("other_key_" + i);
+      if (stampStripeOf(namespace, candidate) != stripe) {
+        otherKey = candidate;
+      }
+    }
+    // There is only one segment, but the writes to the keys of other stripes don't interfere with the fill
+    long stamp = cache.getStamp(namespace, key, 0, key.length);
+    cache.invalidate(namespace, otherKey, 0, otherKey.length);
+    cache.update(namespace, otherKey, 0, otherKey.length, bytes("v"), 0, 1);
+    cache.putIfAdmitted(namespace, key, 0, key.length, bytes("value"), 0, 5, stamp);
+    Assert.assertEquals(get(cache, namespace, key), bytes("value"));
+  }
+
+  private static int stampStripeOf(long namespace, byte[] key) {
+    return (int) OffHeapValueCache.hash(namespace, key, 0, key.length) & (OffHeapValueCache.STAMP_STRIPE_COUNT - 1);
+  }
+
+  @Test
+  public void testInvalidateNamespace() {
+    OffHeapValueCache cache = new OffHeapValueCache(16 * SLAB_SIZE, SLAB_SIZE);
+    long namespace = cache.newNamespace();
+    long otherNamespace = cache.newNamespace();
+    for (int i = 0; i < 100; i++) {
+      fill(cache, namespace, bytes("key_" + i), bytes("value_" + i));
+      fill(cache, otherNamespace, bytes("key_" + i), bytes("value_" + i));
+    }
+    Assert.assertEquals(cache.getEntryCount(), 200);
+    long newNamespace = cache.invalidateNamespace(namespace);
+    Assert.assertNotEquals(newNamespace, namespace);
+    // The entries of the retired namespace are only reclaimed lazily
+    Assert.assertEquals(cache.getEntryCount(), 200);
+    for (int i = 0; i < 100; i++) {
+      Assert.assertNull(get(cache, newNamespace, bytes("key_" + i)));
+      Assert.assertEquals(get(cache, otherNamespace, bytes("key_" + i)), bytes("value_" + i));
+    }
+  }
+
+  @Test
+  public void testRetiredEntriesAreEvictedFirst() {
+    // A single segment with one slab of 64 chunks for entries up to 64 bytes
+    OffHeapValueCache cache = new OffHeapValueCache(SLAB_SIZE, SLAB_SIZE);
+    long namespace = cache.newNamespace();
+    byte[] value = new byte[20];
+    int chunkCount = SLAB_SIZE / OffHeapValueCache.MIN_CHUNK_SIZE;
+    // Fill up the cache with frequently accessed entries
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < chunkCount; i++) {
+        byte[] key = bytes("key_" + i);
+        if (get(cache, namespace, key) == null) {
+          fill(cache, namespace, key, value);
+        }
+      }
+    }
+    Assert.assertEquals(cache.getEntryCount(), chunkCount);
+
+    long otherNamespace = cache.newNamespace();
+    cache.removeNamespace(namespace);
+    // The new entries, which are only accessed once, replace the retired entries without going through the admission
+    for (int i = 0; i < chunkCount; i++) {
+      fill(cache, otherNamespace, bytes("other_key_" + i), value);
+    }
+    Assert.assertEquals(cache.getAdmissionRejectionCount(), 0);
+    Assert.assertEquals(cache.getEvictionCount(), 0);
+    Assert.assertEquals(cache.getEntryCount(), chunkCount);
+    for (int i = 0; i < chunkCount; i++) {
+      Assert.assertEquals(get(cache, otherNamespace, bytes("other_key_" + i)), value);
+    }
+  }
+
+  @Test
+  public void testMemoryBudgetAndAdmission() {
+    // 4 slabs of 64 chunks each for entries up to 64 bytes
+    OffHeapValueCache cache = new OffHeapValueCache(4 * SLAB_SIZE, SLAB_SIZE);
+    long namespace = cache.newNamespace();
+    byte[] value = new byte[20];
+    int hotKeyCount = 100;
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < hotKeyCount; i++) {
+        byte[] key = bytes("hot_" + i);
+        if (get(cache, namespace, key) == null) {
+          fill(cache, namespace, key, value);
+        }
+      }
+    }
+    // A scan of cold keys, which are only accessed once, while the hot keys keep being accessed
+    for (int i = 0; i < 10000; i++) {
+      byte[] key = bytes("cold_" + i);
+      if (get(cache, namespace, key) == null) {
+        fill(cache, namespace, key, value);
+      }
+      byte[] hotKey = bytes("hot_" + (i % hotKeyCount));
+      if (get(cache, namespace, hotKey) == null) {
+        fill(cache, namespace, hotKey, value);
+      }
+    }
+    Assert.assertTrue(cache.getAllocatedBytes() <= cache.getCapacityInBytes());
+    Assert.assertTrue(cache.getEntryCount() <= 4 * SLAB_SIZE / OffHeapValueCache.MIN_CHUNK_SIZE);
+    Assert.assertTrue(cache.getAdmissionRejectionCount() > 0);
+    int hotHits = 0;
+    for (int i = 0; i < hotKeyCount; i++) {
+      if (get(cache, namespace, bytes("hot_" + i)) != null) {
+        hotHits++;
+      }
+    }
+    Assert.assertTrue(hotHits > hotKeyCount * 0.9, "Hot keys should survive the scan, but only got: " + hotHits);
+  }
+
+  @Test
+  public void testSlabReassignment() {
+    OffHeapValueCache cache = new OffHeapValueCache(2 * SLAB_SIZE, SLAB_SIZE);
+    long namespace = cache.newNamespace();
+    // Use up all the slabs with small entries
+    for (int i = 0; i < 200; i++) {
+      fill(cache, namespace, bytes("small_" + i), new byte[10]);
+    }
+    Assert.assertEquals(cache.getAllocatedBytes(), 2 * SLAB_SIZE);
+    // A bigger size class still gets memory
+    byte[] key = bytes("large");
+    byte[] largeValue = new byte[1000];
+    fill(cache, namespace, key, largeValue);
+    Assert.assertEquals(get(cache, namespace, key), largeValue);
+    Assert.assertEquals(cache.getAllocatedBytes(), 2 * SLAB_SIZE);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidSlabSize() {
+    new OffHeapValueCache(16 * SLAB_SIZE, SLAB_SIZE + 1);
+  }
+}
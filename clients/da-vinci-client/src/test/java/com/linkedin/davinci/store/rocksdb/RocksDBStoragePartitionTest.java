@@ -1,6 +1,10 @@
 package com.linkedin.davinci.store.rocksdb;
 
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOB_FILES_ENABLED_STORE_LIST;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOCK_CACHE_IMPLEMENTATION;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_BUFFER_SIZE_IN_BYTES;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_ENABLED;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_MIN_FILE_SIZE_IN_BYTES;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER_WRITE_ONLY_VERSION;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_SLOWDOWN_WRITES_TRIGGER;
@@ -9,32 +13,49 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEV
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER_WRITE_ONLY_VERSION;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MAX_MEMTABLE_COUNT;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MEMTABLE_SIZE_IN_BYTES;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MIN_BLOB_SIZE_IN_BYTES;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_OFF_HEAP_VALUE_CACHE_ENABLED;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_OFF_HEAP_VALUE_CACHE_SIZE_IN_BYTES;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_OFF_HEAP_VALUE_CACHE_SLAB_SIZE_IN_BYTES;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PARTITIONED_INDEX_AND_FILTERS_ENABLED;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PIN_L0_FILTER_AND_INDEX_BLOCKS_IN_CACHE;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_ROW_CACHE_ENABLED_STORE_LIST;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_TOTAL_MEMTABLE_USAGE_CAP_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.INGESTION_MEMORY_LIMIT;
 import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
 import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
 import static org.mockito.ArgumentMatchers.anyLong;
 
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngineTest;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.cache.offheap.OffHeapValueCache;
 import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.hadoop.RocksDBPartitionFileBuilder;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
 import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.store.rocksdb.PartitionFileManifest;
+import com.linkedin.venice.store.rocksdb.PartitionFileStagingArea;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +68,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mockito.Mockito;
 import org.rocksdb.ComparatorOptions;
+import org.rocksdb.MemoryUsageType;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.util.BytewiseComparator;
@@ -641,6 +663,351 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  @Test
+  public void testOffHeapValueCache() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_OFF_HEAP_VALUE_CACHE_ENABLED, "true");
+    properties.put(ROCKSDB_OFF_HEAP_VALUE_CACHE_SIZE_IN_BYTES, 1024 * 1024);
+    properties.put(ROCKSDB_OFF_HEAP_VALUE_CACHE_SLAB_SIZE_IN_BYTES, 64 * 1024);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, 0);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    Assert.assertTrue(factory.getOffHeapValueCache().isPresent());
+    OffHeapValueCache cache = factory.getOffHeapValueCache().get();
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    byte[] key = (KEY_PREFIX + "1").getBytes();
+    storagePartition.put(key, "v1".getBytes());
+    // The first read fills the cache
+    Assert.assertEquals(storagePartition.get(key), "v1".getBytes());
+    Assert.assertEquals(cache.getEntryCount(), 1);
+    Assert.assertEquals(storagePartition.get(ByteBuffer.wrap(key)), "v1".getBytes());
+    Assert.assertEquals(cache.getHitCount(), 1);
+
+    // Writes update the cached value in place
+    storagePartition.put(key, "v2".getBytes());
+    Assert.assertEquals(storagePartition.get(key, ByteBuffer.allocate(1)), ByteBuffer.wrap("v2".getBytes()));
+    Assert.assertEquals(cache.getHitCount(), 2);
+
+    // Deletes invalidate the cached value
+    storagePartition.delete(key);
+    Assert.assertNull(storagePartition.get(key));
+    Assert.assertEquals(cache.getEntryCount(), 0);
+
+    storagePartition.put(key, "v3".getBytes());
+    Assert.assertEquals(storagePartition.get(key), "v3".getBytes());
+    Assert.assertEquals(cache.getEntryCount(), 1);
+
+    // Batched lookups serve the cached values, and fill the cache with the values read from RocksDB
+    byte[] otherKey = (KEY_PREFIX + "2").getBytes();
+    byte[] missingKey = (KEY_PREFIX + "3").getBytes();
+    storagePartition.put(otherKey, "v4".getBytes());
+    List<byte[]> values = storagePartition.multiGet(Arrays.asList(key, otherKey, missingKey));
+    Assert.assertEquals(values.get(0), "v3".getBytes());
+    Assert.assertEquals(values.get(1), "v4".getBytes());
+    Assert.assertNull(values.get(2));
+    Assert.assertEquals(cache.getEntryCount(), 2);
+    // Closing the partition drops its cached values
+    storagePartition.close();
+    Assert.assertEquals(cache.getEntryCount(), 0);
+
+    storagePartition.drop();
+    removeDir(storeDir);
+    factory.close();
+  }
+
+  @Test
+  public void testIncrementalPushSstIngestion() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_ENABLED, "true");
+    properties.put(ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_BUFFER_SIZE_IN_BYTES, 32 * 1024);
+    properties.put(ROCKSDB_INCREMENTAL_PUSH_SST_INGESTION_MIN_FILE_SIZE_IN_BYTES, 1024);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    Map<String, String> expectedRecords = new TreeMap<>();
+    String valuePadding = RandomStringUtils.randomAlphanumeric(100);
+    storagePartition.put(String.format(KEY_PREFIX + "%04d", 500).getBytes(), "old_value".getBytes());
+    // Two incremental pushes in flight at the same time
+    storagePartition.beginIncrementalPushSstIngestion("inc_push_1");
+    storagePartition.beginIncrementalPushSstIngestion("inc_push_2");
+    Assert.assertTrue(storagePartition.isIncrementalPushSstIngestionInProgress());
+    // A sorted run large enough to be ingested via several SST files
+    for (int i = 0; i < 1000; i++) {
+      String key = String.format(KEY_PREFIX + "%04d", i);
+      String value = VALUE_PREFIX + i + valuePadding;
+      storagePartition.put(key.getBytes(), value.getBytes());
+      expectedRecords.put(key, value);
+    }
+    // A key out of order ends the current run, and the deletion outside the new run is applied directly
+    String overwrittenKey = String.format(KEY_PREFIX + "%04d", 100);
+    storagePartition.put(overwrittenKey.getBytes(), "new_value".getBytes());
+    expectedRecords.put(overwrittenKey, "new_value");
+    String deletedKey = String.format(KEY_PREFIX + "%04d", 200);
+    storagePartition.delete(deletedKey.getBytes());
+    expectedRecords.remove(deletedKey);
+    // The buffered records are readable before getting flushed by the sync
+    for (boolean synced: new boolean[] { false, true }) {
+      if (synced) {
+        storagePartition.sync();
+      }
+      for (Map.Entry<String, String> entry: expectedRecords.entrySet()) {
+        Assert.assertEquals(new String(storagePartition.get(entry.getKey().getBytes())), entry.getValue());
+        Assert.assertEquals(
+            new String(storagePartition.get(ByteBuffer.wrap(entry.getKey().getBytes()))),
+            entry.getValue());
+      }
+      Assert.assertNull(storagePartition.get(deletedKey.getBytes()));
+      String lastKey = String.format(KEY_PREFIX + "%04d", 999);
+      List<byte[]> keys = Arrays.asList(overwrittenKey.getBytes(), lastKey.getBytes(), deletedKey.getBytes());
+      List<byte[]> values = storagePartition.multiGet(keys);
+      Assert.assertEquals(values.get(0), "new_value".getBytes());
+      Assert.assertEquals(new String(values.get(1)), expectedRecords.get(lastKey));
+      Assert.assertNull(values.get(2));
+      Map<String, String> scannedRecords = new TreeMap<>();
+      storagePartition.getByKeyPrefix(null, new BytesStreamingCallback() {
+        @Override
+        public void onRecordReceived(byte[] key, byte[] value) {
+          Assert.assertNull(scannedRecords.put(new String(key), new String(value)));
+        }
+
+        @Override
+        public void onCompletion() {
+        }
+      });
+      Assert.assertEquals(scannedRecords, expectedRecords);
+    }
+
+    // The deletion of a buffered key lands after the buffered records
+    for (int i = 2000; i < 2010; i++) {
+      storagePartition.put(String.format(KEY_PREFIX + "%04d", i).getBytes(), (VALUE_PREFIX + i).getBytes());
+    }
+    // The end of one incremental push doesn't stop the buffering of the other one
+    storagePartition.endIncrementalPushSstIngestion("inc_push_1");
+    Assert.assertTrue(storagePartition.isIncrementalPushSstIngestionInProgress());
+    storagePartition.delete(String.format(KEY_PREFIX + "%04d", 2005).getBytes());
+    storagePartition.endIncrementalPushSstIngestion("inc_push_2");
+    Assert.assertFalse(storagePartition.isIncrementalPushSstIngestionInProgress());
+    for (int i = 2000; i < 2010; i++) {
+      byte[] value = storagePartition.get(String.format(KEY_PREFIX + "%04d", i).getBytes());
+      if (i == 2005) {
+        Assert.assertNull(value);
+      } else {
+        Assert.assertEquals(value, (VALUE_PREFIX + i).getBytes());
+      }
+    }
+    Assert.assertFalse(
+        new File(
+            RocksDBUtils.composeTempSSTFileDir(DATA_BASE_DIR, storeName, 0),
+            RocksDBIncrementalSstIngester.INCREMENTAL_PUSH_SST_FILE_NAME).exists());
+
+    // The writes go through the memtable again once the incremental push is over
+    storagePartition.put(overwrittenKey.getBytes(), "latest_value".getBytes());
+    Assert.assertEquals(storagePartition.get(overwrittenKey.getBytes()), "latest_value".getBytes());
+
+    storagePartition.drop();
+    removeDir(storeDir);
+    factory.close();
+  }
+
+  @Test
+  public void testIngestPrebuiltPartitionFiles() throws IOException {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    PartitionFileStagingArea stagingArea = PartitionFileStagingArea.fromDirectory(Utils.getTempDataDirectory());
+
+    Map<String, String> inputRecords = generateInput(1000, true, 0);
+    PartitionFileManifest manifest;
+    try (RocksDBPartitionFileBuilder builder =
+        new RocksDBPartitionFileBuilder(
+            stagingArea,
+            0,
+            rocksDBServerConfig.getRocksDBOptionsCompressionType(),
+            4 * 1024)) {
+      for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+        builder.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+      }
+      // The keys out of order are rejected
+      Assert.assertThrows(VeniceException.class, () -> builder.put(KEY_PREFIX.getBytes(), VALUE_PREFIX.getBytes()));
+      manifest = builder.finish();
+    }
+    Assert.assertTrue(manifest.getFiles().size() > 1);
+    long recordCount =
+        manifest.getFiles().stream().mapToLong(PartitionFileManifest.PartitionFile::getRecordCount).sum();
+    Assert.assertEquals(recordCount, 1000);
+
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    // The pre-built files are newer than the records written before
+    String overwrittenKey = inputRecords.keySet().iterator().next();
+    storagePartition.put(overwrittenKey.getBytes(), "old_value".getBytes());
+    storagePartition.ingestPrebuiltPartitionFiles(stagingArea);
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      Assert.assertEquals(storagePartition.get(entry.getKey().getBytes()), entry.getValue().getBytes());
+    }
+    String[] leftoverFiles = new File(RocksDBUtils.composeTempSSTFileDir(DATA_BASE_DIR, storeName, 0)).list();
+    Assert.assertTrue(leftoverFiles == null || leftoverFiles.length == 0);
+
+    // The files not matching the manifest are not ingested
+    PartitionFileManifest.PartitionFile partitionFile = manifest.getFiles().get(0);
+    long fileRecordCount = partitionFile.getRecordCount();
+    partitionFile.setRecordCount(1);
+    stagingArea.writeManifest(0, manifest);
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.ingestPrebuiltPartitionFiles(stagingArea));
+
+    // Neither are the files without checksum or corrupted in the staging area
+    partitionFile.setRecordCount(fileRecordCount);
+    String checksum = partitionFile.getChecksum();
+    partitionFile.setChecksum(null);
+    stagingArea.writeManifest(0, manifest);
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.ingestPrebuiltPartitionFiles(stagingArea));
+    partitionFile.setChecksum(checksum);
+    stagingArea.writeManifest(0, manifest);
+    Files.write(
+        new File(stagingArea.getPartitionDir(0), partitionFile.getFileName()).toPath(),
+        new byte[] { 0 },
+        StandardOpenOption.APPEND);
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.ingestPrebuiltPartitionFiles(stagingArea));
+
+    storagePartition.drop();
+    removeDir(storeDir);
+    factory.close();
+  }
+
+  @Test
+  public void testBlobFiles() {
+    String storeName = Utils.getUniqueString("test_store");
+    String topicName = Version.composeKafkaTopic(storeName, 1);
+    String otherStoreName = Utils.getUniqueString("test_store");
+    String otherTopicName = Version.composeKafkaTopic(otherStoreName, 1);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_BLOB_FILES_ENABLED_STORE_LIST, storeName);
+    properties.put(ROCKSDB_MIN_BLOB_SIZE_IN_BYTES, 1024);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    Assert.assertTrue(rocksDBServerConfig.isBlobFilesEnabled(storeName));
+    Assert.assertFalse(rocksDBServerConfig.isBlobFilesEnabled(otherStoreName));
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+
+    for (String topic: Arrays.asList(topicName, otherTopicName)) {
+      String storeDir = getTempDatabaseDir(topic);
+      RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+          new StoragePartitionConfig(topic, 0),
+          factory,
+          DATA_BASE_DIR,
+          null,
+          ROCKSDB_THROTTLER,
+          rocksDBServerConfig);
+      byte[] smallValue = new byte[100];
+      byte[] largeValue = new byte[10 * 1024];
+      largeValue[0] = 1;
+      for (int i = 0; i < 100; i++) {
+        storagePartition.put((KEY_PREFIX + i).getBytes(), i % 2 == 0 ? smallValue : largeValue);
+      }
+      storagePartition.sync();
+      long blobFileCount = storagePartition.getRocksDBStatValueOfAllColumnFamilies("rocksdb.num-blob-files");
+      if (topic.equals(topicName)) {
+        Assert.assertTrue(blobFileCount > 0);
+        Assert.assertTrue(storagePartition.getRocksDBStatValueOfAllColumnFamilies("rocksdb.live-blob-file-size") > 0);
+      } else {
+        Assert.assertEquals(blobFileCount, 0);
+      }
+      for (int i = 0; i < 100; i++) {
+        Assert.assertEquals(storagePartition.get((KEY_PREFIX + i).getBytes()), i % 2 == 0 ? smallValue : largeValue);
+      }
+      storagePartition.drop();
+      removeDir(storeDir);
+    }
+    factory.close();
+  }
+
+  @Test
+  public void testPartitionedIndexAndFiltersWithRowCache() {
+    String storeName = Utils.getUniqueString("test_store");
+    String topicName = Version.composeKafkaTopic(storeName, 1);
+    String otherStoreName = Utils.getUniqueString("test_store");
+    String otherTopicName = Version.composeKafkaTopic(otherStoreName, 1);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_PARTITIONED_INDEX_AND_FILTERS_ENABLED, "true");
+    properties.put(ROCKSDB_PIN_L0_FILTER_AND_INDEX_BLOCKS_IN_CACHE, "true");
+    properties.put(ROCKSDB_ROW_CACHE_ENABLED_STORE_LIST, storeName);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    Assert.assertTrue(rocksDBServerConfig.isRowCacheEnabled(storeName));
+    Assert.assertFalse(rocksDBServerConfig.isRowCacheEnabled(otherStoreName));
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    Assert.assertTrue(factory.getRowCache().isPresent());
+
+    for (String topic: Arrays.asList(topicName, otherTopicName)) {
+      String storeDir = getTempDatabaseDir(topic);
+      RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+          new StoragePartitionConfig(topic, 0),
+          factory,
+          DATA_BASE_DIR,
+          null,
+          ROCKSDB_THROTTLER,
+          rocksDBServerConfig);
+      for (int i = 0; i < 1000; i++) {
+        storagePartition.put((KEY_PREFIX + i).getBytes(), (VALUE_PREFIX + i).getBytes());
+      }
+      // The row cache only serves the lookups hitting SST files
+      storagePartition.sync();
+      for (int i = 0; i < 1000; i++) {
+        Assert.assertEquals(storagePartition.get((KEY_PREFIX + i).getBytes()), (VALUE_PREFIX + i).getBytes());
+      }
+      Assert.assertNull(storagePartition.get((KEY_PREFIX + 1000).getBytes()));
+
+      Map<MemoryUsageType, Long> memoryUsage = storagePartition.getApproximateMemoryUsageByType(Collections.emptySet());
+      if (topic.equals(topicName)) {
+        long rowCacheUsage = factory.getRowCache().get().getUsage();
+        Assert.assertTrue(rowCacheUsage > 0);
+        Assert.assertEquals((long) memoryUsage.get(MemoryUsageType.kCacheTotal), rowCacheUsage);
+      } else {
+        Assert.assertFalse(memoryUsage.containsKey(MemoryUsageType.kCacheTotal));
+      }
+      storagePartition.drop();
+      removeDir(storeDir);
+    }
+    factory.close();
+  }
+
   @Test
   public void testPlainTableCompactionTriggerSetting() {
     String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
@@ -0,0 +1,291 @@
+package com.linkedin.davinci.store.view;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.Murmur3VenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.pubsub.PubSubClientsFactory;
+import com.linkedin.venice.pubsub.PubSubProducerAdapterFactory;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.views.MaterializedRekeyView;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterOptions;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MaterializedRekeyViewWriterTest {
+  private static final String STORE_NAME = "test_store";
+  private static final Schema KEY_SCHEMA = AvroCompatibilityHelper.parse("\"string\"");
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"Member\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"},"
+          + "{\"name\":\"email\",\"type\":[\"null\",\"string\"],\"default\":null}]}");
+  private static final Schema VIEW_KEY_SCHEMA = Schema.create(Schema.Type.STRING);
+  private static final byte[] KEY = "member_1".getBytes();
+
+  @Test
+  public void testBuildWriterOptions() {
+    Store mockStore = Mockito.mock(Store.class);
+    Mockito.when(mockStore.getName()).thenReturn(STORE_NAME);
+    Version version = new VersionImpl(STORE_NAME, 1, "push");
+    version.setChunkingEnabled(true);
+    Mockito.when(mockStore.getVersion(1)).thenReturn(Optional.of(version));
+
+    Map<String, String> viewParams = new HashMap<>();
+    viewParams.put(MaterializedRekeyView.REKEY_FIELD_NAME, "email");
+    VeniceWriterOptions writerOptions = buildWriterOptions(mockStore, viewParams);
+    Assert.assertEquals(
+        writerOptions.getTopicName(),
+        STORE_NAME + "_v1" + MaterializedRekeyView.MATERIALIZED_REKEY_TOPIC_SUFFIX);
+    Assert.assertTrue(writerOptions.isChunkingEnabled());
+    Assert.assertTrue(getFieldPartitioner(writerOptions) instanceof DefaultVenicePartitioner);
+    Assert.assertNull(writerOptions.getPartitionCount());
+
+    viewParams.put(MaterializedRekeyView.REKEY_PARTITION_COUNT, "8");
+    viewParams.put(MaterializedRekeyView.REKEY_PARTITIONER_CLASS, Murmur3VenicePartitioner.class.getName());
+    writerOptions = buildWriterOptions(mockStore, viewParams);
+    Assert.assertTrue(getFieldPartitioner(writerOptions) instanceof Murmur3VenicePartitioner);
+    Assert.assertEquals(writerOptions.getPartitionCount(), Integer.valueOf(8));
+  }
+
+  @Test
+  public void testProcessRecord() throws ExecutionException, InterruptedException {
+    VeniceWriter<byte[], byte[], byte[]> mockVeniceWriter = mockVeniceWriter();
+    MaterializedRekeyViewWriter viewWriter = buildViewWriter(mockVeniceWriter);
+
+    ByteBuffer firstValue = serializeValue("Alice", "alice@example.com");
+    ByteBuffer sameEmailValue = serializeValue("Alice B.", "alice@example.com");
+    ByteBuffer newEmailValue = serializeValue("Alice B.", "alice.b@example.com");
+    ByteBuffer noEmailValue = serializeValue("Alice B.", null);
+
+    // Insert
+    viewWriter.processRecord(firstValue, null, KEY, 1, 1, 1, null).get();
+    verifyPut(mockVeniceWriter, "alice@example.com", KEY, firstValue, 0L);
+    Mockito.verify(mockVeniceWriter, Mockito.never())
+        .delete(Mockito.any(), Mockito.anyLong(), Mockito.any(PubSubProducerCallback.class));
+
+    // Update which keeps the alternate key
+    viewWriter.processRecord(sameEmailValue, firstValue, KEY, 1, 1, 1, buildRmd(10L)).get();
+    verifyPut(mockVeniceWriter, "alice@example.com", KEY, sameEmailValue, 10L);
+    Mockito.verify(mockVeniceWriter, Mockito.never())
+        .delete(Mockito.any(), Mockito.anyLong(), Mockito.any(PubSubProducerCallback.class));
+
+    // Update which changes the alternate key
+    viewWriter.processRecord(newEmailValue, sameEmailValue, KEY, 1, 1, 1, buildRmd(20L)).get();
+    verifyDelete(mockVeniceWriter, "alice@example.com", KEY, 20L);
+    verifyPut(mockVeniceWriter, "alice.b@example.com", KEY, newEmailValue, 20L);
+
+    // Update which clears the alternate key
+    viewWriter.processRecord(noEmailValue, newEmailValue, KEY, 1, 1, 1, buildRmd(30L)).get();
+    verifyDelete(mockVeniceWriter, "alice.b@example.com", KEY, 30L);
+
+    // Deletion of a record without alternate key
+    Assert.assertNull(viewWriter.processRecord(null, noEmailValue, KEY, 1, 1, 1, buildRmd(40L)).get());
+    Mockito.verify(mockVeniceWriter, Mockito.times(3))
+        .put(
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.anyInt(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.anyLong(),
+            Mockito.any());
+    Mockito.verify(mockVeniceWriter, Mockito.times(2))
+        .delete(Mockito.any(), Mockito.anyLong(), Mockito.any(PubSubProducerCallback.class));
+
+    // Deletion of a record with alternate key
+    viewWriter.processRecord(null, firstValue, KEY, 1, 1, 1, buildRmd(50L)).get();
+    verifyDelete(mockVeniceWriter, "alice@example.com", KEY, 50L);
+
+    viewWriter.close();
+    Mockito.verify(mockVeniceWriter).close();
+  }
+
+  @Test
+  public void testProcessRecordsSharingTheAlternateKey() throws ExecutionException, InterruptedException {
+    VeniceWriter<byte[], byte[], byte[]> mockVeniceWriter = mockVeniceWriter();
+    MaterializedRekeyViewWriter viewWriter = buildViewWriter(mockVeniceWriter);
+    byte[] otherKey = "member_2".getBytes();
+
+    ByteBuffer aliceValue = serializeValue("Alice", "team@example.com");
+    ByteBuffer bobValue = serializeValue("Bob", "team@example.com");
+    ByteBuffer bobNewValue = serializeValue("Bob", "bob@example.com");
+    viewWriter.processRecord(aliceValue, null, KEY, 1, 1, 1, buildRmd(10L)).get();
+    viewWriter.processRecord(bobValue, null, otherKey, 1, 1, 1, buildRmd(20L)).get();
+    // Both records are in the view, under distinct view keys
+    verifyPut(mockVeniceWriter, "team@example.com", KEY, aliceValue, 10L);
+    verifyPut(mockVeniceWriter, "team@example.com", otherKey, bobValue, 20L);
+
+    // Moving one record away from the shared alternate key only deletes its own entry
+    viewWriter.processRecord(bobNewValue, bobValue, otherKey, 1, 1, 1, buildRmd(30L)).get();
+    verifyDelete(mockVeniceWriter, "team@example.com", otherKey, 30L);
+    verifyPut(mockVeniceWriter, "bob@example.com", otherKey, bobNewValue, 30L);
+    Mockito.verify(mockVeniceWriter, Mockito.times(1))
+        .delete(Mockito.any(), Mockito.anyLong(), Mockito.any(PubSubProducerCallback.class));
+    Mockito.verify(mockVeniceWriter, Mockito.never())
+        .delete(
+            Mockito.eq(MaterializedRekeyViewWriter.composeViewKey(serializeViewKey("team@example.com"), KEY)),
+            Mockito.anyLong(),
+            Mockito.any(PubSubProducerCallback.class));
+
+    // The records sharing an alternate key are in the same partition
+    MaterializedRekeyViewWriter.RekeyFieldPartitioner partitioner =
+        new MaterializedRekeyViewWriter.RekeyFieldPartitioner(new DefaultVenicePartitioner());
+    byte[] rekeyField = serializeViewKey("team@example.com");
+    int partition = new DefaultVenicePartitioner().getPartitionId(rekeyField, 16);
+    Assert.assertEquals(
+        partitioner.getPartitionId(MaterializedRekeyViewWriter.composeViewKey(rekeyField, KEY), 16),
+        partition);
+    ByteBuffer otherViewKey = ByteBuffer.wrap(MaterializedRekeyViewWriter.composeViewKey(rekeyField, otherKey));
+    Assert.assertEquals(partitioner.getPartitionId(otherViewKey, 16), partition);
+  }
+
+  @Test
+  public void testGetWriteTimestamp() {
+    Assert.assertEquals(MaterializedRekeyViewWriter.getWriteTimestamp(null), 0L);
+    Assert.assertEquals(MaterializedRekeyViewWriter.getWriteTimestamp(buildRmd(10L)), 10L);
+
+    Schema perFieldTimestampSchema = AvroCompatibilityHelper.parse(
+        "{\"type\":\"record\",\"name\":\"FieldTimestamps\",\"fields\":[{\"name\":\"name\",\"type\":\"long\"},"
+            + "{\"name\":\"tags\",\"type\":{\"type\":\"record\",\"name\":\"TagsTimestamp\",\"fields\":"
+            + "[{\"name\":\"topLevelFieldTimestamp\",\"type\":\"long\"}]}}]}");
+    GenericRecord perFieldTimestamps = new GenericData.Record(perFieldTimestampSchema);
+    perFieldTimestamps.put("name", 10L);
+    GenericRecord tagsTimestamp = new GenericData.Record(perFieldTimestampSchema.getField("tags").schema());
+    tagsTimestamp.put("topLevelFieldTimestamp", 30L);
+    perFieldTimestamps.put("tags", tagsTimestamp);
+    Assert.assertEquals(MaterializedRekeyViewWriter.getWriteTimestamp(buildRmd(perFieldTimestamps)), 30L);
+  }
+
+  private static VenicePartitioner getFieldPartitioner(VeniceWriterOptions writerOptions) {
+    Assert.assertTrue(writerOptions.getPartitioner() instanceof MaterializedRekeyViewWriter.RekeyFieldPartitioner);
+    return ((MaterializedRekeyViewWriter.RekeyFieldPartitioner) writerOptions.getPartitioner()).getFieldPartitioner();
+  }
+
+  private static VeniceWriter<byte[], byte[], byte[]> mockVeniceWriter() {
+    VeniceWriter<byte[], byte[], byte[]> mockVeniceWriter = Mockito.mock(VeniceWriter.class);
+    Mockito
+        .when(
+            mockVeniceWriter.put(
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyInt(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyLong(),
+                Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    Mockito.when(mockVeniceWriter.delete(Mockito.any(), Mockito.anyLong(), Mockito.any(PubSubProducerCallback.class)))
+        .thenAnswer(invocation -> {
+          ((PubSubProducerCallback) invocation.getArgument(2)).onCompletion(null, null);
+          return CompletableFuture.completedFuture(null);
+        });
+    return mockVeniceWriter;
+  }
+
+  private static MaterializedRekeyViewWriter buildViewWriter(VeniceWriter<byte[], byte[], byte[]> veniceWriter) {
+    Store mockStore = Mockito.mock(Store.class);
+    Mockito.when(mockStore.getName()).thenReturn(STORE_NAME);
+    ReadOnlySchemaRepository schemaRepository = Mockito.mock(ReadOnlySchemaRepository.class);
+    Mockito.when(schemaRepository.getValueSchema(STORE_NAME, 1)).thenReturn(new SchemaEntry(1, VALUE_SCHEMA));
+    MaterializedRekeyViewWriter viewWriter = new MaterializedRekeyViewWriter(
+        mockConfigLoader(),
+        mockStore,
+        KEY_SCHEMA,
+        Collections.singletonMap(MaterializedRekeyView.REKEY_FIELD_NAME, "email"));
+    viewWriter.setSchemaRepository(schemaRepository);
+    viewWriter.setVeniceWriter(veniceWriter);
+    return viewWriter;
+  }
+
+  private static void verifyPut(
+      VeniceWriter<byte[], byte[], byte[]> mockVeniceWriter,
+      String email,
+      byte[] key,
+      ByteBuffer value,
+      long timestamp) {
+    Mockito.verify(mockVeniceWriter)
+        .put(
+            Mockito.eq(MaterializedRekeyViewWriter.composeViewKey(serializeViewKey(email), key)),
+            Mockito.eq(value.array()),
+            Mockito.eq(1),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.eq(timestamp),
+            Mockito.any());
+  }
+
+  private static void verifyDelete(
+      VeniceWriter<byte[], byte[], byte[]> mockVeniceWriter,
+      String email,
+      byte[] key,
+      long timestamp) {
+    Mockito.verify(mockVeniceWriter)
+        .delete(
+            Mockito.eq(MaterializedRekeyViewWriter.composeViewKey(serializeViewKey(email), key)),
+            Mockito.eq(timestamp),
+            Mockito.any(PubSubProducerCallback.class));
+  }
+
+  private static GenericRecord buildRmd(Object timestamp) {
+    Schema timestampSchema = timestamp instanceof GenericRecord
+        ? ((GenericRecord) timestamp).getSchema()
+        : Schema.create(Schema.Type.LONG);
+    Schema rmdSchema = Schema.createRecord("RmdRecord", null, null, false);
+    rmdSchema.setFields(
+        Collections.singletonList(AvroCompatibilityHelper.createSchemaField("timestamp", timestampSchema, "", null)));
+    GenericRecord rmd = new GenericData.Record(rmdSchema);
+    rmd.put(0, timestamp);
+    return rmd;
+  }
+
+  private static VeniceConfigLoader mockConfigLoader() {
+    VeniceConfigLoader mockVeniceConfigLoader = Mockito.mock(VeniceConfigLoader.class);
+    Mockito.when(mockVeniceConfigLoader.getCombinedProperties()).thenReturn(VeniceProperties.empty());
+    VeniceServerConfig mockVeniceServerConfig = Mockito.mock(VeniceServerConfig.class);
+    PubSubClientsFactory mockPubSubClientsFactory = Mockito.mock(PubSubClientsFactory.class);
+    Mockito.when(mockPubSubClientsFactory.getProducerAdapterFactory())
+        .thenReturn(Mockito.mock(PubSubProducerAdapterFactory.class));
+    Mockito.when(mockVeniceServerConfig.getPubSubClientsFactory()).thenReturn(mockPubSubClientsFactory);
+    Mockito.when(mockVeniceConfigLoader.getVeniceServerConfig()).thenReturn(mockVeniceServerConfig);
+    return mockVeniceConfigLoader;
+  }
+
+  private static ByteBuffer serializeValue(String name, String email) {
+    GenericRecord record = new GenericData.Record(VALUE_SCHEMA);
+    record.put("name", name);
+    record.put("email", email);
+    RecordSerializer<GenericRecord> serializer = SerializerDeserializerFactory.getAvroGenericSerializer(VALUE_SCHEMA);
+    return ByteBuffer.wrap(serializer.serialize(record));
+  }
+
+  private static byte[] serializeViewKey(String email) {
+    RecordSerializer<String> serializer = SerializerDeserializerFactory.getAvroGenericSerializer(VIEW_KEY_SCHEMA);
+    return serializer.serialize(email);
+  }
+
+  private static VeniceWriterOptions buildWriterOptions(Store store, Map<String, String> viewParams) {
+    return new MaterializedRekeyViewWriter(mockConfigLoader(), store, KEY_SCHEMA, viewParams).buildWriterOptions(1);
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.davinci.validation;
 
+import com.linkedin.venice.exceptions.validation.CorruptDataException;
 import com.linkedin.venice.exceptions.validation.DuplicateDataException;
 import com.linkedin.venice.exceptions.validation.MissingDataException;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
@@ -372,4 +373,28 @@ public class TestPartitionTracker {
     Assert.assertEquals(record.getProducerPartitionState(guid).checksumType, CheckSumType.NONE.getValue());
     Assert.assertEquals(record.getProducerPartitionState(guid).checksumState, ByteBuffer.wrap(new byte[0]));
   }
+
+  @Test
+  public void testUnsupportedCheckSumTypeFailsSegment() {
+    PubSubTopicPartition pubSubTopicPartition =
+        new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), partitionId);
+    Segment segment = new Segment(partitionId, 0, CheckSumType.NONE);
+    ControlMessage startOfSegment = getStartOfSegment();
+    // A checksum type added by a newer producer
+    ((StartOfSegment) startOfSegment.controlMessageUnion).checksumType = 100;
+    KafkaMessageEnvelope startOfSegmentMessage =
+        getKafkaMessageEnvelope(MessageType.CONTROL_MESSAGE, guid, segment, Optional.empty(), startOfSegment);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> controlMessageConsumerRecord = new ImmutablePubSubMessage<>(
+        getControlMessageKey(startOfSegmentMessage),
+        startOfSegmentMessage,
+        pubSubTopicPartition,
+        10,
+        System.currentTimeMillis() + 1000,
+        0);
+    CorruptDataException exception = Assert.expectThrows(
+        CorruptDataException.class,
+        () -> partitionTracker.validateMessage(controlMessageConsumerRecord, false, Lazy.FALSE));
+    Assert.assertTrue(exception.getMessage().contains("unsupported checksum type: 100"), exception.getMessage());
+    Assert.assertNull(partitionTracker.getSegment(guid));
+  }
 }
@@ -276,6 +276,7 @@ public class TestAdminTool {
     record.partitionConsumptionStates = Collections.emptyList();
     record.storeVersionState = null;
     record.serverConfigs = null;
+    record.writePathTraces = Collections.emptyList();
 
     byte[] responseByte = adminResponseSerializer.serialize(record);
     doReturn(responseByte).when(response).getBody();
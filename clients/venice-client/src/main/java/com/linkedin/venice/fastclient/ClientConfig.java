@@ -80,6 +80,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
    * route requests to the correct server/partition
    */
   private final GrpcClientConfig grpcClientConfig;
+  /**
+   * Whether to ask the storage nodes to compress the batch-get responses, which trades the CPU of both sides for the
+   * network bandwidth. Check {@link com.linkedin.venice.compression.ResponseCompressionUtils} for more details.
+   */
+  private final boolean responseCompressionEnabled;
 
   private ClientConfig(
       String storeName,
@@ -112,7 +117,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       String clusterDiscoveryD2Service,
       boolean useStreamingBatchGetAsDefault,
       boolean useGrpc,
-      GrpcClientConfig grpcClientConfig) {
+      GrpcClientConfig grpcClientConfig,
+      boolean responseCompressionEnabled) {
     if (storeName == null || storeName.isEmpty()) {
       throw new VeniceClientException("storeName param shouldn't be empty");
     }
@@ -236,6 +242,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     this.useGrpc = useGrpc;
     this.grpcClientConfig = grpcClientConfig;
+    this.responseCompressionEnabled = responseCompressionEnabled;
   }
 
   public String getStoreName() {
@@ -363,6 +370,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return grpcClientConfig;
   }
 
+  public boolean isResponseCompressionEnabled() {
+    return responseCompressionEnabled;
+  }
+
   public static class ClientConfigBuilder<K, V, T extends SpecificRecord> {
     private MetricsRepository metricsRepository;
     private String statsPrefix = "";
@@ -406,6 +417,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private boolean useStreamingBatchGetAsDefault = false;
     private boolean useGrpc = false;
     private GrpcClientConfig grpcClientConfig = null;
+    private boolean responseCompressionEnabled = false;
 
     public ClientConfigBuilder<K, V, T> setStoreName(String storeName) {
       this.storeName = storeName;
@@ -573,6 +585,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setResponseCompressionEnabled(boolean responseCompressionEnabled) {
+      this.responseCompressionEnabled = responseCompressionEnabled;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> clone() {
       return new ClientConfigBuilder().setStoreName(storeName)
           .setR2Client(r2Client)
@@ -604,7 +621,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setClusterDiscoveryD2Service(clusterDiscoveryD2Service)
           .setUseStreamingBatchGetAsDefault(useStreamingBatchGetAsDefault)
           .setUseGrpc(useGrpc)
-          .setGrpcClientConfig(grpcClientConfig);
+          .setGrpcClientConfig(grpcClientConfig)
+          .setResponseCompressionEnabled(responseCompressionEnabled);
     }
 
     public ClientConfig<K, V, T> build() {
@@ -639,7 +657,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           clusterDiscoveryD2Service,
           useStreamingBatchGetAsDefault,
           useGrpc,
-          grpcClientConfig);
+          grpcClientConfig,
+          responseCompressionEnabled);
     }
   }
 }
@@ -12,6 +12,7 @@ import com.linkedin.venice.client.store.streaming.VeniceResponseMapImpl;
 import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.fastclient.meta.StoreMetadata;
 import com.linkedin.venice.fastclient.transport.GrpcTransportClient;
@@ -472,6 +473,9 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       headers.put(
           HttpConstants.VENICE_API_VERSION,
           Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion()));
+      if (config.isResponseCompressionEnabled()) {
+        ResponseCompressionUtils.addSupportedResponseCompressionHeader(headers);
+      }
       long tsBeforeSerialization = System.nanoTime();
       byte[] serializedKeys = serializeMultiGetRequest(requestContext.keysForRoutes(route));
       requestContext.recordRequestSerializationTime(route, getLatencyInNS(tsBeforeSerialization));
@@ -1,9 +1,11 @@
 package com.linkedin.venice.hadoop;
 
-import static com.linkedin.venice.compression.CompressionStrategy.NO_OP;
 import static com.linkedin.venice.compression.CompressionStrategy.ZSTD_WITH_DICT;
 import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_METRIC_COLLECTION_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO;
+import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_METRIC_COLLECTION_ZSTD_LEVELS;
 import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_STRATEGY;
+import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO;
 import static com.linkedin.venice.hadoop.VenicePushJob.TOPIC_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.ZSTD_COMPRESSION_LEVEL;
 import static com.linkedin.venice.hadoop.VenicePushJob.ZSTD_DICTIONARY_CREATION_REQUIRED;
@@ -20,6 +22,10 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.mapred.JobConf;
@@ -50,6 +56,8 @@ public abstract class AbstractVeniceMapper<INPUT_KEY, INPUT_VALUE> extends Abstr
   private boolean isZstdDictCreationRequired;
   private CompressorFactory compressorFactory;
   private VeniceCompressor[] compressor;
+  private SampledCompressionEvaluator compressionEvaluator;
+  private ByteBuffer compressionDictionary;
 
   byte[] recordKey = null, recordValue = null;
   BytesWritable keyBW = new BytesWritable(), valueBW = new BytesWritable();
@@ -135,42 +143,9 @@ public abstract class AbstractVeniceMapper<INPUT_KEY, INPUT_VALUE> extends Abstr
     keyBW.set(recordKey, 0, recordKey.length);
     valueBW.set(finalRecordValue, 0, finalRecordValue.length);
 
-    if (compressionMetricCollectionEnabled) {
-      // Compress based on all compression strategies to collect metrics
-      byte[] compressedRecordValue;
-      for (CompressionStrategy compressionStrategy: CompressionStrategy.values()) {
-        if (compressionStrategy != NO_OP && compressor[compressionStrategy.getValue()] != null) {
-          if (compressionStrategy == this.compressionStrategy) {
-            // Extra check to not redo compression
-            compressedRecordValue = finalRecordValue;
-          } else {
-            try {
-              compressedRecordValue = compressor[compressionStrategy.getValue()].compress(recordValue);
-            } catch (IOException e) {
-              LOGGER.warn(
-                  "Compression to collect metrics failed for compression strategy: {}",
-                  compressionStrategy.name(),
-                  e);
-              continue;
-            }
-          }
-          switch (compressionStrategy) {
-            case GZIP:
-              MRJobCounterHelper.incrTotalGzipCompressedValueSize(reporter, compressedRecordValue.length);
-              break;
-
-            case ZSTD_WITH_DICT:
-              MRJobCounterHelper.incrTotalZstdCompressedValueSize(reporter, compressedRecordValue.length);
-              break;
-
-            default:
-              // NO_OP won't reach here as its collected already for all cases.
-              // ZSTD won't reach here as its deprecated, so not initialized.
-              throw new VeniceException(
-                  "Support for compression Strategy: " + compressionStrategy.name() + " needs to be added");
-          }
-        }
-      }
+    if (compressionMetricCollectionEnabled && compressionEvaluator.shouldSample()) {
+      // Trial compress the sampled records with all compression candidates to collect metrics
+      compressionEvaluator.evaluate(recordValue, reporter);
     }
     return true;
   }
@@ -237,7 +212,7 @@ public abstract class AbstractVeniceMapper<INPUT_KEY, INPUT_VALUE> extends Abstr
           case ZSTD_WITH_DICT:
             if (isZstdDictCreationRequired && isZstdDictCreationSuccess) {
               // case 1a
-              this.compressor[ZSTD_WITH_DICT.getValue()] = getZstdCompressor(props);
+              this.compressor[ZSTD_WITH_DICT.getValue()] = getZstdCompressor(props, getZstdCompressionLevel(props));
             } // else: case 1b or 1c
             break;
 
@@ -250,12 +225,13 @@ public abstract class AbstractVeniceMapper<INPUT_KEY, INPUT_VALUE> extends Abstr
                 "Support for compression Strategy: " + compressionStrategy.name() + " needs to be added");
         }
       }
+      setupCompressionEvaluator(props);
     } else {
       // case 2
       if (compressionStrategy == ZSTD_WITH_DICT) {
         if (isZstdDictCreationRequired && isZstdDictCreationSuccess) {
           // case 2a
-          this.compressor[ZSTD_WITH_DICT.getValue()] = getZstdCompressor(props);
+          this.compressor[ZSTD_WITH_DICT.getValue()] = getZstdCompressor(props, getZstdCompressionLevel(props));
         } // else: case 2b
       } else {
         // case 2c
@@ -273,15 +249,54 @@ public abstract class AbstractVeniceMapper<INPUT_KEY, INPUT_VALUE> extends Abstr
     return DictionaryUtils.readDictionaryFromKafka(topicName, props);
   }
 
-  private VeniceCompressor getZstdCompressor(VeniceProperties props) {
+  /**
+   * Sets up the sampled trial compression with all the {@link CompressionCandidate}s: zstd is evaluated with the
+   * configured level in addition to the levels in {@link VenicePushJob#COMPRESSION_METRIC_COLLECTION_ZSTD_LEVELS}.
+   */
+  private void setupCompressionEvaluator(VeniceProperties props) {
+    int zstdCompressionLevel = getZstdCompressionLevel(props);
+    List<Integer> zstdLevels = VenicePushJob.parseZstdCompressionLevels(
+        props.getList(COMPRESSION_METRIC_COLLECTION_ZSTD_LEVELS, Collections.emptyList()));
+    zstdLevels.add(zstdCompressionLevel);
+    boolean zstdDictionaryAvailable = compressor[ZSTD_WITH_DICT.getValue()] != null;
+
+    Map<CompressionCandidate, VeniceCompressor> candidateCompressors = new LinkedHashMap<>();
+    for (CompressionCandidate candidate: CompressionCandidate.getCandidates(zstdLevels, zstdDictionaryAvailable)) {
+      VeniceCompressor candidateCompressor;
+      if (candidate.getCompressionStrategy() != ZSTD_WITH_DICT || candidate.getLevel() == zstdCompressionLevel) {
+        candidateCompressor = compressor[candidate.getCompressionStrategy().getValue()];
+      } else {
+        candidateCompressor = getZstdCompressor(props, candidate.getLevel());
+      }
+      if (candidateCompressor != null) {
+        candidateCompressors.put(candidate, candidateCompressor);
+      }
+    }
+    double samplingRatio = props
+        .getDouble(COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO, DEFAULT_COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO);
+    compressionEvaluator = new SampledCompressionEvaluator(candidateCompressors, samplingRatio, zstdCompressionLevel);
+  }
+
+  private static int getZstdCompressionLevel(VeniceProperties props) {
+    return props.getInt(ZSTD_COMPRESSION_LEVEL, Zstd.maxCompressionLevel());
+  }
+
+  private VeniceCompressor getZstdCompressor(VeniceProperties props, int compressionLevel) {
     String topicName = props.getString(TOPIC_PROP);
-    ByteBuffer compressionDictionary = readDictionaryFromKafka(topicName, props);
-    int compressionLevel = props.getInt(ZSTD_COMPRESSION_LEVEL, Zstd.maxCompressionLevel());
+    if (compressionDictionary == null) {
+      compressionDictionary = readDictionaryFromKafka(topicName, props);
+    }
 
     if (compressionDictionary != null && compressionDictionary.limit() > 0) {
+      /**
+       * The compressors are cached per "topic" in the factory, so the non-default levels used for the trial
+       * compression get their own cache key.
+       */
+      String compressorKey =
+          compressionLevel == getZstdCompressionLevel(props) ? topicName : topicName + "_level_" + compressionLevel;
       return compressorFactory.createVersionSpecificCompressorIfNotExist(
           ZSTD_WITH_DICT,
-          topicName,
+          compressorKey,
           compressionDictionary.array(),
           compressionLevel);
     }
@@ -0,0 +1,82 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+
+/**
+ * A compression setting which is evaluated by the sampled trial compression in {@link SampledCompressionEvaluator}.
+ * {@link CompressionStrategy#ZSTD_WITH_DICT} is evaluated once per configured compression level, so a candidate
+ * is the pair of the strategy and its level (the level is ignored for other strategies).
+ *
+ * The candidate name is used to build the MR counter names, so both the mappers and the VPJ driver need to build
+ * the same candidate list via {@link #getCandidates}.
+ */
+public class CompressionCandidate {
+  public static final int LEVEL_NOT_APPLICABLE = -1;
+
+  private final CompressionStrategy compressionStrategy;
+  private final int level;
+  private final String name;
+
+  CompressionCandidate(CompressionStrategy compressionStrategy, int level) {
+    this.compressionStrategy = compressionStrategy;
+    this.level = compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT ? level : LEVEL_NOT_APPLICABLE;
+    this.name = this.level == LEVEL_NOT_APPLICABLE ? compressionStrategy.name()
+        : compressionStrategy.name() + "_LEVEL_" + this.level;
+  }
+
+  /**
+   * @param zstdLevels the zstd compression levels to evaluate, duplicates are ignored
+   * @param zstdDictionaryAvailable whether a zstd dictionary was built for this push job
+   * @return the candidates in a deterministic order: NO_OP, GZIP and then ZSTD_WITH_DICT in ascending level order
+   */
+  public static List<CompressionCandidate> getCandidates(List<Integer> zstdLevels, boolean zstdDictionaryAvailable) {
+    List<CompressionCandidate> candidates = new ArrayList<>();
+    candidates.add(new CompressionCandidate(CompressionStrategy.NO_OP, LEVEL_NOT_APPLICABLE));
+    candidates.add(new CompressionCandidate(CompressionStrategy.GZIP, LEVEL_NOT_APPLICABLE));
+    if (zstdDictionaryAvailable) {
+      for (int level: new TreeSet<>(zstdLevels)) {
+        candidates.add(new CompressionCandidate(CompressionStrategy.ZSTD_WITH_DICT, level));
+      }
+    }
+    return candidates;
+  }
+
+  public CompressionStrategy getCompressionStrategy() {
+    return compressionStrategy;
+  }
+
+  public int getLevel() {
+    return level;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    CompressionCandidate that = (CompressionCandidate) o;
+    return level == that.level && compressionStrategy == that.compressionStrategy;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(compressionStrategy, level);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -0,0 +1,114 @@
+package com.linkedin.venice.hadoop;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.hadoop.mapred.Counters;
+
+
+/**
+ * Picks the compression strategy for a store based on the sampled trial compression counters reported by
+ * {@link SampledCompressionEvaluator}.
+ *
+ * The objective is to minimize the stored size under a decompression latency budget: candidates whose average
+ * decompression latency per sampled record exceeds {@code maxDecompressionLatencyUs} are not eligible, and among the
+ * eligible ones the candidate with the smallest estimated size wins. Ties are broken by the lower decompression
+ * latency. {@link com.linkedin.venice.compression.CompressionStrategy#NO_OP} is always eligible.
+ *
+ * Only the strategy can be applied to the store, while the zstd level is decided by the config of each push job, so
+ * the zstd candidates at a level other than the one the push jobs compress with are estimated and reported, but never
+ * selected.
+ */
+public class CompressionStrategySelector {
+  private final double maxDecompressionLatencyUs;
+  private final int applicableZstdLevel;
+
+  public CompressionStrategySelector(double maxDecompressionLatencyUs, int applicableZstdLevel) {
+    this.maxDecompressionLatencyUs = maxDecompressionLatencyUs;
+    this.applicableZstdLevel = applicableZstdLevel;
+  }
+
+  /**
+   * @return the selection, or null if there are no sampled records to select from
+   */
+  public Selection select(Counters counters, List<CompressionCandidate> candidates, long totalUncompressedValueSize) {
+    long sampledRecords = MRJobCounterHelper.getSampledRecordCount(counters);
+    long sampledUncompressedSize = MRJobCounterHelper.getSampledUncompressedValueSize(counters);
+    if (sampledRecords <= 0 || sampledUncompressedSize <= 0) {
+      return null;
+    }
+    Map<CompressionCandidate, Long> sampledSizes = new LinkedHashMap<>();
+    Map<CompressionCandidate, Long> decompressionLatenciesNs = new LinkedHashMap<>();
+    for (CompressionCandidate candidate: candidates) {
+      long sampledSize = MRJobCounterHelper.getSampledCompressedValueSize(counters, candidate);
+      if (sampledSize <= 0) {
+        // Not evaluated, eg: trial compression failed for all sampled records
+        continue;
+      }
+      sampledSizes.put(candidate, sampledSize);
+      decompressionLatenciesNs.put(candidate, MRJobCounterHelper.getSampledDecompressionLatencyNs(counters, candidate));
+    }
+    return select(
+        sampledRecords,
+        sampledUncompressedSize,
+        sampledSizes,
+        decompressionLatenciesNs,
+        totalUncompressedValueSize);
+  }
+
+  Selection select(
+      long sampledRecords,
+      long sampledUncompressedSize,
+      Map<CompressionCandidate, Long> sampledSizes,
+      Map<CompressionCandidate, Long> decompressionLatenciesNs,
+      long totalUncompressedValueSize) {
+    Map<CompressionCandidate, Long> estimatedSizes = new LinkedHashMap<>();
+    CompressionCandidate best = null;
+    long bestSize = Long.MAX_VALUE;
+    double bestLatencyUs = Double.MAX_VALUE;
+    for (Map.Entry<CompressionCandidate, Long> entry: sampledSizes.entrySet()) {
+      CompressionCandidate candidate = entry.getKey();
+      long estimatedSize = (long) ((double) entry.getValue() / sampledUncompressedSize * totalUncompressedValueSize);
+      estimatedSizes.put(candidate, estimatedSize);
+      double avgLatencyUs = decompressionLatenciesNs.getOrDefault(candidate, 0L) / 1000.0 / sampledRecords;
+      boolean applicable = candidate.getLevel() == CompressionCandidate.LEVEL_NOT_APPLICABLE
+          || candidate.getLevel() == applicableZstdLevel;
+      boolean eligible =
+          !candidate.getCompressionStrategy().isCompressionEnabled() || avgLatencyUs <= maxDecompressionLatencyUs;
+      if (!applicable || !eligible) {
+        continue;
+      }
+      if (estimatedSize < bestSize || (estimatedSize == bestSize && avgLatencyUs < bestLatencyUs)) {
+        best = candidate;
+        bestSize = estimatedSize;
+        bestLatencyUs = avgLatencyUs;
+      }
+    }
+    if (best == null) {
+      return null;
+    }
+    return new Selection(best, estimatedSizes);
+  }
+
+  public static class Selection {
+    private final CompressionCandidate selectedCandidate;
+    private final Map<CompressionCandidate, Long> estimatedCompressedSizes;
+
+    Selection(CompressionCandidate selectedCandidate, Map<CompressionCandidate, Long> estimatedCompressedSizes) {
+      this.selectedCandidate = selectedCandidate;
+      this.estimatedCompressedSizes = Collections.unmodifiableMap(estimatedCompressedSizes);
+    }
+
+    public CompressionCandidate getSelectedCandidate() {
+      return selectedCandidate;
+    }
+
+    /**
+     * @return the estimated total compressed value size of each evaluated candidate, for the whole push
+     */
+    public Map<CompressionCandidate, Long> getEstimatedCompressedSizes() {
+      return estimatedCompressedSizes;
+    }
+  }
+}
@@ -19,6 +19,12 @@ public class MRJobCounterHelper {
   private static final String COUNTER_TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE =
       "total ZSTD with dictionary compressed value size";
 
+  private static final String COUNTER_GROUP_COMPRESSION_SAMPLING = "Compression sampling";
+  private static final String COUNTER_SAMPLED_RECORDS = "sampled records";
+  private static final String COUNTER_SAMPLED_UNCOMPRESSED_VALUE_SIZE = "sampled uncompressed value size";
+  private static final String COUNTER_SAMPLED_COMPRESSED_VALUE_SIZE_SUFFIX = " compressed value size";
+  private static final String COUNTER_SAMPLED_DECOMPRESSION_LATENCY_NS_SUFFIX = " decompression latency ns";
+
   private static final String COUNTER_GROUP_KAFKA = "Kafka";
   private static final String COUNTER_OUTPUT_RECORDS = "Output Records";
   private static final String EMPTY_RECORD = "empty record";
@@ -67,6 +73,12 @@ public class MRJobCounterHelper {
   static final GroupAndCounterNames TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME =
       new GroupAndCounterNames(COUNTER_GROUP_QUOTA, COUNTER_TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE);
 
+  static final GroupAndCounterNames SAMPLED_RECORDS_GROUP_COUNTER_NAME =
+      new GroupAndCounterNames(COUNTER_GROUP_COMPRESSION_SAMPLING, COUNTER_SAMPLED_RECORDS);
+
+  static final GroupAndCounterNames SAMPLED_UNCOMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME =
+      new GroupAndCounterNames(COUNTER_GROUP_COMPRESSION_SAMPLING, COUNTER_SAMPLED_UNCOMPRESSED_VALUE_SIZE);
+
   static final GroupAndCounterNames DUP_KEY_WITH_IDENTICAL_VALUE_GROUP_COUNTER_NAME =
       new GroupAndCounterNames(COUNTER_GROUP_DATA_QUALITY, DUPLICATE_KEY_WITH_IDENTICAL_VALUE);
 
@@ -158,6 +170,22 @@ public class MRJobCounterHelper {
     incrAmountWithGroupCounterName(reporter, TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME, amount);
   }
 
+  static void incrSampledRecordCount(Reporter reporter, long amount) {
+    incrAmountWithGroupCounterName(reporter, SAMPLED_RECORDS_GROUP_COUNTER_NAME, amount);
+  }
+
+  static void incrSampledUncompressedValueSize(Reporter reporter, long amount) {
+    incrAmountWithGroupCounterName(reporter, SAMPLED_UNCOMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME, amount);
+  }
+
+  static void incrSampledCompressedValueSize(Reporter reporter, CompressionCandidate candidate, long amount) {
+    incrAmountWithGroupCounterName(reporter, getSampledCompressedValueSizeGroupCounterName(candidate), amount);
+  }
+
+  static void incrSampledDecompressionLatencyNs(Reporter reporter, CompressionCandidate candidate, long amount) {
+    incrAmountWithGroupCounterName(reporter, getSampledDecompressionLatencyNsGroupCounterName(candidate), amount);
+  }
+
   static void incrDuplicateKeyWithIdenticalValue(Reporter reporter, long amount) {
     incrAmountWithGroupCounterName(reporter, DUP_KEY_WITH_IDENTICAL_VALUE_GROUP_COUNTER_NAME, amount);
   }
@@ -246,6 +274,34 @@ public class MRJobCounterHelper {
     return getCountFromCounters(counters, TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME);
   }
 
+  static long getSampledRecordCount(Counters counters) {
+    return getCountFromCounters(counters, SAMPLED_RECORDS_GROUP_COUNTER_NAME);
+  }
+
+  static long getSampledUncompressedValueSize(Counters counters) {
+    return getCountFromCounters(counters, SAMPLED_UNCOMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME);
+  }
+
+  static long getSampledCompressedValueSize(Counters counters, CompressionCandidate candidate) {
+    return getCountFromCounters(counters, getSampledCompressedValueSizeGroupCounterName(candidate));
+  }
+
+  static long getSampledDecompressionLatencyNs(Counters counters, CompressionCandidate candidate) {
+    return getCountFromCounters(counters, getSampledDecompressionLatencyNsGroupCounterName(candidate));
+  }
+
+  static GroupAndCounterNames getSampledCompressedValueSizeGroupCounterName(CompressionCandidate candidate) {
+    return new GroupAndCounterNames(
+        COUNTER_GROUP_COMPRESSION_SAMPLING,
+        candidate.getName() + COUNTER_SAMPLED_COMPRESSED_VALUE_SIZE_SUFFIX);
+  }
+
+  static GroupAndCounterNames getSampledDecompressionLatencyNsGroupCounterName(CompressionCandidate candidate) {
+    return new GroupAndCounterNames(
+        COUNTER_GROUP_COMPRESSION_SAMPLING,
+        candidate.getName() + COUNTER_SAMPLED_DECOMPRESSION_LATENCY_NS_SUFFIX);
+  }
+
   static long getTotalPutOrDeleteRecordsCount(Counters counters) {
     return getCountFromCounters(counters, TOTAL_PUT_OR_DELETE_COUNT_GROUP_COUNTER_NAME);
   }
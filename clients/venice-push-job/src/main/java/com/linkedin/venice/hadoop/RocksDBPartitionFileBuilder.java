@@ -0,0 +1,139 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.store.rocksdb.PartitionFileManifest;
+import com.linkedin.venice.store.rocksdb.PartitionFileStagingArea;
+import java.io.Closeable;
+import java.io.File;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.CompressionType;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+
+
+/**
+ * This class builds the sorted and compressed SST files of a partition of a store version into a
+ * {@link PartitionFileStagingArea}, which get ingested by the RocksDB storage partitions of the replicas once they
+ * receive the End of Push pointing to the staging area. It's used by the push jobs writing their records into the
+ * staging area instead of the version topic.
+ *
+ * The records need to be put in strictly ascending order of the key bytes, with the keys and values in the exact
+ * format stored by the storage nodes, which means the values are prefixed by their schema id and compressed with the
+ * compression strategy of the version already. A new file is started once the current one reaches the max file size,
+ * and {@link #finish()} writes the {@link PartitionFileManifest} of the partition after the last file, along with the
+ * record count and the checksum of every file, which the replicas verify before ingesting it.
+ */
+@NotThreadSafe
+public class RocksDBPartitionFileBuilder implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(RocksDBPartitionFileBuilder.class);
+  private static final String FILE_NAME_FORMAT = "partition_file_%d.sst";
+
+  private final PartitionFileStagingArea stagingArea;
+  private final int partitionId;
+  private final long maxFileSizeInBytes;
+  private final EnvOptions envOptions;
+  private final Options options;
+  private final PartitionFileManifest manifest = new PartitionFileManifest();
+
+  private SstFileWriter currentSSTFileWriter = null;
+  private String currentFileName;
+  private long recordNumInCurrentFile = 0;
+  private long bytesInCurrentFile = 0;
+  private boolean finished = false;
+
+  public RocksDBPartitionFileBuilder(
+      PartitionFileStagingArea stagingArea,
+      int partitionId,
+      CompressionType compressionType,
+      long maxFileSizeInBytes) {
+    this.stagingArea = stagingArea;
+    this.partitionId = partitionId;
+    this.maxFileSizeInBytes = maxFileSizeInBytes;
+    this.envOptions = new EnvOptions();
+    this.options = new Options();
+    this.options.setCompressionType(compressionType);
+  }
+
+  public void put(byte[] key, byte[] value) {
+    if (finished) {
+      throw new VeniceException("The partition files of partition: " + partitionId + " are finished already");
+    }
+    try {
+      if (currentSSTFileWriter == null) {
+        openNextFile();
+      }
+      currentSSTFileWriter.put(key, value);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to put the record into partition file: " + currentFileName
+              + ", the keys need to be put in strictly ascending order",
+          e);
+    }
+    ++recordNumInCurrentFile;
+    bytesInCurrentFile += key.length + value.length;
+    if (bytesInCurrentFile >= maxFileSizeInBytes) {
+      finishCurrentFile();
+    }
+  }
+
+  /**
+   * Finishes the last file, and writes the manifest of the partition, which makes the partition files visible.
+   */
+  public PartitionFileManifest finish() {
+    if (!finished) {
+      finishCurrentFile();
+      stagingArea.writeManifest(partitionId, manifest);
+      finished = true;
+      LOGGER.info(
+          "Finished {} partition files for partition: {} in staging area: {}",
+          manifest.getFiles().size(),
+          partitionId,
+          stagingArea);
+    }
+    return manifest;
+  }
+
+  @Override
+  public void close() {
+    if (currentSSTFileWriter != null) {
+      currentSSTFileWriter.close();
+      currentSSTFileWriter = null;
+    }
+    options.close();
+    envOptions.close();
+  }
+
+  private void openNextFile() throws RocksDBException {
+    currentFileName = String.format(FILE_NAME_FORMAT, manifest.getFiles().size());
+    currentSSTFileWriter = new SstFileWriter(envOptions, options);
+    currentSSTFileWriter.open(getCurrentFile().getAbsolutePath());
+  }
+
+  private File getCurrentFile() {
+    return new File(stagingArea.getPartitionDir(partitionId), currentFileName);
+  }
+
+  private void finishCurrentFile() {
+    if (currentSSTFileWriter == null) {
+      return;
+    }
+    try {
+      currentSSTFileWriter.finish();
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to finish partition file: " + currentFileName, e);
+    } finally {
+      currentSSTFileWriter.close();
+      currentSSTFileWriter = null;
+    }
+    manifest.addFile(
+        currentFileName,
+        recordNumInCurrentFile,
+        PartitionFileManifest.computeChecksum(getCurrentFile()));
+    recordNumInCurrentFile = 0;
+    bytesInCurrentFile = 0;
+  }
+}
@@ -0,0 +1,90 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.VeniceCompressor;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Trial compresses a sampled fraction of the records processed by a mapper with every {@link CompressionCandidate}
+ * and reports the compressed size and the decompression latency of each candidate via MR counters. The VPJ driver
+ * aggregates these counters across mappers to pick a compression strategy via {@link CompressionStrategySelector}.
+ *
+ * Sampling is deterministic: every {@link #getSamplingInterval()}-th record is evaluated. The legacy
+ * GZIP/ZSTD_WITH_DICT total size counters are extrapolated from the sampled records by multiplying the sampled size
+ * with the sampling interval, so they stay exact when the sampling ratio is 1.
+ *
+ * The compressors are owned by the caller.
+ */
+public class SampledCompressionEvaluator {
+  private static final Logger LOGGER = LogManager.getLogger(SampledCompressionEvaluator.class);
+
+  private final Map<CompressionCandidate, VeniceCompressor> compressors;
+  private final int samplingInterval;
+  /** The candidate reported via the legacy {@link MRJobCounterHelper#incrTotalZstdCompressedValueSize} counter */
+  private final CompressionCandidate legacyZstdCandidate;
+  private long recordCount = 0;
+
+  /**
+   * @param compressors the candidates to evaluate along with the compressor to use for each of them
+   * @param samplingRatio the fraction of the records to evaluate, within (0, 1]
+   * @param legacyZstdLevel the zstd level whose result is reported via the legacy total zstd size counter
+   */
+  public SampledCompressionEvaluator(
+      Map<CompressionCandidate, VeniceCompressor> compressors,
+      double samplingRatio,
+      int legacyZstdLevel) {
+    if (samplingRatio <= 0 || samplingRatio > 1) {
+      throw new IllegalArgumentException("Sampling ratio should be within (0, 1], but got: " + samplingRatio);
+    }
+    this.compressors = new LinkedHashMap<>(compressors);
+    this.samplingInterval = (int) Math.max(1, Math.round(1 / samplingRatio));
+    this.legacyZstdCandidate = new CompressionCandidate(CompressionStrategy.ZSTD_WITH_DICT, legacyZstdLevel);
+  }
+
+  public int getSamplingInterval() {
+    return samplingInterval;
+  }
+
+  /**
+   * @return true if the next record should be passed to {@link #evaluate}
+   */
+  public boolean shouldSample() {
+    return recordCount++ % samplingInterval == 0;
+  }
+
+  public void evaluate(byte[] value, Reporter reporter) {
+    MRJobCounterHelper.incrSampledRecordCount(reporter, 1);
+    MRJobCounterHelper.incrSampledUncompressedValueSize(reporter, value.length);
+
+    for (Map.Entry<CompressionCandidate, VeniceCompressor> entry: compressors.entrySet()) {
+      CompressionCandidate candidate = entry.getKey();
+      VeniceCompressor compressor = entry.getValue();
+      byte[] compressedValue;
+      long decompressionLatencyNs;
+      try {
+        compressedValue = compressor.compress(value);
+        long decompressionStartNs = System.nanoTime();
+        compressor.decompress(compressedValue, 0, compressedValue.length);
+        decompressionLatencyNs = System.nanoTime() - decompressionStartNs;
+      } catch (IOException e) {
+        LOGGER.warn("Trial compression failed for compression candidate: {}", candidate, e);
+        continue;
+      }
+      MRJobCounterHelper.incrSampledCompressedValueSize(reporter, candidate, compressedValue.length);
+      MRJobCounterHelper.incrSampledDecompressionLatencyNs(reporter, candidate, decompressionLatencyNs);
+
+      long extrapolatedSize = (long) compressedValue.length * samplingInterval;
+      if (candidate.getCompressionStrategy() == CompressionStrategy.GZIP) {
+        MRJobCounterHelper.incrTotalGzipCompressedValueSize(reporter, extrapolatedSize);
+      } else if (candidate.equals(legacyZstdCandidate)) {
+        MRJobCounterHelper.incrTotalZstdCompressedValueSize(reporter, extrapolatedSize);
+      }
+    }
+  }
+}
@@ -31,6 +31,7 @@ import com.linkedin.venice.controllerapi.MultiSchemaResponse;
 import com.linkedin.venice.controllerapi.RepushInfoResponse;
 import com.linkedin.venice.controllerapi.SchemaResponse;
 import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.controllerapi.UpdateStoreQueryParams;
 import com.linkedin.venice.controllerapi.VersionCreationResponse;
 import com.linkedin.venice.etl.ETLValueSchemaTransformation;
 import com.linkedin.venice.exceptions.ErrorType;
@@ -76,6 +77,8 @@ import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.status.PushJobDetailsStatus;
 import com.linkedin.venice.status.protocol.PushJobDetails;
 import com.linkedin.venice.status.protocol.PushJobDetailsStatusTuple;
+import com.linkedin.venice.store.rocksdb.PartitionFileManifest;
+import com.linkedin.venice.store.rocksdb.PartitionFileStagingArea;
 import com.linkedin.venice.utils.AvroSupersetSchemaUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DictionaryUtils;
@@ -86,6 +89,7 @@ import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.lazy.Lazy;
+import com.linkedin.venice.views.MaterializedRekeyView;
 import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import com.linkedin.venice.writer.VeniceWriterOptions;
@@ -105,6 +109,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.mapred.AvroInputFormat;
@@ -169,6 +174,19 @@ public class VenicePushJob implements AutoCloseable {
   public static final String SOURCE_ETL = "source.etl";
   public static final String ETL_VALUE_SCHEMA_TRANSFORMATION = "etl.value.schema.transformation";
 
+  /**
+   * The URI of a {@link PartitionFileStagingArea} reachable by the storage nodes. When set, the reducers build the SST
+   * files of their partitions in the sub directory of the staging area named after the version topic, instead of
+   * producing the records to the version topic, and the End of Push points the replicas to it. Only the batch pushes
+   * of the stores without active/active replication are supported.
+   */
+  public static final String PARTITION_FILE_STAGING_AREA_URI = "partition.file.staging.area.uri";
+  /**
+   * The size after which the reducers start a new partition file, refer {@link #PARTITION_FILE_STAGING_AREA_URI}.
+   */
+  public static final String PARTITION_FILE_MAX_SIZE_IN_BYTES = "partition.file.max.size.in.bytes";
+  public static final long DEFAULT_PARTITION_FILE_MAX_SIZE_IN_BYTES = 256 * 1024 * 1024;
+
   /**
    *  Config to enable/disable the feature to collect extra metrics wrt compression.
    *  Enabling this collects metrics for all compression strategies regardless of
@@ -185,6 +203,42 @@ public class VenicePushJob implements AutoCloseable {
   public static final String COMPRESSION_METRIC_COLLECTION_ENABLED = "compression.metric.collection.enabled";
   public static final boolean DEFAULT_COMPRESSION_METRIC_COLLECTION_ENABLED = false;
 
+  /**
+   * The fraction of records, within (0, 1], which are trial compressed with every compression candidate when
+   * {@link #COMPRESSION_METRIC_COLLECTION_ENABLED} is enabled. The total compressed sizes are extrapolated from the
+   * sampled records, so lowering this trades the accuracy of the metrics for the mapper CPU spent on them.
+   */
+  public static final String COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO =
+      "compression.metric.collection.sampling.ratio";
+  public static final double DEFAULT_COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO = 1.0;
+
+  /**
+   * Comma separated list of additional zstd compression levels to evaluate with the trial compression, on top of
+   * {@link #ZSTD_COMPRESSION_LEVEL}. Only applicable when {@link #COMPRESSION_METRIC_COLLECTION_ENABLED} is enabled.
+   * The estimated sizes of these levels are only reported in the push job details: the zstd level is a push job
+   * config rather than a store config, so {@link CompressionStrategySelector} only considers
+   * {@link #ZSTD_COMPRESSION_LEVEL}, which is the level the subsequent pushes compress with.
+   */
+  public static final String COMPRESSION_METRIC_COLLECTION_ZSTD_LEVELS = "compression.metric.collection.zstd.levels";
+
+  /**
+   * Config to enable updating the store compression strategy with the one selected by the trial compression (refer
+   * {@link CompressionStrategySelector}) once the push job completes successfully. The selected strategy is always
+   * recorded in the push job details when {@link #COMPRESSION_METRIC_COLLECTION_ENABLED} is enabled, but the version
+   * being pushed keeps the compression strategy which was picked when its topic was created, so the selection only
+   * applies to the subsequent versions.
+   */
+  public static final String COMPRESSION_STRATEGY_SELECTION_ENABLED = "compression.strategy.selection.enabled";
+  public static final boolean DEFAULT_COMPRESSION_STRATEGY_SELECTION_ENABLED = false;
+
+  /**
+   * Candidates with an average decompression latency per record above this threshold are not selected by
+   * {@link CompressionStrategySelector}.
+   */
+  public static final String COMPRESSION_STRATEGY_SELECTION_MAX_DECOMPRESSION_LATENCY_US =
+      "compression.strategy.selection.max.decompression.latency.us";
+  public static final double DEFAULT_COMPRESSION_STRATEGY_SELECTION_MAX_DECOMPRESSION_LATENCY_US = 1000;
+
   /**
    * Config to enable/disable using mapper to do the below which are currently done in VPJ driver <br>
    * 1. validate schema, <br>
@@ -482,6 +536,7 @@ public class VenicePushJob implements AutoCloseable {
   private String validateSchemaAndBuildDictMapperOutputDirectory;
   private boolean isZstdDictCreationRequired = false;
   private boolean isZstdDictCreationSuccess = false;
+  private CompressionStrategySelector.Selection compressionStrategySelection;
 
   protected static class PushJobSetting {
     boolean enablePush;
@@ -517,6 +572,16 @@ public class VenicePushJob implements AutoCloseable {
     boolean extendedSchemaValidityCheckEnabled;
     /** Refer {@link #COMPRESSION_METRIC_COLLECTION_ENABLED} **/
     boolean compressionMetricCollectionEnabled;
+    /** Refer {@link #COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO} **/
+    double compressionMetricCollectionSamplingRatio;
+    /** Refer {@link #COMPRESSION_METRIC_COLLECTION_ZSTD_LEVELS} **/
+    List<Integer> compressionMetricCollectionZstdLevels;
+    /** Refer {@link #ZSTD_COMPRESSION_LEVEL} **/
+    int zstdCompressionLevel;
+    /** Refer {@link #COMPRESSION_STRATEGY_SELECTION_ENABLED} **/
+    boolean compressionStrategySelectionEnabled;
+    /** Refer {@link #COMPRESSION_STRATEGY_SELECTION_MAX_DECOMPRESSION_LATENCY_US} **/
+    double compressionStrategySelectionMaxDecompressionLatencyUs;
     /** Refer {@link #USE_MAPPER_TO_BUILD_DICTIONARY} **/
     boolean useMapperToBuildDict;
     String useMapperToBuildDictOutputPath;
@@ -535,6 +600,10 @@ public class VenicePushJob implements AutoCloseable {
     String targetedRegions;
     boolean isTargetedRegionPushEnabled;
     boolean postValidationConsumption;
+    /** Refer {@link #PARTITION_FILE_STAGING_AREA_URI} **/
+    String partitionFileStagingAreaUri;
+    /** Refer {@link #PARTITION_FILE_MAX_SIZE_IN_BYTES} **/
+    long partitionFileMaxSizeInBytes;
   }
 
   protected PushJobSetting pushJobSetting;
@@ -725,6 +794,32 @@ public class VenicePushJob implements AutoCloseable {
       throw new VeniceException("Repush with TTL is only supported while using Kafka Input Format");
     }
 
+    if (props.containsKey(PARTITION_FILE_STAGING_AREA_URI)) {
+      // Fail fast on the staging areas which can't be used
+      pushJobSettingToReturn.partitionFileStagingAreaUri =
+          PartitionFileStagingArea.fromUri(props.getString(PARTITION_FILE_STAGING_AREA_URI)).getUri();
+      pushJobSettingToReturn.partitionFileMaxSizeInBytes =
+          props.getLong(PARTITION_FILE_MAX_SIZE_IN_BYTES, DEFAULT_PARTITION_FILE_MAX_SIZE_IN_BYTES);
+      if (pushJobSettingToReturn.isIncrementalPush || pushJobSettingToReturn.isSourceKafka
+          || pushJobSettingToReturn.enableWriteCompute) {
+        throw new VeniceException(
+            "Partition file staging area is only supported for batch push, which doesn't use Kafka Input Format");
+      }
+      if (pushJobSettingToReturn.suppressEndOfPushMessage) {
+        throw new VeniceException("Partition file staging area requires End of Push to point the replicas to it");
+      }
+      if (pushJobSettingToReturn.isTargetedRegionPushEnabled) {
+        throw new VeniceException(
+            "Targeted region push is not supported with partition file staging area, since the other regions "
+                + "copy the records from the version topic");
+      }
+      if (pushJobSettingToReturn.enableReducerSpeculativeExecution) {
+        throw new VeniceException(
+            "Reducer speculative execution is not supported with partition file staging area, since the attempts "
+                + "would write the same partition files");
+      }
+    }
+
     final String D2_PREFIX = "d2://";
     if (pushJobSettingToReturn.veniceControllerUrl.startsWith(D2_PREFIX)) {
       pushJobSettingToReturn.d2Routing = true;
@@ -808,6 +903,31 @@ public class VenicePushJob implements AutoCloseable {
           COMPRESSION_METRIC_COLLECTION_ENABLED);
       pushJobSettingToReturn.useMapperToBuildDict = true;
     }
+    pushJobSettingToReturn.compressionMetricCollectionSamplingRatio = props.getDouble(
+        COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO,
+        DEFAULT_COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO);
+    if (pushJobSettingToReturn.compressionMetricCollectionSamplingRatio <= 0
+        || pushJobSettingToReturn.compressionMetricCollectionSamplingRatio > 1) {
+      throw new VeniceException(
+          COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO + " should be within (0, 1], but got: "
+              + pushJobSettingToReturn.compressionMetricCollectionSamplingRatio);
+    }
+    pushJobSettingToReturn.compressionMetricCollectionZstdLevels = parseZstdCompressionLevels(
+        props.getList(COMPRESSION_METRIC_COLLECTION_ZSTD_LEVELS, Collections.emptyList()));
+    pushJobSettingToReturn.zstdCompressionLevel = props.getInt(ZSTD_COMPRESSION_LEVEL, Zstd.maxCompressionLevel());
+    pushJobSettingToReturn.compressionMetricCollectionZstdLevels.add(pushJobSettingToReturn.zstdCompressionLevel);
+    pushJobSettingToReturn.compressionStrategySelectionEnabled =
+        props.getBoolean(COMPRESSION_STRATEGY_SELECTION_ENABLED, DEFAULT_COMPRESSION_STRATEGY_SELECTION_ENABLED);
+    pushJobSettingToReturn.compressionStrategySelectionMaxDecompressionLatencyUs = props.getDouble(
+        COMPRESSION_STRATEGY_SELECTION_MAX_DECOMPRESSION_LATENCY_US,
+        DEFAULT_COMPRESSION_STRATEGY_SELECTION_MAX_DECOMPRESSION_LATENCY_US);
+    if (pushJobSettingToReturn.compressionStrategySelectionEnabled
+        && !pushJobSettingToReturn.compressionMetricCollectionEnabled) {
+      LOGGER.warn(
+          "\"{}\" has no effect as \"{}\" is not enabled",
+          COMPRESSION_STRATEGY_SELECTION_ENABLED,
+          COMPRESSION_METRIC_COLLECTION_ENABLED);
+    }
     if (pushJobSettingToReturn.useMapperToBuildDict) {
       pushJobSettingToReturn.useMapperToBuildDictOutputPath = props
           .getString(MAPPER_OUTPUT_DIRECTORY, VALIDATE_SCHEMA_AND_BUILD_DICTIONARY_MAPPER_OUTPUT_PARENT_DIR_DEFAULT);
@@ -1142,7 +1262,12 @@ public class VenicePushJob implements AutoCloseable {
           }
           runJobAndUpdateStatus();
 
-          if (!pushJobSetting.suppressEndOfPushMessage) {
+          if (pushJobSetting.partitionFileStagingAreaUri != null) {
+            PartitionFileStagingArea stagingArea = getPartitionFileStagingArea(kafkaTopicInfo);
+            finishPartitionFileStagingArea(stagingArea);
+            // Only the VeniceWriter can send the location of the staging area along with the End of Push
+            getVeniceWriter(kafkaTopicInfo).broadcastEndOfPush(stagingArea.getEndOfPushDebugInfo());
+          } else if (!pushJobSetting.suppressEndOfPushMessage) {
             if (pushJobSetting.sendControlMessagesDirectly) {
               getVeniceWriter(kafkaTopicInfo).broadcastEndOfPush(Collections.emptyMap());
             } else {
@@ -1178,6 +1303,7 @@ public class VenicePushJob implements AutoCloseable {
         updatePushJobDetailsWithConfigs();
         updatePushJobDetailsWithLivenessHeartbeatException(pushJobHeartbeatSender);
         sendPushJobDetailsToController();
+        maybeUpdateStoreWithSelectedCompressionStrategy();
 
         // only kick off the validation and post-validation flow when everything has to be done in a single VPJ
         if (!(pushJobSetting.isTargetedRegionPushEnabled && pushJobSetting.postValidationConsumption)) {
@@ -1364,6 +1490,34 @@ public class VenicePushJob implements AutoCloseable {
     updatePushJobDetailsWithCheckpoint(PushJobCheckpoints.MAP_REDUCE_JOB_COMPLETED);
   }
 
+  private PartitionFileStagingArea getPartitionFileStagingArea(TopicInfo topicInfo) {
+    return PartitionFileStagingArea.fromUri(pushJobSetting.partitionFileStagingAreaUri).resolve(topicInfo.topic);
+  }
+
+  /**
+   * Writes an empty manifest for the partitions which didn't get any record, so every replica finds the manifest of
+   * its partition once it receives the End of Push, and makes sure the manifests cover all the records written by the
+   * reducers.
+   */
+  private void finishPartitionFileStagingArea(PartitionFileStagingArea stagingArea) throws IOException {
+    long recordCount = 0;
+    for (int partitionId = 0; partitionId < kafkaTopicInfo.partitionCount; partitionId++) {
+      if (!stagingArea.hasManifest(partitionId)) {
+        stagingArea.writeManifest(partitionId, new PartitionFileManifest());
+      }
+      for (PartitionFileManifest.PartitionFile partitionFile: stagingArea.readManifest(partitionId).getFiles()) {
+        recordCount += partitionFile.getRecordCount();
+      }
+    }
+    long outputRecordCount = MRJobCounterHelper.getOutputRecordsCount(runningJob.getCounters());
+    if (recordCount != outputRecordCount) {
+      throw new VeniceException(
+          "The partition files in staging area: " + stagingArea + " have " + recordCount
+              + " records, while the reducers wrote " + outputRecordCount + " records");
+    }
+    LOGGER.info("Wrote {} records into partition file staging area: {}", recordCount, stagingArea);
+  }
+
   private void validateCountersAfterPush() throws IOException {
     final long reducerClosedCount = MRJobCounterHelper.getReducerClosedCount(runningJob.getCounters());
     if (inputFileHasRecords) {
@@ -1508,6 +1662,33 @@ public class VenicePushJob implements AutoCloseable {
     }
   }
 
+  /**
+   * Parses the zstd compression levels of {@link #COMPRESSION_METRIC_COLLECTION_ZSTD_LEVELS}.
+   * @return a mutable list of the levels
+   */
+  static List<Integer> parseZstdCompressionLevels(List<String> levels) {
+    List<Integer> parsedLevels = new ArrayList<>(levels.size());
+    for (String level: levels) {
+      String trimmedLevel = level.trim();
+      if (trimmedLevel.isEmpty()) {
+        continue;
+      }
+      int parsedLevel;
+      try {
+        parsedLevel = Integer.parseInt(trimmedLevel);
+      } catch (NumberFormatException e) {
+        throw new VeniceException("Invalid zstd compression level: " + level, e);
+      }
+      if (parsedLevel < Zstd.minCompressionLevel() || parsedLevel > Zstd.maxCompressionLevel()) {
+        throw new VeniceException(
+            "Zstd compression level should be within [" + Zstd.minCompressionLevel() + ", "
+                + Zstd.maxCompressionLevel() + "], but got: " + parsedLevel);
+      }
+      parsedLevels.add(parsedLevel);
+    }
+    return parsedLevels;
+  }
+
   /**
    * This functions decides whether Zstd compression dictionary needs to be trained or not,
    * based on the type of push, configs and whether there are any input records or not, or
@@ -2019,6 +2200,8 @@ public class VenicePushJob implements AutoCloseable {
     pushJobDetails.totalKeyBytes = -1;
     pushJobDetails.totalRawValueBytes = -1;
     pushJobDetails.totalCompressedValueBytes = -1;
+    pushJobDetails.selectedCompressionStrategy = -1;
+    pushJobDetails.selectedZstdCompressionLevel = CompressionCandidate.LEVEL_NOT_APPLICABLE;
     pushJobDetails.failureDetails = "";
     pushJobDetails.pushJobLatestCheckpoint = PushJobCheckpoints.INITIALIZE_PUSH_JOB.getValue();
     pushJobDetails.pushJobConfigs = Collections.singletonMap(
@@ -2071,6 +2254,7 @@ public class VenicePushJob implements AutoCloseable {
           LOGGER.info("\tZstd Dictionary creation Failed");
         }
       }
+      updatePushJobDetailsWithCompressionStrategySelection();
     } catch (Exception e) {
       LOGGER.warn(
           "Exception caught while updating push job details with map reduce counters. {}",
@@ -2079,6 +2263,74 @@ public class VenicePushJob implements AutoCloseable {
     }
   }
 
+  /**
+   * Picks the compression strategy based on the sampled trial compression counters and records the decision in the
+   * push job details. Refer {@link CompressionStrategySelector}.
+   */
+  private void updatePushJobDetailsWithCompressionStrategySelection() throws IOException {
+    if (!pushJobSetting.compressionMetricCollectionEnabled) {
+      return;
+    }
+    List<CompressionCandidate> candidates = CompressionCandidate
+        .getCandidates(pushJobSetting.compressionMetricCollectionZstdLevels, isZstdDictCreationSuccess);
+    compressionStrategySelection = new CompressionStrategySelector(
+        pushJobSetting.compressionStrategySelectionMaxDecompressionLatencyUs,
+        pushJobSetting.zstdCompressionLevel)
+            .select(runningJob.getCounters(), candidates, pushJobDetails.totalRawValueBytes);
+    if (compressionStrategySelection == null) {
+      LOGGER.info("\tNo compression strategy is selected as no records were sampled");
+      return;
+    }
+    CompressionCandidate selectedCandidate = compressionStrategySelection.getSelectedCandidate();
+    pushJobDetails.selectedCompressionStrategy = selectedCandidate.getCompressionStrategy().getValue();
+    pushJobDetails.selectedZstdCompressionLevel = selectedCandidate.getLevel();
+    Map<CharSequence, Long> estimatedSizes = new HashMap<>();
+    for (Map.Entry<CompressionCandidate, Long> entry: compressionStrategySelection.getEstimatedCompressedSizes()
+        .entrySet()) {
+      estimatedSizes.put(entry.getKey().getName(), entry.getValue());
+      LOGGER.info(
+          "\tEstimated data size if compressed using {}: {} ",
+          entry.getKey(),
+          ByteUtils.generateHumanReadableByteCountString(entry.getValue()));
+    }
+    pushJobDetails.estimatedCompressedValueBytesByCandidate = estimatedSizes;
+    LOGGER.info("\tSelected compression strategy based on the sampled trial compression: {}", selectedCandidate);
+  }
+
+  /**
+   * Updates the store compression strategy with the one picked by
+   * {@link #updatePushJobDetailsWithCompressionStrategySelection} if {@link #COMPRESSION_STRATEGY_SELECTION_ENABLED}
+   * is enabled. Failing to update the store does not fail the push job as the data is already pushed successfully.
+   */
+  private void maybeUpdateStoreWithSelectedCompressionStrategy() {
+    if (!pushJobSetting.compressionStrategySelectionEnabled || compressionStrategySelection == null) {
+      return;
+    }
+    CompressionStrategy selectedStrategy =
+        compressionStrategySelection.getSelectedCandidate().getCompressionStrategy();
+    if (selectedStrategy == storeSetting.compressionStrategy) {
+      return;
+    }
+    LOGGER.info(
+        "Updating compression strategy of store: {} from {} to {}",
+        pushJobSetting.storeName,
+        storeSetting.compressionStrategy,
+        selectedStrategy);
+    ControllerResponse response = ControllerClient.retryableRequest(
+        controllerClient,
+        pushJobSetting.controllerRetries,
+        c -> c.updateStore(
+            pushJobSetting.storeName,
+            new UpdateStoreQueryParams().setCompressionStrategy(selectedStrategy)));
+    if (response.isError()) {
+      LOGGER.warn(
+          "Failed to update compression strategy of store: {}. {} Error: {}",
+          pushJobSetting.storeName,
+          NON_CRITICAL_EXCEPTION,
+          response.getError());
+    }
+  }
+
   /**
    * Configs should only be attached to the last event for a store version due to the size of these configs. i.e. should
    * only be attached when the overall status is a terminal state.
@@ -2496,6 +2748,17 @@ public class VenicePushJob implements AutoCloseable {
       throw new VeniceException("Write compute is only available for incremental push jobs.");
     }
 
+    if (jobSetting.partitionFileStagingAreaUri != null && storeResponse.getStore().isActiveActiveReplicationEnabled()) {
+      // The partition files don't carry the replication metadata of the records
+      throw new VeniceException("Partition file staging area is not supported for active/active replication stores.");
+    }
+
+    if (!jobSetting.isIncrementalPush
+        && MaterializedRekeyView.hasMaterializedRekeyView(storeResponse.getStore().getViewConfigs())) {
+      // The batch records don't go through the conflict resolution, which is what writes the view
+      throw new VeniceException("Batch push is not supported for stores with a materialized rekey view.");
+    }
+
     if (jobSetting.enableWriteCompute && storeSetting.isWriteComputeEnabled) {
       /*
         If write compute is enabled, we would perform a topic switch from the controller and have the
@@ -2621,6 +2884,10 @@ public class VenicePushJob implements AutoCloseable {
     kafkaTopicInfo.chunkingEnabled = storeSetting.isChunkingEnabled && !Version.isRealTimeTopic(kafkaTopicInfo.topic);
     kafkaTopicInfo.rmdChunkingEnabled = kafkaTopicInfo.chunkingEnabled && storeSetting.isRmdChunkingEnabled;
     kafkaTopicInfo.kafkaSourceRegion = versionCreationResponse.getKafkaSourceRegion();
+    if (pushJobSetting.partitionFileStagingAreaUri != null && kafkaTopicInfo.amplificationFactor > 1) {
+      // The reducers write the partitions of their task ids, which are the sub-partitions with amplification
+      throw new VeniceException("Partition file staging area is not supported with amplification factor > 1");
+    }
 
     if (pushJobSetting.isSourceKafka) {
       /**
@@ -2953,6 +3220,14 @@ public class VenicePushJob implements AutoCloseable {
 
     /** compression related common configs */
     conf.setBoolean(COMPRESSION_METRIC_COLLECTION_ENABLED, pushJobSetting.compressionMetricCollectionEnabled);
+    conf.set(
+        COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO,
+        String.valueOf(pushJobSetting.compressionMetricCollectionSamplingRatio));
+    conf.set(
+        COMPRESSION_METRIC_COLLECTION_ZSTD_LEVELS,
+        pushJobSetting.compressionMetricCollectionZstdLevels.stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(",")));
     conf.setBoolean(ZSTD_DICTIONARY_CREATION_REQUIRED, isZstdDictCreationRequired);
   }
 
@@ -3149,6 +3424,11 @@ public class VenicePushJob implements AutoCloseable {
     }
     jobConf.setReduceSpeculativeExecution(pushJobSetting.enableReducerSpeculativeExecution);
     jobConf.setNumReduceTasks(topicInfo.partitionCount * topicInfo.amplificationFactor);
+    if (pushJobSetting.partitionFileStagingAreaUri != null) {
+      // The reducers get the staging area of the version
+      jobConf.set(PARTITION_FILE_STAGING_AREA_URI, getPartitionFileStagingArea(topicInfo).getUri());
+      jobConf.setLong(PARTITION_FILE_MAX_SIZE_IN_BYTES, pushJobSetting.partitionFileMaxSizeInBytes);
+    }
     jobConf.setMapOutputKeyClass(BytesWritable.class);
     jobConf.setMapOutputValueClass(BytesWritable.class);
     if (pushJobSetting.isSourceKafka) {
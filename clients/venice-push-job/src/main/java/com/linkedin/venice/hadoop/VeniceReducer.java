@@ -2,8 +2,11 @@ package com.linkedin.venice.hadoop;
 
 import static com.linkedin.venice.hadoop.VenicePushJob.ALLOW_DUPLICATE_KEY;
 import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_IS_DUPLICATED_KEY_ALLOWED;
+import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_PARTITION_FILE_MAX_SIZE_IN_BYTES;
 import static com.linkedin.venice.hadoop.VenicePushJob.DERIVED_SCHEMA_ID_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.ENABLE_WRITE_COMPUTE;
+import static com.linkedin.venice.hadoop.VenicePushJob.PARTITION_FILE_MAX_SIZE_IN_BYTES;
+import static com.linkedin.venice.hadoop.VenicePushJob.PARTITION_FILE_STAGING_AREA_URI;
 import static com.linkedin.venice.hadoop.VenicePushJob.STORAGE_QUOTA_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.TELEMETRY_MESSAGE_INTERVAL;
 import static com.linkedin.venice.hadoop.VenicePushJob.TOPIC_PROP;
@@ -23,7 +26,9 @@ import com.linkedin.venice.pubsub.adapter.kafka.producer.ApacheKafkaProducerAdap
 import com.linkedin.venice.pubsub.api.PubSubProduceResult;
 import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
 import com.linkedin.venice.serialization.DefaultSerializer;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
 import com.linkedin.venice.serialization.VeniceKafkaSerializer;
+import com.linkedin.venice.store.rocksdb.PartitionFileStagingArea;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.SystemTime;
@@ -65,6 +70,7 @@ import org.apache.hadoop.mapred.RunningJob;
 import org.apache.hadoop.util.Progressable;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.rocksdb.CompressionType;
 
 
 /**
@@ -77,6 +83,9 @@ import org.apache.logging.log4j.Logger;
  * 2. The overall BDB-JE insert rate will improve a lot since the disk usage will be reduced a lot (BINDelta will be
  * much smaller than before);
  *
+ * When {@link VenicePushJob#PARTITION_FILE_STAGING_AREA_URI} is set, the records are written into the SST files of
+ * the partition in the {@link PartitionFileStagingArea} of the version instead of being produced to Kafka, in the
+ * format stored by the storage nodes, see {@link #writeMessageToPartitionFile}.
  */
 public class VeniceReducer extends AbstractMapReduceTask
     implements Reducer<BytesWritable, BytesWritable, BytesWritable, BytesWritable> {
@@ -174,6 +183,10 @@ public class VeniceReducer extends AbstractMapReduceTask
   private final Set<Integer> partitionSet = ConcurrentHashMap.newKeySet();
   private DuplicateKeyPrinter duplicateKeyPrinter;
   private Exception sendException = null;
+  private PartitionFileStagingArea partitionFileStagingArea = null;
+  private long partitionFileMaxSizeInBytes;
+  private RocksDBPartitionFileBuilder partitionFileBuilder = null;
+  private final KeyWithChunkingSuffixSerializer keyWithChunkingSuffixSerializer = new KeyWithChunkingSuffixSerializer();
 
   /**
    * Visible for testing purpose
@@ -225,7 +238,9 @@ public class VeniceReducer extends AbstractMapReduceTask
     if (key.getLength() > VeniceMRPartitioner.EMPTY_KEY_LENGTH
         && (!hasReportedFailure(reporter, this.isDuplicateKeyAllowed))) {
       VeniceWriterMessage message = extract(key, values, reporter);
-      if (message != null) {
+      if (message != null && partitionFileStagingArea != null) {
+        writeMessageToPartitionFile(reporter, message);
+      } else if (message != null) {
         try {
           sendMessageToKafka(reporter, message.getConsumer());
         } catch (VeniceException e) {
@@ -364,6 +379,48 @@ public class VeniceReducer extends AbstractMapReduceTask
     MRJobCounterHelper.incrOutputRecordCount(reporter, 1);
   }
 
+  /**
+   * Writes the record in the format stored by the storage nodes, i.e. the key with the chunking suffix of a non-chunked
+   * value if chunking is enabled, and the value prefixed by its schema id. The records come sorted by the key bytes,
+   * which matches the order of the RocksDB bytewise comparator, and every reducer writes the partition of its task id.
+   */
+  protected void writeMessageToPartitionFile(Reporter reporter, VeniceWriterMessage message) {
+    if (partitionFileBuilder == null) {
+      // The values are compressed with the compression strategy of the version already
+      partitionFileBuilder = new RocksDBPartitionFileBuilder(
+          partitionFileStagingArea,
+          getTaskId(),
+          CompressionType.NO_COMPRESSION,
+          partitionFileMaxSizeInBytes);
+    }
+    byte[] keyBytes = isChunkingEnabled()
+        ? keyWithChunkingSuffixSerializer.serializeNonChunkedKey(message.getKeyBytes())
+        : message.getKeyBytes();
+    byte[] valueBytes = message.getValueBytes();
+    byte[] valueBytesWithSchemaId = new byte[ByteUtils.SIZE_OF_INT + valueBytes.length];
+    ByteUtils.writeInt(valueBytesWithSchemaId, message.getValueSchemaId(), 0);
+    System.arraycopy(valueBytes, 0, valueBytesWithSchemaId, ByteUtils.SIZE_OF_INT, valueBytes.length);
+    partitionFileBuilder.put(keyBytes, valueBytesWithSchemaId);
+    MRJobCounterHelper.incrOutputRecordCount(reporter, 1);
+  }
+
+  /**
+   * Writes the manifest of the partition files once all the records are written, which makes them visible to the
+   * replicas. The partitions without any record get an empty manifest from {@link VenicePushJob} after the job, which
+   * also checks the record counts of the manifests against the output record count of the reducers.
+   */
+  private void finishPartitionFile() {
+    if (partitionFileBuilder == null) {
+      return;
+    }
+    try {
+      partitionFileBuilder.finish();
+    } finally {
+      partitionFileBuilder.close();
+      partitionFileBuilder = null;
+    }
+  }
+
   private boolean updatePreviousReporter(Reporter reporter) {
     if (previousReporter == null || !previousReporter.equals(reporter)) {
       previousReporter = reporter;
@@ -438,6 +495,7 @@ public class VeniceReducer extends AbstractMapReduceTask
   @Override
   public void close() throws IOException {
     try {
+      finishPartitionFile();
       LOGGER.info("Kafka message progress before flushing and closing producer:");
       logMessageProgress();
       if (veniceWriter != null) {
@@ -483,6 +541,12 @@ public class VeniceReducer extends AbstractMapReduceTask
     this.duplicateKeyPrinter = initDuplicateKeyPrinter(job);
     this.telemetryMessageInterval = props.getInt(TELEMETRY_MESSAGE_INTERVAL, 10000);
     initStorageQuotaFields(props, job);
+    if (props.containsKey(PARTITION_FILE_STAGING_AREA_URI)) {
+      this.partitionFileStagingArea =
+          PartitionFileStagingArea.fromUri(props.getString(PARTITION_FILE_STAGING_AREA_URI));
+      this.partitionFileMaxSizeInBytes =
+          props.getLong(PARTITION_FILE_MAX_SIZE_IN_BYTES, DEFAULT_PARTITION_FILE_MAX_SIZE_IN_BYTES);
+    }
     /**
      * A dummy background task that reports progress every 5 minutes.
      */
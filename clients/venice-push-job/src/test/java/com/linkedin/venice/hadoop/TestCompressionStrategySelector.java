@@ -0,0 +1,92 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestCompressionStrategySelector {
+  private static final List<CompressionCandidate> CANDIDATES =
+      CompressionCandidate.getCandidates(Arrays.asList(3, 1), true);
+  private static final CompressionCandidate NO_OP = CANDIDATES.get(0);
+  private static final CompressionCandidate GZIP = CANDIDATES.get(1);
+  private static final CompressionCandidate ZSTD_LEVEL_1 = CANDIDATES.get(2);
+  private static final CompressionCandidate ZSTD_LEVEL_3 = CANDIDATES.get(3);
+
+  @Test
+  public void testCandidates() {
+    Assert.assertEquals(CANDIDATES.size(), 4);
+    Assert.assertEquals(NO_OP.getCompressionStrategy(), CompressionStrategy.NO_OP);
+    Assert.assertEquals(NO_OP.getLevel(), CompressionCandidate.LEVEL_NOT_APPLICABLE);
+    Assert.assertEquals(GZIP.getCompressionStrategy(), CompressionStrategy.GZIP);
+    Assert.assertEquals(ZSTD_LEVEL_1.getName(), "ZSTD_WITH_DICT_LEVEL_1");
+    Assert.assertEquals(ZSTD_LEVEL_3.getName(), "ZSTD_WITH_DICT_LEVEL_3");
+    // No zstd candidates without a dictionary
+    Assert.assertEquals(CompressionCandidate.getCandidates(Arrays.asList(3, 3), false).size(), 2);
+  }
+
+  @Test
+  public void testSelectSmallestEstimatedSize() {
+    Map<CompressionCandidate, Long> sampledSizes = new HashMap<>();
+    sampledSizes.put(NO_OP, 1000L);
+    sampledSizes.put(GZIP, 500L);
+    sampledSizes.put(ZSTD_LEVEL_1, 300L);
+    sampledSizes.put(ZSTD_LEVEL_3, 250L);
+    Map<CompressionCandidate, Long> latencies = new HashMap<>();
+    latencies.put(NO_OP, 1000L);
+    latencies.put(GZIP, 50_000L);
+    latencies.put(ZSTD_LEVEL_1, 10_000L);
+    latencies.put(ZSTD_LEVEL_3, 10_000L);
+
+    CompressionStrategySelector.Selection selection =
+        new CompressionStrategySelector(1000, 3).select(10, 1000, sampledSizes, latencies, 100_000);
+    Assert.assertNotNull(selection);
+    Assert.assertEquals(selection.getSelectedCandidate(), ZSTD_LEVEL_3);
+    Assert.assertEquals(selection.getEstimatedCompressedSizes().get(NO_OP).longValue(), 100_000L);
+    Assert.assertEquals(selection.getEstimatedCompressedSizes().get(GZIP).longValue(), 50_000L);
+    Assert.assertEquals(selection.getEstimatedCompressedSizes().get(ZSTD_LEVEL_3).longValue(), 25_000L);
+  }
+
+  @Test
+  public void testSelectWithinDecompressionLatencyBudget() {
+    Map<CompressionCandidate, Long> sampledSizes = new HashMap<>();
+    sampledSizes.put(NO_OP, 1000L);
+    sampledSizes.put(GZIP, 500L);
+    sampledSizes.put(ZSTD_LEVEL_1, 300L);
+    Map<CompressionCandidate, Long> latencies = new HashMap<>();
+    // 10 records: 2us per record for gzip, 20us per record for zstd
+    latencies.put(GZIP, 20_000L);
+    latencies.put(ZSTD_LEVEL_1, 200_000L);
+
+    CompressionStrategySelector.Selection selection =
+        new CompressionStrategySelector(10, 1).select(10, 1000, sampledSizes, latencies, 1000);
+    Assert.assertEquals(selection.getSelectedCandidate(), GZIP);
+
+    // NO_OP is always eligible
+    selection = new CompressionStrategySelector(1, 1).select(10, 1000, sampledSizes, latencies, 1000);
+    Assert.assertEquals(selection.getSelectedCandidate(), NO_OP);
+  }
+
+  @Test
+  public void testSelectOnlyApplicableZstdLevel() {
+    Map<CompressionCandidate, Long> sampledSizes = new HashMap<>();
+    sampledSizes.put(NO_OP, 1000L);
+    sampledSizes.put(GZIP, 500L);
+    sampledSizes.put(ZSTD_LEVEL_1, 300L);
+    sampledSizes.put(ZSTD_LEVEL_3, 250L);
+
+    // The smaller level 3 is estimated, but the push jobs compress with level 1, which is what gets selected
+    CompressionStrategySelector.Selection selection =
+        new CompressionStrategySelector(1000, 1).select(10, 1000, sampledSizes, new HashMap<>(), 1000);
+    Assert.assertEquals(selection.getSelectedCandidate(), ZSTD_LEVEL_1);
+    Assert.assertEquals(selection.getEstimatedCompressedSizes().get(ZSTD_LEVEL_3).longValue(), 250L);
+
+    // None of the zstd levels is selected if the push jobs compress with another level
+    selection = new CompressionStrategySelector(1000, 5).select(10, 1000, sampledSizes, new HashMap<>(), 1000);
+    Assert.assertEquals(selection.getSelectedCandidate(), GZIP);
+  }
+}
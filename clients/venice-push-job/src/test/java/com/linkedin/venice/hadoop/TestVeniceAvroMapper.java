@@ -1,6 +1,8 @@
 package com.linkedin.venice.hadoop;
 
 import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_METRIC_COLLECTION_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO;
+import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_METRIC_COLLECTION_ZSTD_LEVELS;
 import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_STRATEGY;
 import static com.linkedin.venice.hadoop.VenicePushJob.STORAGE_ENGINE_OVERHEAD_RATIO;
 import static com.linkedin.venice.hadoop.VenicePushJob.STORAGE_QUOTA_PROP;
@@ -21,6 +23,7 @@ import com.linkedin.venice.exceptions.UndefinedPropertyException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.IOException;
+import java.util.Collections;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.IndexedRecord;
@@ -414,6 +417,66 @@ public class TestVeniceAvroMapper extends AbstractTestVeniceMapper<VeniceAvroMap
     }
   }
 
+  @Test
+  public void testMapWithSampledCompressionMetricCollection() throws IOException {
+    final String keyFieldValue = "key_field_value";
+    final String valueFieldValue = "value_field_value";
+    AvroWrapper<IndexedRecord> wrapper = getAvroWrapper(keyFieldValue, valueFieldValue);
+    OutputCollector<BytesWritable, BytesWritable> output = mock(OutputCollector.class);
+    Reporter mockReporter = createMockReporterWithCount(1L);
+
+    // No need of reducers to test these metrics
+    int numReducers = 0;
+    int taskId = 0;
+
+    try (VeniceAvroMapper mapper = getMapper(numReducers, taskId, mapperJobConfig -> {
+      mapperJobConfig.set(COMPRESSION_METRIC_COLLECTION_ENABLED, "true");
+      mapperJobConfig.set(COMPRESSION_METRIC_COLLECTION_SAMPLING_RATIO, "0.5");
+      mapperJobConfig.set(COMPRESSION_METRIC_COLLECTION_ZSTD_LEVELS, "1");
+      mapperJobConfig.set(ZSTD_DICTIONARY_CREATION_REQUIRED, "true");
+      mapperJobConfig.set(ZSTD_DICTIONARY_CREATION_SUCCESS, "true");
+    })) {
+      // Only 1 out of these 2 records is sampled
+      mapper.map(wrapper, NullWritable.get(), output, mockReporter);
+      mapper.map(wrapper, NullWritable.get(), output, mockReporter);
+
+      verify(mockReporter, times(2)).incrCounter(
+          eq(MRJobCounterHelper.TOTAL_UNCOMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getGroupName()),
+          eq(MRJobCounterHelper.TOTAL_UNCOMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getCounterName()),
+          eq(uncompressedValueSize));
+
+      verify(mockReporter, times(1)).incrCounter(
+          eq(MRJobCounterHelper.SAMPLED_RECORDS_GROUP_COUNTER_NAME.getGroupName()),
+          eq(MRJobCounterHelper.SAMPLED_RECORDS_GROUP_COUNTER_NAME.getCounterName()),
+          eq(1L));
+
+      verify(mockReporter, times(1)).incrCounter(
+          eq(MRJobCounterHelper.SAMPLED_UNCOMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getGroupName()),
+          eq(MRJobCounterHelper.SAMPLED_UNCOMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getCounterName()),
+          eq(uncompressedValueSize));
+
+      // The total compressed sizes are extrapolated from the sampled record
+      verify(mockReporter, times(1)).incrCounter(
+          eq(MRJobCounterHelper.TOTAL_GZIP_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getGroupName()),
+          eq(MRJobCounterHelper.TOTAL_GZIP_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getCounterName()),
+          eq(2 * gzipCompressedValueSize));
+
+      verify(mockReporter, times(1)).incrCounter(
+          eq(MRJobCounterHelper.TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getGroupName()),
+          eq(MRJobCounterHelper.TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getCounterName()),
+          eq(2 * zstdCompressedValueSize));
+
+      // The additional zstd level is only reported via the sampling counters
+      MRJobCounterHelper.GroupAndCounterNames zstdLevel1CounterName =
+          MRJobCounterHelper.getSampledCompressedValueSizeGroupCounterName(
+              CompressionCandidate.getCandidates(Collections.singletonList(1), true).get(2));
+      verify(mockReporter, times(1)).incrCounter(
+          eq(zstdLevel1CounterName.getGroupName()),
+          eq(zstdLevel1CounterName.getCounterName()),
+          anyLong());
+    }
+  }
+
   @Test
   public void testMapWithCompressionMetricCollectionNotEnabledWithZstdCompression() throws IOException {
     final String keyFieldValue = "key_field_value";
@@ -1,7 +1,13 @@
 package com.linkedin.venice.hadoop;
 
 import com.linkedin.venice.ConfigKeys;
+import com.linkedin.venice.meta.PartitionerConfigImpl;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.Murmur3VenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.utils.PartitionUtils;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.mapred.JobConf;
 import org.testng.Assert;
@@ -26,4 +32,29 @@ public class TestVeniceMRPartitioner extends AbstractTestVeniceMR {
 
     Assert.assertEquals(partitionId, 68);
   }
+
+  /**
+   * The partitioner of the push job must agree with the one that the router, Da Vinci and the fast client build from
+   * the partitioner config of the store.
+   */
+  @Test
+  public void testGetPartitionWithMurmur3Partitioner() {
+    final int partitionNum = 97;
+    VeniceMRPartitioner partitioner = new VeniceMRPartitioner();
+    JobConf jobConf = setupJobConf();
+    jobConf.set(ConfigKeys.PARTITIONER_CLASS, Murmur3VenicePartitioner.class.getName());
+    partitioner.configure(jobConf);
+
+    BytesWritable value = new BytesWritable("test_value".getBytes());
+    Assert.assertEquals(partitioner.getPartition(new BytesWritable("test_key".getBytes()), value, partitionNum), 79);
+
+    VenicePartitioner storePartitioner = PartitionUtils.getVenicePartitioner(
+        new PartitionerConfigImpl(Murmur3VenicePartitioner.class.getName(), new HashMap<>(), 1));
+    for (int i = 0; i < 1000; i++) {
+      byte[] key = ("key_" + i).getBytes();
+      Assert.assertEquals(
+          partitioner.getPartition(new BytesWritable(key), value, partitionNum),
+          storePartitioner.getPartitionId(ByteBuffer.wrap(key), partitionNum));
+    }
+  }
 }
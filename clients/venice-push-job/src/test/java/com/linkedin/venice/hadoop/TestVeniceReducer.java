@@ -5,6 +5,7 @@ import static com.linkedin.venice.hadoop.MRJobCounterHelper.TOTAL_VALUE_SIZE_GRO
 import static com.linkedin.venice.hadoop.VenicePushJob.ALLOW_DUPLICATE_KEY;
 import static com.linkedin.venice.hadoop.VenicePushJob.DERIVED_SCHEMA_ID_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.ENABLE_WRITE_COMPUTE;
+import static com.linkedin.venice.hadoop.VenicePushJob.PARTITION_FILE_STAGING_AREA_URI;
 import static com.linkedin.venice.hadoop.VenicePushJob.STORAGE_QUOTA_PROP;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
@@ -26,11 +27,17 @@ import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.pubsub.adapter.SimplePubSubProduceResultImpl;
 import com.linkedin.venice.pubsub.api.PubSubProduceResult;
 import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
 import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.store.rocksdb.PartitionFileManifest;
+import com.linkedin.venice.store.rocksdb.PartitionFileStagingArea;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.writer.AbstractVeniceWriter;
 import com.linkedin.venice.writer.DeleteMetadata;
 import com.linkedin.venice.writer.PutMetadata;
 import com.linkedin.venice.writer.VeniceWriter;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -50,6 +57,11 @@ import org.apache.hadoop.mapred.RunningJob;
 import org.apache.hadoop.mapred.TaskAttemptID;
 import org.apache.hadoop.mapreduce.TaskType;
 import org.mockito.ArgumentCaptor;
+import org.rocksdb.Options;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileReader;
+import org.rocksdb.SstFileReaderIterator;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -359,6 +371,66 @@ public class TestVeniceReducer extends AbstractTestVeniceMR {
         eq(1L));
   }
 
+  @Test
+  public void testReduceIntoPartitionFileStagingArea() throws IOException, RocksDBException {
+    PartitionFileStagingArea stagingArea = PartitionFileStagingArea.fromDirectory(Utils.getTempDataDirectory());
+    JobConf jobConf = setupJobConf();
+    jobConf.set(PARTITION_FILE_STAGING_AREA_URI, stagingArea.getUri());
+    jobConf.setBoolean(VeniceWriter.ENABLE_CHUNKING, true);
+    AbstractVeniceWriter mockWriter = mock(AbstractVeniceWriter.class);
+    VeniceReducer reducer = new VeniceReducer();
+    reducer.setVeniceWriter(mockWriter);
+    reducer.configure(jobConf);
+    OutputCollector mockCollector = mock(OutputCollector.class);
+    Reporter mockReporter = createZeroCountReporterMock();
+
+    // The empty key sprayed by the mappers is skipped
+    BytesWritable emptyKey = new BytesWritable(new byte[0]);
+    reducer.reduce(emptyKey, Collections.singletonList(emptyKey).iterator(), mockCollector, mockReporter);
+    List<String> keys = Arrays.asList("test_key_0", "test_key_1");
+    for (String key: keys) {
+      BytesWritable valueWritable = new BytesWritable(("value_of_" + key).getBytes());
+      reducer.reduce(
+          new BytesWritable(key.getBytes()),
+          Collections.singletonList(valueWritable).iterator(),
+          mockCollector,
+          mockReporter);
+    }
+    reducer.close();
+
+    verify(mockWriter, never()).put(any(), any(), anyInt(), any(), any());
+    verify(mockReporter, times(keys.size())).incrCounter(
+        eq(MRJobCounterHelper.OUTPUT_RECORD_COUNT_GROUP_COUNTER_NAME.getGroupName()),
+        eq(MRJobCounterHelper.OUTPUT_RECORD_COUNT_GROUP_COUNTER_NAME.getCounterName()),
+        eq(1L));
+    PartitionFileManifest manifest = stagingArea.readManifest(TASK_ID);
+    Assert.assertEquals(manifest.getFiles().size(), 1);
+    Assert.assertEquals(manifest.getFiles().get(0).getRecordCount(), keys.size());
+
+    // The records are stored in the format of the storage nodes
+    KeyWithChunkingSuffixSerializer keySerializer = new KeyWithChunkingSuffixSerializer();
+    File partitionFile = new File(stagingArea.getPartitionDir(TASK_ID), manifest.getFiles().get(0).getFileName());
+    try (Options options = new Options();
+        SstFileReader reader = new SstFileReader(options);
+        ReadOptions readOptions = new ReadOptions()) {
+      reader.open(partitionFile.getAbsolutePath());
+      try (SstFileReaderIterator iterator = reader.newIterator(readOptions)) {
+        iterator.seekToFirst();
+        for (String key: keys) {
+          Assert.assertTrue(iterator.isValid());
+          Assert.assertEquals(iterator.key(), keySerializer.serializeNonChunkedKey(key.getBytes()));
+          byte[] value = iterator.value();
+          Assert.assertEquals(ByteUtils.readInt(value, 0), VALUE_SCHEMA_ID);
+          Assert.assertEquals(
+              Arrays.copyOfRange(value, ByteUtils.SIZE_OF_INT, value.length),
+              ("value_of_" + key).getBytes());
+          iterator.next();
+        }
+        Assert.assertFalse(iterator.isValid());
+      }
+    }
+  }
+
   @Test
   public void testCloseReducerWithNoReduce() throws IOException {
     VeniceReducer reducer = new VeniceReducer();
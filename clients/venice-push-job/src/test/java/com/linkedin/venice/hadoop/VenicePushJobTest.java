@@ -7,10 +7,13 @@ import static com.linkedin.venice.hadoop.VenicePushJob.LEGACY_AVRO_KEY_FIELD_PRO
 import static com.linkedin.venice.hadoop.VenicePushJob.LEGACY_AVRO_VALUE_FIELD_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.MULTI_REGION;
 import static com.linkedin.venice.hadoop.VenicePushJob.PARENT_CONTROLLER_REGION_NAME;
+import static com.linkedin.venice.hadoop.VenicePushJob.PARTITION_FILE_STAGING_AREA_URI;
 import static com.linkedin.venice.hadoop.VenicePushJob.POST_VALIDATION_CONSUMPTION_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJob.REDUCER_SPECULATIVE_EXECUTION_ENABLE;
 import static com.linkedin.venice.hadoop.VenicePushJob.REPUSH_TTL_ENABLE;
 import static com.linkedin.venice.hadoop.VenicePushJob.SOURCE_ETL;
 import static com.linkedin.venice.hadoop.VenicePushJob.SOURCE_KAFKA;
+import static com.linkedin.venice.hadoop.VenicePushJob.SUPPRESS_END_OF_PUSH_MESSAGE;
 import static com.linkedin.venice.hadoop.VenicePushJob.TARGETED_REGION_PUSH_ENABLED;
 import static com.linkedin.venice.hadoop.VenicePushJob.TARGETED_REGION_PUSH_LIST;
 import static com.linkedin.venice.hadoop.VenicePushJob.VALUE_FIELD_PROP;
@@ -56,10 +59,13 @@ import com.linkedin.venice.meta.HybridStoreConfigImpl;
 import com.linkedin.venice.meta.StoreInfo;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.meta.ViewConfigImpl;
 import com.linkedin.venice.pushmonitor.ExecutionStatus;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestWriteUtils;
+import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.views.MaterializedRekeyView;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -151,6 +157,22 @@ public class VenicePushJobTest {
     pushJob.run();
   }
 
+  @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = ".*Batch push is not supported for stores with a materialized rekey view.*")
+  public void testBatchPushWithMaterializedRekeyView() {
+    ControllerClient client = getClient(storeInfo -> {
+      storeInfo.setActiveActiveReplicationEnabled(true);
+      storeInfo.setHybridStoreConfig(new HybridStoreConfigImpl(0, 0, 0, null, null));
+      storeInfo.setViewConfigs(
+          Collections.singletonMap(
+              "rekeyView",
+              new ViewConfigImpl(
+                  MaterializedRekeyView.class.getCanonicalName(),
+                  Collections.singletonMap(MaterializedRekeyView.REKEY_FIELD_NAME, "email"))));
+    });
+    VenicePushJob pushJob = getSpyVenicePushJob(new Properties(), client);
+    pushJob.run();
+  }
+
   @Test
   public void testPushJobSettingWithD2Routing() {
     ControllerClient client = getClient(storeInfo -> {
@@ -538,6 +560,27 @@ public class VenicePushJobTest {
     }
   }
 
+  @Test
+  public void testPartitionFileStagingAreaConfigValidation() {
+    Properties props = getVpjRequiredProperties();
+    String stagingAreaUri = Utils.getTempDataDirectory().toURI().toString();
+    props.put(PARTITION_FILE_STAGING_AREA_URI, stagingAreaUri);
+    VenicePushJob.PushJobSetting pushJobSetting = new VenicePushJob(PUSH_JOB_ID, props).getPushJobSetting();
+    assertEquals(pushJobSetting.partitionFileStagingAreaUri, stagingAreaUri);
+    assertEquals(pushJobSetting.partitionFileMaxSizeInBytes, VenicePushJob.DEFAULT_PARTITION_FILE_MAX_SIZE_IN_BYTES);
+
+    for (String incompatibleConfig: new String[] { INCREMENTAL_PUSH, SOURCE_KAFKA, SUPPRESS_END_OF_PUSH_MESSAGE,
+        TARGETED_REGION_PUSH_ENABLED, REDUCER_SPECULATIVE_EXECUTION_ENABLE }) {
+      Properties incompatibleProps = getVpjRequiredProperties();
+      incompatibleProps.putAll(props);
+      incompatibleProps.put(incompatibleConfig, true);
+      assertThrows(VeniceException.class, () -> new VenicePushJob(PUSH_JOB_ID, incompatibleProps));
+    }
+
+    props.put(PARTITION_FILE_STAGING_AREA_URI, "hdfs://namenode/staging");
+    assertThrows(VeniceException.class, () -> new VenicePushJob(PUSH_JOB_ID, props));
+  }
+
   @Test
   public void testTargetedRegionPushConfigOverride() throws Exception {
     Properties props = getVpjRequiredProperties();
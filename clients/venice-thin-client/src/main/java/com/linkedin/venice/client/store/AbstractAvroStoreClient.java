@@ -24,6 +24,7 @@ import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -71,6 +72,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   public static final String B64_FORMAT = "?f=b64";
 
   private static final Map<String, String> GET_HEADER_MAP = new HashMap<>();
+  private static final Map<String, String> GET_HEADER_MAP_WITH_RESPONSE_COMPRESSION;
   private static final Map<String, String> MULTI_GET_HEADER_MAP = new HashMap<>();
   private static final Map<String, String> MULTI_GET_HEADER_MAP_FOR_STREAMING;
   private static final Map<String, String> COMPUTE_HEADER_MAP_V3 = new HashMap<>();
@@ -88,6 +90,9 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY,
         Integer.toString(CompressionStrategy.GZIP.getValue()));
 
+    GET_HEADER_MAP_WITH_RESPONSE_COMPRESSION = new HashMap<>(GET_HEADER_MAP);
+    ResponseCompressionUtils.addSupportedResponseCompressionHeader(GET_HEADER_MAP_WITH_RESPONSE_COMPRESSION);
+
     MULTI_GET_HEADER_MAP.put(
         HttpConstants.VENICE_API_VERSION,
         Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getProtocolVersion()));
@@ -406,12 +411,14 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     byte[] serializedKey = getKeySerializerForRequest().serialize(key);
     String requestPath = getStorageRequestPathForSingleKey(serializedKey);
     CompletableFuture<V> valueFuture = new CompletableFuture<>();
+    Map<String, String> headers =
+        clientConfig.isResponseCompressionEnabled() ? GET_HEADER_MAP_WITH_RESPONSE_COMPRESSION : GET_HEADER_MAP;
 
     requestSubmissionWithStatsHandling(
         stats,
         preRequestTimeInNS,
         true,
-        () -> transportClient.get(requestPath, GET_HEADER_MAP),
+        () -> transportClient.get(requestPath, headers),
         (response, throwable, responseCompleteReporter) -> {
           try {
             if (throwable != null) {
@@ -690,6 +697,9 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
       TransportClientStreamingCallback callback,
       Optional<ClientStats> stats) throws VeniceClientException {
     Map<String, String> headers = new HashMap<>(COMPUTE_HEADER_MAP_FOR_STREAMING_V3);
+    if (clientConfig.isResponseCompressionEnabled()) {
+      ResponseCompressionUtils.addSupportedResponseCompressionHeader(headers);
+    }
     int schemaId = getSchemaReader().getValueSchemaId(computeRequest.getValueSchema());
     headers.put(VENICE_KEY_COUNT, Integer.toString(keyList.size()));
     headers.put(VENICE_COMPUTE_VALUE_SCHEMA_ID, Integer.toString(schemaId));
@@ -840,6 +850,9 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
       TransportClientStreamingCallback callback,
       Optional<ClientStats> stats) throws VeniceClientException {
     Map<String, String> headers = new HashMap<>(MULTI_GET_HEADER_MAP_FOR_STREAMING);
+    if (clientConfig.isResponseCompressionEnabled()) {
+      ResponseCompressionUtils.addSupportedResponseCompressionHeader(headers);
+    }
     headers.put(VENICE_KEY_COUNT, Integer.toString(keyList.size()));
     byte[] serializedRequest = serializeMultiGetRequest(keyList, stats);
     transportClient.streamPost(getStorageRequestPath(), headers, serializedRequest, callback, keyList.size());
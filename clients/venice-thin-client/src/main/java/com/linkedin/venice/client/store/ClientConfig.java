@@ -54,6 +54,7 @@ public class ClientConfig<T extends SpecificRecord> {
   private boolean forceClusterDiscoveryAtStartTime = false;
   private boolean projectionFieldValidation = true;
   private boolean remoteComputationOnly = false;
+  private boolean responseCompressionEnabled = false;
   private Duration schemaRefreshPeriod = DEFAULT_SCHEMA_REFRESH_PERIOD;
   private Optional<Predicate<Schema>> preferredSchemaFilter = Optional.empty();
 
@@ -117,6 +118,7 @@ public class ClientConfig<T extends SpecificRecord> {
         .setSslFactory(config.getSslFactory())
         .setForceClusterDiscoveryAtStartTime(config.isForceClusterDiscoveryAtStartTime())
         .setProjectionFieldValidationEnabled(config.isProjectionFieldValidationEnabled())
+        .setResponseCompressionEnabled(config.isResponseCompressionEnabled())
         .setPreferredSchemaFilter(config.getPreferredSchemaFilter().orElse(null))
         .setSchemaRefreshPeriod(config.getSchemaRefreshPeriod())
 
@@ -444,6 +446,19 @@ public class ClientConfig<T extends SpecificRecord> {
     return this;
   }
 
+  public boolean isResponseCompressionEnabled() {
+    return responseCompressionEnabled;
+  }
+
+  /**
+   * Whether to ask the routers to compress the responses, which trades the CPU of both sides for the
+   * network bandwidth. Check {@link com.linkedin.venice.compression.ResponseCompressionUtils} for more details.
+   */
+  public ClientConfig<T> setResponseCompressionEnabled(boolean responseCompressionEnabled) {
+    this.responseCompressionEnabled = responseCompressionEnabled;
+    return this;
+  }
+
   public Optional<Predicate<Schema>> getPreferredSchemaFilter() {
     return preferredSchemaFilter;
   }
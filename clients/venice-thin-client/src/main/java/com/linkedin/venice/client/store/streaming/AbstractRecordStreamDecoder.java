@@ -6,6 +6,8 @@ import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
+import com.linkedin.venice.compression.StreamingResponseDecompressor;
 import com.linkedin.venice.read.protocol.response.streaming.StreamingFooterRecordV1;
 import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.utils.ByteUtils;
@@ -55,6 +57,8 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
   private int responseSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
   private CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
   private ReadEnvelopeChunkedDeserializer<ENVELOPE> envelopeDeserializer = null;
+  // Only set up when the router compressed the response
+  private StreamingResponseDecompressor responseDecompressor = null;
 
   public AbstractRecordStreamDecoder(
       List<K> keyList,
@@ -83,6 +87,13 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
     if (compressionHeader != null) {
       compressionStrategy = CompressionStrategy.valueOf(Integer.parseInt(compressionHeader));
     }
+    String responseCompressionHeader = headers.get(HttpConstants.VENICE_RESPONSE_COMPRESSION);
+    if (responseCompressionHeader != null) {
+      if (!ResponseCompressionUtils.isResponseCompressionSupported(responseCompressionHeader)) {
+        throw new VeniceClientException("Unsupported response compression: " + responseCompressionHeader);
+      }
+      responseDecompressor = new StreamingResponseDecompressor();
+    }
   }
 
   private void validateKeyIdx(int keyIdx) {
@@ -104,6 +115,13 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
     if (envelopeDeserializer == null) {
       throw new VeniceClientException("Envelope deserializer hasn't been initialized yet");
     }
+    if (responseDecompressor != null) {
+      chunk = responseDecompressor.decompress(chunk);
+      if (!chunk.hasRemaining()) {
+        // no full frame is available
+        return;
+      }
+    }
     envelopeDeserializer.write(chunk);
     // Envelope deserialization has to happen sequentially
     final List<ENVELOPE> availableRecords = envelopeDeserializer.consume();
@@ -403,7 +403,8 @@ public class D2TransportClient extends TransportClient {
        * TODO: consider to pass back {@link java.io.InputStream} instead of making a copy of response bytes
        */
       byte[] body = result.getEntity().copyBytes();
-      completeFuture(statusCode, schemaId, compressionStrategy, body);
+      String responseCompressionHeader = result.getHeader(HttpConstants.VENICE_RESPONSE_COMPRESSION);
+      completeFuture(statusCode, schemaId, compressionStrategy, responseCompressionHeader, body);
     }
   }
 
@@ -221,8 +221,15 @@ public class HttpTransportClient extends TransportClient {
         compressionStrategy = CompressionStrategy.valueOf(Integer.parseInt(compressionHeader.getValue()));
       }
 
+      Header responseCompressionHeader = result.getFirstHeader(HttpConstants.VENICE_RESPONSE_COMPRESSION);
+
       byte[] body = result.getBody() != null ? result.getBody().getBodyBytes() : null;
-      completeFuture(statusCode, schemaId, compressionStrategy, body);
+      completeFuture(
+          statusCode,
+          schemaId,
+          compressionStrategy,
+          responseCompressionHeader == null ? null : responseCompressionHeader.getValue(),
+          body);
     }
   }
 
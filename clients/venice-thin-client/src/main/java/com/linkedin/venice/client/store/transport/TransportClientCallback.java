@@ -1,8 +1,10 @@
 package com.linkedin.venice.client.store.transport;
 
+import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.exceptions.VeniceClientRateExceededException;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import org.apache.http.HttpStatus;
@@ -22,6 +24,26 @@ public class TransportClientCallback {
     return valueFuture;
   }
 
+  /**
+   * @param responseCompressionHeader the value of {@link com.linkedin.venice.HttpConstants#VENICE_RESPONSE_COMPRESSION}
+   *                                  in the response, which tells whether the body needs to be decompressed first.
+   */
+  public void completeFuture(
+      int statusCode,
+      int schemaId,
+      CompressionStrategy compressionStrategy,
+      String responseCompressionHeader,
+      byte[] body) {
+    byte[] decompressedBody;
+    try {
+      decompressedBody = ResponseCompressionUtils.decompressIfNeeded(responseCompressionHeader, body);
+    } catch (Exception e) {
+      valueFuture.completeExceptionally(new VeniceClientException("Failed to decompress the response", e));
+      return;
+    }
+    completeFuture(statusCode, schemaId, compressionStrategy, decompressedBody);
+  }
+
   public void completeFuture(int statusCode, int schemaId, CompressionStrategy compressionStrategy, byte[] body) {
     if ((statusCode < 300 && statusCode >= 200)) {
       valueFuture.complete(new TransportClientResponse(schemaId, compressionStrategy, body));
@@ -25,6 +25,13 @@ public class HttpConstants {
   public static final String VENICE_COMPRESSION_STRATEGY = "X-VENICE-COMPRESSION-STRATEGY";
   public static final String VENICE_SUPPORTED_COMPRESSION_STRATEGY = "X-VENICE-SUPPORTED-COMPRESSION-STRATEGY";
 
+  /**
+   * Unlike the compression strategy of the stored values above, the response compression applies to the whole response
+   * body. Check {@link com.linkedin.venice.compression.ResponseCompressionUtils} for more details.
+   */
+  public static final String VENICE_SUPPORTED_RESPONSE_COMPRESSION = "X-VENICE-SUPPORTED-RESPONSE-COMPRESSION";
+  public static final String VENICE_RESPONSE_COMPRESSION = "X-VENICE-RESPONSE-COMPRESSION";
+
   public static final String VENICE_STREAMING = "X-VENICE-STREAMING";
   public static final String VENICE_STREAMING_RESPONSE = "X-VENICE-STREAMING-RESPONSE";
 
@@ -0,0 +1,99 @@
+package com.linkedin.venice.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+
+/**
+ * Utils for the transport level compression of the read responses, which compresses the whole body of a non-streaming
+ * response with zstd, on top of the compression of the stored values. It is meant for the responses of the stores
+ * whose values are not compressed, e.g. batch-get and compute responses crossing data centers, which compress well
+ * as a whole even without a dictionary since the records share their structure.
+ *
+ * The clients which can decompress the responses advertise it with
+ * {@link HttpConstants#VENICE_SUPPORTED_RESPONSE_COMPRESSION}, and the compressed responses carry
+ * {@link HttpConstants#VENICE_RESPONSE_COMPRESSION}. Both headers hold the value of {@link CompressionStrategy#ZSTD}.
+ *
+ * The streaming responses are written chunk by chunk, so every chunk of a compressed streaming response is sent as a
+ * frame of its own, see {@link #compressChunk(byte[], int)}, which the clients decode with a
+ * {@link StreamingResponseDecompressor} regardless of how the chunks got split or merged on the way.
+ */
+public class ResponseCompressionUtils {
+  public static final CompressionStrategy RESPONSE_COMPRESSION_STRATEGY = CompressionStrategy.ZSTD;
+  public static final String RESPONSE_COMPRESSION_HEADER_VALUE =
+      Integer.toString(RESPONSE_COMPRESSION_STRATEGY.getValue());
+  // A low level, since the responses are compressed on the read path
+  private static final int RESPONSE_COMPRESSION_LEVEL = 1;
+
+  /**
+   * Every frame of a compressed streaming response starts with a flag telling whether its payload is compressed,
+   * followed by the size of the payload.
+   */
+  static final int FRAME_HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+  static final byte FRAME_UNCOMPRESSED = 0;
+  static final byte FRAME_COMPRESSED = 1;
+
+  private ResponseCompressionUtils() {
+  }
+
+  public static boolean isResponseCompressionSupported(String supportedResponseCompressionHeader) {
+    return RESPONSE_COMPRESSION_HEADER_VALUE.equals(supportedResponseCompressionHeader);
+  }
+
+  public static void addSupportedResponseCompressionHeader(Map<String, String> headers) {
+    headers.put(HttpConstants.VENICE_SUPPORTED_RESPONSE_COMPRESSION, RESPONSE_COMPRESSION_HEADER_VALUE);
+  }
+
+  public static byte[] compress(byte[] data) {
+    return Zstd.compress(data, RESPONSE_COMPRESSION_LEVEL);
+  }
+
+  public static byte[] decompress(byte[] data) {
+    long decompressedSize = Zstd.decompressedSize(data);
+    if (decompressedSize > Integer.MAX_VALUE) {
+      throw new VeniceException("The size of the decompressed response is > " + Integer.MAX_VALUE);
+    }
+    if (decompressedSize == 0) {
+      return new byte[0];
+    }
+    return Zstd.decompress(data, (int) decompressedSize);
+  }
+
+  /**
+   * Frames a chunk of a compressed streaming response. The chunks smaller than the given min size, and those which the
+   * compression doesn't make smaller, are framed as is.
+   */
+  public static byte[] compressChunk(byte[] chunk, int minSizeBytes) {
+    byte[] payload = chunk;
+    byte flag = FRAME_UNCOMPRESSED;
+    if (chunk.length >= minSizeBytes) {
+      byte[] compressedChunk = compress(chunk);
+      if (compressedChunk.length < chunk.length) {
+        payload = compressedChunk;
+        flag = FRAME_COMPRESSED;
+      }
+    }
+    return ByteBuffer.allocate(FRAME_HEADER_SIZE + payload.length)
+        .put(flag)
+        .putInt(payload.length)
+        .put(payload)
+        .array();
+  }
+
+  /**
+   * @param responseCompressionHeader the value of {@link HttpConstants#VENICE_RESPONSE_COMPRESSION} in the response.
+   * @return the decompressed body if the response is compressed, or the body as is otherwise.
+   */
+  public static byte[] decompressIfNeeded(String responseCompressionHeader, byte[] body) {
+    if (responseCompressionHeader == null || body == null) {
+      return body;
+    }
+    if (!RESPONSE_COMPRESSION_HEADER_VALUE.equals(responseCompressionHeader)) {
+      throw new VeniceException("Unsupported response compression: " + responseCompressionHeader);
+    }
+    return decompress(body);
+  }
+}
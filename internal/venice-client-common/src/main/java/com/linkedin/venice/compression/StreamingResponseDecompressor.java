@@ -0,0 +1,80 @@
+package com.linkedin.venice.compression;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.concurrent.NotThreadSafe;
+
+
+/**
+ * This class decodes the frames of a compressed streaming response, see {@link ResponseCompressionUtils#compressChunk},
+ * out of the data received in arbitrary pieces, and returns the decompressed data of every complete frame, while the
+ * data of the incomplete frame is kept until the rest of it is received.
+ */
+@NotThreadSafe
+public class StreamingResponseDecompressor {
+  private byte[] pendingData = new byte[0];
+  private int pendingSize = 0;
+
+  /**
+   * @return the decompressed data of the frames completed by the given data, which might be empty.
+   */
+  public ByteBuffer decompress(ByteBuffer data) {
+    append(data);
+    ByteBuffer pendingBuffer = ByteBuffer.wrap(pendingData, 0, pendingSize);
+    List<byte[]> payloads = new ArrayList<>();
+    int decompressedSize = 0;
+    while (pendingBuffer.remaining() >= ResponseCompressionUtils.FRAME_HEADER_SIZE) {
+      int frameStart = pendingBuffer.position();
+      byte flag = pendingBuffer.get();
+      int payloadSize = pendingBuffer.getInt();
+      if (payloadSize < 0) {
+        throw new VeniceException("Invalid payload size: " + payloadSize + " of the response frame");
+      }
+      if (pendingBuffer.remaining() < payloadSize) {
+        pendingBuffer.position(frameStart);
+        break;
+      }
+      byte[] payload = new byte[payloadSize];
+      pendingBuffer.get(payload);
+      if (flag == ResponseCompressionUtils.FRAME_COMPRESSED) {
+        payload = ResponseCompressionUtils.decompress(payload);
+      } else if (flag != ResponseCompressionUtils.FRAME_UNCOMPRESSED) {
+        throw new VeniceException("Unknown flag: " + flag + " of the response frame");
+      }
+      payloads.add(payload);
+      decompressedSize += payload.length;
+    }
+    // Keep the incomplete frame at the beginning of the pending data
+    pendingSize = pendingBuffer.remaining();
+    System.arraycopy(pendingData, pendingBuffer.position(), pendingData, 0, pendingSize);
+
+    if (payloads.size() == 1) {
+      return ByteBuffer.wrap(payloads.get(0));
+    }
+    ByteBuffer decompressedData = ByteBuffer.allocate(decompressedSize);
+    for (byte[] payload: payloads) {
+      decompressedData.put(payload);
+    }
+    decompressedData.flip();
+    return decompressedData;
+  }
+
+  /**
+   * @return whether all the received data got decoded, which is expected once the whole response is received.
+   */
+  public boolean isComplete() {
+    return pendingSize == 0;
+  }
+
+  private void append(ByteBuffer data) {
+    int size = data.remaining();
+    if (pendingSize + size > pendingData.length) {
+      pendingData = Arrays.copyOf(pendingData, Math.max(pendingSize + size, pendingData.length * 2));
+    }
+    data.get(pendingData, pendingSize, size);
+    pendingSize += size;
+  }
+}
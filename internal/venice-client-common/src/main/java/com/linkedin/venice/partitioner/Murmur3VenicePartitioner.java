@@ -0,0 +1,89 @@
+package com.linkedin.venice.partitioner;
+
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import org.apache.avro.Schema;
+
+
+/**
+ * Implementation of the {@link VenicePartitioner} class based on the 32-bit x86 variant of MurmurHash3 with a seed of
+ * 0, which is much cheaper to compute than the MD5 digest of {@link DefaultVenicePartitioner} and doesn't need any
+ * per-thread state.
+ *
+ * The partition of a key is its hash, with the sign bit cleared, modulo the number of partitions. The assignment of
+ * the keys to the partitions is different from {@link DefaultVenicePartitioner}, so this partitioner can only be
+ * picked for a new store, or for the new versions of a store through its
+ * {@link com.linkedin.venice.meta.PartitionerConfig}, as each version keeps the partitioner it was pushed with.
+ */
+public class Murmur3VenicePartitioner extends VenicePartitioner {
+  private static final int C1 = 0xcc9e2d51;
+  private static final int C2 = 0x1b873593;
+
+  public Murmur3VenicePartitioner() {
+    super();
+  }
+
+  public Murmur3VenicePartitioner(VeniceProperties props) {
+    this(props, null);
+  }
+
+  public Murmur3VenicePartitioner(VeniceProperties props, Schema schema) {
+    super(props, schema);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
+    return (hash(keyBytes, offset, length) & Integer.MAX_VALUE) % numPartitions;
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int numPartitions) {
+    return getPartitionId(keyBytes, 0, keyBytes.length, numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
+    return getPartitionId(
+        keyByteBuffer.array(),
+        keyByteBuffer.arrayOffset() + keyByteBuffer.position(),
+        keyByteBuffer.remaining(),
+        numPartitions);
+  }
+
+  /**
+   * @return the MurmurHash3 x86 32-bit hash of the given range, with a seed of 0
+   */
+  static int hash(byte[] data, int offset, int length) {
+    int h = 0;
+    int end = offset + (length & ~3);
+    for (int i = offset; i < end; i += 4) {
+      int k = (data[i] & 0xff) | (data[i + 1] & 0xff) << 8 | (data[i + 2] & 0xff) << 16 | data[i + 3] << 24;
+      h ^= mixK(k);
+      h = Integer.rotateLeft(h, 13) * 5 + 0xe6546b64;
+    }
+
+    int k = 0;
+    switch (length & 3) {
+      case 3:
+        k ^= (data[end + 2] & 0xff) << 16;
+      case 2:
+        k ^= (data[end + 1] & 0xff) << 8;
+      case 1:
+        k ^= data[end] & 0xff;
+        h ^= mixK(k);
+      default:
+    }
+
+    h ^= length;
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    h ^= h >>> 16;
+    return h;
+  }
+
+  private static int mixK(int k) {
+    return Integer.rotateLeft(k * C1, 15) * C2;
+  }
+}
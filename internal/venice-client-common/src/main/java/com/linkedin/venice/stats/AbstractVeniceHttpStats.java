@@ -37,6 +37,17 @@ public abstract class AbstractVeniceHttpStats extends AbstractVeniceStats {
     return super.registerSensor(getFullMetricName(sensorName), parents, stats);
   }
 
+  /**
+   * By default, this function will prepend the request type to the sensor name.
+   */
+  @Override
+  protected StripedHistogram registerStripedHistogram(
+      String sensorName,
+      StripedHistogram parent,
+      double... percentiles) {
+    return super.registerStripedHistogram(getFullMetricName(sensorName), parent, percentiles);
+  }
+
   /**
    * By default, this function will prepend the request type to the sensor name, and register percentiles with the same name.
    *
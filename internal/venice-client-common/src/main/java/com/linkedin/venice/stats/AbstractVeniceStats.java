@@ -2,6 +2,7 @@ package com.linkedin.venice.stats;
 
 import static com.linkedin.venice.stats.AbstractVeniceAggStats.STORE_NAME_FOR_TOTAL_STAT;
 
+import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MeasurableStat;
 import io.tehuti.metrics.MetricConfig;
@@ -18,10 +19,12 @@ import java.util.function.Supplier;
 
 public class AbstractVeniceStats {
   public static final String DELIMITER = "--";
+  static final int PER_STORE_HISTOGRAM_STRIPE_COUNT = 2;
 
   private final MetricsRepository metricsRepository;
   private final String name;
   private final Map<String, Sensor> sensors;
+  private final Map<String, StripedHistogram> histograms;
   private final boolean isTotalStats;
 
   public AbstractVeniceStats(MetricsRepository metricsRepository, String name) {
@@ -30,6 +33,7 @@ public class AbstractVeniceStats {
     // name and attribute name, so they cause issues if we let them slip in...
     this.name = name.replace(':', '_').replace(".", "_");
     this.sensors = new VeniceConcurrentHashMap<>();
+    this.histograms = new VeniceConcurrentHashMap<>();
     this.isTotalStats = name.equals(STORE_NAME_FOR_TOTAL_STAT);
   }
 
@@ -104,6 +108,54 @@ public class AbstractVeniceStats {
     });
   }
 
+  /**
+   * Registers a {@link StripedHistogram} for a hot-path stat, which is recorded into the histogram directly instead of
+   * through a {@link Sensor}. Its metrics get the same names as the {@link Avg}, {@link Max} and {@link Percentiles}
+   * stats of a sensor, so the existing metrics can move to it without any change for the reporters.
+   *
+   * The histograms of the total stats get {@link StripedHistogram#MAX_STRIPE_COUNT} stripes, since every value is
+   * recorded into them, while the histograms of the individual stores get {@link #PER_STORE_HISTOGRAM_STRIPE_COUNT}
+   * stripes, to bound the memory taken by the many stores and request types.
+   *
+   * @param parent the histogram of the total stats, which every value is also recorded into, if any.
+   */
+  protected StripedHistogram registerStripedHistogram(String sensorName, StripedHistogram parent) {
+    return registerStripedHistogram(sensorName, parent, TehutiUtils.getDefaultHistogramPercentiles());
+  }
+
+  protected StripedHistogram registerStripedHistogram(
+      String sensorName,
+      StripedHistogram parent,
+      double... percentiles) {
+    String sensorFullName = getSensorFullName(getName(), sensorName);
+    return histograms.computeIfAbsent(sensorFullName, key -> {
+      StripedHistogram histogram = new StripedHistogram(
+          parent,
+          isTotalStats ? StripedHistogram.MAX_STRIPE_COUNT : PER_STORE_HISTOGRAM_STRIPE_COUNT,
+          StripedHistogram.DEFAULT_HIGHEST_TRACKABLE_VALUE,
+          new MetricConfig(),
+          new SystemTime());
+      Sensor sensor = sensors.computeIfAbsent(sensorFullName, k -> metricsRepository.sensor(sensorFullName));
+      synchronized (sensor) {
+        addMetricIfAbsent(sensor, sensorFullName + ".Avg", histogram.avgStat());
+        addMetricIfAbsent(sensor, sensorFullName + ".Max", histogram.maxStat());
+        for (double percentile: percentiles) {
+          addMetricIfAbsent(
+              sensor,
+              sensorFullName + "." + TehutiUtils.getPercentileAttributeName(percentile),
+              histogram.percentileStat(percentile));
+        }
+      }
+      return histogram;
+    });
+  }
+
+  private void addMetricIfAbsent(Sensor sensor, String metricName, MeasurableStat stat) {
+    if (metricsRepository.getMetric(metricName) == null) {
+      sensor.add(metricName, stat);
+    }
+  }
+
   /**
    * N.B.: {@link LongAdderRateGauge} is just an implementation detail, and we do not wish to alter metric names
    * due to it, so we call it the same as {@link Rate}.
@@ -117,6 +169,7 @@ public class AbstractVeniceStats {
       metricsRepository.removeSensor(sensor.name());
     }
     sensors.clear();
+    histograms.clear();
   }
 
   protected Sensor registerSensorWithAggregate(String sensorName, Supplier<MeasurableStat[]> stats) {
@@ -0,0 +1,286 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import io.tehuti.metrics.Measurable;
+import io.tehuti.metrics.MeasurableStat;
+import io.tehuti.metrics.MetricConfig;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Percentiles;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A histogram for the latency and size stats recorded on the hot paths, as an alternative to a {@link Sensor} with
+ * {@link Avg}, {@link Max} and {@link Percentiles} stats, which synchronizes on every record.
+ *
+ * The values are recorded without any lock: each thread increments the buckets of its own stripe, picked once per
+ * thread, with atomic increments, and the count and sum are kept in {@link LongAdder}s. The buckets are log-linear
+ * like those of HdrHistogram, so the values are tracked with a relative error below 1 / {@link #SUB_BUCKET_HALF_COUNT}
+ * regardless of their magnitude, with a resolution of 1 / {@link #VALUE_SCALE}. The values above the highest trackable
+ * value, which defaults to the max value of the percentile stats of {@link TehutiUtils}, are counted in the last
+ * bucket, so the max is capped at it as well, unlike the {@link Max} stat.
+ *
+ * The stats are measured over the same samples as the sampled stats of Tehuti with the given {@link MetricConfig}: a
+ * new sample starts when a value is recorded at least one time window after the start of the current one, only the
+ * latest {@link MetricConfig#samples()} samples are kept, and the samples which started more than that many time
+ * windows ago are obsolete. The counters are never reset, so the start of every sample is kept as a snapshot of them,
+ * taken by summing them up without blocking the recording threads, and the stats are measured over the difference
+ * from the snapshot of the oldest sample which isn't obsolete.
+ *
+ * The memory of a histogram is bounded by the bucket count, which is about 270 with the default highest trackable
+ * value, times 8 bytes for each of its stripes and samples. The stripes are only allocated once a thread records into
+ * them, and the snapshots of the samples only once a value got recorded, so the histograms of the stores and request
+ * types which aren't queried stay close to empty.
+ */
+public class StripedHistogram {
+  public static final double DEFAULT_HIGHEST_TRACKABLE_VALUE = TehutiUtils.DEFAULT_HISTOGRAM_MAX_VALUE;
+  /**
+   * The max stripe count, used by the histograms of the total stats which every value is recorded into. The histograms
+   * of the individual stores are recorded into by a fraction of the threads, so they use fewer stripes to bound their
+   * memory, see {@link AbstractVeniceStats#registerStripedHistogram}.
+   */
+  public static final int MAX_STRIPE_COUNT =
+      Math.min(8, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+  static final double VALUE_SCALE = 100;
+  private static final int SUB_BUCKET_COUNT = 32;
+  private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+  private static final int SUB_BUCKET_HALF_COUNT_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_HALF_COUNT);
+
+  private static final AtomicInteger STRIPE_INDEX_GENERATOR = new AtomicInteger(0);
+  private static final ThreadLocal<Integer> STRIPE_INDEX =
+      ThreadLocal.withInitial(() -> STRIPE_INDEX_GENERATOR.getAndIncrement() & (MAX_STRIPE_COUNT - 1));
+
+  private final StripedHistogram parent;
+  private final int stripeCount;
+  private final long highestTrackableValue;
+  private final int bucketCount;
+  private final long windowMs;
+  private final int sampleCount;
+  private final Time time;
+  // The stripes are only allocated once a thread records into them
+  private final AtomicReferenceArray<AtomicLongArray> stripes;
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicReference<Samples> samples;
+
+  public StripedHistogram(StripedHistogram parent) {
+    this(parent, MAX_STRIPE_COUNT, DEFAULT_HIGHEST_TRACKABLE_VALUE, new MetricConfig(), new SystemTime());
+  }
+
+  /**
+   * @param parent the histogram which every value recorded into this histogram is also recorded into, if any.
+   * @param stripeCount the max number of stripes, which gets rounded down to a power of two up to
+   *                    {@link #MAX_STRIPE_COUNT}.
+   */
+  public StripedHistogram(
+      StripedHistogram parent,
+      int stripeCount,
+      double highestTrackableValue,
+      MetricConfig config,
+      Time time) {
+    this.parent = parent;
+    this.stripeCount = Integer.highestOneBit(Math.max(1, Math.min(stripeCount, MAX_STRIPE_COUNT)));
+    this.highestTrackableValue = scale(highestTrackableValue);
+    this.bucketCount = getBucketIndex(this.highestTrackableValue) + 1;
+    this.windowMs = config.timeWindowMs();
+    this.sampleCount = Math.max(1, config.samples());
+    this.time = time;
+    this.stripes = new AtomicReferenceArray<>(this.stripeCount);
+    this.samples = new AtomicReference<>(
+        new Samples(new Snapshot[] { Snapshot.EMPTY }, new long[] { time.getMilliseconds() }));
+  }
+
+  public void record(double value) {
+    record(value, time.getMilliseconds());
+  }
+
+  private void record(double value, long nowMs) {
+    Samples currentSamples = samples.get();
+    if (nowMs - currentSamples.getLatestStartMs() >= windowMs) {
+      // Losing the race against a concurrent record is fine, since the winner started the new sample already
+      samples.compareAndSet(currentSamples, currentSamples.advance(takeSnapshot(), nowMs, sampleCount));
+    }
+    long scaledValue = scale(value);
+    getStripe().incrementAndGet(getBucketIndex(Math.min(scaledValue, highestTrackableValue)));
+    count.increment();
+    sum.add(scaledValue);
+    if (parent != null) {
+      parent.record(value, nowMs);
+    }
+  }
+
+  public MeasurableStat avgStat() {
+    return new Gauge((Measurable) (config, now) -> getWindowedSnapshot(now).getAvg());
+  }
+
+  public MeasurableStat maxStat() {
+    return new Gauge((Measurable) (config, now) -> getWindowedSnapshot(now).getMax());
+  }
+
+  public MeasurableStat percentileStat(double percentile) {
+    return new Gauge((Measurable) (config, now) -> getWindowedSnapshot(now).getPercentile(percentile));
+  }
+
+  Snapshot getWindowedSnapshot(long now) {
+    Samples currentSamples = samples.get();
+    long expireAgeMs = windowMs * sampleCount;
+    for (int i = 0; i < currentSamples.startsMs.length; i++) {
+      if (now - currentSamples.startsMs[i] < expireAgeMs) {
+        return takeSnapshot().minus(currentSamples.starts[i]);
+      }
+    }
+    // All the samples are obsolete
+    return Snapshot.EMPTY;
+  }
+
+  private Snapshot takeSnapshot() {
+    long totalCount = count.sum();
+    if (totalCount == 0) {
+      return Snapshot.EMPTY;
+    }
+    long[] bucketCounts = new long[bucketCount];
+    for (int i = 0; i < stripeCount; i++) {
+      AtomicLongArray stripe = stripes.get(i);
+      if (stripe != null) {
+        for (int j = 0; j < bucketCount; j++) {
+          bucketCounts[j] += stripe.get(j);
+        }
+      }
+    }
+    return new Snapshot(bucketCounts, totalCount, sum.sum());
+  }
+
+  private AtomicLongArray getStripe() {
+    int stripeIndex = STRIPE_INDEX.get() & (stripeCount - 1);
+    AtomicLongArray stripe = stripes.get(stripeIndex);
+    if (stripe == null) {
+      stripes.compareAndSet(stripeIndex, null, new AtomicLongArray(bucketCount));
+      stripe = stripes.get(stripeIndex);
+    }
+    return stripe;
+  }
+
+  private static long scale(double value) {
+    return value > 0 ? (long) (value * VALUE_SCALE) : 0;
+  }
+
+  /**
+   * The values below {@link #SUB_BUCKET_COUNT} get a bucket each, and every following power of two range gets
+   * {@link #SUB_BUCKET_HALF_COUNT} buckets of equal width.
+   */
+  static int getBucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_HALF_COUNT_BITS;
+    return SUB_BUCKET_COUNT + ((shift - 1) << SUB_BUCKET_HALF_COUNT_BITS) + (int) (value >>> shift)
+        - SUB_BUCKET_HALF_COUNT;
+  }
+
+  static long getHighestEquivalentValue(int bucketIndex) {
+    if (bucketIndex < SUB_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+    int offset = bucketIndex - SUB_BUCKET_COUNT;
+    int shift = (offset >>> SUB_BUCKET_HALF_COUNT_BITS) + 1;
+    long subBucket = (offset & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * The snapshots of the counters at the start of the kept samples, from the oldest to the latest one.
+   */
+  private static class Samples {
+    private final Snapshot[] starts;
+    private final long[] startsMs;
+
+    private Samples(Snapshot[] starts, long[] startsMs) {
+      this.starts = starts;
+      this.startsMs = startsMs;
+    }
+
+    private long getLatestStartMs() {
+      return startsMs[startsMs.length - 1];
+    }
+
+    private Samples advance(Snapshot start, long startMs, int sampleCount) {
+      int keptCount = Math.min(starts.length, sampleCount - 1);
+      Snapshot[] newStarts = new Snapshot[keptCount + 1];
+      long[] newStartsMs = new long[keptCount + 1];
+      System.arraycopy(starts, starts.length - keptCount, newStarts, 0, keptCount);
+      System.arraycopy(startsMs, startsMs.length - keptCount, newStartsMs, 0, keptCount);
+      newStarts[keptCount] = start;
+      newStartsMs[keptCount] = startMs;
+      return new Samples(newStarts, newStartsMs);
+    }
+  }
+
+  static class Snapshot {
+    private static final Snapshot EMPTY = new Snapshot(new long[0], 0, 0);
+
+    private final long[] bucketCounts;
+    private final long count;
+    private final long sum;
+
+    private Snapshot(long[] bucketCounts, long count, long sum) {
+      this.bucketCounts = bucketCounts;
+      this.count = count;
+      this.sum = sum;
+    }
+
+    /**
+     * The {@link #EMPTY} snapshot has no buckets, which count as zero.
+     */
+    private Snapshot minus(Snapshot other) {
+      long[] diff = bucketCounts.clone();
+      for (int i = 0; i < other.bucketCounts.length; i++) {
+        diff[i] -= other.bucketCounts[i];
+      }
+      return new Snapshot(diff, count - other.count, sum - other.sum);
+    }
+
+    double getAvg() {
+      return count == 0 ? Double.NaN : sum / VALUE_SCALE / count;
+    }
+
+    double getMax() {
+      for (int i = bucketCounts.length - 1; i >= 0; i--) {
+        if (bucketCounts[i] > 0) {
+          return getHighestEquivalentValue(i) / VALUE_SCALE;
+        }
+      }
+      return Double.NaN;
+    }
+
+    /**
+     * The bucket counts are summed up here instead of using the count, since the count might not be in sync with
+     * the buckets when the snapshot got taken during a record.
+     */
+    double getPercentile(double percentile) {
+      long totalCount = 0;
+      for (long bucketCount: bucketCounts) {
+        totalCount += bucketCount;
+      }
+      if (totalCount == 0) {
+        return Double.NaN;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+      long cumulativeCount = 0;
+      for (int i = 0; i < bucketCounts.length; i++) {
+        cumulativeCount += bucketCounts[i];
+        if (cumulativeCount >= rank) {
+          return getHighestEquivalentValue(i) / VALUE_SCALE;
+        }
+      }
+      return getHighestEquivalentValue(bucketCounts.length - 1) / VALUE_SCALE;
+    }
+  }
+}
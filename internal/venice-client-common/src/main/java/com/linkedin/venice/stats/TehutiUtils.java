@@ -16,7 +16,7 @@ import java.util.Arrays;
  */
 public class TehutiUtils {
   private static final int DEFAULT_HISTOGRAM_SIZE_IN_BYTES = 40000;
-  private static final double DEFAULT_HISTOGRAM_MAX_VALUE = 10000;
+  static final double DEFAULT_HISTOGRAM_MAX_VALUE = 10000;
   private static final double[] DEFAULT_HISTOGRAM_PERCENTILES = new double[] { 50, 95, 99 };
 
   // a fine grained percentiles. Please use it with cautions as it will emit more 20
@@ -105,6 +105,17 @@ public class TehutiUtils {
   }
 
   private static Percentile getPercentile(String name, double percentile) {
+    return new Percentile(name + "." + getPercentileAttributeName(percentile), percentile);
+  }
+
+  static double[] getDefaultHistogramPercentiles() {
+    return DEFAULT_HISTOGRAM_PERCENTILES;
+  }
+
+  /**
+   * @return the attribute name of the metric of the given percentile, e.g. "99_9thPercentile".
+   */
+  static String getPercentileAttributeName(double percentile) {
     String stringPercentile = Double.toString(percentile);
     // Clip decimals for round numbers.
     if (stringPercentile.endsWith(ROUND_NUMBER_SUFFIX)) {
@@ -115,7 +126,7 @@ public class TehutiUtils {
     if (stringPercentile.contains(".")) {
       stringPercentile = stringPercentile.replace(".", "_");
     }
-    return new Percentile(name + "." + stringPercentile + "thPercentile", percentile);
+    return stringPercentile + "thPercentile";
   }
 
   /**
@@ -0,0 +1,101 @@
+package com.linkedin.venice.compression;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.testng.annotations.Test;
+
+
+public class ResponseCompressionUtilsTest {
+  @Test
+  public void testCompressAndDecompress() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      sb.append("record_").append(i % 10);
+    }
+    byte[] data = sb.toString().getBytes(StandardCharsets.UTF_8);
+    byte[] compressed = ResponseCompressionUtils.compress(data);
+    assertTrue(compressed.length < data.length);
+    assertEquals(ResponseCompressionUtils.decompress(compressed), data);
+    assertEquals(
+        ResponseCompressionUtils
+            .decompressIfNeeded(ResponseCompressionUtils.RESPONSE_COMPRESSION_HEADER_VALUE, compressed),
+        data);
+
+    assertEquals(ResponseCompressionUtils.decompress(ResponseCompressionUtils.compress(new byte[0])), new byte[0]);
+  }
+
+  @Test
+  public void testDecompressIfNeeded() {
+    byte[] data = "value".getBytes(StandardCharsets.UTF_8);
+    assertSame(ResponseCompressionUtils.decompressIfNeeded(null, data), data);
+    assertThrows(
+        VeniceException.class,
+        () -> ResponseCompressionUtils.decompressIfNeeded(Integer.toString(CompressionStrategy.GZIP.getValue()), data));
+  }
+
+  @Test
+  public void testStreamingResponseDecompressor() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      sb.append("record_").append(i % 10);
+    }
+    byte[] largeChunk = sb.toString().getBytes(StandardCharsets.UTF_8);
+    byte[] smallChunk = "value".getBytes(StandardCharsets.UTF_8);
+    byte[] largeFrame = ResponseCompressionUtils.compressChunk(largeChunk, 1024);
+    byte[] smallFrame = ResponseCompressionUtils.compressChunk(smallChunk, 1024);
+    // Only the chunks reaching the min size get compressed
+    assertEquals(largeFrame[0], ResponseCompressionUtils.FRAME_COMPRESSED);
+    assertTrue(largeFrame.length < largeChunk.length);
+    assertEquals(smallFrame[0], ResponseCompressionUtils.FRAME_UNCOMPRESSED);
+    assertEquals(smallFrame.length, ResponseCompressionUtils.FRAME_HEADER_SIZE + smallChunk.length);
+
+    ByteArrayOutputStream frames = new ByteArrayOutputStream();
+    frames.write(largeFrame, 0, largeFrame.length);
+    frames.write(smallFrame, 0, smallFrame.length);
+    byte[] framesBytes = frames.toByteArray();
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.write(largeChunk, 0, largeChunk.length);
+    expected.write(smallChunk, 0, smallChunk.length);
+
+    // The frames need to be decoded no matter how the received data is split
+    for (int pieceSize: new int[] { 1, 3, 7, 100, framesBytes.length }) {
+      StreamingResponseDecompressor decompressor = new StreamingResponseDecompressor();
+      ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+      for (int offset = 0; offset < framesBytes.length; offset += pieceSize) {
+        int length = Math.min(pieceSize, framesBytes.length - offset);
+        ByteBuffer data = decompressor.decompress(ByteBuffer.wrap(framesBytes, offset, length));
+        decompressed.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+      }
+      assertTrue(decompressor.isComplete());
+      assertEquals(decompressed.toByteArray(), expected.toByteArray());
+    }
+
+    StreamingResponseDecompressor decompressor = new StreamingResponseDecompressor();
+    assertEquals(decompressor.decompress(ByteBuffer.wrap(largeFrame, 0, 3)).remaining(), 0);
+    assertFalse(decompressor.isComplete());
+    byte[] invalidFrame = smallFrame.clone();
+    invalidFrame[0] = 2;
+    assertThrows(
+        VeniceException.class,
+        () -> new StreamingResponseDecompressor().decompress(ByteBuffer.wrap(invalidFrame)));
+  }
+
+  @Test
+  public void testIsResponseCompressionSupported() {
+    assertTrue(
+        ResponseCompressionUtils
+            .isResponseCompressionSupported(Integer.toString(CompressionStrategy.ZSTD.getValue())));
+    assertFalse(ResponseCompressionUtils.isResponseCompressionSupported(null));
+    assertFalse(
+        ResponseCompressionUtils
+            .isResponseCompressionSupported(Integer.toString(CompressionStrategy.GZIP.getValue())));
+  }
+}
@@ -71,6 +71,30 @@ public class AbstractVeniceStatsTest {
     Assert.assertEquals(metricsRepository.getMetric(".myMetric--baz.Rate").value(), 0.0);
   }
 
+  @Test
+  public void testRegisterStripedHistogram() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    AbstractVeniceStats totalStats = new AbstractVeniceStats(metricsRepository, "total");
+    AbstractVeniceStats stats = new AbstractVeniceStats(metricsRepository, "myMetric");
+    StripedHistogram totalHistogram = totalStats.registerStripedHistogram("foo", null);
+    StripedHistogram histogram = stats.registerStripedHistogram("foo", totalHistogram);
+    // Registering it again returns the same histogram
+    Assert.assertSame(stats.registerStripedHistogram("foo", totalHistogram), histogram);
+    Assert.assertEquals(metricsRepository.metrics().size(), 10);
+
+    histogram.record(10.0);
+    for (String metricPrefix: new String[] { ".myMetric--foo.", ".total--foo." }) {
+      Assert.assertEquals(metricsRepository.getMetric(metricPrefix + "Avg").value(), 10.0);
+      for (String attributeName: new String[] { "Max", "50thPercentile", "95thPercentile", "99thPercentile" }) {
+        Assert.assertEquals(metricsRepository.getMetric(metricPrefix + attributeName).value(), 10.0, 0.5);
+      }
+    }
+
+    stats.unregisterAllSensors();
+    Assert.assertEquals(metricsRepository.metrics().size(), 5);
+    Assert.assertNull(metricsRepository.getMetric(".myMetric--foo.Avg"));
+  }
+
   @Test
   public void testRegisterSensorAttributeGauge() {
     MetricsRepository metricsRepository = new MetricsRepository();
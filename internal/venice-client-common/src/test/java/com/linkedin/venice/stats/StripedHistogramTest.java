@@ -0,0 +1,127 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.utils.TestMockTime;
+import com.linkedin.venice.utils.Time;
+import io.tehuti.metrics.MetricConfig;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StripedHistogramTest {
+  private static final MetricConfig METRIC_CONFIG = new MetricConfig();
+
+  @Test
+  public void testBucketIndex() {
+    long previousHighestEquivalentValue = -1;
+    for (int i = 0; i < StripedHistogram.getBucketIndex(Long.MAX_VALUE); i++) {
+      long highestEquivalentValue = StripedHistogram.getHighestEquivalentValue(i);
+      // The buckets are contiguous, and every value maps back to its bucket
+      Assert.assertEquals(StripedHistogram.getBucketIndex(previousHighestEquivalentValue + 1), i);
+      Assert.assertEquals(StripedHistogram.getBucketIndex(highestEquivalentValue), i);
+      // The relative error stays within the precision of the buckets
+      Assert.assertTrue(
+          highestEquivalentValue - previousHighestEquivalentValue <= Math.max(1, highestEquivalentValue / 16),
+          "Bucket " + i + " is too wide");
+      previousHighestEquivalentValue = highestEquivalentValue;
+    }
+    // The default highest trackable value bounds the histograms to 271 buckets of 8 bytes per stripe and sample
+    long highestTrackableValue =
+        (long) (StripedHistogram.DEFAULT_HIGHEST_TRACKABLE_VALUE * StripedHistogram.VALUE_SCALE);
+    Assert.assertEquals(StripedHistogram.getBucketIndex(highestTrackableValue), 270);
+  }
+
+  @Test
+  public void testStats() {
+    StripedHistogram histogram = new StripedHistogram(null);
+    Assert.assertEquals(histogram.avgStat().measure(METRIC_CONFIG, 1000), Double.NaN);
+    Assert.assertEquals(histogram.maxStat().measure(METRIC_CONFIG, 1000), Double.NaN);
+    Assert.assertEquals(histogram.percentileStat(50).measure(METRIC_CONFIG, 1000), Double.NaN);
+
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i);
+    }
+    Assert.assertEquals(histogram.avgStat().measure(METRIC_CONFIG, 1000), 50.5);
+    assertWithinPrecision(histogram.maxStat().measure(METRIC_CONFIG, 1000), 100);
+    assertWithinPrecision(histogram.percentileStat(50).measure(METRIC_CONFIG, 1000), 50);
+    assertWithinPrecision(histogram.percentileStat(99).measure(METRIC_CONFIG, 1000), 99);
+    assertWithinPrecision(histogram.percentileStat(99.9).measure(METRIC_CONFIG, 1000), 100);
+    // Sub-millisecond latencies are tracked as well
+    StripedHistogram smallValueHistogram = new StripedHistogram(null);
+    smallValueHistogram.record(0.25);
+    assertWithinPrecision(smallValueHistogram.percentileStat(50).measure(METRIC_CONFIG, 1000), 0.25);
+  }
+
+  @Test
+  public void testSamples() {
+    // The same samples as the sampled stats of Tehuti: 2 samples of 30 seconds by default
+    MetricConfig config = new MetricConfig();
+    long windowMs = config.timeWindowMs();
+    TestMockTime time = new TestMockTime(0);
+    StripedHistogram histogram = new StripedHistogram(null, 1, 10_000, config, time);
+    histogram.record(10);
+    time.addMilliseconds(windowMs - 1);
+    Assert.assertEquals(histogram.avgStat().measure(config, time.getMilliseconds()), 10d);
+
+    // A new sample starts on the first record after the time window, and the previous sample is kept
+    time.addMilliseconds(1);
+    histogram.record(20);
+    Assert.assertEquals(histogram.avgStat().measure(config, time.getMilliseconds()), 15d);
+    // The first sample is obsolete once it started two time windows ago, regardless of the records
+    time.addMilliseconds(windowMs);
+    Assert.assertEquals(histogram.avgStat().measure(config, time.getMilliseconds()), 20d);
+    // Only the latest two samples are kept
+    histogram.record(30);
+    Assert.assertEquals(histogram.avgStat().measure(config, time.getMilliseconds()), 25d);
+    // All the samples are obsolete after two time windows without any record
+    time.addMilliseconds(2 * windowMs);
+    Assert.assertEquals(histogram.avgStat().measure(config, time.getMilliseconds()), Double.NaN);
+
+    // The values above the highest trackable value are counted in the last bucket
+    histogram.record(20_000);
+    Assert.assertEquals(histogram.avgStat().measure(config, time.getMilliseconds()), 20_000d);
+    assertWithinPrecision(histogram.maxStat().measure(config, time.getMilliseconds()), 10_000);
+  }
+
+  @Test
+  public void testParent() {
+    StripedHistogram parent = new StripedHistogram(null);
+    StripedHistogram child1 = new StripedHistogram(parent);
+    StripedHistogram child2 = new StripedHistogram(parent);
+    child1.record(10);
+    child2.record(30);
+    Assert.assertEquals(child1.avgStat().measure(METRIC_CONFIG, 1000), 10d);
+    Assert.assertEquals(child2.avgStat().measure(METRIC_CONFIG, 1000), 30d);
+    Assert.assertEquals(parent.avgStat().measure(METRIC_CONFIG, 1000), 20d);
+  }
+
+  @Test(timeOut = 30 * Time.MS_PER_SECOND)
+  public void testConcurrentRecording() throws InterruptedException {
+    StripedHistogram histogram = new StripedHistogram(null);
+    int threadCount = 8;
+    int recordCountPerThread = 100_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      for (int i = 0; i < threadCount; i++) {
+        executor.submit(() -> {
+          for (int j = 0; j < recordCountPerThread; j++) {
+            histogram.record(j % 100);
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      Assert.assertTrue(executor.awaitTermination(20, TimeUnit.SECONDS));
+    }
+    StripedHistogram.Snapshot snapshot = histogram.getWindowedSnapshot(1000);
+    Assert.assertEquals(snapshot.getAvg(), 49.5);
+    assertWithinPrecision(snapshot.getPercentile(50), 49);
+    assertWithinPrecision(snapshot.getMax(), 99);
+  }
+
+  private static void assertWithinPrecision(double actual, double expected) {
+    Assert.assertEquals(actual, expected, expected / 16, "Actual: " + actual + ", expected: " + expected);
+  }
+}
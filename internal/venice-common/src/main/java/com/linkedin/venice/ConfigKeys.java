@@ -399,6 +399,55 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_TASK_MAX_IDLE_COUNT = "server.ingestion.task.max.idle.count";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
   public static final String STORE_WRITER_BUFFER_NOTIFY_DELTA = "store.writer.buffer.notify.delta";
+
+  /**
+   * How topic partitions are assigned to the drainers of the store buffer service, see
+   * {@code com.linkedin.davinci.kafka.consumer.StoreBufferService.DrainerAssignmentStrategy}.
+   */
+  public static final String STORE_WRITER_DRAINER_ASSIGNMENT_STRATEGY = "store.writer.drainer.assignment.strategy";
+
+  /**
+   * With the adaptive drainer assignment strategy, the minimum interval between two evaluations of whether a topic
+   * partition should be moved to a less loaded drainer.
+   */
+  public static final String STORE_WRITER_DRAINER_MIGRATION_INTERVAL_MS = "store.writer.drainer.migration.interval.ms";
+
+  /**
+   * With the adaptive drainer assignment strategy, a topic partition is only moved when the estimated load of its
+   * drainer is more than this ratio times the load of the least loaded drainer.
+   */
+  public static final String STORE_WRITER_DRAINER_LOAD_IMBALANCE_RATIO = "store.writer.drainer.load.imbalance.ratio";
+
+  /**
+   * One out of this many ingested records gets its time in each stage of the write path traced, from the poll to the
+   * write to the storage engine. 0 disables the tracing.
+   */
+  public static final String SERVER_WRITE_PATH_TRACE_SAMPLING_INTERVAL = "server.write.path.trace.sampling.interval";
+
+  /**
+   * How many of the slowest traced records are kept per version topic, to be dumped through the admin endpoint.
+   */
+  public static final String SERVER_WRITE_PATH_TRACE_SLOWEST_RECORD_COUNT =
+      "server.write.path.trace.slowest.record.count";
+
+  /**
+   * The slowest traced records are kept for at least this long, and at most twice as long.
+   */
+  public static final String SERVER_WRITE_PATH_TRACE_SLOWEST_RECORD_WINDOW_MS =
+      "server.write.path.trace.slowest.record.window.ms";
+
+  /**
+   * Whether a leader coalesces the consecutive UPDATE messages of the same key within a poll batch, so that they are
+   * applied on a single read of the current value and produced to the version topic as a single record.
+   */
+  public static final String SERVER_LEADER_UPDATE_COALESCING_ENABLED = "server.leader.update.coalescing.enabled";
+
+  /**
+   * Whether active/active replication applies collection merges on list and map fields through a hash index of their
+   * elements, instead of sorting the whole collection on each modification. Both produce the same value and RMD.
+   */
+  public static final String SERVER_INDEX_BASED_COLLECTION_MERGE_ENABLED =
+      "server.index.based.collection.merge.enabled";
   public static final String SERVER_REST_SERVICE_STORAGE_THREAD_NUM = "server.rest.service.storage.thread.num";
   public static final String SERVER_NETTY_IDLE_TIME_SECONDS = "server.netty.idle.time.seconds";
   public static final String SERVER_MAX_REQUEST_SIZE = "server.max.request.size";
@@ -557,6 +606,25 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether to compress the non-streaming read responses with zstd for the clients advertising the support for it,
+   * which trades the CPU of both sides for the network bandwidth.
+   */
+  public static final String SERVER_RESPONSE_COMPRESSION_ENABLED = "server.response.compression.enabled";
+
+  /**
+   * The min size of the read responses to get compressed, since compressing small responses isn't worth the CPU.
+   */
+  public static final String SERVER_RESPONSE_COMPRESSION_MIN_SIZE_BYTES = "server.response.compression.min.size.bytes";
+
+  /**
+   * Whether the replicas ingest the pre-built partition files from the staging area pointed to by the End of Push,
+   * for the pushes which bypass the version topic for the records. The End of Push of such a push fails the ingestion
+   * if disabled, since the version would end up empty otherwise.
+   */
+  public static final String SERVER_PREBUILT_PARTITION_FILE_INGESTION_ENABLED =
+      "server.prebuilt.partition.file.ingestion.enabled";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -902,6 +970,51 @@ public class ConfigKeys {
    */
   public static final String ROUTER_MAX_PENDING_REQUEST = "router.max.pending.request";
 
+  /**
+   * Whether to queue the requests exceeding {@link #ROUTER_MAX_PENDING_REQUEST} per store, instead of rejecting them
+   * right away, and to admit the queued requests in a round-robin fashion across stores as pending requests complete.
+   * This keeps a burst of requests of one store from starving the other stores.
+   */
+  public static final String ROUTER_FAIR_ADMISSION_ENABLED = "router.fair.admission.enabled";
+
+  /**
+   * The max number of requests which can be queued per store by the fair admission, beyond which Router will return
+   * 503 (Service Unavailable).
+   */
+  public static final String ROUTER_FAIR_ADMISSION_MAX_QUEUED_REQUEST_PER_STORE =
+      "router.fair.admission.max.queued.request.per.store";
+
+  /**
+   * The max time a request can be queued by the fair admission. The requests which couldn't be admitted in time are
+   * shed with 503 (Service Unavailable), since they are likely to time out anyway.
+   */
+  public static final String ROUTER_FAIR_ADMISSION_MAX_QUEUEING_DELAY_MS =
+      "router.fair.admission.max.queueing.delay.ms";
+
+  /**
+   * The max total size of the keys of the requests queued by the fair admission, which bounds the memory held by the
+   * queues. When it's reached, Router will return 503 (Service Unavailable) instead of queueing more requests.
+   */
+  public static final String ROUTER_FAIR_ADMISSION_MAX_QUEUED_BYTES = "router.fair.admission.max.queued.bytes";
+
+  /**
+   * The ratio in which the fair admission dequeues the retry requests, the batch requests and the single-get requests
+   * of a store, in the form of LOW:NORMAL:HIGH, e.g. 5:15:80.
+   */
+  public static final String ROUTER_FAIR_ADMISSION_QOS_FAIR_RATIO = "router.fair.admission.qos.fair.ratio";
+
+  /**
+   * Whether to compress the read responses with zstd for the clients advertising the support for it, which trades the
+   * CPU of both sides for the network bandwidth. The streaming responses get compressed chunk by chunk.
+   */
+  public static final String ROUTER_RESPONSE_COMPRESSION_ENABLED = "router.response.compression.enabled";
+
+  /**
+   * The min size of the read responses, or of the chunks of the streaming responses, to get compressed, since
+   * compressing small responses isn't worth the CPU.
+   */
+  public static final String ROUTER_RESPONSE_COMPRESSION_MIN_SIZE_BYTES = "router.response.compression.min.size.bytes";
+
   /**
    * This config is used to define the routing strategy for multi-key requests.
    * Please check {@literal VeniceMultiKeyRoutingStrategy} to find available routing strategy.
@@ -1057,6 +1170,26 @@ public class ConfigKeys {
   /** Timeout for create topic and delete topic operations. */
   public static final String TOPIC_MANAGER_KAFKA_OPERATION_TIMEOUT_MS = "topic.manager.kafka.operation.timeout.ms";
 
+  /**
+   * Whether concurrent latest offset lookups of the same topic should share a single end offsets request. See
+   * {@link com.linkedin.venice.kafka.partitionoffset.CoalescingPartitionOffsetFetcher}.
+   */
+  public static final String TOPIC_MANAGER_OFFSET_FETCHER_COALESCING_ENABLED =
+      "topic.manager.offset.fetcher.coalescing.enabled";
+
+  /**
+   * Number of consumers used by the coalescing partition offset fetcher to query the brokers concurrently.
+   */
+  public static final String TOPIC_MANAGER_OFFSET_FETCHER_CONSUMER_POOL_SIZE =
+      "topic.manager.offset.fetcher.consumer.pool.size";
+
+  /**
+   * Interval at which the coalescing partition offset fetcher refreshes the latest offsets of the frequently queried
+   * topics in the background, which are then served from memory. Non-positive value disables the background refresh.
+   */
+  public static final String TOPIC_MANAGER_OFFSET_FETCHER_HOT_TOPIC_REFRESH_INTERVAL_MS =
+      "topic.manager.offset.fetcher.hot.topic.refresh.interval.ms";
+
   /**
    * This is the minimum number of Kafka topics that are guaranteed to be preserved by the leaky topic clean
    * up routine. The topics with the highest version numbers will be favored by this preservative behavior.
@@ -1642,6 +1775,21 @@ public class ConfigKeys {
   public static final String CLIENT_SYSTEM_STORE_REPOSITORY_REFRESH_INTERVAL_SECONDS =
       "client.system.store.repository.refresh.interval.seconds";
 
+  /**
+   * Whether the meta system store based repositories subscribe to the changes of the meta system stores and apply them
+   * as they arrive. The periodic refresh is then only used to reconcile the cached metadata, with the interval
+   * configured by {@link #CLIENT_META_STORE_RECONCILIATION_INTERVAL_SECONDS}. {@link #KAFKA_BOOTSTRAP_SERVERS} and the
+   * other pub sub consumer configs must be specified when it's enabled.
+   */
+  public static final String CLIENT_META_STORE_CHANGE_SUBSCRIPTION_ENABLED =
+      "client.meta.store.change.subscription.enabled";
+
+  /**
+   * The refresh interval for meta system store based repositories which subscribe to the meta system store changes.
+   */
+  public static final String CLIENT_META_STORE_RECONCILIATION_INTERVAL_SECONDS =
+      "client.meta.store.reconciliation.interval.seconds";
+
   /**
    * Test only config used to disable parent topic truncation upon job completion. This is needed because kafka cluster
    * in test environment is shared between parent and child controllers. Truncating topic upon completion will confuse
@@ -0,0 +1,302 @@
+package com.linkedin.venice.kafka.partitionoffset;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionInfo;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubOpTimeoutException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMaps;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import org.apache.commons.lang.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link PartitionOffsetFetcher} backed by a pool of {@link PartitionOffsetFetcherImpl}, each with its own consumer,
+ * so that the lookups don't all serialize on a single consumer lock.
+ *
+ * The latest offset lookups of a topic are coalesced: the first lookup of a topic creates a pending fetch, and the
+ * lookups of the same topic which arrive while it waits for a free consumer join it. The pending fetch is sealed right
+ * before the end offsets of all the partitions of the topic are requested, so every lookup gets offsets which were
+ * fetched after it started.
+ *
+ * Optionally, the topics which are looked up several times within a refresh interval are considered hot, and their
+ * latest offsets are refreshed in the background at that interval and served from memory. Those offsets can be up to
+ * two refresh intervals old, so the background refresh should only be enabled when the callers tolerate it, e.g. for
+ * the lag measurements of the ingestion.
+ */
+public class CoalescingPartitionOffsetFetcher implements PartitionOffsetFetcher {
+  /**
+   * Minimum number of latest offset lookups of a topic within a refresh interval for it to be considered hot.
+   */
+  static final int HOT_TOPIC_MIN_REQUEST_COUNT = 2;
+
+  private final Logger logger;
+  private final List<PartitionOffsetFetcher> fetchers;
+  private final BlockingQueue<PartitionOffsetFetcher> idleFetchers;
+  private final Optional<PartitionOffsetFetcherStats> stats;
+  private final Time time;
+  private final long hotTopicRefreshIntervalMs;
+  private final Map<PubSubTopic, PendingFetch> pendingFetches = new VeniceConcurrentHashMap<>();
+  private final Map<PubSubTopic, TopicRefreshState> topicRefreshStates = new VeniceConcurrentHashMap<>();
+  private final ScheduledExecutorService refreshExecutor;
+
+  /**
+   * @param fetchers the fetchers to pool, which must not be shared with anything else
+   * @param hotTopicRefreshIntervalMs the background refresh interval of the hot topics, non-positive to disable it
+   */
+  public CoalescingPartitionOffsetFetcher(
+      @Nonnull List<PartitionOffsetFetcher> fetchers,
+      @Nonnull Optional<PartitionOffsetFetcherStats> stats,
+      @Nonnull Time time,
+      long hotTopicRefreshIntervalMs,
+      String kafkaBootstrapServers) {
+    Validate.notEmpty(fetchers);
+    Validate.notNull(stats);
+    Validate.notNull(time);
+    this.fetchers = fetchers;
+    this.idleFetchers = new ArrayBlockingQueue<>(fetchers.size(), false, fetchers);
+    this.stats = stats;
+    this.time = time;
+    this.hotTopicRefreshIntervalMs = hotTopicRefreshIntervalMs;
+    this.logger = LogManager
+        .getLogger(CoalescingPartitionOffsetFetcher.class.getSimpleName() + " [" + kafkaBootstrapServers + "]");
+    if (hotTopicRefreshIntervalMs > 0) {
+      this.refreshExecutor =
+          Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("PartitionOffsetFetcherRefresh"));
+      this.refreshExecutor.scheduleWithFixedDelay(
+          this::refreshHotTopics,
+          hotTopicRefreshIntervalMs,
+          hotTopicRefreshIntervalMs,
+          TimeUnit.MILLISECONDS);
+    } else {
+      this.refreshExecutor = null;
+    }
+  }
+
+  @Override
+  public Int2LongMap getTopicLatestOffsets(PubSubTopic topic) {
+    return getLatestOffsets(topic);
+  }
+
+  @Override
+  public long getPartitionLatestOffsetAndRetry(PubSubTopicPartition pubSubTopicPartition, int retries) {
+    if (retries < 1) {
+      throw new IllegalArgumentException("Invalid retries. Got: " + retries);
+    }
+    if (pubSubTopicPartition.getPartitionNumber() < 0) {
+      throw new IllegalArgumentException(
+          "Cannot retrieve latest offsets for invalid partition " + pubSubTopicPartition.getPartitionNumber());
+    }
+    PubSubOpTimeoutException lastException = null;
+    for (int attempt = 0; attempt < retries; attempt++) {
+      try {
+        Int2LongMap latestOffsets = getLatestOffsets(pubSubTopicPartition.getPubSubTopic());
+        if (latestOffsets.containsKey(pubSubTopicPartition.getPartitionNumber())) {
+          return latestOffsets.get(pubSubTopicPartition.getPartitionNumber());
+        }
+        /**
+         * The consumer metadata doesn't know about this partition yet, e.g. the topic was just created. Fall back to
+         * the regular lookup, which waits for the topic to show up and throws if it doesn't.
+         */
+        int remainingRetries = retries - attempt;
+        return withFetcher(fetcher -> fetcher.getPartitionLatestOffsetAndRetry(pubSubTopicPartition, remainingRetries));
+      } catch (PubSubOpTimeoutException e) {
+        logger.warn("Failed to get latest offset. Retries remaining: {}", retries - attempt - 1, e);
+        lastException = e;
+      }
+    }
+    throw lastException;
+  }
+
+  @Override
+  public long getPartitionEarliestOffsetAndRetry(PubSubTopicPartition pubSubTopicPartition, int retries) {
+    return withFetcher(fetcher -> fetcher.getPartitionEarliestOffsetAndRetry(pubSubTopicPartition, retries));
+  }
+
+  @Override
+  public long getPartitionOffsetByTime(PubSubTopicPartition pubSubTopicPartition, long timestamp) {
+    return withFetcher(fetcher -> fetcher.getPartitionOffsetByTime(pubSubTopicPartition, timestamp));
+  }
+
+  @Override
+  public long getProducerTimestampOfLastDataRecord(PubSubTopicPartition pubSubTopicPartition, int retries) {
+    return withFetcher(fetcher -> fetcher.getProducerTimestampOfLastDataRecord(pubSubTopicPartition, retries));
+  }
+
+  @Override
+  public List<PubSubTopicPartitionInfo> partitionsFor(PubSubTopic topic) {
+    return withFetcher(fetcher -> fetcher.partitionsFor(topic));
+  }
+
+  @Override
+  public long getOffsetByTimeIfOutOfRange(PubSubTopicPartition pubSubTopicPartition, long timestamp) {
+    return withFetcher(fetcher -> fetcher.getOffsetByTimeIfOutOfRange(pubSubTopicPartition, timestamp));
+  }
+
+  @Override
+  public void close() {
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdownNow();
+    }
+    for (PartitionOffsetFetcher fetcher: fetchers) {
+      fetcher.close();
+    }
+  }
+
+  private Int2LongMap getLatestOffsets(PubSubTopic topic) {
+    if (refreshExecutor == null) {
+      return fetchLatestOffsets(topic);
+    }
+    TopicRefreshState refreshState = topicRefreshStates.computeIfAbsent(topic, k -> new TopicRefreshState());
+    refreshState.requestCount.incrementAndGet();
+    Int2LongMap latestOffsets = refreshState.latestOffsets;
+    if (refreshState.hot && latestOffsets != null
+        && time.getMilliseconds() - refreshState.refreshTimeMs < 2 * hotTopicRefreshIntervalMs) {
+      stats.ifPresent(PartitionOffsetFetcherStats::recordLatestOffsetsCacheHit);
+      return latestOffsets;
+    }
+    return fetchLatestOffsets(topic);
+  }
+
+  /**
+   * Fetches the latest offsets of all the partitions of the topic, or joins a pending fetch of the same topic which
+   * hasn't been sent yet.
+   */
+  private Int2LongMap fetchLatestOffsets(PubSubTopic topic) {
+    PendingFetch newFetch = new PendingFetch();
+    PendingFetch pendingFetch = pendingFetches.putIfAbsent(topic, newFetch);
+    if (pendingFetch != null) {
+      pendingFetch.requestCount.incrementAndGet();
+      return pendingFetch.await();
+    }
+
+    PartitionOffsetFetcher fetcher;
+    try {
+      fetcher = idleFetchers.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      VeniceException exception = new VeniceException("Interrupted while waiting for an idle consumer", e);
+      pendingFetches.remove(topic, newFetch);
+      newFetch.future.completeExceptionally(exception);
+      throw exception;
+    }
+    try {
+      // The lookups which arrive from now on would miss the records produced after the offsets are fetched
+      pendingFetches.remove(topic, newFetch);
+      long startTimeNs = System.nanoTime();
+      // The offsets are shared by all the coalesced lookups, so none of them must be able to modify them
+      Int2LongMap latestOffsets = Int2LongMaps.unmodifiable(fetcher.getTopicLatestOffsets(topic));
+      stats.ifPresent(
+          s -> s.recordLatestOffsetsFetch(
+              LatencyUtils.getLatencyInMS(startTimeNs),
+              newFetch.requestCount.get()));
+      if (refreshExecutor != null) {
+        TopicRefreshState refreshState = topicRefreshStates.get(topic);
+        if (refreshState != null) {
+          refreshState.update(latestOffsets, time.getMilliseconds());
+        }
+      }
+      newFetch.future.complete(latestOffsets);
+      return latestOffsets;
+    } catch (RuntimeException e) {
+      newFetch.future.completeExceptionally(e);
+      throw e;
+    } finally {
+      idleFetchers.add(fetcher);
+    }
+  }
+
+  private <T> T withFetcher(Function<PartitionOffsetFetcher, T> function) {
+    PartitionOffsetFetcher fetcher;
+    try {
+      fetcher = idleFetchers.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while waiting for an idle consumer", e);
+    }
+    try {
+      return function.apply(fetcher);
+    } finally {
+      idleFetchers.add(fetcher);
+    }
+  }
+
+  /**
+   * Refreshes the latest offsets of the topics which were looked up at least {@link #HOT_TOPIC_MIN_REQUEST_COUNT}
+   * times since the previous refresh, and forgets the topics which weren't looked up at all.
+   */
+  void refreshHotTopics() {
+    for (Map.Entry<PubSubTopic, TopicRefreshState> entry: topicRefreshStates.entrySet()) {
+      PubSubTopic topic = entry.getKey();
+      TopicRefreshState refreshState = entry.getValue();
+      int requestCount = refreshState.requestCount.getAndSet(0);
+      if (requestCount == 0) {
+        topicRefreshStates.remove(topic, refreshState);
+        continue;
+      }
+      refreshState.hot = requestCount >= HOT_TOPIC_MIN_REQUEST_COUNT;
+      if (!refreshState.hot) {
+        continue;
+      }
+      try {
+        fetchLatestOffsets(topic);
+      } catch (Exception e) {
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        // Stop serving the outdated offsets, the lookups will fetch them until the next successful refresh
+        refreshState.hot = false;
+        logger.warn("Failed to refresh the latest offsets of hot topic: {}", topic, e);
+      }
+    }
+  }
+
+  private static class PendingFetch {
+    private final CompletableFuture<Int2LongMap> future = new CompletableFuture<>();
+    private final AtomicInteger requestCount = new AtomicInteger(1);
+
+    Int2LongMap await() {
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new VeniceException("Failed to fetch the latest offsets", e.getCause());
+      }
+    }
+  }
+
+  private static class TopicRefreshState {
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile boolean hot;
+    private volatile Int2LongMap latestOffsets;
+    private volatile long refreshTimeMs;
+
+    synchronized void update(Int2LongMap latestOffsets, long refreshTimeMs) {
+      if (refreshTimeMs >= this.refreshTimeMs) {
+        this.latestOffsets = latestOffsets;
+        this.refreshTimeMs = refreshTimeMs;
+      }
+    }
+  }
+}
@@ -1,5 +1,9 @@
 package com.linkedin.venice.kafka.partitionoffset;
 
+import static com.linkedin.venice.ConfigKeys.TOPIC_MANAGER_OFFSET_FETCHER_COALESCING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.TOPIC_MANAGER_OFFSET_FETCHER_CONSUMER_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.TOPIC_MANAGER_OFFSET_FETCHER_HOT_TOPIC_REFRESH_INTERVAL_MS;
+
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.pubsub.PubSubConsumerAdapterFactory;
 import com.linkedin.venice.pubsub.api.PubSubAdminAdapter;
@@ -10,6 +14,8 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
 import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -25,22 +31,63 @@ public class PartitionOffsetFetcherFactory {
         new KafkaValueSerializer(),
         new LandFillObjectPool<>(KafkaMessageEnvelope::new),
         new LandFillObjectPool<>(KafkaMessageEnvelope::new));
-    PartitionOffsetFetcher partitionOffsetFetcher = new PartitionOffsetFetcherImpl(
+    Optional<PartitionOffsetFetcherStats> optionalStats = optionalMetricsRepository.map(
+        metricsRepository -> new PartitionOffsetFetcherStats(
+            metricsRepository,
+            "PartitionOffsetFetcherStats_" + pubSubBootstrapServers));
+    PartitionOffsetFetcher partitionOffsetFetcher;
+    if (veniceProperties.getBoolean(TOPIC_MANAGER_OFFSET_FETCHER_COALESCING_ENABLED, false)) {
+      int consumerPoolSize = veniceProperties.getInt(TOPIC_MANAGER_OFFSET_FETCHER_CONSUMER_POOL_SIZE, 1);
+      if (consumerPoolSize < 1) {
+        throw new IllegalArgumentException(
+            TOPIC_MANAGER_OFFSET_FETCHER_CONSUMER_POOL_SIZE + " must be positive. Got: " + consumerPoolSize);
+      }
+      List<PartitionOffsetFetcher> fetchers = new ArrayList<>(consumerPoolSize);
+      for (int i = 0; i < consumerPoolSize; i++) {
+        fetchers.add(
+            createPartitionOffsetFetcher(
+                pubSubConsumerAdapterFactory,
+                veniceProperties,
+                pubSubBootstrapServers,
+                kafkaAdminWrapper,
+                kafkaOperationTimeoutMs,
+                pubSubMessageDeserializer));
+      }
+      partitionOffsetFetcher = new CoalescingPartitionOffsetFetcher(
+          fetchers,
+          optionalStats,
+          new SystemTime(),
+          veniceProperties.getLong(TOPIC_MANAGER_OFFSET_FETCHER_HOT_TOPIC_REFRESH_INTERVAL_MS, 0),
+          pubSubBootstrapServers);
+    } else {
+      partitionOffsetFetcher = createPartitionOffsetFetcher(
+          pubSubConsumerAdapterFactory,
+          veniceProperties,
+          pubSubBootstrapServers,
+          kafkaAdminWrapper,
+          kafkaOperationTimeoutMs,
+          pubSubMessageDeserializer);
+    }
+    if (optionalStats.isPresent()) {
+      return new InstrumentedPartitionOffsetFetcher(partitionOffsetFetcher, optionalStats.get(), new SystemTime());
+    } else {
+      return partitionOffsetFetcher;
+    }
+  }
+
+  private static PartitionOffsetFetcher createPartitionOffsetFetcher(
+      PubSubConsumerAdapterFactory pubSubConsumerAdapterFactory,
+      VeniceProperties veniceProperties,
+      String pubSubBootstrapServers,
+      Lazy<PubSubAdminAdapter> kafkaAdminWrapper,
+      long kafkaOperationTimeoutMs,
+      PubSubMessageDeserializer pubSubMessageDeserializer) {
+    return new PartitionOffsetFetcherImpl(
         kafkaAdminWrapper,
         Lazy.of(
             () -> pubSubConsumerAdapterFactory
                 .create(veniceProperties, false, pubSubMessageDeserializer, pubSubBootstrapServers)),
         kafkaOperationTimeoutMs,
         pubSubBootstrapServers);
-    if (optionalMetricsRepository.isPresent()) {
-      return new InstrumentedPartitionOffsetFetcher(
-          partitionOffsetFetcher,
-          new PartitionOffsetFetcherStats(
-              optionalMetricsRepository.get(),
-              "PartitionOffsetFetcherStats_" + pubSubBootstrapServers),
-          new SystemTime());
-    } else {
-      return partitionOffsetFetcher;
-    }
   }
 }
@@ -2,6 +2,7 @@ package com.linkedin.venice.kafka.partitionoffset;
 
 import com.linkedin.venice.stats.AbstractVeniceStats;
 import com.linkedin.venice.stats.TehutiUtils;
+import com.linkedin.venice.utils.lazy.Lazy;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import io.tehuti.metrics.stats.Avg;
@@ -21,6 +22,9 @@ public class PartitionOffsetFetcherStats extends AbstractVeniceStats {
   }
 
   private final Map<OCCURRENCE_LATENCY_SENSOR_TYPE, Sensor> sensorsByTypes;
+  private final Lazy<Sensor> latestOffsetsFetchLatencySensor;
+  private final Lazy<Sensor> latestOffsetsCoalescedRequestCountSensor;
+  private final Lazy<Sensor> latestOffsetsCacheHitSensor;
 
   public PartitionOffsetFetcherStats(MetricsRepository metricsRepository, String name) {
     super(metricsRepository, name);
@@ -40,9 +44,35 @@ public class PartitionOffsetFetcherStats extends AbstractVeniceStats {
     }
 
     this.sensorsByTypes = Collections.unmodifiableMap(tmpRateSensorsByTypes);
+
+    /**
+     * The sensors below are only used by {@link CoalescingPartitionOffsetFetcher}, so they are registered lazily to
+     * avoid emitting empty metrics when coalescing is disabled.
+     */
+    this.latestOffsetsFetchLatencySensor = Lazy.of(
+        () -> registerSensorIfAbsent(
+            "latest_offsets_fetch_latency",
+            new OccurrenceRate(),
+            new Max(),
+            new Avg(),
+            TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + "latest_offsets_fetch_latency")));
+    // The average is the coalescing ratio, i.e. the number of latest offset lookups served by each fetch
+    this.latestOffsetsCoalescedRequestCountSensor =
+        Lazy.of(() -> registerSensorIfAbsent("latest_offsets_coalesced_request_count", new Avg(), new Max()));
+    this.latestOffsetsCacheHitSensor =
+        Lazy.of(() -> registerSensorIfAbsent("latest_offsets_cache_hit", new OccurrenceRate()));
   }
 
   public void recordLatency(OCCURRENCE_LATENCY_SENSOR_TYPE sensor_type, long requestLatencyMs) {
     sensorsByTypes.get(sensor_type).record(requestLatencyMs);
   }
+
+  public void recordLatestOffsetsFetch(double fetchLatencyMs, int coalescedRequestCount) {
+    latestOffsetsFetchLatencySensor.get().record(fetchLatencyMs);
+    latestOffsetsCoalescedRequestCountSensor.get().record(coalescedRequestCount);
+  }
+
+  public void recordLatestOffsetsCacheHit() {
+    latestOffsetsCacheHitSensor.get().record();
+  }
 }
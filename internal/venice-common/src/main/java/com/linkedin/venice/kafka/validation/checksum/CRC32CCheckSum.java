@@ -0,0 +1,195 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Running checksum implementation based on CRC32C (Castagnoli), which the JVM computes with the dedicated CPU
+ * instructions through {@code java.util.zip.CRC32C} on Java 9 and above. On older JVMs, it falls back to a table based
+ * implementation which produces the same values.
+ *
+ * The state of a CRC is the CRC of the data so far, but {@code java.util.zip.CRC32C} can't be resumed from it, so the
+ * CRC of the data received since the last checkpoint is kept separately and appended to the checkpointed CRC with
+ * {@link #combine(int, int, long)}.
+ */
+public class CRC32CCheckSum extends CheckSum {
+  private static final Logger LOGGER = LogManager.getLogger(CRC32CCheckSum.class);
+  private static final int POLYNOMIAL = 0x82F63B78;
+  private static final Supplier<Checksum> CHECKSUM_SUPPLIER = getChecksumSupplier();
+
+  private final Checksum checkSumGenerator;
+  /** CRC of the data up to the last checkpoint */
+  private int baseCrc;
+  /** Length of the data fed to {@link #checkSumGenerator} since the last checkpoint */
+  private long length;
+
+  public CRC32CCheckSum() {
+    this.checkSumGenerator = CHECKSUM_SUPPLIER.get();
+  }
+
+  public CRC32CCheckSum(byte[] encodedState) {
+    this();
+    this.baseCrc = ByteUtils.readInt(encodedState, 0);
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    byte[] returnedCheckSum = new byte[ByteUtils.SIZE_OF_INT];
+    ByteUtils.writeInt(returnedCheckSum, getValue(), 0);
+    return returnedCheckSum;
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    checkSumGenerator.update(input, startIndex, length);
+    this.length += length;
+  }
+
+  @Override
+  public void resetInternal() {
+    checkSumGenerator.reset();
+    baseCrc = 0;
+    length = 0;
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.CRC32C;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    // Fold the data received since the last checkpoint into the base CRC, so that it is not combined again next time.
+    baseCrc = getValue();
+    checkSumGenerator.reset();
+    length = 0;
+    byte[] encodedState = new byte[ByteUtils.SIZE_OF_INT];
+    ByteUtils.writeInt(encodedState, baseCrc, 0);
+    return encodedState;
+  }
+
+  private int getValue() {
+    return combine(baseCrc, (int) checkSumGenerator.getValue(), length);
+  }
+
+  /**
+   * @return the CRC of the concatenation of two pieces of data, given the CRC of each of them and the length of the
+   *         second one. This is the approach of zlib's crc32_combine, applied to the CRC32C polynomial.
+   */
+  static int combine(int crc1, int crc2, long length2) {
+    if (length2 <= 0) {
+      return crc1;
+    }
+    // Operator which appends one zero bit to a CRC
+    int[] odd = new int[32];
+    odd[0] = POLYNOMIAL;
+    int row = 1;
+    for (int n = 1; n < 32; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+    int[] even = new int[32];
+    squareMatrix(even, odd); // two zero bits
+    squareMatrix(odd, even); // four zero bits
+
+    // Apply the operators for one zero byte, two zero bytes, four zero bytes... matching the bits of length2
+    do {
+      squareMatrix(even, odd);
+      if ((length2 & 1) != 0) {
+        crc1 = multiplyMatrix(even, crc1);
+      }
+      length2 >>>= 1;
+      if (length2 == 0) {
+        break;
+      }
+      squareMatrix(odd, even);
+      if ((length2 & 1) != 0) {
+        crc1 = multiplyMatrix(odd, crc1);
+      }
+      length2 >>>= 1;
+    } while (length2 != 0);
+    return crc1 ^ crc2;
+  }
+
+  private static int multiplyMatrix(int[] matrix, int vector) {
+    int sum = 0;
+    for (int i = 0; vector != 0; i++, vector >>>= 1) {
+      if ((vector & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void squareMatrix(int[] square, int[] matrix) {
+    for (int n = 0; n < 32; n++) {
+      square[n] = multiplyMatrix(matrix, matrix[n]);
+    }
+  }
+
+  private static Supplier<Checksum> getChecksumSupplier() {
+    Constructor<? extends Checksum> constructor;
+    try {
+      constructor = Class.forName("java.util.zip.CRC32C").asSubclass(Checksum.class).getConstructor();
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      LOGGER.info("java.util.zip.CRC32C is not available, falling back to a table based CRC32C implementation");
+      return TableBasedCRC32C::new;
+    }
+    return () -> {
+      try {
+        return constructor.newInstance();
+      } catch (ReflectiveOperationException e) {
+        throw new VeniceException("Failed to instantiate java.util.zip.CRC32C", e);
+      }
+    };
+  }
+
+  /**
+   * CRC32C computed one byte at a time, for JVMs which don't have {@code java.util.zip.CRC32C}.
+   */
+  static class TableBasedCRC32C implements Checksum {
+    private static final int[] TABLE = new int[256];
+
+    static {
+      for (int i = 0; i < 256; i++) {
+        int crc = i;
+        for (int bit = 0; bit < 8; bit++) {
+          crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+        }
+        TABLE[i] = crc;
+      }
+    }
+
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+      crc = TABLE[(crc ^ b) & 0xFF] ^ (crc >>> 8);
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+      int value = crc;
+      for (int i = off; i < off + len; i++) {
+        value = TABLE[(value ^ b[i]) & 0xFF] ^ (value >>> 8);
+      }
+      crc = value;
+    }
+
+    @Override
+    public long getValue() {
+      return ~crc & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+      crc = 0xFFFFFFFF;
+    }
+  }
+}
@@ -132,6 +132,10 @@ public abstract class CheckSum {
         return new CRC32CheckSum();
       case MD5:
         return new MD5CheckSum();
+      case CRC32C:
+        return new CRC32CCheckSum();
+      case XXHASH64:
+        return new XXHash64CheckSum();
       default:
         return null;
     }
@@ -144,6 +148,10 @@ public abstract class CheckSum {
           return null;
         case MD5:
           return new MD5CheckSum(encodedState);
+        case CRC32C:
+          return new CRC32CCheckSum(encodedState);
+        case XXHASH64:
+          return new XXHash64CheckSum(encodedState);
         default:
           return null;
       }
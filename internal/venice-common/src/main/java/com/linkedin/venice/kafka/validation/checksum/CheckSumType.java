@@ -11,7 +11,7 @@ import java.util.Map;
 public enum CheckSumType {
   NONE(0, true), MD5(1, true), @Deprecated
   ADLER32(2, false), @Deprecated
-  CRC32(3, false);
+  CRC32(3, false), CRC32C(4, true), XXHASH64(5, true);
 
   /** The value is the byte used on the wire format */
   private final int value;
@@ -39,6 +39,13 @@ public enum CheckSumType {
     return intToTypeMap;
   }
 
+  /**
+   * @return the type with the given wire value, or null if it is unknown, e.g. when it was added by a newer producer
+   */
+  public static CheckSumType valueOfOrNull(int value) {
+    return TYPE_MAP.get(value);
+  }
+
   public static CheckSumType valueOf(int value) {
     CheckSumType type = TYPE_MAP.get(value);
     if (type == null) {
@@ -0,0 +1,168 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import com.linkedin.venice.utils.ByteUtils;
+
+
+/**
+ * Running checksum implementation based on the 64-bit xxHash with a seed of 0, which processes 32 bytes per round
+ * with a handful of multiplications.
+ *
+ * The encoded state holds the four accumulators, the total length and the bytes which don't yet fill a round, so the
+ * checksum can be resumed from a checkpoint.
+ */
+public class XXHash64CheckSum extends CheckSum {
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+  private static final int STRIPE_LENGTH = 32;
+  private static final int ENCODED_STATE_HEADER_LENGTH = 5 * ByteUtils.SIZE_OF_LONG;
+
+  private final byte[] buffer = new byte[STRIPE_LENGTH];
+  private int bufferSize;
+  private long totalLength;
+  private long v1;
+  private long v2;
+  private long v3;
+  private long v4;
+
+  public XXHash64CheckSum() {
+    resetInternal();
+  }
+
+  public XXHash64CheckSum(byte[] encodedState) {
+    v1 = ByteUtils.readLong(encodedState, 0);
+    v2 = ByteUtils.readLong(encodedState, ByteUtils.SIZE_OF_LONG);
+    v3 = ByteUtils.readLong(encodedState, 2 * ByteUtils.SIZE_OF_LONG);
+    v4 = ByteUtils.readLong(encodedState, 3 * ByteUtils.SIZE_OF_LONG);
+    totalLength = ByteUtils.readLong(encodedState, 4 * ByteUtils.SIZE_OF_LONG);
+    bufferSize = encodedState.length - ENCODED_STATE_HEADER_LENGTH;
+    System.arraycopy(encodedState, ENCODED_STATE_HEADER_LENGTH, buffer, 0, bufferSize);
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    long hash;
+    if (totalLength >= STRIPE_LENGTH) {
+      hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+      hash = mergeRound(hash, v1);
+      hash = mergeRound(hash, v2);
+      hash = mergeRound(hash, v3);
+      hash = mergeRound(hash, v4);
+    } else {
+      // No stripe was consumed, and the seed is 0
+      hash = PRIME64_5;
+    }
+    hash += totalLength;
+
+    int position = 0;
+    for (; position + ByteUtils.SIZE_OF_LONG <= bufferSize; position += ByteUtils.SIZE_OF_LONG) {
+      hash ^= round(0, readLongLE(buffer, position));
+      hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+    }
+    if (position + ByteUtils.SIZE_OF_INT <= bufferSize) {
+      hash ^= (readIntLE(buffer, position) & 0xFFFFFFFFL) * PRIME64_1;
+      hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+      position += ByteUtils.SIZE_OF_INT;
+    }
+    for (; position < bufferSize; position++) {
+      hash ^= (buffer[position] & 0xFF) * PRIME64_5;
+      hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+    }
+
+    hash ^= hash >>> 33;
+    hash *= PRIME64_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME64_3;
+    hash ^= hash >>> 32;
+
+    byte[] returnedCheckSum = new byte[ByteUtils.SIZE_OF_LONG];
+    ByteUtils.writeLong(returnedCheckSum, hash, 0);
+    return returnedCheckSum;
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    totalLength += length;
+    int position = startIndex;
+    int end = startIndex + length;
+
+    if (bufferSize > 0) {
+      int toCopy = Math.min(STRIPE_LENGTH - bufferSize, length);
+      System.arraycopy(input, position, buffer, bufferSize, toCopy);
+      bufferSize += toCopy;
+      position += toCopy;
+      if (bufferSize < STRIPE_LENGTH) {
+        return;
+      }
+      consumeStripe(buffer, 0);
+      bufferSize = 0;
+    }
+
+    for (; position + STRIPE_LENGTH <= end; position += STRIPE_LENGTH) {
+      consumeStripe(input, position);
+    }
+
+    if (position < end) {
+      bufferSize = end - position;
+      System.arraycopy(input, position, buffer, 0, bufferSize);
+    }
+  }
+
+  @Override
+  public void resetInternal() {
+    v1 = PRIME64_1 + PRIME64_2;
+    v2 = PRIME64_2;
+    v3 = 0;
+    v4 = -PRIME64_1;
+    totalLength = 0;
+    bufferSize = 0;
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.XXHASH64;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    byte[] encodedState = new byte[ENCODED_STATE_HEADER_LENGTH + bufferSize];
+    ByteUtils.writeLong(encodedState, v1, 0);
+    ByteUtils.writeLong(encodedState, v2, ByteUtils.SIZE_OF_LONG);
+    ByteUtils.writeLong(encodedState, v3, 2 * ByteUtils.SIZE_OF_LONG);
+    ByteUtils.writeLong(encodedState, v4, 3 * ByteUtils.SIZE_OF_LONG);
+    ByteUtils.writeLong(encodedState, totalLength, 4 * ByteUtils.SIZE_OF_LONG);
+    System.arraycopy(buffer, 0, encodedState, ENCODED_STATE_HEADER_LENGTH, bufferSize);
+    return encodedState;
+  }
+
+  private void consumeStripe(byte[] input, int offset) {
+    v1 = round(v1, readLongLE(input, offset));
+    v2 = round(v2, readLongLE(input, offset + 8));
+    v3 = round(v3, readLongLE(input, offset + 16));
+    v4 = round(v4, readLongLE(input, offset + 24));
+  }
+
+  private static long round(long accumulator, long input) {
+    accumulator += input * PRIME64_2;
+    accumulator = Long.rotateLeft(accumulator, 31);
+    return accumulator * PRIME64_1;
+  }
+
+  private static long mergeRound(long accumulator, long value) {
+    accumulator ^= round(0, value);
+    return accumulator * PRIME64_1 + PRIME64_4;
+  }
+
+  private static long readLongLE(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xFFL) | (bytes[offset + 1] & 0xFFL) << 8 | (bytes[offset + 2] & 0xFFL) << 16
+        | (bytes[offset + 3] & 0xFFL) << 24 | (bytes[offset + 4] & 0xFFL) << 32 | (bytes[offset + 5] & 0xFFL) << 40
+        | (bytes[offset + 6] & 0xFFL) << 48 | (bytes[offset + 7] & 0xFFL) << 56;
+  }
+
+  private static int readIntLE(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16
+        | (bytes[offset + 3] & 0xFF) << 24;
+  }
+}
@@ -1,7 +1,7 @@
 package com.linkedin.venice.meta;
 
 public enum ServerAdminAction {
-  DUMP_INGESTION_STATE(0), DUMP_SERVER_CONFIGS(1);
+  DUMP_INGESTION_STATE(0), DUMP_SERVER_CONFIGS(1), DUMP_SLOW_WRITE_PATH_TRACES(2);
 
   private final int value;
 
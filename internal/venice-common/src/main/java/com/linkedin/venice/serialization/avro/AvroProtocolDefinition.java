@@ -61,7 +61,7 @@ public enum AvroProtocolDefinition {
   /**
    * Used to encode push job details records to be written to the PushJobDetails system store.
    */
-  PUSH_JOB_DETAILS(26, 4, PushJobDetails.class),
+  PUSH_JOB_DETAILS(26, 5, PushJobDetails.class),
 
   /**
    * Used to encode metadata changes about the system as a whole. Records of this type
@@ -156,7 +156,7 @@ public enum AvroProtocolDefinition {
   /**
    * Response record for admin request.
    */
-  SERVER_ADMIN_RESPONSE(2, AdminResponseRecord.class),
+  SERVER_ADMIN_RESPONSE(3, AdminResponseRecord.class),
 
   /**
    * Response record for metadata fetch request.
@@ -0,0 +1,138 @@
+package com.linkedin.venice.store.rocksdb;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * The list of the pre-built SST files of a partition in a {@link PartitionFileStagingArea}, which is serialized as
+ * JSON next to the files. Every file comes with its record count and the {@link CheckSumType#MD5} checksum of its
+ * content, so the replicas could tell a corrupted or partially copied file apart before ingesting it.
+ */
+public class PartitionFileManifest {
+  private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+  private List<PartitionFile> files = new ArrayList<>();
+
+  public List<PartitionFile> getFiles() {
+    return files;
+  }
+
+  public void setFiles(List<PartitionFile> files) {
+    this.files = files;
+  }
+
+  public void addFile(String fileName, long recordCount, String checksum) {
+    files.add(new PartitionFile(fileName, recordCount, checksum));
+  }
+
+  /**
+   * @return the hex encoded {@link CheckSumType#MD5} checksum of the content of the given file.
+   */
+  public static String computeChecksum(File file) {
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.MD5);
+    byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+    try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+      int length;
+      while ((length = inputStream.read(buffer)) != -1) {
+        checkSum.update(buffer, 0, length);
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to compute the checksum of partition file: " + file, e);
+    }
+    return ByteUtils.toHexString(checkSum.getCheckSum());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return files.equals(((PartitionFileManifest) o).files);
+  }
+
+  @Override
+  public int hashCode() {
+    return files.hashCode();
+  }
+
+  public static class PartitionFile {
+    private String fileName;
+    private long recordCount;
+    private String checksum;
+
+    public PartitionFile() {
+    }
+
+    public PartitionFile(String fileName, long recordCount, String checksum) {
+      this.fileName = fileName;
+      this.recordCount = recordCount;
+      this.checksum = checksum;
+    }
+
+    public String getFileName() {
+      return fileName;
+    }
+
+    public void setFileName(String fileName) {
+      this.fileName = fileName;
+    }
+
+    /**
+     * The number of records in the file, which is verified before the file gets ingested.
+     */
+    public long getRecordCount() {
+      return recordCount;
+    }
+
+    public void setRecordCount(long recordCount) {
+      this.recordCount = recordCount;
+    }
+
+    /**
+     * The checksum of the file computed by {@link #computeChecksum}, which is verified before the file gets ingested.
+     */
+    public String getChecksum() {
+      return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+      this.checksum = checksum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PartitionFile that = (PartitionFile) o;
+      return recordCount == that.recordCount && Objects.equals(fileName, that.fileName)
+          && Objects.equals(checksum, that.checksum);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(fileName, recordCount, checksum);
+    }
+
+    @Override
+    public String toString() {
+      return "PartitionFile{fileName=" + fileName + ", recordCount=" + recordCount + ", checksum=" + checksum + "}";
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.linkedin.venice.store.rocksdb;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+
+
+/**
+ * The staging area of the SST files pre-built by a push job for each partition of a store version, from which the
+ * replicas fetch and ingest the files of their partitions, so the records of the push don't go through the version
+ * topic at all. Only the control messages go through the version topic, with the location of the staging area
+ * carried by the End of Push, see {@link #getEndOfPushDebugInfo()}.
+ *
+ * The files of every partition are kept in their own directory, along with a {@link PartitionFileManifest} listing
+ * them, which get written by the RocksDBPartitionFileBuilder of the push job. Only the staging areas on a file system
+ * reachable by all the replicas through a "file" URI, such as a local directory in tests or a shared mount, are
+ * supported for now.
+ */
+public class PartitionFileStagingArea {
+  /**
+   * The key of the End of Push debug info carrying the URI of the staging area of the push.
+   */
+  public static final String STAGING_AREA_URI_KEY = "partition.file.staging.area.uri";
+  static final String MANIFEST_FILE_NAME = "manifest.json";
+  private static final String FILE_SCHEME = "file";
+  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+
+  private final URI uri;
+  private final File rootDir;
+
+  private PartitionFileStagingArea(URI uri) {
+    this.uri = uri;
+    this.rootDir = new File(uri);
+  }
+
+  public static PartitionFileStagingArea fromUri(String uri) {
+    URI parsedUri;
+    try {
+      parsedUri = new URI(uri);
+    } catch (Exception e) {
+      throw new VeniceException("Invalid partition file staging area URI: " + uri, e);
+    }
+    if (!FILE_SCHEME.equals(parsedUri.getScheme())) {
+      throw new VeniceException("Unsupported partition file staging area URI: " + uri);
+    }
+    return new PartitionFileStagingArea(parsedUri);
+  }
+
+  public static PartitionFileStagingArea fromDirectory(File dir) {
+    return new PartitionFileStagingArea(dir.getAbsoluteFile().toURI());
+  }
+
+  public String getUri() {
+    return uri.toString();
+  }
+
+  /**
+   * @return the staging area in the given sub directory of this one, such as the one of a store version.
+   */
+  public PartitionFileStagingArea resolve(String name) {
+    return fromDirectory(new File(rootDir, name));
+  }
+
+  /**
+   * @return the debug info to be sent along with the End of Push, to let the replicas ingest from this staging area.
+   */
+  public Map<String, String> getEndOfPushDebugInfo() {
+    return Collections.singletonMap(STAGING_AREA_URI_KEY, getUri());
+  }
+
+  /**
+   * @return the directory to put the files of the given partition into, which is created if it doesn't exist.
+   */
+  public File getPartitionDir(int partitionId) {
+    File partitionDir = new File(rootDir, Integer.toString(partitionId));
+    if (!partitionDir.exists() && !partitionDir.mkdirs() && !partitionDir.exists()) {
+      throw new VeniceException("Failed to create the partition file staging dir: " + partitionDir);
+    }
+    return partitionDir;
+  }
+
+  /**
+   * Writes the manifest of the given partition, which needs to happen after all of its files are written.
+   */
+  public void writeManifest(int partitionId, PartitionFileManifest manifest) {
+    File manifestFile = new File(getPartitionDir(partitionId), MANIFEST_FILE_NAME);
+    try {
+      OBJECT_MAPPER.writeValue(manifestFile, manifest);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to write the partition file manifest: " + manifestFile, e);
+    }
+  }
+
+  public boolean hasManifest(int partitionId) {
+    return getManifestFile(partitionId).exists();
+  }
+
+  public PartitionFileManifest readManifest(int partitionId) {
+    File manifestFile = getManifestFile(partitionId);
+    if (!manifestFile.exists()) {
+      throw new VeniceException("Partition file manifest doesn't exist: " + manifestFile);
+    }
+    try {
+      return OBJECT_MAPPER.readValue(manifestFile, PartitionFileManifest.class);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to read the partition file manifest: " + manifestFile, e);
+    }
+  }
+
+  /**
+   * Copies the given file of the given partition to the destination, replacing any existing file.
+   */
+  public void fetchFile(int partitionId, String fileName, File destination) {
+    File sourceFile = new File(new File(rootDir, Integer.toString(partitionId)), fileName);
+    try {
+      Files.copy(sourceFile.toPath(), destination.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to fetch the partition file: " + sourceFile + " to: " + destination, e);
+    }
+  }
+
+  private File getManifestFile(int partitionId) {
+    return new File(new File(rootDir, Integer.toString(partitionId)), MANIFEST_FILE_NAME);
+  }
+
+  @Override
+  public String toString() {
+    return getUri();
+  }
+}
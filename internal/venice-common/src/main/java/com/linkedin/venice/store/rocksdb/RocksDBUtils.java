@@ -18,6 +18,7 @@ public class RocksDBUtils {
   private static final String TEMP_RMD_SST_FILE_DIR = ".sst_rmd_files";
   private static final String TEMP_SST_FILE_PREFIX = "sst_file_";
   private static final String TEMP_RMD_SST_FILE_PREFIX = "sst_rmd_file_";
+  private static final String PREBUILT_SST_FILE_PREFIX = "prebuilt_sst_file_";
 
   public static String getPartitionDbName(String storeName, int partitionId) {
     return String.format(PARTITION_DB_NAME, storeName, partitionId);
@@ -63,6 +64,14 @@ public class RocksDBUtils {
     return TEMP_RMD_SST_FILE_PREFIX + fileNo;
   }
 
+  /**
+   * The pre-built SST files fetched from a {@link PartitionFileStagingArea} use their own prefix, so they are never
+   * mistaken for the SST files generated during ingestion.
+   */
+  public static String composePrebuiltSSTFileName(int fileNo) {
+    return PREBUILT_SST_FILE_PREFIX + fileNo;
+  }
+
   public static boolean isTempSSTFile(String fileName) {
     return fileName.startsWith(TEMP_SST_FILE_PREFIX);
   }
@@ -0,0 +1,127 @@
+package com.linkedin.venice.views;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.ViewConfig;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+
+/**
+ * A rekeyed view topic, which holds the records of a store keyed by one of the fields of their value in addition to
+ * their key, so that a consumer of the topic can materialize a lookup of the records by that alternate key. The view
+ * is a topic only: the servers don't host it as a readable resource, and the alternate-key lookups are not served by
+ * the regular read path.
+ *
+ * Keys: a view key is the length of the field as a 4 bytes int, followed by the Avro binary encoding of the field
+ * (with the null branch dropped if the field is nullable) and by the key of the record. The field doesn't need to be
+ * unique, as the records sharing a field value have distinct view keys. The view topic has its own partition count and
+ * partitioner, which only look at the field, so all the records of a field value are in the same partition.
+ *
+ * Values: a put holds the value of the record as it is, along with its value schema id. A record is deleted from the
+ * view when it is deleted from the store, or when its field changes or becomes null. Records whose field is null are
+ * left out of the view.
+ *
+ * Ordering: the view records of a key are produced by the leader of its partition, in the order of the writes, but
+ * the records of its old and its new field values land in different partitions of the view topic, and a leadership
+ * handover can reorder the records of a view key. Each view record carries the timestamp of the store write which
+ * produced it in its logical timestamp, and the consumers apply a put or a delete only if its timestamp is not older
+ * than the one they last applied for the view key, keeping the timestamp of the deleted view keys.
+ *
+ * Coverage: only the writes applied through the conflict resolution of active/active replication reach the view, so
+ * the view requires a hybrid active/active store, and the push job refuses batch pushes to such stores. The records
+ * of a new version are the ones replayed from the real-time topic, and the ones copied by a data recovery are not in
+ * the view.
+ */
+public class MaterializedRekeyView extends VeniceView {
+  public static final String MATERIALIZED_REKEY_TOPIC_SUFFIX = "_rk";
+  public static final String MATERIALIZED_REKEY_VIEW_WRITER_CLASS_NAME =
+      "com.linkedin.davinci.store.view.MaterializedRekeyViewWriter";
+
+  /**
+   * Name of the top level field of the value schema that the records are keyed by in the view. Required.
+   */
+  public static final String REKEY_FIELD_NAME = "rekey.field.name";
+  /**
+   * Partition count of the view topic. Defaults to the partition count of the store version.
+   */
+  public static final String REKEY_PARTITION_COUNT = "rekey.partition.count";
+  /**
+   * Class name of the partitioner of the view topic. Defaults to {@link DefaultVenicePartitioner}.
+   */
+  public static final String REKEY_PARTITIONER_CLASS = "rekey.partitioner.class";
+
+  public MaterializedRekeyView(Properties props, Store store, Map<String, String> viewParameters) {
+    super(props, store, viewParameters);
+  }
+
+  @Override
+  public Map<String, VeniceProperties> getTopicNamesAndConfigsForVersion(int version) {
+    Properties topicProperties = new Properties();
+    topicProperties.putAll(props);
+    String partitionCount = viewParameters.get(REKEY_PARTITION_COUNT);
+    if (partitionCount != null) {
+      topicProperties.put(ViewUtils.SUB_PARTITION_COUNT, partitionCount);
+    }
+    // Only the latest record of each alternate key matters, so the view topic can be compacted.
+    topicProperties.put(ViewUtils.LOG_COMPACTION_ENABLED, true);
+    return Collections.singletonMap(
+        Version.composeKafkaTopic(store.getName(), version) + MATERIALIZED_REKEY_TOPIC_SUFFIX,
+        new VeniceProperties(topicProperties));
+  }
+
+  @Override
+  public String getWriterClassName() {
+    return MATERIALIZED_REKEY_VIEW_WRITER_CLASS_NAME;
+  }
+
+  @Override
+  public void validateConfigs() {
+    super.validateConfigs();
+    if (!store.isHybrid()) {
+      throw new VeniceException("Materialized rekey view is only supported for hybrid stores!");
+    }
+    String fieldName = viewParameters.get(REKEY_FIELD_NAME);
+    if (fieldName == null || fieldName.isEmpty()) {
+      throw new VeniceException("Materialized rekey view requires the parameter: " + REKEY_FIELD_NAME);
+    }
+    String partitionCount = viewParameters.get(REKEY_PARTITION_COUNT);
+    if (partitionCount != null) {
+      int count;
+      try {
+        count = Integer.parseInt(partitionCount);
+      } catch (NumberFormatException e) {
+        throw new VeniceException("Invalid " + REKEY_PARTITION_COUNT + ": " + partitionCount, e);
+      }
+      if (count <= 0) {
+        throw new VeniceException("Invalid " + REKEY_PARTITION_COUNT + ": " + partitionCount);
+      }
+    }
+  }
+
+  /**
+   * @return whether any of the given view configs is a materialized rekey view
+   */
+  public static boolean hasMaterializedRekeyView(Map<String, ViewConfig> viewConfigs) {
+    return viewConfigs.values()
+        .stream()
+        .anyMatch(viewConfig -> MaterializedRekeyView.class.getCanonicalName().equals(viewConfig.getViewClassName()));
+  }
+
+  public String getRekeyFieldName() {
+    return viewParameters.get(REKEY_FIELD_NAME);
+  }
+
+  public Integer getRekeyPartitionCount() {
+    String partitionCount = viewParameters.get(REKEY_PARTITION_COUNT);
+    return partitionCount == null ? null : Integer.parseInt(partitionCount);
+  }
+
+  public String getRekeyPartitionerClass() {
+    return viewParameters.getOrDefault(REKEY_PARTITIONER_CLASS, DefaultVenicePartitioner.class.getName());
+  }
+}
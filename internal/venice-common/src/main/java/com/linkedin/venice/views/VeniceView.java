@@ -88,7 +88,7 @@ public abstract class VeniceView {
     // So for now, we'll keep this static, but needs a better approach. Perhaps, a config
     // that's passed into the server that lists the types of views supported, and then
     // for each type having an uniformly named static method that doesn't override.
-    return topicName.endsWith(ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+    return getViewTopicSuffix(topicName) != null;
   }
 
   // TODO: see above TODO for isViewtopic function, same applies here.
@@ -99,7 +99,17 @@ public abstract class VeniceView {
   // TODO: see above TODO for isViewTopic function, same applies here
   public static int parseVersionFromViewTopic(String topicName) {
     int versionStartIndex = Version.getLastIndexOfVersionSeparator(topicName) + Version.VERSION_SEPARATOR.length();
-    return Integer.parseInt(
-        topicName.substring(versionStartIndex, topicName.lastIndexOf(ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX)));
+    int versionEndIndex = topicName.lastIndexOf(getViewTopicSuffix(topicName));
+    return Integer.parseInt(topicName.substring(versionStartIndex, versionEndIndex));
+  }
+
+  private static String getViewTopicSuffix(String topicName) {
+    if (topicName.endsWith(ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX)) {
+      return ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX;
+    }
+    if (topicName.endsWith(MaterializedRekeyView.MATERIALIZED_REKEY_TOPIC_SUFFIX)) {
+      return MaterializedRekeyView.MATERIALIZED_REKEY_TOPIC_SUFFIX;
+    }
+    return null;
   }
 }
@@ -0,0 +1,137 @@
+package com.linkedin.venice.kafka.partitionoffset;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.TestUtils;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class CoalescingPartitionOffsetFetcherTest {
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+  private final PubSubTopic topic = pubSubTopicRepository.getTopic("test_store_v1");
+
+  @Test(timeOut = 30 * 1000)
+  public void testConcurrentLookupsAreCoalesced() throws Exception {
+    PartitionOffsetFetcher delegate = mockDelegate();
+    CountDownLatch busyLatch = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      busyLatch.await();
+      return 0L;
+    }).when(delegate).getPartitionOffsetByTime(any(), anyLong());
+
+    int lookupCount = 3;
+    ExecutorService executor = Executors.newFixedThreadPool(lookupCount + 1);
+    try (CoalescingPartitionOffsetFetcher fetcher = createFetcher(delegate, 0)) {
+      // Keep the only consumer busy so that the lookups pile up
+      Future<Long> busyFuture =
+          executor.submit(() -> fetcher.getPartitionOffsetByTime(new PubSubTopicPartitionImpl(topic, 0), 0));
+      TestUtils.waitForNonDeterministicAssertion(
+          10,
+          TimeUnit.SECONDS,
+          () -> verify(delegate).getPartitionOffsetByTime(any(), anyLong()));
+
+      List<Future<Long>> lookupFutures = new ArrayList<>(lookupCount);
+      for (int i = 0; i < lookupCount; i++) {
+        PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(topic, i % 2);
+        lookupFutures.add(executor.submit(() -> fetcher.getPartitionLatestOffsetAndRetry(topicPartition, 1)));
+      }
+      // Wait for the lookups to be blocked, either on the consumer or on the pending fetch
+      Thread.sleep(500);
+      busyLatch.countDown();
+
+      busyFuture.get();
+      for (int i = 0; i < lookupCount; i++) {
+        Assert.assertEquals(lookupFutures.get(i).get().longValue(), 100L + i % 2);
+      }
+      verify(delegate, times(1)).getTopicLatestOffsets(topic);
+      verify(delegate, never()).getPartitionLatestOffsetAndRetry(any(), anyInt());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testUnknownPartitionFallsBackToRegularLookup() {
+    PartitionOffsetFetcher delegate = mockDelegate();
+    PubSubTopicPartition unknownPartition = new PubSubTopicPartitionImpl(topic, 5);
+    doReturn(500L).when(delegate).getPartitionLatestOffsetAndRetry(unknownPartition, 3);
+
+    try (CoalescingPartitionOffsetFetcher fetcher = createFetcher(delegate, 0)) {
+      Assert.assertEquals(fetcher.getPartitionLatestOffsetAndRetry(unknownPartition, 3), 500L);
+      Assert.assertThrows(
+          IllegalArgumentException.class,
+          () -> fetcher.getPartitionLatestOffsetAndRetry(new PubSubTopicPartitionImpl(topic, -1), 3));
+    }
+  }
+
+  @Test
+  public void testHotTopicsAreServedFromMemory() {
+    PartitionOffsetFetcher delegate = mockDelegate();
+    // The scheduled refresh is far away, the refreshes are triggered by the test
+    try (CoalescingPartitionOffsetFetcher fetcher = createFetcher(delegate, TimeUnit.HOURS.toMillis(1))) {
+      fetcher.getTopicLatestOffsets(topic);
+      fetcher.getTopicLatestOffsets(topic);
+      verify(delegate, times(2)).getTopicLatestOffsets(topic);
+
+      // The topic turns hot and gets refreshed in the background
+      fetcher.refreshHotTopics();
+      verify(delegate, times(3)).getTopicLatestOffsets(topic);
+      Assert.assertEquals(fetcher.getTopicLatestOffsets(topic).get(1), 101L);
+      Assert.assertThrows(UnsupportedOperationException.class, () -> fetcher.getTopicLatestOffsets(topic).put(1, 0L));
+      verify(delegate, times(3)).getTopicLatestOffsets(topic);
+
+      fetcher.refreshHotTopics();
+      verify(delegate, times(4)).getTopicLatestOffsets(topic);
+
+      // A single lookup within the interval isn't enough to keep the topic hot
+      fetcher.getTopicLatestOffsets(topic);
+      fetcher.refreshHotTopics();
+      fetcher.getTopicLatestOffsets(topic);
+      verify(delegate, times(5)).getTopicLatestOffsets(topic);
+    }
+  }
+
+  private PartitionOffsetFetcher mockDelegate() {
+    PartitionOffsetFetcher delegate = mock(PartitionOffsetFetcher.class);
+    Int2LongOpenHashMap latestOffsets = new Int2LongOpenHashMap();
+    latestOffsets.put(0, 100L);
+    latestOffsets.put(1, 101L);
+    doReturn(latestOffsets).when(delegate).getTopicLatestOffsets(topic);
+    return delegate;
+  }
+
+  private static CoalescingPartitionOffsetFetcher createFetcher(
+      PartitionOffsetFetcher delegate,
+      long hotTopicRefreshIntervalMs) {
+    return new CoalescingPartitionOffsetFetcher(
+        Collections.singletonList(delegate),
+        Optional.empty(),
+        new SystemTime(),
+        hotTopicRefreshIntervalMs,
+        "localhost:1234");
+  }
+}
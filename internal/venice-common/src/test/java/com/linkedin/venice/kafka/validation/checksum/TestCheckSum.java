@@ -1,8 +1,12 @@
 package com.linkedin.venice.kafka.validation.checksum;
 
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Random;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 
@@ -27,4 +31,73 @@ public class TestCheckSum {
     checkSum.update(3);
     Assert.assertFalse(Arrays.equals(curCheckSumVal, checkSum.getCheckSum()));
   }
+
+  @Test
+  public void testKnownValues() {
+    Assert.assertEquals(checkSumOf(CheckSumType.CRC32C, "123456789".getBytes(StandardCharsets.US_ASCII)), "e3069283");
+    Assert.assertEquals(checkSumOf(CheckSumType.XXHASH64, new byte[0]), "ef46db3751d8e999");
+    Assert.assertEquals(
+        checkSumOf(CheckSumType.XXHASH64, "abc".getBytes(StandardCharsets.US_ASCII)),
+        "44bc2cf5ad770999");
+    byte[] input = new byte[100];
+    for (int i = 0; i < input.length; i++) {
+      input[i] = (byte) i;
+    }
+    Assert.assertEquals(checkSumOf(CheckSumType.XXHASH64, input), "6ac1e58032166597");
+  }
+
+  @DataProvider(name = "checkpointableTypes")
+  public static Object[][] checkpointableTypes() {
+    return new Object[][] { { CheckSumType.MD5 }, { CheckSumType.CRC32C }, { CheckSumType.XXHASH64 } };
+  }
+
+  @Test(dataProvider = "checkpointableTypes")
+  public void testUpdatesInPiecesWithCheckpoints(CheckSumType type) {
+    Assert.assertTrue(type.isCheckpointingSupported());
+    Random random = new Random(42);
+    byte[] input = new byte[10000];
+    random.nextBytes(input);
+    String expected = checkSumOf(type, input);
+
+    CheckSum checkSum = CheckSum.getInstance(type);
+    int position = 0;
+    while (position < input.length) {
+      int length = Math.min(random.nextInt(100), input.length - position);
+      checkSum.update(input, position, length);
+      position += length;
+      if (random.nextInt(4) == 0) {
+        // Resume from a checkpoint, the way a restarted consumer does.
+        checkSum = CheckSum.getInstance(type, checkSum.getEncodedState());
+      }
+    }
+    Assert.assertEquals(ByteUtils.toHexString(checkSum.getCheckSum()), expected);
+
+    checkSum.reset();
+    checkSum.update(input);
+    Assert.assertEquals(ByteUtils.toHexString(checkSum.getCheckSum()), expected);
+  }
+
+  @Test
+  public void testTableBasedCRC32CMatches() {
+    byte[] input = new byte[1000];
+    new Random(7).nextBytes(input);
+    CRC32CCheckSum.TableBasedCRC32C tableBasedCRC32C = new CRC32CCheckSum.TableBasedCRC32C();
+    tableBasedCRC32C.update(input, 0, input.length);
+    Assert.assertEquals(
+        checkSumOf(CheckSumType.CRC32C, input),
+        String.format("%08x", tableBasedCRC32C.getValue()));
+  }
+
+  @Test
+  public void testUnknownType() {
+    Assert.assertNull(CheckSumType.valueOfOrNull(100));
+    Assert.assertThrows(VeniceException.class, () -> CheckSumType.valueOf(100));
+    Assert.assertEquals(CheckSumType.valueOfOrNull(CheckSumType.XXHASH64.getValue()), CheckSumType.XXHASH64);
+  }
+
+  private static String checkSumOf(CheckSumType type, byte[] input) {
+    CheckSum checkSum = CheckSum.getInstance(type);
+    checkSum.update(input);
+    return ByteUtils.toHexString(checkSum.getCheckSum());
+  }
 }
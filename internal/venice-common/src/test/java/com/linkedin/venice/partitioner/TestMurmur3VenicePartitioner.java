@@ -0,0 +1,75 @@
+package com.linkedin.venice.partitioner;
+
+import com.linkedin.venice.meta.PartitionerConfig;
+import com.linkedin.venice.meta.PartitionerConfigImpl;
+import com.linkedin.venice.utils.PartitionUtils;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestMurmur3VenicePartitioner {
+  @Test
+  public void testHashMatchesReferenceImplementation() {
+    Assert.assertEquals(Murmur3VenicePartitioner.hash(new byte[0], 0, 0), 0);
+    Assert.assertEquals(hash("hello"), 0x248bfa47);
+    Assert.assertEquals(hash("The quick brown fox jumps over the lazy dog"), 0x2e4ff723);
+    Assert.assertEquals(hash("test_key"), 0xa34b3999);
+  }
+
+  @Test
+  public void testPartitionIdIsConsistentAcrossKeyRepresentations() {
+    VenicePartitioner partitioner = new Murmur3VenicePartitioner();
+    int numPartitions = 97;
+    Assert.assertEquals(partitioner.getPartitionId("test_key".getBytes(StandardCharsets.UTF_8), numPartitions), 79);
+
+    for (int length = 0; length < 64; length++) {
+      byte[] keyBytes = new byte[length];
+      ThreadLocalRandom.current().nextBytes(keyBytes);
+      int partition = partitioner.getPartitionId(keyBytes, numPartitions);
+      Assert.assertTrue(partition >= 0 && partition < numPartitions);
+
+      byte[] paddedKeyBytes = new byte[length + 7];
+      System.arraycopy(keyBytes, 0, paddedKeyBytes, 3, length);
+      Assert.assertEquals(partitioner.getPartitionId(paddedKeyBytes, 3, length, numPartitions), partition);
+      Assert.assertEquals(partitioner.getPartitionId(ByteBuffer.wrap(keyBytes), numPartitions), partition);
+      Assert.assertEquals(
+          partitioner.getPartitionId(ByteBuffer.wrap(paddedKeyBytes, 3, length), numPartitions),
+          partition);
+
+      ByteBuffer slicedBuffer = ByteBuffer.wrap(paddedKeyBytes, 3, length + 4).slice();
+      slicedBuffer.limit(length);
+      Assert.assertEquals(partitioner.getPartitionId(slicedBuffer, numPartitions), partition);
+    }
+  }
+
+  @Test
+  public void testPartitionerFromPartitionerConfig() {
+    byte[] keyBytes = "test_key".getBytes(StandardCharsets.UTF_8);
+    VenicePartitioner expected = new Murmur3VenicePartitioner();
+
+    PartitionerConfig config = new PartitionerConfigImpl(Murmur3VenicePartitioner.class.getName(), new HashMap<>(), 1);
+    VenicePartitioner partitioner = PartitionUtils.getVenicePartitioner(config);
+    Assert.assertTrue(partitioner instanceof Murmur3VenicePartitioner);
+    Assert.assertEquals(partitioner.getPartitionId(keyBytes, 97), expected.getPartitionId(keyBytes, 97));
+
+    // With amplification, the user partition of a key must not change.
+    int amplificationFactor = 3;
+    config.setAmplificationFactor(amplificationFactor);
+    VenicePartitioner amplifiedPartitioner = PartitionUtils.getVenicePartitioner(config);
+    int subPartition = amplifiedPartitioner.getPartitionId(keyBytes, 97 * amplificationFactor);
+    Assert.assertEquals(
+        PartitionUtils.getUserPartition(subPartition, amplificationFactor),
+        expected.getPartitionId(keyBytes, 97));
+    Assert.assertTrue(
+        PartitionUtils.getUserPartitionLevelVenicePartitioner(config) instanceof Murmur3VenicePartitioner);
+  }
+
+  private static int hash(String key) {
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    return Murmur3VenicePartitioner.hash(keyBytes, 0, keyBytes.length);
+  }
+}
@@ -0,0 +1,64 @@
+package com.linkedin.venice.store.rocksdb;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class PartitionFileStagingAreaTest {
+  @Test
+  public void testManifestAndFiles() throws IOException {
+    File stagingDir = Utils.getTempDataDirectory();
+    PartitionFileStagingArea stagingArea = PartitionFileStagingArea.fromDirectory(stagingDir);
+    Map<String, String> debugInfo = stagingArea.getEndOfPushDebugInfo();
+    PartitionFileStagingArea stagingAreaFromUri =
+        PartitionFileStagingArea.fromUri(debugInfo.get(PartitionFileStagingArea.STAGING_AREA_URI_KEY));
+    Assert.assertEquals(stagingAreaFromUri.getUri(), stagingArea.getUri());
+
+    byte[] content = "content".getBytes();
+    File file = new File(stagingArea.getPartitionDir(1), "file_0");
+    Files.write(file.toPath(), content);
+    PartitionFileManifest manifest = new PartitionFileManifest();
+    manifest.addFile("file_0", 10, PartitionFileManifest.computeChecksum(file));
+    stagingArea.writeManifest(1, manifest);
+
+    Assert.assertEquals(stagingAreaFromUri.readManifest(1), manifest);
+    File destination = new File(Utils.getTempDataDirectory(), "fetched_file");
+    stagingAreaFromUri.fetchFile(1, "file_0", destination);
+    Assert.assertEquals(Files.readAllBytes(destination.toPath()), content);
+    Assert.assertEquals(PartitionFileManifest.computeChecksum(destination), manifest.getFiles().get(0).getChecksum());
+
+    // The staging area of a store version lives in its own sub directory
+    PartitionFileStagingArea versionStagingArea = stagingArea.resolve("store_v1");
+    Assert.assertEquals(versionStagingArea.getPartitionDir(0).getParentFile(), new File(stagingDir, "store_v1"));
+
+    // The partitions without manifest are not ready for ingestion
+    Assert.assertThrows(VeniceException.class, () -> stagingAreaFromUri.readManifest(0));
+  }
+
+  @Test
+  public void testChecksum() throws IOException {
+    File dir = Utils.getTempDataDirectory();
+    File file = new File(dir, "file_0");
+    File sameFile = new File(dir, "file_1");
+    File otherFile = new File(dir, "file_2");
+    Files.write(file.toPath(), "content".getBytes());
+    Files.write(sameFile.toPath(), "content".getBytes());
+    Files.write(otherFile.toPath(), "contents".getBytes());
+    String checksum = PartitionFileManifest.computeChecksum(file);
+    Assert.assertEquals(PartitionFileManifest.computeChecksum(sameFile), checksum);
+    Assert.assertNotEquals(PartitionFileManifest.computeChecksum(otherFile), checksum);
+    Assert.assertThrows(VeniceException.class, () -> PartitionFileManifest.computeChecksum(new File(dir, "missing")));
+  }
+
+  @Test
+  public void testUnsupportedUri() {
+    Assert.assertThrows(VeniceException.class, () -> PartitionFileStagingArea.fromUri("hdfs://namenode/staging"));
+    Assert.assertThrows(VeniceException.class, () -> PartitionFileStagingArea.fromUri("not a uri"));
+  }
+}
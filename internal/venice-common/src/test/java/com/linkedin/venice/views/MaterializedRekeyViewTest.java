@@ -0,0 +1,92 @@
+package com.linkedin.venice.views;
+
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.ViewConfig;
+import com.linkedin.venice.meta.ViewConfigImpl;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MaterializedRekeyViewTest {
+  private static final String STORE_NAME = "test_store";
+
+  @Test
+  public void testValidateConfigs() {
+    Store aaStore = Mockito.mock(Store.class);
+    Mockito.when(aaStore.isActiveActiveReplicationEnabled()).thenReturn(true);
+    Mockito.when(aaStore.isHybrid()).thenReturn(true);
+    Store batchOnlyAAStore = Mockito.mock(Store.class);
+    Mockito.when(batchOnlyAAStore.isActiveActiveReplicationEnabled()).thenReturn(true);
+    Mockito.when(batchOnlyAAStore.isHybrid()).thenReturn(false);
+    Store nonAAStore = Mockito.mock(Store.class);
+    Mockito.when(nonAAStore.isActiveActiveReplicationEnabled()).thenReturn(false);
+
+    Map<String, String> viewParams = new HashMap<>();
+    Assert.assertThrows(() -> new MaterializedRekeyView(new Properties(), aaStore, viewParams).validateConfigs());
+
+    viewParams.put(MaterializedRekeyView.REKEY_FIELD_NAME, "email");
+    Assert.assertThrows(() -> new MaterializedRekeyView(new Properties(), nonAAStore, viewParams).validateConfigs());
+    Assert.assertThrows(
+        () -> new MaterializedRekeyView(new Properties(), batchOnlyAAStore, viewParams).validateConfigs());
+    new MaterializedRekeyView(new Properties(), aaStore, viewParams).validateConfigs();
+
+    viewParams.put(MaterializedRekeyView.REKEY_PARTITION_COUNT, "0");
+    Assert.assertThrows(() -> new MaterializedRekeyView(new Properties(), aaStore, viewParams).validateConfigs());
+    viewParams.put(MaterializedRekeyView.REKEY_PARTITION_COUNT, "many");
+    Assert.assertThrows(() -> new MaterializedRekeyView(new Properties(), aaStore, viewParams).validateConfigs());
+    viewParams.put(MaterializedRekeyView.REKEY_PARTITION_COUNT, "8");
+    new MaterializedRekeyView(new Properties(), aaStore, viewParams).validateConfigs();
+  }
+
+  @Test
+  public void testHasMaterializedRekeyView() {
+    Map<String, ViewConfig> viewConfigs = new HashMap<>();
+    Assert.assertFalse(MaterializedRekeyView.hasMaterializedRekeyView(viewConfigs));
+    viewConfigs.put(
+        "changeCaptureView",
+        new ViewConfigImpl(ChangeCaptureView.class.getCanonicalName(), Collections.emptyMap()));
+    Assert.assertFalse(MaterializedRekeyView.hasMaterializedRekeyView(viewConfigs));
+    viewConfigs.put(
+        "rekeyView",
+        new ViewConfigImpl(
+            MaterializedRekeyView.class.getCanonicalName(),
+            Collections.singletonMap(MaterializedRekeyView.REKEY_FIELD_NAME, "email")));
+    Assert.assertTrue(MaterializedRekeyView.hasMaterializedRekeyView(viewConfigs));
+  }
+
+  @Test
+  public void testTopicNamesAndConfigs() {
+    Store store = Mockito.mock(Store.class);
+    Mockito.when(store.getName()).thenReturn(STORE_NAME);
+    Properties props = new Properties();
+    props.put(ViewUtils.SUB_PARTITION_COUNT, 3);
+    props.put(ViewUtils.LOG_COMPACTION_ENABLED, false);
+    Map<String, String> viewParams = new HashMap<>();
+    viewParams.put(MaterializedRekeyView.REKEY_FIELD_NAME, "email");
+
+    Map<String, VeniceProperties> topicNamesAndConfigs =
+        new MaterializedRekeyView(props, store, viewParams).getTopicNamesAndConfigsForVersion(5);
+    String topicName = Version.composeKafkaTopic(STORE_NAME, 5) + MaterializedRekeyView.MATERIALIZED_REKEY_TOPIC_SUFFIX;
+    Assert.assertEquals(topicNamesAndConfigs.size(), 1);
+    VeniceProperties topicConfigs = topicNamesAndConfigs.get(topicName);
+    Assert.assertEquals(topicConfigs.getInt(ViewUtils.SUB_PARTITION_COUNT), 3);
+    Assert.assertTrue(topicConfigs.getBoolean(ViewUtils.LOG_COMPACTION_ENABLED));
+
+    viewParams.put(MaterializedRekeyView.REKEY_PARTITION_COUNT, "8");
+    topicNamesAndConfigs = new MaterializedRekeyView(props, store, viewParams).getTopicNamesAndConfigsForVersion(5);
+    Assert.assertEquals(topicNamesAndConfigs.get(topicName).getInt(ViewUtils.SUB_PARTITION_COUNT), 8);
+
+    Assert.assertTrue(VeniceView.isViewTopic(topicName));
+    Assert.assertEquals(VeniceView.parseStoreFromViewTopic(topicName), STORE_NAME);
+    Assert.assertEquals(VeniceView.parseVersionFromViewTopic(topicName), 5);
+    Assert.assertEquals(Version.parseVersionFromKafkaTopicName(topicName), 5);
+    Assert.assertEquals(Version.parseStoreFromKafkaTopicName(topicName), STORE_NAME);
+  }
+}
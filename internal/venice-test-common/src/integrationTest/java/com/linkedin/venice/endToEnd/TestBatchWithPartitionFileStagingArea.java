@@ -0,0 +1,120 @@
+package com.linkedin.venice.endToEnd;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.SERVER_PREBUILT_PARTITION_FILE_INGESTION_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_KEY_FIELD_PROP;
+import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_VALUE_FIELD_PROP;
+import static com.linkedin.venice.hadoop.VenicePushJob.PARTITION_FILE_MAX_SIZE_IN_BYTES;
+import static com.linkedin.venice.hadoop.VenicePushJob.PARTITION_FILE_STAGING_AREA_URI;
+import static com.linkedin.venice.utils.IntegrationTestPushUtils.createStoreForJob;
+import static com.linkedin.venice.utils.IntegrationTestPushUtils.defaultVPJProps;
+import static com.linkedin.venice.utils.IntegrationTestPushUtils.runVPJ;
+import static com.linkedin.venice.utils.TestWriteUtils.DEFAULT_USER_DATA_VALUE_PREFIX;
+import static com.linkedin.venice.utils.TestWriteUtils.getTempDataDirectory;
+import static com.linkedin.venice.utils.TestWriteUtils.writeSimpleAvroFileWithStringToStringSchema;
+
+import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.client.store.ClientFactory;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.controllerapi.ControllerClient;
+import com.linkedin.venice.controllerapi.UpdateStoreQueryParams;
+import com.linkedin.venice.integration.utils.ServiceFactory;
+import com.linkedin.venice.integration.utils.VeniceClusterCreateOptions;
+import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.store.rocksdb.PartitionFileManifest;
+import com.linkedin.venice.store.rocksdb.PartitionFileStagingArea;
+import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.util.Properties;
+import org.apache.avro.Schema;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+/**
+ * The batch pushes writing their records into the SST files of a {@link PartitionFileStagingArea}, which the replicas
+ * ingest once they receive the End of Push, instead of producing them to the version topic.
+ */
+public class TestBatchWithPartitionFileStagingArea {
+  private static final int PARTITION_COUNT = 3;
+  private static final int RECORD_COUNT = 1000;
+
+  private VeniceClusterWrapper veniceCluster;
+
+  @BeforeClass(alwaysRun = true)
+  public void setUp() {
+    Properties serverProperties = new Properties();
+    serverProperties.put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB);
+    serverProperties.setProperty(ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED, "false");
+    serverProperties.setProperty(SERVER_PREBUILT_PARTITION_FILE_INGESTION_ENABLED, "true");
+    VeniceClusterCreateOptions options = new VeniceClusterCreateOptions.Builder().numberOfControllers(1)
+        .numberOfRouters(1)
+        .numberOfServers(2)
+        .replicationFactor(2)
+        .numberOfPartitions(PARTITION_COUNT)
+        .extraProperties(serverProperties)
+        .build();
+    veniceCluster = ServiceFactory.getVeniceCluster(options);
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void cleanUp() {
+    Utils.closeQuietlyWithErrorLogged(veniceCluster);
+  }
+
+  @Test(timeOut = 2 * Time.MS_PER_MINUTE, dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testBatchPushThroughPartitionFileStagingArea(boolean chunkingEnabled) throws Exception {
+    File inputDir = getTempDataDirectory();
+    String inputDirPath = "file://" + inputDir.getAbsolutePath();
+    Schema recordSchema = writeSimpleAvroFileWithStringToStringSchema(inputDir, RECORD_COUNT);
+    String storeName = Utils.getUniqueString("store");
+    File stagingDir = getTempDataDirectory();
+    Properties props = defaultVPJProps(veniceCluster, inputDirPath, storeName);
+    props.setProperty(PARTITION_FILE_STAGING_AREA_URI, stagingDir.toURI().toString());
+    // Roll over the partition files a few times
+    props.setProperty(PARTITION_FILE_MAX_SIZE_IN_BYTES, Integer.toString(4 * 1024));
+    UpdateStoreQueryParams storeParams =
+        new UpdateStoreQueryParams().setStorageQuotaInByte(Store.UNLIMITED_STORAGE_QUOTA)
+            .setCompressionStrategy(CompressionStrategy.GZIP)
+            .setChunkingEnabled(chunkingEnabled)
+            .setPartitionCount(PARTITION_COUNT);
+    try (ControllerClient controllerClient = createStoreForJob(
+        veniceCluster.getClusterName(),
+        recordSchema.getField(DEFAULT_KEY_FIELD_PROP).schema().toString(),
+        recordSchema.getField(DEFAULT_VALUE_FIELD_PROP).schema().toString(),
+        props,
+        storeParams)) {
+      runVPJ(props, 1, controllerClient);
+    }
+
+    // Every partition has a manifest, and the manifests cover all the records
+    PartitionFileStagingArea stagingArea =
+        PartitionFileStagingArea.fromDirectory(stagingDir).resolve(Version.composeKafkaTopic(storeName, 1));
+    long recordCount = 0;
+    for (int partitionId = 0; partitionId < PARTITION_COUNT; partitionId++) {
+      for (PartitionFileManifest.PartitionFile partitionFile: stagingArea.readManifest(partitionId).getFiles()) {
+        Assert.assertNotNull(partitionFile.getChecksum());
+        recordCount += partitionFile.getRecordCount();
+      }
+    }
+    Assert.assertEquals(recordCount, RECORD_COUNT);
+
+    try (AvroGenericStoreClient<String, Object> client = ClientFactory.getAndStartGenericAvroClient(
+        ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(veniceCluster.getRandomRouterURL()))) {
+      for (int i = 1; i <= RECORD_COUNT; i++) {
+        Object value = client.get(Integer.toString(i)).get();
+        Assert.assertNotNull(value, "Key: " + i + " is missing");
+        Assert.assertEquals(value.toString(), DEFAULT_USER_DATA_VALUE_PREFIX + i);
+      }
+    }
+  }
+}
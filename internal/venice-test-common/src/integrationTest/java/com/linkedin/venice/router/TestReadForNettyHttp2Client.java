@@ -0,0 +1,68 @@
+package com.linkedin.venice.router;
+
+import static com.linkedin.venice.HttpConstants.HTTP_GET;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.integration.utils.VeniceServerWrapper;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClientType;
+import com.linkedin.venice.router.httpclient.VeniceMetaDataRequest;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.SslUtils;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestReadForNettyHttp2Client extends TestRead {
+  @Override
+  protected StorageNodeClientType getStorageNodeClientType() {
+    return StorageNodeClientType.NETTY_HTTP2_CLIENT;
+  }
+
+  @Override
+  protected boolean isRouterHttp2ClientEnabled() {
+    return true;
+  }
+
+  @Test
+  public void testNettyHttp2ClientWithoutRequestTimeout() throws Exception {
+    VeniceClusterWrapper veniceCluster = getVeniceCluster();
+    VeniceServerWrapper serverWrapper = veniceCluster.getVeniceServers().get(0);
+    Instance serverInstance = Instance.fromHostAndPort(serverWrapper.getHost(), serverWrapper.getPort());
+    Optional<SSLFactory> sslFactory = Optional.of(SslUtils.getVeniceLocalSslFactory());
+    // Form a heartbeat request
+    VeniceMetaDataRequest request = new VeniceMetaDataRequest(
+        serverInstance,
+        QueryAction.HEALTH.toString().toLowerCase(),
+        HTTP_GET,
+        sslFactory.isPresent());
+    // Don't setup the request timeout
+
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(1000).when(config).getSocketTimeout();
+    doReturn(1000).when(config).getConnectionTimeout();
+    doReturn(2).when(config).getMaxOutgoingConnPerRoute();
+    doReturn(10).when(config).getMaxOutgoingConn();
+    NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(2);
+    try (NettyHttp2StorageNodeClient client =
+        new NettyHttp2StorageNodeClient(sslFactory, config, eventLoopGroup, NioSocketChannel.class)) {
+      CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+      client.sendRequest(request, responseFuture);
+      PortableHttpResponse response = responseFuture.get(3, TimeUnit.SECONDS);
+      Assert.assertEquals(response.getStatusCode(), 200);
+      response.getContentInByteBuf().release();
+    } finally {
+      eventLoopGroup.shutdownGracefully().syncUninterruptibly();
+    }
+  }
+}
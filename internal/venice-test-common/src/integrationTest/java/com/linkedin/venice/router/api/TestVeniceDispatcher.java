@@ -8,6 +8,7 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,6 +32,7 @@ import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
@@ -38,6 +40,9 @@ import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.utils.TestUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.FullHttpResponse;
@@ -46,16 +51,20 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ResourceLeakDetector;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import org.apache.http.client.methods.HttpGet;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -310,7 +319,150 @@ public class TestVeniceDispatcher {
     }
   }
 
+  @Test
+  public void testRetriableResponseContentIsReleased() throws Exception {
+    ResourceLeakDetector.Level oldLevel = ResourceLeakDetector.getLevel();
+    ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    ByteBuf content = getPooledContent();
+    PortableHttpResponse response = getMockPortableHttpResponse(HttpResponseStatus.SERVICE_UNAVAILABLE, content);
+    VeniceDispatcher dispatcher = getMockDispatcher(false, false, getMockStorageNodeClient(response, false));
+    try {
+      AsyncPromise<List<FullHttpResponse>> mockResponseFuture = mock(AsyncPromise.class);
+      AsyncPromise<HttpResponseStatus> mockRetryFuture = mock(AsyncPromise.class);
+      dispatch(dispatcher, RequestType.SINGLE_GET, mockRetryFuture, mockResponseFuture);
+
+      verify(mockRetryFuture).setSuccess(HttpResponseStatus.SERVICE_UNAVAILABLE);
+      verify(mockResponseFuture, never()).setSuccess(any());
+      Assert.assertEquals(content.refCnt(), 0);
+    } finally {
+      dispatcher.stop();
+      ResourceLeakDetector.setLevel(oldLevel);
+    }
+  }
+
+  @Test
+  public void testResponseContentIsReleasedAfterCancellation() throws Exception {
+    ResourceLeakDetector.Level oldLevel = ResourceLeakDetector.getLevel();
+    ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    ByteBuf content = getPooledContent();
+    PortableHttpResponse response = getMockPortableHttpResponse(HttpResponseStatus.OK, content);
+    // The response arrives after the request to the storage node got cancelled
+    VeniceDispatcher dispatcher = getMockDispatcher(false, false, getMockStorageNodeClient(response, true));
+    try {
+      AsyncPromise<List<FullHttpResponse>> mockResponseFuture = mock(AsyncPromise.class);
+      AsyncPromise<HttpResponseStatus> mockRetryFuture = mock(AsyncPromise.class);
+      dispatch(dispatcher, RequestType.SINGLE_GET, mockRetryFuture, mockResponseFuture);
+
+      verify(mockResponseFuture, never()).setSuccess(any());
+      Assert.assertEquals(content.refCnt(), 0);
+    } finally {
+      dispatcher.stop();
+      ResourceLeakDetector.setLevel(oldLevel);
+    }
+  }
+
+  @Test
+  public void testResponseIsReleasedWhenScatterGatherRequestIsDone() throws Exception {
+    ResourceLeakDetector.Level oldLevel = ResourceLeakDetector.getLevel();
+    ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    ByteBuf content = getPooledContent();
+    PortableHttpResponse response = getMockPortableHttpResponse(HttpResponseStatus.OK, content);
+    VeniceDispatcher dispatcher = getMockDispatcher(false, false, getMockStorageNodeClient(response, false));
+    try {
+      AsyncPromise<List<FullHttpResponse>> mockResponseFuture = mock(AsyncPromise.class);
+      AsyncPromise<HttpResponseStatus> mockRetryFuture = mock(AsyncPromise.class);
+      // The response future was cancelled or completed by another attempt already
+      doReturn(false).when(mockResponseFuture).setSuccess(any());
+      dispatch(dispatcher, RequestType.COMPUTE, mockRetryFuture, mockResponseFuture);
+
+      verify(mockResponseFuture).setSuccess(any());
+      verify(mockRetryFuture, never()).setSuccess(any());
+      Assert.assertEquals(content.refCnt(), 0);
+    } finally {
+      dispatcher.stop();
+      ResourceLeakDetector.setLevel(oldLevel);
+    }
+  }
+
+  /**
+   * A composite buffer from the pooled allocator, like the content of a multi-frame response handed over by
+   * {@link com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient}.
+   */
+  private ByteBuf getPooledContent() {
+    CompositeByteBuf content = PooledByteBufAllocator.DEFAULT.compositeBuffer();
+    content.addComponent(true, PooledByteBufAllocator.DEFAULT.buffer().writeBytes(new byte[] { 1, 2, 3 }));
+    content.addComponent(true, PooledByteBufAllocator.DEFAULT.buffer().writeBytes(new byte[] { 4, 5, 6 }));
+    return content;
+  }
+
+  private PortableHttpResponse getMockPortableHttpResponse(HttpResponseStatus status, ByteBuf content)
+      throws IOException {
+    HttpHeaders headers = new DefaultHttpHeaders().set(HttpHeaderNames.CONTENT_TYPE, "avro/binary")
+        .set(HttpConstants.VENICE_SCHEMA_ID, "1")
+        .set(HttpConstants.VENICE_COMPRESSION_STRATEGY, CompressionStrategy.NO_OP.getValue());
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(status.code()).when(response).getStatusCode();
+    doReturn(content).when(response).getContentInByteBuf();
+    doAnswer(invocation -> headers.get((String) invocation.getArgument(0))).when(response).getFirstHeader(anyString());
+    doAnswer(invocation -> headers.contains((String) invocation.getArgument(0))).when(response)
+        .containsHeader(anyString());
+    return response;
+  }
+
+  /**
+   * A storage node client which completes every request with the given response right away, optionally after
+   * cancelling the request.
+   */
+  private StorageNodeClient getMockStorageNodeClient(PortableHttpResponse response, boolean cancelFirst)
+      throws RouterException {
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    doAnswer(invocation -> {
+      if (cancelFirst) {
+        ((BooleanSupplier) invocation.getArgument(4)).getAsBoolean();
+      }
+      ((Consumer<PortableHttpResponse>) invocation.getArgument(2)).accept(response);
+      return null;
+    }).when(storageNodeClient).query(any(), any(), any(), any(), any());
+    return storageNodeClient;
+  }
+
+  private void dispatch(
+      VeniceDispatcher dispatcher,
+      RequestType requestType,
+      AsyncPromise mockRetryFuture,
+      AsyncPromise mockResponseFuture) throws RouterException {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    VenicePath mockPath = mock(VenicePath.class);
+    doReturn("test_store").when(mockPath).getStoreName();
+    doReturn(requestType).when(mockPath).getRequestType();
+    ScatterGatherRequest mockScatterGatherRequest = mock(ScatterGatherRequest.class);
+    doReturn(Collections.singletonList(new Instance("localhost_1234", "localhost", 1234)))
+        .when(mockScatterGatherRequest)
+        .getHosts();
+
+    dispatcher.dispatch(
+        mock(Scatter.class),
+        mockScatterGatherRequest,
+        mockPath,
+        mock(BasicFullHttpRequest.class),
+        mock(AsyncPromise.class),
+        mockResponseFuture,
+        mockRetryFuture,
+        mock(AsyncPromise.class),
+        Runnable::run);
+  }
+
   private VeniceDispatcher getMockDispatcher(boolean forcePendingCheck, boolean forceLeakPending) {
+    return getMockDispatcher(forcePendingCheck, forceLeakPending, null);
+  }
+
+  private VeniceDispatcher getMockDispatcher(
+      boolean forcePendingCheck,
+      boolean forceLeakPending,
+      StorageNodeClient storageNodeClient) {
     VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
     doReturn(2).when(routerConfig).getHttpClientPoolSize();
     doReturn(10).when(routerConfig).getMaxOutgoingConn();
@@ -338,8 +490,13 @@ public class TestVeniceDispatcher {
       doReturn(10l).when(routeHttpRequestStats).getPendingRequestCount(anyString());
     }
     LiveInstanceMonitor mockLiveInstanceMonitor = mock(LiveInstanceMonitor.class);
-    StorageNodeClient storageNodeClient =
-        new ApacheHttpAsyncStorageNodeClient(routerConfig, Optional.empty(), mockMetricsRepo, mockLiveInstanceMonitor);
+    if (storageNodeClient == null) {
+      storageNodeClient = new ApacheHttpAsyncStorageNodeClient(
+          routerConfig,
+          Optional.empty(),
+          mockMetricsRepo,
+          mockLiveInstanceMonitor);
+    }
     VeniceDispatcher dispatcher = new VeniceDispatcher(
         routerConfig,
         mockStoreRepo,
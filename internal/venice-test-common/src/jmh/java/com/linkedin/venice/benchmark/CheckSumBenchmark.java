@@ -0,0 +1,81 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the cost of the running checksum of a segment for each {@link CheckSumType}, updated the way
+ * {@link com.linkedin.venice.kafka.validation.Segment} does for a put: message type, key, schema id and value.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CheckSumBenchmark {
+  private static final int KEY_SIZE = 24;
+
+  @Param({ "MD5", "CRC32", "CRC32C", "XXHASH64" })
+  protected String checkSumType;
+
+  @Param({ "100", "1000", "10000" })
+  protected int valueSize;
+
+  private CheckSum checkSum;
+  private byte[] key;
+  private byte[] value;
+
+  @Setup
+  public void setUp() {
+    checkSum = CheckSum.getInstance(CheckSumType.valueOf(checkSumType));
+    key = new byte[KEY_SIZE];
+    value = new byte[valueSize];
+    ThreadLocalRandom.current().nextBytes(key);
+    ThreadLocalRandom.current().nextBytes(value);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(CheckSumBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void updatePut() {
+    checkSum.update(0);
+    checkSum.update(key);
+    checkSum.update(1);
+    checkSum.update(value, 0, value.length);
+  }
+
+  @Benchmark
+  public void checkpointAndFinalize(Blackhole blackhole) {
+    updatePut();
+    if (checkSum.getType().isCheckpointingSupported()) {
+      blackhole.consume(checkSum.getEncodedState());
+    }
+    blackhole.consume(checkSum.getCheckSum());
+    checkSum.reset();
+  }
+}
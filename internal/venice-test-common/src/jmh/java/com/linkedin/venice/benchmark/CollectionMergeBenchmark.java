@@ -0,0 +1,170 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.ACTIVE_ELEM_TS_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_TS_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.PUT_ONLY_PART_LENGTH_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_COLO_ID_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_NAME;
+
+import com.linkedin.davinci.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.davinci.schema.merge.CollectionFieldOperationHandler;
+import com.linkedin.davinci.schema.merge.IndexBasedCollectionFieldOpHandler;
+import com.linkedin.davinci.schema.merge.SortBasedCollectionFieldOpHandler;
+import com.linkedin.davinci.schema.merge.UpdateResultStatus;
+import com.linkedin.davinci.utils.IndexedHashMap;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the cost of adding or removing a single element of a large list or map field in the collection-merge state,
+ * with the {@link SortBasedCollectionFieldOpHandler} and the {@link IndexBasedCollectionFieldOpHandler}.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectionMergeBenchmark {
+  private static final Schema VALUE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\": \"record\", \"name\": \"TestRecord\", \"namespace\": \"com.linkedin.avro\", \"fields\": ["
+          + "{\"name\": \"Items\", \"type\": {\"type\": \"array\", \"items\": \"string\"}, \"default\": []},"
+          + "{\"name\": \"ItemToCount\", \"type\": {\"type\": \"map\", \"values\": \"int\"}, \"default\": {}}]}");
+  private static final Schema.Field LIST_FIELD = VALUE_SCHEMA.getField("Items");
+  private static final Schema.Field MAP_FIELD = VALUE_SCHEMA.getField("ItemToCount");
+  private static final Schema COLLECTION_RMD_SCHEMA = CollectionRmdTimestamp.createCollectionTimeStampSchema(
+      "ItemsCollectionMetadata",
+      "com.linkedin.avro",
+      Schema.create(Schema.Type.STRING));
+
+  @Param({ "SORT_BASED", "INDEX_BASED" })
+  protected String handlerType;
+
+  @Param({ "100", "1000", "10000", "100000" })
+  protected int collectionSize;
+
+  private CollectionFieldOperationHandler handler;
+  private List<Object> elements;
+  private List<Long> timestamps;
+  private GenericRecord valueRecord;
+  private CollectionRmdTimestamp<Object> listRmd;
+  private CollectionRmdTimestamp<String> mapRmd;
+
+  @Setup
+  public void setUp() {
+    handler = handlerType.equals("SORT_BASED")
+        ? new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE)
+        : new IndexBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+    // Each element was added by a different partial update, so that elements are sorted by their timestamps.
+    elements = new ArrayList<>(collectionSize);
+    timestamps = new ArrayList<>(collectionSize);
+    for (int i = 0; i < collectionSize; i++) {
+      elements.add("item_" + i);
+      timestamps.add(i + 1L);
+    }
+  }
+
+  /**
+   * Rebuilds the collections before each invocation, the way they would be deserialized before each partial update.
+   */
+  @Setup(Level.Invocation)
+  public void setUpCollections() {
+    IndexedHashMap<String, Object> map = new IndexedHashMap<>(collectionSize);
+    for (Object element: elements) {
+      map.put((String) element, 1);
+    }
+    valueRecord = new GenericData.Record(VALUE_SCHEMA);
+    valueRecord.put(LIST_FIELD.pos(), new ArrayList<>(elements));
+    valueRecord.put(MAP_FIELD.pos(), map);
+    listRmd = new CollectionRmdTimestamp<>(createCollectionRmdRecord());
+    mapRmd = new CollectionRmdTimestamp<>(createCollectionRmdRecord());
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(CollectionMergeBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public UpdateResultStatus addListElement() {
+    return handler.handleModifyList(
+        collectionSize / 2,
+        listRmd,
+        valueRecord,
+        LIST_FIELD,
+        Collections.singletonList("new_item"),
+        Collections.emptyList());
+  }
+
+  @Benchmark
+  public UpdateResultStatus removeListElement() {
+    return handler.handleModifyList(
+        collectionSize + 1,
+        listRmd,
+        valueRecord,
+        LIST_FIELD,
+        Collections.emptyList(),
+        Collections.singletonList("item_" + collectionSize / 2));
+  }
+
+  @Benchmark
+  public UpdateResultStatus putMapEntry() {
+    IndexedHashMap<String, Object> newEntries = new IndexedHashMap<>();
+    newEntries.put("new_item", 1);
+    return handler.handleModifyMap(
+        collectionSize / 2,
+        mapRmd,
+        valueRecord,
+        MAP_FIELD,
+        newEntries,
+        Collections.emptyList());
+  }
+
+  @Benchmark
+  public UpdateResultStatus removeMapEntry() {
+    return handler.handleModifyMap(
+        collectionSize + 1,
+        mapRmd,
+        valueRecord,
+        MAP_FIELD,
+        new IndexedHashMap<>(),
+        Collections.singletonList("item_" + collectionSize / 2));
+  }
+
+  private GenericRecord createCollectionRmdRecord() {
+    GenericRecord collectionRmdRecord = new GenericData.Record(COLLECTION_RMD_SCHEMA);
+    collectionRmdRecord.put(TOP_LEVEL_TS_FIELD_NAME, 0L);
+    collectionRmdRecord.put(TOP_LEVEL_COLO_ID_FIELD_NAME, 0);
+    collectionRmdRecord.put(PUT_ONLY_PART_LENGTH_FIELD_NAME, 0);
+    collectionRmdRecord.put(ACTIVE_ELEM_TS_FIELD_NAME, new ArrayList<>(timestamps));
+    collectionRmdRecord.put(DELETED_ELEM_FIELD_NAME, new ArrayList<>());
+    collectionRmdRecord.put(DELETED_ELEM_TS_FIELD_NAME, new ArrayList<>());
+    return collectionRmdRecord;
+  }
+}
@@ -0,0 +1,87 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.stats.StripedHistogram;
+import com.linkedin.venice.stats.TehutiUtils;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the cost of recording a latency into per-store stats with a total parent, as the read path does, with a
+ * Tehuti {@link Sensor} with {@link Avg}, {@link Max} and percentile stats and with a {@link StripedHistogram}, while
+ * all the threads record concurrently. The number of threads can be changed with the "-t" option of JMH.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LatencyStatsContentionBenchmark {
+  @Param({ "1", "16" })
+  protected int storeCount;
+
+  private Sensor[] sensors;
+  private StripedHistogram[] histograms;
+
+  @Setup
+  public void setUp() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Sensor totalSensor = createSensor(metricsRepository, ".total--latency", null);
+    StripedHistogram totalHistogram = new StripedHistogram(null);
+    sensors = new Sensor[storeCount];
+    histograms = new StripedHistogram[storeCount];
+    for (int i = 0; i < storeCount; i++) {
+      sensors[i] = createSensor(metricsRepository, ".store_" + i + "--latency", totalSensor);
+      histograms[i] = new StripedHistogram(totalHistogram);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(LatencyStatsContentionBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public void tehutiSensor() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    sensors[random.nextInt(storeCount)].record(random.nextDouble(10));
+  }
+
+  @Benchmark
+  public void stripedHistogram() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    histograms[random.nextInt(storeCount)].record(random.nextDouble(10));
+  }
+
+  private static Sensor createSensor(MetricsRepository metricsRepository, String sensorName, Sensor parent) {
+    Sensor sensor = metricsRepository.sensor(sensorName, parent == null ? null : new Sensor[] { parent });
+    sensor.add(TehutiUtils.getPercentileStat(sensorName));
+    sensor.add(sensorName + ".Avg", new Avg());
+    sensor.add(sensorName + ".Max", new Max());
+    return sensor;
+  }
+}
@@ -0,0 +1,148 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOB_FILES_ENABLED_STORE_LIST;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER_WRITE_ONLY_VERSION;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MEMTABLE_SIZE_IN_BYTES;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_STATISTICS_ENABLED;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static org.rocksdb.TickerType.BLOB_DB_BLOB_FILE_BYTES_WRITTEN;
+import static org.rocksdb.TickerType.BYTES_WRITTEN;
+import static org.rocksdb.TickerType.COMPACT_WRITE_BYTES;
+import static org.rocksdb.TickerType.FLUSH_WRITE_BYTES;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition;
+import com.linkedin.davinci.store.rocksdb.RocksDBThrottler;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.io.File;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.RocksDB;
+import org.rocksdb.Statistics;
+
+
+/**
+ * Compares the ingestion throughput and the write amplification of stores with large values, with and without the
+ * blob files of integrated BlobDB. The records overwrite a key space smaller than the record count, like the updates
+ * of a hybrid store, so that flushes and compactions keep happening during the ingestion.
+ *
+ * The write amplification, which is the number of bytes written by flushes and compactions per byte written by the
+ * application, is printed at the end of each iteration.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RocksDBBlobFilesIngestionBenchmark {
+  private static final String DATA_BASE_DIR = Utils.getUniqueTempPath();
+  private static final int RECORD_COUNT = 100_000;
+  private static final int KEY_COUNT = 20_000;
+
+  @Param({ "false", "true" })
+  private boolean blobFilesEnabled;
+
+  @Param({ "10240", "102400" })
+  private int valueSize;
+
+  private RocksDBStorageEngineFactory factory;
+  private RocksDBStoragePartition storagePartition;
+  private File storeDir;
+  private byte[][] values;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    RocksDB.loadLibrary();
+    String storeName = Utils.getUniqueString("test_store");
+    String topicName = Version.composeKafkaTopic(storeName, 1);
+    storeDir = new File(DATA_BASE_DIR, topicName).getAbsoluteFile();
+    if (!storeDir.mkdirs()) {
+      throw new VeniceException("Failed to mkdirs for path: " + storeDir.getPath());
+    }
+    Properties properties = new Properties();
+    properties.put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString());
+    properties.put(ROCKSDB_STATISTICS_ENABLED, "true");
+    properties.put(ROCKSDB_MEMTABLE_SIZE_IN_BYTES, 16 * 1024 * 1024);
+    properties.put(ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER, 2);
+    properties.put(ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER_WRITE_ONLY_VERSION, 2);
+    if (blobFilesEnabled) {
+      properties.put(ROCKSDB_BLOB_FILES_ENABLED_STORE_LIST, storeName);
+    }
+    VeniceProperties veniceServerProperties =
+        RocksDBLookupApiBenchmark.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    factory = new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties));
+    storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(topicName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        new RocksDBThrottler(3),
+        new RocksDBServerConfig(veniceServerProperties));
+
+    // A few distinct values are enough, as the values are not compressed
+    values = new byte[16][valueSize];
+    for (byte[] value: values) {
+      ThreadLocalRandom.current().nextBytes(value);
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    Statistics statistics = factory.getAggStatistics().get();
+    long bytesWritten = statistics.getTickerCount(BYTES_WRITTEN);
+    long flushAndCompactionBytes =
+        statistics.getTickerCount(FLUSH_WRITE_BYTES) + statistics.getTickerCount(COMPACT_WRITE_BYTES);
+    System.out.printf(
+        "%nblobFilesEnabled: %s, valueSize: %d, write amplification: %.2f, blob file bytes written: %d%n",
+        blobFilesEnabled,
+        valueSize,
+        flushAndCompactionBytes / (double) bytesWritten,
+        statistics.getTickerCount(BLOB_DB_BLOB_FILE_BYTES_WRITTEN));
+    storagePartition.drop();
+    factory.close();
+    if (storeDir.exists() && !storeDir.delete()) {
+      throw new VeniceException("Failed to remove path: " + storeDir);
+    }
+  }
+
+  @Benchmark
+  public void measureIngestion() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      byte[] key = ("key_" + random.nextInt(KEY_COUNT)).getBytes();
+      storagePartition.put(key, values[i % values.length]);
+    }
+    storagePartition.sync();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(RocksDBBlobFilesIngestionBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
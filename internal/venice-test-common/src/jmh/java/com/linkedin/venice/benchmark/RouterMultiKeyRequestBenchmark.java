@@ -0,0 +1,190 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.api.VenicePartitionFinder;
+import com.linkedin.venice.router.api.path.VeniceComputePath;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
+import com.linkedin.venice.router.api.path.VeniceMultiKeyPath;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures how the router parses a multi-key request and scatters it into one sub-request per storage node, including
+ * the serialization of the sub-request bodies.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouterMultiKeyRequestBenchmark {
+  private static final String STORE_NAME = "test_store";
+  private static final int VERSION_NUMBER = 1;
+  private static final String RESOURCE_NAME = STORE_NAME + "_v" + VERSION_NUMBER;
+  private static final int PARTITION_COUNT = 16;
+
+  @Param({ "100", "500" })
+  protected int keyCount;
+
+  @Param({ "4" })
+  protected int storageNodeCount;
+
+  private VenicePartitionFinder partitionFinder;
+  private byte[] multiGetContent;
+  private byte[] computeContent;
+
+  @Setup
+  public void setUp() {
+    partitionFinder = mock(VenicePartitionFinder.class);
+    when(partitionFinder.getNumPartitions(anyString())).thenReturn(PARTITION_COUNT);
+    when(partitionFinder.findPartitioner(anyString(), anyInt())).thenReturn(new DefaultVenicePartitioner());
+
+    List<ByteBuffer> keys = new ArrayList<>(keyCount);
+    for (int i = 0; i < keyCount; ++i) {
+      byte[] key = new byte[20];
+      ThreadLocalRandom.current().nextBytes(key);
+      keys.add(ByteBuffer.wrap(key));
+    }
+    RecordSerializer<ByteBuffer> keySerializer = SerializerDeserializerFactory
+        .getAvroGenericSerializer(ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getSchema());
+    multiGetContent = keySerializer.serializeObjects(keys);
+
+    DotProduct dotProduct = new DotProduct();
+    dotProduct.field = "member_feature";
+    dotProduct.dotProductParam = Arrays.asList(0.4f, 66.6f, 5.2f);
+    dotProduct.resultFieldName = "member_score";
+    ComputeOperation operation = new ComputeOperation();
+    operation.operationType = 0;
+    operation.operation = dotProduct;
+    ComputeRequestV3 computeRequest = new ComputeRequestV3();
+    computeRequest.operations = Collections.singletonList(operation);
+    computeRequest.resultSchemaStr = "\"double\"";
+    RecordSerializer<ComputeRequestV3> computeRequestSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRequestV3.SCHEMA$);
+    byte[] serializedComputeRequest = computeRequestSerializer.serialize(computeRequest);
+    computeContent = new byte[serializedComputeRequest.length + multiGetContent.length];
+    System.arraycopy(serializedComputeRequest, 0, computeContent, 0, serializedComputeRequest.length);
+    System.arraycopy(multiGetContent, 0, computeContent, serializedComputeRequest.length, multiGetContent.length);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(RouterMultiKeyRequestBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void multiGetParseAndScatter(Blackhole blackhole) throws RouterException {
+    BasicFullHttpRequest request = newRequest("/storage/", multiGetContent, 1);
+    VeniceMultiGetPath path = new VeniceMultiGetPath(
+        STORE_NAME,
+        VERSION_NUMBER,
+        RESOURCE_NAME,
+        request,
+        partitionFinder,
+        keyCount,
+        false,
+        -1,
+        null,
+        1);
+    scatter(path, blackhole);
+  }
+
+  @Benchmark
+  public void computeParseAndScatter(Blackhole blackhole) throws RouterException {
+    BasicFullHttpRequest request =
+        newRequest("/compute/", computeContent, LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    VeniceComputePath path = new VeniceComputePath(
+        STORE_NAME,
+        VERSION_NUMBER,
+        RESOURCE_NAME,
+        request,
+        partitionFinder,
+        keyCount,
+        false,
+        -1,
+        1);
+    scatter(path, blackhole);
+  }
+
+  private static BasicFullHttpRequest newRequest(String prefix, byte[] content, int apiVersion) {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        prefix + RESOURCE_NAME,
+        Unpooled.wrappedBuffer(content),
+        0,
+        0);
+    request.headers().add(HttpConstants.VENICE_API_VERSION, apiVersion);
+    return request;
+  }
+
+  /**
+   * Group the keys by storage node the way the scatter-gather framework does, with the partitions spread evenly
+   * across the nodes, and write the body of each sub-request.
+   */
+  private void scatter(VeniceMultiKeyPath path, Blackhole blackhole) {
+    List<List<RouterKey>> keysByNode = new ArrayList<>(storageNodeCount);
+    for (int i = 0; i < storageNodeCount; ++i) {
+      keysByNode.add(new ArrayList<>());
+    }
+    for (RouterKey key: path.getPartitionKeys()) {
+      keysByNode.get(key.getPartitionId() % storageNodeCount).add(key);
+    }
+    for (List<RouterKey> nodeKeys: keysByNode) {
+      if (nodeKeys.isEmpty()) {
+        continue;
+      }
+      VenicePath subPath = path.substitutePartitionKey(nodeKeys);
+      ByteBuf body = subPath.getBodyByteBuf(PooledByteBufAllocator.DEFAULT);
+      blackhole.consume(body.readableBytes());
+      body.release();
+    }
+  }
+}
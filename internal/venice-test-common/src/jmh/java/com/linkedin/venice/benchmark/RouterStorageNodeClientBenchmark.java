@@ -0,0 +1,89 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.integration.utils.ServiceFactory.getVeniceCluster;
+
+import com.linkedin.venice.ConfigKeys;
+import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.client.store.ClientFactory;
+import com.linkedin.venice.controllerapi.UpdateStoreQueryParams;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the throughput of the router with each of the clients it can use to query the storage nodes, from several
+ * concurrent callers. The storage nodes are reached over SSL with HTTP/2 enabled, which all the clients require.
+ */
+@Threads(8)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RouterStorageNodeClientBenchmark extends VeniceClientBenchmark {
+  private static final int BATCH_GET_KEY_COUNT = 100;
+
+  @Param({ "HTTP_CLIENT_5_CLIENT", "NETTY_HTTP2_CLIENT" })
+  protected String storageNodeClientType;
+
+  @Setup
+  @Override
+  public void setUp() throws Exception {
+    Utils.thisIsLocalhost();
+    Properties extraProperties = new Properties();
+    extraProperties.put(ConfigKeys.ROUTER_STORAGE_NODE_CLIENT_TYPE, storageNodeClientType);
+    extraProperties.put(ConfigKeys.ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, "true");
+    extraProperties.put(ConfigKeys.SERVER_HTTP2_INBOUND_ENABLED, true);
+    cluster = getVeniceCluster(1, 1, 1, 1, 100, true, false, extraProperties);
+    String storeName = buildStore(cluster);
+    cluster.useControllerClient(c -> c.updateStore(storeName, new UpdateStoreQueryParams().setReadQuotaInCU(100000)));
+    client = ClientFactory.getAndStartGenericAvroClient(
+        ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(cluster.getRandomRouterURL()));
+
+    Random random = ThreadLocalRandom.current();
+    for (int i = 0; i < KEY_COUNT; ++i) {
+      keys[i] = random.nextInt(RECORD_COUNT);
+    }
+
+    // JMH benchmark relies on System.exit to finish one round of benchmark run, otherwise it will hang there.
+    TestUtils.restoreSystemExit();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(RouterStorageNodeClientBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void singleGet(Blackhole blackhole) throws ExecutionException, InterruptedException {
+    blackhole.consume(client.get(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]).get());
+  }
+
+  @Benchmark
+  public void batchGet(Blackhole blackhole) throws ExecutionException, InterruptedException {
+    Set<Integer> keySet = new HashSet<>(BATCH_GET_KEY_COUNT);
+    int offset = ThreadLocalRandom.current().nextInt(KEY_COUNT - BATCH_GET_KEY_COUNT);
+    for (int i = 0; i < BATCH_GET_KEY_COUNT; ++i) {
+      keySet.add(keys[offset + i]);
+    }
+    blackhole.consume(client.batchGet(keySet).get());
+  }
+}
@@ -0,0 +1,463 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.ConfigKeys.ADMIN_PORT;
+import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.LISTENER_PORT;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
+import static com.linkedin.venice.router.api.VenicePathParser.TYPE_COMPUTE;
+import static com.linkedin.venice.router.api.VenicePathParser.TYPE_STORAGE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.storage.DiskHealthCheckService;
+import com.linkedin.davinci.storage.MetadataRetriever;
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.RequestConstants;
+import com.linkedin.venice.client.store.AvroComputeRequestBuilderV3;
+import com.linkedin.venice.client.store.AvroGenericReadComputeStoreClient;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.listener.OutboundHttpWrapperHandler;
+import com.linkedin.venice.listener.RouterRequestHttpHandler;
+import com.linkedin.venice.listener.StatsHandler;
+import com.linkedin.venice.listener.StorageReadRequestHandler;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.stats.AggServerHttpRequestStats;
+import com.linkedin.venice.storage.protocol.ChunkId;
+import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.EncodingUtils;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.mockito.ArgumentCaptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the read path of a storage node in isolation: the requests are sent through an {@link EmbeddedChannel} with
+ * the handlers the storage node pipeline has after the HTTP codec, down to a {@link StorageReadRequestHandler} over a
+ * real RocksDB storage engine, so no cluster is needed. The quota and ACL handlers are left out.
+ *
+ * Run with the {@link GCProfiler} to get the allocation rate along with the throughput and the latency percentiles.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(4)
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageReadRequestHandlerBenchmark {
+  private static final String STORE_NAME = "read_path_benchmark_store";
+  private static final int VERSION_NUMBER = 1;
+  private static final String TOPIC = Version.composeKafkaTopic(STORE_NAME, VERSION_NUMBER);
+  private static final int PARTITION = 0;
+  private static final int VALUE_SCHEMA_ID = 1;
+  private static final int STORAGE_THREAD_COUNT = 8;
+  // Values are split into chunks of this size when chunking is enabled, so that the small values are chunked as well.
+  private static final int CHUNK_SIZE = 4 * 1024;
+  private static final int PREPARED_REQUEST_COUNT = 100;
+  private static final Schema VALUE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\": \"record\", \"name\": \"BenchmarkValue\", \"fields\": ["
+          + "{\"name\": \"floatVector\", \"type\": {\"type\": \"array\", \"items\": \"float\"}}]}");
+
+  @Param({ "100", "10000" })
+  protected int valueSize;
+
+  @Param({ "false", "true" })
+  protected boolean chunkingEnabled;
+
+  @Param({ "NO_OP", "GZIP", "ZSTD_WITH_DICT" })
+  protected String compressionStrategy;
+
+  @Param({ "100000" })
+  protected int recordCount;
+
+  @Param({ "100" })
+  protected int batchGetKeyCount;
+
+  @Param({ "false", "true" })
+  protected boolean parallelBatchGetEnabled;
+
+  private String dataBasePath;
+  private RocksDBStorageEngineFactory storageEngineFactory;
+  private AbstractStorageEngine storageEngine;
+  private StorageEngineBackedCompressorFactory compressorFactory;
+  private ThreadPoolExecutor executor;
+  private ThreadPoolExecutor computeExecutor;
+  private StorageReadRequestHandler storageReadRequestHandler;
+  private AggServerHttpRequestStats singleGetStats;
+  private AggServerHttpRequestStats multiGetStats;
+  private AggServerHttpRequestStats computeStats;
+
+  private String[] singleGetUris;
+  private byte[][] multiGetRequestBodies;
+  private byte[][] computeRequestBodies;
+
+  @Setup
+  public void setUp() throws Exception {
+    dataBasePath = Utils.getUniqueTempPath("read_path_benchmark");
+    VeniceProperties serverProperties = new PropertyBuilder().put(CLUSTER_NAME, "read_path_benchmark_cluster")
+        .put(ZOOKEEPER_ADDRESS, "localhost:2181")
+        .put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString())
+        .put(KAFKA_BOOTSTRAP_SERVERS, "127.0.0.1:9092")
+        .put(LISTENER_PORT, 7072)
+        .put(ADMIN_PORT, 7073)
+        .put(DATA_BASE_PATH, dataBasePath)
+        .build();
+    VeniceServerConfig serverConfig = new VeniceServerConfig(serverProperties);
+    CompressionStrategy strategy = CompressionStrategy.valueOf(compressionStrategy);
+    byte[] dictionary = strategy == CompressionStrategy.ZSTD_WITH_DICT
+        ? ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData()
+        : null;
+
+    storageEngineFactory = new RocksDBStorageEngineFactory(serverConfig);
+    storageEngine = storageEngineFactory.getStorageEngine(new VeniceStoreVersionConfig(TOPIC, serverProperties));
+    storageEngine.addStoragePartition(PARTITION);
+    StoreVersionState storeVersionState = new StoreVersionState();
+    storeVersionState.chunked = chunkingEnabled;
+    storeVersionState.compressionStrategy = strategy.getValue();
+    storeVersionState.compressionDictionary = dictionary == null ? null : ByteBuffer.wrap(dictionary);
+    storageEngine.putStoreVersionState(storeVersionState);
+    StorageEngineRepository storageEngineRepository = new StorageEngineRepository();
+    storageEngineRepository.addLocalStorageEngine(storageEngine);
+
+    StorageMetadataService storageMetadataService = mock(StorageMetadataService.class);
+    if (dictionary != null) {
+      doReturn(ByteBuffer.wrap(dictionary)).when(storageMetadataService).getStoreVersionCompressionDictionary(TOPIC);
+    }
+    compressorFactory = new StorageEngineBackedCompressorFactory(storageMetadataService);
+    populateStorageEngine(compressorFactory.getCompressor(strategy, TOPIC));
+
+    Store store = TestUtils.createTestStore(STORE_NAME, "benchmark", 0);
+    store.addVersion(new VersionImpl(STORE_NAME, VERSION_NUMBER, "benchmark_push"));
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doReturn(store).when(storeRepository).getStore(STORE_NAME);
+    doReturn(store).when(storeRepository).getStoreOrThrow(STORE_NAME);
+    SchemaEntry valueSchemaEntry = new SchemaEntry(VALUE_SCHEMA_ID, VALUE_SCHEMA);
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    doReturn(valueSchemaEntry).when(schemaRepository).getValueSchema(STORE_NAME, VALUE_SCHEMA_ID);
+    doReturn(valueSchemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(STORE_NAME);
+
+    executor = new ThreadPoolExecutor(
+        STORAGE_THREAD_COUNT,
+        STORAGE_THREAD_COUNT,
+        0,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(),
+        new DaemonThreadFactory("StorageReadRequestHandlerBenchmark-storage"));
+    computeExecutor = new ThreadPoolExecutor(
+        STORAGE_THREAD_COUNT,
+        STORAGE_THREAD_COUNT,
+        0,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(),
+        new DaemonThreadFactory("StorageReadRequestHandlerBenchmark-compute"));
+    storageReadRequestHandler = new StorageReadRequestHandler(
+        executor,
+        computeExecutor,
+        storageEngineRepository,
+        storeRepository,
+        schemaRepository,
+        mock(MetadataRetriever.class),
+        mock(DiskHealthCheckService.class),
+        true,
+        parallelBatchGetEnabled,
+        10,
+        serverConfig,
+        compressorFactory,
+        Optional.empty());
+    MetricsRepository metricsRepository = new MetricsRepository();
+    singleGetStats =
+        new AggServerHttpRequestStats(metricsRepository, RequestType.SINGLE_GET, false, storeRepository, false);
+    multiGetStats =
+        new AggServerHttpRequestStats(metricsRepository, RequestType.MULTI_GET, false, storeRepository, false);
+    computeStats = new AggServerHttpRequestStats(metricsRepository, RequestType.COMPUTE, false, storeRepository, false);
+
+    prepareRequests();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    executor.shutdownNow();
+    computeExecutor.shutdownNow();
+    compressorFactory.close();
+    storageEngineFactory.removeStorageEngine(storageEngine);
+    storageEngineFactory.close();
+  }
+
+  /**
+   * Each benchmark thread sends its requests through its own channel, one request at a time.
+   */
+  @State(Scope.Thread)
+  public static class ChannelState {
+    private EmbeddedChannel channel;
+    private ResponseCollector responseCollector;
+
+    @Setup
+    public void setUp(StorageReadRequestHandlerBenchmark benchmark) {
+      StatsHandler statsHandler =
+          new StatsHandler(benchmark.singleGetStats, benchmark.multiGetStats, benchmark.computeStats);
+      responseCollector = new ResponseCollector();
+      channel = new EmbeddedChannel(
+          responseCollector,
+          statsHandler,
+          new OutboundHttpWrapperHandler(statsHandler),
+          new RouterRequestHttpHandler(statsHandler, Collections.emptyMap()),
+          benchmark.storageReadRequestHandler);
+    }
+
+    @TearDown
+    public void tearDown() {
+      channel.finishAndReleaseAll();
+    }
+
+    private int send(FullHttpRequest request) {
+      CompletableFuture<FullHttpResponse> responseFuture = new CompletableFuture<>();
+      responseCollector.responseFuture = responseFuture;
+      channel.writeInbound(request);
+      FullHttpResponse response = responseFuture.join();
+      try {
+        if (!response.status().equals(HttpResponseStatus.OK)) {
+          throw new IllegalStateException("Unexpected response status: " + response.status());
+        }
+        return response.content().readableBytes();
+      } finally {
+        response.release();
+      }
+    }
+  }
+
+  /**
+   * Completes the future of the pending request with the response, instead of writing it out.
+   */
+  private static class ResponseCollector extends ChannelOutboundHandlerAdapter {
+    private volatile CompletableFuture<FullHttpResponse> responseFuture;
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+      promise.setSuccess();
+      responseFuture.complete((FullHttpResponse) msg);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(StorageReadRequestHandlerBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void singleGet(ChannelState channelState, Blackhole blackhole) {
+    String uri = singleGetUris[ThreadLocalRandom.current().nextInt(recordCount)];
+    blackhole.consume(channelState.send(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri)));
+  }
+
+  @Benchmark
+  public void multiGet(ChannelState channelState, Blackhole blackhole) {
+    byte[] body = multiGetRequestBodies[ThreadLocalRandom.current().nextInt(PREPARED_REQUEST_COUNT)];
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/" + TYPE_STORAGE + "/" + TOPIC,
+        Unpooled.wrappedBuffer(body));
+    request.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    blackhole.consume(channelState.send(request));
+  }
+
+  @Benchmark
+  public void compute(ChannelState channelState, Blackhole blackhole) {
+    byte[] body = computeRequestBodies[ThreadLocalRandom.current().nextInt(PREPARED_REQUEST_COUNT)];
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/" + TYPE_COMPUTE + "/" + TOPIC,
+        Unpooled.wrappedBuffer(body));
+    request.headers()
+        .set(HttpConstants.VENICE_API_VERSION, ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    request.headers().set(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID, VALUE_SCHEMA_ID);
+    blackhole.consume(channelState.send(request));
+  }
+
+  private static byte[] getKey(int index) {
+    return ("key_" + index).getBytes();
+  }
+
+  private List<Float> getFloatVector() {
+    int dimension = Math.max(1, valueSize / Float.BYTES);
+    List<Float> floatVector = new ArrayList<>(dimension);
+    for (int i = 0; i < dimension; i++) {
+      floatVector.add(ThreadLocalRandom.current().nextFloat());
+    }
+    return floatVector;
+  }
+
+  private void populateStorageEngine(VeniceCompressor compressor) throws Exception {
+    RecordSerializer<GenericRecord> valueSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(VALUE_SCHEMA);
+    KeyWithChunkingSuffixSerializer keyWithChunkingSuffixSerializer = new KeyWithChunkingSuffixSerializer();
+    GUID producerGUID = new GUID();
+    for (int i = 0; i < recordCount; i++) {
+      GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+      value.put("floatVector", getFloatVector());
+      byte[] valueBytes = compressor.compress(valueSerializer.serialize(value));
+      byte[] key = getKey(i);
+      if (!chunkingEnabled) {
+        storageEngine.put(PARTITION, key, ValueRecord.create(VALUE_SCHEMA_ID, valueBytes).serialize());
+        continue;
+      }
+
+      int chunkCount = (valueBytes.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+      ChunkedValueManifest manifest = new ChunkedValueManifest();
+      manifest.keysWithChunkIdSuffix = new ArrayList<>(chunkCount);
+      manifest.schemaId = VALUE_SCHEMA_ID;
+      manifest.size = valueBytes.length;
+      for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+        ChunkId chunkId = new ChunkId();
+        chunkId.producerGUID = producerGUID;
+        chunkId.segmentNumber = 0;
+        chunkId.messageSequenceNumber = i;
+        chunkId.chunkIndex = chunkIndex;
+        ChunkedKeySuffix chunkedKeySuffix = new ChunkedKeySuffix();
+        chunkedKeySuffix.chunkId = chunkId;
+        ByteBuffer chunkKey = keyWithChunkingSuffixSerializer.serializeChunkedKey(key, chunkedKeySuffix);
+        manifest.keysWithChunkIdSuffix.add(chunkKey);
+
+        int chunkOffset = chunkIndex * CHUNK_SIZE;
+        int chunkLength = Math.min(CHUNK_SIZE, valueBytes.length - chunkOffset);
+        byte[] chunk = new byte[ValueRecord.SCHEMA_HEADER_LENGTH + chunkLength];
+        ByteUtils.writeInt(chunk, AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), 0);
+        System.arraycopy(valueBytes, chunkOffset, chunk, ValueRecord.SCHEMA_HEADER_LENGTH, chunkLength);
+        storageEngine.put(PARTITION, ByteUtils.extractByteArray(chunkKey), chunk);
+      }
+      byte[] manifestBytes = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+          .serialize(manifest);
+      storageEngine.put(
+          PARTITION,
+          keyWithChunkingSuffixSerializer.serializeNonChunkedKey(key),
+          ValueRecord
+              .create(AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get(), manifestBytes)
+              .serialize());
+    }
+  }
+
+  private void prepareRequests() {
+    singleGetUris = new String[recordCount];
+    for (int i = 0; i < recordCount; i++) {
+      singleGetUris[i] = "/" + TYPE_STORAGE + "/" + TOPIC + "/" + PARTITION + "/"
+          + EncodingUtils.base64EncodeToString(getKey(i)) + "?" + RequestConstants.FORMAT_KEY + "="
+          + RequestConstants.B64_FORMAT;
+    }
+
+    // The compute request is built the way the client builds it, with a dot product over the whole vector.
+    AvroGenericReadComputeStoreClient storeClient = mock(AvroGenericReadComputeStoreClient.class);
+    doReturn(STORE_NAME).when(storeClient).getStoreName();
+    new AvroComputeRequestBuilderV3<>(storeClient, VALUE_SCHEMA).dotProduct("floatVector", getFloatVector(), "score")
+        .execute(new HashSet<>(Collections.singletonList("key")));
+    ArgumentCaptor<ComputeRequestWrapper> computeRequestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    verify(storeClient).compute(computeRequestCaptor.capture(), any(), any(), any(), anyLong());
+    byte[] computeRequestBytes = computeRequestCaptor.getValue().serialize();
+
+    RecordSerializer<MultiGetRouterRequestKeyV1> multiGetKeySerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    RecordSerializer<ComputeRouterRequestKeyV1> computeKeySerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$);
+    multiGetRequestBodies = new byte[PREPARED_REQUEST_COUNT][];
+    computeRequestBodies = new byte[PREPARED_REQUEST_COUNT][];
+    for (int i = 0; i < PREPARED_REQUEST_COUNT; i++) {
+      List<MultiGetRouterRequestKeyV1> multiGetKeys = new ArrayList<>(batchGetKeyCount);
+      List<ComputeRouterRequestKeyV1> computeKeys = new ArrayList<>(batchGetKeyCount);
+      for (int keyIndex = 0; keyIndex < batchGetKeyCount; keyIndex++) {
+        byte[] key = getKey(ThreadLocalRandom.current().nextInt(recordCount));
+        multiGetKeys.add(new MultiGetRouterRequestKeyV1(keyIndex, ByteBuffer.wrap(key), PARTITION));
+        computeKeys.add(new ComputeRouterRequestKeyV1(keyIndex, ByteBuffer.wrap(key), PARTITION));
+      }
+      multiGetRequestBodies[i] = multiGetKeySerializer.serializeObjects(multiGetKeys);
+      computeRequestBodies[i] =
+          computeKeySerializer.serializeObjects(computeKeys, ByteBuffer.wrap(computeRequestBytes));
+    }
+  }
+}
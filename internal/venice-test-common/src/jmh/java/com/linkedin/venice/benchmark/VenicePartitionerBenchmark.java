@@ -0,0 +1,77 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.Murmur3VenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the cost of assigning a key to a partition with the MD5 based {@link DefaultVenicePartitioner} and with
+ * the {@link Murmur3VenicePartitioner}, from several threads since the former keeps a digest per thread.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(4)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VenicePartitionerBenchmark {
+  private static final int KEY_COUNT = 1024;
+  private static final int PARTITION_COUNT = 64;
+
+  @Param({ "16", "128", "1024" })
+  protected int keySize;
+
+  @Param({ "DefaultVenicePartitioner", "Murmur3VenicePartitioner" })
+  protected String partitionerName;
+
+  private VenicePartitioner partitioner;
+  private ByteBuffer[] keys;
+
+  @Setup
+  public void setUp() {
+    partitioner = partitionerName.equals(DefaultVenicePartitioner.class.getSimpleName())
+        ? new DefaultVenicePartitioner()
+        : new Murmur3VenicePartitioner();
+    keys = new ByteBuffer[KEY_COUNT];
+    for (int i = 0; i < KEY_COUNT; ++i) {
+      byte[] key = new byte[keySize];
+      ThreadLocalRandom.current().nextBytes(key);
+      keys[i] = ByteBuffer.wrap(key);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(VenicePartitionerBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void getPartitionId(Blackhole blackhole) {
+    ByteBuffer key = keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)];
+    blackhole.consume(partitioner.getPartitionId(key, PARTITION_COUNT));
+  }
+}
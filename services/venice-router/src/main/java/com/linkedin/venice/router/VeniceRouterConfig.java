@@ -31,6 +31,11 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_DNS_CACHE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_DNS_CACHE_REFRESH_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_EARLY_THROTTLE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ENABLE_READ_THROTTLING;
+import static com.linkedin.venice.ConfigKeys.ROUTER_FAIR_ADMISSION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_FAIR_ADMISSION_MAX_QUEUED_BYTES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_FAIR_ADMISSION_MAX_QUEUED_REQUEST_PER_STORE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_FAIR_ADMISSION_MAX_QUEUEING_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_FAIR_ADMISSION_QOS_FAIR_RATIO;
 import static com.linkedin.venice.ConfigKeys.ROUTER_FULL_PENDING_QUEUE_SERVER_OOR_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HEART_BEAT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HELIX_ASSISTED_ROUTING_GROUP_SELECTION_STRATEGY;
@@ -77,6 +82,8 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_THREAD_COUNT
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER;
 import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_COMPRESSION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_COMPRESSION_MIN_SIZE_BYTES;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ENABLED;
@@ -152,6 +159,13 @@ public class VeniceRouterConfig {
   private long computeTardyLatencyThresholdMs;
   private boolean readThrottlingEnabled;
   private long maxPendingRequest;
+  private boolean fairAdmissionEnabled;
+  private int fairAdmissionMaxQueuedRequestPerStore;
+  private long fairAdmissionMaxQueueingDelayMs;
+  private long fairAdmissionMaxQueuedBytes;
+  private String fairAdmissionQosFairRatio;
+  private boolean responseCompressionEnabled;
+  private int responseCompressionMinSizeBytes;
   private StorageNodeClientType storageNodeClientType;
   private boolean decompressOnClient;
   private boolean computeFastAvroEnabled;
@@ -270,6 +284,13 @@ public class VeniceRouterConfig {
 
     readThrottlingEnabled = props.getBoolean(ROUTER_ENABLE_READ_THROTTLING, true);
     maxPendingRequest = props.getLong(ROUTER_MAX_PENDING_REQUEST, 2500L * 12L);
+    fairAdmissionEnabled = props.getBoolean(ROUTER_FAIR_ADMISSION_ENABLED, false);
+    fairAdmissionMaxQueuedRequestPerStore = props.getInt(ROUTER_FAIR_ADMISSION_MAX_QUEUED_REQUEST_PER_STORE, 1000);
+    fairAdmissionMaxQueueingDelayMs = props.getLong(ROUTER_FAIR_ADMISSION_MAX_QUEUEING_DELAY_MS, 100);
+    fairAdmissionMaxQueuedBytes = props.getSizeInBytes(ROUTER_FAIR_ADMISSION_MAX_QUEUED_BYTES, 64 * 1024 * 1024);
+    fairAdmissionQosFairRatio = props.getString(ROUTER_FAIR_ADMISSION_QOS_FAIR_RATIO, "5:15:80");
+    responseCompressionEnabled = props.getBoolean(ROUTER_RESPONSE_COMPRESSION_ENABLED, false);
+    responseCompressionMinSizeBytes = props.getInt(ROUTER_RESPONSE_COMPRESSION_MIN_SIZE_BYTES, 4 * 1024);
 
     storageNodeClientType = StorageNodeClientType
         .valueOf(props.getString(ROUTER_STORAGE_NODE_CLIENT_TYPE, StorageNodeClientType.HTTP_CLIENT_5_CLIENT.name()));
@@ -516,6 +537,34 @@ public class VeniceRouterConfig {
     return maxPendingRequest;
   }
 
+  public boolean isFairAdmissionEnabled() {
+    return fairAdmissionEnabled;
+  }
+
+  public int getFairAdmissionMaxQueuedRequestPerStore() {
+    return fairAdmissionMaxQueuedRequestPerStore;
+  }
+
+  public long getFairAdmissionMaxQueueingDelayMs() {
+    return fairAdmissionMaxQueueingDelayMs;
+  }
+
+  public long getFairAdmissionMaxQueuedBytes() {
+    return fairAdmissionMaxQueuedBytes;
+  }
+
+  public String getFairAdmissionQosFairRatio() {
+    return fairAdmissionQosFairRatio;
+  }
+
+  public boolean isResponseCompressionEnabled() {
+    return responseCompressionEnabled;
+  }
+
+  public int getResponseCompressionMinSizeBytes() {
+    return responseCompressionMinSizeBytes;
+  }
+
   public boolean isSmartLongTailRetryEnabled() {
     return smartLongTailRetryEnabled;
   }
@@ -11,6 +11,7 @@ import java.nio.charset.StandardCharsets;
  */
 public class RouterKey implements Comparable<RouterKey> {
   private static final int UNKNOWN_PARTITION_ID = -1;
+  private static final int UNKNOWN_KEY_INDEX = -1;
 
   private final ByteBuffer keyBuffer;
   /**
@@ -23,6 +24,11 @@ public class RouterKey implements Comparable<RouterKey> {
    * {@link VeniceDelegateMode}
    */
   private int partitionId = UNKNOWN_PARTITION_ID;
+  /**
+   * Position of the key in a multi-key request, which lets {@link com.linkedin.venice.router.api.path.VeniceMultiKeyPath}
+   * find the key in its request content without any map.
+   */
+  private int keyIndex = UNKNOWN_KEY_INDEX;
 
   private int keySize;
 
@@ -36,6 +42,13 @@ public class RouterKey implements Comparable<RouterKey> {
     this.keySize = key.remaining();
   }
 
+  /**
+   * Build a key over a range of the given array, without copying it.
+   */
+  public RouterKey(byte[] content, int offset, int length) {
+    this(ByteBuffer.wrap(content, offset, length));
+  }
+
   public static RouterKey fromString(String s) {
     return new RouterKey(s.getBytes(StandardCharsets.UTF_8));
   }
@@ -96,4 +109,18 @@ public class RouterKey implements Comparable<RouterKey> {
     }
     return this.partitionId;
   }
+
+  public void setKeyIndex(int keyIndex) {
+    if (UNKNOWN_KEY_INDEX != this.keyIndex) {
+      throw new VeniceException("Key index has been assigned: " + this.keyIndex + ", and it is immutable after");
+    }
+    this.keyIndex = keyIndex;
+  }
+
+  /**
+   * @return the position of the key in its multi-key request, or -1 if it doesn't belong to one
+   */
+  public int getKeyIndex() {
+    return keyIndex;
+  }
 }
@@ -27,11 +27,14 @@ import com.linkedin.venice.router.stats.AggHostHealthStats;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpStats;
+import com.linkedin.venice.router.stats.RouterAdmissionStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
+import com.linkedin.venice.router.throttle.FairAdmissionController;
 import com.linkedin.venice.router.throttle.PendingRequestThrottler;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
+import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.buffer.ByteBuf;
@@ -40,6 +43,7 @@ import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.util.Collections;
@@ -47,9 +51,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
@@ -77,6 +83,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final StorageNodeClient storageNodeClient;
   private final PendingRequestThrottler pendingRequestThrottler;
+  private final FairAdmissionController fairAdmissionController;
 
   private final RouteHttpRequestStats routeHttpRequestStats;
   private final RouterStats<RouteHttpStats> perRouteStatsByType;
@@ -114,6 +121,14 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    this.fairAdmissionController = config.isFairAdmissionEnabled()
+        ? new FairAdmissionController(
+            config,
+            pendingRequestThrottler,
+            new RouterAdmissionStats(metricsRepository, "router_admission"),
+            routerStats,
+            SystemTime.INSTANCE)
+        : null;
   }
 
   @Override
@@ -143,10 +158,17 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     hostSelected.setSuccess(storageNode);
 
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    sendRequest(storageNode, path, retryFuture, timeoutFuture, executor).whenComplete((response, throwable) -> {
       try {
+        if (throwable instanceof CompletionException && throwable.getCause() instanceof RouterException) {
+          // The request was rejected before reaching the storage node, e.g. shed by the fair admission
+          throw throwable.getCause();
+        }
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
         if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
+          if (response != null) {
+            releaseResponseContent(response);
+          }
           retryFuture.setSuccess(HttpResponseStatus.valueOf(statusCode));
           return;
         }
@@ -159,7 +181,11 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
+        FullHttpResponse fullHttpResponse = buildResponse(path, response);
+        if (!responseFuture.setSuccess(Collections.singletonList(fullHttpResponse))) {
+          // The request was cancelled or timed out in the meantime, so nobody is going to write the response out
+          ReferenceCountUtil.release(fullHttpResponse);
+        }
       } catch (Throwable e) {
         responseFuture.setFailure(e);
       }
@@ -169,14 +195,33 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
   protected CompletableFuture<PortableHttpResponse> sendRequest(
       Instance storageNode,
       VenicePath path,
-      AsyncPromise<HttpResponseStatus> retryFuture) throws RouterException {
+      AsyncPromise<HttpResponseStatus> retryFuture,
+      AsyncFuture<Void> timeoutFuture,
+      Executor executor) throws RouterException {
     String storeName = path.getStoreName();
-    String hostName = storageNode.getHost();
     RequestType requestType = path.getRequestType();
 
-    long startTime = System.nanoTime();
-    TimedCompletableFuture<PortableHttpResponse> responseFuture =
-        new TimedCompletableFuture<>(System.currentTimeMillis(), storageNode.getNodeId());
+    if (fairAdmissionController != null) {
+      CompletableFuture<Double> admissionFuture = fairAdmissionController
+          .admit(storeName, requestType, path.isRetryRequest(), path.getRequestSize(), timeoutFuture);
+      Function<Double, CompletableFuture<PortableHttpResponse>> sendFunction = queueingDelay -> {
+        routerStats.getStatsByType(requestType).recordAdmissionQueueingDelay(storeName, queueingDelay);
+        try {
+          return sendAdmittedRequest(storageNode, path, retryFuture);
+        } catch (RouterException e) {
+          CompletableFuture<PortableHttpResponse> failedFuture = new CompletableFuture<>();
+          failedFuture.completeExceptionally(e);
+          return failedFuture;
+        }
+      };
+      /**
+       * A queued request gets admitted by the thread completing another request, which might hold the lock of another
+       * storage node, so it's sent from the executor instead.
+       */
+      return admissionFuture.isDone()
+          ? admissionFuture.thenCompose(sendFunction)
+          : admissionFuture.thenComposeAsync(sendFunction, executor);
+    }
 
     /**
      * TODO: Consider removing the per router level pendingRequestThrottler once {@link RouterThrottleHandler} is
@@ -193,6 +238,23 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           "Maximum number of pending request threshold reached! Current pending request count: "
               + pendingRequestThrottler.getCurrentPendingRequestCount());
     }
+    return sendAdmittedRequest(storageNode, path, retryFuture);
+  }
+
+  /**
+   * Sends a request which was admitted within the capacity of {@link #pendingRequestThrottler}.
+   */
+  private CompletableFuture<PortableHttpResponse> sendAdmittedRequest(
+      Instance storageNode,
+      VenicePath path,
+      AsyncPromise<HttpResponseStatus> retryFuture) throws RouterException {
+    String storeName = path.getStoreName();
+    String hostName = storageNode.getHost();
+    RequestType requestType = path.getRequestType();
+
+    long startTime = System.nanoTime();
+    TimedCompletableFuture<PortableHttpResponse> responseFuture =
+        new TimedCompletableFuture<>(System.currentTimeMillis(), storageNode.getNodeId());
 
     ReentrantLock lock = storageNodeLockMap.computeIfAbsent(hostName, id -> new ReentrantLock());
     boolean isRequestThrottled = false;
@@ -232,7 +294,12 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         storageNodeClient.query(
             storageNode,
             path,
-            responseFuture::complete,
+            response -> {
+              if (!responseFuture.complete(response)) {
+                // The future was cancelled, or cleaned up as leaked, before the response arrived
+                releaseResponseContent(response);
+              }
+            },
             responseFuture::completeExceptionally,
             () -> responseFuture.cancel(false));
       } catch (Throwable throwable) {
@@ -242,17 +309,37 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
         perRouteStats.recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getLatencyInMS(startTime));
         routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
-        pendingRequestThrottler.take();
+        releasePendingRequest();
         responseFutureMap.remove(requestId);
       });
     } finally {
       if (isRequestThrottled) {
-        pendingRequestThrottler.take();
+        releasePendingRequest();
       }
       lock.unlock();
     }
   }
 
+  /**
+   * Releases the content of a storage node response which doesn't make it to {@link #buildResponse}, since it could be
+   * a pooled buffer retained from the channel, see {@link PortableHttpResponse#getContentInByteBuf()}.
+   */
+  private static void releaseResponseContent(PortableHttpResponse response) {
+    try {
+      ReferenceCountUtil.release(response.getContentInByteBuf());
+    } catch (Exception e) {
+      LOGGER.warn("Failed to release the content of a storage node response", e);
+    }
+  }
+
+  private void releasePendingRequest() {
+    if (fairAdmissionController != null) {
+      fairAdmissionController.release();
+    } else {
+      pendingRequestThrottler.take();
+    }
+  }
+
   protected VeniceFullHttpResponse buildResponse(VenicePath path, PortableHttpResponse serverResponse)
       throws IOException {
     int statusCode = serverResponse.getStatusCode();
@@ -13,6 +13,7 @@ import com.linkedin.alpini.router.api.ExtendedResourcePathParser;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
 import com.linkedin.venice.controllerapi.ControllerRoute;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
@@ -234,7 +235,15 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
             */
           if (Objects.nonNull(chunkedWriteHandler) && Objects.nonNull(ctx)) {
             // Streaming is enabled
-            path.setChunkedWriteHandler(ctx, chunkedWriteHandler, routerStats);
+            boolean responseCompressionEnabled = routerConfig.isResponseCompressionEnabled()
+                && ResponseCompressionUtils.isResponseCompressionSupported(
+                    fullHttpRequest.headers().get(HttpConstants.VENICE_SUPPORTED_RESPONSE_COMPRESSION));
+            path.setChunkedWriteHandler(
+                ctx,
+                chunkedWriteHandler,
+                routerStats,
+                responseCompressionEnabled,
+                routerConfig.getResponseCompressionMinSizeBytes());
           }
           /**
            * Request type will be changed to streaming request after setting up the proper streaming handler
@@ -22,6 +22,7 @@ import com.linkedin.alpini.router.api.ResponseAggregatorFactory;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.common.VeniceSystemStoreType;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceStoreIsMigratedException;
 import com.linkedin.venice.read.RequestType;
@@ -32,6 +33,7 @@ import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.SuccessfulStreamingResponse;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.utils.LatencyUtils;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -73,6 +75,9 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
   private long multiGetTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
   private long computeTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
 
+  private boolean responseCompressionEnabled = false;
+  private int responseCompressionMinSizeBytes = 0;
+
   // Headers expected in each storage node multi-get response
   public static final Map<CharSequence, String> MULTI_GET_VALID_HEADER_MAP = new HashMap<>();
   public static final Map<CharSequence, String> COMPUTE_VALID_HEADER_MAP = new HashMap<>();
@@ -116,6 +121,16 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return this;
   }
 
+  /**
+   * Compresses the non-streaming responses which are not smaller than the given min size for the clients supporting
+   * it, check {@link ResponseCompressionUtils} for more details.
+   */
+  public VeniceResponseAggregator withResponseCompression(boolean enabled, int minSizeBytes) {
+    this.responseCompressionEnabled = enabled;
+    this.responseCompressionMinSizeBytes = minSizeBytes;
+    return this;
+  }
+
   public void initHelixGroupSelector(HelixGroupSelector helixGroupSelector) {
     if (this.helixGroupSelector != null) {
       throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
@@ -278,11 +293,44 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       // Only record successful response
       stats.recordResponseSize(storeName, finalResponse.content().readableBytes());
     }
+    if (responseStatus.equals(OK) && !venicePath.isStreamingRequest()
+        && shouldCompressResponse(request, finalResponse)) {
+      finalResponse = compressResponse(finalResponse, stats, storeName);
+    }
     stats.recordResponse(storeName);
 
     return finalResponse;
   }
 
+  private boolean shouldCompressResponse(BasicFullHttpRequest request, FullHttpResponse response) {
+    return responseCompressionEnabled && response.content().readableBytes() >= responseCompressionMinSizeBytes
+        && ResponseCompressionUtils.isResponseCompressionSupported(
+            request.headers().get(HttpConstants.VENICE_SUPPORTED_RESPONSE_COMPRESSION));
+  }
+
+  /**
+   * @return the response with the compressed body, or the given response if the compression doesn't make it smaller.
+   */
+  private FullHttpResponse compressResponse(
+      FullHttpResponse response,
+      AggRouterHttpRequestStats stats,
+      String storeName) {
+    long startTimeInNS = System.nanoTime();
+    int originalSize = response.content().readableBytes();
+    byte[] compressedBytes = ResponseCompressionUtils.compress(ByteBufUtil.getBytes(response.content()));
+    int bytesSaved = originalSize - compressedBytes.length;
+    stats.recordResponseCompression(storeName, LatencyUtils.getLatencyInMS(startTimeInNS), Math.max(bytesSaved, 0));
+    if (bytesSaved <= 0) {
+      return response;
+    }
+    FullHttpResponse compressedResponse = response.replace(Unpooled.wrappedBuffer(compressedBytes));
+    response.release();
+    compressedResponse.headers().set(HttpHeaderNames.CONTENT_LENGTH, compressedBytes.length);
+    compressedResponse.headers()
+        .set(HttpConstants.VENICE_RESPONSE_COMPRESSION, ResponseCompressionUtils.RESPONSE_COMPRESSION_HEADER_VALUE);
+    return compressedResponse;
+  }
+
   private FullHttpResponse buildStreamingResponse(
       List<FullHttpResponse> gatheredResponses,
       String storeName,
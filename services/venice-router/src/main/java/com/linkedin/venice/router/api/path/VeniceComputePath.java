@@ -9,22 +9,16 @@ import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
-import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.read.RequestType;
-import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.api.VenicePathParser;
-import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import java.io.IOException;
-import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import javax.annotation.Nonnull;
@@ -35,7 +29,7 @@ import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
-public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKeyV1> {
+public class VeniceComputePath extends VeniceMultiKeyPath {
   private static final Schema EMPTY_RECORD_SCHEMA = Schema.createRecord(
       ComputeRequestV3.class.getSimpleName(),
       "no-op",
@@ -65,18 +59,11 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
    */
   private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_NO_OP_DESERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(ComputeRequestV3.SCHEMA$, EMPTY_RECORD_SCHEMA);
-  private static final RecordDeserializer<ByteBuffer> COMPUTE_REQUEST_CLIENT_KEY_V1_DESERIALIZER =
-      FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
-          ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema(),
-          ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema());
-  private static final RecordSerializer<ComputeRouterRequestKeyV1> COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeRouterRequestKeyV1.getClassSchema());
 
   public static void skipOverComputeRequest(BinaryDecoder decoder) {
     COMPUTE_REQUEST_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD.get(), decoder);
   }
 
-  private final byte[] requestContent;
   private final int computeRequestLengthInBytes;
   private final String valueSchemaIdHeader;
   private final String computeRequestVersionHeader;
@@ -97,6 +84,7 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
         resourceName,
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
+        getRequestContent(request),
         longTailRetryMaxRouteForMultiKeyReq);
 
     this.valueSchemaIdHeader = request.headers().get(VENICE_COMPUTE_VALUE_SCHEMA_ID, "-1");
@@ -113,9 +101,6 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
               + LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
     }
 
-    requestContent = new byte[request.content().readableBytes()];
-    request.content().readBytes(requestContent);
-
     /**
      * The first part of the request content from client is the ComputeRequest which contains an array of operations
      * and the result schema string. Here, we deserialize the first part (but throw it away, as it is only to advance
@@ -135,21 +120,16 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
           "Exception while getting available number of bytes in request content");
     }
 
-    // deserialize the second part of the request content using the same decoder
-    Iterable<ByteBuffer> keys = COMPUTE_REQUEST_CLIENT_KEY_V1_DESERIALIZER.deserializeObjects(decoder);
-
-    initialize(storeName, resourceName, keys, partitionFinder, maxKeyCount, null);
+    // the second part of the request content is indexed in place
+    initialize(storeName, resourceName, computeRequestLengthInBytes, partitionFinder, maxKeyCount, null);
   }
 
   private VeniceComputePath(
       String storeName,
       int versionNumber,
       String resourceName,
-      Map<RouterKey, ComputeRouterRequestKeyV1> routerKeyMap,
-      byte[] requestContent,
-      int computeRequestLengthInBytes,
-      String valueSchemaIdHeader,
-      String computeRequestVersionHeader,
+      VeniceComputePath originalPath,
+      Collection<RouterKey> partitionKeys,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
       int longTailRetryMaxRouteForMultiKeyReq) {
@@ -159,13 +139,18 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
         resourceName,
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
-        routerKeyMap,
+        originalPath,
+        partitionKeys,
         longTailRetryMaxRouteForMultiKeyReq);
-    this.requestContent = requestContent;
-    this.valueSchemaIdHeader = valueSchemaIdHeader;
-    this.computeRequestLengthInBytes = computeRequestLengthInBytes;
-    this.computeRequestVersionHeader = computeRequestVersionHeader;
-    setPartitionKeys(routerKeyMap.keySet());
+    this.valueSchemaIdHeader = originalPath.valueSchemaIdHeader;
+    this.computeRequestLengthInBytes = originalPath.computeRequestLengthInBytes;
+    this.computeRequestVersionHeader = originalPath.computeRequestVersionHeader;
+  }
+
+  private static byte[] getRequestContent(BasicFullHttpRequest request) {
+    byte[] content = new byte[request.content().readableBytes()];
+    request.content().readBytes(content);
+    return content;
   }
 
   @Nonnull
@@ -185,21 +170,12 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
   }
 
   public VeniceMultiGetPath toMultiGetPath() {
-    Map<RouterKey, MultiGetRouterRequestKeyV1> newRouterKeyMap = new HashMap<>();
-    for (Map.Entry<RouterKey, ComputeRouterRequestKeyV1> entry: routerKeyMap.entrySet()) {
-      ComputeRouterRequestKeyV1 computeRequestKey = entry.getValue();
-      newRouterKeyMap.put(
-          entry.getKey(),
-          new MultiGetRouterRequestKeyV1(
-              computeRequestKey.getKeyIndex(),
-              computeRequestKey.getKeyBytes(),
-              computeRequestKey.getPartitionId()));
-    }
     VeniceMultiGetPath newPath = new VeniceMultiGetPath(
         storeName,
         versionNumber,
         getResourceName(),
-        newRouterKeyMap,
+        this,
+        getPartitionKeys(),
         isSmartLongTailRetryEnabled(),
         getSmartLongTailRetryAbortThresholdMs(),
         getLongTailRetryMaxRouteForMultiKeyReq());
@@ -211,20 +187,17 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
    * If the parent request is a retry request, the sub-request generated by scattering-gathering logic should be retry
    * request as well.
    *
-   * @param routerKeyMap
+   * @param partitionKeys
    * @return
    */
   @Override
-  protected VeniceComputePath fixRetryRequestForSubPath(Map<RouterKey, ComputeRouterRequestKeyV1> routerKeyMap) {
+  protected VeniceComputePath fixRetryRequestForSubPath(Collection<RouterKey> partitionKeys) {
     VeniceComputePath subPath = new VeniceComputePath(
         storeName,
         versionNumber,
         getResourceName(),
-        routerKeyMap,
-        this.requestContent,
-        this.computeRequestLengthInBytes,
-        this.valueSchemaIdHeader,
-        this.computeRequestVersionHeader,
+        this,
+        partitionKeys,
         isSmartLongTailRetryEnabled(),
         getSmartLongTailRetryAbortThresholdMs(),
         getLongTailRetryMaxRouteForMultiKeyReq());
@@ -232,19 +205,12 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
     return subPath;
   }
 
+  /**
+   * The compute request is sent as is to the storage nodes, followed by the keys.
+   */
   @Override
-  protected ComputeRouterRequestKeyV1 createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId) {
-    ComputeRouterRequestKeyV1 routerRequestKey = new ComputeRouterRequestKeyV1();
-    routerRequestKey.keyBytes = key;
-    routerRequestKey.keyIndex = keyIdx;
-    routerRequestKey.partitionId = partitionId;
-    return routerRequestKey;
-  }
-
-  @Override
-  protected byte[] serializeRouterRequest() {
-    return COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER
-        .serializeObjects(routerKeyMap.values(), ByteBuffer.wrap(requestContent, 0, computeRequestLengthInBytes));
+  protected int getRouterRequestPrefixLength() {
+    return computeRequestLengthInBytes;
   }
 
   @Override
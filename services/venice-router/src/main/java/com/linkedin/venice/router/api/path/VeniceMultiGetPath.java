@@ -7,7 +7,6 @@ import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.read.RequestType;
-import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.router.RouterThrottleHandler;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterKey;
@@ -16,29 +15,18 @@ import com.linkedin.venice.router.api.VenicePathParser;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
-import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
-import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
-import java.nio.ByteBuffer;
-import java.util.Map;
+import java.util.Collection;
 import java.util.Optional;
 import javax.annotation.Nonnull;
-import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
-public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequestKeyV1> {
+public class VeniceMultiGetPath extends VeniceMultiKeyPath {
   private static final String ROUTER_REQUEST_VERSION =
       Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
 
-  private static final RecordSerializer<MultiGetRouterRequestKeyV1> MULTI_GET_ROUTER_REQUEST_KEY_V1_SERIALIZER =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetRouterRequestKeyV1.getClassSchema());
-
   protected static final ReadAvroProtocolDefinition EXPECTED_PROTOCOL =
       ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1;
 
-  private static final RecordDeserializer<ByteBuffer> EXPECTED_PROTOCOL_DESERIALIZER = FastSerializerDeserializerFactory
-      .getFastAvroGenericDeserializer(EXPECTED_PROTOCOL.getSchema(), EXPECTED_PROTOCOL.getSchema());
-
   public VeniceMultiGetPath(
       String storeName,
       int versionNumber,
@@ -56,6 +44,7 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
         resourceName,
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
+        getRequestContent(request),
         longTailRetryMaxRouteForMultiKeyReq);
 
     // Validate API version
@@ -68,25 +57,15 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
           "Expected api version: " + EXPECTED_PROTOCOL.getProtocolVersion() + ", but received: " + apiVersion);
     }
 
-    Iterable<ByteBuffer> keys;
-    byte[] content;
-
-    if (request.hasAttr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY)) {
-      content = request.attr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY).get();
-    } else {
-      content = new byte[request.content().readableBytes()];
-      request.content().readBytes(content);
-    }
-
-    keys = deserialize(content);
-    initialize(storeName, resourceName, keys, partitionFinder, maxKeyCount, stats);
+    initialize(storeName, resourceName, 0, partitionFinder, maxKeyCount, stats);
   }
 
   VeniceMultiGetPath(
       String storeName,
       int versionNumber,
       String resourceName,
-      Map<RouterKey, MultiGetRouterRequestKeyV1> routerKeyMap,
+      VeniceMultiKeyPath originalPath,
+      Collection<RouterKey> partitionKeys,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
       int longTailRetryMaxRouteForMultiKeyReq) {
@@ -96,9 +75,22 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
         resourceName,
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
-        routerKeyMap,
+        originalPath,
+        partitionKeys,
         longTailRetryMaxRouteForMultiKeyReq);
-    setPartitionKeys(routerKeyMap.keySet());
+  }
+
+  /**
+   * The keys are indexed in the request content, which is the copy kept by {@link RouterThrottleHandler} when present,
+   * so that the content is only copied out of the inbound buffer once.
+   */
+  private static byte[] getRequestContent(BasicFullHttpRequest request) {
+    if (request.hasAttr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY)) {
+      return request.attr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY).get();
+    }
+    byte[] content = new byte[request.content().readableBytes()];
+    request.content().readBytes(content);
+    return content;
   }
 
   @Nonnull
@@ -121,15 +113,17 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
    * If the parent request is a retry request, the sub-request generated by scattering-gathering logic should be retry
    * request as well.
    *
-   * @param routerKeyMap
+   * @param partitionKeys
    * @return
    */
-  protected VeniceMultiGetPath fixRetryRequestForSubPath(Map<RouterKey, MultiGetRouterRequestKeyV1> routerKeyMap) {
+  @Override
+  protected VeniceMultiGetPath fixRetryRequestForSubPath(Collection<RouterKey> partitionKeys) {
     VeniceMultiGetPath subPath = new VeniceMultiGetPath(
         storeName,
         versionNumber,
         getResourceName(),
-        routerKeyMap,
+        this,
+        partitionKeys,
         isSmartLongTailRetryEnabled(),
         getSmartLongTailRetryAbortThresholdMs(),
         getLongTailRetryMaxRouteForMultiKeyReq());
@@ -137,25 +131,6 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
     return subPath;
   }
 
-  @Override
-  protected MultiGetRouterRequestKeyV1 createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId) {
-    MultiGetRouterRequestKeyV1 routerRequestKey = new MultiGetRouterRequestKeyV1();
-    routerRequestKey.keyBytes = key;
-    routerRequestKey.keyIndex = keyIdx;
-    routerRequestKey.partitionId = partitionId;
-    return routerRequestKey;
-  }
-
-  @Override
-  protected byte[] serializeRouterRequest() {
-    return MULTI_GET_ROUTER_REQUEST_KEY_V1_SERIALIZER.serializeObjects(routerKeyMap.values());
-  }
-
-  private static Iterable<ByteBuffer> deserialize(byte[] content) {
-    return EXPECTED_PROTOCOL_DESERIALIZER.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(content, 0, content.length));
-  }
-
   @Override
   public String getVeniceApiVersionHeader() {
     return ROUTER_REQUEST_VERSION;
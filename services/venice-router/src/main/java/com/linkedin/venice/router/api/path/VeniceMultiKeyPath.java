@@ -14,11 +14,15 @@ import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.exception.VeniceKeyCountLimitException;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
@@ -27,9 +31,24 @@ import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.ByteArrayEntity;
 
 
-public abstract class VeniceMultiKeyPath<K> extends VenicePath {
+/**
+ * Base of the multi-key paths, which keeps the keys of a request as ranges of its content.
+ *
+ * The keys of the client request are indexed in place, as {@link RouterKey} views over the request content which carry
+ * their partition and their position in the request, so that no intermediate key record or map is built per key. The
+ * sub-paths sent to the storage nodes share the content and the key table of the original path, and their body is
+ * written by copying each key range once into a buffer of the exact size.
+ */
+public abstract class VeniceMultiKeyPath extends VenicePath {
   protected int keyNum;
-  protected final Map<RouterKey, K> routerKeyMap;
+  /**
+   * The content of the client request, shared by all the sub-paths.
+   */
+  protected final byte[] requestContent;
+  /**
+   * The keys of the original request by key index, shared by all the sub-paths. The slots of duplicate keys are empty.
+   */
+  private RouterKey[] keysByIndex;
   private final int longTailRetryMaxRouteForMultiKeyReq;
   private AtomicInteger currentAllowedRetryRouteCnt = new AtomicInteger(0);
 
@@ -39,38 +58,44 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
       String resourceName,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
+      byte[] requestContent,
       int longTailRetryMaxRouteForMultiKeyReq) {
-    // HashMap's performance is better than TreeMap
-    this(
-        storeName,
-        versionNumber,
-        resourceName,
-        smartLongTailRetryEnabled,
-        smartLongTailRetryAbortThresholdMs,
-        new HashMap<>(),
-        longTailRetryMaxRouteForMultiKeyReq);
+    super(storeName, versionNumber, resourceName, smartLongTailRetryEnabled, smartLongTailRetryAbortThresholdMs);
+    this.requestContent = requestContent;
+    this.longTailRetryMaxRouteForMultiKeyReq = longTailRetryMaxRouteForMultiKeyReq;
   }
 
-  public VeniceMultiKeyPath(
+  /**
+   * Constructor of the sub-paths, which only hold a subset of the keys of the original path.
+   */
+  protected VeniceMultiKeyPath(
       String storeName,
       int versionNumber,
       String resourceName,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
-      Map<RouterKey, K> routerKeyMap,
+      VeniceMultiKeyPath originalPath,
+      Collection<RouterKey> partitionKeys,
       int longTailRetryMaxRouteForMultiKeyReq) {
-    super(storeName, versionNumber, resourceName, smartLongTailRetryEnabled, smartLongTailRetryAbortThresholdMs);
-    this.keyNum = routerKeyMap.size();
-    this.routerKeyMap = routerKeyMap;
-    this.longTailRetryMaxRouteForMultiKeyReq = longTailRetryMaxRouteForMultiKeyReq;
+    this(
+        storeName,
+        versionNumber,
+        resourceName,
+        smartLongTailRetryEnabled,
+        smartLongTailRetryAbortThresholdMs,
+        originalPath.requestContent,
+        longTailRetryMaxRouteForMultiKeyReq);
+    this.keysByIndex = originalPath.keysByIndex;
+    this.keyNum = partitionKeys.size();
+    setPartitionKeys(partitionKeys);
   }
 
   /**
-   * Fill the router key map and the index2routerKey map.
+   * Index the keys of the request content, which are serialized as consecutive Avro bytes, and find their partitions.
    *
    * @param storeName
    * @param resourceName
-   * @param keys            Multiple keys from client request; keys have been deserialized to ByteBuffer
+   * @param keysOffset      The position of the first key in {@link #requestContent}
    * @param partitionFinder
    * @param maxKeyCount
    * @throws RouterException
@@ -78,12 +103,10 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
   public void initialize(
       String storeName,
       String resourceName,
-      Iterable<ByteBuffer> keys,
+      int keysOffset,
       VenicePartitionFinder partitionFinder,
       int maxKeyCount,
       RouterStats<AggRouterHttpRequestStats> stats) throws RouterException {
-    keyNum = 0;
-    int keyIdx = 0;
     int partitionNum;
     VenicePartitioner partitioner;
     try {
@@ -97,25 +120,48 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
           e.getMessage());
     }
 
-    for (ByteBuffer key: keys) {
-      RouterKey routerKey = new RouterKey(key);
-
+    // The first pass only validates the key ranges and counts them, so that every table is allocated at its final size
+    keyNum = 0;
+    int position = keysOffset;
+    while (position < requestContent.length) {
+      position = nextKeyOffset(position) + readKeyLength(position);
       keyNum++;
+    }
+
+    keysByIndex = new RouterKey[keyNum];
+    // Open addressing table to drop the duplicate keys, with a load factor of at most 0.5
+    RouterKey[] keyTable = new RouterKey[Integer.highestOneBit(Math.max(keyNum, 1)) << 2];
+    int tableMask = keyTable.length - 1;
+    List<RouterKey> partitionKeys = new ArrayList<>(keyNum);
+    position = keysOffset;
+    for (int keyIdx = 0; keyIdx < keyNum; ++keyIdx) {
+      int keyOffset = nextKeyOffset(position);
+      int keyLength = readKeyLength(position);
+      position = keyOffset + keyLength;
+      RouterKey routerKey = new RouterKey(requestContent, keyOffset, keyLength);
+
+      int slot = routerKey.hashCode() & tableMask;
+      while (keyTable[slot] != null && !keyTable[slot].equals(routerKey)) {
+        slot = (slot + 1) & tableMask;
+      }
+      if (keyTable[slot] != null) {
+        continue;
+      }
+      keyTable[slot] = routerKey;
 
       if (stats != null) {
-        stats.getStatsByType(RequestType.MULTI_GET).recordKeySize(storeName, routerKey.getKeySize());
+        stats.getStatsByType(RequestType.MULTI_GET).recordKeySize(storeName, keyLength);
       }
 
       // partition lookup
-      int partitionId = partitioner.getPartitionId(routerKey.getKeyBuffer(), partitionNum);
-      routerKey.setPartitionId(partitionId);
-      K routerRequestKey = createRouterRequestKey(key, keyIdx, partitionId);
-      this.routerKeyMap.put(routerKey, routerRequestKey);
-      ++keyIdx;
+      routerKey.setPartitionId(partitioner.getPartitionId(routerKey.getKeyBuffer(), partitionNum));
+      routerKey.setKeyIndex(keyIdx);
+      keysByIndex[keyIdx] = routerKey;
+      partitionKeys.add(routerKey);
     }
-    setPartitionKeys(this.routerKeyMap.keySet());
+    setPartitionKeys(partitionKeys);
 
-    int keyCount = getPartitionKeys().size();
+    int keyCount = partitionKeys.size();
     if (keyCount > maxKeyCount) {
       throw new VeniceKeyCountLimitException(getStoreName(), getRequestType(), keyCount, maxKeyCount);
     }
@@ -135,6 +181,50 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
     }
   }
 
+  /**
+   * @return the position of the key bytes following the Avro length prefix which starts at {@param position}
+   */
+  private int nextKeyOffset(int position) throws RouterException {
+    while (position < requestContent.length && (requestContent[position] & 0x80) != 0) {
+      position++;
+    }
+    if (position >= requestContent.length) {
+      throw malformedKeysException();
+    }
+    return position + 1;
+  }
+
+  /**
+   * @return the length of the key whose Avro length prefix starts at {@param position}, which is validated against the
+   *         request content. {@link #nextKeyOffset} must be called first, to make sure that the prefix is complete.
+   */
+  private int readKeyLength(int position) throws RouterException {
+    long value = 0;
+    int shift = 0;
+    int b;
+    do {
+      if (shift >= 64) {
+        throw malformedKeysException();
+      }
+      b = requestContent[position++];
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    long length = (value >>> 1) ^ -(value & 1);
+    if (length < 0 || length > requestContent.length - position) {
+      throw malformedKeysException();
+    }
+    return (int) length;
+  }
+
+  private RouterException malformedKeysException() {
+    return RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+        Optional.of(getStoreName()),
+        Optional.of(getRequestType()),
+        BAD_REQUEST,
+        "Malformed keys in the request content of " + getResourceName());
+  }
+
   /**
    * The following function is used to generate a {@link VeniceMultiGetPath} or a {@link VeniceComputePath} for a given key,
    * and the generated {@link VenicePath} will be used to compose router request and forward to storage node;
@@ -146,19 +236,8 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
    */
   @Override
   public VenicePath substitutePartitionKey(RouterKey s) {
-    K routerRequestKey = routerKeyMap.get(s);
-    if (routerRequestKey == null) {
-      throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-          Optional.of(getStoreName()),
-          Optional.of(getRequestType()),
-          BAD_GATEWAY,
-          "RouterKey: " + s + " should exist in the original path");
-    }
-    Map<RouterKey, K> newRouterKeyMap = new HashMap<>();
-
-    newRouterKeyMap.put(s, routerRequestKey);
-
-    return fixRetryRequestForSubPath(newRouterKeyMap);
+    validateKey(s);
+    return fixRetryRequestForSubPath(Collections.singletonList(s));
   }
 
   /**
@@ -172,32 +251,27 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
    */
   @Override
   public VenicePath substitutePartitionKey(@Nonnull Collection<RouterKey> s) {
-    Map<RouterKey, K> newRouterKeyMap = new HashMap<>(s.size());
+    List<RouterKey> partitionKeys = new ArrayList<>(s.size());
     for (RouterKey key: s) {
-      /**
-       * Using {@link Map#get(Object)} and checking whether it is null is faster than the following statements:
-       * if (!routerKeyMap.containsKey(key)) {
-       *   ... ...
-       * }
-       * newRouterKeyMap.put(key, routerKeyMap.get(key));
-       * newKeyIdxToRouterKey.put(routerKeyMap.get(key).keyIndex, key);
-       *
-       * Since this way will save two unnecessary Map lookups.
-       * This could make a big difference considering large batch-get user cases.
-       */
-      K routerRequestKey = routerKeyMap.get(key);
-      if (routerRequestKey == null) {
-        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-            Optional.of(getStoreName()),
-            Optional.of(getRequestType()),
-            BAD_GATEWAY,
-            "RouterKey: " + key + " should exist in the original path");
-      }
-
-      newRouterKeyMap.put(key, routerRequestKey);
+      validateKey(key);
+      partitionKeys.add(key);
     }
+    return fixRetryRequestForSubPath(partitionKeys);
+  }
 
-    return fixRetryRequestForSubPath(newRouterKeyMap);
+  /**
+   * The keys passed by the scatter-gather framework are the instances of {@link #getPartitionKeys()}, so they can be
+   * checked by their key index, rather than looked up in a map.
+   */
+  private void validateKey(RouterKey key) {
+    int keyIdx = key.getKeyIndex();
+    if (keyIdx < 0 || keyIdx >= keysByIndex.length || keysByIndex[keyIdx] != key) {
+      throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+          Optional.of(getStoreName()),
+          Optional.of(getRequestType()),
+          BAD_GATEWAY,
+          "RouterKey: " + key + " should exist in the original path");
+    }
   }
 
   @Override
@@ -224,6 +298,13 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
     return serializeRouterRequest();
   }
 
+  @Override
+  public ByteBuf getBodyByteBuf(ByteBufAllocator allocator) {
+    ByteBuf body = allocator.buffer(getRouterRequestSize());
+    writeRouterRequest(body);
+    return body;
+  }
+
   public int getLongTailRetryMaxRouteForMultiKeyReq() {
     return this.longTailRetryMaxRouteForMultiKeyReq;
   }
@@ -253,25 +334,72 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
   }
 
   /**
-   * Create a router request key.
-   *
-   * @param key
-   * @param keyIdx
-   * @param partitionId
-   * @return An instance of ComputeRouterRequestKeyV1 for compute request; return an instance of MultiGetRouterRequestKeyV1 for multi-get
+   * @param partitionKeys
+   * @return a sub-path with a new set of keys
    */
-  protected abstract K createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId);
+  protected abstract VenicePath fixRetryRequestForSubPath(Collection<RouterKey> partitionKeys);
 
   /**
-   * @param routerKeyMap
-   * @return a sub-path with a new set of keys
+   * @return the length of the prefix of {@link #requestContent} which is sent as is before the keys: the compute
+   *         request for read compute requests, and nothing for multi-get requests
    */
-  protected abstract VenicePath fixRetryRequestForSubPath(Map<RouterKey, K> routerKeyMap);
+  protected int getRouterRequestPrefixLength() {
+    return 0;
+  }
 
   /**
    * For multi-get requests, simply serialize the set of RouterKey to bytes;
    * for read compute requests, concatenate the compute request and the serialized keys
    * @return
    */
-  protected abstract byte[] serializeRouterRequest();
+  protected byte[] serializeRouterRequest() {
+    byte[] body = new byte[getRouterRequestSize()];
+    writeRouterRequest(Unpooled.wrappedBuffer(body).clear());
+    return body;
+  }
+
+  /**
+   * The router request keys, {@link com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1}
+   * and {@link com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1}, share the same binary
+   * format, which is written directly from the {@link RouterKey} fields.
+   */
+  private void writeRouterRequest(ByteBuf out) {
+    out.writeBytes(requestContent, 0, getRouterRequestPrefixLength());
+    for (RouterKey key: getPartitionKeys()) {
+      ByteBuffer keyBuffer = key.getKeyBuffer();
+      writeZigZagLong(out, key.getKeyIndex());
+      writeZigZagLong(out, keyBuffer.remaining());
+      out.writeBytes(keyBuffer.array(), keyBuffer.arrayOffset() + keyBuffer.position(), keyBuffer.remaining());
+      writeZigZagLong(out, key.getPartitionId());
+    }
+  }
+
+  private int getRouterRequestSize() {
+    int size = getRouterRequestPrefixLength();
+    for (RouterKey key: getPartitionKeys()) {
+      int keySize = key.getKeySize();
+      size += zigZagLongSize(key.getKeyIndex()) + zigZagLongSize(keySize) + keySize
+          + zigZagLongSize(key.getPartitionId());
+    }
+    return size;
+  }
+
+  private static void writeZigZagLong(ByteBuf out, long value) {
+    long n = (value << 1) ^ (value >> 63);
+    while ((n & ~0x7FL) != 0) {
+      out.writeByte((int) ((n & 0x7F) | 0x80));
+      n >>>= 7;
+    }
+    out.writeByte((int) n);
+  }
+
+  private static int zigZagLongSize(long value) {
+    long n = (value << 1) ^ (value >> 63);
+    int size = 1;
+    while ((n & ~0x7FL) != 0) {
+      size++;
+      n >>>= 7;
+    }
+    return size;
+  }
 }
@@ -12,6 +12,9 @@ import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
 import com.linkedin.venice.router.streaming.VeniceChunkedWriteHandler;
 import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.Time;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -280,7 +283,9 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
   public void setChunkedWriteHandler(
       ChannelHandlerContext ctx,
       VeniceChunkedWriteHandler chunkedWriteHandler,
-      RouterStats<AggRouterHttpRequestStats> routerStats) {
+      RouterStats<AggRouterHttpRequestStats> routerStats,
+      boolean responseCompressionEnabled,
+      int responseCompressionMinSizeBytes) {
     if (chunkedResponse != null) {
       // Defensive code
       throw new IllegalStateException("VeniceChunkedWriteHandler has already been setup");
@@ -291,7 +296,9 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
         ctx,
         chunkedWriteHandler,
         routerStats,
-        getResponseHeaders());
+        getResponseHeaders(),
+        responseCompressionEnabled,
+        responseCompressionMinSizeBytes);
   }
 
   public void setResponseHeaders(Map<CharSequence, String> responseHeaders) {
@@ -353,5 +360,14 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
 
   public abstract byte[] getBody();
 
+  /**
+   * @return the body of the request to the storage node, which is released by the caller once sent, or an empty buffer
+   *         if there is no body
+   */
+  public ByteBuf getBodyByteBuf(ByteBufAllocator allocator) {
+    byte[] body = getBody();
+    return body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body);
+  }
+
   public abstract String getVeniceApiVersionHeader();
 }
@@ -0,0 +1,363 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.base.concurrency.RunOnce;
+import com.linkedin.alpini.base.monitoring.NullCallTracker;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPoolFactory;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ResolveAllBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * {@link StorageNodeClient} built on the Alpini channel pools, which talks to the storage nodes over HTTP/2 when they
+ * negotiate it through ALPN, and over HTTP/1.1 otherwise.
+ *
+ * The outgoing channels are registered with the router I/O worker event loops, and {@link ChannelPoolManager#acquire}
+ * picks the event loop of the calling thread, so a request dispatched from an inbound channel is sent and completed
+ * without any thread hop. The response content is handed over as the {@link ByteBuf} received from the socket, which
+ * is retained instead of being copied, and whose ownership moves to the caller of
+ * {@link PortableHttpResponse#getContentInByteBuf()}.
+ */
+public class NettyHttp2StorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyHttp2StorageNodeClient.class);
+
+  private static final String QUEUE_NAME = "storage";
+  private static final long HEALTH_CHECK_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private final long requestTimeoutMs;
+  private final ChannelPoolManager channelPoolManager;
+
+  public NettyHttp2StorageNodeClient(
+      Optional<SSLFactory> sslFactory,
+      VeniceRouterConfig routerConfig,
+      MultithreadEventLoopGroup eventLoopGroup,
+      Class<? extends Channel> socketChannelClass) {
+    SSLFactory factory = sslFactory.orElseThrow(
+        () -> new VeniceException("Param 'sslFactory' must be present while using " + this.getClass().getSimpleName()));
+    this.requestTimeoutMs = routerConfig.getSocketTimeout();
+
+    Bootstrap bootstrap = new ResolveAllBootstrap(NullCallTracker.INSTANCE, NullCallTracker.INSTANCE)
+        .channel(socketChannelClass)
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline().addLast(new HttpClientResponseHandler());
+          }
+        })
+        .attr(Http2AwareChannelPoolFactory.SSL_CONTEXT, toNettySslContext(factory));
+
+    int maxConnectionsPerRoute = routerConfig.getMaxOutgoingConnPerRoute();
+    Http2AwareChannelPoolFactory poolFactory = new Http2AwareChannelPoolFactory(
+        bootstrap,
+        routerConfig.getConnectionTimeout(),
+        maxConnectionsPerRoute,
+        routerConfig.getMaxOutgoingConn(),
+        true,
+        HEALTH_CHECK_INTERVAL_MS,
+        ChannelHealthChecker.ACTIVE,
+        NullCallTracker.INSTANCE);
+    poolFactory.setUsingFastPool(true);
+    poolFactory.setHttp1MaxConnections(() -> maxConnectionsPerRoute);
+
+    this.channelPoolManager = new ChannelPoolManagerImpl(
+        eventLoopGroup,
+        poolFactory,
+        new BasicDnsResolver(),
+        routerConfig.getMaxOutgoingConn());
+    LOGGER.info(
+        "Constructing NettyHttp2StorageNodeClient with max connections per route: {}, request timeout: {}ms",
+        maxConnectionsPerRoute,
+        requestTimeoutMs);
+  }
+
+  /**
+   * The {@link javax.net.ssl.SSLContext} of the router carries its identity for the storage node ACLs, so it is wrapped
+   * as is, only adding the ALPN negotiation of HTTP/2.
+   */
+  private static SslContext toNettySslContext(SSLFactory sslFactory) {
+    return new JdkSslContext(
+        sslFactory.getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2,
+            ApplicationProtocolNames.HTTP_1_1),
+        ClientAuth.NONE,
+        null,
+        false);
+  }
+
+  /**
+   * No-op, the pool of every storage node is created by the {@link ChannelPoolManager} on the first request to it, and
+   * connects lazily as well.
+   */
+  @Override
+  public void start() {
+  }
+
+  @Override
+  public void close() {
+    channelPoolManager.closeAll().awaitUninterruptibly();
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) throws RouterException {
+    String hostAndPort = host.getHost() + ":" + host.getSslPort();
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        path.getHttpMethod(),
+        "/" + path.getLocation(),
+        path.getBodyByteBuf(ByteBufAllocator.DEFAULT));
+    path.setupVeniceHeaders((k, v) -> request.headers().set(k, v));
+    send(hostAndPort, request, requestTimeoutMs, completedCallBack, failedCallBack);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    URI uri = URI.create(request.getUrl());
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(request.getMethod()),
+        "/" + request.getQuery(),
+        Unpooled.EMPTY_BUFFER);
+    send(
+        uri.getHost() + ":" + uri.getPort(),
+        httpRequest,
+        request.hasTimeout() ? request.getTimeout() : requestTimeoutMs,
+        responseFuture::complete,
+        responseFuture::completeExceptionally);
+  }
+
+  private void send(
+      String hostAndPort,
+      FullHttpRequest request,
+      long timeoutMs,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack) {
+    request.headers().set(HttpHeaderNames.HOST, hostAndPort);
+    HttpUtil.setContentLength(request, request.content().readableBytes());
+
+    channelPoolManager.acquire(hostAndPort, QUEUE_NAME, QOS.NORMAL).addListener((Future<Channel> channelFuture) -> {
+      if (!channelFuture.isSuccess()) {
+        request.release();
+        failedCallBack.accept(channelFuture.cause());
+        return;
+      }
+      Channel channel = channelFuture.getNow();
+      Runnable releaseChannel = RunOnce.make(channel, channelPoolManager::release);
+      ResponseAggregator aggregator =
+          new ResponseAggregator(channel, releaseChannel, completedCallBack, failedCallBack);
+      String timeoutMessage = "Request to " + hostAndPort + " timed out after " + timeoutMs + "ms";
+      aggregator.timeoutFuture = channel.eventLoop()
+          .schedule(() -> aggregator.accept(new TimeoutException(timeoutMessage)), timeoutMs, TimeUnit.MILLISECONDS);
+      channel.writeAndFlush(new ResponseConsumerRequest(request, aggregator)).addListener((ChannelFuture future) -> {
+        if (!future.isSuccess()) {
+          aggregator.accept(future.cause());
+        }
+      });
+    });
+  }
+
+  /**
+   * Collects the parts of a response as they are read from the channel, retaining the content instead of copying it.
+   * Each part is released by {@link HttpClientResponseHandler} once consumed, and every callback runs on the event
+   * loop of the channel.
+   */
+  private static final class ResponseAggregator implements Consumer<Object> {
+    private final Channel channel;
+    private final Runnable releaseChannel;
+    private final Consumer<PortableHttpResponse> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+
+    private ScheduledFuture<?> timeoutFuture;
+    private HttpResponse response;
+    private ByteBuf content = Unpooled.EMPTY_BUFFER;
+    private boolean done = false;
+
+    ResponseAggregator(
+        Channel channel,
+        Runnable releaseChannel,
+        Consumer<PortableHttpResponse> completedCallBack,
+        Consumer<Throwable> failedCallBack) {
+      this.channel = channel;
+      this.releaseChannel = releaseChannel;
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+    }
+
+    @Override
+    public void accept(Object o) {
+      if (done) {
+        return;
+      }
+      if (o instanceof Throwable) {
+        done = true;
+        timeoutFuture.cancel(false);
+        content.release();
+        content = null;
+        // A failed HTTP/1.1 connection can't be reused, while the failure of a stream doesn't affect its connection
+        if (!(channel instanceof Http2StreamChannel)) {
+          channel.close().addListener(ignored -> releaseChannel.run());
+        } else {
+          releaseChannel.run();
+        }
+        failedCallBack.accept((Throwable) o);
+        return;
+      }
+      if (o instanceof HttpResponse) {
+        response = (HttpResponse) o;
+      }
+      if (o instanceof HttpContent) {
+        ByteBuf chunk = ((HttpContent) o).content();
+        if (chunk.isReadable()) {
+          if (!content.isReadable()) {
+            content.release();
+            content = chunk.retain();
+          } else if (content instanceof CompositeByteBuf) {
+            ((CompositeByteBuf) content).addComponent(true, chunk.retain());
+          } else {
+            content = chunk.alloc().compositeBuffer().addComponents(true, content, chunk.retain());
+          }
+        }
+      }
+      if (o instanceof LastHttpContent) {
+        done = true;
+        timeoutFuture.cancel(false);
+        if (HttpUtil.isKeepAlive(response)) {
+          releaseChannel.run();
+        } else {
+          channel.close().addListener(ignored -> releaseChannel.run());
+        }
+        NettyHttp2Response portableResponse = new NettyHttp2Response(response, content);
+        content = null;
+        completedCallBack.accept(portableResponse);
+      }
+    }
+  }
+
+  private static final class NettyHttp2Response implements PortableHttpResponse {
+    private final HttpResponse response;
+    private final ByteBuf content;
+
+    NettyHttp2Response(HttpResponse response, ByteBuf content) {
+      this.response = response;
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.status().code();
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return response.headers().contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return response.headers().get(headerName);
+    }
+  }
+
+  private static final class ResponseConsumerRequest extends DefaultFullHttpRequest
+      implements HttpClientResponseHandler.ResponseConsumer {
+    private final Consumer<Object> responseConsumer;
+
+    ResponseConsumerRequest(FullHttpRequest request, Consumer<Object> responseConsumer) {
+      super(
+          request.protocolVersion(),
+          request.method(),
+          request.uri(),
+          request.content(),
+          request.headers(),
+          request.trailingHeaders());
+      this.responseConsumer = responseConsumer;
+    }
+
+    @Override
+    public Consumer<Object> responseConsumer() {
+      return responseConsumer;
+    }
+
+    @Override
+    public FullHttpRequest copy() {
+      return new ResponseConsumerRequest(super.copy(), responseConsumer);
+    }
+
+    @Override
+    public FullHttpRequest duplicate() {
+      return new ResponseConsumerRequest(super.duplicate(), responseConsumer);
+    }
+
+    @Override
+    public FullHttpRequest retainedDuplicate() {
+      return new ResponseConsumerRequest(super.retainedDuplicate(), responseConsumer);
+    }
+
+    @Override
+    public FullHttpRequest replace(ByteBuf content) {
+      return new ResponseConsumerRequest(super.replace(content), responseConsumer);
+    }
+  }
+}
@@ -15,7 +15,8 @@ public interface PortableHttpResponse {
   int getStatusCode();
 
   /**
-   * Returns the response as ByteBuf.
+   * Returns the response as ByteBuf, which is owned by the caller from then on, so it needs to be released once it is
+   * not going to be used, as some clients hand over a pooled buffer.
    * @return
    * @throws IOException
    */
@@ -167,6 +167,11 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordDecompressionTime(decompressionTime);
   }
 
+  public void recordResponseCompression(String storeName, double compressionTime, int bytesSaved) {
+    totalStats.recordResponseCompression(compressionTime, bytesSaved);
+    getStoreStats(storeName).recordResponseCompression(compressionTime, bytesSaved);
+  }
+
   public void recordQuota(String storeName, double quota) {
     getStoreStats(storeName).recordQuota(quota);
   }
@@ -298,4 +303,14 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     totalStats.recordRetryDelay(delay);
     getStoreStats(storeName).recordRetryDelay(delay);
   }
+
+  public void recordAdmissionQueueingDelay(String storeName, double delay) {
+    totalStats.recordAdmissionQueueingDelay(delay);
+    getStoreStats(storeName).recordAdmissionQueueingDelay(delay);
+  }
+
+  public void recordAdmissionShedRequest(String storeName) {
+    totalStats.recordAdmissionShedRequest();
+    getStoreStats(storeName).recordAdmissionShedRequest();
+  }
 }
@@ -0,0 +1,21 @@
+package com.linkedin.venice.router.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Gauge;
+import io.tehuti.metrics.stats.Max;
+
+
+public class RouterAdmissionStats extends AbstractVeniceStats {
+  private final Sensor queuedBytesSensor;
+
+  public RouterAdmissionStats(MetricsRepository repository, String name) {
+    super(repository, name);
+    queuedBytesSensor = registerSensor("admission_queued_bytes", new Gauge(), new Max(0));
+  }
+
+  public void recordQueuedBytes(long queuedBytes) {
+    queuedBytesSensor.record(queuedBytes);
+  }
+}
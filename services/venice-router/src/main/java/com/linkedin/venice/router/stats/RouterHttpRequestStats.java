@@ -42,6 +42,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor badRequestKeyCountSensor;
   private final Sensor requestThrottledByRouterCapacitySensor;
   private final Sensor decompressionTimeSensor;
+  private final Sensor responseCompressionTimeSensor;
+  private final Sensor responseCompressionBytesSavedSensor;
   private final Sensor routerResponseWaitingTimeSensor;
   private final Sensor fanoutRequestCountSensor;
   private final Sensor quotaSensor;
@@ -66,6 +68,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor retryDelaySensor;
   private final Sensor multiGetFallbackSensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor admissionQueueingDelaySensor;
+  private final Sensor admissionShedRequestSensor;
   private Sensor keySizeSensor;
   private final String systemStoreName;
 
@@ -120,6 +124,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         "decompression_time",
         TehutiUtils.getPercentileStat(getName(), getFullMetricName("decompression_time")),
         new Avg());
+    responseCompressionTimeSensor = registerSensor("response_compression_time", new Avg(), new Max());
+    responseCompressionBytesSavedSensor = registerSensor("response_compression_bytes_saved", new Rate(), new Avg());
     quotaSensor = registerSensor("read_quota_per_router", new Gauge());
     findUnhealthyHostRequestSensor = registerSensor("find_unhealthy_host_request", new OccurrenceRate());
 
@@ -182,6 +188,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor("error_retry_attempt_triggered_by_pending_request_check", new OccurrenceRate());
     retryDelaySensor = registerSensor("retry_delay", new Avg(), new Max());
     metaStoreShadowReadSensor = registerSensor("meta_store_shadow_read", new OccurrenceRate());
+    admissionQueueingDelaySensor = registerSensor("admission_queueing_delay", new Avg(), new Max(0));
+    admissionShedRequestSensor = registerSensor("admission_shed_request", new Count());
   }
 
   /**
@@ -284,6 +292,11 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     decompressionTimeSensor.record(decompressionTime);
   }
 
+  public void recordResponseCompression(double compressionTime, int bytesSaved) {
+    responseCompressionTimeSensor.record(compressionTime);
+    responseCompressionBytesSavedSensor.record(bytesSaved);
+  }
+
   public void recordQuota(double quota) {
     quotaSensor.record(quota);
   }
@@ -366,6 +379,14 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     metaStoreShadowReadSensor.record();
   }
 
+  public void recordAdmissionQueueingDelay(double delay) {
+    admissionQueueingDelaySensor.record(delay);
+  }
+
+  public void recordAdmissionShedRequest() {
+    admissionShedRequestSensor.record();
+  }
+
   @Override
   protected Sensor registerSensor(String sensorName, MeasurableStat... stats) {
     return super.registerSensor(systemStoreName == null ? sensorName : systemStoreName, null, stats);
@@ -7,6 +7,7 @@ import static com.linkedin.venice.streaming.StreamingConstants.STREAMING_FOOTER_
 
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.read.RequestType;
@@ -18,9 +19,11 @@ import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
@@ -100,6 +103,12 @@ public class VeniceChunkedResponse {
   private final ChannelHandlerContext ctx;
   private final VeniceChunkedWriteHandler chunkedWriteHandler;
   private final ChannelProgressivePromise writeFuture;
+  /**
+   * Whether the chunks get compressed for a client supporting the response compression, check
+   * {@link ResponseCompressionUtils#compressChunk} for more details.
+   */
+  private final boolean responseCompressionEnabled;
+  private final int responseCompressionMinSizeBytes;
 
   // Whether the response has already completed or not
   private boolean responseCompleteCalled = false;
@@ -138,6 +147,18 @@ public class VeniceChunkedResponse {
       VeniceChunkedWriteHandler handler,
       RouterStats<AggRouterHttpRequestStats> routerStats,
       Optional<Map<CharSequence, String>> optionalHeaders) {
+    this(storeName, requestType, ctx, handler, routerStats, optionalHeaders, false, 0);
+  }
+
+  public VeniceChunkedResponse(
+      String storeName,
+      RequestType requestType,
+      ChannelHandlerContext ctx,
+      VeniceChunkedWriteHandler handler,
+      RouterStats<AggRouterHttpRequestStats> routerStats,
+      Optional<Map<CharSequence, String>> optionalHeaders,
+      boolean responseCompressionEnabled,
+      int responseCompressionMinSizeBytes) {
     this.storeName = storeName;
     this.requestType = requestType;
     this.routerStats = routerStats;
@@ -151,6 +172,8 @@ public class VeniceChunkedResponse {
     this.ctx = ctx;
     this.chunkedWriteHandler = handler;
     this.writeFuture = ctx.newProgressivePromise();
+    this.responseCompressionEnabled = responseCompressionEnabled;
+    this.responseCompressionMinSizeBytes = responseCompressionMinSizeBytes;
     this.chunkedWriteHandler.setWriteMessageCallback(new WriteMessageCallbackImpl());
   }
 
@@ -232,6 +255,10 @@ public class VeniceChunkedResponse {
     }
   }
 
+  public boolean isResponseCompressionEnabled() {
+    return responseCompressionEnabled;
+  }
+
   public CompletableFuture<Long> write(ByteBuf buffer) {
     return write(buffer, CompressionStrategy.NO_OP, null);
   }
@@ -292,6 +319,11 @@ public class VeniceChunkedResponse {
           new HashMap<>(isMultiGetStreaming ? MULTI_GET_VALID_HEADER_MAP : COMPUTE_VALID_HEADER_MAP);
       optionalHeaders.ifPresent(headers::putAll);
       headers.put(HttpConstants.VENICE_COMPRESSION_STRATEGY, Integer.toString(compression.getValue()));
+      if (responseCompressionEnabled) {
+        headers.put(
+            HttpConstants.VENICE_RESPONSE_COMPRESSION,
+            ResponseCompressionUtils.RESPONSE_COMPRESSION_HEADER_VALUE);
+      }
       ChannelPromise writePromise = ctx.newPromise().addListener(new ResponseMetadataWriteListener());
       chunkedWriteHandler.write(ctx, new StreamingResponseMetadata(headers), writePromise);
       /**
@@ -301,7 +333,7 @@ public class VeniceChunkedResponse {
       chunkedWriteHandler.resumeTransfer();
     }
 
-    Chunk chunk = new Chunk(byteBuf, false, callback);
+    Chunk chunk = new Chunk(maybeCompressChunk(byteBuf), false, callback);
 
     if (!maybeAddChunk(chunk)) {
       // Chunk will be skipped
@@ -318,6 +350,32 @@ public class VeniceChunkedResponse {
     return chunk.future;
   }
 
+  /**
+   * @return the frame of the given chunk if the response compression is enabled, in which case the given chunk is
+   *         released, or the given chunk otherwise.
+   */
+  private ByteBuf maybeCompressChunk(ByteBuf byteBuf) {
+    if (!responseCompressionEnabled || !byteBuf.isReadable()) {
+      return byteBuf;
+    }
+    long startTimeInNS = System.nanoTime();
+    int originalSize = byteBuf.readableBytes();
+    byte[] frame;
+    try {
+      frame = ResponseCompressionUtils.compressChunk(ByteBufUtil.getBytes(byteBuf), responseCompressionMinSizeBytes);
+    } finally {
+      ReferenceCountUtil.release(byteBuf);
+    }
+    if (originalSize >= responseCompressionMinSizeBytes) {
+      routerStats.getStatsByType(this.requestType)
+          .recordResponseCompression(
+              storeName,
+              LatencyUtils.getLatencyInMS(startTimeInNS),
+              Math.max(originalSize - frame.length, 0));
+    }
+    return Unpooled.wrappedBuffer(frame);
+  }
+
   /**
    * Synchronized way to add data chunks to {@link #chunksToWrite}, and it will try to avoid adding more chunks
    * after producing last chunk.
@@ -385,7 +443,7 @@ public class VeniceChunkedResponse {
       return;
     }
 
-    Chunk lastChunk = new Chunk(footerResponse, true, callback);
+    Chunk lastChunk = new Chunk(maybeCompressChunk(footerResponse), true, callback);
     if (maybeAddChunk(lastChunk)) {
       reportResponseSize();
       chunkedWriteHandler.resumeTransfer();
@@ -0,0 +1,209 @@
+package com.linkedin.venice.router.throttle;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+
+import com.linkedin.alpini.base.concurrency.AsyncFuture;
+import com.linkedin.alpini.base.misc.MemoryPressureIndexMonitor;
+import com.linkedin.alpini.base.queuing.QOSBasedMultiQueue;
+import com.linkedin.alpini.base.queuing.QOSBasedRequestRunnable;
+import com.linkedin.alpini.base.queuing.QOSPolicy;
+import com.linkedin.alpini.base.queuing.SimpleQueue;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterAdmissionStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.Time;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * This class admits the requests to storage nodes within the capacity of a {@link PendingRequestThrottler}. Instead of
+ * rejecting the requests exceeding the capacity right away, it queues them per store, and admits them as pending
+ * requests complete, visiting the stores in a round-robin fashion through a {@link QOSBasedMultiQueue}. So a burst of
+ * requests of one store mostly delays the requests of that store, instead of starving the other stores. Within a
+ * store, the single-get requests, the batch requests and the retry requests are dequeued in the configured
+ * {@link QOS} ratio.
+ *
+ * The queued requests which couldn't be admitted within the max queueing delay are shed, since they are likely to time
+ * out anyway, and so are the queued requests which time out, right away. The shed requests are never sent. The size
+ * of the keys of the queued requests is tracked by a {@link MemoryPressureIndexMonitor}, and no more requests get
+ * queued once it reaches the max queued bytes.
+ */
+public class FairAdmissionController {
+  private static final CompletableFuture<Double> ADMITTED_WITHOUT_QUEUEING = CompletableFuture.completedFuture(0d);
+
+  private final PendingRequestThrottler pendingRequestThrottler;
+  private final SimpleQueue<QueuedRequest> queue;
+  private final MemoryPressureIndexMonitor<QueuedRequest, Long, RouterAdmissionStats> memoryPressureIndexMonitor;
+  private final RouterStats<AggRouterHttpRequestStats> routerStats;
+  private final Time time;
+  private final long maxQueueingDelayMs;
+  private final long maxQueueingDelayNs;
+  private final long maxQueuedBytes;
+  private final AtomicLong queuedRequestIdGenerator = new AtomicLong(0);
+
+  public FairAdmissionController(
+      VeniceRouterConfig config,
+      PendingRequestThrottler pendingRequestThrottler,
+      RouterAdmissionStats admissionStats,
+      RouterStats<AggRouterHttpRequestStats> routerStats,
+      Time time) {
+    this.pendingRequestThrottler = pendingRequestThrottler;
+    this.queue = QOSPolicy.getQOSPolicy(
+        new QOSPolicy.StaticConfig(
+            QOSPolicy.HIGHEST_PRIORITY_W_FAIR_ALLOCATION_MULTI_QUEUE.name(),
+            config.getFairAdmissionQosFairRatio(),
+            config.getFairAdmissionMaxQueuedRequestPerStore()));
+    this.memoryPressureIndexMonitor = new MemoryPressureIndexMonitor<QueuedRequest, Long, RouterAdmissionStats>(
+        queuedRequest -> Optional.of(queuedRequest.id),
+        admissionStats,
+        RouterAdmissionStats::recordQueuedBytes).setPhantomMode(false);
+    this.routerStats = routerStats;
+    this.time = time;
+    this.maxQueueingDelayMs = config.getFairAdmissionMaxQueueingDelayMs();
+    this.maxQueueingDelayNs = TimeUnit.MILLISECONDS.toNanos(maxQueueingDelayMs);
+    this.maxQueuedBytes = config.getFairAdmissionMaxQueuedBytes();
+  }
+
+  /**
+   * Admits the request right away if there is spare capacity and no queued request, or queues it otherwise.
+   * {@link #release()} must be called once an admitted request completes.
+   *
+   * @param timeoutFuture completed successfully once the request times out
+   * @return a future completed with the queueing delay in ms once the request is admitted, or completed exceptionally
+   *         if the request is shed.
+   * @throws RouterException if the request can't be queued.
+   */
+  public CompletableFuture<Double> admit(
+      String storeName,
+      RequestType requestType,
+      boolean isRetryRequest,
+      int requestSize,
+      AsyncFuture<Void> timeoutFuture) throws RouterException {
+    if (queue.isEmpty() && pendingRequestThrottler.put()) {
+      return ADMITTED_WITHOUT_QUEUEING;
+    }
+
+    if (memoryPressureIndexMonitor.currentMemoryPressureIndex() + requestSize > maxQueuedBytes) {
+      throw reject(storeName, requestType, "Maximum queued request bytes reached");
+    }
+    long enqueueTimeNs = time.getNanoseconds();
+    CompletableFuture<Double> admissionFuture = new CompletableFuture<>();
+    QueuedRequest queuedRequest = new QueuedRequest(
+        queuedRequestIdGenerator.getAndIncrement(),
+        storeName,
+        requestType,
+        getQOS(requestType, isRetryRequest),
+        enqueueTimeNs + maxQueueingDelayNs,
+        admissionFuture,
+        () -> admissionFuture.complete(LatencyUtils.convertLatencyFromNSToMS(time.getNanoseconds() - enqueueTimeNs)));
+    memoryPressureIndexMonitor.addReferentAndByteCount(queuedRequest, requestSize);
+    if (!queue.add(queuedRequest)) {
+      memoryPressureIndexMonitor.removeByteCount(queuedRequest.id, true, Optional.empty());
+      throw reject(storeName, requestType, "Maximum number of queued requests of the store reached");
+    }
+    timeoutFuture.addListener(future -> {
+      if (future.isSuccess()) {
+        // Fail the request right away, it's dropped once dequeued
+        shed(queuedRequest, "Request timed out before it could be admitted");
+      }
+    });
+    // The capacity might have been released while the request was being queued
+    drain();
+    return admissionFuture;
+  }
+
+  /**
+   * Releases the capacity held by a completed request, and admits the next queued requests.
+   */
+  public void release() {
+    pendingRequestThrottler.take();
+    drain();
+  }
+
+  public int getQueuedRequestCount() {
+    return queue.size();
+  }
+
+  private void drain() {
+    while (!queue.isEmpty() && pendingRequestThrottler.put()) {
+      QueuedRequest queuedRequest = queue.poll();
+      if (queuedRequest == null) {
+        // Another thread took the last queued request, check again in case a request got queued in between
+        pendingRequestThrottler.take();
+        continue;
+      }
+      memoryPressureIndexMonitor.removeByteCount(queuedRequest.id, true, Optional.empty());
+      if (time.getNanoseconds() > queuedRequest.deadlineNs) {
+        shed(queuedRequest, "Request couldn't be admitted within " + maxQueueingDelayMs + "ms");
+      }
+      // Admitting a shed request is a no-op, and the capacity is given back
+      queuedRequest.getCommand().run();
+      if (queuedRequest.admissionFuture.isCompletedExceptionally()) {
+        pendingRequestThrottler.take();
+      }
+    }
+  }
+
+  private void shed(QueuedRequest queuedRequest, String reason) {
+    if (queuedRequest.admissionFuture.isDone()) {
+      return;
+    }
+    routerStats.getStatsByType(queuedRequest.requestType).recordAdmissionShedRequest(queuedRequest.storeName);
+    queuedRequest.admissionFuture.completeExceptionally(
+        RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+            Optional.of(queuedRequest.storeName),
+            Optional.of(queuedRequest.requestType),
+            SERVICE_UNAVAILABLE,
+            reason));
+  }
+
+  private RouterException reject(String storeName, RequestType requestType, String reason) {
+    routerStats.getStatsByType(requestType).recordRequestThrottledByRouterCapacity(storeName);
+    return RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+        Optional.of(storeName),
+        Optional.of(requestType),
+        SERVICE_UNAVAILABLE,
+        reason + "! Current pending request count: " + pendingRequestThrottler.getCurrentPendingRequestCount()
+            + ", queued request count: " + queue.size());
+  }
+
+  private static QOS getQOS(RequestType requestType, boolean isRetryRequest) {
+    if (isRetryRequest) {
+      return QOS.LOW;
+    }
+    return requestType == RequestType.SINGLE_GET ? QOS.HIGH : QOS.NORMAL;
+  }
+
+  private static class QueuedRequest extends QOSBasedRequestRunnable {
+    private final long id;
+    private final String storeName;
+    private final RequestType requestType;
+    private final long deadlineNs;
+    private final CompletableFuture<Double> admissionFuture;
+
+    private QueuedRequest(
+        long id,
+        String storeName,
+        RequestType requestType,
+        QOS qos,
+        long deadlineNs,
+        CompletableFuture<Double> admissionFuture,
+        Runnable admitFunction) {
+      super(storeName, qos, admitFunction);
+      this.id = id;
+      this.storeName = storeName;
+      this.requestType = requestType;
+      this.deadlineNs = deadlineNs;
+      this.admissionFuture = admissionFuture;
+    }
+  }
+}
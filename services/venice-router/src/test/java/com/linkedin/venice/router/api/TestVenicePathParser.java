@@ -15,6 +15,7 @@ import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.helix.HelixReadOnlyStoreConfigRepository;
@@ -31,11 +32,13 @@ import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.stats.StaleVersionStats;
+import com.linkedin.venice.router.streaming.VeniceChunkedWriteHandler;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.EmptyHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaders;
@@ -173,6 +176,61 @@ public class TestVenicePathParser {
             .contains(new AbstractMap.SimpleEntry<>(HttpConstants.VENICE_CLIENT_COMPUTE, "1")));
   }
 
+  @Test
+  public void testStreamingResponseCompressionNegotiation() throws RouterException {
+    VenicePartitionFinder partitionFinder = mock(VenicePartitionFinder.class);
+    doReturn(10).when(partitionFinder).getNumPartitions(any());
+    doReturn(3).when(partitionFinder).findPartitionNumber(any(), anyInt(), any(), anyInt());
+    doReturn(new DefaultVenicePartitioner()).when(partitionFinder).findPartitioner(any(), anyInt());
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doReturn(10).when(storeRepository).getBatchGetLimit(any());
+    VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
+    doReturn(true).when(routerConfig).isResponseCompressionEnabled();
+    doReturn(1024).when(routerConfig).getResponseCompressionMinSizeBytes();
+    VenicePathParser parser = new VenicePathParser<BasicFullHttpRequest>(
+        getVersionFinder(),
+        partitionFinder,
+        getMockedStats(),
+        storeRepository,
+        routerConfig,
+        mock(CompressorFactory.class));
+
+    String storeName = "test-store";
+    String uri = "storage/" + storeName;
+    ReadAvroProtocolDefinition protocol = ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1;
+    RecordSerializer<ByteBuffer> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(protocol.getSchema());
+    byte[] content = serializer.serializeObjects(Collections.singletonList(ByteBuffer.wrap("key".getBytes())));
+    for (boolean clientSupportsResponseCompression: new boolean[] { true, false }) {
+      HttpHeaders headers = new DefaultHttpHeaders();
+      headers.add(HttpConstants.VENICE_API_VERSION, protocol.getProtocolVersion());
+      headers.add(HttpConstants.VENICE_STREAMING, "1");
+      if (clientSupportsResponseCompression) {
+        headers.add(
+            HttpConstants.VENICE_SUPPORTED_RESPONSE_COMPRESSION,
+            ResponseCompressionUtils.RESPONSE_COMPRESSION_HEADER_VALUE);
+      }
+      BasicFullHttpRequest request = new BasicFullHttpRequest(
+          HttpVersion.HTTP_1_1,
+          HttpMethod.POST,
+          uri,
+          Unpooled.wrappedBuffer(content),
+          headers,
+          EmptyHttpHeaders.INSTANCE,
+          UUID.randomUUID(),
+          0,
+          0);
+      request.attr(VeniceChunkedWriteHandler.CHUNKED_WRITE_HANDLER_ATTRIBUTE_KEY).set(new VeniceChunkedWriteHandler());
+      request.attr(VeniceChunkedWriteHandler.CHANNEL_HANDLER_CONTEXT_ATTRIBUTE_KEY)
+          .set(mock(ChannelHandlerContext.class));
+
+      // The streaming response only gets compressed when both the router and the client support it
+      VenicePath path = parser.parseResourceUri(uri, request);
+      Assert.assertEquals(path.getRequestType(), RequestType.MULTI_GET_STREAMING);
+      Assert.assertEquals(path.getChunkedResponse().isResponseCompressionEnabled(), clientSupportsResponseCompression);
+    }
+  }
+
   @Test
   public void parsesQueries() throws RouterException {
     String uri = "storage/store/key";
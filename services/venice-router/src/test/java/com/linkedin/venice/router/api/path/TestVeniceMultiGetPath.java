@@ -8,18 +8,25 @@ import static org.mockito.Mockito.when;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.router.RouterThrottleHandler;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
+import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.exception.VeniceKeyCountLimitException;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
@@ -194,4 +201,83 @@ public class TestVeniceMultiGetPath {
     Assert.assertTrue(path.isLongTailRetryAllowedForNewRoute());
     Assert.assertTrue(path.isLongTailRetryAllowedForNewRoute());
   }
+
+  @Test
+  public void testRouterRequestOfSubPath() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    int version = 1;
+    String resourceName = storeName + "_v" + version;
+
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (int i = 0; i < 5; ++i) {
+      keys.add(ByteBuffer.wrap(("key_" + i).getBytes()));
+    }
+    // Duplicate keys are only sent once
+    keys.add(ByteBuffer.wrap("key_0".getBytes()));
+    BasicFullHttpRequest request = getMultiGetHttpRequest(resourceName, keys, Optional.empty());
+    VeniceMultiGetPath path = new VeniceMultiGetPath(
+        storeName,
+        version,
+        resourceName,
+        request,
+        getVenicePartitionFinder(3),
+        10,
+        false,
+        -1,
+        null,
+        1);
+    Assert.assertEquals(path.getPartitionKeys().size(), 5);
+
+    RecordDeserializer<MultiGetRouterRequestKeyV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetRouterRequestKeyV1.class);
+    List<MultiGetRouterRequestKeyV1> routerRequestKeys = deserializer.deserializeObjects(path.serializeRouterRequest());
+    Assert.assertEquals(routerRequestKeys.size(), 5);
+    for (MultiGetRouterRequestKeyV1 routerRequestKey: routerRequestKeys) {
+      Assert.assertEquals(routerRequestKey.keyBytes, keys.get(routerRequestKey.keyIndex));
+      Assert.assertEquals(routerRequestKey.partitionId, 3);
+    }
+
+    List<RouterKey> subPathKeys = new ArrayList<>(path.getPartitionKeys()).subList(1, 3);
+    VeniceMultiGetPath subPath = (VeniceMultiGetPath) path.substitutePartitionKey(subPathKeys);
+    byte[] subPathBody = subPath.getBody();
+    routerRequestKeys = deserializer.deserializeObjects(subPathBody);
+    Assert.assertEquals(routerRequestKeys.size(), 2);
+    for (int i = 0; i < routerRequestKeys.size(); ++i) {
+      Assert.assertEquals(routerRequestKeys.get(i).keyIndex, subPathKeys.get(i).getKeyIndex());
+      Assert.assertEquals(routerRequestKeys.get(i).keyBytes, subPathKeys.get(i).getKeyBuffer());
+    }
+
+    ByteBuf pooledBody = subPath.getBodyByteBuf(PooledByteBufAllocator.DEFAULT);
+    try {
+      Assert.assertEquals(ByteBufUtil.getBytes(pooledBody), subPathBody);
+    } finally {
+      pooledBody.release();
+    }
+
+    // Keys which don't belong to the path are rejected
+    Assert.assertThrows(VeniceException.class, () -> path.substitutePartitionKey(new RouterKey("key_1".getBytes())));
+  }
+
+  @Test(expectedExceptions = RouterException.class, expectedExceptionsMessageRegExp = ".*Malformed keys.*")
+  public void testMultiGetReqWithTruncatedKeys() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    int version = 1;
+    String resourceName = storeName + "_v" + version;
+
+    List<ByteBuffer> keys = new ArrayList<>();
+    keys.add(ByteBuffer.wrap("key_0".getBytes()));
+    BasicFullHttpRequest request = getMultiGetHttpRequest(resourceName, keys, Optional.empty());
+    request.content().writerIndex(request.content().writerIndex() - 1);
+    new VeniceMultiGetPath(
+        storeName,
+        version,
+        resourceName,
+        request,
+        getVenicePartitionFinder(-1),
+        10,
+        false,
+        -1,
+        null,
+        1);
+  }
 }
@@ -1,14 +1,41 @@
 package com.linkedin.venice.router.streaming;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
 
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
+import com.linkedin.venice.compression.StreamingResponseDecompressor;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelProgressivePromise;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.util.concurrent.GenericFutureListener;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import org.mockito.ArgumentCaptor;
 import org.testng.annotations.Test;
 
 
@@ -29,4 +56,96 @@ public class VeniceChunkedResponseTest {
         VeniceException.class,
         () -> chunkedWriteHandler.write(mock(ChannelHandlerContext.class), null, mock(ChannelPromise.class)));
   }
+
+  @Test
+  public void testCompressedResponse() throws Exception {
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    ChannelPromise metadataPromise = mock(ChannelPromise.class);
+    doReturn(metadataPromise).when(metadataPromise).addListener(any());
+    doReturn(metadataPromise).when(ctx).newPromise();
+    doReturn(mock(ChannelProgressivePromise.class)).when(ctx).newProgressivePromise();
+    Channel channel = mock(Channel.class);
+    doReturn(true).when(channel).isOpen();
+    doReturn(channel).when(ctx).channel();
+    VeniceChunkedWriteHandler chunkedWriteHandler = mock(VeniceChunkedWriteHandler.class);
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(RequestType.MULTI_GET_STREAMING);
+    VeniceChunkedResponse response = new VeniceChunkedResponse(
+        "storeName",
+        RequestType.MULTI_GET_STREAMING,
+        ctx,
+        chunkedWriteHandler,
+        routerStats,
+        Optional.empty(),
+        true,
+        100);
+
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      sb.append("record_").append(i % 10);
+    }
+    byte[] largeChunk = sb.toString().getBytes(StandardCharsets.UTF_8);
+    byte[] smallChunk = "record".getBytes(StandardCharsets.UTF_8);
+    response.write(Unpooled.wrappedBuffer(largeChunk), CompressionStrategy.NO_OP);
+    response.write(Unpooled.wrappedBuffer(smallChunk), CompressionStrategy.NO_OP);
+
+    // The response metadata tells the client that the chunks are compressed
+    ArgumentCaptor<Object> messageCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(chunkedWriteHandler).write(eq(ctx), messageCaptor.capture(), eq(metadataPromise));
+    HttpResponse metadata = (HttpResponse) messageCaptor.getValue();
+    assertEquals(
+        metadata.headers().get(HttpConstants.VENICE_RESPONSE_COMPRESSION),
+        ResponseCompressionUtils.RESPONSE_COMPRESSION_HEADER_VALUE);
+
+    // The chunks are dispensed once the response metadata is sent
+    ArgumentCaptor<GenericFutureListener> listenerCaptor = ArgumentCaptor.forClass(GenericFutureListener.class);
+    verify(metadataPromise).addListener(listenerCaptor.capture());
+    ChannelFuture metadataFuture = mock(ChannelFuture.class);
+    doReturn(true).when(metadataFuture).isSuccess();
+    listenerCaptor.getValue().operationComplete(metadataFuture);
+    verify(chunkedWriteHandler, times(2)).write(eq(ctx), messageCaptor.capture(), any());
+    ChunkedInput<HttpContent> chunkDispenser = (ChunkedInput<HttpContent>) messageCaptor.getValue();
+
+    // Only the chunks not smaller than the min size get compressed, but the client decodes all of them
+    StreamingResponseDecompressor decompressor = new StreamingResponseDecompressor();
+    HttpContent largeChunkContent = chunkDispenser.readChunk(ByteBufAllocator.DEFAULT);
+    assertTrue(largeChunkContent.content().readableBytes() < largeChunk.length);
+    assertEquals(
+        ByteUtils.extractByteArray(decompressor.decompress(largeChunkContent.content().nioBuffer())),
+        largeChunk);
+    HttpContent smallChunkContent = chunkDispenser.readChunk(ByteBufAllocator.DEFAULT);
+    assertEquals(
+        ByteUtils.extractByteArray(decompressor.decompress(smallChunkContent.content().nioBuffer())),
+        smallChunk);
+    assertTrue(decompressor.isComplete());
+    assertNull(chunkDispenser.readChunk(ByteBufAllocator.DEFAULT));
+    verify(stats, times(1)).recordResponseCompression(eq("storeName"), anyDouble(), anyInt());
+  }
+
+  @Test
+  public void testUncompressedResponse() {
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    ChannelPromise metadataPromise = mock(ChannelPromise.class);
+    doReturn(metadataPromise).when(metadataPromise).addListener(any());
+    doReturn(metadataPromise).when(ctx).newPromise();
+    doReturn(mock(ChannelProgressivePromise.class)).when(ctx).newProgressivePromise();
+    Channel channel = mock(Channel.class);
+    doReturn(true).when(channel).isOpen();
+    doReturn(channel).when(ctx).channel();
+    VeniceChunkedWriteHandler chunkedWriteHandler = mock(VeniceChunkedWriteHandler.class);
+    VeniceChunkedResponse response = new VeniceChunkedResponse(
+        "storeName",
+        RequestType.COMPUTE_STREAMING,
+        ctx,
+        chunkedWriteHandler,
+        mock(RouterStats.class),
+        Optional.empty());
+    response.write(Unpooled.wrappedBuffer(new byte[] { 1 }), CompressionStrategy.NO_OP);
+
+    ArgumentCaptor<Object> messageCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(chunkedWriteHandler).write(eq(ctx), messageCaptor.capture(), eq(metadataPromise));
+    HttpResponse metadata = (HttpResponse) messageCaptor.getValue();
+    assertNull(metadata.headers().get(HttpConstants.VENICE_RESPONSE_COMPRESSION));
+  }
 }
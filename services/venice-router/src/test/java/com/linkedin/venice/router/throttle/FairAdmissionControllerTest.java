@@ -0,0 +1,182 @@
+package com.linkedin.venice.router.throttle;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.base.concurrency.AsyncFuture;
+import com.linkedin.alpini.base.concurrency.AsyncPromise;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterAdmissionStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.TestMockTime;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class FairAdmissionControllerTest {
+  private final TestMockTime time = new TestMockTime();
+  private AggRouterHttpRequestStats stats;
+  private RouterStats<AggRouterHttpRequestStats> routerStats;
+  private AsyncFuture<Void> noTimeout;
+
+  @BeforeMethod
+  public void setUp() {
+    noTimeout = AsyncFuture.deferred(false);
+    stats = mock(AggRouterHttpRequestStats.class);
+    routerStats = mock(RouterStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    RouterExceptionAndTrackingUtils.setRouterStats(null);
+  }
+
+  @Test
+  public void testQueuedRequestsAreAdmittedFairlyAcrossStores() throws RouterException {
+    PendingRequestThrottler throttler = new PendingRequestThrottler(1);
+    FairAdmissionController controller = createController(throttler, 10, 1024);
+
+    Assert.assertTrue(controller.admit("store_a", RequestType.SINGLE_GET, false, 10, noTimeout).isDone());
+    List<CompletableFuture<Double>> storeAFutures = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      storeAFutures.add(controller.admit("store_a", RequestType.SINGLE_GET, false, 10, noTimeout));
+    }
+    CompletableFuture<Double> storeBFuture = controller.admit("store_b", RequestType.SINGLE_GET, false, 10, noTimeout);
+    Assert.assertEquals(controller.getQueuedRequestCount(), 5);
+    Assert.assertEquals(throttler.getCurrentPendingRequestCount(), 1);
+
+    // The burst of store_a doesn't delay store_b by more than one request of store_a
+    time.addMilliseconds(5);
+    controller.release();
+    controller.release();
+    Assert.assertTrue(storeBFuture.isDone());
+    Assert.assertEquals(storeAFutures.stream().filter(CompletableFuture::isDone).count(), 1);
+    Assert.assertEquals(storeBFuture.join(), 5d);
+    Assert.assertEquals(throttler.getCurrentPendingRequestCount(), 1);
+
+    for (int i = 0; i < 3; i++) {
+      controller.release();
+    }
+    Assert.assertTrue(storeAFutures.stream().allMatch(CompletableFuture::isDone));
+    Assert.assertEquals(controller.getQueuedRequestCount(), 0);
+
+    // Requests are admitted right away again once the queue is empty and there is spare capacity
+    controller.release();
+    Assert.assertEquals(throttler.getCurrentPendingRequestCount(), 0);
+    Assert.assertEquals(controller.admit("store_b", RequestType.SINGLE_GET, false, 10, noTimeout).join(), 0d);
+  }
+
+  @Test
+  public void testRequestsAreRejectedWhenQueuesAreFull() throws RouterException {
+    PendingRequestThrottler throttler = new PendingRequestThrottler(1);
+    FairAdmissionController controller = createController(throttler, 2, 25);
+
+    controller.admit("store_a", RequestType.MULTI_GET, false, 10, noTimeout);
+    controller.admit("store_a", RequestType.MULTI_GET, false, 10, noTimeout);
+    controller.admit("store_a", RequestType.MULTI_GET, false, 10, noTimeout);
+    // The queue of store_a is full
+    assertRejected(controller, "store_a", 1);
+    // The queued bytes would exceed the limit
+    assertRejected(controller, "store_b", 10);
+    controller.admit("store_b", RequestType.MULTI_GET, false, 5, noTimeout);
+    verify(stats, times(2)).recordRequestThrottledByRouterCapacity(any());
+
+    // Admitting queued requests frees their bytes
+    controller.release();
+    controller.admit("store_b", RequestType.MULTI_GET, false, 10, noTimeout);
+    Assert.assertEquals(controller.getQueuedRequestCount(), 3);
+  }
+
+  @Test
+  public void testExpiredQueuedRequestsAreShed() throws RouterException {
+    PendingRequestThrottler throttler = new PendingRequestThrottler(1);
+    FairAdmissionController controller = createController(throttler, 10, 1024);
+
+    controller.admit("store_a", RequestType.SINGLE_GET, false, 10, noTimeout);
+    CompletableFuture<Double> expiredFuture = controller.admit("store_a", RequestType.SINGLE_GET, false, 10, noTimeout);
+    time.addMilliseconds(60);
+    CompletableFuture<Double> future = controller.admit("store_a", RequestType.SINGLE_GET, false, 10, noTimeout);
+    time.addMilliseconds(60);
+
+    controller.release();
+    Assert.assertTrue(expiredFuture.isCompletedExceptionally());
+    ExecutionException e = Assert.expectThrows(ExecutionException.class, expiredFuture::get);
+    Assert.assertTrue(e.getCause() instanceof RouterException);
+    Assert.assertEquals(((RouterException) e.getCause()).code(), HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+    verify(stats).recordAdmissionShedRequest("store_a");
+    Assert.assertEquals(future.join(), 60d);
+    Assert.assertEquals(throttler.getCurrentPendingRequestCount(), 1);
+  }
+
+  @Test
+  public void testQueuedRequestsTimingOutAreNeverAdmitted() throws RouterException {
+    PendingRequestThrottler throttler = new PendingRequestThrottler(1);
+    FairAdmissionController controller = createController(throttler, 10, 1024);
+
+    controller.admit("store_a", RequestType.SINGLE_GET, false, 10, noTimeout);
+    AsyncPromise<Void> timeoutFuture = AsyncFuture.deferred(true);
+    CompletableFuture<Double> timedOutFuture =
+        controller.admit("store_a", RequestType.SINGLE_GET, false, 10, timeoutFuture);
+    AtomicBoolean sent = new AtomicBoolean(false);
+    timedOutFuture.thenAccept(queueingDelay -> sent.set(true));
+    // The timeout future of a request which completes in time gets cancelled
+    AsyncPromise<Void> cancelledTimeoutFuture = AsyncFuture.deferred(true);
+    CompletableFuture<Double> future =
+        controller.admit("store_a", RequestType.SINGLE_GET, false, 10, cancelledTimeoutFuture);
+    cancelledTimeoutFuture.cancel(false);
+
+    // The request fails as soon as it times out, while still being queued
+    timeoutFuture.setSuccess(null);
+    Assert.assertTrue(timedOutFuture.isCompletedExceptionally());
+    ExecutionException e = Assert.expectThrows(ExecutionException.class, timedOutFuture::get);
+    Assert.assertTrue(e.getCause() instanceof RouterException);
+    Assert.assertEquals(((RouterException) e.getCause()).code(), HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+    verify(stats).recordAdmissionShedRequest("store_a");
+    Assert.assertEquals(controller.getQueuedRequestCount(), 2);
+
+    // Once dequeued, it isn't admitted, and the capacity goes to the next request
+    controller.release();
+    Assert.assertFalse(sent.get());
+    Assert.assertFalse(future.isCompletedExceptionally());
+    Assert.assertTrue(future.isDone());
+    Assert.assertEquals(controller.getQueuedRequestCount(), 0);
+    Assert.assertEquals(throttler.getCurrentPendingRequestCount(), 1);
+    verify(stats, times(1)).recordAdmissionShedRequest(any());
+  }
+
+  private FairAdmissionController createController(
+      PendingRequestThrottler throttler,
+      int maxQueuedRequestPerStore,
+      long maxQueuedBytes) {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(maxQueuedRequestPerStore).when(config).getFairAdmissionMaxQueuedRequestPerStore();
+    doReturn(100L).when(config).getFairAdmissionMaxQueueingDelayMs();
+    doReturn(maxQueuedBytes).when(config).getFairAdmissionMaxQueuedBytes();
+    doReturn("5:15:80").when(config).getFairAdmissionQosFairRatio();
+    return new FairAdmissionController(config, throttler, mock(RouterAdmissionStats.class), routerStats, time);
+  }
+
+  private void assertRejected(FairAdmissionController controller, String storeName, int requestSize) {
+    RouterException e = Assert.expectThrows(
+        RouterException.class,
+        () -> controller.admit(storeName, RequestType.MULTI_GET, false, requestSize, noTimeout));
+    Assert.assertEquals(e.code(), HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+  }
+}
@@ -198,7 +198,11 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
       }
 
       pipeline.addLast(new HttpObjectAggregator(serverConfig.getMaxRequestSize()))
-          .addLast(new OutboundHttpWrapperHandler(statsHandler))
+          .addLast(
+              new OutboundHttpWrapperHandler(
+                  statsHandler,
+                  serverConfig.isResponseCompressionEnabled(),
+                  serverConfig.getResponseCompressionMinSizeBytes()))
           .addLast(new IdleStateHandler(0, 0, serverConfig.getNettyIdleTimeInSeconds()));
       if (sslFactory.isPresent()) {
         pipeline.addLast(verifySsl);
@@ -12,10 +12,13 @@ import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
 import com.linkedin.venice.listener.response.BinaryResponse;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.utils.ExceptionUtils;
+import com.linkedin.venice.utils.LatencyUtils;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
@@ -34,11 +37,27 @@ import org.apache.logging.log4j.Logger;
 
 public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
   private final StatsHandler statsHandler;
+  private final boolean responseCompressionEnabled;
+  private final int responseCompressionMinSizeBytes;
   private static final Logger LOGGER = LogManager.getLogger(OutboundHttpWrapperHandler.class);
 
   public OutboundHttpWrapperHandler(StatsHandler handler) {
+    this(handler, false, 0);
+  }
+
+  /**
+   * @param responseCompressionEnabled whether to compress the non-streaming read responses for the clients supporting
+   *                                   it.
+   * @param responseCompressionMinSizeBytes the min size of the responses to compress.
+   */
+  public OutboundHttpWrapperHandler(
+      StatsHandler handler,
+      boolean responseCompressionEnabled,
+      int responseCompressionMinSizeBytes) {
     super();
     statsHandler = handler;
+    this.responseCompressionEnabled = responseCompressionEnabled;
+    this.responseCompressionMinSizeBytes = responseCompressionMinSizeBytes;
   }
 
   @Override
@@ -50,6 +69,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     int responseRcu = 1;
     CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
     boolean isStreamingResponse = false;
+    boolean isResponseCompressed = false;
     try {
       if (msg instanceof ReadResponse) {
         ReadResponse obj = (ReadResponse) msg;
@@ -66,6 +86,14 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         }
         isStreamingResponse = obj.isStreamingResponse();
         responseRcu = obj.getRCU();
+        if (obj.isFound() && !isStreamingResponse && obj.isResponseCompressionSupported()
+            && shouldCompressResponse(body)) {
+          ByteBuf compressedBody = compressResponse(body, statsContext);
+          if (compressedBody != body) {
+            body = compressedBody;
+            isResponseCompressed = true;
+          }
+        }
       } else if (msg instanceof HttpShortcutResponse) {
         // For Early terminated requests
         HttpShortcutResponse shortcutResponse = (HttpShortcutResponse) msg;
@@ -145,6 +173,10 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     if (isStreamingResponse) {
       response.headers().set(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
     }
+    if (isResponseCompressed) {
+      response.headers()
+          .set(HttpConstants.VENICE_RESPONSE_COMPRESSION, ResponseCompressionUtils.RESPONSE_COMPRESSION_HEADER_VALUE);
+    }
 
     /** {@link io.netty.handler.timeout.IdleStateHandler} is in charge of detecting the state
      *  of connection, and {@link RouterRequestHttpHandler} will close the connection if necessary.
@@ -154,8 +186,29 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     ctx.writeAndFlush(response);
   }
 
+  private boolean shouldCompressResponse(ByteBuf body) {
+    return responseCompressionEnabled && body.readableBytes() >= responseCompressionMinSizeBytes;
+  }
+
+  /**
+   * @return the compressed body, or the given body if the compression doesn't make it smaller.
+   */
+  private ByteBuf compressResponse(ByteBuf body, ServerStatsContext statsContext) {
+    long startTimeInNS = System.nanoTime();
+    int originalSize = body.readableBytes();
+    byte[] compressedBytes = ResponseCompressionUtils.compress(ByteBufUtil.getBytes(body));
+    int bytesSaved = originalSize - compressedBytes.length;
+    statsContext.setResponseCompression(LatencyUtils.getLatencyInMS(startTimeInNS), Math.max(bytesSaved, 0));
+    if (bytesSaved <= 0) {
+      return body;
+    }
+    body.release();
+    return Unpooled.wrappedBuffer(compressedBytes);
+  }
+
   public void setStats(ServerStatsContext statsContext, ReadResponse obj) {
     statsContext.setDatabaseLookupLatency(obj.getDatabaseLookupLatency());
+    statsContext.setStorageIoWaitTime(obj.getStorageIoWaitTime());
     statsContext.setStorageExecutionHandlerSubmissionWaitTime(obj.getStorageExecutionHandlerSubmissionWaitTime());
     statsContext.setStorageExecutionQueueLen(obj.getStorageExecutionQueueLen());
     statsContext.setSuccessRequestKeyCount(obj.getRecordCount());
@@ -24,6 +24,7 @@ public class ServerStatsContext {
   private String storeName = null;
   private boolean isHealthCheck;
   private double databaseLookupLatency = -1;
+  private double storageIoWaitTime = -1;
   private int multiChunkLargeValueCount = -1;
   private int requestKeyCount = -1;
   private int successRequestKeyCount = -1;
@@ -42,6 +43,8 @@ public class ServerStatsContext {
 
   private int valueSize = 0;
   private int readComputeOutputSize = 0;
+  private double responseCompressionLatency = -1;
+  private int responseCompressionBytesSaved = 0;
 
   private final AggServerHttpRequestStats singleGetStats;
   private final AggServerHttpRequestStats multiGetStats;
@@ -142,6 +145,7 @@ public class ServerStatsContext {
     responseStatus = null;
     statCallbackExecuted = false;
     databaseLookupLatency = -1;
+    storageIoWaitTime = -1;
     storageExecutionSubmissionWaitTime = -1;
     storageExecutionQueueLen = -1;
     requestKeyCount = -1;
@@ -157,6 +161,8 @@ public class ServerStatsContext {
     isRequestTerminatedEarly = false;
     isComplete = false;
     isMisroutedStoreVersion = false;
+    responseCompressionLatency = -1;
+    responseCompressionBytesSaved = 0;
 
     newRequest = false;
   }
@@ -244,6 +250,10 @@ public class ServerStatsContext {
     this.databaseLookupLatency = latency;
   }
 
+  public void setStorageIoWaitTime(double storageIoWaitTime) {
+    this.storageIoWaitTime = storageIoWaitTime;
+  }
+
   public void setReadComputeLatency(double latency) {
     this.readComputeLatency = latency;
   }
@@ -305,6 +315,9 @@ public class ServerStatsContext {
       if (databaseLookupLatency >= 0) {
         serverHttpRequestStats.recordDatabaseLookupLatency(databaseLookupLatency, isAssembledMultiChunkLargeValue());
       }
+      if (storageIoWaitTime >= 0) {
+        serverHttpRequestStats.recordStorageIoWaitTime(storageIoWaitTime);
+      }
       if (storageExecutionSubmissionWaitTime >= 0) {
         currentStats.recordStorageExecutionHandlerSubmissionWaitTime(storageExecutionSubmissionWaitTime);
       }
@@ -378,6 +391,9 @@ public class ServerStatsContext {
       if (readComputeOutputSize > 0) {
         serverHttpRequestStats.recordReadComputeEfficiency((double) valueSize / readComputeOutputSize);
       }
+      if (responseCompressionLatency >= 0) {
+        serverHttpRequestStats.recordResponseCompression(responseCompressionLatency, responseCompressionBytesSaved);
+      }
     }
   }
 
@@ -418,6 +434,11 @@ public class ServerStatsContext {
     this.readComputeOutputSize = size;
   }
 
+  public void setResponseCompression(double latency, int bytesSaved) {
+    this.responseCompressionLatency = latency;
+    this.responseCompressionBytesSaved = bytesSaved;
+  }
+
   public int getRequestKeyCount() {
     return requestKeyCount;
   }
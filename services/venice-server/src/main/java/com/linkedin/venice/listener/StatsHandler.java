@@ -78,6 +78,10 @@ public class StatsHandler extends ChannelDuplexHandler {
     serverStatsContext.setDatabaseLookupLatency(latency);
   }
 
+  public void setStorageIoWaitTime(double storageIoWaitTime) {
+    serverStatsContext.setStorageIoWaitTime(storageIoWaitTime);
+  }
+
   public void setReadComputeLatency(double latency) {
     serverStatsContext.setReadComputeLatency(latency);
   }
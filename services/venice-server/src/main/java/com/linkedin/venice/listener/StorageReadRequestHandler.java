@@ -10,9 +10,11 @@ import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ChunkedMultiGetResponseRecord;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
 import com.linkedin.venice.compression.VeniceCompressor;
@@ -83,6 +85,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -113,6 +116,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final Function<Schema, RecordSerializer<GenericRecord>> genericSerializerGetter;
   private final boolean parallelBatchGetEnabled;
   private final int parallelBatchGetChunkSize;
+  private final boolean multiGetBatchReadEnabled;
+  private final int multiGetBatchSize;
   private final boolean keyValueProfilingEnabled;
   private final VeniceServerConfig serverConfig;
   private final Map<String, PerStoreVersionState> perStoreVersionStateMap = new VeniceConcurrentHashMap<>();
@@ -204,6 +209,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetEnabled = parallelBatchGetEnabled;
     this.parallelBatchGetChunkSize = parallelBatchGetChunkSize;
+    RocksDBServerConfig rocksDBServerConfig = serverConfig.getRocksDBServerConfig();
+    this.multiGetBatchReadEnabled = rocksDBServerConfig.isMultiGetBatchReadEnabled();
+    this.multiGetBatchSize = rocksDBServerConfig.getMultiGetBatchSize();
     this.keyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
@@ -310,6 +318,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           if (request.isStreamingRequest()) {
             response.setStreamingResponse();
           }
+          if (request.isResponseCompressionSupported()) {
+            response.setResponseCompressionSupported();
+          }
           context.writeAndFlush(response);
         } catch (VeniceNoStoreException e) {
           context.writeAndFlush(
@@ -548,7 +559,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
 
           if (record != null) {
             if (responseValueSizeList != null) {
-              responseValueSizeList.set(subChunkCur, record.value.remaining());
+              responseValueSizeList.set(subChunkCur, ChunkedMultiGetResponseRecord.getValueSize(record));
             }
             // TODO: streaming support in storage node
             requestLock.lock();
@@ -585,30 +596,85 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
     responseWrapper.setDatabaseLookupLatency(0);
     boolean isChunked = storageEngine.isChunked();
+    if (multiGetBatchReadEnabled) {
+      forEachKeyBatch(
+          keys,
+          key -> getSubPartitionId(key.partitionId, key.keyBytes, perStoreVersionState),
+          key -> key.keyBytes,
+          (subPartitionId, batchKeys, batchKeyBytes) -> {
+            List<MultiGetResponseRecordV1> records = BatchGetChunkingAdapter
+                .multiGet(storageEngine, subPartitionId, batchKeyBytes, isChunked, responseWrapper);
+            for (int i = 0; i < batchKeys.size(); i++) {
+              addMultiGetResponseRecord(request, responseWrapper, batchKeys.get(i), records.get(i));
+            }
+          });
+      return responseWrapper;
+    }
     for (MultiGetRouterRequestKeyV1 key: keys) {
       int subPartitionId = getSubPartitionId(key.partitionId, key.keyBytes, perStoreVersionState);
       MultiGetResponseRecordV1 record =
           BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
-      if (record == null) {
-        if (request.isStreamingRequest()) {
-          // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
-          // non-existing keys in the response if the response is partial.
-          record = new MultiGetResponseRecordV1();
-          // Negative key index to indicate the non-existing keys
-          record.keyIndex = Math.negateExact(key.keyIndex);
-          record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
-          record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-        }
-      } else {
-        record.keyIndex = key.keyIndex;
+      addMultiGetResponseRecord(request, responseWrapper, key, record);
+    }
+    return responseWrapper;
+  }
+
+  private static void addMultiGetResponseRecord(
+      MultiGetRouterRequestWrapper request,
+      MultiGetResponseWrapper responseWrapper,
+      MultiGetRouterRequestKeyV1 key,
+      MultiGetResponseRecordV1 record) {
+    if (record == null) {
+      if (request.isStreamingRequest()) {
+        // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
+        // non-existing keys in the response if the response is partial.
+        record = new MultiGetResponseRecordV1();
+        // Negative key index to indicate the non-existing keys
+        record.keyIndex = Math.negateExact(key.keyIndex);
+        record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
+        record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
       }
+    } else {
+      record.keyIndex = key.keyIndex;
+    }
+
+    if (record != null) {
+      // TODO: streaming support in storage node
+      responseWrapper.addRecord(record);
+    }
+  }
 
-      if (record != null) {
-        // TODO: streaming support in storage node
-        responseWrapper.addRecord(record);
+  /**
+   * Splits the keys into batches of up to {@link #multiGetBatchSize} consecutive keys belonging to the same
+   * sub-partition, so that each batch can be looked up with a single storage engine call. The keys are not re-ordered,
+   * since the router already groups the keys of a request by partition.
+   */
+  private <K> void forEachKeyBatch(
+      Iterable<K> keys,
+      ToIntFunction<K> subPartitionIdGetter,
+      Function<K, ByteBuffer> keyBytesGetter,
+      KeyBatchHandler<K> batchHandler) {
+    List<K> batchKeys = new ArrayList<>(multiGetBatchSize);
+    List<byte[]> batchKeyBytes = new ArrayList<>(multiGetBatchSize);
+    int batchSubPartitionId = -1;
+    for (K key: keys) {
+      int subPartitionId = subPartitionIdGetter.applyAsInt(key);
+      if (!batchKeys.isEmpty() && (subPartitionId != batchSubPartitionId || batchKeys.size() >= multiGetBatchSize)) {
+        batchHandler.handle(batchSubPartitionId, batchKeys, batchKeyBytes);
+        batchKeys.clear();
+        batchKeyBytes.clear();
       }
+      batchSubPartitionId = subPartitionId;
+      batchKeys.add(key);
+      batchKeyBytes.add(ByteUtils.extractByteArray(keyBytesGetter.apply(key)));
+    }
+    if (!batchKeys.isEmpty()) {
+      batchHandler.handle(batchSubPartitionId, batchKeys, batchKeyBytes);
     }
-    return responseWrapper;
+  }
+
+  private interface KeyBatchHandler<K> {
+    void handle(int subPartitionId, List<K> keys, List<byte[]> keyBytes);
   }
 
   public ReadResponse handleMultiGetGrpcRequest(MultiGetRouterRequestWrapper request) {
@@ -636,21 +702,64 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     List<ComputeOperation> operations = request.getComputeRequest().getOperations();
     List<Schema.Field> operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
     int hits = 0;
-    for (ComputeRouterRequestKeyV1 key: request.getKeys()) {
-      AvroRecordUtils.clearRecord(reusableResultRecord);
-      GenericRecord result = computeResult(
-          operations,
-          operationResultFields,
-          storeVersion,
-          key,
-          reusableValueRecord,
-          valueSchemaEntry.getId(),
-          compressor,
-          response,
-          reusableObjects,
-          reusableResultRecord);
-      if (addComputationResult(response, key, result, resultSerializer, request.isStreamingRequest())) {
-        hits++;
+    if (multiGetBatchReadEnabled) {
+      AbstractStorageEngine storageEngine = storeVersion.storageEngine;
+      boolean isChunked = storageEngine.isChunked();
+      boolean isStreaming = request.isStreamingRequest();
+      int[] batchHits = new int[1];
+      forEachKeyBatch(
+          request.getKeys(),
+          key -> getSubPartitionId(key.getPartitionId(), key.getKeyBytes(), storeVersion),
+          ComputeRouterRequestKeyV1::getKeyBytes,
+          (subPartitionId, batchKeys, batchKeyBytes) -> {
+            List<byte[]> rawValues = GenericRecordChunkingAdapter.INSTANCE
+                .multiGetRawValues(storageEngine, subPartitionId, batchKeyBytes, isChunked, response);
+            for (int i = 0; i < batchKeys.size(); i++) {
+              GenericRecord valueRecord = GenericRecordChunkingAdapter.INSTANCE.getFromPrefetchedValue(
+                  storageEngine,
+                  subPartitionId,
+                  rawValues.get(i),
+                  reusableValueRecord,
+                  reusableObjects.binaryDecoder,
+                  response,
+                  valueSchemaEntry.getId(),
+                  storeVersion.storeDeserializerCache,
+                  compressor);
+              AvroRecordUtils.clearRecord(reusableResultRecord);
+              GenericRecord result = computeResult(
+                  operations,
+                  operationResultFields,
+                  valueRecord,
+                  response,
+                  reusableObjects,
+                  reusableResultRecord);
+              if (addComputationResult(response, batchKeys.get(i), result, resultSerializer, isStreaming)) {
+                batchHits[0]++;
+              }
+            }
+          });
+      hits = batchHits[0];
+    } else {
+      for (ComputeRouterRequestKeyV1 key: request.getKeys()) {
+        AvroRecordUtils.clearRecord(reusableResultRecord);
+        GenericRecord valueRecord = readValueRecord(
+            key,
+            storeVersion,
+            valueSchemaEntry.getId(),
+            compressor,
+            response,
+            reusableObjects,
+            reusableValueRecord);
+        GenericRecord result = computeResult(
+            operations,
+            operationResultFields,
+            valueRecord,
+            response,
+            reusableObjects,
+            reusableResultRecord);
+        if (addComputationResult(response, key, result, resultSerializer, request.isStreamingRequest())) {
+          hits++;
+        }
       }
     }
     incrementOperatorCounters(response, operations, hits);
@@ -718,17 +827,11 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private GenericRecord computeResult(
       List<ComputeOperation> operations,
       List<Schema.Field> operationResultFields,
-      PerStoreVersionState storeVersion,
-      ComputeRouterRequestKeyV1 key,
-      GenericRecord reusableValueRecord,
-      int readerSchemaId,
-      VeniceCompressor compressor,
+      GenericRecord valueRecord,
       ComputeResponseWrapper response,
       ReusableObjects reusableObjects,
       GenericRecord reusableResultRecord) {
-    reusableValueRecord =
-        readValueRecord(key, storeVersion, readerSchemaId, compressor, response, reusableObjects, reusableValueRecord);
-    if (reusableValueRecord == null) {
+    if (valueRecord == null) {
       return null;
     }
 
@@ -737,7 +840,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         operations,
         operationResultFields,
         reusableObjects.computeContext,
-        reusableValueRecord,
+        valueRecord,
         reusableResultRecord);
     response.addReadComputeLatency(LatencyUtils.getLatencyInMS(computeStartTimeInNS));
     return reusableResultRecord;
@@ -790,13 +893,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   }
 
   private AdminResponse handleServerAdminRequest(AdminRequest adminRequest) {
+    String topicName = adminRequest.getStoreVersion();
+    Integer partitionId = adminRequest.getPartition();
+    ComplementSet<Integer> partitions =
+        (partitionId == null) ? ComplementSet.universalSet() : ComplementSet.of(partitionId);
     switch (adminRequest.getServerAdminAction()) {
       case DUMP_INGESTION_STATE:
-        String topicName = adminRequest.getStoreVersion();
-        Integer partitionId = adminRequest.getPartition();
-        ComplementSet<Integer> partitions =
-            (partitionId == null) ? ComplementSet.universalSet() : ComplementSet.of(partitionId);
         return metadataRetriever.getConsumptionSnapshots(topicName, partitions);
+      case DUMP_SLOW_WRITE_PATH_TRACES:
+        return metadataRetriever.getSlowWritePathTraces(topicName, partitions);
       case DUMP_SERVER_CONFIGS:
         AdminResponse configResponse = new AdminResponse();
         if (this.serverConfig == null) {
@@ -1,6 +1,7 @@
 package com.linkedin.venice.listener.request;
 
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.streaming.StreamingUtils;
@@ -21,10 +22,13 @@ public abstract class RouterRequest {
   private final String resourceName;
   private final String storeName;
   private final boolean isStreamingRequest;
+  private final boolean isResponseCompressionSupported;
 
   public RouterRequest(String resourceName, HttpRequest request) {
     this.isRetryRequest = containRetryHeader(request);
     this.isStreamingRequest = StreamingUtils.isStreamingEnabled(request);
+    this.isResponseCompressionSupported = ResponseCompressionUtils
+        .isResponseCompressionSupported(request.headers().get(HttpConstants.VENICE_SUPPORTED_RESPONSE_COMPRESSION));
     this.resourceName = resourceName;
     this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
   }
@@ -34,6 +38,7 @@ public abstract class RouterRequest {
     this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
     this.isRetryRequest = isRetryRequest;
     this.isStreamingRequest = isStreamingRequest;
+    this.isResponseCompressionSupported = false;
   }
 
   public void setRequestTimeoutInNS(long requestTimeoutInNS) {
@@ -60,6 +65,10 @@ public abstract class RouterRequest {
     return isStreamingRequest;
   }
 
+  public boolean isResponseCompressionSupported() {
+    return isResponseCompressionSupported;
+  }
+
   private static boolean containRetryHeader(HttpRequest request) {
     return request.headers().contains(HttpConstants.VENICE_RETRY);
   }
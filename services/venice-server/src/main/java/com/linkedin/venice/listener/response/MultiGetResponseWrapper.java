@@ -1,19 +1,80 @@
 package com.linkedin.venice.listener.response;
 
+import com.linkedin.davinci.storage.chunking.ChunkedMultiGetResponseRecord;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.avro.io.BinaryData;
 
 
 public class MultiGetResponseWrapper extends MultiKeyResponseWrapper<MultiGetResponseRecordV1> {
   private static final RecordSerializer<MultiGetResponseRecordV1> SERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+  // Max size of the Avro encoding of an int and a long respectively
+  private static final int MAX_ENCODED_INT_SIZE = 5;
+  private static final int MAX_ENCODED_LONG_SIZE = 10;
+
+  private boolean hasChunkedRecord = false;
 
   public MultiGetResponseWrapper(int maxKeyCount) {
     super(maxKeyCount);
   }
 
+  @Override
+  public void addRecord(MultiGetResponseRecordV1 record) {
+    if (record instanceof ChunkedMultiGetResponseRecord) {
+      hasChunkedRecord = true;
+    }
+    super.addRecord(record);
+  }
+
+  /**
+   * The chunks of the large values carried by {@link ChunkedMultiGetResponseRecord} are added to the response body as
+   * they are, along with the Avro encoding of the other fields of their records, while the runs of the other records
+   * in between are serialized as usual. The result is identical to the serialization of all the records with their
+   * values re-assembled.
+   */
+  @Override
+  public ByteBuf getResponseBody() {
+    if (!hasChunkedRecord) {
+      return super.getResponseBody();
+    }
+    // The number of components is not bounded, since consolidating them would copy the chunks
+    CompositeByteBuf responseBody = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+    int runStart = 0;
+    for (int i = 0; i < records.size(); i++) {
+      MultiGetResponseRecordV1 record = records.get(i);
+      if (!(record instanceof ChunkedMultiGetResponseRecord)) {
+        continue;
+      }
+      addSerializedRecords(responseBody, runStart, i);
+      runStart = i + 1;
+
+      ByteBuf value = ((ChunkedMultiGetResponseRecord) record).getCompositeValue();
+      byte[] header = new byte[MAX_ENCODED_INT_SIZE + MAX_ENCODED_LONG_SIZE];
+      int headerLength = BinaryData.encodeInt(record.keyIndex, header, 0);
+      headerLength += BinaryData.encodeLong(value.readableBytes(), header, headerLength);
+      byte[] trailer = new byte[MAX_ENCODED_INT_SIZE];
+      int trailerLength = BinaryData.encodeInt(record.schemaId, trailer, 0);
+      responseBody.addComponent(true, Unpooled.wrappedBuffer(header, 0, headerLength));
+      responseBody.addComponent(true, value);
+      responseBody.addComponent(true, Unpooled.wrappedBuffer(trailer, 0, trailerLength));
+    }
+    addSerializedRecords(responseBody, runStart, records.size());
+    return responseBody;
+  }
+
+  private void addSerializedRecords(CompositeByteBuf responseBody, int fromIndex, int toIndex) {
+    if (fromIndex < toIndex) {
+      responseBody
+          .addComponent(true, Unpooled.wrappedBuffer(SERIALIZER.serializeObjects(records.subList(fromIndex, toIndex))));
+    }
+  }
+
   @Override
   protected RecordSerializer<MultiGetResponseRecordV1> getResponseSerializer() {
     return SERIALIZER;
@@ -1,5 +1,9 @@
 package com.linkedin.venice.stats;
 
+import static org.rocksdb.TickerType.BLOB_DB_BLOB_FILE_BYTES_READ;
+import static org.rocksdb.TickerType.BLOB_DB_BLOB_FILE_BYTES_WRITTEN;
+import static org.rocksdb.TickerType.BLOB_DB_GC_BYTES_RELOCATED;
+import static org.rocksdb.TickerType.BLOB_DB_GC_NUM_KEYS_RELOCATED;
 import static org.rocksdb.TickerType.BLOCK_CACHE_ADD;
 import static org.rocksdb.TickerType.BLOCK_CACHE_ADD_FAILURES;
 import static org.rocksdb.TickerType.BLOCK_CACHE_BYTES_READ;
@@ -21,6 +25,10 @@ import static org.rocksdb.TickerType.BLOCK_CACHE_INDEX_HIT;
 import static org.rocksdb.TickerType.BLOCK_CACHE_INDEX_MISS;
 import static org.rocksdb.TickerType.BLOCK_CACHE_MISS;
 import static org.rocksdb.TickerType.BLOOM_FILTER_USEFUL;
+import static org.rocksdb.TickerType.BYTES_WRITTEN;
+import static org.rocksdb.TickerType.COMPACT_READ_BYTES;
+import static org.rocksdb.TickerType.COMPACT_WRITE_BYTES;
+import static org.rocksdb.TickerType.FLUSH_WRITE_BYTES;
 import static org.rocksdb.TickerType.GET_HIT_L0;
 import static org.rocksdb.TickerType.GET_HIT_L1;
 import static org.rocksdb.TickerType.GET_HIT_L2_AND_UP;
@@ -28,6 +36,8 @@ import static org.rocksdb.TickerType.MEMTABLE_HIT;
 import static org.rocksdb.TickerType.MEMTABLE_MISS;
 import static org.rocksdb.TickerType.READ_AMP_ESTIMATE_USEFUL_BYTES;
 import static org.rocksdb.TickerType.READ_AMP_TOTAL_READ_BYTES;
+import static org.rocksdb.TickerType.ROW_CACHE_HIT;
+import static org.rocksdb.TickerType.ROW_CACHE_MISS;
 
 import com.linkedin.venice.exceptions.VeniceException;
 import io.tehuti.metrics.MetricsRepository;
@@ -69,6 +79,17 @@ public class RocksDBStats extends AbstractVeniceStats {
   private final Sensor getHitL1;
   private final Sensor getHitL2AndUp;
   private final Sensor blockCacheHitRatio;
+  private final Sensor bytesWritten;
+  private final Sensor flushWriteBytes;
+  private final Sensor compactReadBytes;
+  private final Sensor compactWriteBytes;
+  private final Sensor blobFileBytesWritten;
+  private final Sensor blobFileBytesRead;
+  private final Sensor blobGarbageCollectionKeysRelocated;
+  private final Sensor blobGarbageCollectionBytesRelocated;
+  private final Sensor rowCacheHit;
+  private final Sensor rowCacheMiss;
+  private final Sensor writeAmplificationFactor;
 
   // we'll need to enable read_amp_bytes_per_bit in rocksDB config
   private final Sensor readAmplificationFactor;
@@ -107,6 +128,18 @@ public class RocksDBStats extends AbstractVeniceStats {
     this.getHitL0 = registerSensor("rocksdb_get_hit_l0", GET_HIT_L0);
     this.getHitL1 = registerSensor("rocksdb_get_hit_l1", GET_HIT_L1);
     this.getHitL2AndUp = registerSensor("rocksdb_get_hit_l2_and_up", GET_HIT_L2_AND_UP);
+    this.bytesWritten = registerSensor("rocksdb_bytes_written", BYTES_WRITTEN);
+    this.flushWriteBytes = registerSensor("rocksdb_flush_write_bytes", FLUSH_WRITE_BYTES);
+    this.compactReadBytes = registerSensor("rocksdb_compact_read_bytes", COMPACT_READ_BYTES);
+    this.compactWriteBytes = registerSensor("rocksdb_compact_write_bytes", COMPACT_WRITE_BYTES);
+    this.blobFileBytesWritten = registerSensor("rocksdb_blob_file_bytes_written", BLOB_DB_BLOB_FILE_BYTES_WRITTEN);
+    this.blobFileBytesRead = registerSensor("rocksdb_blob_file_bytes_read", BLOB_DB_BLOB_FILE_BYTES_READ);
+    this.blobGarbageCollectionKeysRelocated =
+        registerSensor("rocksdb_blob_gc_num_keys_relocated", BLOB_DB_GC_NUM_KEYS_RELOCATED);
+    this.blobGarbageCollectionBytesRelocated =
+        registerSensor("rocksdb_blob_gc_bytes_relocated", BLOB_DB_GC_BYTES_RELOCATED);
+    this.rowCacheHit = registerSensor("rocksdb_row_cache_hit", ROW_CACHE_HIT);
+    this.rowCacheMiss = registerSensor("rocksdb_row_cache_miss", ROW_CACHE_MISS);
 
     this.blockCacheHitRatio = registerSensor("rocksdb_block_cache_hit_ratio", new Gauge(() -> {
       if (rocksDBStat != null) {
@@ -118,6 +151,17 @@ public class RocksDBStats extends AbstractVeniceStats {
       return -1;
     }));
 
+    // The bytes written by flushes and compactions, including blob files, per byte written by the application.
+    // The SST files ingested by batch pushes are not accounted for.
+    this.writeAmplificationFactor = registerSensor("rocksdb_write_amplification_factor", new Gauge(() -> {
+      if (rocksDBStat != null) {
+        return (rocksDBStat.getTickerCount(FLUSH_WRITE_BYTES) + rocksDBStat.getTickerCount(COMPACT_WRITE_BYTES))
+            / (double) (rocksDBStat.getTickerCount(BYTES_WRITTEN));
+      }
+
+      return -1;
+    }));
+
     this.readAmplificationFactor = registerSensor("rocksdb_read_amplification_factor", new Gauge(() -> {
       if (rocksDBStat != null) {
         return rocksDBStat.getTickerCount(READ_AMP_TOTAL_READ_BYTES)
@@ -21,11 +21,12 @@ import java.util.function.Supplier;
 public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor successRequestSensor;
   private final Sensor errorRequestSensor;
-  private final Sensor successRequestLatencySensor;
-  private final Sensor errorRequestLatencySensor;
-  private final Sensor databaseLookupLatencySensor;
-  private final Sensor databaseLookupLatencyForSmallValueSensor;
-  private final Sensor databaseLookupLatencyForLargeValueSensor;
+  private final StripedHistogram successRequestLatencyHistogram;
+  private final StripedHistogram errorRequestLatencyHistogram;
+  private final StripedHistogram databaseLookupLatencyHistogram;
+  private final StripedHistogram databaseLookupLatencyForSmallValueHistogram;
+  private final StripedHistogram databaseLookupLatencyForLargeValueHistogram;
+  private final Sensor storageIoWaitTimeSensor;
   private final Sensor multiChunkLargeValueCountSensor;
   private final Sensor requestKeyCountSensor;
   private final Sensor successRequestKeyCountSensor;
@@ -51,6 +52,9 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
 
   private final Sensor earlyTerminatedEarlyRequestCountSensor;
 
+  private final Sensor responseCompressionLatencySensor;
+  private final Sensor responseCompressionBytesSavedSensor;
+
   private Sensor requestKeySizeSensor;
   private Sensor requestValueSizeSensor;
 
@@ -80,38 +84,35 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     successRequestRatioSensor =
         registerSensor("success_request_ratio", new TehutiUtils.RatioStat(successRequest, errorRequest));
 
-    errorRequestLatencySensor = registerPerStoreAndTotal(
+    /**
+     * The latency stats recorded for every request are kept in {@link StripedHistogram}s, so the request handling
+     * threads don't contend on the sensor locks.
+     */
+    errorRequestLatencyHistogram = registerPerStoreAndTotalHistogram(
         "error_request_latency",
         totalStats,
-        () -> totalStats.errorRequestLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("error_request_latency")));
-
-    successRequestLatencySensor = registerPerStoreAndTotal(
+        () -> totalStats.errorRequestLatencyHistogram);
+    successRequestLatencyHistogram = registerPerStoreAndTotalHistogram(
         "success_request_latency",
         totalStats,
-        () -> totalStats.successRequestLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("success_request_latency")));
-    databaseLookupLatencySensor = registerPerStoreAndTotal(
+        () -> totalStats.successRequestLatencyHistogram);
+    databaseLookupLatencyHistogram = registerPerStoreAndTotalHistogram(
         "storage_engine_query_latency",
         totalStats,
-        () -> totalStats.databaseLookupLatencySensor,
-        TehutiUtils.getPercentileStat(getName(), getFullMetricName("storage_engine_query_latency")),
-        new Avg(),
-        new Max());
-    databaseLookupLatencyForSmallValueSensor = registerPerStoreAndTotal(
+        () -> totalStats.databaseLookupLatencyHistogram);
+    databaseLookupLatencyForSmallValueHistogram = registerPerStoreAndTotalHistogram(
         "storage_engine_query_latency_for_small_value",
         totalStats,
-        () -> totalStats.databaseLookupLatencyForSmallValueSensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(
-            getName(),
-            getFullMetricName("storage_engine_query_latency_for_small_value")));
-    databaseLookupLatencyForLargeValueSensor = registerPerStoreAndTotal(
+        () -> totalStats.databaseLookupLatencyForSmallValueHistogram);
+    databaseLookupLatencyForLargeValueHistogram = registerPerStoreAndTotalHistogram(
         "storage_engine_query_latency_for_large_value",
         totalStats,
-        () -> totalStats.databaseLookupLatencyForLargeValueSensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(
-            getName(),
-            getFullMetricName("storage_engine_query_latency_for_large_value")));
+        () -> totalStats.databaseLookupLatencyForLargeValueHistogram);
+    storageIoWaitTimeSensor = registerPerStoreAndTotal(
+        "storage_io_wait_time",
+        totalStats,
+        () -> totalStats.storageIoWaitTimeSensor,
+        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("storage_io_wait_time")));
 
     storageExecutionHandlerSubmissionWaitTime = registerSensor(
         "storage_execution_handler_submission_wait_time",
@@ -290,6 +291,23 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         () -> totalStats.earlyTerminatedEarlyRequestCountSensor,
         new OccurrenceRate());
 
+    responseCompressionLatencySensor = registerPerStoreAndTotal(
+        "response_compression_latency",
+        totalStats,
+        () -> totalStats.responseCompressionLatencySensor,
+        new Avg(),
+        new Max());
+    /**
+     * Rate will reflect the bytes saved per second, while Avg will reflect the bytes saved for each compressed
+     * response.
+     */
+    responseCompressionBytesSavedSensor = registerPerStoreAndTotal(
+        "response_compression_bytes_saved",
+        totalStats,
+        () -> totalStats.responseCompressionBytesSavedSensor,
+        new Rate(),
+        new Avg());
+
     if (isKeyValueProfilingEnabled) {
       String requestValueSizeSensorName = "request_value_size";
       requestValueSizeSensor = registerPerStoreAndTotal(
@@ -322,6 +340,13 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     return registerSensor(sensorName, parent, stats);
   }
 
+  private StripedHistogram registerPerStoreAndTotalHistogram(
+      String sensorName,
+      ServerHttpRequestStats totalStats,
+      Supplier<StripedHistogram> totalHistogram) {
+    return registerStripedHistogram(sensorName, totalStats == null ? null : totalHistogram.get());
+  }
+
   public void recordSuccessRequest() {
     successRequestSensor.record();
   }
@@ -331,22 +356,26 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   }
 
   public void recordSuccessRequestLatency(double latency) {
-    successRequestLatencySensor.record(latency);
+    successRequestLatencyHistogram.record(latency);
   }
 
   public void recordErrorRequestLatency(double latency) {
-    errorRequestLatencySensor.record(latency);
+    errorRequestLatencyHistogram.record(latency);
   }
 
   public void recordDatabaseLookupLatency(double latency, boolean assembledMultiChunkLargeValue) {
-    databaseLookupLatencySensor.record(latency);
+    databaseLookupLatencyHistogram.record(latency);
     if (assembledMultiChunkLargeValue) {
-      databaseLookupLatencyForLargeValueSensor.record(latency);
+      databaseLookupLatencyForLargeValueHistogram.record(latency);
     } else {
-      databaseLookupLatencyForSmallValueSensor.record(latency);
+      databaseLookupLatencyForSmallValueHistogram.record(latency);
     }
   }
 
+  public void recordStorageIoWaitTime(double latency) {
+    storageIoWaitTimeSensor.record(latency);
+  }
+
   public void recordRequestKeyCount(int keyCount) {
     requestKeyCountSensor.record(keyCount);
   }
@@ -408,6 +437,11 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     readComputeEfficiencySensor.record(efficiency);
   }
 
+  public void recordResponseCompression(double latency, int bytesSaved) {
+    responseCompressionLatencySensor.record(latency);
+    responseCompressionBytesSavedSensor.record(bytesSaved);
+  }
+
   public void recordDotProductCount(int count) {
     dotProductCountSensor.record(count);
   }
@@ -3,6 +3,8 @@ package com.linkedin.venice.listener;
 import static io.netty.handler.codec.http.HttpHeaders.Names.*;
 import static io.netty.handler.codec.http.HttpVersion.*;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyDouble;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -13,17 +15,20 @@ import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.ResponseCompressionUtils;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
 import com.linkedin.venice.listener.grpc.handlers.GrpcOutboundResponseHandler;
 import com.linkedin.venice.protocols.VeniceServerResponse;
 import io.grpc.stub.StreamObserver;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -135,6 +140,55 @@ public class OutboundHttpWrapperHandlerTest {
     outboundHttpWrapperHandler.write(mockCtx, msg, null);
   }
 
+  @Test
+  public void testWriteCompressedReadResponse() {
+    byte[] bodyBytes = new byte[8 * 1024];
+    Arrays.fill(bodyBytes, (byte) 'v');
+    StatsHandler statsHandler = mock(StatsHandler.class);
+    ServerStatsContext statsContext = mock(ServerStatsContext.class);
+    when(statsHandler.getServerStatsContext()).thenReturn(statsContext);
+    ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
+
+    OutboundHttpWrapperHandler outboundHttpWrapperHandler = new OutboundHttpWrapperHandler(statsHandler, true, 1024);
+
+    when(mockCtx.writeAndFlush(any())).then(i -> {
+      FullHttpResponse actualResponse = (DefaultFullHttpResponse) i.getArguments()[0];
+      Assert.assertEquals(actualResponse.status(), HttpResponseStatus.OK);
+      Assert.assertEquals(
+          actualResponse.headers().get(HttpConstants.VENICE_RESPONSE_COMPRESSION),
+          ResponseCompressionUtils.RESPONSE_COMPRESSION_HEADER_VALUE);
+      byte[] compressedBytes = ByteBufUtil.getBytes(actualResponse.content());
+      Assert.assertTrue(compressedBytes.length < bodyBytes.length);
+      Assert.assertEquals(actualResponse.headers().getInt(CONTENT_LENGTH).intValue(), compressedBytes.length);
+      Assert.assertEquals(ResponseCompressionUtils.decompress(compressedBytes), bodyBytes);
+      return null;
+    });
+    outboundHttpWrapperHandler.write(mockCtx, mockReadResponse(bodyBytes, true), null);
+    verify(statsContext).setResponseCompression(anyDouble(), anyInt());
+
+    // The response shouldn't be compressed if the client doesn't support it.
+    when(mockCtx.writeAndFlush(any())).then(i -> {
+      FullHttpResponse actualResponse = (DefaultFullHttpResponse) i.getArguments()[0];
+      Assert.assertNull(actualResponse.headers().get(HttpConstants.VENICE_RESPONSE_COMPRESSION));
+      Assert.assertEquals(ByteBufUtil.getBytes(actualResponse.content()), bodyBytes);
+      return null;
+    });
+    outboundHttpWrapperHandler.write(mockCtx, mockReadResponse(bodyBytes, false), null);
+
+    // The response shouldn't be compressed if it's smaller than the threshold.
+    outboundHttpWrapperHandler = new OutboundHttpWrapperHandler(statsHandler, true, bodyBytes.length + 1);
+    outboundHttpWrapperHandler.write(mockCtx, mockReadResponse(bodyBytes, true), null);
+  }
+
+  private static ReadResponse mockReadResponse(byte[] bodyBytes, boolean isResponseCompressionSupported) {
+    ReadResponse readResponse = mock(ReadResponse.class);
+    when(readResponse.isFound()).thenReturn(true);
+    when(readResponse.getResponseBody()).thenReturn(Unpooled.wrappedBuffer(bodyBytes));
+    when(readResponse.getCompressionStrategy()).thenReturn(CompressionStrategy.NO_OP);
+    when(readResponse.isResponseCompressionSupported()).thenReturn(isResponseCompressionSupported);
+    return readResponse;
+  }
+
   @Test
   public void testGrpcWrite() {
     ByteBuf mockBody = mock(ByteBuf.class);
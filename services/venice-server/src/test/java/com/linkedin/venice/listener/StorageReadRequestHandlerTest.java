@@ -310,6 +310,82 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test
+  public void testBatchedMultiGet() throws Exception {
+    int schemaId = 1;
+    int batchSize = 2;
+    RocksDBServerConfig rocksDBServerConfig = serverConfig.getRocksDBServerConfig();
+    doReturn(true).when(rocksDBServerConfig).isMultiGetBatchReadEnabled();
+    doReturn(batchSize).when(rocksDBServerConfig).getMultiGetBatchSize();
+
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1";
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    VeniceKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer("\"string\"");
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    Map<ByteBuffer, byte[]> storedValues = new HashMap<>();
+    int recordCount = 10;
+    for (int i = 0; i < recordCount; ++i) {
+      byte[] keyBytes = keySerializer.serialize(null, "key_" + i);
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      requestKey.keyBytes = ByteBuffer.wrap(keyBytes);
+      requestKey.keyIndex = i;
+      requestKey.partitionId = 0;
+      keys.add(requestKey);
+      // Every other key is missing
+      if (i % 2 == 0) {
+        byte[] valueBytes = ValueRecord.create(schemaId, ("value_" + i).getBytes()).serialize();
+        storedValues.put(ByteBuffer.wrap(keyBytes), valueBytes);
+      }
+    }
+    List<List<byte[]>> batches = new ArrayList<>();
+    when(storageEngine.multiGet(anyInt(), any())).thenAnswer(invocation -> {
+      List<byte[]> batchKeys = invocation.getArgument(1);
+      batches.add(batchKeys);
+      List<byte[]> values = new ArrayList<>(batchKeys.size());
+      for (byte[] key: batchKeys) {
+        values.add(storedValues.get(ByteBuffer.wrap(key)));
+      }
+      return values;
+    });
+
+    byte[] postBody = serializer.serializeObjects(keys);
+    FullHttpRequest httpRequest =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri, Unpooled.wrappedBuffer(postBody));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    MultiGetRouterRequestWrapper request = MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(httpRequest);
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    requestHandler.channelRead(context, request);
+
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    MultiGetResponseWrapper multiGetResponseWrapper = (MultiGetResponseWrapper) argumentCaptor.getValue();
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+    Map<Integer, String> results = new HashMap<>();
+    deserializer.deserializeObjects(multiGetResponseWrapper.getResponseBody().array())
+        .forEach(record -> results.put(record.keyIndex, new String(record.value.array(), StandardCharsets.UTF_8)));
+    assertEquals(results.size(), recordCount / 2);
+    for (int i = 0; i < recordCount; i += 2) {
+      assertEquals(results.get(i), "value_" + i);
+    }
+
+    // All the keys are looked up in batches, which don't span sub-partitions
+    verify(storageEngine, times(0)).get(anyInt(), any(ByteBuffer.class));
+    assertEquals(batches.stream().mapToInt(List::size).sum(), recordCount);
+    for (List<byte[]> batch: batches) {
+      assertTrue(batch.size() <= batchSize);
+      Set<Integer> subPartitions = new HashSet<>();
+      for (byte[] key: batch) {
+        subPartitions.add(getSubPartitionId(0, key));
+      }
+      assertEquals(subPartitions.size(), 1);
+    }
+  }
+
   @Test
   public void storageExecutionHandlerLogsExceptions() throws Exception {
     String topic = "temp-test-topic_v1";
@@ -0,0 +1,62 @@
+package com.linkedin.venice.listener.response;
+
+import com.linkedin.davinci.storage.chunking.ChunkedMultiGetResponseRecord;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MultiGetResponseWrapperTest {
+  @Test
+  public void testResponseBodyWithChunkedRecords() {
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(5);
+    List<MultiGetResponseRecordV1> expectedRecords = new ArrayList<>();
+    // Large key indexes and values have multi-byte Avro encodings of their key index and length
+    int[] keyIndexes = { 0, 1, 2, 1000, 70000 };
+    int[] valueSizes = { 10, 200, 5, 100000, 3 };
+    boolean[] isChunked = { false, true, false, true, true };
+    for (int i = 0; i < keyIndexes.length; i++) {
+      byte[] value = new byte[valueSizes[i]];
+      ThreadLocalRandom.current().nextBytes(value);
+      MultiGetResponseRecordV1 expectedRecord = new MultiGetResponseRecordV1();
+      expectedRecord.keyIndex = keyIndexes[i];
+      expectedRecord.schemaId = i + 1;
+      expectedRecord.value = ByteBuffer.wrap(value);
+      expectedRecords.add(expectedRecord);
+
+      MultiGetResponseRecordV1 record;
+      if (isChunked[i]) {
+        int cutOff = value.length / 2;
+        CompositeByteBuf chunks = Unpooled.compositeBuffer(2);
+        chunks.addComponent(true, Unpooled.wrappedBuffer(value, 0, cutOff));
+        chunks.addComponent(true, Unpooled.wrappedBuffer(value, cutOff, value.length - cutOff));
+        record = new ChunkedMultiGetResponseRecord(i + 1, chunks);
+      } else {
+        record = new MultiGetResponseRecordV1();
+        record.schemaId = i + 1;
+        record.value = ByteBuffer.wrap(value);
+      }
+      record.keyIndex = keyIndexes[i];
+      responseWrapper.addRecord(record);
+    }
+
+    byte[] responseBody = ByteBufUtil.getBytes(responseWrapper.getResponseBody());
+    RecordSerializer<MultiGetResponseRecordV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$);
+    Assert.assertEquals(responseBody, serializer.serializeObjects(expectedRecords));
+
+    List<MultiGetResponseRecordV1> records =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class)
+            .deserializeObjects(responseBody);
+    Assert.assertEquals(records, expectedRecords);
+  }
+}
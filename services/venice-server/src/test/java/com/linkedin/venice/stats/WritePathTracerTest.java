@@ -0,0 +1,131 @@
+package com.linkedin.venice.stats;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.stats.WritePathTrace;
+import com.linkedin.davinci.stats.WritePathTracer;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.tehuti.MockTehutiReporter;
+import com.linkedin.venice.utils.ComplementSet;
+import com.linkedin.venice.utils.TestMockTime;
+import com.linkedin.venice.utils.Utils;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class WritePathTracerTest {
+  private static final String STORE_NAME = Utils.getUniqueString("store");
+  private static final String TOPIC_NAME = Version.composeKafkaTopic(STORE_NAME, 1);
+  private static final long WINDOW_MS = 1000;
+
+  @Test
+  public void testDisabledTracing() {
+    WritePathTracer tracer = createTracer(new MetricsRepository(), new TestMockTime(), 0);
+    Assert.assertFalse(tracer.isEnabled());
+    Assert.assertNull(tracer.maybeStartTrace(TOPIC_NAME, STORE_NAME, 0, 0, 0, System.nanoTime()));
+  }
+
+  @Test
+  public void testStageLatencies() {
+    TestMockTime time = new TestMockTime();
+    WritePathTracer tracer = createTracer(new MetricsRepository(), time, 1);
+    WritePathTrace trace = startTrace(tracer, time, 0, 0, 5);
+
+    trace.stamp(WritePathTrace.Stage.CONSUMER_PROCESSING);
+    trace.stamp(WritePathTrace.Stage.QUEUE);
+    trace.stamp(WritePathTrace.Stage.DRAINER);
+    trace.stamp(WritePathTrace.Stage.STORAGE_WRITE);
+    trace.finish();
+
+    Assert.assertEquals(trace.getStageLatencyNs(WritePathTrace.Stage.POLL), TimeUnit.MILLISECONDS.toNanos(5));
+    Assert.assertEquals(trace.getStageLatencyNs(WritePathTrace.Stage.DCR), 0);
+    Assert.assertEquals(trace.getStageLatencyNs(WritePathTrace.Stage.PRODUCE), 0);
+    long stagesLatencyNs = 0;
+    for (WritePathTrace.Stage stage: WritePathTrace.Stage.values()) {
+      Assert.assertTrue(trace.getStageLatencyNs(stage) >= 0);
+      stagesLatencyNs += trace.getStageLatencyNs(stage);
+    }
+    Assert.assertTrue(stagesLatencyNs <= trace.getTotalLatencyNs());
+    Assert.assertEquals(trace.getCompletionTimestampMs(), time.getMilliseconds());
+  }
+
+  @Test
+  public void testCurrentTrace() {
+    TestMockTime time = new TestMockTime();
+    WritePathTracer tracer = createTracer(new MetricsRepository(), time, 1);
+    WritePathTrace trace = startTrace(tracer, time, 0, 0, 0);
+
+    WritePathTracer.setCurrentTrace(trace);
+    Assert.assertSame(WritePathTracer.getCurrentTrace(), trace);
+    Assert.assertSame(WritePathTracer.detachCurrentTrace(), trace);
+    Assert.assertNull(WritePathTracer.getCurrentTrace());
+    Assert.assertNull(WritePathTracer.detachCurrentTrace());
+  }
+
+  @Test
+  public void testSlowestTraces() {
+    TestMockTime time = new TestMockTime();
+    MetricsRepository metricsRepository = new MetricsRepository(time);
+    MockTehutiReporter reporter = new MockTehutiReporter();
+    metricsRepository.addReporter(reporter);
+    WritePathTracer tracer = createTracer(metricsRepository, time, 1);
+
+    startTrace(tracer, time, 0, 100, 10).finish();
+    startTrace(tracer, time, 1, 101, 30).finish();
+    startTrace(tracer, time, 0, 102, 20).finish();
+
+    // Only the two slowest traces are kept
+    List<WritePathTrace> traces = tracer.getSlowestTraces(TOPIC_NAME, ComplementSet.universalSet());
+    Assert.assertEquals(traces.size(), 2);
+    Assert.assertEquals(traces.get(0).getOffset(), 101);
+    Assert.assertEquals(traces.get(1).getOffset(), 102);
+    traces = tracer.getSlowestTraces(TOPIC_NAME, ComplementSet.of(0));
+    Assert.assertEquals(traces.size(), 1);
+    Assert.assertEquals(traces.get(0).getOffset(), 102);
+    Assert.assertTrue(tracer.getSlowestTraces(Version.composeKafkaTopic(STORE_NAME, 2), ComplementSet.universalSet())
+        .isEmpty());
+
+    Assert.assertEquals(reporter.query("." + STORE_NAME + "--write_path_trace_poll_latency.Max").value(), 30d);
+    Assert.assertEquals(reporter.query(".total--write_path_trace_poll_latency.Max").value(), 30d);
+    Assert.assertTrue(reporter.query(".total--write_path_trace_total_latency.Max").value() >= 30d);
+
+    // The traces of the previous window are still available, but not the ones before
+    time.addMilliseconds(WINDOW_MS);
+    startTrace(tracer, time, 0, 103, 1).finish();
+    Assert.assertEquals(tracer.getSlowestTraces(TOPIC_NAME, ComplementSet.universalSet()).size(), 2);
+    time.addMilliseconds(WINDOW_MS);
+    traces = tracer.getSlowestTraces(TOPIC_NAME, ComplementSet.universalSet());
+    Assert.assertEquals(traces.size(), 1);
+    Assert.assertEquals(traces.get(0).getOffset(), 103);
+
+    tracer.removeTopic(TOPIC_NAME);
+    Assert.assertTrue(tracer.getSlowestTraces(TOPIC_NAME, ComplementSet.universalSet()).isEmpty());
+  }
+
+  private static WritePathTracer createTracer(MetricsRepository metricsRepository, TestMockTime time, int interval) {
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(interval).when(serverConfig).getWritePathTraceSamplingInterval();
+    doReturn(2).when(serverConfig).getWritePathTraceSlowestRecordCount();
+    doReturn(WINDOW_MS).when(serverConfig).getWritePathTraceSlowestRecordWindowMs();
+    return new WritePathTracer(metricsRepository, mock(ReadOnlyStoreRepository.class), serverConfig, time);
+  }
+
+  private static WritePathTrace startTrace(
+      WritePathTracer tracer,
+      TestMockTime time,
+      int partition,
+      long offset,
+      long pollLatencyMs) {
+    long brokerTimestampMs = time.getMilliseconds() - pollLatencyMs;
+    WritePathTrace trace =
+        tracer.maybeStartTrace(TOPIC_NAME, STORE_NAME, partition, offset, brokerTimestampMs, System.nanoTime());
+    Assert.assertNotNull(trace);
+    return trace;
+  }
+}